@@ -119,6 +119,7 @@ public class ProjectionEndpoint implements Endpoint {
 	)
 	public Response projectionHcsvPost(
 			@QueryParam(value = ParameterNames.TRIAL_RUN) @DefaultValue("false") Boolean trialRun, //
+			@QueryParam(value = ParameterNames.STREAM_RESULTS) @DefaultValue("false") Boolean streamResults, //
 			@RestForm(value = ParameterNames.PROJECTION_PARAMETERS) @PartType(
 				MediaType.APPLICATION_JSON
 			) Parameters parameters, //
@@ -139,6 +140,11 @@ public class ProjectionEndpoint implements Endpoint {
 		var layerFile = layersDataStream.uploadedFile();
 
 		try {
+			if (Boolean.TRUE.equals(streamResults)) {
+				return projectionService.projectionHcsvPostStreamed(
+						trialRun, parameters, polygonFile, layerFile, null /* securityContext */
+				);
+			}
 			return projectionService.projectionHcsvPost(
 					trialRun, parameters, polygonFile, layerFile, null /* securityContext */
 			);
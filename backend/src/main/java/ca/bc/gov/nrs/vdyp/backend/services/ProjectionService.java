@@ -8,6 +8,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -25,6 +26,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -72,6 +78,7 @@ import ca.bc.gov.nrs.vdyp.ecore.model.v1.ProjectionRequestKind;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.ValidationMessage;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.ValidationMessageKind;
 import ca.bc.gov.nrs.vdyp.ecore.projection.PolygonProjectionRunner;
+import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionContext;
 import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionRequestParametersValidator;
 import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionRunner;
 import ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable.YieldTable;
@@ -85,6 +92,7 @@ import jakarta.transaction.Transactional;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 
 /**
  * Implements the projection endpoints. These methods return Responses rather than Response objects because these
@@ -116,6 +124,13 @@ public class ProjectionService {
 
 	private static final int BATCH_DELETE_LIMIT = 50;
 
+	/**
+	 * The longest wait for a streamed projection to signal more output. The projection signals as it writes, so this
+	 * limit matters only to one that fails before its run starts.
+	 */
+	private static final long STREAMING_WAIT_LIMIT_ms = 1000;
+	private static final int STREAMING_BUFFER_SIZE = 64 * 1024;
+
 	public ProjectionService(
 			EntityManager em, ProjectionResourceAssembler assembler, ProjectionRepository repository,
 			ProjectionFileSetService fileSetService, ProjectionBatchMappingService batchMappingService,
@@ -155,6 +170,7 @@ public class ProjectionService {
 		// FIXME Would be better if we moved the stateful parts of the SINDEX library to an instanced singleton.
 		// See VDYP-732
 		PolygonProjectionRunner.initializeSiteIndexCurves();
+		PolygonProjectionRunner.initializeControlMapCache();
 	}
 
 	public Response projectionHcsvPost(
@@ -174,6 +190,43 @@ public class ProjectionService {
 		}
 	}
 
+	/**
+	 * As {@link #projectionHcsvPost(Boolean, Parameters, Path, Path, SecurityContext)}, except that the result zip file
+	 * is written to the response while the projection runs rather than built in memory once it has finished. The yield
+	 * table is the first entry of the zip file and is sent as the polygons are completed; the logs and projection
+	 * files follow once the projection has finished.
+	 * <p>
+	 * Only problems with the request itself are reported in the response status. A projection that fails once the
+	 * response has started ends the response without completing the zip file.
+	 */
+	public Response projectionHcsvPostStreamed(
+			Boolean trialRun, //
+			Parameters parameters, //
+			Path polygonFile, //
+			Path layersFile, //
+			SecurityContext securityContext
+	) throws IOException, AbstractProjectionRequestException {
+		validateMaximumPolygons(polygonFile);
+
+		ProjectionRequestKind kind = ProjectionRequestKind.HCSV;
+		String projectionId = ProjectionService.buildProjectionId(kind);
+
+		logger.info("<runProjection {} {} (streamed)", kind, projectionId);
+		logParameters(projectionId, parameters);
+
+		// Created here so that invalid parameters are reported in the response status
+		ProjectionRunner runner = new ProjectionRunner(kind, projectionId, parameters, trialRun);
+
+		Map<String, Path> inputFiles = Map.of(
+				ParameterNames.HCSV_POLYGON_INPUT_DATA, polygonFile, ParameterNames.HCSV_LAYERS_INPUT_DATA, layersFile
+		);
+		StreamingOutput output = out -> streamProjection(runner, kind, inputFiles, out);
+
+		return Response.ok(output).status(Status.CREATED)
+				.header("content-disposition", "attachment;filename=\"" + buildOutputFileName() + "\"")
+				.header("content-type", "application/octet-stream").build();
+	}
+
 	void validateMaximumPolygons(Path polygonFile) throws IOException, ProjectionRequestValidationException {
 		int maximumPolygons = limitsConfig.maximumPolygons();
 		int polygonCount = 0;
@@ -278,14 +331,7 @@ public class ProjectionService {
 		String projectionId = ProjectionService.buildProjectionId(kind);
 
 		logger.info("<runProjection {} {}", kind, projectionId);
-
-		try {
-			// Included to generate JSON text of parameters as needed
-			String serializedParametersText = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(params);
-			logger.info(serializedParametersText);
-		} catch (JsonProcessingException e) {
-			logger.warn(MessageFormat.format("{0}: unable to log parameters JSON", projectionId), e);
-		}
+		logParameters(projectionId, params);
 
 		boolean debugLoggingEnabled = params.getSelectedExecutionOptions()
 				.contains(Parameters.ExecutionOption.DO_ENABLE_DEBUG_LOGGING.toString());
@@ -304,20 +350,7 @@ public class ProjectionService {
 
 			runner.run(inputStreams);
 
-			InputStream debugLogStream = new ByteArrayInputStream(new byte[0]);
-			try {
-				if (debugLoggingEnabled) {
-					/* this is known from logback.xml */
-					Path debugLogPath = Path.of("logs", projectionId + ".log");
-
-					debugLogStream = FileHelper.getForReading(debugLogPath);
-				}
-			} catch (IOException e) {
-				String message = Exceptions.getMessage(e, "Projection, when opening input files,");
-				logger.warn(message);
-			}
-
-			response = buildOutputZipFile(runner, debugLogStream);
+			response = buildOutputZipFile(runner, openDebugLog(projectionId, debugLoggingEnabled));
 
 		} finally {
 			logger.info(FINALIZE_SESSION_MARKER, ">runProjection {} {}", kind, projectionId);
@@ -341,50 +374,43 @@ public class ProjectionService {
 		return sb.toString();
 	}
 
-	private Response buildOutputZipFile(ProjectionRunner runner, InputStream debugLogStream) {
-		logger.info("<buildOutputZipFile");
-
-		InputStream yieldTableStream = null;
-		InputStream progressLogStream = null;
-		InputStream errorLogStream = null;
-
+	private void logParameters(String projectionId, Parameters params) {
 		try {
-			var baos = new ByteArrayOutputStream();
-			try (var zipOut = new ZipOutputStream(baos)) {
-
-				progressLogStream = runner.getProgressStream();
-				errorLogStream = runner.getErrorStream();
-
-				for (YieldTable yieldTable : runner.getContext().getYieldTables()) {
-					var yieldTableFileName = yieldTable.getOutputFormat().getYieldTableFileName();
-					yieldTableStream = yieldTable.getAsStream();
-					writeZipEntry(zipOut, yieldTableFileName, yieldTableStream.readAllBytes());
-				}
+			// Included to generate JSON text of parameters as needed
+			String serializedParametersText = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(params);
+			logger.info(serializedParametersText);
+		} catch (JsonProcessingException e) {
+			logger.warn(MessageFormat.format("{0}: unable to log parameters JSON", projectionId), e);
+		}
+	}
 
-				if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_PROGRESS_LOGGING)) {
-					writeZipEntry(zipOut, "ProgressLog.txt", runner.getProgressStream().readAllBytes());
-				}
+	private InputStream openDebugLog(String projectionId, boolean debugLoggingEnabled) {
+		InputStream debugLogStream = new ByteArrayInputStream(new byte[0]);
+		try {
+			if (debugLoggingEnabled) {
+				/* this is known from logback.xml */
+				Path debugLogPath = Path.of("logs", projectionId + ".log");
 
-				if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_ERROR_LOGGING)) {
-					writeZipEntry(zipOut, "ErrorLog.txt", runner.getErrorStream().readAllBytes());
-				}
+				debugLogStream = FileHelper.getForReading(debugLogPath);
+			}
+		} catch (IOException e) {
+			String message = Exceptions.getMessage(e, "Projection, when opening input files,");
+			logger.warn(message);
+		}
+		return debugLogStream;
+	}
 
-				if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_DEBUG_LOGGING)) {
-					writeZipEntry(zipOut, "DebugLog.txt", debugLogStream.readAllBytes());
-				}
+	private static String buildOutputFileName() {
+		return "vdyp-output-" + java.time.LocalDateTime.now().format(dateTimeFormatter) + ".zip";
+	}
 
-				var projectionResultsIterator = runner.getProjectionResults();
+	private Response buildOutputZipFile(ProjectionRunner runner, InputStream debugLogStream) {
+		logger.info("<buildOutputZipFile");
 
-				while (projectionResultsIterator.hasNext()) {
-					var entry = projectionResultsIterator.next();
-					var zipEntryName = entry.getKey().toString();
-					var projectionResultsFile = Files.newInputStream(entry.getValue(), StandardOpenOption.READ);
-					try {
-						writeZipEntry(zipOut, zipEntryName, projectionResultsFile.readAllBytes());
-					} finally {
-						Utils.close(projectionResultsFile, zipEntryName);
-					}
-				}
+		try {
+			var baos = new ByteArrayOutputStream();
+			try (var zipOut = new ZipOutputStream(baos)) {
+				writeOutputZipEntries(zipOut, runner, debugLogStream, 0);
 			} catch (IOException e) {
 				return Response.status(500)
 						.entity(
@@ -399,10 +425,8 @@ public class ProjectionService {
 
 			logger.info(">buildOutputZipFile");
 
-			var outputFileName = "vdyp-output-" + java.time.LocalDateTime.now().format(dateTimeFormatter) + ".zip";
-
 			return Response.ok(resultingByteArray).status(Status.CREATED)
-					.header("content-disposition", "attachment;filename=\"" + outputFileName + "\"")
+					.header("content-disposition", "attachment;filename=\"" + buildOutputFileName() + "\"")
 					.header("content-type", "application/octet-stream").build();
 
 		} catch (Exception e) {
@@ -411,25 +435,231 @@ public class ProjectionService {
 
 			return Response.serverError().status(Status.INTERNAL_SERVER_ERROR).entity(message).build();
 		} finally {
-			if (errorLogStream != null) {
-				Utils.close(yieldTableStream, "ProjectionService.errorLog");
+			Utils.close(debugLogStream, "ProjectionService.debugLog");
+		}
+	}
+
+	/**
+	 * Writes the results of a finished projection to the output zip file: its yield tables, other than those already
+	 * written, its logs and its projection files.
+	 *
+	 * @param firstYieldTable the index of the first yield table not yet written
+	 */
+	private void writeOutputZipEntries(
+			ZipOutputStream zipOut, ProjectionRunner runner, InputStream debugLogStream, int firstYieldTable
+	) throws IOException {
+		List<YieldTable> yieldTables = runner.getContext().getYieldTables();
+		for (YieldTable yieldTable : yieldTables.subList(firstYieldTable, yieldTables.size())) {
+			try (InputStream yieldTableStream = yieldTable.getAsStream()) {
+				writeZipEntry(zipOut, yieldTable.getOutputFormat().getYieldTableFileName(), yieldTableStream);
 			}
-			if (progressLogStream != null) {
-				Utils.close(yieldTableStream, "ProjectionService.progressLog");
+		}
+
+		if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_PROGRESS_LOGGING)) {
+			try (InputStream progressLogStream = runner.getProgressStream()) {
+				writeZipEntry(zipOut, "ProgressLog.txt", progressLogStream);
 			}
-			if (yieldTableStream != null) {
-				Utils.close(yieldTableStream, "ProjectionService.yieldTable");
+		}
+
+		if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_ERROR_LOGGING)) {
+			try (InputStream errorLogStream = runner.getErrorStream()) {
+				writeZipEntry(zipOut, "ErrorLog.txt", errorLogStream);
+			}
+		}
+
+		if (runner.getContext().getParams().containsOption(ExecutionOption.DO_ENABLE_DEBUG_LOGGING)) {
+			writeZipEntry(zipOut, "DebugLog.txt", debugLogStream);
+		}
+
+		var projectionResultsIterator = runner.getProjectionResults();
+
+		while (projectionResultsIterator.hasNext()) {
+			var entry = projectionResultsIterator.next();
+			var zipEntryName = entry.getKey().toString();
+			try (var projectionResultsFile = Files.newInputStream(entry.getValue(), StandardOpenOption.READ)) {
+				writeZipEntry(zipOut, zipEntryName, projectionResultsFile);
 			}
 		}
 	}
 
-	private void writeZipEntry(ZipOutputStream zipOut, String entryName, byte[] entry) throws IOException {
+	private void writeZipEntry(ZipOutputStream zipOut, String entryName, InputStream entry) throws IOException {
 		ZipEntry projectionResultsEntry = new ZipEntry(entryName);
 		zipOut.putNextEntry(projectionResultsEntry);
-		zipOut.write(entry);
+		entry.transferTo(zipOut);
 		zipOut.closeEntry();
 	}
 
+	/**
+	 * Runs a projection on a thread of its own while writing its results to the response. The yield table is copied
+	 * to the response as the projection generates it, and the remaining results once it has finished.
+	 */
+	private void streamProjection(
+			ProjectionRunner runner, ProjectionRequestKind kind, Map<String, Path> inputFiles, OutputStream out
+	) throws IOException {
+		String projectionId = runner.getContext().getProjectionId();
+		boolean debugLoggingEnabled = runner.getContext().getParams()
+				.containsOption(ExecutionOption.DO_ENABLE_DEBUG_LOGGING);
+
+		Map<String, InputStream> inputStreams = new HashMap<>();
+		ExecutorService projectionExecutor = Executors.newSingleThreadExecutor(r -> {
+			var thread = new Thread(r, projectionId + "-streamed");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Future<Void> projection = null;
+		boolean streamed = false;
+
+		try {
+			for (var entry : inputFiles.entrySet()) {
+				inputStreams.put(entry.getKey(), Files.newInputStream(entry.getValue(), StandardOpenOption.READ));
+			}
+
+			projection = projectionExecutor.submit(() -> {
+				runStreamedProjection(runner, kind, inputStreams, debugLoggingEnabled);
+				return null;
+			});
+
+			var zipOut = new ZipOutputStream(out);
+			int nYieldTablesWritten = streamYieldTable(runner, projection, zipOut);
+
+			try {
+				projection.get();
+			} catch (ExecutionException e) {
+				String message = Exceptions.getMessage(e.getCause(), "Projection, when streaming output zip,");
+				logger.error(message, e.getCause());
+				// The response has started; leaving the zip file incomplete is the only way left to report failure
+				throw new IOException(message, e.getCause());
+			}
+
+			InputStream debugLogStream = openDebugLog(projectionId, debugLoggingEnabled);
+			try {
+				writeOutputZipEntries(zipOut, runner, debugLogStream, nYieldTablesWritten);
+			} finally {
+				Utils.close(debugLogStream, "ProjectionService.debugLog");
+			}
+
+			zipOut.finish();
+			zipOut.flush();
+			streamed = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while streaming projection " + projectionId, e);
+		} finally {
+			// The response could not be completed, as the client has gone or the projection failed, so a projection
+			// still running is stopped: it is interrupted, and its input closed under it.
+			if (projection != null && !streamed) {
+				projection.cancel(true);
+			}
+			for (var entry : inputStreams.entrySet()) {
+				Utils.close(entry.getValue(), entry.getKey());
+			}
+
+			// The runner cannot be closed while the projection is still using it
+			awaitTermination(projectionExecutor);
+
+			Utils.close(runner, "ProjectionService.runner");
+		}
+	}
+
+	private void runStreamedProjection(
+			ProjectionRunner runner, ProjectionRequestKind kind, Map<String, InputStream> inputStreams,
+			boolean debugLoggingEnabled
+	) throws AbstractProjectionRequestException {
+		String projectionId = runner.getContext().getProjectionId();
+
+		if (debugLoggingEnabled) {
+			MDC.put("projectionId", projectionId);
+		}
+
+		try {
+			logger.info("Running {} projection {}", kind, projectionId);
+
+			runner.run(inputStreams);
+		} finally {
+			logger.info(FINALIZE_SESSION_MARKER, ">runProjection {} {}", kind, projectionId);
+
+			if (debugLoggingEnabled) {
+				MDC.remove("projectionId");
+			}
+		}
+	}
+
+	/**
+	 * Copies the first yield table of a running projection to the output zip file as it is generated, until the
+	 * projection has finished.
+	 *
+	 * @return the number of yield tables written, which is 0 if the projection finished without creating any
+	 */
+	private int streamYieldTable(ProjectionRunner runner, Future<Void> projection, ZipOutputStream zipOut)
+			throws IOException, InterruptedException {
+
+		var context = runner.getContext();
+
+		// The count of output is taken before each look at the projection, so that no output signalled after that look
+		// is missed by the wait that follows it
+		long outputCount = context.getOutputCount();
+
+		// The yield tables, and their files, are created as the projection starts
+		List<YieldTable> yieldTables = context.getYieldTables();
+		while (yieldTables.isEmpty() && !isFinished(context, projection)) {
+			outputCount = context.awaitOutput(outputCount, STREAMING_WAIT_LIMIT_ms);
+		}
+		if (yieldTables.isEmpty()) {
+			return 0;
+		}
+
+		YieldTable yieldTable = yieldTables.get(0);
+		zipOut.putNextEntry(new ZipEntry(yieldTable.getOutputFormat().getYieldTableFileName()));
+
+		try (InputStream yieldTableStream = yieldTable.getAsStream()) {
+			byte[] buffer = new byte[STREAMING_BUFFER_SIZE];
+			boolean projectionFinished;
+			do {
+				// Once the projection has finished, the rest of the file is complete
+				projectionFinished = isFinished(context, projection);
+
+				int nBytesRead;
+				while ( (nBytesRead = yieldTableStream.read(buffer)) != -1) {
+					zipOut.write(buffer, 0, nBytesRead);
+				}
+
+				if (!projectionFinished) {
+					zipOut.flush();
+					outputCount = context.awaitOutput(outputCount, STREAMING_WAIT_LIMIT_ms);
+				}
+			} while (!projectionFinished);
+		}
+
+		zipOut.closeEntry();
+
+		return 1;
+	}
+
+	/**
+	 * @return true if the streamed projection has ended its run, and so flushed its yield tables, or has finished
+	 *         without running at all
+	 */
+	private static boolean isFinished(ProjectionContext context, Future<Void> projection) {
+		return context.getRunsEnded() > 0 || projection.isDone();
+	}
+
+	private static void awaitTermination(ExecutorService projectionExecutor) {
+		projectionExecutor.shutdown();
+
+		boolean interrupted = false;
+		boolean terminated = false;
+		while (!terminated) {
+			try {
+				terminated = projectionExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private ProjectionModel toModelWithExpiry(ProjectionEntity entity) {
 		var model = assembler.toModel(entity);
 		if (model != null)
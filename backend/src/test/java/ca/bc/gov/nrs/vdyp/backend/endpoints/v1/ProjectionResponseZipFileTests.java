@@ -116,6 +116,64 @@ class ProjectionResponseZipFileTests {
 		Utils.close(zipInputStream);
 	}
 
+	@Test
+	void singlePolygonTestAllOutputsStreamed() throws IOException {
+
+		logger.info("Starting singlePolygonTestAllOutputsStreamed");
+
+		Path resourceFolderPath = Path.of(FileHelper.TEST_DATA_FILES, FileHelper.HCSV, "single-polygon");
+
+		Parameters parameters = testHelper.addSelectedOptions(
+				new Parameters(), //
+				Parameters.ExecutionOption.DO_ENABLE_DEBUG_LOGGING, //
+				Parameters.ExecutionOption.DO_ENABLE_PROGRESS_LOGGING, //
+				Parameters.ExecutionOption.DO_ENABLE_ERROR_LOGGING, //
+				Parameters.ExecutionOption.FORWARD_GROW_ENABLED, //
+				Parameters.ExecutionOption.DO_INCLUDE_PROJECTED_MOF_VOLUMES, //
+				Parameters.ExecutionOption.DO_SUMMARIZE_PROJECTION_BY_LAYER
+		);
+		parameters.yearStart(2000).yearEnd(2050);
+
+		InputStream zipInputStream = given().basePath(TestHelper.ROOT_PATH).when() //
+				.header("X-Consumer-Username", "integration-test-client") //
+				.header(TestHelper.GATEWAY_JWT_HEADER, TestHelper.GATEWAY_JWT) //
+				.multiPart(ParameterNames.PROJECTION_PARAMETERS, parameters, MediaType.APPLICATION_JSON) //
+				.multiPart(
+						ParameterNames.HCSV_POLYGON_INPUT_DATA,
+						testHelper.getResourceFile(resourceFolderPath, "VDYP7_INPUT_POLY.csv").toFile()
+				) //
+				.multiPart(
+						ParameterNames.HCSV_LAYERS_INPUT_DATA,
+						testHelper.getResourceFile(resourceFolderPath, "VDYP7_INPUT_LAYER.csv").toFile()
+				) //
+				.post("/projection/hcsv?trialRun=false&streamResults=true") //
+				.then().statusCode(201) //
+				.and().contentType("application/octet-stream") //
+				.and().header("content-disposition", Matchers.startsWith("attachment;filename=\"vdyp-output-")) //
+				.extract().body().asInputStream();
+
+		ZipInputStream zipFile = new ZipInputStream(zipInputStream);
+		ZipEntry entry1 = zipFile.getNextEntry();
+		assertEquals("YieldTable.csv", entry1.getName());
+		String entry1Content = new String(TestHelper.readZipEntry(zipFile, entry1));
+		assertTrue(entry1Content.length() > 0);
+
+		ZipEntry entry2 = zipFile.getNextEntry();
+		assertEquals("ProgressLog.txt", entry2.getName());
+		String entry2Content = new String(TestHelper.readZipEntry(zipFile, entry2));
+		assertTrue(entry2Content.contains("starting projection (type HCSV)"));
+
+		ZipEntry entry3 = zipFile.getNextEntry();
+		assertEquals("ErrorLog.txt", entry3.getName());
+		String entry3Content = new String(TestHelper.readZipEntry(zipFile, entry3));
+		assertTrue(entry3Content.length() == 0);
+
+		ZipEntry entry4 = zipFile.getNextEntry();
+		assertEquals("DebugLog.txt", entry4.getName());
+
+		Utils.close(zipInputStream);
+	}
+
 	@Test
 	void singlePolygonTestNoOutputs() throws IOException {
 
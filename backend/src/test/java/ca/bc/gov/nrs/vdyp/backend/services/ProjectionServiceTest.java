@@ -1986,7 +1986,7 @@ class ProjectionServiceTest {
 		ProjectionEndpoint endpoint = new ProjectionEndpoint(mockService, currentVDYPUser);
 		FileUpload layerUpload = mock(FileUpload.class);
 
-		Response response = endpoint.projectionHcsvPost(false, new Parameters(), null, layerUpload);
+		Response response = endpoint.projectionHcsvPost(false, false, new Parameters(), null, layerUpload);
 
 		assertThat(response.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
 		assertThat(response.getEntity()).isEqualTo("Projection request failed: no polygon data supplied");
@@ -2002,7 +2002,7 @@ class ProjectionServiceTest {
 		ProjectionEndpoint endpoint = new ProjectionEndpoint(mockService, currentVDYPUser);
 		FileUpload polygonUpload = mock(FileUpload.class);
 
-		Response response = endpoint.projectionHcsvPost(false, new Parameters(), polygonUpload, null);
+		Response response = endpoint.projectionHcsvPost(false, false, new Parameters(), polygonUpload, null);
 
 		assertThat(response.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
 		assertThat(response.getEntity()).isEqualTo("Projection request failed: no layer data supplied");
@@ -2029,12 +2029,40 @@ class ProjectionServiceTest {
 		when(mockService.projectionHcsvPost(true, parameters, polygonFile, layerFile, null))
 				.thenReturn(expectedResponse);
 
-		Response response = endpoint.projectionHcsvPost(true, parameters, polygonUpload, layerUpload);
+		Response response = endpoint.projectionHcsvPost(true, false, parameters, polygonUpload, layerUpload);
 
 		assertThat(response).isSameAs(expectedResponse);
 		verify(mockService).projectionHcsvPost(true, parameters, polygonFile, layerFile, null);
 	}
 
+	@Test
+	void endpoint_projectionHcsvPost_streamResults_delegatesToStreamedService(@TempDir Path tempDir)
+			throws Exception {
+		ProjectionService mockService = mock(ProjectionService.class);
+		CurrentVDYPUser currentVDYPUser = mock(CurrentVDYPUser.class);
+		ProjectionEndpoint endpoint = new ProjectionEndpoint(mockService, currentVDYPUser);
+
+		FileUpload polygonUpload = mock(FileUpload.class);
+		FileUpload layerUpload = mock(FileUpload.class);
+		Path polygonFile = tempDir.resolve("polygon.csv");
+		Path layerFile = tempDir.resolve("layer.csv");
+		Parameters parameters = new Parameters();
+		Response expectedResponse = Response.ok("streamed-output").build();
+
+		when(polygonUpload.uploadedFile()).thenReturn(polygonFile);
+		when(layerUpload.uploadedFile()).thenReturn(layerFile);
+		when(mockService.projectionHcsvPostStreamed(false, parameters, polygonFile, layerFile, null))
+				.thenReturn(expectedResponse);
+
+		Response response = endpoint.projectionHcsvPost(false, true, parameters, polygonUpload, layerUpload);
+
+		assertThat(response).isSameAs(expectedResponse);
+		verify(mockService).projectionHcsvPostStreamed(false, parameters, polygonFile, layerFile, null);
+		verify(mockService, never()).projectionHcsvPost(
+				any(Boolean.class), any(Parameters.class), any(Path.class), any(Path.class), any(SecurityContext.class)
+		);
+	}
+
 	@Test
 	void endpoint_projectionHcsvPost_validationException_returnsSerializedValidationMessages(@TempDir Path tempDir)
 			throws Exception {
@@ -2057,7 +2085,7 @@ class ProjectionServiceTest {
 				)
 		);
 
-		Response response = endpoint.projectionHcsvPost(false, parameters, polygonUpload, layerUpload);
+		Response response = endpoint.projectionHcsvPost(false, false, parameters, polygonUpload, layerUpload);
 
 		assertThat(response.getStatus()).isEqualTo(Response.Status.BAD_REQUEST.getStatusCode());
 		assertThat(response.getHeaderString("content-type")).isEqualTo("application/json");
@@ -2083,7 +2111,7 @@ class ProjectionServiceTest {
 		when(mockService.projectionHcsvPost(false, parameters, polygonFile, layerFile, null))
 				.thenThrow(new RuntimeException("service failed"));
 
-		Response response = endpoint.projectionHcsvPost(false, parameters, polygonUpload, layerUpload);
+		Response response = endpoint.projectionHcsvPost(false, false, parameters, polygonUpload, layerUpload);
 
 		assertThat(response.getStatus()).isEqualTo(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
 		assertThat(response.getEntity()).isEqualTo("service failed");
@@ -16,6 +16,15 @@ import org.springframework.web.client.RestClientException;
 
 @Component
 public class PresignedFileFetcher {
+
+	/**
+	 * Reads the content of an object while it is downloaded.
+	 */
+	@FunctionalInterface
+	public interface ContentReader<T> {
+		T read(InputStream content) throws IOException;
+	}
+
 	private final RestClient restClient;
 
 	@Autowired
@@ -28,15 +37,35 @@ public class PresignedFileFetcher {
 	}
 
 	public void downloadToFile(String url, Path target) throws IOException {
+		createParentDirectories(target);
+
+		download(url, in -> {
+			Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+			return null;
+		});
+	}
+
+	private static void createParentDirectories(Path target) throws IOException {
 		Path parent = target.getParent();
 		if (parent != null) {
 			Files.createDirectories(parent);
 		}
+	}
 
+	/**
+	 * Download an object, passing its content to {@code reader} as it arrives, so that it can be processed without
+	 * being written to a file first. The content is closed once the reader returns.
+	 *
+	 * @param url    the presigned URL of the object
+	 * @param reader reads the content; it need not read all of it
+	 * @return the result of {@code reader}
+	 * @throws IOException if the object can't be downloaded, or the reader fails
+	 */
+	public <T> T download(String url, ContentReader<T> reader) throws IOException {
 		URI uri = URI.create(url);
 
 		try {
-			restClient.get().uri(uri).exchange((request, response) -> {
+			return restClient.get().uri(uri).exchange((request, response) -> {
 				HttpStatusCode statusCode = response.getStatusCode();
 				if (statusCode.isError()) {
 					throw new IOException(
@@ -45,10 +74,8 @@ public class PresignedFileFetcher {
 				}
 
 				try (InputStream in = response.getBody()) {
-					Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+					return reader.read(in);
 				}
-
-				return null;
 			}, true);
 		} catch (RestClientException e) {
 			if (e.getCause() instanceof IOException ioException) {
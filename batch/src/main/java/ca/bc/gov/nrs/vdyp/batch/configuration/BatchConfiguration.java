@@ -45,10 +45,12 @@ import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypClient;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchException;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchMetricsException;
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
 import ca.bc.gov.nrs.vdyp.batch.model.VDYPProjectionProgressUpdate;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchMetricsCollector;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchProjectionService;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchResultAggregationService;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkWorkQueue;
 import ca.bc.gov.nrs.vdyp.batch.service.DownloadAndPartitionTasklet;
 import ca.bc.gov.nrs.vdyp.batch.service.ResultPersistenceTasklet;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
@@ -241,7 +243,7 @@ public class BatchConfiguration {
 	@Bean
 	@StepScope
 	public ChunkWriteListener chunkWriteListener() {
-		return new ChunkWriteListener();
+		return new ChunkWriteListener(resultAggregationService);
 	}
 
 	/**
@@ -310,14 +312,18 @@ public class BatchConfiguration {
 			@Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
 			@Value("#{jobParameters['" + BatchConstants.Job.GUID + "']}") String jobGuid,
 			@Value("#{jobParameters['" + BatchConstants.Chunk.SIZE + "']}") Long configuredChunkSize,
-			BatchProperties batchProperties
+			@Value("#{jobParameters['" + BatchConstants.Projection.PARAMETERS_JSON + "']}") String parametersJson,
+			BatchProperties batchProperties, ObjectMapper objectMapper, ChunkWorkQueue chunkWorkQueue
 	) {
 		int chunkSize = resolveChunkSize(configuredChunkSize, batchProperties);
 		logger.trace(
 				"[GUID: {}, Execution ID: {}, Partition: {}] Using BatchItemReader with chunk size: {}", jobGuid,
 				jobExecutionId, partitionName, chunkSize
 		);
-		return new BatchItemReader(partitionName, jobExecutionId, jobGuid, chunkSize);
+		return new BatchItemReader(
+				partitionName, jobExecutionId, jobGuid, chunkSize, ProjectionYearRange.of(objectMapper, parametersJson),
+				chunkWorkQueue
+		);
 	}
 
 	private int resolveChunkSize(Long configuredChunkSize, BatchProperties batchProperties) {
@@ -1,8 +1,7 @@
 package ca.bc.gov.nrs.vdyp.batch.configuration;
 
+import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.COMPLETED_CHUNKS;
 import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.CURRENT_CHUNK_NUMBER;
-import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.CURRENT_LAYER_CHUNK_OFFSET;
-import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.CURRENT_POLYGON_CHUNK_START_BYTE_OFFSET;
 import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.NUM_PROCESSED_POLYGON_RECORDS;
 import static ca.bc.gov.nrs.vdyp.batch.util.BatchConstants.Chunk.TOTAL_POLYGON_RECORDS;
 
@@ -18,10 +17,15 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,12 +36,22 @@ import org.springframework.lang.NonNull;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchDataReadException;
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkWorkQueue;
+import ca.bc.gov.nrs.vdyp.batch.service.InputChunkIndex;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
 
 /**
  * Memory-efficient ItemReader that returns chunk metadata instead of loading entire CSV data. The actual file streaming
  * is performed in the ItemWriter.
+ *
+ * When opened, the reader takes the boundaries of each of its partition's chunks from the partition's
+ * {@link InputChunkIndex}, or scans the partition's files for them if it has none, and registers them with the job's
+ * {@link ChunkWorkQueue}. Chunks are then claimed from the queue as they are read: first the partition's own,
+ * then those stolen from partitions that are still busy. The numbers of the partition's completed chunks, whichever
+ * worker completed them, are persisted in the step's ExecutionContext so that a restarted step skips them.
  */
 public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 
@@ -51,6 +65,12 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 	private final String jobGuid;
 	private final int chunkSize;
 
+	// Range of the job's projection, which determines how long its polygons take to grow
+	private final ProjectionYearRange yearRange;
+
+	// Chunks shared with the job's other worker steps
+	private final ChunkWorkQueue chunkWorkQueue;
+
 	// Job base directory
 	private String jobBaseDir;
 
@@ -61,29 +81,29 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 	// Total data record counts (excluding headers and blank lines)
 	private int totalPolygonDataRecords;
 
-	// Number of processed polygon data records so far (excluding headers and blank lines)
-	private int numProcessedPolygonRecords = 0;
-
-	// The number of this chunk
-	private int currentChunkNumber = 0;
+	// Polygon data record counts of this partition's chunks, by chunk number
+	private final Map<Integer, Integer> chunkPolygonRecordCounts = new HashMap<>();
 
-	// Current read positions in the files (byte offset where chunk will be read from)
-	private long currentPolygonChunkStartByteOffset = 0;
-	private long currentLayerChunkStartByteOffset = 0;
+	// Chunks read since the last update(), which are completed when the step commits them
+	private final List<BatchChunkMetadata> claimedChunks = new ArrayList<>();
 
 	private boolean readerOpened = false;
 
 	public BatchItemReader(
-			@NonNull String partitionName, @NonNull Long jobExecutionId, @NonNull String jobGuid, @NonNull int chunkSize
+			@NonNull String partitionName, @NonNull Long jobExecutionId, @NonNull String jobGuid, @NonNull int chunkSize,
+			@NonNull ProjectionYearRange yearRange, @NonNull ChunkWorkQueue chunkWorkQueue
 	) {
 		this.partitionName = partitionName;
 		this.jobExecutionId = jobExecutionId;
 		this.jobGuid = jobGuid;
 		this.chunkSize = Math.max(chunkSize, 1);
+		this.yearRange = yearRange;
+		this.chunkWorkQueue = chunkWorkQueue;
 	}
 
 	/**
-	 * Reads the next ChunkMetadata for processing.
+	 * Reads the next ChunkMetadata for processing. This is the next chunk of this partition or, once those have all
+	 * been claimed, a chunk of another partition of the job.
 	 *
 	 * @return The next ChunkMetadata to process, or null when all data has been read. Note: Returning null signals
 	 *         end-of-data to Spring Batch framework - this is the standard contract.
@@ -98,78 +118,34 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 			);
 		}
 
-		// Check if we've read all records
-		if (numProcessedPolygonRecords >= totalPolygonDataRecords) {
-			logger.trace(
-					"[GUID: {}, EXEID: {}, Partition: {}] All records processed (numberOfProcessedPolygonRecords={}, totalRecords={})",
-					jobGuid, jobExecutionId, partitionName, numProcessedPolygonRecords, totalPolygonDataRecords
-			);
-			return null; // End of data - signals Spring Batch that reading is complete
-		}
-
-		// Calculate how many polygon data records to include in this chunk
-		int remainingPolygonRecords = totalPolygonDataRecords - numProcessedPolygonRecords;
-		int polygonRecordsInThisChunk = Math.min(chunkSize, remainingPolygonRecords);
-
-		// Scan polygon chunk to extract metadata (feature IDs and byte positions)
-		ChunkMetadata polygonChunkMetaData;
+		BatchChunkMetadata metadata;
 		try {
-			polygonChunkMetaData = getPolygonChunkMetadata(
-					polygonFilePath, currentPolygonChunkStartByteOffset, polygonRecordsInThisChunk
-			);
-		} catch (IOException e) {
+			metadata = chunkWorkQueue.claim(jobExecutionId, partitionName);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw BatchDataReadException.handleDataReadFailure(
-					e, "Failed to scan polygon chunk metadata", jobGuid, jobExecutionId, partitionName, logger
+					e, "Interrupted while waiting for chunks processed by other partitions", jobGuid, jobExecutionId,
+					partitionName, logger
 			);
 		}
 
-		// Convert polygon feature IDs to Set for efficient layer matching
-		Set<String> featureIdsInThisChunk = new LinkedHashSet<>(polygonChunkMetaData.getFeatureIds());
-
-		// Get layer chunk metadata by finding matching FEATURE_IDs starting from current position
-		ChunkMetadata layerChunkMetadata;
-		try {
-			logger.trace(
-					"[GUID: {}, EXEID: {}, Partition: {}] Scanning layer metadata for polygon features: {} (count: {}) from layerByte {}",
-					jobGuid, jobExecutionId, partitionName, featureIdsInThisChunk, featureIdsInThisChunk.size(),
-					currentLayerChunkStartByteOffset
-			);
-
-			layerChunkMetadata = getMatchingLayerMetadata(
-					layerFilePath, currentLayerChunkStartByteOffset, featureIdsInThisChunk
-			);
-
+		if (metadata == null) {
 			logger.trace(
-					"[GUID: {}, EXEID: {}, Partition: {}] Scanned {} layer records (startByte={}, endByte={}) for features: {}",
-					jobGuid, jobExecutionId, partitionName, layerChunkMetadata.getRecordCount(),
-					layerChunkMetadata.getStartByte(), layerChunkMetadata.getEndByte(),
-					layerChunkMetadata.getFeatureIds()
-			);
-		} catch (IOException e) {
-			throw BatchDataReadException.handleDataReadFailure(
-					e, "Failed to read layer chunk", jobGuid, jobExecutionId, partitionName, logger
+					"[GUID: {}, EXEID: {}, Partition: {}] All chunks processed (totalRecords={})", jobGuid,
+					jobExecutionId, partitionName, totalPolygonDataRecords
 			);
+			return null; // End of data - signals Spring Batch that reading is complete
 		}
 
-		BatchChunkMetadata metadata = new BatchChunkMetadata(
-				partitionName, jobBaseDir, polygonChunkMetaData.getStartByte(), polygonChunkMetaData.getRecordCount(),
-				layerChunkMetadata.getStartByte(), layerChunkMetadata.getRecordCount(), currentChunkNumber
-		);
+		claimedChunks.add(metadata);
 
 		logger.trace(
-				"[GUID: {}, EXEID: {}, Partition: {}] Created chunk metadata: polygonStartByte={}, polygonRecordCount={}, layerStartByte={}, layerRecordCount={}, progress={}/{}",
-				jobGuid, jobExecutionId, partitionName, polygonChunkMetaData.getStartByte(),
-				polygonChunkMetaData.getRecordCount(), layerChunkMetadata.getStartByte(),
-				layerChunkMetadata.getRecordCount(), numProcessedPolygonRecords + polygonRecordsInThisChunk,
-				totalPolygonDataRecords
+				"[GUID: {}, EXEID: {}, Partition: {}] Claimed chunk {} of {}: polygonStartByte={}, polygonRecordCount={}, layerStartByte={}, layerRecordCount={}",
+				jobGuid, jobExecutionId, partitionName, metadata.getCurrentChunkNumber(), metadata.getPartitionName(),
+				metadata.getPolygonStartByte(), metadata.getPolygonRecordCount(), metadata.getLayerStartByte(),
+				metadata.getLayerRecordCount()
 		);
 
-		// Update position for next read
-		currentChunkNumber++;
-		numProcessedPolygonRecords += polygonRecordsInThisChunk;
-		currentPolygonChunkStartByteOffset = polygonChunkMetaData.getEndByte();
-		currentLayerChunkStartByteOffset = layerChunkMetadata.getEndByte();
-
 		return metadata;
 	}
 
@@ -212,22 +188,29 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 			this.polygonFilePath = partitionDir.resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME);
 			this.layerFilePath = partitionDir.resolve(BatchConstants.Partition.INPUT_LAYER_FILE_NAME);
 
-			boolean restoredState = restorePersistedState(executionContext);
-			if (!restoredState) {
-				this.currentChunkNumber = 1;
+			List<BatchChunkMetadata> chunks;
+			Optional<List<InputChunkIndex.Entry>> chunkIndex = InputChunkIndex.read(partitionDir);
+			if (chunkIndex.isPresent()) {
+				// Recorded as the input was partitioned, so the input need not be scanned
+				chunks = planIndexedChunks(chunkIndex.get());
+			} else if (executionContext.containsKey(BatchConstants.Partition.POLYGON_RECORD_COUNT)) {
+				// Counted as the partition was written, with neither headers nor blank lines
+				this.totalPolygonDataRecords = executionContext.getInt(BatchConstants.Partition.POLYGON_RECORD_COUNT);
+				chunks = planChunks(0, 0);
+			} else {
 				this.totalPolygonDataRecords = countTotalDataRecords(this.polygonFilePath);
-
-				// Initialize the current read position as the byte offset of the first data record (skipping headers
-				// and
-				// blank lines)
-				this.currentPolygonChunkStartByteOffset = findFirstDataRecordByteOffset(this.polygonFilePath);
-				this.currentLayerChunkStartByteOffset = findFirstDataRecordByteOffset(this.layerFilePath);
+				chunks = planChunks(
+						findFirstDataRecordByteOffset(this.polygonFilePath),
+						findFirstDataRecordByteOffset(this.layerFilePath)
+				);
 			}
+
+			chunkWorkQueue.register(jobExecutionId, partitionName, chunks, restorePersistedState(executionContext));
+
 			readerOpened = true;
 			logger.trace(
-					"[GUID: {}, EXEID: {}, Partition: {}] BatchItemReader opened successfully. Total polygon records: {}, First polygon byte: {}, First layer byte: {}",
-					jobGuid, jobExecutionId, partitionName, totalPolygonDataRecords, currentPolygonChunkStartByteOffset,
-					currentLayerChunkStartByteOffset
+					"[GUID: {}, EXEID: {}, Partition: {}] BatchItemReader opened successfully. Total polygon records: {}, Chunks: {}",
+					jobGuid, jobExecutionId, partitionName, totalPolygonDataRecords, chunks.size()
 			);
 
 		} catch (IOException e) {
@@ -238,35 +221,149 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 		}
 	}
 
-	private boolean restorePersistedState(ExecutionContext executionContext) {
-		boolean hasRestoreState = executionContext.containsKey(CURRENT_CHUNK_NUMBER);
-		boolean restoredState = false;
-
-		if (hasRestoreState) {
-			this.currentChunkNumber = executionContext.getInt(CURRENT_CHUNK_NUMBER);
-			this.totalPolygonDataRecords = executionContext.getInt(TOTAL_POLYGON_RECORDS);
-			this.numProcessedPolygonRecords = executionContext.getInt(NUM_PROCESSED_POLYGON_RECORDS);
-			this.currentPolygonChunkStartByteOffset = executionContext.getLong(CURRENT_POLYGON_CHUNK_START_BYTE_OFFSET);
-			this.currentLayerChunkStartByteOffset = executionContext.getLong(CURRENT_LAYER_CHUNK_OFFSET);
-			restoredState = true;
+	/**
+	 * Plans the partition's chunks from its index, whose records are in the input folder shared by the partitions.
+	 *
+	 * @param entries the partition's chunks, in input order
+	 * @return the chunks, numbered from 1
+	 */
+	private List<BatchChunkMetadata> planIndexedChunks(List<InputChunkIndex.Entry> entries) {
+		List<BatchChunkMetadata> chunks = new ArrayList<>();
+		this.totalPolygonDataRecords = 0;
+
+		for (InputChunkIndex.Entry entry : entries) {
+			int chunkNumber = chunks.size() + 1;
+
+			BatchChunkMetadata metadata = new BatchChunkMetadata(
+					partitionName, jobBaseDir, entry.polygonStartByte(), entry.polygonRecordCount(),
+					entry.layerStartByte(), entry.layerRecordCount(), chunkNumber
+			);
+			metadata.setInputFolderName(BatchConstants.Partition.INPUT_FOLDER_NAME);
+			metadata.setCostFeatures(entry.costFeatures());
+			metadata.setPartitionChunkCount(entries.size());
+			chunks.add(metadata);
+			chunkPolygonRecordCounts.put(chunkNumber, entry.polygonRecordCount());
+
+			this.totalPolygonDataRecords += entry.polygonRecordCount();
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Scans the partition's files for the boundaries of each of its chunks.
+	 *
+	 * @param polygonChunkStartByteOffset the byte offset of the first data record of the polygon file
+	 * @param layerChunkStartByteOffset   the byte offset of the first data record of the layer file
+	 * @return the chunks, numbered from 1
+	 * @throws IOException if file scanning fails
+	 */
+	private List<BatchChunkMetadata> planChunks(long polygonChunkStartByteOffset, long layerChunkStartByteOffset)
+			throws IOException {
+		List<BatchChunkMetadata> chunks = new ArrayList<>();
+		int numPlannedPolygonRecords = 0;
+
+		while (numPlannedPolygonRecords < totalPolygonDataRecords) {
+			int chunkNumber = chunks.size() + 1;
+			int polygonRecordsInThisChunk = Math.min(chunkSize, totalPolygonDataRecords - numPlannedPolygonRecords);
+
+			// The chunk's cost features are gathered from its rows as they are scanned
+			PolygonCostFeatures costFeatures = new PolygonCostFeatures(yearRange);
+
+			// Scan polygon chunk to extract metadata (feature IDs and byte positions)
+			ChunkMetadata polygonChunkMetaData = getPolygonChunkMetadata(
+					polygonFilePath, polygonChunkStartByteOffset, polygonRecordsInThisChunk, costFeatures
+			);
+			if (polygonChunkMetaData.getRecordCount() == 0) {
+				break; // Fewer data records than counted; nothing more to plan
+			}
+
+			// Get layer chunk metadata by finding matching FEATURE_IDs starting from current position
+			Set<String> featureIdsInThisChunk = new LinkedHashSet<>(polygonChunkMetaData.getFeatureIds());
+			ChunkMetadata layerChunkMetadata = getMatchingLayerMetadata(
+					layerFilePath, layerChunkStartByteOffset, featureIdsInThisChunk, costFeatures
+			);
+
+			logger.trace(
+					"[GUID: {}, EXEID: {}, Partition: {}] Planned chunk {}: polygonStartByte={}, polygonRecordCount={}, layerStartByte={}, layerRecordCount={}",
+					jobGuid, jobExecutionId, partitionName, chunkNumber, polygonChunkMetaData.getStartByte(),
+					polygonChunkMetaData.getRecordCount(), layerChunkMetadata.getStartByte(),
+					layerChunkMetadata.getRecordCount()
+			);
+
+			BatchChunkMetadata metadata = new BatchChunkMetadata(
+					partitionName, jobBaseDir, polygonChunkMetaData.getStartByte(),
+					polygonChunkMetaData.getRecordCount(), layerChunkMetadata.getStartByte(),
+					layerChunkMetadata.getRecordCount(), chunkNumber
+			);
+			metadata.setCostFeatures(costFeatures);
+			chunks.add(metadata);
+			chunkPolygonRecordCounts.put(chunkNumber, polygonChunkMetaData.getRecordCount());
+
+			// Update position for next chunk
+			numPlannedPolygonRecords += polygonChunkMetaData.getRecordCount();
+			polygonChunkStartByteOffset = polygonChunkMetaData.getEndByte();
+			layerChunkStartByteOffset = layerChunkMetadata.getEndByte();
+		}
+
+		for (BatchChunkMetadata chunk : chunks) {
+			chunk.setPartitionChunkCount(chunks.size());
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Restores the numbers of the chunks completed by an earlier execution of the step. Chunk boundaries are planned
+	 * in the same way every time, so chunk numbers identify the same records across executions.
+	 *
+	 * @return the numbers of the completed chunks, which are empty when the step is starting afresh
+	 */
+	private Set<Integer> restorePersistedState(ExecutionContext executionContext) {
+		Set<Integer> completedChunks = new TreeSet<>();
+
+		if (executionContext.containsKey(COMPLETED_CHUNKS)) {
+			for (String chunkNumber : executionContext.getString(COMPLETED_CHUNKS).split(",")) {
+				if (!chunkNumber.isBlank()) {
+					completedChunks.add(Integer.parseInt(chunkNumber.trim()));
+				}
+			}
+		} else if (executionContext.containsKey(CURRENT_CHUNK_NUMBER)) {
+			// Persisted by a reader that read its partition's chunks strictly in order, before this one
+			for (int chunkNumber = 1; chunkNumber < executionContext.getInt(CURRENT_CHUNK_NUMBER); chunkNumber++) {
+				completedChunks.add(chunkNumber);
+			}
+		}
+
+		if (!completedChunks.isEmpty()) {
 			logger.info(
-					"[GUID: {}, EXEID: {}, Partition: {}] Restored persisted state from ExecutionContext: currentChunkNumber={}, totalPolygonRecords={}, numProcessedPolygonRecords={}, currentPolygonChunkStartByteOffset={}, currentLayerChunkStartByteOffset={}",
-					jobGuid, jobExecutionId, partitionName, currentChunkNumber, totalPolygonDataRecords,
-					numProcessedPolygonRecords, currentPolygonChunkStartByteOffset, currentLayerChunkStartByteOffset
+					"[GUID: {}, EXEID: {}, Partition: {}] Restored persisted state from ExecutionContext: completedChunks={}",
+					jobGuid, jobExecutionId, partitionName, completedChunks
 			);
 		}
 
-		return restoredState;
+		return completedChunks;
 	}
 
 	@Override
 	public void update(@NonNull ExecutionContext executionContext) {
-		// Persist current chunk details so we can resume without starting form the beginning
-		executionContext.putInt(CURRENT_CHUNK_NUMBER, this.currentChunkNumber);
+		// Each chunk read before this update is committed along with it
+		for (BatchChunkMetadata chunk : claimedChunks) {
+			chunkWorkQueue.complete(jobExecutionId, chunk);
+		}
+		claimedChunks.clear();
+
+		// Persist the partition's completed chunks, including any completed by other partitions' workers, so we can
+		// resume without starting from the beginning
+		Set<Integer> completedChunks = chunkWorkQueue.getCompletedChunks(jobExecutionId, partitionName);
+		int numProcessedPolygonRecords = completedChunks.stream()
+				.mapToInt(chunkNumber -> chunkPolygonRecordCounts.getOrDefault(chunkNumber, 0)).sum();
+
+		executionContext.putString(
+				COMPLETED_CHUNKS, completedChunks.stream().map(String::valueOf).collect(Collectors.joining(","))
+		);
 		executionContext.putInt(TOTAL_POLYGON_RECORDS, this.totalPolygonDataRecords);
-		executionContext.putInt(NUM_PROCESSED_POLYGON_RECORDS, this.numProcessedPolygonRecords);
-		executionContext.putLong(CURRENT_POLYGON_CHUNK_START_BYTE_OFFSET, this.currentPolygonChunkStartByteOffset);
-		executionContext.putLong(CURRENT_LAYER_CHUNK_OFFSET, this.currentLayerChunkStartByteOffset);
+		executionContext.putInt(NUM_PROCESSED_POLYGON_RECORDS, numProcessedPolygonRecords);
 	}
 
 	@Override
@@ -275,6 +372,15 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 				"[GUID: {}, EXEID: {}, Partition: {}] Closing BatchItemReader.", jobGuid, jobExecutionId, partitionName
 		);
 
+		if (readerOpened) {
+			// Chunks that were read but never committed are left for another worker, or for a restart
+			for (BatchChunkMetadata chunk : claimedChunks) {
+				chunkWorkQueue.release(jobExecutionId, chunk);
+			}
+			claimedChunks.clear();
+			chunkWorkQueue.deregister(jobExecutionId, partitionName);
+		}
+
 		readerOpened = false;
 	}
 
@@ -344,11 +450,12 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 	 * @throws IOException if file scanning fails
 	 */
 	private static ChunkMetadata getPolygonChunkMetadata(
-			Path polygonFilePath, long currentPolygonChunkStartByteOffset, int polygonRecordsInThisChunk
+			Path polygonFilePath, long currentPolygonChunkStartByteOffset, int polygonRecordsInThisChunk,
+			PolygonCostFeatures costFeatures
 	) throws IOException {
 		int lineSeparatorLength = BatchUtils.getLineSeparatorLength();
 		PolygonChunkScanner scanner = new PolygonChunkScanner(
-				currentPolygonChunkStartByteOffset, polygonRecordsInThisChunk, lineSeparatorLength
+				currentPolygonChunkStartByteOffset, polygonRecordsInThisChunk, lineSeparatorLength, costFeatures
 		);
 		return scanner.scanChunk(polygonFilePath);
 	}
@@ -365,11 +472,12 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 	 * @throws IOException if file scanning fails
 	 */
 	private static ChunkMetadata getMatchingLayerMetadata(
-			Path layerFilePath, long currentLayerChunkStartByteOffset, Set<String> featureIdsInThisChunk
+			Path layerFilePath, long currentLayerChunkStartByteOffset, Set<String> featureIdsInThisChunk,
+			PolygonCostFeatures costFeatures
 	) throws IOException {
 		int lineSeparatorLength = BatchUtils.getLineSeparatorLength();
 		LayerChunkScanner scanner = new LayerChunkScanner(
-				currentLayerChunkStartByteOffset, featureIdsInThisChunk, lineSeparatorLength
+				currentLayerChunkStartByteOffset, featureIdsInThisChunk, lineSeparatorLength, costFeatures
 		);
 		return scanner.scanChunk(layerFilePath);
 	}
@@ -385,17 +493,20 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 		private final long startByte;
 		private final int polygonRecordsInThisChunk;
 		private final int lineSeparatorLength;
+		private final PolygonCostFeatures costFeatures;
 
 		private final List<String> featureIds = new ArrayList<>();
 		private int recordsRead = 0;
 		private long currentByte;
 
 		PolygonChunkScanner(
-				long currentPolygonChunkStartByteOffset, int polygonRecordsInThisChunk, int lineSeparatorLength
+				long currentPolygonChunkStartByteOffset, int polygonRecordsInThisChunk, int lineSeparatorLength,
+				PolygonCostFeatures costFeatures
 		) {
 			this.startByte = currentPolygonChunkStartByteOffset;
 			this.polygonRecordsInThisChunk = polygonRecordsInThisChunk;
 			this.lineSeparatorLength = lineSeparatorLength;
+			this.costFeatures = costFeatures;
 			this.currentByte = startByte; // Start scanning from startByte directly
 		}
 
@@ -437,6 +548,7 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 				String featureId = BatchUtils.extractFeatureId(line);
 				if (featureId != null && !featureId.isEmpty()) {
 					featureIds.add(featureId);
+					costFeatures.addPolygon(line);
 					recordsRead++;
 
 					// Check if we've read enough records
@@ -481,6 +593,7 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 		private final long startByte;
 		private final Set<String> featureIdsInThisChunk;
 		private final int lineSeparatorLength;
+		private final PolygonCostFeatures costFeatures;
 
 		private final Set<String> remainingFeatureIds; // Tracks which feature IDs haven't been found yet (for early
 														// termination)
@@ -489,11 +602,13 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 		private int matchedLayerRecordCount = 0;
 
 		LayerChunkScanner(
-				long currentLayerChunkStartByteOffset, Set<String> featureIdsInThisChunk, int lineSeparatorLength
+				long currentLayerChunkStartByteOffset, Set<String> featureIdsInThisChunk, int lineSeparatorLength,
+				PolygonCostFeatures costFeatures
 		) {
 			this.startByte = currentLayerChunkStartByteOffset;
 			this.featureIdsInThisChunk = featureIdsInThisChunk; // for matching
 			this.lineSeparatorLength = lineSeparatorLength;
+			this.costFeatures = costFeatures;
 			this.currentBytePosition = startByte; // Start scanning from startByte directly
 
 			// for tracking which IDs are found (remove operation for early termination)
@@ -536,6 +651,7 @@ public class BatchItemReader implements ItemStreamReader<BatchChunkMetadata> {
 
 				if (shouldProcessRecord(featureId)) {
 					processMatchingRecord(featureId);
+					costFeatures.addLayer(line);
 					// Update currentBytePosition to point to the next record
 					currentBytePosition += lineBytes;
 				} else if (shouldStopReading(featureId)) {
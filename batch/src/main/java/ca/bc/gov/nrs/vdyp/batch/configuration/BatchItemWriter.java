@@ -17,6 +17,7 @@ import ca.bc.gov.nrs.vdyp.batch.exception.BatchProjectionException;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchResultStorageException;
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchProjectionService;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkProjectionSession;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters.ExecutionOption;
@@ -25,6 +26,9 @@ import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters.ExecutionOption;
  * Memory-efficient ItemWriter that processes chunk metadata by streaming data directly from partition files. This
  * writer implements the efficient streaming strategy where file data is read on-demand rather than being held in
  * memory.
+ *
+ * The chunks written by a step are projected in a single {@link ChunkProjectionSession}, which is opened when the step
+ * starts and closed when it ends.
  */
 public class BatchItemWriter implements ItemWriter<BatchChunkMetadata>, StepExecutionListener {
 
@@ -40,6 +44,7 @@ public class BatchItemWriter implements ItemWriter<BatchChunkMetadata>, StepExec
 	private Long jobExecutionId;
 	private String jobGuid;
 	private Parameters projectionParameters;
+	private ChunkProjectionSession projectionSession;
 
 	// Protects against multiple beforeStep() calls
 	private boolean initialized = false;
@@ -111,6 +116,8 @@ public class BatchItemWriter implements ItemWriter<BatchChunkMetadata>, StepExec
 				throw new IllegalStateException(configException.getMessage(), configException);
 			}
 
+			this.projectionSession = new ChunkProjectionSession(partitionName, this.projectionParameters);
+
 			// Mark as initialized to prevent subsequent calls
 			this.initialized = true;
 		} catch (JsonProcessingException jpe) {
@@ -130,6 +137,11 @@ public class BatchItemWriter implements ItemWriter<BatchChunkMetadata>, StepExec
 				"[GUID: {}, EXEID: {}, Partition: {}] BatchItemWriter.afterStep() called", this.jobGuid,
 				this.jobExecutionId, partitionName
 		);
+
+		if (this.projectionSession != null) {
+			this.projectionSession.close();
+		}
+
 		return stepExecution.getExitStatus();
 	}
 
@@ -162,7 +174,7 @@ public class BatchItemWriter implements ItemWriter<BatchChunkMetadata>, StepExec
 
 		// Perform chunk-based projection with streaming
 		String chunkResult = batchProjectionService
-				.performProjectionForChunk(chunkMetadata, this.projectionParameters, this.jobExecutionId, this.jobGuid);
+				.performProjectionForChunk(chunkMetadata, this.projectionSession, this.jobExecutionId, this.jobGuid);
 
 		logger.trace(
 				"[GUID: {}, EXEID: {}, Partition: {}] Successfully processed chunk of {} records. Result: {}",
@@ -10,12 +10,27 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.service.BatchResultAggregationService;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
 public class ChunkWriteListener implements ItemWriteListener<BatchChunkMetadata>, StepExecutionListener,
 		SkipListener<BatchChunkMetadata, BatchChunkMetadata> {
+	private final BatchResultAggregationService resultAggregationService;
+
 	private StepExecution stepExecution;
 
+	public ChunkWriteListener() {
+		this(null);
+	}
+
+	/**
+	 * @param resultAggregationService if not null, told of each completed chunk so that its results can be aggregated
+	 *                                 while the job is still running
+	 */
+	public ChunkWriteListener(BatchResultAggregationService resultAggregationService) {
+		this.resultAggregationService = resultAggregationService;
+	}
+
 	@Override
 	public void beforeStep(@NonNull StepExecution stepExecution) {
 		this.stepExecution = stepExecution;
@@ -51,6 +66,7 @@ public class ChunkWriteListener implements ItemWriteListener<BatchChunkMetadata>
 		polygonsSkipped += meta.getSkippedPolygonCount();
 		stepCtx.putInt(BatchConstants.Job.POLYGONS_SKIPPED, polygonsSkipped);
 
+		chunkCompleted(meta);
 	}
 
 	/**
@@ -65,6 +81,14 @@ public class ChunkWriteListener implements ItemWriteListener<BatchChunkMetadata>
 		int polygonsSkipped = stepCtx.getInt(BatchConstants.Job.POLYGONS_SKIPPED, 0);
 		polygonsSkipped += item.getPolygonRecordCount();
 		stepCtx.putInt(BatchConstants.Job.POLYGONS_SKIPPED, polygonsSkipped);
+
+		chunkCompleted(item);
+	}
+
+	private void chunkCompleted(BatchChunkMetadata meta) {
+		if (resultAggregationService != null) {
+			resultAggregationService.chunkCompleted(stepExecution.getJobExecutionId(), meta);
+		}
 	}
 
 }
@@ -14,6 +14,7 @@ import org.springframework.lang.NonNull;
 
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 public class DynamicPartitionHandler implements PartitionHandler {
@@ -65,6 +66,12 @@ public class DynamicPartitionHandler implements PartitionHandler {
 
 		logger.info("Starting VDYP FEATURE_ID-based parallel processing with {} partitions", actualNumPartitions);
 
+		// Estimated cost of each partition (set by DownloadAndPartitionTasklet for GUID flow)
+		dynamicPartitioner.setPartitionCosts(parsePartitionCosts(jobExecCtx));
+
+		// Number of polygon records written to each partition (set by DownloadAndPartitionTasklet for GUID flow)
+		dynamicPartitioner.setPartitionPolygonCounts(parsePartitionPolygonCounts(jobExecCtx));
+
 		// Set partition base directory for uploaded CSV files
 		String jobBaseDir = jobParameters.getString(BatchConstants.Job.BASE_DIR);
 		if (jobBaseDir != null) {
@@ -83,4 +90,32 @@ public class DynamicPartitionHandler implements PartitionHandler {
 		// Delegate to the configured handler
 		return handler.handle(stepSplitter, masterStepExecution);
 	}
+
+	private static double[] parsePartitionCosts(ExecutionContext jobExecCtx) {
+		if (!jobExecCtx.containsKey(BatchConstants.Partition.ESTIMATED_COSTS)) {
+			return null;
+		}
+
+		try {
+			return Arrays.stream(jobExecCtx.getString(BatchConstants.Partition.ESTIMATED_COSTS).split(","))
+					.filter(cost -> !cost.isBlank()).mapToDouble(Double::parseDouble).toArray();
+		} catch (NumberFormatException e) {
+			logger.warn("Ignoring invalid partition cost estimates: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static int[] parsePartitionPolygonCounts(ExecutionContext jobExecCtx) {
+		if (!jobExecCtx.containsKey(BatchConstants.Partition.POLYGON_RECORD_COUNTS)) {
+			return null;
+		}
+
+		try {
+			return Arrays.stream(jobExecCtx.getString(BatchConstants.Partition.POLYGON_RECORD_COUNTS).split(","))
+					.filter(count -> !count.isBlank()).mapToInt(Integer::parseInt).toArray();
+		} catch (NumberFormatException e) {
+			logger.warn("Ignoring invalid partition polygon record counts: {}", e.getMessage());
+			return null;
+		}
+	}
 }
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.batch.configuration;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,10 +18,30 @@ public class DynamicPartitioner implements Partitioner {
 
 	private String jobBaseDir;
 
+	private double[] partitionCosts;
+
+	private int[] partitionPolygonCounts;
+
 	public void setJobBaseDir(String jobBaseDir) {
 		this.jobBaseDir = jobBaseDir;
 	}
 
+	/**
+	 * Set the estimated cost of each partition, as chosen when the input was partitioned by cost, or null if there
+	 * are no estimates. Each partition's estimate is made available in its execution context.
+	 */
+	public void setPartitionCosts(double[] partitionCosts) {
+		this.partitionCosts = partitionCosts;
+	}
+
+	/**
+	 * Set the number of polygon records written to each partition's polygon file, or null if they are not known. Each
+	 * partition's count is made available in its execution context, so that its reader need not count them again.
+	 */
+	public void setPartitionPolygonCounts(int[] partitionPolygonCounts) {
+		this.partitionPolygonCounts = partitionPolygonCounts;
+	}
+
 	@Override
 	@NonNull
 	public Map<String, ExecutionContext> partition(int numPartitions) {
@@ -42,11 +63,26 @@ public class DynamicPartitioner implements Partitioner {
 			// Set empty FEATURE_IDs since they're already distributed in partition files
 			context.putString(BatchConstants.Partition.ASSIGNED_FEATURE_IDS, "");
 
+			if (partitionCosts != null && i < partitionCosts.length) {
+				context.putDouble(BatchConstants.Partition.ESTIMATED_COST, partitionCosts[i]);
+			}
+
+			if (partitionPolygonCounts != null && partitionPolygonCounts.length == numPartitions) {
+				context.putInt(BatchConstants.Partition.POLYGON_RECORD_COUNT, partitionPolygonCounts[i]);
+			}
+
 			partitions.put(partitionName, context);
 
 			logger.trace("Created execution context for partition {}", i);
 		}
 
+		if (partitionCosts != null && partitionCosts.length > 0) {
+			logger.debug(
+					"Estimated partition costs range from {} to {} ms", Arrays.stream(partitionCosts).min().orElse(0),
+					Arrays.stream(partitionCosts).max().orElse(0)
+			);
+		}
+
 		return partitions;
 	}
 }
@@ -74,6 +74,9 @@ public class VDYPJobMetricListener implements JobExecutionListener {
 			logger.error("Failed to finalize job metrics: {}", e.getMessage());
 		}
 
+		// Results streamed while the job ran are only kept by the aggregation of a successful job
+		resultAggregationService.discardStreamedResults(jobExecution.getId());
+
 		if (jobExecution.getStatus() == BatchStatus.STOPPED
 				&& batchProperties.getPartition().getInterimDirsCleanupEnabled()) {
 			try {
@@ -1,5 +1,7 @@
 package ca.bc.gov.nrs.vdyp.batch.model;
 
+import java.util.List;
+
 import org.springframework.lang.NonNull;
 
 /**
@@ -25,9 +27,15 @@ public class BatchChunkMetadata {
 	private final long layerStartByte; // Start byte offset of layer data records in this chunk
 	private final int layerRecordCount; // Number of layer data records matching polygon feature IDs in this chunk
 
+	private String inputFolderName; // Folder of the files of the chunk's records, when not its partition's own
+	private PolygonCostFeatures costFeatures; // Properties of the chunk's polygons that determine its cost
+	private int partitionChunkCount; // Number of chunks in this chunk's partition
+
 	private int errorCount; // Number of errors encountered while processing this chunk
 	private int skippedPolygonCount; // Number of errors encountered while processing this chunk
 
+	private List<YieldTableSegment> yieldTableSegments = List.of(); // Yield tables written for this chunk
+
 	public BatchChunkMetadata(
 			@NonNull String partitionName, @NonNull String jobBaseDir, long polygonStartByte, int polygonRecordCount,
 			long layerStartByte, int layerRecordCount, int currentChunkNumber
@@ -79,6 +87,34 @@ public class BatchChunkMetadata {
 				+ ", currentChunkNumber=" + currentChunkNumber + '}';
 	}
 
+	public void setInputFolderName(String inputFolderName) {
+		this.inputFolderName = inputFolderName;
+	}
+
+	/**
+	 * @return the folder, in the job's base directory, of the files of the chunk's records, or null if they are in
+	 *         its partition's input folder
+	 */
+	public String getInputFolderName() {
+		return inputFolderName;
+	}
+
+	public void setCostFeatures(PolygonCostFeatures costFeatures) {
+		this.costFeatures = costFeatures;
+	}
+
+	public PolygonCostFeatures getCostFeatures() {
+		return costFeatures;
+	}
+
+	public void setPartitionChunkCount(int partitionChunkCount) {
+		this.partitionChunkCount = partitionChunkCount;
+	}
+
+	public int getPartitionChunkCount() {
+		return partitionChunkCount;
+	}
+
 	public void setErrorCount(int errorLogCount) {
 		this.errorCount = errorLogCount;
 	}
@@ -94,4 +130,12 @@ public class BatchChunkMetadata {
 	public int getSkippedPolygonCount() {
 		return skippedPolygonCount;
 	}
+
+	public void setYieldTableSegments(List<YieldTableSegment> yieldTableSegments) {
+		this.yieldTableSegments = List.copyOf(yieldTableSegments);
+	}
+
+	public List<YieldTableSegment> getYieldTableSegments() {
+		return yieldTableSegments;
+	}
 }
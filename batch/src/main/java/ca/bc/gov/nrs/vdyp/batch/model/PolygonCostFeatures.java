@@ -0,0 +1,128 @@
+package ca.bc.gov.nrs.vdyp.batch.model;
+
+import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
+
+/**
+ * The properties of one or more polygons, read from their HCSV polygon and layer rows, that determine how long they
+ * take to project. Polygons are added one row at a time, so the features of a single polygon and of a whole chunk are
+ * gathered in the same way.
+ *
+ * Rows that are shorter than the standard HCSV layout simply contribute nothing for the missing columns.
+ *
+ * The years each polygon is grown depend on the range of the projection as well as on the polygon's reference year,
+ * so the features are gathered for a given {@link ProjectionYearRange}.
+ */
+public class PolygonCostFeatures {
+
+	/** Position of INVENTORY_STANDARD_CODE in a polygon row */
+	private static final int INVENTORY_STANDARD_CODE_FIELD = 6;
+	/** Position of REFERENCE_YEAR in a polygon row */
+	private static final int REFERENCE_YEAR_FIELD = 26;
+	/** Position of SPECIES_CD_1 in a layer row; SPECIES_CD_2 through SPECIES_CD_6 follow every second field */
+	private static final int FIRST_SPECIES_CODE_FIELD = 14;
+	private static final int MAX_SPECIES_PER_LAYER = 6;
+
+	/** Polygons grown for more years than this are treated as being grown for this many */
+	private static final int MAX_GROWTH_YEARS = 400;
+
+	private final ProjectionYearRange yearRange;
+
+	private int polygonCount;
+	private int layerCount;
+	private int speciesCount;
+	private int fipPolygonCount;
+	private long growthYears;
+
+	/**
+	 * @param yearRange the range of the projection the polygons are part of
+	 */
+	public PolygonCostFeatures(ProjectionYearRange yearRange) {
+		this.yearRange = yearRange;
+	}
+
+	/**
+	 * Restore the features of polygons that were gathered earlier, such as those recorded in a chunk index. Polygons
+	 * added to the result are not grown.
+	 *
+	 * @return the features with the given counts
+	 */
+	public static PolygonCostFeatures of(
+			int polygonCount, int layerCount, int speciesCount, int fipPolygonCount, long growthYears
+	) {
+		PolygonCostFeatures features = new PolygonCostFeatures(ProjectionYearRange.UNKNOWN);
+		features.polygonCount = polygonCount;
+		features.layerCount = layerCount;
+		features.speciesCount = speciesCount;
+		features.fipPolygonCount = fipPolygonCount;
+		features.growthYears = growthYears;
+		return features;
+	}
+
+	/**
+	 * Add a polygon, given its row of the polygon file.
+	 *
+	 * @param polygonCsvLine the polygon's row
+	 */
+	public void addPolygon(String polygonCsvLine) {
+		polygonCount++;
+
+		// Polygons of the FIP inventory standard are started with FIPSTART, which fits the stand with an iterative
+		// solver and is considerably more expensive than VRISTART.
+		if ("F".equalsIgnoreCase(BatchUtils.extractField(polygonCsvLine, INVENTORY_STANDARD_CODE_FIELD))) {
+			fipPolygonCount++;
+		}
+
+		Integer referenceYear = null;
+		String referenceYearText = BatchUtils.extractField(polygonCsvLine, REFERENCE_YEAR_FIELD);
+		if (referenceYearText != null) {
+			try {
+				referenceYear = Integer.valueOf(referenceYearText);
+			} catch (NumberFormatException e) {
+				// Left to the projection to report
+			}
+		}
+		growthYears += Math.min(yearRange.growthYears(referenceYear), MAX_GROWTH_YEARS);
+	}
+
+	/**
+	 * Add a layer of one of the polygons, given its row of the layer file.
+	 *
+	 * @param layerCsvLine the layer's row
+	 */
+	public void addLayer(String layerCsvLine) {
+		layerCount++;
+
+		for (int i = 0; i < MAX_SPECIES_PER_LAYER; i++) {
+			if (BatchUtils.extractField(layerCsvLine, FIRST_SPECIES_CODE_FIELD + 2 * i) != null) {
+				speciesCount++;
+			}
+		}
+	}
+
+	public int getPolygonCount() {
+		return polygonCount;
+	}
+
+	public int getLayerCount() {
+		return layerCount;
+	}
+
+	public int getSpeciesCount() {
+		return speciesCount;
+	}
+
+	public int getFipPolygonCount() {
+		return fipPolygonCount;
+	}
+
+	public long getGrowthYears() {
+		return growthYears;
+	}
+
+	@Override
+	public String toString() {
+		return "PolygonCostFeatures{" + "polygonCount=" + polygonCount + ", layerCount=" + layerCount
+				+ ", speciesCount=" + speciesCount + ", fipPolygonCount=" + fipPolygonCount + ", growthYears="
+				+ growthYears + '}';
+	}
+}
@@ -0,0 +1,99 @@
+package ca.bc.gov.nrs.vdyp.batch.model;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Strings;
+
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
+
+/**
+ * The range of a projection, taken from its parameters, as calendar years or as stand ages. Any bound may be missing,
+ * in which case the projection's defaults apply.
+ *
+ * @param yearStart the first calendar year of the projection
+ * @param yearEnd   the last calendar year of the projection
+ * @param ageStart  the first stand age of the projection
+ * @param ageEnd    the last stand age of the projection
+ */
+public record ProjectionYearRange(Integer yearStart, Integer yearEnd, Integer ageStart, Integer ageEnd) {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProjectionYearRange.class);
+
+	/** A projection whose range is not known */
+	public static final ProjectionYearRange UNKNOWN = new ProjectionYearRange(null, null, null, null);
+
+	/**
+	 * @param parameters the projection's parameters
+	 * @return the range of the projection with those parameters
+	 */
+	public static ProjectionYearRange of(Parameters parameters) {
+		if (parameters == null) {
+			return UNKNOWN;
+		}
+		return new ProjectionYearRange(
+				parseIntOrNull(parameters.getYearStart()), parseIntOrNull(parameters.getYearEnd()),
+				parseIntOrNull(parameters.getAgeStart()), parseIntOrNull(parameters.getAgeEnd())
+		);
+	}
+
+	/**
+	 * @param objectMapper   the mapper of projection parameters
+	 * @param parametersJson the projection's parameters, as given to the job
+	 * @return the range of the projection with those parameters, or {@link #UNKNOWN} if there are none or they can't
+	 *         be read
+	 */
+	public static ProjectionYearRange of(ObjectMapper objectMapper, String parametersJson) {
+		if (Strings.isNullOrEmpty(parametersJson)) {
+			return UNKNOWN;
+		}
+		try {
+			return of(objectMapper.readValue(parametersJson, Parameters.class));
+		} catch (IOException e) {
+			logger.warn("Unable to parse projection parameters for cost estimation: {}", e.getMessage());
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * The number of years a polygon is grown by this projection. A calendar year range covers the years between the
+	 * polygon's reference year and both of its bounds, since growth starts from the reference year and proceeds
+	 * backwards as well as forwards. Otherwise an age range covers the years between its bounds.
+	 *
+	 * @param referenceYear the polygon's reference year, or null if it doesn't have one
+	 * @return the number of years grown
+	 */
+	public int growthYears(Integer referenceYear) {
+		if (yearStart != null || yearEnd != null) {
+			Integer from = min(yearStart, referenceYear);
+			Integer to = max(yearEnd, referenceYear);
+			return from == null || to == null ? 0 : Math.max(0, to - from);
+		}
+		if (ageStart != null && ageEnd != null) {
+			return Math.max(0, ageEnd - ageStart);
+		}
+		return 0;
+	}
+
+	private static Integer min(Integer a, Integer b) {
+		return a == null ? b : b == null ? a : Integer.valueOf(Math.min(a, b));
+	}
+
+	private static Integer max(Integer a, Integer b) {
+		return a == null ? b : b == null ? a : Integer.valueOf(Math.max(a, b));
+	}
+
+	private static Integer parseIntOrNull(String value) {
+		if (Strings.isNullOrEmpty(value)) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(value.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package ca.bc.gov.nrs.vdyp.batch.model;
+
+import java.nio.file.Path;
+
+/**
+ * The part of a yield table file written for one chunk: the bytes from {@code start} up to, but not including,
+ * {@code end}. The chunks projected by a worker step are written one after another to the same yield table file, so
+ * each chunk's yield table is a segment of that file rather than a file of its own.
+ *
+ * @param file  the yield table file
+ * @param start the offset of the first byte of the segment
+ * @param end   the offset of the byte following the segment
+ */
+public record YieldTableSegment(Path file, long start, long end) {
+
+	/**
+	 * @return the segment that is the whole of the given file
+	 */
+	public static YieldTableSegment of(Path file) {
+		return new YieldTableSegment(file, 0, Long.MAX_VALUE);
+	}
+}
@@ -3,12 +3,16 @@ package ca.bc.gov.nrs.vdyp.batch.service;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -17,6 +21,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchPartitionException;
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
 import io.micrometer.common.lang.NonNull;
@@ -29,12 +35,25 @@ import io.micrometer.common.lang.NonNull;
  *
  * Partitioning Guarantees: - Each partition's layer file contains ONLY layers for FEATURE_IDs present in that
  * partition's polygon file - Partitioned layer files maintain FEATURE_ID sort order from the original input layer file
+ *
+ * Partitions are contiguous ranges of the polygon file. Files are partitioned so that each partition has the same
+ * number of polygons. Content that is partitioned as it is downloaded (see {@link #partitionCsvStreams}) is written
+ * once, to files shared by the partitions, which are ranges of its chunks with roughly the same estimated cost.
  */
 @Component
 public class BatchInputPartitioner {
 
 	private static final Logger logger = LoggerFactory.getLogger(BatchInputPartitioner.class);
 
+	/** Relative tolerance when comparing a partition's accumulated cost with its target */
+	private static final double COST_TOLERANCE = 1e-9;
+
+	private final PolygonCostModel costModel;
+
+	public BatchInputPartitioner(PolygonCostModel costModel) {
+		this.costModel = costModel;
+	}
+
 	/**
 	 * Partitions polygon and layer CSV files by FEATURE_ID into separate partition files.
 	 *
@@ -63,13 +82,15 @@ public class BatchInputPartitioner {
 	}
 
 	/**
-	 * Partitions polygon and layer CSV files by FEATURE_ID into separate partition files.
+	 * Partitions polygon and layer CSV files by FEATURE_ID into separate partition files, each with the same number of
+	 * polygons.
 	 *
 	 * @param polygonFile   The polygon CSV file to partition
 	 * @param layerFile     The layer CSV file to partition
 	 * @param numPartitions The number of partitions to create
 	 * @param jobBaseDir    The base directory for the job
 	 * @param jobGuid       The GUID of the job
+	 * @param totalPolygons The number of polygons in the polygon file
 	 * @return The total number of unique FEATURE_IDs processed
 	 * @throws BatchPartitionException if partitioning fails (I/O errors or validation failures)
 	 */
@@ -77,12 +98,34 @@ public class BatchInputPartitioner {
 			@NonNull Path polygonFile, @NonNull Path layerFile, @NonNull Integer numPartitions,
 			@NonNull Path jobBaseDir, @NonNull String jobGuid, int totalPolygons
 	) throws BatchPartitionException {
+		return partitionCsvFiles(
+				polygonFile, layerFile, calculateFeaturesPerPartition(totalPolygons, numPartitions), jobBaseDir,
+				jobGuid
+		);
+	}
+
+	/**
+	 * Partitions polygon and layer CSV files by FEATURE_ID into separate partition files, with the given number of
+	 * polygons in each.
+	 *
+	 * @param polygonFile          The polygon CSV file to partition
+	 * @param layerFile            The layer CSV file to partition
+	 * @param polygonsPerPartition The number of polygons of each partition, in order
+	 * @param jobBaseDir           The base directory for the job
+	 * @param jobGuid              The GUID of the job
+	 * @return The total number of unique FEATURE_IDs processed
+	 * @throws BatchPartitionException if partitioning fails (I/O errors or validation failures)
+	 */
+	public int partitionCsvFiles(
+			@NonNull Path polygonFile, @NonNull Path layerFile, @NonNull int[] polygonsPerPartition,
+			@NonNull Path jobBaseDir, @NonNull String jobGuid
+	) throws BatchPartitionException {
 
 		try (
 				BufferedReader polyReader = Files.newBufferedReader(polygonFile, StandardCharsets.UTF_8);
 				BufferedReader layerReader = Files.newBufferedReader(layerFile, StandardCharsets.UTF_8)
 		) {
-			return partitionCSVReaders(polyReader, layerReader, numPartitions, jobBaseDir, jobGuid, totalPolygons);
+			return partitionCSVReaders(polyReader, layerReader, polygonsPerPartition.clone(), jobBaseDir, jobGuid);
 		} catch (IOException e) {
 			throw BatchPartitionException.handlePartitionFailure(e, "Failed to open CSV files", jobGuid, logger);
 		}
@@ -93,21 +136,21 @@ public class BatchInputPartitioner {
 	 * so the output remains ordered and memory efficient. Logs warnings for any layer lines that do not have a matching
 	 * polygon FEATURE_ID.
 	 *
-	 * @param polygonReader A Buffered reader of the polygon CSV file to partition
-	 * @param layerReader   a Buffered reader of the layer CSV file to partition
-	 * @param numPartitions the number of partitions to create
-	 * @param jobBaseDir    The base directory for the job (A Property of the job)
-	 * @param jobGuid       The unique identifier for the job (A Property of the job)
+	 * @param polygonReader        A Buffered reader of the polygon CSV file to partition
+	 * @param layerReader          a Buffered reader of the layer CSV file to partition
+	 * @param polygonsPerPartition the number of polygons of each partition; consumed as they are written
+	 * @param jobBaseDir           The base directory for the job (A Property of the job)
+	 * @param jobGuid              The unique identifier for the job (A Property of the job)
 	 * @return the number of unique feature ids that have been written to the polygon partition files
 	 * @throws BatchPartitionException when there is a problem partitioning the file (e.g. invalid polygon feature ID)
 	 * @throws IOException             when there is an issue reading or writing files
 	 */
 	private int partitionCSVReaders(
-			BufferedReader polygonReader, BufferedReader layerReader, Integer numPartitions, Path jobBaseDir,
-			String jobGuid, int totalPolygons
+			BufferedReader polygonReader, BufferedReader layerReader, int[] polygonsPerPartition, Path jobBaseDir,
+			String jobGuid
 	) throws BatchPartitionException, IOException {
 		int uniqueFeatureIdCount = 0;
-		int[] polygonsPerPartition = calculateFeaturesPerPartition(totalPolygons, numPartitions);
+		int numPartitions = polygonsPerPartition.length;
 		Map<Integer, PrintWriter> polygonWriters = null;
 		Map<Integer, PrintWriter> layerWriters = null;
 		try (PrintWriter warningWriter = createWarningWriter(jobBaseDir)) {
@@ -135,7 +178,7 @@ public class BatchInputPartitioner {
 			Long layerFeatureId = null;
 			int partition = 0;
 			while (polygonLine != null) {
-				if (polygonsPerPartition[partition] <= 0) {
+				while (partition < numPartitions - 1 && polygonsPerPartition[partition] <= 0) {
 					partition++;
 				}
 				Long polygonFeatureId = BatchUtils.extractFeatureIdLong(polygonLine);
@@ -192,6 +235,289 @@ public class BatchInputPartitioner {
 		return uniqueFeatureIdCount;
 	}
 
+	/**
+	 * The partitions of an input, of consecutive chunks.
+	 *
+	 * @param polygonRecordCounts the number of polygon records of each partition, in order
+	 * @param estimatedCosts      the estimated cost of each partition, in milliseconds
+	 */
+	public record PartitionedInput(int[] polygonRecordCounts, double[] estimatedCosts) {
+
+		/**
+		 * @return the number of partitions
+		 */
+		public int partitionCount() {
+			return polygonRecordCounts.length;
+		}
+
+		/**
+		 * @return the number of polygon records of all partitions
+		 */
+		public int totalPolygonRecords() {
+			return Arrays.stream(polygonRecordCounts).sum();
+		}
+	}
+
+	/**
+	 * Partitions polygon and layer CSV content, such as that of the files as they are downloaded, in a single pass.
+	 * Polygons are written with their layers, in order, to the polygon and layer files of the job's input directory
+	 * (see {@link BatchConstants.Partition#INPUT_FOLDER_NAME}), and are grouped into chunks of {@code chunkSize}
+	 * polygons whose offsets, record counts and {@link PolygonCostFeatures} are recorded as they are written. Once the
+	 * content has been read, the chunks are divided into partitions of consecutive chunks, each with roughly the same
+	 * cost estimated by the {@link PolygonCostModel}, and the chunks of each partition are recorded in its
+	 * {@link InputChunkIndex}. Layers with no matching polygon are reported in the job's warnings, as they are when
+	 * files are partitioned.
+	 *
+	 * Neither stream is closed.
+	 *
+	 * @param polygonContent The content of the polygon CSV file
+	 * @param layerContent   The content of the layer CSV file
+	 * @param chunkSize      The number of polygons of each chunk
+	 * @param maxPartitions  The greatest number of partitions to create; fewer are created if there are fewer chunks
+	 * @param yearRange      The range of the job's projection
+	 * @param jobBaseDir     The base directory for the job
+	 * @param jobGuid        The GUID of the job
+	 * @return the partitions
+	 * @throws IOException              if the content cannot be read or the files cannot be written
+	 * @throws IllegalArgumentException if the content has no polygons, or a polygon row has no valid FEATURE_ID
+	 */
+	public PartitionedInput partitionCsvStreams(
+			@NonNull InputStream polygonContent, @NonNull InputStream layerContent, int chunkSize, int maxPartitions,
+			@NonNull ProjectionYearRange yearRange, @NonNull Path jobBaseDir, @NonNull String jobGuid
+	) throws IOException {
+		// Not closed, which would close the streams
+		var polygonReader = new BufferedReader(new InputStreamReader(polygonContent, StandardCharsets.UTF_8));
+		var layerReader = new BufferedReader(new InputStreamReader(layerContent, StandardCharsets.UTF_8));
+
+		Path inputDir = jobBaseDir.resolve(BatchConstants.Partition.INPUT_FOLDER_NAME);
+		Files.createDirectories(inputDir);
+
+		List<InputChunkIndex.Entry> chunks = new ArrayList<>();
+		try (
+				PrintWriter warningWriter = createWarningWriter(jobBaseDir);
+				CountingLineWriter polygonWriter = new CountingLineWriter(
+						inputDir.resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME)
+				);
+				CountingLineWriter layerWriter = new CountingLineWriter(
+						inputDir.resolve(BatchConstants.Partition.INPUT_LAYER_FILE_NAME)
+				)
+		) {
+			String polygonLine = readFirstDataLine(polygonReader);
+			String layerLine = readFirstDataLine(layerReader);
+			if (polygonLine == null) {
+				throw new IllegalArgumentException("Input files contain no data lines");
+			}
+			Long layerFeatureId = BatchUtils.extractFeatureIdLong(layerLine);
+
+			ChunkBuilder chunk = null;
+			while (polygonLine != null) {
+				Long polygonFeatureId = BatchUtils.extractFeatureIdLong(polygonLine);
+				if (polygonFeatureId == null) {
+					throw new IllegalArgumentException(
+							String.format("Polygon row missing FEATURE_ID: %s", polygonLine)
+					);
+				}
+
+				if (chunk == null) {
+					chunk = new ChunkBuilder(polygonWriter.getBytesWritten(), layerWriter.getBytesWritten(), yearRange);
+				}
+				polygonWriter.writeLine(polygonLine);
+				chunk.addPolygon(polygonLine);
+
+				// Layers before the polygon's have no polygon of their own
+				while (layerLine != null
+						&& (layerFeatureId == null || layerFeatureId.compareTo(polygonFeatureId) < 0)) {
+					handleOrphanLayerLine(warningWriter, layerLine, jobGuid);
+					layerLine = readNextNonBlankLine(layerReader);
+					layerFeatureId = BatchUtils.extractFeatureIdLong(layerLine);
+				}
+				while (layerFeatureId != null && layerFeatureId.compareTo(polygonFeatureId) == 0) {
+					layerWriter.writeLine(layerLine);
+					chunk.addLayer(layerLine);
+					layerLine = readNextNonBlankLine(layerReader);
+					layerFeatureId = BatchUtils.extractFeatureIdLong(layerLine);
+				}
+
+				if (chunk.getPolygonRecordCount() >= chunkSize) {
+					chunks.add(chunk.build());
+					chunk = null;
+				}
+				polygonLine = readNextNonBlankLine(polygonReader);
+			}
+			if (chunk != null) {
+				chunks.add(chunk.build());
+			}
+
+			while (layerLine != null) {
+				handleOrphanLayerLine(warningWriter, layerLine, jobGuid);
+				layerLine = readNextNonBlankLine(layerReader);
+			}
+		}
+
+		return writePartitionIndexes(chunks, maxPartitions, jobBaseDir, jobGuid);
+	}
+
+	/**
+	 * Divides chunks into partitions of consecutive chunks with roughly the same estimated cost, and records the chunks
+	 * of each partition in its index.
+	 */
+	private PartitionedInput writePartitionIndexes(
+			List<InputChunkIndex.Entry> chunks, int maxPartitions, Path jobBaseDir, String jobGuid
+	) throws IOException {
+		double[] chunkCosts = chunks.stream().mapToDouble(chunk -> costModel.estimate(chunk.costFeatures())).toArray();
+		int numPartitions = Math.max(1, Math.min(chunks.size(), maxPartitions));
+		int[] chunksPerPartition = calculateChunksPerPartition(chunkCosts, numPartitions);
+
+		int[] polygonRecordCounts = new int[numPartitions];
+		int next = 0;
+		for (int partition = 0; partition < numPartitions; partition++) {
+			List<InputChunkIndex.Entry> partitionChunks = chunks.subList(next, next + chunksPerPartition[partition]);
+			next += chunksPerPartition[partition];
+
+			polygonRecordCounts[partition] = partitionChunks.stream()
+					.mapToInt(InputChunkIndex.Entry::polygonRecordCount).sum();
+			InputChunkIndex.write(
+					jobBaseDir.resolve(BatchConstants.Partition.INPUT_FOLDER_NAME_PREFIX + partition), partitionChunks
+			);
+		}
+
+		PartitionedInput partitionedInput = new PartitionedInput(
+				polygonRecordCounts, calculatePartitionCosts(chunkCosts, chunksPerPartition)
+		);
+
+		logger.debug(
+				"[GUID: {}] Partitioned {} polygons in {} chunks into {} partitions with an estimated cost of {} ms",
+				jobGuid, partitionedInput.totalPolygonRecords(), chunks.size(), numPartitions,
+				Math.round(Arrays.stream(chunkCosts).sum())
+		);
+
+		return partitionedInput;
+	}
+
+	/**
+	 * Chooses partition boundaries so that each partition of consecutive chunks has roughly the same total estimated
+	 * cost. Each partition takes chunks while that brings it nearer its share of the cost still to be assigned. Every
+	 * partition gets at least one chunk if there are enough of them.
+	 *
+	 * @param chunkCosts    the estimated cost of each chunk, in input order
+	 * @param numPartitions the number of partitions to create
+	 * @return array where index = partition number, value = number of chunks for that partition
+	 */
+	public static int[] calculateChunksPerPartition(double[] chunkCosts, int numPartitions) {
+		int[] chunksPerPartition = new int[numPartitions];
+
+		double remainingCost = Arrays.stream(chunkCosts).sum();
+		int next = 0;
+		for (int partition = 0; partition < numPartitions && next < chunkCosts.length; partition++) {
+			int partitionsLeft = numPartitions - partition;
+			if (partitionsLeft == 1) {
+				chunksPerPartition[partition] = chunkCosts.length - next;
+				break;
+			}
+
+			double target = remainingCost / partitionsLeft;
+			int lastAvailable = chunkCosts.length - partitionsLeft; // leave one for each later partition
+			double cost = chunkCosts[next++];
+			chunksPerPartition[partition] = 1;
+			// Take the next chunk while that leaves the partition's cost nearer its target
+			while (next <= lastAvailable && cost + chunkCosts[next] / 2 <= target * (1.0 + COST_TOLERANCE)) {
+				cost += chunkCosts[next++];
+				chunksPerPartition[partition]++;
+			}
+
+			remainingCost -= cost;
+		}
+
+		logger.debug(
+				"Distributing {} chunks across {} partitions by estimated cost: distribution = {}", chunkCosts.length,
+				numPartitions, chunksPerPartition
+		);
+
+		return chunksPerPartition;
+	}
+
+	/**
+	 * @param chunkCosts         the estimated cost of each chunk, in input order
+	 * @param chunksPerPartition the number of chunks of each partition, in order
+	 * @return the total estimated cost of each partition
+	 */
+	public static double[] calculatePartitionCosts(double[] chunkCosts, int[] chunksPerPartition) {
+		double[] partitionCosts = new double[chunksPerPartition.length];
+
+		int next = 0;
+		for (int partition = 0; partition < chunksPerPartition.length; partition++) {
+			for (int i = 0; i < chunksPerPartition[partition] && next < chunkCosts.length; i++) {
+				partitionCosts[partition] += chunkCosts[next++];
+			}
+		}
+
+		return partitionCosts;
+	}
+
+	/**
+	 * Gathers the position, record counts and cost features of a chunk as its records are written.
+	 */
+	private static class ChunkBuilder {
+		private final long polygonStartByte;
+		private final long layerStartByte;
+		private final PolygonCostFeatures costFeatures;
+
+		ChunkBuilder(long polygonStartByte, long layerStartByte, ProjectionYearRange yearRange) {
+			this.polygonStartByte = polygonStartByte;
+			this.layerStartByte = layerStartByte;
+			this.costFeatures = new PolygonCostFeatures(yearRange);
+		}
+
+		void addPolygon(String polygonLine) {
+			costFeatures.addPolygon(polygonLine);
+		}
+
+		void addLayer(String layerLine) {
+			costFeatures.addLayer(layerLine);
+		}
+
+		int getPolygonRecordCount() {
+			return costFeatures.getPolygonCount();
+		}
+
+		InputChunkIndex.Entry build() {
+			return new InputChunkIndex.Entry(
+					polygonStartByte, costFeatures.getPolygonCount(), layerStartByte, costFeatures.getLayerCount(),
+					costFeatures
+			);
+		}
+	}
+
+	/**
+	 * Writes lines to a file, keeping count of the bytes written so that the offset of each line is known without
+	 * reading the file again.
+	 */
+	private static class CountingLineWriter implements AutoCloseable {
+		private final BufferedWriter writer;
+		private final String lineSeparator = System.lineSeparator();
+		private final int lineSeparatorLength = BatchUtils.getLineSeparatorLength();
+		private long bytesWritten;
+
+		CountingLineWriter(Path file) throws IOException {
+			this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+		}
+
+		void writeLine(String line) throws IOException {
+			writer.write(line);
+			writer.write(lineSeparator);
+			bytesWritten += line.getBytes(StandardCharsets.UTF_8).length + lineSeparatorLength;
+		}
+
+		long getBytesWritten() {
+			return bytesWritten;
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+	}
+
 	private void handleOrphanLayerLine(PrintWriter warningWriter, String layerLine, String jobGuid) {
 		String message = String.format(
 				"Job GUID: [%s] Orphan layer line has no matching polygon [Out of order or invalid feature id, skipping: %s",
@@ -213,6 +539,14 @@ public class BatchInputPartitioner {
 		return null;
 	}
 
+	private static String readFirstDataLine(BufferedReader reader) throws IOException {
+		String line = readNextNonBlankLine(reader);
+		if (line != null && BatchUtils.isHeaderLine(line)) {
+			line = readNextNonBlankLine(reader);
+		}
+		return line;
+	}
+
 	/**
 	 * Count total FEATURE_IDs in polygon file, skipping header lines if present.
 	 *
@@ -15,6 +15,8 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
@@ -26,11 +28,9 @@ import ca.bc.gov.nrs.vdyp.batch.util.BatchRangeInputStream;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters.ExecutionOption;
-import ca.bc.gov.nrs.vdyp.ecore.model.v1.ProjectionRequestKind;
 import ca.bc.gov.nrs.vdyp.ecore.projection.PolygonProjectionRunner;
 import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionRunner;
 import ca.bc.gov.nrs.vdyp.ecore.projection.ValidatedParameters;
-import ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable.YieldTable;
 import ca.bc.gov.nrs.vdyp.ecore.utils.ParameterNames;
 import ca.bc.gov.nrs.vdyp.ecore.utils.Utils;
 
@@ -44,19 +44,59 @@ public class BatchProjectionService {
 
 	static {
 		PolygonProjectionRunner.initializeSiteIndexCurves();
+		PolygonProjectionRunner.initializeControlMapCache();
+	}
+
+	/** Number of polygons of a chunk that are projected at once; 1 projects them sequentially. */
+	@Value("${batch.projection.polygon-parallelism:1}")
+	private int polygonParallelism;
+
+	/** Refined with the time taken by each chunk, for the partitioning of later jobs */
+	private final PolygonCostModel costModel;
+
+	@Autowired
+	public BatchProjectionService(PolygonCostModel costModel) {
+		this.costModel = costModel;
+	}
+
+	BatchProjectionService() {
+		this(new PolygonCostModel());
 	}
 
 	/**
-	 * Performs VDYP projection for a chunk by streaming data directly from partition files. This method creates input
-	 * streams for the specified record range and runs a single projection operation, avoiding memory duplication.
+	 * Performs VDYP projection for a single chunk, in a session of its own.
 	 *
 	 * @return Projection result summary for the chunk
+	 * @see #performProjectionForChunk(BatchChunkMetadata, ChunkProjectionSession, Long, String)
 	 */
 	public String performProjectionForChunk(
 			@NonNull BatchChunkMetadata chunkMetadata, @NonNull Parameters projectionParameters,
 			@NonNull Long jobExecutionId, @NonNull String jobGuid
 	) throws BatchResultStorageException, BatchProjectionException {
 
+		try (
+				ChunkProjectionSession session = new ChunkProjectionSession(
+						chunkMetadata.getPartitionName(), projectionParameters
+				)
+		) {
+			return performProjectionForChunk(chunkMetadata, session, jobExecutionId, jobGuid);
+		}
+	}
+
+	/**
+	 * Performs VDYP projection for a chunk by streaming data directly from partition files. This method creates input
+	 * streams for the specified record range and runs a single projection operation, avoiding memory duplication. The
+	 * projection is a run of the session's runner, which is kept for the session's next chunk unless this one fails.
+	 * Its yield tables are appended to those of the session's partition, and its logs stored in the output directory
+	 * of the chunk's partition.
+	 *
+	 * @return Projection result summary for the chunk
+	 */
+	public String performProjectionForChunk(
+			@NonNull BatchChunkMetadata chunkMetadata, @NonNull ChunkProjectionSession session,
+			@NonNull Long jobExecutionId, @NonNull String jobGuid
+	) throws BatchResultStorageException, BatchProjectionException {
+
 		String partitionName = chunkMetadata.getPartitionName();
 		String jobBaseDir = chunkMetadata.getJobBaseDir();
 		int chunkNumber = chunkMetadata.getCurrentChunkNumber();
@@ -71,46 +111,47 @@ public class BatchProjectionService {
 		Map<String, InputStream> inputStreams = null;
 		try {
 			Path outputPartitionDir = createOutputPartitionDir(partitionName, jobBaseDir);
+			Path yieldTableDir = createOutputPartitionDir(session.getPartitionName(), jobBaseDir);
 
 			// Create input streams directly from partition files
 			inputStreams = createInputStreamsFromChunkMetadata(chunkMetadata);
 
 			String chunkFilePrefix = BatchUtils.batchChunkFilenamePrefix(chunkNumber);
 
-			try (
-					ProjectionRunner runner = new ProjectionRunner(
-							ProjectionRequestKind.HCSV, chunkFilePrefix, projectionParameters, false
-					)
-			) {
+			ProjectionRunner runner = session.startChunk(yieldTableDir, Math.max(1, polygonParallelism));
 
-				logger.debug(
-						"[GUID: {}, EXEID: {}] Running HCSV projection {} for chunk of {} records in partition {}",
-						jobGuid, jobExecutionId, chunkFilePrefix, polygonRecordCount, partitionName
-				);
-
-				// Run the projection on the streamed data
-				runner.run(inputStreams);
+			logger.debug(
+					"[GUID: {}, EXEID: {}] Running HCSV projection {} for chunk of {} records in partition {}", jobGuid,
+					jobExecutionId, chunkFilePrefix, polygonRecordCount, partitionName
+			);
 
-				// Store intermediate results
-				storeChunkIntermediateResults(runner, outputPartitionDir, chunkFilePrefix, polygonRecordCount);
+			// Run the projection on the streamed data
+			long startTimeMillis = System.currentTimeMillis();
+			runner.run(inputStreams);
+			costModel.recordTiming(chunkMetadata.getCostFeatures(), System.currentTimeMillis() - startTimeMillis);
 
-				updateChunkMetaDataFromRunner(runner, chunkMetadata);
+			// Store intermediate results before the session's next chunk replaces them in the runner
+			storeChunkIntermediateResults(runner, outputPartitionDir, chunkFilePrefix, polygonRecordCount);
+			session.completeChunk(chunkMetadata);
 
-				String result = String.format(
-						"Chunk projection completed for %d records in partition %s. Results stored", polygonRecordCount,
-						partitionName
-				);
+			updateChunkMetaDataFromRunner(runner, chunkMetadata);
 
-				logger.debug(
-						"[GUID: {}, EXEID: {}] VDYP chunk projection completed for {} records in partition {}. Intermediate results stored",
-						jobGuid, jobExecutionId, polygonRecordCount, partitionName
-				);
+			String result = String.format(
+					"Chunk projection completed for %d records in partition %s. Results stored", polygonRecordCount,
+					partitionName
+			);
 
-				return result;
+			logger.debug(
+					"[GUID: {}, EXEID: {}] VDYP chunk projection completed for {} records in partition {}. Intermediate results stored",
+					jobGuid, jobExecutionId, polygonRecordCount, partitionName
+			);
 
-			}
+			return result;
 
 		} catch (IOException e) {
+			// Polygons of the failed run may still be being projected; the next chunk gets a runner of its own
+			session.abandonChunk();
+
 			String firstFeatureId = extractFirstFeatureId(chunkMetadata);
 			BatchResultStorageException storageException = BatchResultStorageException.handleResultStorageFailure(
 					e, "Failed to store projection results", jobGuid, jobExecutionId, firstFeatureId, logger
@@ -124,6 +165,8 @@ public class BatchProjectionService {
 			writeChunkSkipErrorLog(chunkMetadata, skipMessage);
 			throw storageException;
 		} catch (Exception e) {
+			session.abandonChunk();
+
 			// All other exceptions from extended-core - wrap as BatchProjectionException
 			String firstFeatureId = extractFirstFeatureId(chunkMetadata);
 			BatchProjectionException projectionException = BatchProjectionException.handleProjectionFailure(
@@ -149,9 +192,7 @@ public class BatchProjectionService {
 			return null;
 		}
 
-		String inputPartitionFolderName = BatchUtils.buildInputPartitionFolderName(chunkMetadata.getPartitionName());
-		Path polygonFile = Paths.get(chunkMetadata.getJobBaseDir(), inputPartitionFolderName)
-				.resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME);
+		Path polygonFile = resolveInputDir(chunkMetadata).resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME);
 
 		try (
 				InputStream in = BatchRangeInputStream.create(polygonFile, chunkMetadata.getPolygonStartByte(), 1);
@@ -237,19 +278,16 @@ public class BatchProjectionService {
 	private Map<String, InputStream> createInputStreamsFromChunkMetadata(BatchChunkMetadata chunkMetadata)
 			throws IOException {
 
-		String partitionName = chunkMetadata.getPartitionName();
-		String jobBaseDir = chunkMetadata.getJobBaseDir();
 		long polygonStartByte = chunkMetadata.getPolygonStartByte();
 		int polygonRecordCount = chunkMetadata.getPolygonRecordCount();
 		long layerStartByte = chunkMetadata.getLayerStartByte();
 		int layerRecordCount = chunkMetadata.getLayerRecordCount();
 
-		// Get partition directory
-		String inputPartitionFolderName = BatchUtils.buildInputPartitionFolderName(partitionName);
-		Path partitionDir = Paths.get(jobBaseDir, inputPartitionFolderName);
+		// Get input directory
+		Path inputDir = resolveInputDir(chunkMetadata);
 
-		Path polygonFile = partitionDir.resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME);
-		Path layerFile = partitionDir.resolve(BatchConstants.Partition.INPUT_LAYER_FILE_NAME);
+		Path polygonFile = inputDir.resolve(BatchConstants.Partition.INPUT_POLYGON_FILE_NAME);
+		Path layerFile = inputDir.resolve(BatchConstants.Partition.INPUT_LAYER_FILE_NAME);
 
 		// Create polygon stream starting at the data record offset
 		InputStream polygonStream = BatchRangeInputStream.create(polygonFile, polygonStartByte, polygonRecordCount);
@@ -278,6 +316,16 @@ public class BatchProjectionService {
 		return inputStreams;
 	}
 
+	/**
+	 * @return the directory of the files of a chunk's records: the input folder shared by the partitions if it was
+	 *         recorded in the chunk, otherwise the chunk's partition's input folder
+	 */
+	private static Path resolveInputDir(BatchChunkMetadata chunkMetadata) {
+		String inputFolderName = chunkMetadata.getInputFolderName() != null ? chunkMetadata.getInputFolderName()
+				: BatchUtils.buildInputPartitionFolderName(chunkMetadata.getPartitionName());
+		return Paths.get(chunkMetadata.getJobBaseDir(), inputFolderName);
+	}
+
 	/**
 	 * Logs chunk input data for debugging purposes. This method reads and logs the actual polygon and layer data that
 	 * will be sent to extended-core for projection.
@@ -345,7 +393,8 @@ public class BatchProjectionService {
 	}
 
 	/**
-	 * Stores intermediate results for a chunk.
+	 * Stores intermediate results for a chunk: its logs, its yield tables having been written to the session's as it
+	 * was projected.
 	 *
 	 * @throws IOException if result storage fails
 	 */
@@ -355,8 +404,6 @@ public class BatchProjectionService {
 
 		logger.debug("Storing intermediate results for chunk projection {} ({} records)", filePrefix, recordCount);
 
-		storeChunkYieldTables(runner, partitionOutputDir, filePrefix, recordCount);
-
 		storeChunkLogs(runner, partitionOutputDir, filePrefix, recordCount);
 
 		logger.debug(
@@ -365,77 +412,6 @@ public class BatchProjectionService {
 		);
 	}
 
-	/**
-	 * Stores yield tables from chunk projection.
-	 *
-	 * @throws IOException if yield table storage fails
-	 */
-	private void storeChunkYieldTables(ProjectionRunner runner, Path partitionDir, String filePrefix, int recordCount)
-			throws IOException {
-		if (runner == null || runner.getContext() == null) {
-			logger.warn("Cannot store yield tables: ProjectionRunner or context is null");
-			return;
-		}
-
-		var yieldTables = runner.getContext().getYieldTables();
-		if (yieldTables == null || yieldTables.isEmpty()) {
-			logger.warn(
-					"WARNING: No yield tables returned from extended-core for projection {} ({} input records)",
-					filePrefix, recordCount
-			);
-			return;
-		}
-
-		logger.trace(
-				"Extended-core returned {} yield table(s) for projection {} ({} input records)", yieldTables.size(),
-				filePrefix, recordCount
-		);
-
-		for (YieldTable yieldTable : yieldTables) {
-			storeYieldTable(yieldTable, partitionDir, filePrefix, recordCount);
-		}
-	}
-
-	/**
-	 * Stores a single yield table file.
-	 *
-	 * @throws IOException if file copy fails
-	 */
-	private void storeYieldTable(YieldTable yieldTable, Path partitionDir, String filePrefix, int recordCount)
-			throws IOException {
-		if (yieldTable == null) {
-			logger.warn("Skipping null yield table in projection {}", filePrefix);
-			return;
-		}
-
-		String yieldTableFileName = yieldTable.getOutputFormat().getYieldTableFileName();
-		// Add chunk prefix to maintain traceability
-		String prefixedFileName = String.format("%s_%s", filePrefix, yieldTableFileName);
-		Path yieldTablePath = partitionDir.resolve(prefixedFileName);
-
-		try (InputStream yieldTableStream = yieldTable.getAsStream()) {
-			if (yieldTableStream == null) {
-				logger.warn("Skipping yield table with null stream: {}", prefixedFileName);
-				return;
-			}
-
-			// Copy stream and track actual bytes written
-			long bytesWritten = Files.copy(yieldTableStream, yieldTablePath, StandardCopyOption.REPLACE_EXISTING);
-
-			if (bytesWritten == 0) {
-				logger.trace(
-						"WARNING: Yield table file created but is EMPTY: {} (0 bytes written, {} input records)",
-						prefixedFileName, recordCount
-				);
-			} else {
-				logger.trace(
-						"Stored yield table: {} ({} bytes written from extended-core for {} input records)",
-						prefixedFileName, bytesWritten, recordCount
-				);
-			}
-		}
-	}
-
 	/**
 	 * Stores log files from chunk projection.
 	 *
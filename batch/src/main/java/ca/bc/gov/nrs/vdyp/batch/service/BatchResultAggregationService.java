@@ -5,13 +5,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
@@ -25,7 +28,9 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchResultAggregationException;
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
 import ca.bc.gov.nrs.vdyp.batch.model.VDYPProjectionProgressUpdate;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
 
@@ -41,6 +46,9 @@ public class BatchResultAggregationService {
 	@Value("${batch.partition.min-valid-file-size}")
 	private int minValidFileSize;
 
+	/** Yield tables being streamed into the result ZIP of each running job, by job execution ID */
+	private final Map<Long, StreamedYieldTable> streamedYieldTables = new ConcurrentHashMap<>();
+
 	/**
 	 * Aggregates all partition results into a single consolidated ZIP file within the job directory.
 	 *
@@ -71,12 +79,34 @@ public class BatchResultAggregationService {
 
 			if (partitionOutputDirs.isEmpty()) {
 				logger.warn("No partition output directories found for aggregation");
+				discardStreamedResults(jobExecutionId);
 				return createEmptyResultZip(finalZipPath);
 			}
 
+			Map<String, List<YieldTableSegment>> allYieldTableSegments = collectYieldTables(partitionOutputDirs);
+
+			// Use the yield table streamed while the chunks completed, if it holds exactly these files
+			StreamedYieldTable streamedYieldTable = streamedYieldTables.remove(jobExecutionId);
+			YieldTableMerger streamedMerger = streamedYieldTable == null ? null
+					: streamedYieldTable.finish(allYieldTableSegments);
+			if (streamedMerger != null) {
+				try (ZipOutputStream zipOut = streamedYieldTable.getZipOutputStream()) {
+					finishYieldTable(
+							streamedMerger, zipOut, partitionOutputDirs,
+							allYieldTableSegments.values().iterator().next().size()
+					);
+					aggregateLogs(partitionOutputDirs, zipOut);
+					writeTotalProgress(zipOut, finalProgress, duration);
+				}
+				Files.move(streamedYieldTable.getPartialZipPath(), finalZipPath, StandardCopyOption.REPLACE_EXISTING);
+				logger.info("Successfully created consolidated ZIP file from streamed yield table: {}", finalZipPath);
+
+				return finalZipPath;
+			}
+
 			// Aggregate results
 			try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(finalZipPath))) {
-				aggregateYieldTables(partitionOutputDirs, zipOut);
+				aggregateYieldTables(allYieldTableSegments, partitionOutputDirs, zipOut);
 				aggregateLogs(partitionOutputDirs, zipOut);
 				writeTotalProgress(zipOut, finalProgress, duration);
 				logger.info("Successfully created consolidated ZIP file: {}", finalZipPath);
@@ -87,6 +117,40 @@ public class BatchResultAggregationService {
 		} catch (IOException e) {
 			throw BatchResultAggregationException
 					.handleResultAggregationFailure(e, "Failed to aggregate results", jobGuid, jobExecutionId, logger);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw BatchResultAggregationException.handleResultAggregationFailure(
+					e, "Interrupted while aggregating results", jobGuid, jobExecutionId, logger
+			);
+		}
+	}
+
+	/**
+	 * Records that a chunk of a running job has been completed, whether its polygons were projected or skipped. The
+	 * chunk's yield table is appended to the job's result ZIP as soon as every chunk before it, in partition and chunk
+	 * order, has been appended, so that little is left to merge once the last chunk completes.
+	 *
+	 * Chunks that are never reported, such as those completed by an earlier execution of a restarted job, hold back
+	 * every chunk after them; the yield table is then merged from the partition output directories as before.
+	 *
+	 * @param jobExecutionId the job execution
+	 * @param chunk          the completed chunk
+	 */
+	public void chunkCompleted(@NonNull Long jobExecutionId, @NonNull BatchChunkMetadata chunk) {
+		streamedYieldTables
+				.computeIfAbsent(jobExecutionId, id -> new StreamedYieldTable(Paths.get(chunk.getJobBaseDir())))
+				.chunkCompleted(chunk);
+	}
+
+	/**
+	 * Discards the yield table streamed for a job that has finished without aggregating its results.
+	 *
+	 * @param jobExecutionId the job execution
+	 */
+	public void discardStreamedResults(@NonNull Long jobExecutionId) {
+		StreamedYieldTable streamedYieldTable = streamedYieldTables.remove(jobExecutionId);
+		if (streamedYieldTable != null) {
+			streamedYieldTable.discard();
 		}
 	}
 
@@ -166,55 +230,101 @@ public class BatchResultAggregationService {
 	/**
 	 * Aggregates yield tables from all partitions, merging tables of the same type.
 	 *
+	 * @throws IOException if aggregation fails
+	 */
+	private void aggregateYieldTables(
+			Map<String, List<YieldTableSegment>> allYieldTableSegments, List<Path> partitionOutputDirs,
+			ZipOutputStream zipOut
+	) throws IOException {
+		if (allYieldTableSegments.isEmpty()) {
+			logger.warn("No yield tables found in any partition directory");
+			return;
+		}
+
+		// Merge all yield tables in the correct order (DO NOT re-sort here)
+		for (Map.Entry<String, List<YieldTableSegment>> entry : allYieldTableSegments.entrySet()) {
+			mergeYieldTables(entry.getValue(), zipOut, partitionOutputDirs, entry.getKey());
+		}
+
+		logger.debug("Aggregated {} yield table types in order", allYieldTableSegments.size());
+	}
+
+	/**
+	 * Collects the yield tables of all partitions, by type.
+	 *
 	 * Ensures correct data ordering by: 1. Processing partitions in ascending order (partition0, partition1, ...) 2.
-	 * Within each partition, processing files in chronological order based on filename timestamp
+	 * Within each partition, processing its chunks in chunk order
 	 *
 	 * This preserves the original input file order since: - Input files are sorted by FEATURE_ID - Partitioning
 	 * maintains FEATURE_ID order across partitions - Each partition processes its data in order - Aggregation
 	 * reconstructs the original sequence
 	 *
-	 * @throws IOException if aggregation fails
+	 * The chunks' yield tables are segments of the yield table files of the worker steps that projected them, found
+	 * through the index of each partition output directory. A chunk may have been projected by the worker step of
+	 * another partition, so the indexes of all the directories are read before any is collected. Yield table files that
+	 * are not indexed are collected whole, in order of file name, before the partition's chunks.
+	 *
+	 * @return the yield table segments of each type, in the order they are to be merged
+	 * @throws IOException if directory walking fails
 	 */
-	private void aggregateYieldTables(List<Path> partitionOutputDirs, ZipOutputStream zipOut) throws IOException {
-		logger.debug("Aggregating yield tables from {} partitions", partitionOutputDirs.size());
+	private Map<String, List<YieldTableSegment>> collectYieldTables(List<Path> partitionOutputDirs) throws IOException {
+		logger.debug("Collecting yield tables from {} partitions", partitionOutputDirs.size());
 
-		Map<String, List<Path>> allYieldTablePaths = new HashMap<>();
+		// The latest entry of each chunk's yield table of each type, by output partition folder name
+		Map<String, Map<String, YieldTableSegmentIndex.Entry>> indexedChunks = new HashMap<>();
+		Set<Path> indexedFiles = new HashSet<>();
+		for (Path partitionOutputDir : partitionOutputDirs) {
+			if (!isValidPartitionDirectory(partitionOutputDir)) {
+				continue;
+			}
+			for (YieldTableSegmentIndex.Entry entry : YieldTableSegmentIndex.read(partitionOutputDir)) {
+				indexedFiles.add(entry.segment().file());
+				String key = entry.chunkNumber() + "." + fileType(entry.segment().file());
+				indexedChunks.computeIfAbsent(
+						BatchUtils.buildOutputPartitionFolderName(entry.partitionName()), k -> new HashMap<>()
+				).merge(key, entry, (a, b) -> b.recordedMs() >= a.recordedMs() ? b : a);
+			}
+		}
+
+		Map<String, List<YieldTableSegment>> allYieldTableSegments = new HashMap<>();
 
 		// Collect all yield tables from partitions (already sorted by partition number)
-		// CRITICAL: Process partitions in order and collect files sequentially to maintain order
+		// CRITICAL: Process partitions in order and collect segments sequentially to maintain order
 		for (Path partitionOutputDir : partitionOutputDirs) {
 			Map<String, List<Path>> partitionYieldTables = collectYieldTablesFromPartition(partitionOutputDir);
 
 			// Sort files within this partition by filename (contains timestamp)
 			// Example: YieldTables_batch-1-partition0-projection-HCSV-2025_12_08_21_35_00_3599_YieldTable.csv
 			for (Map.Entry<String, List<Path>> entry : partitionYieldTables.entrySet()) {
-				entry.getValue().sort(Comparator.comparing(path -> path.getFileName().toString()));
-				// Add files from this partition in order - DO NOT sort the final list
-				allYieldTablePaths.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+				entry.getValue().stream().filter(path -> !indexedFiles.contains(path))
+						.sorted(Comparator.comparing(path -> path.getFileName().toString()))
+						// Add files from this partition in order - DO NOT sort the final list
+						.forEach(
+								path -> allYieldTableSegments.computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
+										.add(YieldTableSegment.of(path))
+						);
 			}
 
+			indexedChunks.getOrDefault(partitionOutputDir.getFileName().toString(), Map.of()).values().stream()
+					.sorted(Comparator.comparingInt(YieldTableSegmentIndex.Entry::chunkNumber))
+					.map(YieldTableSegmentIndex.Entry::segment)
+					.forEach(
+							segment -> allYieldTableSegments
+									.computeIfAbsent(fileType(segment.file()), k -> new ArrayList<>()).add(segment)
+					);
+
 			logger.trace(
-					"Added {} yield table files from partition {} (total so far: {})", partitionYieldTables.size(),
-					partitionOutputDir.getFileName(), allYieldTablePaths.size()
+					"Added yield tables from partition {} (total so far: {})", partitionOutputDir.getFileName(),
+					allYieldTableSegments.size()
 			);
 		}
 
-		if (allYieldTablePaths.isEmpty()) {
-			logger.warn("No yield tables found in any partition directory");
-			return;
-		}
-
 		logger.debug(
-				"Collected {} yield table files in correct order: ppartition0 through partitionN sequentially",
-				allYieldTablePaths.size()
+				"Collected {} yield table types in correct order: ppartition0 through partitionN sequentially",
+				allYieldTableSegments.size()
 		);
 
-		// Merge all yield tables in the correct order (DO NOT re-sort here)
-		for (Map.Entry<String, List<Path>> entry : allYieldTablePaths.entrySet()) {
-			mergeYieldTables(entry.getValue(), zipOut, partitionOutputDirs, entry.getKey());
-		}
-
-		logger.debug("Aggregated {} yield table files in order", allYieldTablePaths.size());
+		return allYieldTableSegments;
 	}
 
 	/**
@@ -233,12 +343,10 @@ public class BatchResultAggregationService {
 		try (Stream<Path> files = Files.walk(partitionOutputDir)) {
 			files.filter(Files::isRegularFile).filter(file -> isYieldTableFile(file.getFileName().toString()))
 					.forEach(t -> {
-						String fileName = t.getFileName().toString();
-						int periodIndex = fileName.lastIndexOf(".");
-						String fileType = fileName.substring(periodIndex + 1).toLowerCase();
-						yieldTables.computeIfAbsent(fileType, k -> new ArrayList<>()).add(t);
+						yieldTables.computeIfAbsent(fileType(t), k -> new ArrayList<>()).add(t);
 						logger.trace(
-								"Found yield table file: {} in partition {}", fileName, partitionOutputDir.getFileName()
+								"Found yield table file: {} in partition {}", t.getFileName(),
+								partitionOutputDir.getFileName()
 						);
 					});
 		}
@@ -247,11 +355,20 @@ public class BatchResultAggregationService {
 	}
 
 	/**
-	 * Determines if a file is a yield table based on its name.
+	 * @return the type of a yield table file, which is its extension
+	 */
+	private static String fileType(Path file) {
+		String fileName = file.getFileName().toString();
+		return fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+	}
+
+	/**
+	 * Determines if a file is a yield table based on its name, which is the name given it by extended-core if the
+	 * worker steps wrote it there.
 	 */
 	private boolean isYieldTableFile(String fileName) {
 		String lowerName = fileName.toLowerCase();
-		return (lowerName.contains("yield")) && !isLogFile(fileName);
+		return (lowerName.contains("yield") || lowerName.contains("yldtbl")) && !isLogFile(fileName);
 	}
 
 	/**
@@ -261,37 +378,37 @@ public class BatchResultAggregationService {
 	 * @throws IOException if merging fails
 	 */
 	private void mergeYieldTables(
-			List<Path> tablePaths, ZipOutputStream zipOut, List<Path> partitionOutputDirs, String fileType
+			List<YieldTableSegment> segments, ZipOutputStream zipOut, List<Path> partitionOutputDirs, String fileType
 	) throws IOException {
 		ZipEntry zipEntry = new ZipEntry(BatchConstants.File.YIELD_TABLE_TYPE + "." + fileType);
 		zipOut.putNextEntry(zipEntry);
 
-		TableNumberAssigner tableNumberAssigner = new TableNumberAssigner();
-		boolean isFirstFile = true;
-		boolean headerWritten = false;
-
-		for (Path tablePath : tablePaths) {
-			ProcessYieldTableResult result = processYieldTableFile(tablePath, zipOut, tableNumberAssigner, isFirstFile);
-
-			// Update isFirstFile status for next iteration
-			// (if current file had content, next file is no longer first)
-			isFirstFile = result.isFirstFile();
-
-			// Track if a header was written
-			if (result.getHeader() != null) {
-				headerWritten = true;
-			}
+		YieldTableMerger merger = new YieldTableMerger(zipOut);
+		for (YieldTableSegment segment : segments) {
+			merger.append(segment);
 		}
 
+		finishYieldTable(merger, zipOut, partitionOutputDirs, segments.size());
+	}
+
+	/**
+	 * Completes a merged yield table, recovering its header from the partition directories if none of the merged files
+	 * had one, and closes its ZIP entry.
+	 *
+	 * @throws IOException if writing fails
+	 */
+	private void finishYieldTable(
+			YieldTableMerger merger, ZipOutputStream zipOut, List<Path> partitionOutputDirs, int segmentCount
+	) throws IOException {
 		// If no header was written, try to find and write one from partition directories
-		logger.debug("Header written status: {}", headerWritten);
-		if (!headerWritten) {
+		logger.debug("Header written status: {}", merger.isHeaderWritten());
+		if (!merger.isHeaderWritten()) {
 			// No header written during processing - try to recover header from partition files
 			logger.trace("No header was written during processing. Attempting header recovery from partitions.");
 			String recoveredHeader = searchForValidHeaderInPartitions(partitionOutputDirs);
 			if (recoveredHeader != null) {
 				logger.trace("Recovered header from partition directories and writing to YieldTable.csv");
-				writeLineToZip(recoveredHeader, zipOut);
+				merger.writeLine(recoveredHeader);
 			} else {
 				logger.warn("No valid header found in any partition directory. YieldTable.csv will have no header.");
 			}
@@ -300,97 +417,11 @@ public class BatchResultAggregationService {
 		zipOut.closeEntry();
 
 		logger.debug(
-				"Merged {} files into yield table: {} with {} unique polygon/layer combinations", tablePaths.size(),
-				BatchConstants.File.YIELD_TABLE_FILENAME, tableNumberAssigner.getUniqueCount()
+				"Merged {} segments into yield table: {} with {} unique polygon/layer combinations", segmentCount,
+				BatchConstants.File.YIELD_TABLE_FILENAME, merger.getUniqueCount()
 		);
 	}
 
-	/**
-	 * Processes a single yield table file and writes its content to the ZIP output stream.
-	 *
-	 * @throws IOException if file reading fails
-	 */
-	private ProcessYieldTableResult processYieldTableFile(
-			Path tablePath, ZipOutputStream zipOut, TableNumberAssigner tableNumberAssigner, boolean isFirstFile
-	) throws IOException {
-		if (!Files.exists(tablePath)) {
-			logger.warn("Yield table file does not exist: {}", tablePath);
-			return new ProcessYieldTableResult(isFirstFile, null);
-		}
-
-		if (!Files.isReadable(tablePath)) {
-			logger.warn("Yield table file is not readable: {}", tablePath);
-			return new ProcessYieldTableResult(isFirstFile, null);
-		}
-
-		String capturedHeader = null;
-		boolean updatedIsFirstFile = isFirstFile;
-
-		try (Stream<String> lines = Files.lines(tablePath, StandardCharsets.UTF_8)) {
-			Iterator<String> lineIterator = lines.iterator();
-
-			if (lineIterator.hasNext()) {
-				ProcessFirstLineResult firstLineResult = processFirstLine(
-						lineIterator.next(), zipOut, tableNumberAssigner, isFirstFile
-				);
-				capturedHeader = firstLineResult.getHeader();
-				updatedIsFirstFile = firstLineResult.isFirstFile();
-			}
-
-			processRemainingLines(lineIterator, zipOut, tableNumberAssigner);
-		}
-
-		// Return updated isFirstFile status (false only if we actually processed content)
-		return new ProcessYieldTableResult(updatedIsFirstFile, capturedHeader);
-	}
-
-	/**
-	 * Processes the first line of a yield table file (header or data line).
-	 */
-	private ProcessFirstLineResult processFirstLine(
-			String firstLine, ZipOutputStream zipOut, TableNumberAssigner tableNumberAssigner, boolean isFirstFile
-	) throws IOException {
-		if (BatchUtils.isHeaderLine(firstLine)) {
-			if (isFirstFile) {
-				writeLineToZip(firstLine, zipOut);
-			}
-			return new ProcessFirstLineResult(false, firstLine); // Header processed, return it
-		} else {
-			// Not a header, this is a data line - process it
-			processDataLine(firstLine, zipOut, tableNumberAssigner);
-			return new ProcessFirstLineResult(isFirstFile, null); // Keep first file status for data-only files
-		}
-	}
-
-	/**
-	 * Processes the remaining data lines from a yield table file.
-	 */
-	private void processRemainingLines(
-			Iterator<String> lineIterator, ZipOutputStream zipOut, TableNumberAssigner tableNumberAssigner
-	) throws IOException {
-		while (lineIterator.hasNext()) {
-			processDataLine(lineIterator.next(), zipOut, tableNumberAssigner);
-		}
-	}
-
-	/**
-	 * Processes a single data line and writes it to the ZIP output stream.
-	 */
-	private void processDataLine(String line, ZipOutputStream zipOut, TableNumberAssigner tableNumberAssigner)
-			throws IOException {
-		String processedLine = tableNumberAssigner.assignTableNumber(line);
-		if (processedLine != null) {
-			writeLineToZip(processedLine, zipOut);
-		}
-	}
-
-	/**
-	 * Writes a line to the ZIP output stream with proper line separator.
-	 */
-	private void writeLineToZip(String line, ZipOutputStream zipOut) throws IOException {
-		zipOut.write( (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
-	}
-
 	/**
 	 * Searches partition directories for a valid yield table header. Returns immediately when first valid header is
 	 * found.
@@ -455,110 +486,6 @@ public class BatchResultAggregationService {
 		return null;
 	}
 
-	/**
-	 * Result of processing a yield table file.
-	 */
-	private static class ProcessYieldTableResult {
-		private final boolean isFirstFile;
-		private final String header;
-
-		public ProcessYieldTableResult(boolean isFirstFile, String header) {
-			this.isFirstFile = isFirstFile;
-			this.header = header;
-		}
-
-		public boolean isFirstFile() {
-			return isFirstFile;
-		}
-
-		public String getHeader() {
-			return header;
-		}
-	}
-
-	/**
-	 * Result of processing the first line of a yield table file.
-	 */
-	private static class ProcessFirstLineResult {
-		private final boolean isFirstFile;
-		private final String header;
-
-		public ProcessFirstLineResult(boolean isFirstFile, String header) {
-			this.isFirstFile = isFirstFile;
-			this.header = header;
-		}
-
-		public boolean isFirstFile() {
-			return isFirstFile;
-		}
-
-		public String getHeader() {
-			return header;
-		}
-	}
-
-	private class TableNumberAssigner {
-		private int tableNum = 0;
-		private String lastTableNum = "";
-		private String lastFeatureNum = "";
-
-		/**
-		 * Assigns TABLE_NUM based on polygon/layer combination.
-		 *
-		 * @param line The CSV line to process
-		 * @return The processed line with correct TABLE_NUM, or null if line should be skipped (e.g., empty line, or
-		 *         missing FEATURE_ID). Callers MUST check for null before using the returned value.
-		 */
-		public String assignTableNumber(String line) {
-			if (line == null || line.trim().isEmpty()) {
-				return line;
-			}
-
-			// Fast path: Extract only the columns we need using indexOf()
-			// CSV structure: "TABLE_NUM","FEATURE_ID","DISTRICT","MAP_ID","POLYGON_ID","LAYER_ID",...
-			int firstComma = line.indexOf(',');
-			if (firstComma == -1) {
-				return line; // No commas, return as-is
-			}
-
-			int secondComma = line.indexOf(',', firstComma + 1);
-			if (secondComma == -1) {
-				return line; // Not enough columns
-			}
-
-			// Extract FEATURE_ID (column 1) - between first and second comma
-			String tableNumStr = line.substring(0, firstComma).trim();
-			// Extract FEATURE_ID (column 1) - between first and second comma
-			String featureId = line.substring(firstComma + 1, secondComma).trim();
-
-			if (tableNumStr.isEmpty()) {
-				// No FEATURE_ID, skip this line
-				logger.warn("Skipping line with missing TABLE_NUM: {}", line);
-				return null;
-			}
-			if (featureId.isEmpty()) {
-				// No FEATURE_ID, skip this line
-				logger.warn("Skipping line with missing FEATURE_ID: {}", line);
-				return null;
-			}
-
-			if (!lastFeatureNum.equals(featureId) || !lastTableNum.equals(tableNumStr)) {
-				tableNum++;
-				lastFeatureNum = featureId;
-				lastTableNum = tableNumStr;
-			}
-
-			return tableNum + line.substring(firstComma);
-		}
-
-		/**
-		 * Gets the number of unique polygon/layer combinations processed.
-		 */
-		public int getUniqueCount() {
-			return tableNum;
-		}
-	}
-
 	/**
 	 * Validates if a partition directory is valid for processing.
 	 */
@@ -756,12 +683,17 @@ public class BatchResultAggregationService {
 	}
 
 	/**
-	 * Deletes all input-partition directories under the job base directory. Runs as the first step of result
-	 * aggregation, since input partitions are no longer needed once the worker steps have finished processing them,
-	 * well before the output ZIP has been assembled or validated.
+	 * Deletes all input-partition directories under the job base directory, and the input directory whose records
+	 * they share, if any. Runs as the first step of result aggregation, since input partitions are no longer needed
+	 * once the worker steps have finished processing them, well before the output ZIP has been assembled or validated.
 	 */
 	public void cleanupInputPartitionDirectories(Path jobBasePath) {
 		cleanupPartitionDirectoriesWithPrefix(jobBasePath, BatchConstants.Partition.INPUT_FOLDER_NAME_PREFIX);
+
+		Path sharedInputDir = jobBasePath.resolve(BatchConstants.Partition.INPUT_FOLDER_NAME);
+		if (Files.isDirectory(sharedInputDir)) {
+			deletePartitionDirectory(sharedInputDir);
+		}
 	}
 
 	/**
@@ -0,0 +1,157 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.AbstractProjectionRequestException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.YieldTableGenerationException;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.ProjectionRequestKind;
+import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionRunner;
+import ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable.YieldTable;
+
+/**
+ * The projection of the successive chunks processed by one worker step. The chunks share a single
+ * {@link ProjectionRunner}, so that the projection parameters are validated, and the execution folder, worker threads,
+ * component runner and yield table writers created, once for the step rather than once per chunk.
+ *
+ * Each chunk is a separate run of the runner, whose yield tables are written to the output directory of the session's
+ * partition, each chunk's after those of the chunks before it. The segment of each yield table file written for a
+ * chunk is recorded, in the chunk's metadata and in the {@link YieldTableSegmentIndex} beside the files, once the chunk
+ * has been projected. If a chunk fails, the runner is discarded and its yield table files are truncated to their
+ * lengths before the chunk was run, so that the chunk is retried, and later chunks are projected, by a runner in a
+ * known state.
+ */
+public class ChunkProjectionSession implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChunkProjectionSession.class);
+
+	private final String partitionName;
+	private final Parameters projectionParameters;
+
+	private ProjectionRunner runner;
+	private Path yieldTableFolder;
+
+	/** The length of each of the runner's yield table files before the current chunk was run */
+	private final Map<Path, Long> chunkStarts = new LinkedHashMap<>();
+
+	/**
+	 * @param partitionName        the partition whose worker step the session belongs to, which identifies the
+	 *                             session's projection in its logs and execution folder name
+	 * @param projectionParameters the parameters of every chunk's projection
+	 */
+	public ChunkProjectionSession(String partitionName, Parameters projectionParameters) {
+		this.partitionName = partitionName;
+		this.projectionParameters = projectionParameters;
+	}
+
+	/**
+	 * @return the partition whose output directory the session's yield tables are written to
+	 */
+	String getPartitionName() {
+		return partitionName;
+	}
+
+	/**
+	 * Start the projection of a chunk, noting where its output will begin in each of the yield table files.
+	 *
+	 * @param yieldTableFolder the output directory of the session's partition
+	 * @param parallelism      the number of polygons of the chunk to be projected at once
+	 * @return the session's runner, created if this is the first chunk or the previous chunk failed
+	 * @throws AbstractProjectionRequestException if the projection parameters are invalid or the yield tables cannot be
+	 *                                            created
+	 * @throws IOException                        if the lengths of the yield table files cannot be read
+	 */
+	ProjectionRunner startChunk(Path yieldTableFolder, int parallelism)
+			throws AbstractProjectionRequestException, IOException {
+		if (runner == null) {
+			logger.debug("Creating projection runner for session {}", partitionName);
+			ProjectionRunner newRunner = new ProjectionRunner(
+					ProjectionRequestKind.HCSV, partitionName, projectionParameters, false
+			);
+			try {
+				newRunner.getContext().setYieldTableFolder(yieldTableFolder);
+				newRunner.getContext().createYieldTables();
+			} catch (YieldTableGenerationException e) {
+				newRunner.close();
+				throw e;
+			}
+			runner = newRunner;
+			this.yieldTableFolder = yieldTableFolder;
+		}
+		runner.setParallelism(parallelism);
+
+		chunkStarts.clear();
+		for (YieldTable yieldTable : runner.getContext().getYieldTables()) {
+			Path yieldTablePath = yieldTable.getYieldTableFilePath();
+			chunkStarts.put(yieldTablePath, Files.size(yieldTablePath));
+		}
+		return runner;
+	}
+
+	/**
+	 * Record the segments of the yield table files written by the chunk's run, which has completed successfully.
+	 *
+	 * @param chunk the chunk, whose yield table segments are set
+	 * @throws IOException if the segments cannot be recorded in the index
+	 */
+	void completeChunk(BatchChunkMetadata chunk) throws IOException {
+		List<YieldTableSegment> segments = new ArrayList<>();
+		for (Map.Entry<Path, Long> chunkStart : chunkStarts.entrySet()) {
+			Path yieldTablePath = chunkStart.getKey();
+			segments.add(new YieldTableSegment(yieldTablePath, chunkStart.getValue(), Files.size(yieldTablePath)));
+		}
+		chunk.setYieldTableSegments(segments);
+
+		YieldTableSegmentIndex.record(yieldTableFolder, chunk);
+		chunkStarts.clear();
+	}
+
+	/**
+	 * Close the session's runner, if any, after a chunk has failed, and remove whatever the chunk wrote to the yield
+	 * table files. The next chunk is projected by a new runner.
+	 */
+	void abandonChunk() {
+		if (runner != null) {
+			logger.debug("Discarding projection runner of session {}", partitionName);
+			close();
+		}
+
+		for (Map.Entry<Path, Long> chunkStart : chunkStarts.entrySet()) {
+			try (FileChannel channel = FileChannel.open(chunkStart.getKey(), StandardOpenOption.WRITE)) {
+				channel.truncate(chunkStart.getValue());
+			} catch (IOException e) {
+				// What the chunk wrote is left in the file, but is not in the index
+				logger.warn(
+						"Unable to truncate yield table {} to {} bytes: {}", chunkStart.getKey(), chunkStart.getValue(),
+						e.getMessage()
+				);
+			}
+		}
+		chunkStarts.clear();
+	}
+
+	@Override
+	public void close() {
+		if (runner != null) {
+			try {
+				runner.close();
+			} finally {
+				runner = null;
+			}
+		}
+	}
+}
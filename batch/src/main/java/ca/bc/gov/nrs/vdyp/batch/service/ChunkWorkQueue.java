@@ -0,0 +1,258 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+
+/**
+ * Chunks of the partitions of each running job that are shared between the job's worker steps, so that a worker whose
+ * own partition has run out of chunks can take chunks from partitions that are still busy, rather than sitting idle
+ * until the slowest partition finishes.
+ *
+ * Each worker registers the chunks of its partition when it opens, and claims its own chunks in order. Once its own
+ * are all claimed it steals the last unclaimed chunk of the partition with the most polygons left, so that owner and
+ * thief work from opposite ends of the partition. Whoever processes a chunk, it remains a chunk of its partition: its
+ * logs are written to that partition's output directory under its chunk number, its yield tables are indexed under
+ * that partition and chunk number, and its completion is recorded against that partition, so that it is the
+ * partition's own step that persists it for restart.
+ *
+ * A worker does not finish until every chunk of its partition has been completed, waiting if need be for the chunks
+ * other workers have stolen. If a thief fails, its chunk is released back to the partition and taken up again.
+ * Completions are kept for the job as a whole rather than with the partition's registration, so a chunk completed by a
+ * thief after its owner has failed and deregistered is still recorded, and is skipped if the partition is registered
+ * again while the job runs.
+ */
+@Component
+public class ChunkWorkQueue {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChunkWorkQueue.class);
+
+	/** How long a worker waits for stolen chunks of its partition before checking for new work again */
+	private static final long WAIT_MILLIS = 1000;
+
+	private final Map<Long, JobChunks> jobs = new ConcurrentHashMap<>();
+
+	/**
+	 * Register the chunks of a partition.
+	 *
+	 * @param jobExecutionId  the job execution
+	 * @param partitionName   the partition
+	 * @param chunks          all of the partition's chunks, in order
+	 * @param completedChunks the numbers of those chunks that were completed by an earlier execution, and are not to
+	 *                        be processed again
+	 */
+	public void register(
+			Long jobExecutionId, String partitionName, List<BatchChunkMetadata> chunks, Set<Integer> completedChunks
+	) {
+		JobChunks job = jobs.computeIfAbsent(jobExecutionId, id -> new JobChunks());
+		synchronized (job) {
+			if (jobs.get(jobExecutionId) != job) {
+				// The job's last partition was deregistered in the meantime
+				register(jobExecutionId, partitionName, chunks, completedChunks);
+				return;
+			}
+
+			Set<Integer> completed = job.completed(partitionName);
+			completed.addAll(completedChunks);
+
+			PartitionChunks partition = new PartitionChunks();
+			for (BatchChunkMetadata chunk : chunks) {
+				if (!completed.contains(chunk.getCurrentChunkNumber())) {
+					partition.unclaimed.addLast(chunk);
+					partition.unclaimedPolygons += chunk.getPolygonRecordCount();
+				}
+			}
+			job.partitions.put(partitionName, partition);
+			job.notifyAll();
+
+			logger.debug(
+					"[EXEID: {}, Partition: {}] Registered {} chunks, {} of them already completed", jobExecutionId,
+					partitionName, chunks.size(), chunks.size() - partition.unclaimed.size()
+			);
+		}
+	}
+
+	/**
+	 * Claim the next chunk for the worker of a partition: the next chunk of its own partition if any are left, and
+	 * otherwise a chunk stolen from another partition. If nothing is left to claim but other workers are still
+	 * processing chunks of this partition, this waits for them.
+	 *
+	 * @param jobExecutionId the job execution
+	 * @param partitionName  the worker's partition
+	 * @return the claimed chunk, or null once every chunk of the partition is completed or claimed by this worker and
+	 *         no other partition has chunks to spare
+	 * @throws InterruptedException if interrupted while waiting for other workers
+	 */
+	public BatchChunkMetadata claim(Long jobExecutionId, String partitionName) throws InterruptedException {
+		JobChunks job = jobs.get(jobExecutionId);
+		if (job == null) {
+			return null;
+		}
+
+		synchronized (job) {
+			while (true) {
+				PartitionChunks own = job.partitions.get(partitionName);
+				if (own == null) {
+					return null;
+				}
+
+				BatchChunkMetadata chunk = own.unclaimed.pollFirst();
+				if (chunk == null) {
+					chunk = steal(job, partitionName);
+				} else {
+					own.unclaimedPolygons -= chunk.getPolygonRecordCount();
+				}
+
+				if (chunk != null) {
+					PartitionChunks owner = job.partitions.get(chunk.getPartitionName());
+					owner.claimedBy.put(chunk.getCurrentChunkNumber(), partitionName);
+					return chunk;
+				}
+
+				if (own.claimedBy.values().stream().allMatch(partitionName::equals)) {
+					return null;
+				}
+
+				logger.trace(
+						"[EXEID: {}, Partition: {}] Waiting for {} chunks being processed by other partitions",
+						jobExecutionId, partitionName, own.claimedBy.size()
+				);
+				TimeUnit.MILLISECONDS.timedWait(job, WAIT_MILLIS);
+			}
+		}
+	}
+
+	/**
+	 * Record that a claimed chunk has been completed, whether its polygons were projected or skipped.
+	 *
+	 * @param jobExecutionId the job execution
+	 * @param chunk          the chunk
+	 */
+	public void complete(Long jobExecutionId, BatchChunkMetadata chunk) {
+		update(jobExecutionId, chunk, true);
+	}
+
+	/**
+	 * Return a claimed chunk that was not completed, so that it is claimed again.
+	 *
+	 * @param jobExecutionId the job execution
+	 * @param chunk          the chunk
+	 */
+	public void release(Long jobExecutionId, BatchChunkMetadata chunk) {
+		update(jobExecutionId, chunk, false);
+	}
+
+	/**
+	 * @param jobExecutionId the job execution
+	 * @param partitionName  the partition
+	 * @return the numbers of the completed chunks of the partition, in order
+	 */
+	public Set<Integer> getCompletedChunks(Long jobExecutionId, String partitionName) {
+		JobChunks job = jobs.get(jobExecutionId);
+		if (job == null) {
+			return Set.of();
+		}
+
+		synchronized (job) {
+			Set<Integer> completed = job.completed.get(partitionName);
+			return completed == null ? Set.of() : new TreeSet<>(completed);
+		}
+	}
+
+	/**
+	 * Remove a partition once its worker has finished with it, successfully or not. Its unclaimed chunks can no longer
+	 * be stolen; when its worker failed, they are processed when the job is restarted.
+	 *
+	 * @param jobExecutionId the job execution
+	 * @param partitionName  the partition
+	 */
+	public void deregister(Long jobExecutionId, String partitionName) {
+		JobChunks job = jobs.get(jobExecutionId);
+		if (job == null) {
+			return;
+		}
+
+		synchronized (job) {
+			job.partitions.remove(partitionName);
+			if (job.partitions.isEmpty()) {
+				jobs.remove(jobExecutionId, job);
+			}
+			job.notifyAll();
+		}
+	}
+
+	private void update(Long jobExecutionId, BatchChunkMetadata chunk, boolean completed) {
+		JobChunks job = jobs.get(jobExecutionId);
+		if (job == null) {
+			return;
+		}
+
+		synchronized (job) {
+			// The owner may have failed and deregistered while another worker was processing its chunk
+			PartitionChunks owner = job.partitions.get(chunk.getPartitionName());
+			if (owner != null && owner.claimedBy.remove(chunk.getCurrentChunkNumber()) == null) {
+				return;
+			}
+
+			if (completed) {
+				job.completed(chunk.getPartitionName()).add(chunk.getCurrentChunkNumber());
+			} else if (owner != null) {
+				owner.unclaimed.addFirst(chunk);
+				owner.unclaimedPolygons += chunk.getPolygonRecordCount();
+			}
+			job.notifyAll();
+		}
+	}
+
+	/** Take the last unclaimed chunk of the partition with the most unclaimed polygons, if there is one */
+	private static BatchChunkMetadata steal(JobChunks job, String thiefPartitionName) {
+		PartitionChunks victim = null;
+		for (PartitionChunks partition : job.partitions.values()) {
+			if (!partition.unclaimed.isEmpty()
+					&& (victim == null || partition.unclaimedPolygons > victim.unclaimedPolygons)) {
+				victim = partition;
+			}
+		}
+		if (victim == null) {
+			return null;
+		}
+
+		BatchChunkMetadata chunk = victim.unclaimed.pollLast();
+		victim.unclaimedPolygons -= chunk.getPolygonRecordCount();
+
+		logger.debug(
+				"[Partition: {}] Stole chunk {} of {} ({} polygons)", thiefPartitionName, chunk.getCurrentChunkNumber(),
+				chunk.getPartitionName(), chunk.getPolygonRecordCount()
+		);
+		return chunk;
+	}
+
+	private static class JobChunks {
+		private final Map<String, PartitionChunks> partitions = new HashMap<>();
+		/** The numbers of the completed chunks of each partition, whether or not it is still registered */
+		private final Map<String, Set<Integer>> completed = new HashMap<>();
+
+		private Set<Integer> completed(String partitionName) {
+			return completed.computeIfAbsent(partitionName, name -> new TreeSet<>());
+		}
+	}
+
+	private static class PartitionChunks {
+		private final Deque<BatchChunkMetadata> unclaimed = new ArrayDeque<>();
+		/** The partition of the worker processing each claimed chunk, by chunk number */
+		private final Map<Integer, String> claimedBy = new HashMap<>();
+		private long unclaimedPolygons;
+	}
+}
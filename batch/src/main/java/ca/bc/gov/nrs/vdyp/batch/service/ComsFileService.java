@@ -24,6 +24,15 @@ public class ComsFileService {
 		presignedFileFetcher.downloadToFile(url, target);
 	}
 
+	/**
+	 * Download an object, passing its content to {@code reader} as it arrives. See
+	 * {@link PresignedFileFetcher#download(String, PresignedFileFetcher.ContentReader)}.
+	 */
+	public <T> T fetchObject(UUID objectId, PresignedFileFetcher.ContentReader<T> reader) throws IOException {
+		String url = comsClient.getPresignedUrl(objectId.toString());
+		return presignedFileFetcher.download(url, reader);
+	}
+
 	public void updateStoredObject(UUID objectId, Path path, String filename) throws IOException {
 		comsClient.updateObject(objectId.toString(), path, filename);
 	}
@@ -1,13 +1,11 @@
 package ca.bc.gov.nrs.vdyp.batch.service;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,15 +13,17 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.FileMappingDetails;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypClient;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypProjectionDetails;
 import ca.bc.gov.nrs.vdyp.batch.configuration.BatchProperties;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchException;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchPartitionException;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
 import ca.bc.gov.nrs.vdyp.batch.model.VDYPProjectionProgressUpdate;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
-import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
 
 @Component
 @StepScope
@@ -31,14 +31,16 @@ public class DownloadAndPartitionTasklet extends VdypFileTasklet {
 	private static final Logger logger = LoggerFactory.getLogger(DownloadAndPartitionTasklet.class);
 	private final BatchInputPartitioner inputPartitioner;
 	private final BatchProperties batchProperties;
+	private final ObjectMapper objectMapper;
 
 	public DownloadAndPartitionTasklet(
 			ComsFileService comsFileService, BatchInputPartitioner inputPartitioner, VdypClient vdypClient,
-			BatchProperties batchProperties
+			BatchProperties batchProperties, ObjectMapper objectMapper
 	) {
 		super(comsFileService, vdypClient);
 		this.inputPartitioner = inputPartitioner;
 		this.batchProperties = batchProperties;
+		this.objectMapper = objectMapper;
 	}
 
 	@Override
@@ -61,46 +63,49 @@ public class DownloadAndPartitionTasklet extends VdypFileTasklet {
 			String polygonGuidStr = polyGonFiles.get(0).comsObjectGuid();
 			String layerGuidStr = layerFiles.get(0).comsObjectGuid();
 
-			// Download the inputs
+			String parametersJson = stepExecution.getJobExecution().getJobParameters()
+					.getString(BatchConstants.Projection.PARAMETERS_JSON);
+			ProjectionYearRange yearRange = ProjectionYearRange.of(objectMapper, parametersJson);
+			int chunkSize = resolveChunkSize(stepExecution);
+			int maxJobThreads = batchProperties.getThreadPool().getMaxJobThreads();
 			Path jobBaseDir = Paths.get(baseDir);
-			Path inputDir = jobBaseDir.resolve("input");
-			Files.createDirectories(inputDir);
-
-			Path polygonPath = inputDir.resolve("polygon.csv");
-			Path layerPath = inputDir.resolve("layer.csv");
 
 			logger.debug(
-					"[GUID: {}] Downloading COMS inputs (Polygon:{}, Layer {}) to {}", jobGuid, polygonGuidStr,
-					layerGuidStr, inputDir
+					"[GUID: {}] Downloading and partitioning COMS inputs (Polygon:{}, Layer {}) into {}", jobGuid,
+					polygonGuidStr, layerGuidStr, jobBaseDir
 			);
 
-			comsFileService.fetchObjectToFile(UUID.fromString(polygonGuidStr), polygonPath);
-			comsFileService.fetchObjectToFile(UUID.fromString(layerGuidStr), layerPath);
-
-			// Count polygons before partitioning to determine the correct thread allocation
-			int totalPolygons;
-			try (BufferedReader reader = Files.newBufferedReader(polygonPath, StandardCharsets.UTF_8)) {
-				totalPolygons = BatchUtils.countDataRecords(reader);
-			}
-
-			int chunkSize = resolveChunkSize(stepExecution);
-			int maxJobThreads = batchProperties.getThreadPool().getMaxJobThreads();
-			computedPartitions = BatchUtils.calculateThreadsForJob(totalPolygons, chunkSize, maxJobThreads);
+			// Both inputs are partitioned as they are downloaded, in a single pass that also records the chunks of
+			// each partition, so that neither the inputs nor the partitions need be read again before projecting
+			BatchInputPartitioner.PartitionedInput partitionedInput = comsFileService.fetchObject(
+					UUID.fromString(polygonGuidStr),
+					polygonContent -> comsFileService.fetchObject(
+							UUID.fromString(layerGuidStr),
+							layerContent -> inputPartitioner.partitionCsvStreams(
+									polygonContent, layerContent, chunkSize, maxJobThreads, yearRange, jobBaseDir,
+									jobGuid
+							)
+					)
+			);
+			partitionedCount = partitionedInput.totalPolygonRecords();
+			computedPartitions = partitionedInput.partitionCount();
 
 			logger.debug(
 					"[GUID: {}] Computed {} partitions for {} polygons (chunkSize={}, maxJobThreads={})", jobGuid,
-					computedPartitions, totalPolygons, chunkSize, maxJobThreads
+					computedPartitions, partitionedCount, chunkSize, maxJobThreads
 			);
 
-			partitionedCount = inputPartitioner
-					.partitionCsvFiles(polygonPath, layerPath, computedPartitions, jobBaseDir, jobGuid, totalPolygons);
-
-			deleteOriginalInputDirectory(inputDir);
-
 			stepExecution.getJobExecution().getExecutionContext()
 					.putInt(BatchConstants.Job.TOTAL_POLYGONS, partitionedCount);
 			stepExecution.getJobExecution().getExecutionContext()
 					.putInt(BatchConstants.Job.COMPUTED_PARTITIONS, computedPartitions);
+			stepExecution.getJobExecution().getExecutionContext().putString(
+					BatchConstants.Partition.ESTIMATED_COSTS, formatPartitionCosts(partitionedInput.estimatedCosts())
+			);
+			stepExecution.getJobExecution().getExecutionContext().putString(
+					BatchConstants.Partition.POLYGON_RECORD_COUNTS,
+					formatPartitionCounts(partitionedInput.polygonRecordCounts())
+			);
 		} catch (Exception e) {
 			throw BatchPartitionException
 					.handlePartitionFailure(e, "Could not fetch and partition input files", jobGuid, logger);
@@ -112,19 +117,21 @@ public class DownloadAndPartitionTasklet extends VdypFileTasklet {
 		logger.debug("Completed download and partitioning of input files.");
 	}
 
-	void deleteOriginalInputDirectory(Path inputDir) {
-		try {
-			deleteDirectory(inputDir);
-			logger.debug("[GUID: {}] Deleted original input directory after partitioning: {}", jobGuid, inputDir);
-		} catch (IOException e) {
-			logger.warn(
-					"[GUID: {}] Failed to delete original input directory {}: {}", jobGuid, inputDir, e.getMessage()
-			);
-		}
+	/**
+	 * Formats the estimated cost of each partition for the job's execution context, from which
+	 * {@link ca.bc.gov.nrs.vdyp.batch.configuration.DynamicPartitionHandler} reads it.
+	 */
+	static String formatPartitionCosts(double[] partitionCosts) {
+		return Arrays.stream(partitionCosts).mapToObj(cost -> Long.toString(Math.round(cost)))
+				.collect(Collectors.joining(","));
 	}
 
-	protected void deleteDirectory(Path dir) throws IOException {
-		BatchUtils.deleteDirectoryRecursively(dir);
+	/**
+	 * Formats the number of polygon records written to each partition for the job's execution context, from which
+	 * {@link ca.bc.gov.nrs.vdyp.batch.configuration.DynamicPartitionHandler} reads it.
+	 */
+	static String formatPartitionCounts(int[] polygonsPerPartition) {
+		return Arrays.stream(polygonsPerPartition).mapToObj(Integer::toString).collect(Collectors.joining(","));
 	}
 
 	private int resolveChunkSize(StepExecution stepExecution) {
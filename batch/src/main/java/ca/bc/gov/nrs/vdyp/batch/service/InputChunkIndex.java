@@ -0,0 +1,115 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
+
+/**
+ * The index of the chunks of an input partition, kept in a file in the partition's input directory. It is written when
+ * the input is partitioned, from the positions of the records as they were written, so that a partition's reader need
+ * not scan the input for the boundaries of its chunks.
+ *
+ * Each line records one chunk, in input order: the start offset and number of its records in the shared polygon file
+ * (see {@link BatchConstants.Partition#INPUT_FOLDER_NAME}) and in the shared layer file, then the species count, FIP
+ * polygon count and years of growth of its {@link PolygonCostFeatures}.
+ */
+public final class InputChunkIndex {
+
+	private static final String SEPARATOR = ",";
+	private static final int FIELD_COUNT = 7;
+
+	/**
+	 * A chunk recorded in an index.
+	 *
+	 * @param polygonStartByte   the offset of the chunk's first polygon record
+	 * @param polygonRecordCount the number of the chunk's polygon records
+	 * @param layerStartByte     the offset of the chunk's first layer record
+	 * @param layerRecordCount   the number of the chunk's layer records
+	 * @param costFeatures       the features of the chunk's polygons
+	 */
+	public record Entry(
+			long polygonStartByte, int polygonRecordCount, long layerStartByte, int layerRecordCount,
+			PolygonCostFeatures costFeatures
+	) {
+	}
+
+	private InputChunkIndex() {
+	}
+
+	/**
+	 * Write the index of an input partition.
+	 *
+	 * @param partitionDir the partition's input directory
+	 * @param entries      the partition's chunks, in input order
+	 * @throws IOException if the index cannot be written
+	 */
+	public static void write(Path partitionDir, List<Entry> entries) throws IOException {
+		StringBuilder lines = new StringBuilder();
+		for (Entry entry : entries) {
+			PolygonCostFeatures features = entry.costFeatures();
+			lines.append(entry.polygonStartByte()).append(SEPARATOR).append(entry.polygonRecordCount())
+					.append(SEPARATOR).append(entry.layerStartByte()).append(SEPARATOR)
+					.append(entry.layerRecordCount()).append(SEPARATOR).append(features.getSpeciesCount())
+					.append(SEPARATOR).append(features.getFipPolygonCount()).append(SEPARATOR)
+					.append(features.getGrowthYears()).append(System.lineSeparator());
+		}
+
+		Files.createDirectories(partitionDir);
+		Files.writeString(
+				partitionDir.resolve(BatchConstants.Partition.INPUT_CHUNK_INDEX_FILE_NAME), lines,
+				StandardCharsets.UTF_8
+		);
+	}
+
+	/**
+	 * @param partitionDir an input partition directory
+	 * @return the chunks of the partition, in input order, or empty if it has no index because it was partitioned
+	 *         into files of its own
+	 * @throws IOException if the index cannot be read, or has an entry that cannot be read
+	 */
+	public static Optional<List<Entry>> read(Path partitionDir) throws IOException {
+		Path indexPath = partitionDir.resolve(BatchConstants.Partition.INPUT_CHUNK_INDEX_FILE_NAME);
+		if (!Files.isRegularFile(indexPath)) {
+			return Optional.empty();
+		}
+
+		List<Entry> entries = new ArrayList<>();
+		for (String line : Files.readAllLines(indexPath, StandardCharsets.UTF_8)) {
+			if (line.isBlank()) {
+				continue;
+			}
+
+			String[] fields = line.split(SEPARATOR, -1);
+			try {
+				if (fields.length != FIELD_COUNT) {
+					throw new IllegalArgumentException(
+							"expected " + FIELD_COUNT + " fields but found " + fields.length
+					);
+				}
+				int polygonRecordCount = Integer.parseInt(fields[1]);
+				int layerRecordCount = Integer.parseInt(fields[3]);
+				entries.add(
+						new Entry(
+								Long.parseLong(fields[0]), polygonRecordCount, Long.parseLong(fields[2]),
+								layerRecordCount,
+								PolygonCostFeatures.of(
+										polygonRecordCount, layerRecordCount, Integer.parseInt(fields[4]),
+										Integer.parseInt(fields[5]), Long.parseLong(fields[6])
+								)
+						)
+				);
+			} catch (IllegalArgumentException e) {
+				// Unlike a yield table index, no entry may be skipped, or its records would never be projected
+				throw new IOException("Unreadable entry \"" + line + "\" of input chunk index " + indexPath, e);
+			}
+		}
+		return Optional.of(entries);
+	}
+}
@@ -0,0 +1,226 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import ca.bc.gov.nrs.vdyp.batch.configuration.BatchProperties;
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+
+/**
+ * Estimates how long polygons take to project from the properties of their input rows (see
+ * {@link PolygonCostFeatures}), so that the input can be partitioned by cost rather than by polygon count.
+ *
+ * The estimate is linear in the number of polygons, layers, species, FIP-standard polygons and years to grow. It
+ * starts from prior per-feature costs, in milliseconds, and is refined by the measured time of every projected chunk
+ * using a normalized least-mean-squares update. Because estimates are linear, the features of a chunk are simply the
+ * sums of those of its polygons. Refinements are saved to a file in the batch root directory after every timing and
+ * loaded from it on startup, so each job is partitioned with what was learned from the jobs before it, including
+ * those of earlier runs of the application.
+ *
+ * Only the relative size of estimates matters to partitioning; the absolute scale follows whatever was measured.
+ */
+@Component
+public class PolygonCostModel {
+
+	private static final Logger logger = LoggerFactory.getLogger(PolygonCostModel.class);
+
+	/** Prior cost, in milliseconds, of a polygon, a layer, a species, a FIP-standard polygon and a year of growth */
+	private static final double[] PRIOR_WEIGHTS = { 20.0, 15.0, 3.0, 25.0, 0.2 };
+
+	private static final double LEARNING_RATE = 0.2;
+
+	/** Bounds on how far a weight may move from its prior, as a factor */
+	private static final double MIN_SCALE = 0.05;
+	private static final double MAX_SCALE = 20.0;
+
+	/** Name of the file, in the batch root directory, to which the refinements are saved */
+	static final String STATE_FILE_NAME = "polygon-cost-model.properties";
+
+	private static final String SCALE_KEY_PREFIX = "scale.";
+	private static final String OBSERVATION_COUNT_KEY = "observationCount";
+
+	/** Multipliers of the prior weights, refined by the recorded timings */
+	private final double[] scales;
+
+	private long observationCount;
+
+	/** The file to which refinements are saved, or null if they are kept in memory only */
+	private final Path stateFile;
+
+	@Autowired
+	public PolygonCostModel(BatchProperties batchProperties) {
+		this(Paths.get(batchProperties.getRootDirectory(), STATE_FILE_NAME));
+	}
+
+	/**
+	 * Create a model whose refinements are kept in memory only.
+	 */
+	PolygonCostModel() {
+		this((Path) null);
+	}
+
+	PolygonCostModel(Path stateFile) {
+		this.stateFile = stateFile;
+
+		scales = new double[PRIOR_WEIGHTS.length];
+		Arrays.fill(scales, 1.0);
+
+		if (stateFile != null) {
+			load(stateFile);
+		}
+	}
+
+	/**
+	 * Estimate the time needed to project the given polygons.
+	 *
+	 * @param features the features of one or more polygons
+	 * @return the estimated cost, in milliseconds
+	 */
+	public synchronized double estimate(PolygonCostFeatures features) {
+		double[] contributions = priorContributions(features);
+
+		double cost = 0.0;
+		for (int i = 0; i < contributions.length; i++) {
+			cost += scales[i] * contributions[i];
+		}
+		return cost;
+	}
+
+	/**
+	 * Refine the model with the time taken to project the given polygons.
+	 *
+	 * @param features   the features of the polygons that were projected
+	 * @param elapsedMillis the time taken, in milliseconds
+	 */
+	public synchronized void recordTiming(PolygonCostFeatures features, long elapsedMillis) {
+		if (features == null || features.getPolygonCount() == 0 || elapsedMillis <= 0) {
+			return;
+		}
+
+		double[] contributions = priorContributions(features);
+
+		double estimate = 0.0;
+		double norm = 0.0;
+		for (int i = 0; i < contributions.length; i++) {
+			estimate += scales[i] * contributions[i];
+			norm += contributions[i] * contributions[i];
+		}
+
+		// The prior contributions are all of a similar magnitude, which keeps the update well conditioned even though
+		// the raw features (polygons vs. years of growth, say) are not.
+		double step = LEARNING_RATE * (elapsedMillis - estimate) / norm;
+		for (int i = 0; i < contributions.length; i++) {
+			scales[i] = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scales[i] + step * contributions[i]));
+		}
+
+		observationCount++;
+
+		if (stateFile != null) {
+			save(stateFile);
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace(
+					"Recorded {} ms for {} (estimated {} ms); cost model weights are now {}", elapsedMillis, features,
+					estimate, Arrays.toString(getWeights())
+			);
+		}
+	}
+
+	/**
+	 * @return the current cost, in milliseconds, of a polygon, a layer, a species, a FIP-standard polygon and a year
+	 *         of growth
+	 */
+	public synchronized double[] getWeights() {
+		double[] weights = new double[PRIOR_WEIGHTS.length];
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] = scales[i] * PRIOR_WEIGHTS[i];
+		}
+		return weights;
+	}
+
+	/**
+	 * @return the number of timings that have been recorded
+	 */
+	public synchronized long getObservationCount() {
+		return observationCount;
+	}
+
+	/**
+	 * Restore the refinements saved by an earlier instance. A missing file leaves the priors in place, as does one that
+	 * can't be read, since the model is only an aid to partitioning.
+	 */
+	private void load(Path file) {
+		if (!Files.exists(file)) {
+			return;
+		}
+
+		Properties state = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			state.load(reader);
+
+			double[] savedScales = new double[scales.length];
+			for (int i = 0; i < savedScales.length; i++) {
+				double scale = Double.parseDouble(state.getProperty(SCALE_KEY_PREFIX + i, "1.0"));
+				savedScales[i] = Double.isFinite(scale) ? Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale)) : 1.0;
+			}
+			long savedObservationCount = Long.parseLong(state.getProperty(OBSERVATION_COUNT_KEY, "0"));
+
+			System.arraycopy(savedScales, 0, scales, 0, scales.length);
+			observationCount = Math.max(0, savedObservationCount);
+
+			logger.info(
+					"Loaded polygon cost model from {} ({} timings); weights are {}", file, observationCount,
+					Arrays.toString(getWeights())
+			);
+		} catch (IOException | NumberFormatException e) {
+			logger.warn("Unable to load polygon cost model from {}; starting from the priors: {}", file, e.getMessage());
+		}
+	}
+
+	/**
+	 * Save the refinements, replacing the file in one step so that a reader never sees a partial one.
+	 */
+	private void save(Path file) {
+		Properties state = new Properties();
+		for (int i = 0; i < scales.length; i++) {
+			state.setProperty(SCALE_KEY_PREFIX + i, Double.toString(scales[i]));
+		}
+		state.setProperty(OBSERVATION_COUNT_KEY, Long.toString(observationCount));
+
+		try {
+			Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, STATE_FILE_NAME, ".tmp");
+			try {
+				try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+					state.store(writer, "Refinements of the polygon cost model");
+				}
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tempFile);
+			}
+		} catch (IOException e) {
+			logger.warn("Unable to save polygon cost model to {}: {}", file, e.getMessage());
+		}
+	}
+
+	private static double[] priorContributions(PolygonCostFeatures features) {
+		return new double[] { PRIOR_WEIGHTS[0] * features.getPolygonCount(),
+				PRIOR_WEIGHTS[1] * features.getLayerCount(), PRIOR_WEIGHTS[2] * features.getSpeciesCount(),
+				PRIOR_WEIGHTS[3] * features.getFipPolygonCount(), PRIOR_WEIGHTS[4] * features.getGrowthYears() };
+	}
+}
@@ -0,0 +1,228 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
+
+/**
+ * The yield table of a running job, merged into a partial result ZIP as the job's chunks complete rather than all at
+ * once after the last one.
+ *
+ * Chunks complete in any order, but the yield table must list them in partition and chunk order for TABLE_NUM to be
+ * assigned as it would be by merging the partition output directories. Completed chunks are therefore held back until
+ * every chunk before them has been appended, and then appended in order by whichever worker thread completed the
+ * chunk that was being waited for.
+ *
+ * Streaming is abandoned, leaving the yield table to be merged from the partition output directories, when the chunks
+ * produce more than one type of yield table or the partial ZIP cannot be written.
+ */
+class StreamedYieldTable {
+
+	private static final Logger logger = LoggerFactory.getLogger(StreamedYieldTable.class);
+
+	private final Path partialZipPath;
+
+	/** Completed chunks not yet appended, by partition and chunk number */
+	private final Map<Long, BatchChunkMetadata> pendingChunks = new HashMap<>();
+	private int nextPartitionNumber = 0;
+	private int nextChunkNumber = 1;
+	private boolean appending = false;
+	private boolean abandoned = false;
+
+	private ZipOutputStream zipOut;
+	private YieldTableMerger merger;
+	private String fileType;
+	private final List<YieldTableSegment> appendedSegments = new ArrayList<>();
+
+	StreamedYieldTable(Path jobBasePath) {
+		this.partialZipPath = jobBasePath.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME);
+	}
+
+	/**
+	 * Records that a chunk has been completed, and appends it and any completed chunks after it once every chunk
+	 * before it has been appended.
+	 */
+	void chunkCompleted(BatchChunkMetadata chunk) {
+		int partitionNumber = partitionNumber(chunk.getPartitionName());
+
+		synchronized (this) {
+			if (abandoned) {
+				return;
+			}
+			if (partitionNumber < 0) {
+				abandon("Unrecognized partition " + chunk.getPartitionName());
+				return;
+			}
+
+			pendingChunks.put(key(partitionNumber, chunk.getCurrentChunkNumber()), chunk);
+			if (appending) {
+				// The thread that is appending picks this chunk up when its turn comes
+				return;
+			}
+			appending = true;
+		}
+
+		appendPendingChunks();
+	}
+
+	/**
+	 * Waits for the chunk being appended, if any, and finishes with streaming.
+	 *
+	 * @param yieldTableSegments the yield table segments of the job, by type, in the order they are to be merged
+	 * @return the merger the job's yield table segments were streamed through, with its ZIP entry still open for the
+	 *         header to be recovered; or null if streaming was abandoned or did not stream exactly those segments, in
+	 *         which case the partial ZIP has been discarded
+	 * @throws InterruptedException if interrupted while waiting for the chunk being appended
+	 */
+	synchronized YieldTableMerger finish(Map<String, List<YieldTableSegment>> yieldTableSegments)
+			throws InterruptedException {
+		while (appending) {
+			wait();
+		}
+
+		if (abandoned || fileType == null || yieldTableSegments.size() != 1
+				|| !appendedSegments.equals(yieldTableSegments.get(fileType))) {
+			abandon("Streamed yield table segments do not match the job's yield table segments");
+			return null;
+		}
+
+		return merger;
+	}
+
+	/**
+	 * @return the ZIP the yield table has been streamed into
+	 */
+	ZipOutputStream getZipOutputStream() {
+		return zipOut;
+	}
+
+	/**
+	 * @return the partial result ZIP, which is complete once the ZIP output stream is closed
+	 */
+	Path getPartialZipPath() {
+		return partialZipPath;
+	}
+
+	/**
+	 * Abandons streaming, discarding the partial ZIP.
+	 */
+	synchronized void discard() {
+		abandon("Discarded");
+	}
+
+	private void appendPendingChunks() {
+		while (true) {
+			BatchChunkMetadata chunk;
+			synchronized (this) {
+				chunk = abandoned ? null : pendingChunks.remove(key(nextPartitionNumber, nextChunkNumber));
+				if (chunk == null) {
+					appending = false;
+					if (abandoned) {
+						deletePartialZip();
+					}
+					notifyAll();
+					return;
+				}
+
+				if (nextChunkNumber >= chunk.getPartitionChunkCount()) {
+					nextPartitionNumber++;
+					nextChunkNumber = 1;
+				} else {
+					nextChunkNumber++;
+				}
+			}
+
+			try {
+				append(chunk);
+			} catch (IOException e) {
+				synchronized (this) {
+					abandon("Failed to append " + chunk + ": " + e.getMessage());
+				}
+			}
+		}
+	}
+
+	/** Appends the yield table segments of a chunk. Called only by the thread that set appending. */
+	private void append(BatchChunkMetadata chunk) throws IOException {
+		for (YieldTableSegment segment : chunk.getYieldTableSegments()) {
+			String yieldTableFileName = segment.file().getFileName().toString();
+			String type = yieldTableFileName.substring(yieldTableFileName.lastIndexOf('.') + 1).toLowerCase();
+			if (fileType == null) {
+				zipOut = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(partialZipPath)));
+				zipOut.putNextEntry(new ZipEntry(BatchConstants.File.YIELD_TABLE_TYPE + "." + type));
+				merger = new YieldTableMerger(zipOut);
+				fileType = type;
+			} else if (!fileType.equals(type)) {
+				synchronized (this) {
+					abandon("Chunks produced more than one type of yield table");
+				}
+				return;
+			}
+
+			merger.append(segment);
+			appendedSegments.add(segment);
+		}
+
+		logger.trace("Streamed yield table of chunk {} of {}", chunk.getCurrentChunkNumber(), chunk.getPartitionName());
+	}
+
+	/**
+	 * Must be called holding the lock. If a chunk is being appended, the partial ZIP is deleted once the appending
+	 * thread has finished with it.
+	 */
+	private void abandon(String reason) {
+		if (abandoned) {
+			return;
+		}
+		abandoned = true;
+		pendingChunks.clear();
+
+		logger.debug("Stopped streaming yield table into {}: {}", partialZipPath, reason);
+
+		if (!appending) {
+			deletePartialZip();
+		}
+	}
+
+	private void deletePartialZip() {
+		if (zipOut != null) {
+			try {
+				zipOut.close();
+			} catch (IOException e) {
+				logger.warn("Failed to close partial result ZIP: {}", partialZipPath, e);
+			}
+			zipOut = null;
+		}
+		try {
+			Files.deleteIfExists(partialZipPath);
+		} catch (IOException e) {
+			logger.warn("Failed to delete partial result ZIP: {}", partialZipPath, e);
+		}
+	}
+
+	private static long key(int partitionNumber, int chunkNumber) {
+		return ((long) partitionNumber << 32) | chunkNumber;
+	}
+
+	private static int partitionNumber(String partitionName) {
+		try {
+			return Integer.parseInt(partitionName.replace(BatchConstants.Partition.PREFIX, ""));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
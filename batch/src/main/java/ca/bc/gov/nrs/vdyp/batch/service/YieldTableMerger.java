@@ -0,0 +1,265 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchUtils;
+
+/**
+ * Merges yield table files of the same type into a single output, assigning TABLE_NUM based on polygon/layer
+ * combinations across all of the merged files. The header of the first file that has one is written once, and the
+ * headers of later files are dropped. A file may also be merged a segment at a time, each segment being treated as a
+ * file of its own.
+ *
+ * Lines are copied as bytes: only the TABLE_NUM and FEATURE_ID columns of each line are examined, and the rest of the
+ * line is written as it was read. Lines are terminated by the platform line separator.
+ */
+class YieldTableMerger {
+
+	private static final Logger logger = LoggerFactory.getLogger(YieldTableMerger.class);
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	private final OutputStream out;
+	private final TableNumberAssigner tableNumberAssigner = new TableNumberAssigner();
+
+	private final byte[] readBuffer = new byte[BUFFER_SIZE];
+	private byte[] line = new byte[1024];
+	private int lineLength;
+
+	private boolean isFirstFile = true;
+	private boolean headerWritten = false;
+
+	YieldTableMerger(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * Appends a yield table file to the merged output. Files that do not exist or cannot be read are skipped.
+	 *
+	 * @throws IOException if file reading or writing fails
+	 */
+	void append(Path tablePath) throws IOException {
+		append(YieldTableSegment.of(tablePath));
+	}
+
+	/**
+	 * Appends a segment of a yield table file to the merged output, as if it were a file of its own. Segments of files
+	 * that do not exist or cannot be read are skipped, and a segment extending past the end of its file ends there.
+	 *
+	 * @throws IOException if file reading or writing fails
+	 */
+	void append(YieldTableSegment segment) throws IOException {
+		Path tablePath = segment.file();
+		if (!Files.exists(tablePath)) {
+			logger.warn("Yield table file does not exist: {}", tablePath);
+			return;
+		}
+
+		if (!Files.isReadable(tablePath)) {
+			logger.warn("Yield table file is not readable: {}", tablePath);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(tablePath, StandardOpenOption.READ)) {
+			channel.position(segment.start());
+			long remaining = segment.end() - segment.start();
+
+			// Lines end at "\n", "\r" or "\r\n", as for Files.lines()
+			boolean firstLine = true;
+			boolean skipLineFeed = false;
+			lineLength = 0;
+
+			ByteBuffer buffer = ByteBuffer.wrap(readBuffer);
+			while (remaining > 0) {
+				buffer.clear().limit((int) Math.min(BUFFER_SIZE, remaining));
+				int bytesRead = channel.read(buffer);
+				if (bytesRead == -1) {
+					break;
+				}
+				remaining -= bytesRead;
+
+				int lineStart = 0;
+				for (int i = 0; i < bytesRead; i++) {
+					byte b = readBuffer[i];
+					if (b == '\n' && skipLineFeed) {
+						skipLineFeed = false;
+						lineStart = i + 1;
+						continue;
+					}
+
+					skipLineFeed = false;
+					if (b == '\n' || b == '\r') {
+						appendToLine(readBuffer, lineStart, i - lineStart);
+						processLine(firstLine);
+						firstLine = false;
+						lineStart = i + 1;
+						skipLineFeed = b == '\r';
+					}
+				}
+				appendToLine(readBuffer, lineStart, bytesRead - lineStart);
+			}
+
+			if (lineLength > 0) {
+				processLine(firstLine);
+			}
+		}
+	}
+
+	/**
+	 * Writes a line to the merged output as it is, with the platform line separator.
+	 *
+	 * @throws IOException if writing fails
+	 */
+	void writeLine(String text) throws IOException {
+		out.write(text.getBytes(StandardCharsets.UTF_8));
+		out.write(LINE_SEPARATOR);
+	}
+
+	/**
+	 * @return whether any of the merged files began with a header
+	 */
+	boolean isHeaderWritten() {
+		return headerWritten;
+	}
+
+	/**
+	 * @return the number of unique polygon/layer combinations merged
+	 */
+	int getUniqueCount() {
+		return tableNumberAssigner.getUniqueCount();
+	}
+
+	private void appendToLine(byte[] bytes, int offset, int length) {
+		if (length <= 0) {
+			return;
+		}
+		if (lineLength + length > line.length) {
+			line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+		}
+		System.arraycopy(bytes, offset, line, lineLength, length);
+		lineLength += length;
+	}
+
+	/**
+	 * Processes the line that has been read, which is the first line of a file (header or data line) or a data line.
+	 */
+	private void processLine(boolean firstLine) throws IOException {
+		try {
+			if (firstLine) {
+				String text = new String(line, 0, lineLength, StandardCharsets.UTF_8);
+				if (BatchUtils.isHeaderLine(text)) {
+					if (isFirstFile) {
+						writeLine(text);
+					}
+					isFirstFile = false;
+					headerWritten = true;
+					return;
+				}
+			}
+
+			tableNumberAssigner.writeWithTableNumber(line, lineLength, out);
+		} finally {
+			lineLength = 0;
+		}
+	}
+
+	/**
+	 * Assigns TABLE_NUM based on polygon/layer combination: a new number is assigned whenever the TABLE_NUM or the
+	 * FEATURE_ID of a line differs from the line before.
+	 */
+	private static class TableNumberAssigner {
+		private int tableNum = 0;
+		private byte[] lastTableNum = new byte[0];
+		private byte[] lastFeatureNum = new byte[0];
+
+		/**
+		 * Writes a line with its TABLE_NUM replaced by the assigned number. Blank lines and lines with fewer than two
+		 * columns are written as they are, and lines with no TABLE_NUM or FEATURE_ID are dropped.
+		 */
+		void writeWithTableNumber(byte[] line, int length, OutputStream out) throws IOException {
+			// Fast path: Locate only the columns we need
+			// CSV structure: "TABLE_NUM","FEATURE_ID","DISTRICT","MAP_ID","POLYGON_ID","LAYER_ID",...
+			int firstComma = indexOf(line, (byte) ',', 0, length);
+			int secondComma = firstComma == -1 ? -1 : indexOf(line, (byte) ',', firstComma + 1, length);
+			if (secondComma == -1 || isBlank(line, 0, length)) {
+				out.write(line, 0, length);
+				out.write(LINE_SEPARATOR);
+				return;
+			}
+
+			int tableNumStart = trimStart(line, 0, firstComma);
+			int tableNumEnd = trimEnd(line, tableNumStart, firstComma);
+			int featureIdStart = trimStart(line, firstComma + 1, secondComma);
+			int featureIdEnd = trimEnd(line, featureIdStart, secondComma);
+
+			if (tableNumStart == tableNumEnd) {
+				logger.warn(
+						"Skipping line with missing TABLE_NUM: {}", new String(line, 0, length, StandardCharsets.UTF_8)
+				);
+				return;
+			}
+			if (featureIdStart == featureIdEnd) {
+				logger.warn(
+						"Skipping line with missing FEATURE_ID: {}", new String(line, 0, length, StandardCharsets.UTF_8)
+				);
+				return;
+			}
+
+			if (!Arrays.equals(line, featureIdStart, featureIdEnd, lastFeatureNum, 0, lastFeatureNum.length)
+					|| !Arrays.equals(line, tableNumStart, tableNumEnd, lastTableNum, 0, lastTableNum.length)) {
+				tableNum++;
+				lastFeatureNum = Arrays.copyOfRange(line, featureIdStart, featureIdEnd);
+				lastTableNum = Arrays.copyOfRange(line, tableNumStart, tableNumEnd);
+			}
+
+			out.write(Integer.toString(tableNum).getBytes(StandardCharsets.US_ASCII));
+			out.write(line, firstComma, length - firstComma);
+			out.write(LINE_SEPARATOR);
+		}
+
+		int getUniqueCount() {
+			return tableNum;
+		}
+
+		private static int indexOf(byte[] bytes, byte b, int from, int to) {
+			for (int i = from; i < to; i++) {
+				if (bytes[i] == b) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** As {@link String#trim()}, which treats every character up to and including space as white space */
+		private static int trimStart(byte[] bytes, int from, int to) {
+			while (from < to && (bytes[from] & 0xff) <= ' ') {
+				from++;
+			}
+			return from;
+		}
+
+		private static int trimEnd(byte[] bytes, int from, int to) {
+			while (to > from && (bytes[to - 1] & 0xff) <= ' ') {
+				to--;
+			}
+			return to;
+		}
+
+		private static boolean isBlank(byte[] bytes, int from, int to) {
+			return trimStart(bytes, from, to) == to;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
+
+/**
+ * The index of the yield table segments written to a partition output directory, kept in a file beside the yield
+ * tables so that the chunks' yield tables can be found again when the job's results are aggregated, including after a
+ * restart.
+ *
+ * Each line records one segment: the partition and number of the chunk it was written for, when it was recorded, and
+ * the name of its file in the directory with its start and end offsets. A chunk projected by a worker step of another
+ * partition is recorded in the index of the directory it was written to, under its own partition. A chunk recorded
+ * more than once, because it was projected again after a restart, is taken from its latest entry.
+ */
+final class YieldTableSegmentIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(YieldTableSegmentIndex.class);
+
+	private static final String SEPARATOR = ",";
+
+	/**
+	 * A segment recorded in an index.
+	 *
+	 * @param partitionName the partition of the chunk the segment was written for
+	 * @param chunkNumber   the number of that chunk in its partition
+	 * @param recordedMs    when the segment was recorded, in milliseconds since the epoch
+	 * @param segment       the segment
+	 */
+	record Entry(String partitionName, int chunkNumber, long recordedMs, YieldTableSegment segment) {
+	}
+
+	private YieldTableSegmentIndex() {
+	}
+
+	/**
+	 * Record the yield table segments of a chunk in the index of the directory they were written to.
+	 *
+	 * @param folder the directory of the chunk's yield table files
+	 * @param chunk  the chunk, whose segments have been set
+	 * @throws IOException if the index cannot be written
+	 */
+	static void record(Path folder, BatchChunkMetadata chunk) throws IOException {
+		long recordedMs = System.currentTimeMillis();
+
+		StringBuilder lines = new StringBuilder();
+		for (YieldTableSegment segment : chunk.getYieldTableSegments()) {
+			lines.append(chunk.getPartitionName()).append(SEPARATOR).append(chunk.getCurrentChunkNumber())
+					.append(SEPARATOR).append(recordedMs).append(SEPARATOR).append(segment.file().getFileName())
+					.append(SEPARATOR).append(segment.start()).append(SEPARATOR).append(segment.end())
+					.append(System.lineSeparator());
+		}
+
+		// Written at once, so that an entry is never interleaved with another chunk's
+		Files.writeString(
+				folder.resolve(BatchConstants.Partition.CHUNK_INDEX_FILE_NAME), lines, StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND
+		);
+	}
+
+	/**
+	 * @param folder a partition output directory
+	 * @return the entries of the directory's index, in the order they were recorded; none if it has no index. Lines
+	 *         that cannot be read, such as one left incomplete by a failure, are skipped.
+	 * @throws IOException if the index cannot be read
+	 */
+	static List<Entry> read(Path folder) throws IOException {
+		Path indexPath = folder.resolve(BatchConstants.Partition.CHUNK_INDEX_FILE_NAME);
+		List<Entry> entries = new ArrayList<>();
+		if (!Files.isRegularFile(indexPath)) {
+			return entries;
+		}
+
+		for (String line : Files.readAllLines(indexPath, StandardCharsets.UTF_8)) {
+			String[] fields = line.split(SEPARATOR, -1);
+			try {
+				if (fields.length != 6) {
+					throw new IllegalArgumentException("expected 6 fields but found " + fields.length);
+				}
+				entries.add(
+						new Entry(
+								fields[0], Integer.parseInt(fields[1]), Long.parseLong(fields[2]),
+								new YieldTableSegment(
+										folder.resolve(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5])
+								)
+						)
+				);
+			} catch (IllegalArgumentException e) {
+				logger.warn(
+						"Skipping unreadable entry \"{}\" of yield table index {}: {}", line, indexPath, e.getMessage()
+				);
+			}
+		}
+		return entries;
+	}
+}
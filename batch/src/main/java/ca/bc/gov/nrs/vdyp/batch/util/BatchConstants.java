@@ -59,6 +59,14 @@ public final class BatchConstants {
 		public static final String INPUT_LAYER_FILE_NAME = "layers.csv";
 		public static final String ASSIGNED_FEATURE_IDS = "assignedFeatureIds";
 		public static final String WARNING_FILE_NAME = "warnings.txt";
+		public static final String CHUNK_INDEX_FILE_NAME = "chunks.idx";
+		// Input records shared by the partitions, which are ranges of their chunks recorded in each partition's index
+		public static final String INPUT_FOLDER_NAME = INPUT_PREFIX;
+		public static final String INPUT_CHUNK_INDEX_FILE_NAME = "input-chunks.idx";
+		public static final String ESTIMATED_COST = "estimatedCost";
+		public static final String ESTIMATED_COSTS = "partitionEstimatedCosts";
+		public static final String POLYGON_RECORD_COUNT = "polygonRecordCount";
+		public static final String POLYGON_RECORD_COUNTS = "partitionPolygonRecordCounts";
 
 		private Partition() {
 		}
@@ -67,6 +75,7 @@ public final class BatchConstants {
 	public static final class File {
 		public static final String YIELD_TABLE_TYPE = "YieldTable";
 		public static final String YIELD_TABLE_FILENAME = "YieldTable.csv";
+		public static final String STREAMED_RESULTS_FILENAME = "streamedResults.zip.part";
 		public static final String LOG_TYPE_DEBUG = "Debug";
 		public static final String LOG_TYPE_ERROR = "Error";
 		public static final String LOG_TYPE_PROGRESS = "Progress";
@@ -95,8 +104,7 @@ public final class BatchConstants {
 		public static final String TOTAL_POLYGON_RECORDS = "totalPolygonRecords";
 		public static final String NUM_PROCESSED_POLYGON_RECORDS = "numProcessedPolygonRecords";
 		public static final String CURRENT_CHUNK_NUMBER = "currentChunkNumber";
-		public static final String CURRENT_POLYGON_CHUNK_START_BYTE_OFFSET = "currentPolygonChunkOffset";
-		public static final String CURRENT_LAYER_CHUNK_OFFSET = "currentLayerChunkOffset";
+		public static final String COMPLETED_CHUNKS = "completedChunks";
 
 		private Chunk() {
 		}
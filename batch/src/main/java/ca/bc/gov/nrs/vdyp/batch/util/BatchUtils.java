@@ -124,6 +124,43 @@ public final class BatchUtils {
 		return field.isEmpty() ? null : field;
 	}
 
+	/**
+	 * Extracts the field at the given (zero-based) position of a CSV line, handling both quoted and unquoted fields in
+	 * the same way as {@link #extractFeatureId(String)}.
+	 *
+	 * @param csvLine The CSV line to parse
+	 * @param index   The position of the field
+	 * @return The field trimmed, or null if the line has fewer fields or the field is empty
+	 */
+	public static String extractField(String csvLine, int index) {
+		if (csvLine == null) {
+			return null;
+		}
+
+		int start = 0;
+		boolean inQuotes = false;
+		int fieldNumber = 0;
+		for (int i = 0; i <= csvLine.length(); i++) {
+			boolean atEnd = i == csvLine.length();
+			char c = atEnd ? ',' : csvLine.charAt(i);
+			if (c == '"') {
+				inQuotes = !inQuotes;
+			} else if (c == ',' && (!inQuotes || atEnd)) {
+				if (fieldNumber == index) {
+					String field = csvLine.substring(start, i).trim();
+					if (field.length() >= 2 && field.charAt(0) == '"' && field.charAt(field.length() - 1) == '"') {
+						field = field.substring(1, field.length() - 1).replace("\"\"", "\"");
+					}
+					return field.isEmpty() ? null : field;
+				}
+				fieldNumber++;
+				start = i + 1;
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * Determines if a line is a header line.
 	 *
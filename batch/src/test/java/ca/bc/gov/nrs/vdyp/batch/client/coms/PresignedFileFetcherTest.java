@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -83,14 +84,38 @@ class PresignedFileFetcherTest {
 		verify(headersSpec, never()).retrieve();
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+	void download_passesContentToReaderAndClosesIt() throws Exception {
+		RestClient restClient = mock(RestClient.class);
+		RestClient.RequestHeadersUriSpec uriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+		RestClient.RequestHeadersSpec headersSpec = mock(RestClient.RequestHeadersSpec.class);
+		ConvertibleClientHttpResponse response = mock(ConvertibleClientHttpResponse.class);
+
+		URI uri = URI.create("https://example.test/object.csv");
+		when(restClient.get()).thenReturn(uriSpec);
+		when(uriSpec.uri(uri)).thenReturn(headersSpec);
+
+		byte[] content = createContent();
+		CloseTrackingInputStream stream = new CloseTrackingInputStream(content);
+		when(response.getStatusCode()).thenReturn(HttpStatus.OK);
+		when(response.getBody()).thenReturn(stream);
+		stubStreamingExchange(headersSpec, response);
+
+		// The reader need not read all of the content
+		byte[] read = new PresignedFileFetcher(restClient).download(uri.toString(), in -> in.readNBytes(1000));
+
+		assertArrayEquals(Arrays.copyOf(content, 1000), read);
+		assertTrue(stream.isClosed());
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private static void
 			stubStreamingExchange(RestClient.RequestHeadersSpec headersSpec, ConvertibleClientHttpResponse response) {
 		doAnswer(invocation -> {
 			ExchangeFunction<?> exchangeFunction = invocation.getArgument(0);
 			try {
-				exchangeFunction.exchange(mock(HttpRequest.class), response);
-				return null;
+				return exchangeFunction.exchange(mock(HttpRequest.class), response);
 			} catch (IOException e) {
 				throw new ResourceAccessException("I/O error", e);
 			}
@@ -54,6 +54,7 @@ import ca.bc.gov.nrs.vdyp.batch.model.VDYPProjectionProgressUpdate;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchMetricsCollector;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchProjectionService;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchResultAggregationService;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkWorkQueue;
 import ca.bc.gov.nrs.vdyp.batch.service.ResultPersistenceTasklet;
 
 @ExtendWith(MockitoExtension.class)
@@ -647,8 +648,10 @@ class BatchConfigurationTest {
 
 	@Test
 	void testPartitionReader_UsesConfiguredChunkSize() {
-		var partitionReader = configuration
-				.partitionReader("partition-1", TEST_JOB_EXECUTION_ID, TEST_JOB_GUID, 25L, batchProperties);
+		var partitionReader = configuration.partitionReader(
+				"partition-1", TEST_JOB_EXECUTION_ID, TEST_JOB_GUID, 25L, null, batchProperties, objectMapper,
+				new ChunkWorkQueue()
+		);
 
 		assertNotNull(partitionReader);
 		verify(reader, never()).getDefaultChunkSize();
@@ -656,8 +659,10 @@ class BatchConfigurationTest {
 
 	@Test
 	void testPartitionReader_WhenChunkSizeParameterMissing_UsesDefaultChunkSize() {
-		var partitionReader = configuration
-				.partitionReader("partition-1", TEST_JOB_EXECUTION_ID, TEST_JOB_GUID, null, batchProperties);
+		var partitionReader = configuration.partitionReader(
+				"partition-1", TEST_JOB_EXECUTION_ID, TEST_JOB_GUID, null, null, batchProperties, objectMapper,
+				new ChunkWorkQueue()
+		);
 
 		assertNotNull(partitionReader);
 		verify(reader, org.mockito.Mockito.times(1)).getDefaultChunkSize();
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,11 @@ import org.springframework.batch.item.ItemStreamException;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchDataReadException;
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkWorkQueue;
+import ca.bc.gov.nrs.vdyp.batch.service.InputChunkIndex;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
 class BatchItemReaderTest {
 
@@ -34,7 +40,9 @@ class BatchItemReaderTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
-		reader = new BatchItemReader("test-partition", 123L, JOB_GUID, 2);
+		reader = new BatchItemReader(
+				"test-partition", 123L, JOB_GUID, 2, ProjectionYearRange.UNKNOWN, new ChunkWorkQueue()
+		);
 		executionContext = new ExecutionContext();
 	}
 
@@ -186,6 +194,202 @@ class BatchItemReaderTest {
 		assertThrows(BatchDataReadException.class, () -> reader.read());
 	}
 
+	@Test
+	void testOpen_WithRecordedPolygonCount() throws IOException, BatchDataReadException {
+		// Partition files as written by the partitioner, without a header
+		Path partitionDir = tempDir.resolve("input-test-partition");
+		Files.createDirectories(partitionDir);
+		Files.writeString(partitionDir.resolve("polygons.csv"), "123,data1\n456,data2\n789,data3\n");
+		Files.writeString(partitionDir.resolve("layers.csv"), "123,layer1\n456,layer2\n");
+		executionContext.putString("jobBaseDir", tempDir.toString());
+		executionContext.putInt(BatchConstants.Partition.POLYGON_RECORD_COUNT, 3);
+
+		reader.open(executionContext);
+
+		BatchChunkMetadata chunk1 = reader.read();
+		assertNotNull(chunk1);
+		assertEquals(0, chunk1.getPolygonStartByte());
+		assertEquals(2, chunk1.getPolygonRecordCount());
+		assertEquals(0, chunk1.getLayerStartByte());
+		assertEquals(2, chunk1.getLayerRecordCount());
+
+		BatchChunkMetadata chunk2 = reader.read();
+		assertNotNull(chunk2);
+		assertEquals(20, chunk2.getPolygonStartByte());
+		assertEquals(1, chunk2.getPolygonRecordCount());
+		assertEquals(0, chunk2.getLayerRecordCount());
+
+		assertNull(reader.read());
+
+		reader.update(executionContext);
+		assertEquals(3, executionContext.getInt("totalPolygonRecords"));
+
+		reader.close();
+	}
+
+	@Test
+	void testOpen_WithChunkIndex() throws IOException, BatchDataReadException {
+		// The partition's chunks, recorded as the input was partitioned, are in the shared input files, which are not
+		// scanned again
+		Path partitionDir = tempDir.resolve("input-test-partition");
+		InputChunkIndex.write(
+				partitionDir,
+				List.of(
+						new InputChunkIndex.Entry(30, 2, 40, 3, PolygonCostFeatures.of(2, 3, 4, 0, 100)),
+						new InputChunkIndex.Entry(60, 1, 100, 0, PolygonCostFeatures.of(1, 0, 0, 1, 50))
+				)
+		);
+		executionContext.putString("jobBaseDir", tempDir.toString());
+
+		reader.open(executionContext);
+
+		BatchChunkMetadata chunk1 = reader.read();
+		assertNotNull(chunk1);
+		assertEquals(1, chunk1.getCurrentChunkNumber());
+		assertEquals(30, chunk1.getPolygonStartByte());
+		assertEquals(2, chunk1.getPolygonRecordCount());
+		assertEquals(40, chunk1.getLayerStartByte());
+		assertEquals(3, chunk1.getLayerRecordCount());
+		assertEquals(BatchConstants.Partition.INPUT_FOLDER_NAME, chunk1.getInputFolderName());
+		assertEquals(4, chunk1.getCostFeatures().getSpeciesCount());
+		assertEquals(100, chunk1.getCostFeatures().getGrowthYears());
+		assertEquals(2, chunk1.getPartitionChunkCount());
+
+		BatchChunkMetadata chunk2 = reader.read();
+		assertNotNull(chunk2);
+		assertEquals(2, chunk2.getCurrentChunkNumber());
+		assertEquals(60, chunk2.getPolygonStartByte());
+		assertEquals(1, chunk2.getCostFeatures().getFipPolygonCount());
+
+		assertNull(reader.read());
+
+		reader.update(executionContext);
+		assertEquals(3, executionContext.getInt("totalPolygonRecords"));
+
+		reader.close();
+	}
+
+	@Test
+	void testOpen_WithUnreadableChunkIndex() throws IOException {
+		Path partitionDir = tempDir.resolve("input-test-partition");
+		Files.createDirectories(partitionDir);
+		Files.writeString(partitionDir.resolve(BatchConstants.Partition.INPUT_CHUNK_INDEX_FILE_NAME), "0,2,0\n");
+		executionContext.putString("jobBaseDir", tempDir.toString());
+
+		ItemStreamException exception = assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+		assertTrue(exception.getMessage().contains("Failed to initialize partition reader"));
+	}
+
+	@Test
+	void testUpdate_PersistsCompletedChunks() throws IOException, BatchDataReadException {
+		setupValidTestFiles();
+		reader.open(executionContext);
+
+		assertEquals(1, reader.read().getCurrentChunkNumber());
+		reader.update(executionContext);
+
+		assertEquals("1", executionContext.getString("completedChunks"));
+		assertEquals(3, executionContext.getInt("totalPolygonRecords"));
+		assertEquals(2, executionContext.getInt("numProcessedPolygonRecords"));
+
+		reader.close();
+	}
+
+	@Test
+	void testOpen_RestoresCompletedChunks() throws IOException, BatchDataReadException {
+		setupValidTestFiles();
+		executionContext.putString("completedChunks", "1");
+
+		reader.open(executionContext);
+
+		BatchChunkMetadata chunk = reader.read();
+		assertNotNull(chunk);
+		assertEquals(2, chunk.getCurrentChunkNumber());
+		assertEquals(1, chunk.getPolygonRecordCount());
+		assertNull(reader.read());
+
+		reader.close();
+	}
+
+	@Test
+	void testRead_StealsChunksOfAnotherPartition() throws IOException, BatchDataReadException {
+		setupValidTestFiles();
+		Path otherPartitionDir = tempDir.resolve("input-other-partition");
+		Files.createDirectories(otherPartitionDir);
+		Files.write(otherPartitionDir.resolve("polygons.csv"), "FEATURE_ID,DATA
+".getBytes());
+		Files.write(otherPartitionDir.resolve("layers.csv"), "FEATURE_ID,LAYER_DATA
+".getBytes());
+
+		ChunkWorkQueue chunkWorkQueue = new ChunkWorkQueue();
+		BatchItemReader owner = new BatchItemReader(
+				"test-partition", 123L, JOB_GUID, 2, ProjectionYearRange.UNKNOWN, chunkWorkQueue
+		);
+		BatchItemReader thief = new BatchItemReader(
+				"other-partition", 123L, JOB_GUID, 2, ProjectionYearRange.UNKNOWN, chunkWorkQueue
+		);
+		ExecutionContext ownerContext = new ExecutionContext();
+		ownerContext.putString("jobBaseDir", tempDir.toString());
+		ExecutionContext thiefContext = new ExecutionContext();
+		thiefContext.putString("jobBaseDir", tempDir.toString());
+		owner.open(ownerContext);
+		thief.open(thiefContext);
+
+		// The thief has no chunks of its own, so it takes the last chunk of the other partition
+		BatchChunkMetadata stolen = thief.read();
+		assertNotNull(stolen);
+		assertEquals("test-partition", stolen.getPartitionName());
+		assertEquals(2, stolen.getCurrentChunkNumber());
+
+		BatchChunkMetadata own = owner.read();
+		assertEquals(1, own.getCurrentChunkNumber());
+		owner.update(ownerContext);
+
+		thief.update(thiefContext);
+		assertNull(thief.read());
+		assertNull(owner.read());
+
+		// The stolen chunk is persisted by the partition it belongs to
+		owner.update(ownerContext);
+		assertEquals("1,2", ownerContext.getString("completedChunks"));
+		assertEquals("", thiefContext.getString("completedChunks"));
+
+		thief.close();
+		owner.close();
+	}
+
+	@Test
+	void testClose_ReleasesUncommittedChunks() throws IOException, BatchDataReadException {
+		setupValidTestFiles();
+		Path otherPartitionDir = tempDir.resolve("input-other-partition");
+		Files.createDirectories(otherPartitionDir);
+		Files.write(otherPartitionDir.resolve("polygons.csv"), "FEATURE_ID,DATA
+".getBytes());
+		Files.write(otherPartitionDir.resolve("layers.csv"), "FEATURE_ID,LAYER_DATA
+".getBytes());
+
+		ChunkWorkQueue chunkWorkQueue = new ChunkWorkQueue();
+		BatchItemReader owner = new BatchItemReader(
+				"test-partition", 123L, JOB_GUID, 2, ProjectionYearRange.UNKNOWN, chunkWorkQueue
+		);
+		BatchItemReader thief = new BatchItemReader(
+				"other-partition", 123L, JOB_GUID, 2, ProjectionYearRange.UNKNOWN, chunkWorkQueue
+		);
+		ExecutionContext thiefContext = new ExecutionContext();
+		thiefContext.putString("jobBaseDir", tempDir.toString());
+		owner.open(executionContext);
+		thief.open(thiefContext);
+
+		assertEquals(2, thief.read().getCurrentChunkNumber());
+		thief.close(); // Failed before the stolen chunk was committed
+
+		assertEquals(2, owner.read().getCurrentChunkNumber());
+		assertEquals(1, owner.read().getCurrentChunkNumber());
+		assertNull(owner.read());
+
+		owner.close();
+	}
+
 	@Test
 	void testBatchChunkMetadata_ToString() {
 		BatchChunkMetadata metadata = new BatchChunkMetadata("partition-1", "/path/to/job", 100L, 5, 200L, 3, 1);
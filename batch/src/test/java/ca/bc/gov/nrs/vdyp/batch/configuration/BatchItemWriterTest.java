@@ -37,6 +37,7 @@ import ca.bc.gov.nrs.vdyp.batch.exception.BatchConfigurationException;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchException;
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
 import ca.bc.gov.nrs.vdyp.batch.service.BatchProjectionService;
+import ca.bc.gov.nrs.vdyp.batch.service.ChunkProjectionSession;
 import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
 
 @ExtendWith(MockitoExtension.class)
@@ -142,7 +143,8 @@ class BatchItemWriterTest {
 
 		assertDoesNotThrow(() -> writer.write(emptyChunk));
 
-		verify(batchProjectionService, never()).performProjectionForChunk(any(), any(), any(), any());
+		verify(batchProjectionService, never())
+				.performProjectionForChunk(any(), any(ChunkProjectionSession.class), any(), any());
 	}
 
 	@Test
@@ -151,13 +153,13 @@ class BatchItemWriterTest {
 		BatchChunkMetadata chunkMetadata = createMockChunkMetadata(TEST_PARTITION_NAME, 2);
 		Chunk<BatchChunkMetadata> chunk = new Chunk<>(Arrays.asList(chunkMetadata));
 
-		when(batchProjectionService.performProjectionForChunk(any(), any(), any(), any()))
+		when(batchProjectionService.performProjectionForChunk(any(), any(ChunkProjectionSession.class), any(), any()))
 				.thenReturn("projection result");
 
 		assertDoesNotThrow(() -> writer.write(chunk));
 
 		verify(batchProjectionService).performProjectionForChunk(
-				eq(chunkMetadata), any(Parameters.class), eq(TEST_JOB_EXECUTION_ID), eq(TEST_JOB_GUID)
+				eq(chunkMetadata), any(ChunkProjectionSession.class), eq(TEST_JOB_EXECUTION_ID), eq(TEST_JOB_GUID)
 		);
 	}
 
@@ -168,14 +170,16 @@ class BatchItemWriterTest {
 		Chunk<BatchChunkMetadata> chunk = new Chunk<>(Arrays.asList(chunkMetadata));
 
 		RuntimeException testException = new RuntimeException("Test projection failure");
-		when(batchProjectionService.performProjectionForChunk(any(), any(), any(), any())).thenThrow(testException);
+		when(batchProjectionService.performProjectionForChunk(any(), any(ChunkProjectionSession.class), any(), any()))
+				.thenThrow(testException);
 
 		RuntimeException thrownException = assertThrows(RuntimeException.class, () -> {
 			writer.write(chunk);
 		});
 
 		assertEquals(testException, thrownException);
-		verify(batchProjectionService).performProjectionForChunk(any(), any(), any(), any());
+		verify(batchProjectionService)
+				.performProjectionForChunk(any(), any(ChunkProjectionSession.class), any(), any());
 	}
 
 	@Test
@@ -3,6 +3,7 @@ package ca.bc.gov.nrs.vdyp.batch.configuration;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ExecutionContext;
 
 import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.service.BatchResultAggregationService;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
 class ChunkWriteListenerTest {
@@ -84,4 +86,21 @@ class ChunkWriteListenerTest {
 
 		assertThat(executionContext.getInt(BatchConstants.Job.POLYGONS_SKIPPED, 0), is(250));
 	}
+
+	@Test
+	void afterWriteAndOnSkipInWrite_reportCompletedChunksForAggregation() {
+		BatchResultAggregationService resultAggregationService = mock(BatchResultAggregationService.class);
+		when(stepExecution.getJobExecutionId()).thenReturn(7L);
+		listener = new ChunkWriteListener(resultAggregationService);
+		listener.beforeStep(stepExecution);
+
+		BatchChunkMetadata written = new BatchChunkMetadata("partition0", "/base", 0, 150, 0, 150, 1);
+		BatchChunkMetadata skipped = new BatchChunkMetadata("partition0", "/base", 150, 100, 150, 100, 2);
+
+		listener.afterWrite(new Chunk<>(written));
+		listener.onSkipInWrite(skipped, new RuntimeException("chunk projection failed"));
+
+		verify(resultAggregationService).chunkCompleted(7L, written);
+		verify(resultAggregationService).chunkCompleted(7L, skipped);
+	}
 }
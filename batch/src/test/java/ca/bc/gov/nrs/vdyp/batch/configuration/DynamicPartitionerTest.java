@@ -68,6 +68,25 @@ class DynamicPartitionerTest {
 		assertEquals("", context1.getString("assignedFeatureIds"));
 	}
 
+	@Test
+	void testPartition_WithPolygonCounts() {
+		dynamicPartitioner.setPartitionPolygonCounts(new int[] { 3, 2 });
+
+		Map<String, ExecutionContext> partitions = dynamicPartitioner.partition(2);
+
+		assertEquals(3, partitions.get("partition0").getInt("polygonRecordCount"));
+		assertEquals(2, partitions.get("partition1").getInt("polygonRecordCount"));
+	}
+
+	@Test
+	void testPartition_WithPolygonCountsForOtherPartitioning() {
+		dynamicPartitioner.setPartitionPolygonCounts(new int[] { 3, 2 });
+
+		Map<String, ExecutionContext> partitions = dynamicPartitioner.partition(3);
+
+		assertFalse(partitions.get("partition0").containsKey("polygonRecordCount"));
+	}
+
 	@Test
 	void testPartition_ZeroPartitions() {
 		Map<String, ExecutionContext> partitions = dynamicPartitioner.partition(0);
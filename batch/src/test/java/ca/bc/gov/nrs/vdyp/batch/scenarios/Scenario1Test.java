@@ -9,6 +9,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
@@ -45,6 +46,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import ca.bc.gov.nrs.vdyp.batch.client.coms.PresignedFileFetcher;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.FileMappingDetails;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypClient;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypProjectionDetails;
@@ -118,14 +120,12 @@ class Scenario1Test {
 
 		doAnswer(invocation -> {
 			UUID objectId = invocation.getArgument(0);
-			Path target = invocation.getArgument(1);
-			if (POLYGON_COMS_GUID.equals(objectId)) {
-				Files.write(target, polygonBytes);
-			} else if (LAYER_COMS_GUID.equals(objectId)) {
-				Files.write(target, layerBytes);
+			PresignedFileFetcher.ContentReader<?> reader = invocation.getArgument(1);
+			byte[] content = POLYGON_COMS_GUID.equals(objectId) ? polygonBytes : layerBytes;
+			try (var in = new ByteArrayInputStream(content)) {
+				return reader.read(in);
 			}
-			return null;
-		}).when(comsFileService).fetchObjectToFile(any(UUID.class), any(Path.class));
+		}).when(comsFileService).fetchObject(any(UUID.class), any());
 
 		// Capture the result ZIP before ResultPersistenceTasklet deletes the job directory
 		doAnswer(invocation -> {
@@ -1,16 +1,20 @@
 package ca.bc.gov.nrs.vdyp.batch.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -26,10 +31,14 @@ import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchPartitionException;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
 
 @ExtendWith(MockitoExtension.class)
 class BatchInputPartitionerTest {
 
+	@Spy
+	private PolygonCostModel costModel = new PolygonCostModel();
+
 	@InjectMocks
 	private BatchInputPartitioner batchInputPartitioner;
 
@@ -924,4 +933,231 @@ class BatchInputPartitionerTest {
 		assertNotNull(content);
 		assertFalse(content.isEmpty());
 	}
+
+	@Test
+	void testPartitionCsvStreams_RecordsChunksOfEachPartition() throws IOException {
+		String polygonCsv = """
+				FEATURE_ID,MAP_ID,POLYGON_NUMBER,ORG_UNIT
+				15724968,082G055,1234,DCR
+				15724970,082G055,5678,DCR
+
+				15724973,082G055,9999,DCR
+				15724975,082G055,4321,DCR
+				15724977,082G055,8765,DCR
+				""";
+
+		// The orphan layers are reported rather than written
+		String layerCsv = """
+				FEATURE_ID,MAP_ID,POLYGON_NUMBER,LAYER_LEVEL_CODE
+				15724967,082G055,1111,P
+				15724968,082G055,1234,P
+				15724968,082G055,1234,S
+				15724970,082G055,5678,P
+				15724975,082G055,4321,P
+				15724977,082G055,8765,P
+				15724977,082G055,8765,S
+				15724979,082G055,2222,P
+				""";
+
+		BatchInputPartitioner.PartitionedInput partitionedInput = partitionCsvStreams(
+				polygonCsv, layerCsv, 2, 2, ProjectionYearRange.UNKNOWN
+		);
+
+		// Three chunks of at most two polygons, the first with the most layers being given a partition of its own
+		assertArrayEquals(new int[] { 2, 3 }, partitionedInput.polygonRecordCounts());
+		assertEquals(5, partitionedInput.totalPolygonRecords());
+		assertEquals(2, partitionedInput.estimatedCosts().length);
+
+		Path inputDir = tempDir.resolve("input");
+		String polygons = Files.readString(inputDir.resolve("polygons.csv"));
+		String layers = Files.readString(inputDir.resolve("layers.csv"));
+		assertEquals(5, polygons.lines().count());
+		assertEquals(6, layers.lines().count());
+		assertFalse(layers.contains("15724967"));
+		assertFalse(layers.contains("15724979"));
+
+		List<InputChunkIndex.Entry> partition0 = InputChunkIndex.read(tempDir.resolve("input-partition0")).get();
+		List<InputChunkIndex.Entry> partition1 = InputChunkIndex.read(tempDir.resolve("input-partition1")).get();
+		assertEquals(1, partition0.size());
+		assertEquals(2, partition1.size());
+
+		// Each chunk starts at its first records, with no polygons or layers of another chunk in between
+		assertChunk(partition0.get(0), polygons, layers, 2, 3, "15724968");
+		assertChunk(partition1.get(0), polygons, layers, 2, 1, "15724973");
+		assertChunk(partition1.get(1), polygons, layers, 1, 2, "15724977");
+		assertEquals(0, partition0.get(0).polygonStartByte());
+		assertEquals(0, partition0.get(0).layerStartByte());
+	}
+
+	@Test
+	void testPartitionCsvStreams_MoreLayersAndSpeciesCostMore() throws IOException {
+		String polygonCsv = """
+				FEATURE_ID,MAP_ID,POLYGON_NUMBER,ORG_UNIT
+				15724968,082G055,1234,DCR
+				15724970,082G055,5678,DCR
+				15724973,082G055,9999,DCR
+				""";
+
+		// The second polygon has two layers, the third one layer with more species; the orphan is ignored
+		String layerCsv = """
+				FEATURE_ID,TREE_COVER_LAYER_ESTIMATED_ID,MAP_ID,POLYGON_NUMBER,LAYER_LEVEL_CODE,VDYP7_LAYER_CD,LAYER_STOCKABILITY,FOREST_COVER_RANK_CODE,NON_FOREST_DESCRIPTOR_CODE,EST_SITE_INDEX_SPECIES_CD,ESTIMATED_SITE_INDEX,CROWN_CLOSURE,BASAL_AREA_75,STEMS_PER_HA_75,SPECIES_CD_1,SPECIES_PCT_1,SPECIES_CD_2,SPECIES_PCT_2,SPECIES_CD_3,SPECIES_PCT_3
+				15724968,1,082G055,1234,1,P,,1,,FDC,19,40,40,375,FDC,100,,,,
+				15724969,1,082G055,1234,1,P,,1,,FDC,19,40,40,375,FDC,100,,,,
+				15724970,1,082G055,5678,1,P,,1,,FDC,19,40,40,375,FDC,100,,,,
+				15724970,2,082G055,5678,2,S,,1,,FDC,19,40,40,375,FDC,100,,,,
+				15724973,1,082G055,9999,1,P,,1,,BA,20,30,5,1733,BA,45,HW,35,CW,20
+				""";
+
+		// A chunk, and so a partition, of each polygon
+		double[] costs = partitionCsvStreams(polygonCsv, layerCsv, 1, 3, new ProjectionYearRange(2000, 2050, null, null))
+				.estimatedCosts();
+
+		assertEquals(3, costs.length);
+		assertTrue(costs[1] > costs[0], "A second layer should add to the cost");
+		assertTrue(costs[2] > costs[0], "More species should add to the cost");
+
+		// Growing the polygons further costs more
+		double[] longerCosts = partitionCsvStreams(
+				polygonCsv, layerCsv, 1, 3, new ProjectionYearRange(2000, 2150, null, null)
+		).estimatedCosts();
+		assertTrue(longerCosts[0] > costs[0], "A longer projection should add to the cost");
+	}
+
+	@Test
+	void testPartitionCsvStreams_FewerChunksThanPartitions() throws IOException {
+		BatchInputPartitioner.PartitionedInput partitionedInput = partitionCsvStreams(
+				POLYGON_CSV_CONTENT, "", 10, 4, ProjectionYearRange.UNKNOWN
+		);
+
+		assertArrayEquals(new int[] { 4 }, partitionedInput.polygonRecordCounts());
+		assertTrue(Files.exists(tempDir.resolve("input-partition0").resolve("input-chunks.idx")));
+		assertFalse(Files.exists(tempDir.resolve("input-partition1")));
+		assertEquals(0, Files.readString(tempDir.resolve("input").resolve("layers.csv")).length());
+	}
+
+	@Test
+	void testPartitionCsvStreams_NoPolygons() {
+		String headerOnlyPolygon = "FEATURE_ID,MAP_ID,POLYGON_NUMBER,ORG_UNIT\n";
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> partitionCsvStreams(headerOnlyPolygon, LAYER_CSV_CONTENT, 2, 2, ProjectionYearRange.UNKNOWN)
+		);
+	}
+
+	@Test
+	void testPartitionCsvStreams_PolygonMissingFeatureId() {
+		String polygonCsv = """
+				FEATURE_ID,MAP_ID,POLYGON_NUMBER,ORG_UNIT
+				15724968,082G055,1234,DCR
+				,082G055,5678,DCR
+				""";
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> partitionCsvStreams(polygonCsv, LAYER_CSV_CONTENT, 2, 2, ProjectionYearRange.UNKNOWN)
+		);
+	}
+
+	private BatchInputPartitioner.PartitionedInput partitionCsvStreams(
+			String polygonCsv, String layerCsv, int chunkSize, int maxPartitions, ProjectionYearRange yearRange
+	) throws IOException {
+		try (
+				InputStream polygonContent = new ByteArrayInputStream(polygonCsv.getBytes(StandardCharsets.UTF_8));
+				InputStream layerContent = new ByteArrayInputStream(layerCsv.getBytes(StandardCharsets.UTF_8))
+		) {
+			return batchInputPartitioner.partitionCsvStreams(
+					polygonContent, layerContent, chunkSize, maxPartitions, yearRange, tempDir, TEST_JOB_GUID
+			);
+		}
+	}
+
+	private static void assertChunk(
+			InputChunkIndex.Entry chunk, String polygons, String layers, int polygonRecordCount, int layerRecordCount,
+			String firstFeatureId
+	) {
+		assertEquals(polygonRecordCount, chunk.polygonRecordCount());
+		assertEquals(layerRecordCount, chunk.layerRecordCount());
+		assertEquals(polygonRecordCount, chunk.costFeatures().getPolygonCount());
+		assertTrue(polygons.substring((int) chunk.polygonStartByte()).startsWith(firstFeatureId));
+		assertTrue(layers.substring((int) chunk.layerStartByte()).startsWith(firstFeatureId));
+	}
+
+	@Test
+	void testCalculateChunksPerPartition_EqualCosts() {
+		assertArrayEquals(
+				new int[] { 3, 2 }, BatchInputPartitioner.calculateChunksPerPartition(new double[] { 1, 1, 1, 1, 1 }, 2)
+		);
+		assertArrayEquals(
+				new int[] { 2, 3, 2 },
+				BatchInputPartitioner.calculateChunksPerPartition(new double[] { 1, 1, 1, 1, 1, 1, 1 }, 3)
+		);
+		assertArrayEquals(
+				new int[] { 1, 1, 0 }, BatchInputPartitioner.calculateChunksPerPartition(new double[] { 1, 1 }, 3)
+		);
+	}
+
+	@Test
+	void testCalculateChunksPerPartition_BalancesByCost() {
+		// One expensive chunk should be given a partition of its own
+		double[] costs = { 10, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1 };
+
+		int[] chunksPerPartition = BatchInputPartitioner.calculateChunksPerPartition(costs, 2);
+
+		assertArrayEquals(new int[] { 1, 10 }, chunksPerPartition);
+		assertArrayEquals(
+				new double[] { 10, 10 }, BatchInputPartitioner.calculatePartitionCosts(costs, chunksPerPartition)
+		);
+
+		// A partition stops short of a chunk that would take it further from its share
+		assertArrayEquals(
+				new int[] { 1, 2 }, BatchInputPartitioner.calculateChunksPerPartition(new double[] { 2, 3, 1 }, 2)
+		);
+	}
+
+	@Test
+	void testCalculateChunksPerPartition_LeavesAChunkForEachPartition() {
+		double[] costs = { 1, 1, 100 };
+
+		assertArrayEquals(new int[] { 1, 1, 1 }, BatchInputPartitioner.calculateChunksPerPartition(costs, 3));
+	}
+
+	@Test
+	void testPartitionReaders_GivenPolygonsPerPartition() throws BatchPartitionException, IOException {
+		String polygonCsv = """
+				15724968,082G055,1234,DCR
+				15724970,082G055,5678,DCR
+				15724973,082G055,9999,DCR
+				""";
+
+		String layerCsv = """
+				15724968,082G055,1234,P
+				15724970,082G055,5678,P
+				15724973,082G055,9999,P
+				""";
+		try (FileSystem fs = Jimfs.newFileSystem(Configuration.unix())) {
+			Path polygonPath = fs.getPath("/polygon.csv");
+			Path layerPath = fs.getPath("/layer.csv");
+
+			Files.writeString(polygonPath, polygonCsv);
+			Files.writeString(layerPath, layerCsv);
+			int totalFeatureIds = batchInputPartitioner
+					.partitionCsvFiles(polygonPath, layerPath, new int[] { 1, 2 }, tempDir, TEST_JOB_GUID);
+
+			assertEquals(3, totalFeatureIds);
+
+			String partition0Content = Files.readString(tempDir.resolve("input-partition0").resolve("polygons.csv"));
+			assertEquals(1, partition0Content.lines().count());
+			assertTrue(partition0Content.contains("15724968"));
+
+			String partition1Content = Files.readString(tempDir.resolve("input-partition1").resolve("polygons.csv"));
+			assertEquals(2, partition1Content.lines().count());
+			assertTrue(partition1Content.contains("15724970"));
+			assertTrue(partition1Content.contains("15724973"));
+
+			String partition1LayerContent = Files
+					.readString(tempDir.resolve("input-partition1").resolve("layers.csv"));
+			assertEquals(2, partition1LayerContent.lines().count());
+		}
+	}
 }
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +25,10 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchResultAggregationException;
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
 import ca.bc.gov.nrs.vdyp.batch.model.VDYPProjectionProgressUpdate;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
 @ExtendWith(MockitoExtension.class)
 class BatchResultAggregationServiceTest {
@@ -405,6 +409,21 @@ class BatchResultAggregationServiceTest {
 		assertTrue(Files.exists(outputPartition), "Output partition should not be deleted by input cleanup");
 	}
 
+	@Test
+	void testCleanupInputPartitionDirectories_DeletesSharedInputDirectory() throws IOException {
+		Path sharedInput = tempDir.resolve("input");
+		Path inputPartition = tempDir.resolve("input-partition0");
+		Files.createDirectories(sharedInput);
+		Files.createDirectories(inputPartition);
+		Files.writeString(sharedInput.resolve("polygons.csv"), "data");
+		Files.writeString(inputPartition.resolve("input-chunks.idx"), "0,1,0,1,0,0,0");
+
+		resultAggregationService.cleanupInputPartitionDirectories(tempDir);
+
+		assertFalse(Files.exists(sharedInput));
+		assertFalse(Files.exists(inputPartition));
+	}
+
 	@Test
 	void testCleanupOutputPartitionDirectories_Success() throws IOException {
 		Path inputPartition = tempDir.resolve("input-partition0");
@@ -951,4 +970,156 @@ class BatchResultAggregationServiceTest {
 		assertNotNull(resultZip);
 		assertTrue(Files.exists(resultZip));
 	}
+
+	@Test
+	void testChunkCompleted_StreamedYieldTableMatchesMergedYieldTable()
+			throws IOException, BatchResultAggregationException {
+		Path streamedDir = setupChunkOutputDirectories("streamed");
+		Path mergedDir = setupChunkOutputDirectories("merged");
+
+		// Chunks complete out of order
+		resultAggregationService.chunkCompleted(2L, chunk(streamedDir, "partition1", 1, 1));
+		resultAggregationService.chunkCompleted(2L, chunk(streamedDir, "partition0", 2, 2));
+		assertFalse(Files.exists(streamedDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+		resultAggregationService.chunkCompleted(2L, chunk(streamedDir, "partition0", 1, 2));
+		assertTrue(Files.exists(streamedDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+
+		Path streamedZip = resultAggregationService.aggregateResultsFromJobDir(
+				2L, JOB_GUID, streamedDir.toString(), JOB_TIMESTAMP, progressUpdate, duration
+		);
+		Path mergedZip = resultAggregationService
+				.aggregateResultsFromJobDir(3L, JOB_GUID, mergedDir.toString(), JOB_TIMESTAMP, progressUpdate, duration);
+
+		assertFalse(Files.exists(streamedDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+
+		String streamedYieldTable = getZipEntryContent(streamedZip, "YieldTable.csv");
+		assertEquals(getZipEntryContent(mergedZip, "YieldTable.csv"), streamedYieldTable);
+		assertEquals(
+				String.join(
+						System.lineSeparator(), "TABLE_NUM,FEATURE_ID,SPECIES_1", "1,111111111,FD", "2,222222222,CW",
+						"3,333333333,PL", ""
+				), streamedYieldTable
+		);
+		assertEquals(getZipEntryContent(mergedZip, "ErrorLog.txt"), getZipEntryContent(streamedZip, "ErrorLog.txt"));
+	}
+
+	@Test
+	void testChunkCompleted_UnreportedChunkFallsBackToMergedYieldTable()
+			throws IOException, BatchResultAggregationException {
+		Path jobDir = setupChunkOutputDirectories("restarted");
+
+		// The first chunk was completed by an earlier execution
+		resultAggregationService.chunkCompleted(4L, chunk(jobDir, "partition0", 2, 2));
+		resultAggregationService.chunkCompleted(4L, chunk(jobDir, "partition1", 1, 1));
+
+		Path resultZip = resultAggregationService
+				.aggregateResultsFromJobDir(4L, JOB_GUID, jobDir.toString(), JOB_TIMESTAMP, progressUpdate, duration);
+
+		assertFalse(Files.exists(jobDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+		String yieldTable = getZipEntryContent(resultZip, "YieldTable.csv");
+		assertTrue(yieldTable.startsWith("TABLE_NUM,FEATURE_ID,SPECIES_1"));
+		assertTrue(yieldTable.contains("1,111111111,FD"));
+		assertTrue(yieldTable.contains("3,333333333,PL"));
+	}
+
+	@Test
+	void testDiscardStreamedResults_DeletesPartialZip() throws IOException {
+		Path jobDir = setupChunkOutputDirectories("failed");
+
+		resultAggregationService.chunkCompleted(5L, chunk(jobDir, "partition0", 1, 2));
+		assertTrue(Files.exists(jobDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+
+		resultAggregationService.discardStreamedResults(5L);
+
+		assertFalse(Files.exists(jobDir.resolve(BatchConstants.File.STREAMED_RESULTS_FILENAME)));
+	}
+
+	@Test
+	void testAggregateResults_IndexedSegmentsMergedInPartitionAndChunkOrder()
+			throws IOException, BatchResultAggregationException {
+		Path jobDir = tempDir.resolve("indexed");
+		Path partition0 = jobDir.resolve("output-partition0");
+		Path partition1 = jobDir.resolve("output-partition1");
+		Files.createDirectories(partition0);
+		Files.createDirectories(partition1);
+
+		// partition0's worker wrote its second chunk, which was later projected again by partition1's worker, then its
+		// first chunk, then the chunk of partition1 it stole
+		String header = "TABLE_NUM,FEATURE_ID,SPECIES_1\n";
+		String stale = header + "1,999999999,XX\n";
+		String first = header + "1,111111111,FD\n";
+		String stolen = header + "1,333333333,PL\n";
+		Files.writeString(partition0.resolve("YieldTable.csv"), stale + first + stolen);
+		int firstStart = stale.length();
+		int stolenStart = firstStart + first.length();
+		Files.writeString(
+				partition0.resolve(BatchConstants.Partition.CHUNK_INDEX_FILE_NAME),
+				String.join(
+						"\n", "partition0,2,1000,YieldTable.csv,0," + firstStart,
+						"partition0,1,1001,YieldTable.csv," + firstStart + "," + stolenStart,
+						"partition1,1,1002,YieldTable.csv," + stolenStart + "," + (stolenStart + stolen.length()),
+						"incomplete,line", ""
+				)
+		);
+
+		String retried = header + "1,222222222,CW\n";
+		Files.writeString(partition1.resolve("YieldTable.csv"), retried);
+		Files.writeString(
+				partition1.resolve(BatchConstants.Partition.CHUNK_INDEX_FILE_NAME),
+				"partition0,2,2000,YieldTable.csv,0," + retried.length() + "\n"
+		);
+
+		Path resultZip = resultAggregationService
+				.aggregateResultsFromJobDir(6L, JOB_GUID, jobDir.toString(), JOB_TIMESTAMP, progressUpdate, duration);
+
+		assertEquals(
+				String.join(
+						System.lineSeparator(), "TABLE_NUM,FEATURE_ID,SPECIES_1", "1,111111111,FD", "2,222222222,CW",
+						"3,333333333,PL", ""
+				), getZipEntryContent(resultZip, "YieldTable.csv")
+		);
+	}
+
+	private Path setupChunkOutputDirectories(String jobDirName) throws IOException {
+		Path jobDir = tempDir.resolve(jobDirName);
+		Path partition0 = jobDir.resolve("output-partition0");
+		Path partition1 = jobDir.resolve("output-partition1");
+		Files.createDirectories(partition0);
+		Files.createDirectories(partition1);
+
+		String header = "TABLE_NUM,FEATURE_ID,SPECIES_1\r\n";
+		writeChunkYieldTable(partition0, "partition0", 1, header + "1,111111111,FD\r\n");
+		writeChunkYieldTable(partition0, "partition0", 2, header + "1,222222222,CW\r\n");
+		writeChunkYieldTable(partition1, "partition1", 1, header + "1,333333333,PL");
+		Files.writeString(partition0.resolve("chunk-000001_ErrorLog.txt"), "Error 1\n");
+		Files.writeString(partition1.resolve("chunk-000001_ErrorLog.txt"), "Error 2\n");
+
+		return jobDir;
+	}
+
+	/** Appends a chunk's yield table to the partition's yield table file, as its worker step would */
+	private static void writeChunkYieldTable(Path partitionDir, String partitionName, int chunkNumber, String content)
+			throws IOException {
+		Path yieldTable = partitionDir.resolve("YieldTable.csv");
+		long start = Files.exists(yieldTable) ? Files.size(yieldTable) : 0;
+		Files.writeString(yieldTable, content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+		BatchChunkMetadata chunk = new BatchChunkMetadata(
+				partitionName, partitionDir.getParent().toString(), 0, 1, 0, 1, chunkNumber
+		);
+		chunk.setYieldTableSegments(List.of(new YieldTableSegment(yieldTable, start, Files.size(yieldTable))));
+		YieldTableSegmentIndex.record(partitionDir, chunk);
+	}
+
+	private static BatchChunkMetadata chunk(Path jobDir, String partitionName, int chunkNumber, int chunkCount)
+			throws IOException {
+		BatchChunkMetadata chunk = new BatchChunkMetadata(partitionName, jobDir.toString(), 0, 1, 0, 1, chunkNumber);
+		chunk.setPartitionChunkCount(chunkCount);
+		chunk.setYieldTableSegments(
+				YieldTableSegmentIndex.read(jobDir.resolve("output-" + partitionName)).stream()
+						.filter(entry -> entry.chunkNumber() == chunkNumber).map(YieldTableSegmentIndex.Entry::segment)
+						.toList()
+		);
+		return chunk;
+	}
 }
@@ -0,0 +1,145 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+import ca.bc.gov.nrs.vdyp.batch.model.YieldTableSegment;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.AbstractProjectionRequestException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.ProjectionRequestValidationException;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
+import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionRunner;
+
+class ChunkProjectionSessionTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testRunnerIsKeptForSuccessiveChunks() throws AbstractProjectionRequestException, IOException {
+		try (ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters())) {
+			var runner = session.startChunk(tempDir, 1);
+
+			assertSame(runner, session.startChunk(tempDir, 2));
+			assertEquals(2, runner.getParallelism());
+		}
+	}
+
+	@Test
+	void testAbandonedRunnerIsReplaced() throws AbstractProjectionRequestException, IOException {
+		try (ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters())) {
+			var runner = session.startChunk(tempDir, 1);
+			var executionFolder = runner.getContext().getExecutionFolder();
+			assertTrue(Files.exists(executionFolder));
+
+			session.abandonChunk();
+
+			assertFalse(Files.exists(executionFolder), "Abandoned runner should have been closed");
+			assertNotSame(runner, session.startChunk(tempDir, 1));
+		}
+	}
+
+	@Test
+	void testYieldTablesAreWrittenToTheGivenFolder() throws AbstractProjectionRequestException, IOException {
+		try (ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters())) {
+			var yieldTables = session.startChunk(tempDir, 1).getContext().getYieldTables();
+
+			assertFalse(yieldTables.isEmpty());
+			for (var yieldTable : yieldTables) {
+				assertEquals(tempDir, yieldTable.getYieldTableFilePath().getParent());
+				assertTrue(Files.exists(yieldTable.getYieldTableFilePath()));
+			}
+		}
+	}
+
+	@Test
+	void testCompletedChunksAreRecordedAsSegments() throws AbstractProjectionRequestException, IOException {
+		try (ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters())) {
+			Path yieldTable = yieldTablePath(session.startChunk(tempDir, 1));
+			write(yieldTable, "first\n");
+			BatchChunkMetadata first = chunk(1);
+			session.completeChunk(first);
+
+			session.startChunk(tempDir, 1);
+			write(yieldTable, "second\n");
+			BatchChunkMetadata second = chunk(2);
+			session.completeChunk(second);
+
+			assertEquals(List.of(new YieldTableSegment(yieldTable, 0, 6)), first.getYieldTableSegments());
+			assertEquals(List.of(new YieldTableSegment(yieldTable, 6, 13)), second.getYieldTableSegments());
+			assertEquals(
+					List.of(
+							new YieldTableSegment(yieldTable, 0, 6), new YieldTableSegment(yieldTable, 6, 13)
+					), YieldTableSegmentIndex.read(tempDir).stream().map(YieldTableSegmentIndex.Entry::segment).toList()
+			);
+		}
+	}
+
+	@Test
+	void testAbandonedChunkIsRemovedFromYieldTables() throws AbstractProjectionRequestException, IOException {
+		try (ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters())) {
+			Path yieldTable = yieldTablePath(session.startChunk(tempDir, 1));
+			write(yieldTable, "first\n");
+			session.completeChunk(chunk(1));
+
+			session.startChunk(tempDir, 1);
+			write(yieldTable, "failed\n");
+			session.abandonChunk();
+
+			assertEquals("first\n", Files.readString(yieldTable));
+			assertEquals(1, YieldTableSegmentIndex.read(tempDir).size());
+
+			// The retried chunk follows the chunk before it
+			assertEquals(yieldTable, yieldTablePath(session.startChunk(tempDir, 1)));
+			write(yieldTable, "retried\n");
+			BatchChunkMetadata retried = chunk(2);
+			session.completeChunk(retried);
+
+			assertEquals(List.of(new YieldTableSegment(yieldTable, 6, 14)), retried.getYieldTableSegments());
+		}
+	}
+
+	@Test
+	void testInvalidParametersAreReportedWhenRunnerIsCreated() {
+		ChunkProjectionSession session = new ChunkProjectionSession("partition0", new Parameters());
+
+		assertThrows(ProjectionRequestValidationException.class, () -> session.startChunk(tempDir, 1));
+		session.close();
+	}
+
+	@Test
+	void testCloseWithoutChunks() {
+		ChunkProjectionSession session = new ChunkProjectionSession("partition0", parameters());
+		session.close();
+		session.abandonChunk();
+	}
+
+	private static Path yieldTablePath(ProjectionRunner runner) {
+		return runner.getContext().getYieldTables().get(0).getYieldTableFilePath();
+	}
+
+	private static void write(Path yieldTable, String content) throws IOException {
+		Files.writeString(yieldTable, content, StandardOpenOption.APPEND);
+	}
+
+	private static BatchChunkMetadata chunk(int chunkNumber) {
+		return new BatchChunkMetadata("partition0", "jobBaseDir", 0, 1, 0, 1, chunkNumber);
+	}
+
+	private static Parameters parameters() {
+		return new Parameters().ageStart(0).ageEnd(100);
+	}
+}
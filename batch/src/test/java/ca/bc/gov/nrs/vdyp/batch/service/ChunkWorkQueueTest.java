@@ -0,0 +1,154 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.batch.model.BatchChunkMetadata;
+
+class ChunkWorkQueueTest {
+
+	private static final Long JOB_EXECUTION_ID = 42L;
+
+	private ChunkWorkQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new ChunkWorkQueue();
+	}
+
+	@Test
+	void testClaim_OwnChunksInOrder() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", chunks("partition0", 3, 10), Set.of());
+
+		assertEquals(1, queue.claim(JOB_EXECUTION_ID, "partition0").getCurrentChunkNumber());
+		assertEquals(2, queue.claim(JOB_EXECUTION_ID, "partition0").getCurrentChunkNumber());
+		assertEquals(3, queue.claim(JOB_EXECUTION_ID, "partition0").getCurrentChunkNumber());
+		assertNull(queue.claim(JOB_EXECUTION_ID, "partition0"));
+	}
+
+	@Test
+	void testClaim_StealsLastChunkOfBusiestPartition() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", chunks("partition0", 1, 10), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 2, 10), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition2", chunks("partition2", 4, 10), Set.of());
+
+		BatchChunkMetadata own = queue.claim(JOB_EXECUTION_ID, "partition0");
+		queue.complete(JOB_EXECUTION_ID, own);
+
+		BatchChunkMetadata stolen = queue.claim(JOB_EXECUTION_ID, "partition0");
+		assertEquals("partition2", stolen.getPartitionName());
+		assertEquals(4, stolen.getCurrentChunkNumber());
+
+		// The owner carries on from the front of its partition
+		assertEquals(1, queue.claim(JOB_EXECUTION_ID, "partition2").getCurrentChunkNumber());
+	}
+
+	@Test
+	void testClaim_SkipsCompletedChunks() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", chunks("partition0", 3, 10), Set.of(1, 3));
+
+		assertEquals(Set.of(1, 3), queue.getCompletedChunks(JOB_EXECUTION_ID, "partition0"));
+		assertEquals(2, queue.claim(JOB_EXECUTION_ID, "partition0").getCurrentChunkNumber());
+		assertNull(queue.claim(JOB_EXECUTION_ID, "partition0"));
+	}
+
+	@Test
+	void testComplete_RecordedAgainstOwningPartition() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", List.of(), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 2, 10), Set.of());
+
+		BatchChunkMetadata stolen = queue.claim(JOB_EXECUTION_ID, "partition0");
+		queue.complete(JOB_EXECUTION_ID, stolen);
+
+		assertEquals(Set.of(2), queue.getCompletedChunks(JOB_EXECUTION_ID, "partition1"));
+		assertTrue(queue.getCompletedChunks(JOB_EXECUTION_ID, "partition0").isEmpty());
+	}
+
+	@Test
+	void testComplete_RecordedAfterOwningPartitionDeregistered() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", List.of(), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 2, 10), Set.of());
+
+		BatchChunkMetadata stolen = queue.claim(JOB_EXECUTION_ID, "partition0");
+		queue.deregister(JOB_EXECUTION_ID, "partition1");
+		queue.complete(JOB_EXECUTION_ID, stolen);
+
+		assertEquals(Set.of(2), queue.getCompletedChunks(JOB_EXECUTION_ID, "partition1"));
+
+		// Registered again while the job runs, the partition skips the chunk
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 2, 10), Set.of());
+		assertEquals(1, queue.claim(JOB_EXECUTION_ID, "partition1").getCurrentChunkNumber());
+		assertNull(queue.claim(JOB_EXECUTION_ID, "partition1"));
+	}
+
+	@Test
+	void testRelease_ChunkIsClaimedAgain() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", List.of(), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 1, 10), Set.of());
+
+		BatchChunkMetadata stolen = queue.claim(JOB_EXECUTION_ID, "partition0");
+		queue.release(JOB_EXECUTION_ID, stolen);
+
+		BatchChunkMetadata reclaimed = queue.claim(JOB_EXECUTION_ID, "partition1");
+		assertEquals("partition1", reclaimed.getPartitionName());
+		assertEquals(1, reclaimed.getCurrentChunkNumber());
+	}
+
+	@Test
+	void testClaim_OwnerWaitsForStolenChunks() throws Exception {
+		queue.register(JOB_EXECUTION_ID, "partition0", List.of(), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 1, 10), Set.of());
+
+		BatchChunkMetadata stolen = queue.claim(JOB_EXECUTION_ID, "partition0");
+
+		CompletableFuture<BatchChunkMetadata> ownerClaim = CompletableFuture.supplyAsync(() -> {
+			try {
+				return queue.claim(JOB_EXECUTION_ID, "partition1");
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		});
+
+		TimeUnit.MILLISECONDS.sleep(100);
+		assertFalse(ownerClaim.isDone(), "The owner should wait for the stolen chunk");
+
+		queue.complete(JOB_EXECUTION_ID, stolen);
+
+		assertNull(ownerClaim.get(5, TimeUnit.SECONDS));
+		assertEquals(Set.of(1), queue.getCompletedChunks(JOB_EXECUTION_ID, "partition1"));
+	}
+
+	@Test
+	void testDeregister_ChunksCanNoLongerBeStolen() throws InterruptedException {
+		queue.register(JOB_EXECUTION_ID, "partition0", List.of(), Set.of());
+		queue.register(JOB_EXECUTION_ID, "partition1", chunks("partition1", 2, 10), Set.of());
+
+		queue.deregister(JOB_EXECUTION_ID, "partition1");
+
+		assertNull(queue.claim(JOB_EXECUTION_ID, "partition0"));
+	}
+
+	private static List<BatchChunkMetadata> chunks(String partitionName, int count, int polygonsPerChunk) {
+		List<BatchChunkMetadata> chunks = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			chunks.add(
+					new BatchChunkMetadata(
+							partitionName, "/job", 100L * i, polygonsPerChunk, 200L * i, polygonsPerChunk, i
+					)
+			);
+		}
+		return chunks;
+	}
+}
@@ -1,20 +1,18 @@
 package ca.bc.gov.nrs.vdyp.batch.service;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
@@ -35,11 +33,15 @@ import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ca.bc.gov.nrs.vdyp.batch.client.coms.PresignedFileFetcher;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.FileMappingDetails;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypClient;
 import ca.bc.gov.nrs.vdyp.batch.client.vdyp.VdypProjectionDetails;
 import ca.bc.gov.nrs.vdyp.batch.configuration.BatchProperties;
 import ca.bc.gov.nrs.vdyp.batch.exception.BatchPartitionException;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
 import ca.bc.gov.nrs.vdyp.batch.util.BatchConstants;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,7 +85,9 @@ class DownloadAndPartitionTaskletTest {
 
 	@BeforeEach
 	void setup() {
-		tasklet = new DownloadAndPartitionTasklet(comsFileService, inputPartitioner, vdypClient, batchProperties);
+		tasklet = new DownloadAndPartitionTasklet(
+				comsFileService, inputPartitioner, vdypClient, batchProperties, new ObjectMapper()
+		);
 
 		lenient().when(chunkContext.getStepContext()).thenReturn(stepContext);
 		lenient().when(stepContext.getStepExecution()).thenReturn(stepExecution);
@@ -153,7 +157,9 @@ class DownloadAndPartitionTaskletTest {
 
 		jobParameters = new JobParametersBuilder().addString(BatchConstants.Job.GUID, "job-123")
 				.addString(BatchConstants.Job.BASE_DIR, tempDir.toString()).addLong(BatchConstants.Partition.NUMBER, 4L)
-				.addString(BatchConstants.GuidInput.PROJECTION_GUID, projectionGuid.toString()).toJobParameters();
+				.addString(BatchConstants.GuidInput.PROJECTION_GUID, projectionGuid.toString())
+				.addString(BatchConstants.Projection.PARAMETERS_JSON, "{\"yearStart\":\"2000\",\"yearEnd\":\"2050\"}")
+				.toJobParameters();
 		ExecutionContext executionContext = new ExecutionContext();
 		when(vdypClient.getProjectionDetails(any())).thenReturn(details);
 		when(details.polygonFileSet())
@@ -174,49 +180,37 @@ class DownloadAndPartitionTaskletTest {
 		when(batchProperties.getThreadPool()).thenReturn(threadPoolProperties);
 		when(threadPoolProperties.getMaxJobThreads()).thenReturn(4);
 
-		// fetchObjectToFile is a no-op in tests; create the input files manually so the
-		// tasklet can open them to count polygons before partitioning.
-		Path inputDir = tempDir.resolve("input");
-		Files.createDirectories(inputDir);
-		Files.writeString(inputDir.resolve("polygon.csv"), "FEATURE_ID\n");
-		Files.writeString(inputDir.resolve("layer.csv"), "LAYER_ID\n");
-		doNothing().when(comsFileService).fetchObjectToFile(any(UUID.class), any(Path.class));
+		// Both inputs are passed to the partitioner as they are downloaded
+		InputStream polygonContent = new ByteArrayInputStream("FEATURE_ID\n".getBytes());
+		InputStream layerContent = new ByteArrayInputStream("LAYER_ID\n".getBytes());
+		doAnswer(invocation -> invocation.<PresignedFileFetcher.ContentReader<?>>getArgument(1).read(polygonContent))
+				.when(comsFileService).fetchObject(eq(polygonComsObjectGuid), any());
+		doAnswer(invocation -> invocation.<PresignedFileFetcher.ContentReader<?>>getArgument(1).read(layerContent))
+				.when(comsFileService).fetchObject(eq(layerComsObjectGuid), any());
+		// The input is partitioned in chunks of the default size, with costs estimated for the projection's range
+		when(
+				inputPartitioner.partitionCsvStreams(
+						polygonContent, layerContent, 150, 4, new ProjectionYearRange(2000, 2050, null, null), tempDir,
+						"job-123"
+				)
+		).thenReturn(new BatchInputPartitioner.PartitionedInput(new int[] { 4 }, new double[] { 80.0 }));
 
 		// Act
 		RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
 
 		// Assert
 		assertEquals(RepeatStatus.FINISHED, status);
-		verify(comsFileService).fetchObjectToFile(eq(polygonComsObjectGuid), any(Path.class));
-		verify(comsFileService).fetchObjectToFile(eq(layerComsObjectGuid), any(Path.class));
-		verify(inputPartitioner).partitionCsvFiles(
-				eq(tempDir.resolve("input/polygon.csv")), eq(tempDir.resolve("input/layer.csv")), anyInt(), eq(tempDir),
-				eq("job-123"), anyInt()
-		);
+		verify(comsFileService).fetchObject(eq(polygonComsObjectGuid), any());
+		verify(comsFileService).fetchObject(eq(layerComsObjectGuid), any());
+		assertEquals(4, executionContext.getInt(BatchConstants.Job.TOTAL_POLYGONS));
+		assertEquals(1, executionContext.getInt(BatchConstants.Job.COMPUTED_PARTITIONS));
+		assertEquals("80", executionContext.getString(BatchConstants.Partition.ESTIMATED_COSTS));
+		assertEquals("4", executionContext.getString(BatchConstants.Partition.POLYGON_RECORD_COUNTS));
 		verify(vdypClient).pushProgress(eq(projectionGuid.toString()), any());
-
-		// Verify original input files are deleted after partitioning
-		assertFalse(Files.exists(inputDir.resolve("polygon.csv")), "polygon.csv should be deleted after partitioning");
-		assertFalse(Files.exists(inputDir.resolve("layer.csv")), "layer.csv should be deleted after partitioning");
-		assertFalse(Files.exists(inputDir), "input directory should be deleted after partitioning");
 	}
 
 	@Test
-	void testDeleteOriginalInputDirectory_ioExceptionIsSwallowedAsWarning() {
-		DownloadAndPartitionTasklet testTasklet = new DownloadAndPartitionTasklet(
-				comsFileService, inputPartitioner, vdypClient, batchProperties
-		) {
-			@Override
-			protected void deleteDirectory(Path dir) throws IOException {
-				throw new IOException("simulated disk error");
-			}
-		};
-
-		assertDoesNotThrow(() -> testTasklet.deleteOriginalInputDirectory(tempDir));
-	}
-
-	@Test
-	void testExecute_inputFilesDeletedEvenWhenPartitionerReturnsZero() throws Exception {
+	void testExecute_partitioningFailure_ThrowsException() throws Exception {
 		UUID polygonFileSetGuid = UUID.randomUUID();
 		UUID layerFileSetGuid = UUID.randomUUID();
 		polygonComsObjectGuid = UUID.randomUUID();
@@ -225,14 +219,12 @@ class DownloadAndPartitionTaskletTest {
 		jobParameters = new JobParametersBuilder().addString(BatchConstants.Job.GUID, "job-456")
 				.addString(BatchConstants.Job.BASE_DIR, tempDir.toString()).addLong(BatchConstants.Partition.NUMBER, 2L)
 				.addString(BatchConstants.GuidInput.PROJECTION_GUID, projectionGuid.toString()).toJobParameters();
-		ExecutionContext executionContext = new ExecutionContext();
 		when(vdypClient.getProjectionDetails(any())).thenReturn(details);
 		when(details.polygonFileSet())
 				.thenReturn(new VdypProjectionDetails.VdypProjectionFileSet(polygonFileSetGuid.toString()));
 		when(details.layerFileSet())
 				.thenReturn(new VdypProjectionDetails.VdypProjectionFileSet(layerFileSetGuid.toString()));
 		when(jobExecution.getJobParameters()).thenReturn(jobParameters);
-		when(jobExecution.getExecutionContext()).thenReturn(executionContext);
 		when(vdypClient.getFileSetFiles(any(), matches(polygonFileSetGuid.toString()))).thenReturn(
 				List.of(new FileMappingDetails(polygonFileSetGuid.toString(), polygonComsObjectGuid.toString()))
 		);
@@ -245,16 +237,14 @@ class DownloadAndPartitionTaskletTest {
 		when(batchProperties.getThreadPool()).thenReturn(threadPoolProperties);
 		when(threadPoolProperties.getMaxJobThreads()).thenReturn(4);
 
-		Path inputDir = tempDir.resolve("input");
-		Files.createDirectories(inputDir);
-		Files.writeString(inputDir.resolve("polygon.csv"), "FEATURE_ID\n12345\n");
-		Files.writeString(inputDir.resolve("layer.csv"), "LAYER_ID\n");
-		doNothing().when(comsFileService).fetchObjectToFile(any(UUID.class), any(Path.class));
+		doAnswer(invocation -> invocation.<PresignedFileFetcher.ContentReader<?>>getArgument(1)
+				.read(new ByteArrayInputStream("FEATURE_ID\n".getBytes()))).when(comsFileService)
+				.fetchObject(any(UUID.class), any());
+		when(inputPartitioner.partitionCsvStreams(any(), any(), eq(150), eq(4), any(), eq(tempDir), eq("job-456")))
+				.thenThrow(new IllegalArgumentException("Input files contain no data lines"));
 
-		RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
-
-		assertEquals(RepeatStatus.FINISHED, status);
-		assertFalse(Files.exists(inputDir), "input directory should be cleaned up after partitioning");
+		assertThrows(BatchPartitionException.class, () -> tasklet.execute(stepContribution, chunkContext));
+		verify(vdypClient, never()).pushProgress(any(), any());
 	}
 
 }
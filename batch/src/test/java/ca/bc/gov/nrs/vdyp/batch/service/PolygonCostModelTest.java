@@ -0,0 +1,142 @@
+package ca.bc.gov.nrs.vdyp.batch.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.batch.model.PolygonCostFeatures;
+import ca.bc.gov.nrs.vdyp.batch.model.ProjectionYearRange;
+
+class PolygonCostModelTest {
+
+	private static final String POLYGON_LINE = "13919428,093C090,94833422,DQU,UNK,UNK,V,UNK,0.6,10,3,HE,35,8,,MS,14,"
+			+ "50.0,1.000,,V,T,U,TC,SP,2013,2013,60.0,,,,,,,,,,TC,100,,,,";
+	private static final String FIP_POLYGON_LINE = POLYGON_LINE.replace(",DQU,UNK,UNK,V,", ",DQU,UNK,UNK,F,");
+	private static final String LAYER_LINE = "13919428,14321066,093C090,94833422,1,P,,1,,,,20,10.000010,300,PLI,"
+			+ "60.00,SX,40.00,,,,,,,,,180,18.00,180,23.00,,,,,,,,";
+
+	/** A projection from the polygons' reference year of 2013 to 2063 */
+	private static final ProjectionYearRange YEAR_RANGE = new ProjectionYearRange(null, 2063, null, null);
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testFeaturesFromRows() {
+		PolygonCostFeatures features = new PolygonCostFeatures(YEAR_RANGE);
+		features.addPolygon(POLYGON_LINE);
+		features.addPolygon(FIP_POLYGON_LINE);
+		features.addLayer(LAYER_LINE);
+
+		assertEquals(2, features.getPolygonCount());
+		assertEquals(1, features.getFipPolygonCount());
+		assertEquals(1, features.getLayerCount());
+		assertEquals(2, features.getSpeciesCount());
+		assertEquals(100, features.getGrowthYears());
+	}
+
+	@Test
+	void testGrowthYearsFollowTheProjectionRange() {
+		// Growth proceeds from the reference year of 2013 back to the start year as well as forward to the end year
+		assertEquals(70, growthYears(new ProjectionYearRange(2000, 2070, null, null)));
+		assertEquals(50, growthYears(new ProjectionYearRange(2020, 2063, null, null)));
+		assertEquals(0, growthYears(new ProjectionYearRange(null, 2010, null, null)));
+		// Without a year range, the age range is grown
+		assertEquals(250, growthYears(new ProjectionYearRange(null, null, 0, 250)));
+		assertEquals(0, growthYears(ProjectionYearRange.UNKNOWN));
+		// Without a reference year, the year range is grown
+		PolygonCostFeatures features = new PolygonCostFeatures(new ProjectionYearRange(2000, 2070, null, null));
+		features.addPolygon("13919428,093C090,94833422,DQU,UNK,UNK,V");
+		assertEquals(70, features.getGrowthYears());
+	}
+
+	@Test
+	void testFipPolygonsCostMore() {
+		PolygonCostModel model = new PolygonCostModel();
+
+		assertTrue(model.estimate(polygon(FIP_POLYGON_LINE, 1)) > model.estimate(polygon(POLYGON_LINE, 1)));
+		assertTrue(model.estimate(polygon(POLYGON_LINE, 2)) > model.estimate(polygon(POLYGON_LINE, 1)));
+	}
+
+	@Test
+	void testRecordTimingRefinesEstimates() {
+		PolygonCostModel model = new PolygonCostModel();
+		PolygonCostFeatures chunk = polygon(POLYGON_LINE, 1);
+
+		double measured = 10 * model.estimate(chunk);
+		double error = Math.abs(measured - model.estimate(chunk));
+		for (int i = 0; i < 20; i++) {
+			model.recordTiming(chunk, Math.round(measured));
+
+			double newError = Math.abs(measured - model.estimate(chunk));
+			assertTrue(newError < error, "Each timing should move the estimate towards what was measured");
+			error = newError;
+		}
+
+		assertEquals(20, model.getObservationCount());
+		assertEquals(measured, model.estimate(chunk), measured * 0.05);
+	}
+
+	@Test
+	void testRecordTimingIgnoresEmptyChunks() {
+		PolygonCostModel model = new PolygonCostModel();
+		PolygonCostFeatures chunk = polygon(POLYGON_LINE, 1);
+		double estimate = model.estimate(chunk);
+
+		model.recordTiming(new PolygonCostFeatures(YEAR_RANGE), 1000);
+		model.recordTiming(null, 1000);
+		model.recordTiming(chunk, 0);
+
+		assertEquals(0, model.getObservationCount());
+		assertEquals(estimate, model.estimate(chunk));
+	}
+
+	@Test
+	void testRefinementsAreKeptAcrossInstances() throws IOException {
+		Path stateFile = tempDir.resolve(PolygonCostModel.STATE_FILE_NAME);
+		PolygonCostModel model = new PolygonCostModel(stateFile);
+		PolygonCostFeatures chunk = polygon(POLYGON_LINE, 1);
+
+		model.recordTiming(chunk, Math.round(10 * model.estimate(chunk)));
+		model.recordTiming(chunk, Math.round(10 * model.estimate(chunk)));
+		assertTrue(Files.exists(stateFile));
+
+		PolygonCostModel restoredModel = new PolygonCostModel(stateFile);
+		assertEquals(2, restoredModel.getObservationCount());
+		assertArrayEquals(model.getWeights(), restoredModel.getWeights(), 1e-9);
+		assertEquals(model.estimate(chunk), restoredModel.estimate(chunk), 1e-9);
+	}
+
+	@Test
+	void testUnreadableStateStartsFromThePriors() throws IOException {
+		Path stateFile = tempDir.resolve(PolygonCostModel.STATE_FILE_NAME);
+		Files.writeString(stateFile, "scale.0=not a number\n");
+
+		PolygonCostModel model = new PolygonCostModel(stateFile);
+
+		assertEquals(0, model.getObservationCount());
+		assertArrayEquals(new PolygonCostModel().getWeights(), model.getWeights());
+	}
+
+	private static long growthYears(ProjectionYearRange yearRange) {
+		PolygonCostFeatures features = new PolygonCostFeatures(yearRange);
+		features.addPolygon(POLYGON_LINE);
+		return features.getGrowthYears();
+	}
+
+	private static PolygonCostFeatures polygon(String polygonLine, int layers) {
+		PolygonCostFeatures features = new PolygonCostFeatures(YEAR_RANGE);
+		features.addPolygon(polygonLine);
+		for (int i = 0; i < layers; i++) {
+			features.addLayer(LAYER_LINE);
+		}
+		return features;
+	}
+}
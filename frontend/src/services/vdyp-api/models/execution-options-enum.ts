@@ -33,4 +33,6 @@ export enum ExecutionOptionsEnum {
   ReportIncludeVolumeMAI = 'reportIncludeVolumeMAI',
   ReportIncludeSpeciesComp = 'reportIncludeSpeciesComp',
   ReportIncludeCulminationValues = 'reportIncludeCulminationValues',
+  DoUseTabulatedSiteIndexCurves = 'doUseTabulatedSiteIndexCurves',
+  DoUseBrentSiteIndexInversion = 'doUseBrentSiteIndexInversion',
 }
@@ -3,22 +3,13 @@ package ca.bc.gov.nrs.vdyp.back;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
-
 import ca.bc.gov.nrs.vdyp.application.ProcessingEngine;
 import ca.bc.gov.nrs.vdyp.back.processing_state.BackLayerProcessingState;
 import ca.bc.gov.nrs.vdyp.back.processing_state.BackProcessingState;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
 import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
-import ca.bc.gov.nrs.vdyp.model.LayerType;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
-import ca.bc.gov.nrs.vdyp.model.UtilizationClassVariable;
-import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
 import ca.bc.gov.nrs.vdyp.processing_state.Bank;
 
 public class BackProcessingEngine extends ProcessingEngine<BackProcessingState, BackLayerProcessingState> {
@@ -39,45 +30,12 @@ public class BackProcessingEngine extends ProcessingEngine<BackProcessingState,
 				state.getVeteranLayerProcessingState().map(vetState -> vetState.getBank().basalAreas[0][0 + 1])
 		);
 
-		// Copy slices of the compatibility variables for the primary layer to the polygon state
+		// Share the compatibility variables of the primary layer with the polygon state. Nothing is copied; only
+		// their primary layer values are read from the polygon state.
 
 		var primaryState = state.getPrimaryLayerProcessingState();
 
-		int specCount = primaryState.getNSpecies();
-
-		@SuppressWarnings("unchecked")
-		MatrixMap2<UtilizationClass, VolumeVariable, Float>[] cvVolume = new MatrixMap2[specCount + 1];
-		@SuppressWarnings("unchecked")
-		Map<UtilizationClass, Float>[] cvBasalArea = new Map[specCount + 1];
-		@SuppressWarnings("unchecked")
-		Map<UtilizationClass, Float>[] cvQuadraticMeanDiameter = new Map[specCount + 1];
-		@SuppressWarnings("unchecked")
-		Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall = new Map[specCount + 1];
-
-		for (int i = 0; i < primaryState.getNSpecies(); i++) {
-			final int specIndex = i + 1;
-			cvVolume[specIndex] = new MatrixMap2Impl<>(
-					List.of(UtilizationClass.values()), List.of(VolumeVariable.values()),
-					(uc, vv) -> primaryState.getCVVolume(specIndex, uc, vv, LayerType.PRIMARY)
-			);
-
-			cvBasalArea[specIndex] = new EnumMap<>(UtilizationClass.class);
-			cvQuadraticMeanDiameter[specIndex] = new EnumMap<>(UtilizationClass.class);
-			cvPrimaryLayerSmall[specIndex] = new EnumMap<>(UtilizationClassVariable.class);
-
-			for (var uc : UtilizationClass.values()) {
-				cvBasalArea[specIndex].put(uc, primaryState.getCVBasalArea(specIndex, uc, LayerType.PRIMARY));
-				cvQuadraticMeanDiameter[specIndex]
-						.put(uc, primaryState.getCVQuadraticMeanDiameter(specIndex, uc, LayerType.PRIMARY));
-			}
-
-			for (var ucv : UtilizationClassVariable.values()) {
-				cvPrimaryLayerSmall[specIndex].put(ucv, primaryState.getCVSmall(specIndex, ucv));
-			}
-
-		}
-
-		state.setCompatibilityVariableDetails(cvVolume, cvBasalArea, cvQuadraticMeanDiameter, cvPrimaryLayerSmall);
+		state.setCompatibilityVariableDetails(primaryState.getCompatibilityVariables());
 
 		Bank primaryBank = state.getPrimaryLayerProcessingState().getBank();
 		Region polygonRegion = state.getCurrentBecZone().getRegion();
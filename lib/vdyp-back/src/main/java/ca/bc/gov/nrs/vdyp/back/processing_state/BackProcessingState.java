@@ -10,12 +10,13 @@ import ca.bc.gov.nrs.vdyp.controlmap.ProcessingResolvedControlMap;
 import ca.bc.gov.nrs.vdyp.controlmap.ProcessingResolvedControlMapImpl;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
 import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClassVariable;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
 import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
+import ca.bc.gov.nrs.vdyp.processing_state.CompatibilityVariables;
 import ca.bc.gov.nrs.vdyp.processing_state.ProcessingState;
 
 public class BackProcessingState extends ProcessingState<BackLayerProcessingState> {
@@ -36,10 +37,8 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 	// Compatibility Variables - LCV1 & LCVS
 	private boolean areCompatibilityVariablesSet = false;
 
-	private MatrixMap2<UtilizationClass, VolumeVariable, Float>[] cvVolume;
-	private Map<UtilizationClass, Float>[] cvBasalArea;
-	private Map<UtilizationClass, Float>[] cvQuadraticMeanDiameter;
-	private Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall;
+	// Shared with the primary layer state; only the primary layer values are read.
+	private CompatibilityVariables compatibilityVariables;
 
 	private Optional<ComponentSizeLimits[]> speciesLimits = Optional.empty();
 	private Optional<float[]> finalQuadraticMeanDiameters = Optional.empty();
@@ -71,19 +70,12 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 		return baseAreaVeteran;
 	}
 
-	public void setCompatibilityVariableDetails(
-			MatrixMap2<UtilizationClass, VolumeVariable, Float>[] cvVolume, Map<UtilizationClass, Float>[] cvBasalArea,
-			Map<UtilizationClass, Float>[] cvQuadraticMeanDiameter,
-			Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall
-	) {
+	public void setCompatibilityVariableDetails(CompatibilityVariables compatibilityVariables) {
 		if (areCompatibilityVariablesSet) {
 			throw new IllegalStateException(COMPATIBILITY_VARIABLES_SET_CAN_BE_SET_ONCE_ONLY);
 		}
 
-		this.cvVolume = cvVolume;
-		this.cvBasalArea = cvBasalArea;
-		this.cvQuadraticMeanDiameter = cvQuadraticMeanDiameter;
-		this.cvPrimaryLayerSmall = cvPrimaryLayerSmall;
+		this.compatibilityVariables = compatibilityVariables;
 
 		areCompatibilityVariablesSet = true;
 	}
@@ -93,7 +85,7 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 			throw UNSET_CV_VOLUMES.get();
 		}
 
-		return cvVolume[speciesIndex].get(uc, volumeVariable);
+		return compatibilityVariables.getVolume(speciesIndex, uc, volumeVariable, LayerType.PRIMARY);
 	}
 
 	public float getCVBasalArea(int speciesIndex, UtilizationClass uc) {
@@ -101,7 +93,7 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 			throw UNSET_CV_BASAL_AREAS.get();
 		}
 
-		return cvBasalArea[speciesIndex].get(uc);
+		return compatibilityVariables.getBasalArea(speciesIndex, uc, LayerType.PRIMARY);
 	}
 
 	public float getCVQuadraticMeanDiameter(int speciesIndex, UtilizationClass uc) {
@@ -109,7 +101,7 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 			throw UNSET_CV_QUAD_MEAN_DIAMETER.get();
 		}
 
-		return cvQuadraticMeanDiameter[speciesIndex].get(uc);
+		return compatibilityVariables.getQuadMeanDiameter(speciesIndex, uc, LayerType.PRIMARY);
 	}
 
 	public float getCVSmall(int speciesIndex, UtilizationClassVariable variable) {
@@ -117,7 +109,7 @@ public class BackProcessingState extends ProcessingState<BackLayerProcessingStat
 			throw UNSET_CV_SMALL.get();
 		}
 
-		return cvPrimaryLayerSmall[speciesIndex].get(variable);
+		return compatibilityVariables.getSmall(speciesIndex, variable);
 	}
 
 	public void setLimits(ComponentSizeLimits[] limits) {
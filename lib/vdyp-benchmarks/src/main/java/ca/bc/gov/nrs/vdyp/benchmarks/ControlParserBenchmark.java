@@ -0,0 +1,59 @@
+package ca.bc.gov.nrs.vdyp.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ProcessingControlParser;
+
+/**
+ * Parsing of the Forward control file and every coefficient file it names. The files are held in memory so that only
+ * the parsing is measured. The cached variant measures what each Forward run costs once the configuration has been
+ * parsed into a {@link ControlMapCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class ControlParserBenchmark {
+
+	private static final List<String> CONTROL_FILES = List.of("VDYP.CTR");
+
+	private MemoryFileResolver resolver;
+	private ControlMapCache cache;
+
+	@Setup
+	public void setup() throws IOException, ResourceParseException {
+		resolver = Fixtures.resolver(Map.of());
+		cache = new ControlMapCache();
+		new ProcessingControlParser().parseByName(CONTROL_FILES, resolver, new HashMap<>(), cache);
+	}
+
+	@Benchmark
+	public Map<String, Object> parse() throws IOException, ResourceParseException {
+		return new ProcessingControlParser().parseByName(CONTROL_FILES, resolver, new HashMap<>());
+	}
+
+	@Benchmark
+	public Map<String, Object> parseCached() throws IOException, ResourceParseException {
+		return new ProcessingControlParser().parseByName(CONTROL_FILES, resolver, new HashMap<>(), cache);
+	}
+}
@@ -0,0 +1,97 @@
+package ca.bc.gov.nrs.vdyp.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
+import ca.bc.gov.nrs.vdyp.io.write.ControlFileWriter;
+
+/**
+ * Input data shared by the benchmarks. The control and coefficient files are those of the execution folder template
+ * bundled with the extended core; the polygon data is taken from the integration test data.
+ */
+public class Fixtures {
+
+	/**
+	 * JVM arguments for every benchmark fork. The components log at INFO for every polygon they process, which would
+	 * otherwise dominate what is measured.
+	 */
+	public static final String QUIET_LOGGING = "-Dlogback.configurationFile=logback-benchmarks.xml";
+
+	private static final String EXECUTION_FOLDER_TEMPLATE = "ExecutionFolderTemplate.zip";
+	private static final String INTEGRATION_TEST_DATA = "ca/bc/gov/nrs/vdyp/integration_tests/";
+
+	private Fixtures() {
+	}
+
+	/**
+	 * @return the content of the execution folder template: the control files of each component and the coefficient
+	 *         files they name
+	 * @throws IOException
+	 */
+	public static Map<String, byte[]> executionFolderTemplate() throws IOException {
+		try (var is = open(EXECUTION_FOLDER_TEMPLATE)) {
+			return MemoryFileResolver.readZip(is);
+		}
+	}
+
+	/**
+	 * Read a file of the integration test data.
+	 *
+	 * @param test the name of the integration test
+	 * @param path the path of the file within the test's directory
+	 * @return the content of the file
+	 * @throws IOException
+	 */
+	public static byte[] integrationTestFile(String test, String path) throws IOException {
+		try (var is = open(INTEGRATION_TEST_DATA + test + "/" + path)) {
+			return is.readAllBytes();
+		}
+	}
+
+	/**
+	 * Create a resolver over the execution folder template in which the given files have been added or replaced.
+	 *
+	 * @param files file content by name
+	 * @return the resolver
+	 * @throws IOException
+	 */
+	public static MemoryFileResolver resolver(Map<String, byte[]> files) throws IOException {
+		var content = new HashMap<>(executionFolderTemplate());
+		content.putAll(files);
+		return new MemoryFileResolver(content);
+	}
+
+	/**
+	 * Create a control file that sets the Forward control variables so that each polygon is grown for the given number
+	 * of years, in the same form as the stand control file written by the extended core.
+	 *
+	 * @param yearsToGrow the number of years to grow each polygon; at most 400
+	 * @return the content of the control file
+	 * @throws IOException
+	 */
+	public static byte[] forwardGrowthControlFile(int yearsToGrow) throws IOException {
+		var os = new ByteArrayOutputStream();
+		try (var writer = new ControlFileWriter(os)) {
+			writer.writeComment("Generated control file for benchmarking");
+			writer.writeEntry(
+					ControlKey.VTROL.sequence.get(),
+					String.format("%4d%4d%4d%4d%4d%4d", yearsToGrow, 2, 2, 3, 1, 1)
+			);
+		}
+		return os.toByteArray();
+	}
+
+	private static InputStream open(String resourceName) throws IOException {
+		var is = Fixtures.class.getClassLoader().getResourceAsStream(resourceName);
+		if (is == null) {
+			throw new IOException(MessageFormat.format("Unable to locate resource {0}", resourceName));
+		}
+		return is;
+	}
+}
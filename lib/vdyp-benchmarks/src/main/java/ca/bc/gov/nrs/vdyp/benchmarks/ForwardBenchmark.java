@@ -0,0 +1,81 @@
+package ca.bc.gov.nrs.vdyp.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
+import ca.bc.gov.nrs.vdyp.forward.ForwardDataStreamReader;
+import ca.bc.gov.nrs.vdyp.forward.ForwardProcessingEngine;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ProcessingControlParser;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * {@link ForwardProcessingEngine#processPolygon(VdypPolygon)} growing the first polygon of the {@code just_forward}
+ * integration test for a number of years. The polygon is read, and the engine created, before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class ForwardBenchmark {
+
+	private static final String TEST = "just_forward";
+	private static final String INPUT_DIR = "forwardInput/primary/";
+	private static final String GROWTH_CONTROL_FILE_NAME = "BENCHMARK.CTR";
+
+	@Param({ "10", "50", "100" })
+	public int growthYears;
+
+	private Map<String, Object> controlMap;
+
+	private ForwardProcessingEngine engine;
+	private VdypPolygon polygon;
+
+	@Setup
+	public void setup() throws IOException, ResourceParseException {
+		var resolver = Fixtures.resolver(
+				Map.of(
+						"vp_adj.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "polygon.dat"), //
+						"vs_adj.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "species.dat"), //
+						"vu_adj.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "util.dat"), //
+						GROWTH_CONTROL_FILE_NAME, Fixtures.forwardGrowthControlFile(growthYears)
+				)
+		);
+
+		controlMap = new ProcessingControlParser()
+				.parseByName(List.of("VDYP.CTR", GROWTH_CONTROL_FILE_NAME), resolver, new HashMap<>());
+	}
+
+	@Setup(Level.Invocation)
+	public void readPolygon() throws ProcessingException {
+		engine = new ForwardProcessingEngine(controlMap);
+		try (var reader = new ForwardDataStreamReader(controlMap)) {
+			polygon = reader.readNextPolygon().orElseThrow();
+		}
+	}
+
+	@Benchmark
+	public ForwardProcessingEngine processPolygon() throws ProcessingException {
+		engine.processPolygon(polygon);
+		return engine;
+	}
+}
@@ -0,0 +1,66 @@
+package ca.bc.gov.nrs.vdyp.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.AbstractProjectionRequestException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.PolygonValidationException;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.ProjectionRequestKind;
+import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionContext;
+import ca.bc.gov.nrs.vdyp.ecore.projection.input.HcsvPolygonStream;
+
+/**
+ * Reading, validating and building every polygon of the HCSV input of the {@code f-record-test-02-noback} integration
+ * test with {@link HcsvPolygonStream}. The input is held in memory so that only the ingest is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class HcsvIngestBenchmark {
+
+	private static final String TEST = "f-record-test-02-noback";
+
+	private byte[] polygons;
+	private byte[] layers;
+	private ProjectionContext context;
+
+	@Setup
+	public void setup() throws IOException, AbstractProjectionRequestException {
+		polygons = Fixtures.integrationTestFile(TEST, "input/VDYP7_INPUT_POLY.csv");
+		layers = Fixtures.integrationTestFile(TEST, "input/VDYP7_INPUT_LAYER.csv");
+		context = new ProjectionContext(
+				ProjectionRequestKind.HCSV, "benchmark", new Parameters().ageStart(0).ageEnd(100), false
+		);
+	}
+
+	@Benchmark
+	public void ingest(Blackhole blackhole) {
+		var stream = new HcsvPolygonStream(
+				context, new ByteArrayInputStream(polygons), new ByteArrayInputStream(layers)
+		);
+		while (stream.hasNextPolygon()) {
+			try {
+				blackhole.consume(stream.getNextPolygon());
+			} catch (PolygonValidationException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package ca.bc.gov.nrs.vdyp.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ca.bc.gov.nrs.vdyp.sindex.calculators.Height2SiteIndex;
+import ca.bc.gov.nrs.vdyp.sindex.calculators.SiteIndex2Height;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEstimationType;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+
+/**
+ * Site index to height, and height to site index, over every site index curve. Each invocation evaluates all the
+ * curves once; curves that reject the inputs contribute the cost of raising their exception, as they do in a
+ * projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class SiteIndexBenchmark {
+
+	private static final double SITE_INDEX = 20.0;
+	private static final double HEIGHT = 15.0;
+	private static final double YEARS_TO_BREAST_HEIGHT = 6.5;
+	private static final double PI = 0.5;
+
+	@Param({ "25", "60", "120" })
+	public double age;
+
+	private SiteIndexEquation[] curves;
+
+	@Setup
+	public void setup() {
+		curves = Arrays.stream(SiteIndexEquation.values()).filter(e -> e != SiteIndexEquation.SI_NO_EQUATION)
+				.toArray(SiteIndexEquation[]::new);
+	}
+
+	@Benchmark
+	public void indexToHeight(Blackhole blackhole) {
+		for (var curve : curves) {
+			try {
+				blackhole.consume(
+						SiteIndex2Height.indexToHeight(
+								curve, age, SiteIndexAgeType.SI_AT_TOTAL, SITE_INDEX, YEARS_TO_BREAST_HEIGHT, PI
+						)
+				);
+			} catch (CommonCalculatorException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+
+	/**
+	 * Height to site index from total age, which iterates the site index and the years to breast height until they
+	 * are stable (<code>siteIterate</code>).
+	 */
+	@Benchmark
+	public void heightToIndexIterated(Blackhole blackhole) {
+		for (var curve : curves) {
+			try {
+				blackhole.consume(
+						Height2SiteIndex.heightToIndex(
+								curve, age, SiteIndexAgeType.SI_AT_TOTAL, HEIGHT,
+								SiteIndexEstimationType.SI_EST_ITERATE
+						)
+				);
+			} catch (CommonCalculatorException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+}
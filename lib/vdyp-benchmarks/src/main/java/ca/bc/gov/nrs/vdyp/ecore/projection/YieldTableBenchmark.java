@@ -0,0 +1,90 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.bc.gov.nrs.vdyp.benchmarks.Fixtures;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.AbstractProjectionRequestException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.PolygonExecutionException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.PolygonValidationException;
+import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.YieldTableGenerationException;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters;
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.ProjectionRequestKind;
+import ca.bc.gov.nrs.vdyp.ecore.projection.input.HcsvPolygonStream;
+
+/**
+ * Yield table generation for the first polygon of the {@code basic-noback} integration test, in each of the given
+ * output formats. This is in the package of {@link PolygonProjectionRunner} so that the polygon can be projected once,
+ * before each iteration, leaving only the generation of its yield tables to be measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class YieldTableBenchmark {
+
+	private static final String TEST = "basic-noback";
+
+	@Param({ "CSV_YIELD_TABLE", "TEXT_REPORT" })
+	public Parameters.OutputFormat outputFormat;
+
+	private byte[] polygons;
+	private byte[] layers;
+
+	private ProjectionContext context;
+	private PolygonProjectionRunner runner;
+
+	@Setup
+	public void setup() throws IOException {
+		PolygonProjectionRunner.initializeSiteIndexCurves();
+		PolygonProjectionRunner.initializeControlMapCache();
+
+		polygons = Fixtures.integrationTestFile(TEST, "input/VDYP7_INPUT_POLY.csv");
+		layers = Fixtures.integrationTestFile(TEST, "input/VDYP7_INPUT_LAYER.csv");
+	}
+
+	@Setup(Level.Iteration)
+	public void projectPolygon()
+			throws AbstractProjectionRequestException, PolygonValidationException, PolygonExecutionException {
+		context = new ProjectionContext(
+				ProjectionRequestKind.HCSV, "benchmark",
+				new Parameters().ageStart(0).ageEnd(190).outputFormat(outputFormat), false
+		);
+		context.startRun();
+
+		var stream = new HcsvPolygonStream(
+				context, new ByteArrayInputStream(polygons), new ByteArrayInputStream(layers)
+		);
+		runner = PolygonProjectionRunner.of(stream.getNextPolygon(), context, new InMemoryComponentRunner());
+		runner.projectPolygon();
+	}
+
+	@Benchmark
+	public ProjectionContext generateYieldTables() throws YieldTableGenerationException {
+		runner.generateYieldTablesForPolygon();
+		return context;
+	}
+
+	@TearDown(Level.Iteration)
+	public void endRun() {
+		context.endRun();
+		context.close();
+	}
+}
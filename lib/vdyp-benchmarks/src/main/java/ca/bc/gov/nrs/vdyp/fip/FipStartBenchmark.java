@@ -0,0 +1,98 @@
+package ca.bc.gov.nrs.vdyp.fip;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.bc.gov.nrs.vdyp.benchmarks.Fixtures;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.common.VdypApplicationInitializationException;
+import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
+import ca.bc.gov.nrs.vdyp.fip.model.FipLayer;
+import ca.bc.gov.nrs.vdyp.fip.model.FipPolygon;
+import ca.bc.gov.nrs.vdyp.fip.model.FipSpecies;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * {@link FipStart#processPolygon(int, FipPolygon)} for the first polygon of the {@code just_fip_start} integration
+ * test. Most of the time is spent in the Levenberg-Marquardt fit of the diameters and basal areas of the species
+ * ({@code findRootsForDiameterAndBaseArea}). This is in the package of {@link FipStart} so that it can read and process
+ * polygons without running the whole application. The polygon is read before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class FipStartBenchmark {
+
+	private static final String TEST = "just_fip_start";
+	private static final String INPUT_DIR = "fipInput/primary/";
+
+	private FipStart app;
+	private FipPolygon polygon;
+
+	@Setup
+	public void setup() throws IOException, ResourceParseException {
+		var resolver = Fixtures.resolver(
+				Map.of(
+						"fip_p01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "polygon.dat"), //
+						"fip_l01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "layer.dat"), //
+						"fip_ls01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "species.dat")
+				)
+		);
+
+		app = new FipStart();
+		app.init(resolver, new FipControlParser().parseByName(List.of("FIPSTART.CTR"), resolver, new HashMap<>()));
+	}
+
+	@Setup(Level.Invocation)
+	public void readPolygon() throws ProcessingException, IOException, ResourceParseException {
+		try (
+				StreamingParser<FipPolygon> polyStream = open(ControlKey.FIP_INPUT_YIELD_POLY);
+				StreamingParser<Map<LayerType, FipLayer>> layerStream = open(ControlKey.FIP_INPUT_YIELD_LAYER);
+				StreamingParser<Collection<FipSpecies>> speciesStream = open(ControlKey.FIP_INPUT_YIELD_LX_SP0);
+		) {
+			polygon = app.getPolygon(polyStream, layerStream, speciesStream);
+		}
+	}
+
+	private <T> StreamingParser<T> open(ControlKey key) throws IOException {
+		return Utils.<StreamingParserFactory<T>>expectParsedControl(
+				app.getControlMap(), key, StreamingParserFactory.class
+		).get();
+	}
+
+	@Benchmark
+	public Optional<VdypPolygon> processPolygon() throws ProcessingException {
+		return app.processPolygon(1, polygon);
+	}
+
+	@TearDown
+	public void tearDown() throws VdypApplicationInitializationException {
+		app.close();
+	}
+}
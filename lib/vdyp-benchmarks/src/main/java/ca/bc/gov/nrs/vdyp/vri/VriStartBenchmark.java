@@ -0,0 +1,102 @@
+package ca.bc.gov.nrs.vdyp.vri;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.bc.gov.nrs.vdyp.benchmarks.Fixtures;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.common.VdypApplicationInitializationException;
+import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.vri.model.VriLayer;
+import ca.bc.gov.nrs.vdyp.vri.model.VriPolygon;
+import ca.bc.gov.nrs.vdyp.vri.model.VriSite;
+import ca.bc.gov.nrs.vdyp.vri.model.VriSpecies;
+
+/**
+ * {@link VriStart#processPolygon(int, VriPolygon)} for the polygon of the {@code just_vri_start} integration test. This
+ * is in the package of {@link VriStart} so that it can read and process polygons without running the whole
+ * application. The polygon is read before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = Fixtures.QUIET_LOGGING)
+public class VriStartBenchmark {
+
+	private static final String TEST = "just_vri_start";
+	private static final String INPUT_DIR = "vriInput/primary/";
+
+	private VriStart app;
+	private VriPolygon polygon;
+
+	@Setup
+	public void setup() throws IOException, ResourceParseException {
+		var resolver = Fixtures.resolver(
+				Map.of(
+						"virnp01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "polygon.dat"), //
+						"vrinl01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "layer.dat"), //
+						"vrinsi01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "site.dat"), //
+						"vrinsp01.dat", Fixtures.integrationTestFile(TEST, INPUT_DIR + "species.dat")
+				)
+		);
+
+		app = new VriStart();
+		app.init(resolver, new VriControlParser().parseByName(List.of("VRISTART.CTR"), resolver, new HashMap<>()));
+	}
+
+	@Setup(Level.Invocation)
+	public void readPolygon() throws ProcessingException, IOException, ResourceParseException {
+		try (
+				StreamingParser<VriPolygon> polyStream = open(ControlKey.VRI_INPUT_YIELD_POLY);
+				StreamingParser<Map<LayerType, VriLayer.Builder>> layerStream = open(
+						ControlKey.VRI_INPUT_YIELD_LAYER
+				);
+				StreamingParser<Collection<VriSpecies>> speciesStream = open(ControlKey.VRI_INPUT_YIELD_SPEC_DIST);
+				StreamingParser<Collection<VriSite>> siteStream = open(ControlKey.VRI_INPUT_YIELD_HEIGHT_AGE_SI);
+		) {
+			polygon = app.getPolygon(polyStream, layerStream, speciesStream, siteStream);
+		}
+	}
+
+	private <T> StreamingParser<T> open(ControlKey key) throws IOException {
+		return Utils.<StreamingParserFactory<T>>expectParsedControl(
+				app.getControlMap(), key, StreamingParserFactory.class
+		).get();
+	}
+
+	@Benchmark
+	public Optional<VdypPolygon> processPolygon() throws ProcessingException {
+		return app.processPolygon(1, polygon);
+	}
+
+	@TearDown
+	public void tearDown() throws VdypApplicationInitializationException {
+		app.close();
+	}
+}
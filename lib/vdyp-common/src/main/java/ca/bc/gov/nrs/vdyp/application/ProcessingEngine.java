@@ -5,9 +5,7 @@ import static ca.bc.gov.nrs.vdyp.math.FloatMath.log;
 import static ca.bc.gov.nrs.vdyp.model.VdypEntity.MISSING_FLOAT_VALUE;
 
 import java.text.MessageFormat;
-import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.DoubleAdder;
@@ -25,9 +23,6 @@ import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
-import ca.bc.gov.nrs.vdyp.model.MatrixMap3Impl;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
@@ -38,18 +33,17 @@ import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingControlVariables;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingDebugSettings;
 import ca.bc.gov.nrs.vdyp.processing_state.Bank;
+import ca.bc.gov.nrs.vdyp.processing_state.CompatibilityVariables;
 import ca.bc.gov.nrs.vdyp.processing_state.LayerProcessingState;
 import ca.bc.gov.nrs.vdyp.processing_state.PrimarySpeciesDetails;
 import ca.bc.gov.nrs.vdyp.processing_state.ProcessingState;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEstimationType;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.CurveErrorException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.SpeciesErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 
 public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProcessingState<L>> {
 
@@ -235,7 +229,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 	}
 
 	/**
-	 * Wraps {@link SiteTool.convertSiteIndexBetweenCurves} and handles its exceptions.
+	 * Wraps {@link SiteTool.convertSiteIndexBetweenCurves} and handles its failures.
 	 *
 	 * @param siteCurve1 source curve
 	 * @param siteIndex  site index to convert
@@ -246,23 +240,23 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 	protected Optional<Float>
 			convertSiteIndex(SiteIndexEquation siteCurve1, double siteIndex, SiteIndexEquation siteCurve2)
 					throws ProcessingException {
-		try {
-			double mappedSiteIndex = convertSiteIndexBetweenCurves(siteCurve1, siteIndex, siteCurve2);
-			return Optional.of((float) mappedSiteIndex);
-		} catch (NoAnswerException e) {
+		var result = new SiteIndexResult();
+		switch (convertSiteIndexBetweenCurves(siteCurve1, siteIndex, siteCurve2, result)) {
+		case SI_OK:
+			return Optional.of((float) result.getValue());
+		case SI_ERR_NO_ANS:
 			logger.warn(
 					MessageFormat.format("there is no conversion between curves {0} and {1}.", siteCurve1, siteCurve2)
 			);
 			return Optional.empty();
-		} catch (CurveErrorException | SpeciesErrorException e) {
-			throw new ProcessingException(
+		default:
+			throw siteIndexFailure(
 					MessageFormat.format(
 							"convertSiteIndexBetweenCurves on {0}, {1} and {2} failed", siteCurve1, siteIndex,
 							siteCurve2
-					), e
+					), result
 			);
 		}
-
 	}
 
 	protected float estimateMissingNonPrimarySiteIndex(
@@ -492,6 +486,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 	protected void calculateYearsToBreastHeightFromSiteIndex(
 			LayerProcessingState<?> lps, Bank bank, int pspIndex, SpeciesToApplyTo applyTo
 	) throws ProcessingException {
+		var result = new SiteIndexResult();
 		for (int spIndex : lps.getIndices()) {
 
 			boolean applies = applyTo.applies(spIndex, pspIndex);
@@ -507,15 +502,13 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 				continue;
 			}
 
-			try {
-				double ytbh = yearsToBreastHeight(
-						getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.siteIndices[spIndex]
-				);
-				if (ytbh > 0.0) {
-					bank.yearsToBreastHeight[spIndex] = (float) ytbh;
-				}
-			} catch (Exception e) {
-				throw new ProcessingException("Failed estimating years to breast height from site index", e);
+			if (!yearsToBreastHeight(
+					getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.siteIndices[spIndex], result
+			).isOk()) {
+				throw siteIndexFailure("Failed estimating years to breast height from site index", result);
+			}
+			if (result.getValue() > 0.0) {
+				bank.yearsToBreastHeight[spIndex] = (float) result.getValue();
 			}
 		}
 	}
@@ -533,6 +526,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			LayerProcessingState<?> lps, Bank bank, int pspIndex, SpeciesToApplyTo applyTo
 	) throws ProcessingException {
 
+		var result = new SiteIndexResult();
 		for (int spIndex : lps.getIndices()) {
 
 			boolean applies = applyTo.applies(spIndex, pspIndex);
@@ -547,27 +541,30 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			if (Float.isNaN(bank.dominantHeights[spIndex]) || bank.dominantHeights[spIndex] <= 1.3f) {
 				continue;
 			}
-			try {
-				// TODO this has been changed pretty considerably from VDYP7 make sure it is acceptable
-				if (Float.isNaN(bank.yearsAtBreastHeight[spIndex]) || bank.yearsAtBreastHeight[spIndex] <= 0.0f) {
-					bank.yearsAtBreastHeight[spIndex] = (float) heightAndSiteIndexToAge(
-							getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.dominantHeights[spIndex],
-							SiteIndexAgeType.SI_AT_BREAST, bank.siteIndices[spIndex], bank.yearsToBreastHeight[spIndex]
-					);
+
+			// TODO this has been changed pretty considerably from VDYP7 make sure it is acceptable
+			if (Float.isNaN(bank.yearsAtBreastHeight[spIndex]) || bank.yearsAtBreastHeight[spIndex] <= 0.0f) {
+				if (!heightAndSiteIndexToAge(
+						getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.dominantHeights[spIndex],
+						SiteIndexAgeType.SI_AT_BREAST, bank.siteIndices[spIndex], bank.yearsToBreastHeight[spIndex],
+						result
+				).isOk()) {
+					throw siteIndexFailure("Failed estimating ages from height and site index", result);
 				}
-				if (Float.isNaN(bank.ageTotals[spIndex]) || bank.ageTotals[spIndex] <= 0.0f) {
-					bank.ageTotals[spIndex] = (float) heightAndSiteIndexToAge(
-							getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.dominantHeights[spIndex],
-							SiteIndexAgeType.SI_AT_TOTAL, bank.siteIndices[spIndex], bank.yearsToBreastHeight[spIndex]
-					);
-				} else {
-					bank.yearsAtBreastHeight[spIndex] = bank.ageTotals[spIndex] - bank.yearsToBreastHeight[spIndex];
+				bank.yearsAtBreastHeight[spIndex] = (float) result.getValue();
+			}
+			if (Float.isNaN(bank.ageTotals[spIndex]) || bank.ageTotals[spIndex] <= 0.0f) {
+				if (!heightAndSiteIndexToAge(
+						getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), bank.dominantHeights[spIndex],
+						SiteIndexAgeType.SI_AT_TOTAL, bank.siteIndices[spIndex], bank.yearsToBreastHeight[spIndex],
+						result
+				).isOk()) {
+					throw siteIndexFailure("Failed estimating ages from height and site index", result);
 				}
-
-			} catch (Exception e) {
-				throw new ProcessingException("Failed estimating ages from height and site index", e);
+				bank.ageTotals[spIndex] = (float) result.getValue();
+			} else {
+				bank.yearsAtBreastHeight[spIndex] = bank.ageTotals[spIndex] - bank.yearsToBreastHeight[spIndex];
 			}
-
 		}
 	}
 
@@ -585,6 +582,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			LayerProcessingState<?> lps, Bank bank, int pspIndex, SiteIndexAgeType ageToUse, SpeciesToApplyTo applyTo
 	) throws ProcessingException {
 
+		var result = new SiteIndexResult();
 		for (int spIndex : lps.getIndices()) {
 
 			if (bank.siteIndices[spIndex] > 0.0f) {
@@ -613,27 +611,27 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 				continue;
 			}
 
-			try {
-				double siteIndex = heightAndAgeToSiteIndex(
-						getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), age, ageToUse,
-						bank.dominantHeights[spIndex], SiteIndexEstimationType.SI_EST_DIRECT
-				);
+			if (!heightAndAgeToSiteIndex(
+					getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), age, ageToUse,
+					bank.dominantHeights[spIndex], SiteIndexEstimationType.SI_EST_DIRECT, result
+			).isOk()) {
+				throw siteIndexFailure("Failed estimating site index from height and age", result);
+			}
+			double siteIndex = result.getValue();
 
-				if (siteIndex > 0.0) {
-					bank.siteIndices[spIndex] = (float) siteIndex;
+			if (siteIndex > 0.0) {
+				bank.siteIndices[spIndex] = (float) siteIndex;
 
-					if (Float.isNaN(bank.yearsToBreastHeight[spIndex]) || bank.yearsToBreastHeight[spIndex] <= 0.0f) {
-						double ytbh = yearsToBreastHeight(
-								getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), siteIndex
-						);
-						if (ytbh > 0.0) {
-							bank.yearsToBreastHeight[spIndex] = (float) ytbh;
-						}
+				if (Float.isNaN(bank.yearsToBreastHeight[spIndex]) || bank.yearsToBreastHeight[spIndex] <= 0.0f) {
+					if (!yearsToBreastHeight(
+							getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex)), siteIndex, result
+					).isOk()) {
+						throw siteIndexFailure("Failed estimating site index from height and age", result);
+					}
+					if (result.getValue() > 0.0) {
+						bank.yearsToBreastHeight[spIndex] = (float) result.getValue();
 					}
 				}
-
-			} catch (Exception e) {
-				throw new ProcessingException("Failed estimating site index from height and age", e);
 			}
 		}
 	}
@@ -749,6 +747,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 		if (bank.siteIndices[pspIndex] > 0.0f && nSpecies > 1) {
 			float pspSiteIndex = bank.siteIndices[pspIndex];
 
+			var result = new SiteIndexResult();
 			for (int spIndex : lps.getIndices()) {
 				if (spIndex == pspIndex || bank.siteIndices[spIndex] > 0.0f) {
 					continue;
@@ -756,15 +755,17 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 
 				SiteIndexEquation spCurve = getSiteIndexEquationByIndex(lps.getSiteCurveNumber(spIndex));
 
-				try {
-					double mapped = convertSiteIndexBetweenCurves(pspSiteCurve, pspSiteIndex, spCurve);
-					if (mapped > 0.0) {
-						bank.siteIndices[spIndex] = (float) mapped;
+				switch (convertSiteIndexBetweenCurves(pspSiteCurve, pspSiteIndex, spCurve, result)) {
+				case SI_OK:
+					if (result.getValue() > 0.0) {
+						bank.siteIndices[spIndex] = (float) result.getValue();
 					}
-				} catch (NoAnswerException e) {
+					break;
+				case SI_ERR_NO_ANS:
 					// Fortran silently ignores failure here.
-				} catch (CurveErrorException | SpeciesErrorException e) {
-					throw new ProcessingException("Failed converting primary site index to another species curve", e);
+					break;
+				default:
+					throw siteIndexFailure("Failed converting primary site index to another species curve", result);
 				}
 			}
 		}
@@ -794,6 +795,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			// purposeful error replace unusedSetUsableSiteINdex references with usableSiteIndex
 			float unusedSetUsableSiteIndex = Float.NaN;
 
+			var result = new SiteIndexResult();
 			for (int ii = 0; ii <= nSpecies; ii++) {
 
 				int spIndex;
@@ -828,16 +830,14 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 
 					SiteIndexEquation fromCurve = getSiteIndexEquationByIndex(spCurveNo);
 
-					try {
-						double mapped = convertSiteIndexBetweenCurves(fromCurve, spSiteIndex, pspSiteCurve);
-						if (mapped > 0.0) {
-							unusedSetUsableSiteIndex = (float) mapped;
-							break;
-						}
-					} catch (NoAnswerException e) {
-						// Fortran just keeps searching. No warning there.
-					} catch (CurveErrorException | SpeciesErrorException e) {
-						throw new ProcessingException("Failed converting site index to primary species curve", e);
+					var status = convertSiteIndexBetweenCurves(fromCurve, spSiteIndex, pspSiteCurve, result);
+					if (status == SiteIndexStatus.SI_OK && result.getValue() > 0.0) {
+						unusedSetUsableSiteIndex = (float) result.getValue();
+						break;
+					}
+					// Fortran just keeps searching after no answer. No warning there.
+					if (status != SiteIndexStatus.SI_OK && status != SiteIndexStatus.SI_ERR_NO_ANS) {
+						throw siteIndexFailure("Failed converting site index to primary species curve", result);
 					}
 				}
 			}
@@ -852,33 +852,41 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 		}
 	}
 
-	// The following methods wrap SiteTool methods, but are not static so they can be mocked for tests
+	// The following methods wrap SiteTool methods, but are not static so they can be mocked for tests. The site index
+	// functions use the status-code forms, so that an expected failure such as "no answer" does not cost an exception.
 
 	SiteIndexEquation getSICurve(String sp64CodeName, boolean isCoastal) {
 		return SiteTool.getSICurve(sp64CodeName, isCoastal);
 	}
 
-	double yearsToBreastHeight(SiteIndexEquation curve, double siteIndex) throws CommonCalculatorException {
-		return SiteTool.yearsToBreastHeight(curve, siteIndex);
+	SiteIndexStatus yearsToBreastHeight(SiteIndexEquation curve, double siteIndex, SiteIndexResult result) {
+		return SiteTool.yearsToBreastHeight(curve, siteIndex, result);
 	}
 
-	double heightAndSiteIndexToAge(
+	SiteIndexStatus heightAndSiteIndexToAge(
 			SiteIndexEquation curve, double height, SiteIndexAgeType ageType, double siteIndex,
-			double years2BreastHeight
-	) throws CommonCalculatorException {
-		return SiteTool.heightAndSiteIndexToAge(curve, height, ageType, siteIndex, years2BreastHeight);
+			double years2BreastHeight, SiteIndexResult result
+	) {
+		return SiteTool.heightAndSiteIndexToAge(curve, height, ageType, siteIndex, years2BreastHeight, result);
 	}
 
-	double heightAndAgeToSiteIndex(
+	SiteIndexStatus heightAndAgeToSiteIndex(
 			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double height,
-			SiteIndexEstimationType estType
-	) throws CommonCalculatorException {
-		return SiteTool.heightAndAgeToSiteIndex(curve, age, ageType, height, estType);
+			SiteIndexEstimationType estType, SiteIndexResult result
+	) {
+		return SiteTool.heightAndAgeToSiteIndex(curve, age, ageType, height, estType, result);
 	}
 
-	double convertSiteIndexBetweenCurves(SiteIndexEquation siteCurve1, double siteIndex1, SiteIndexEquation siteCurve2)
-			throws CurveErrorException, SpeciesErrorException, NoAnswerException {
-		return SiteTool.convertSiteIndexBetweenCurves(siteCurve1, siteIndex1, siteCurve2);
+	SiteIndexStatus convertSiteIndexBetweenCurves(
+			SiteIndexEquation siteCurve1, double siteIndex1, SiteIndexEquation siteCurve2, SiteIndexResult result
+	) {
+		return SiteTool.convertSiteIndexBetweenCurves(siteCurve1, siteIndex1, siteCurve2, result);
+	}
+
+	private static ProcessingException siteIndexFailure(String message, SiteIndexResult result) {
+		return new ProcessingException(
+				MessageFormat.format("{0}: {1} {2}", message, result.getStatus(), result.getMessage())
+		);
 	}
 
 	public SiteIndexEquation getSiteIndexEquationByIndex(int n) {
@@ -941,13 +949,11 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 		SiteIndexEquation siteCurve1 = getSiteIndexEquationByIndex(lps.getSiteCurveNumber(activeIndex.get()));
 		SiteIndexEquation siteCurve2 = getSiteIndexEquationByIndex(lps.getSiteCurveNumber(0));
 
-		try {
-			double newSI = convertSiteIndexBetweenCurves(siteCurve1, primarySpeciesSiteIndex, siteCurve2);
-			if (newSI > 1.3) {
-				primarySpeciesSiteIndex = (float) newSI;
-			}
-		} catch (CommonCalculatorException e) {
-			// do nothing. primarySpeciesSiteIndex will not be modified.
+		var result = new SiteIndexResult();
+		// On failure primarySpeciesSiteIndex is not modified.
+		if (convertSiteIndexBetweenCurves(siteCurve1, primarySpeciesSiteIndex, siteCurve2, result).isOk()
+				&& result.getValue() > 1.3) {
+			primarySpeciesSiteIndex = (float) result.getValue();
 		}
 		return primarySpeciesSiteIndex;
 	}
@@ -958,7 +964,6 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 	 *
 	 * @throws ProcessingException
 	 */
-	@SuppressWarnings("unchecked")
 	protected void setCompatibilityVariables() throws ProcessingException {
 
 		Coefficients aAdjust = new Coefficients(new float[] { 0.0f, 0.0f, 0.0f, 0.0f }, 1);
@@ -976,12 +981,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 		// INL1VGRP is built, rather than when LCOM1 VGRPL is built in the
 		// original code.)
 
-		MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume = new MatrixMap3[lps.getNSpecies()
-				+ 1];
-		MatrixMap2<UtilizationClass, LayerType, Float>[] cvBasalArea = new MatrixMap2[lps.getNSpecies() + 1];
-		MatrixMap2<UtilizationClass, LayerType, Float>[] cvQuadraticMeanDiameter = new MatrixMap2[lps.getNSpecies()
-				+ 1];
-		var cvSmall = new Map[lps.getNSpecies() + 1];
+		var cvs = new CompatibilityVariables(lps.getNSpecies());
 
 		for (int s : lps.getIndices()) {
 
@@ -997,14 +997,6 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			UtilizationVector quadMeanDiameters = Utils.utilizationVector();
 			UtilizationVector treesPerHectare = Utils.utilizationVector();
 
-			cvVolume[s] = new MatrixMap3Impl<>(
-					UtilizationClass.UTIL_CLASSES, VolumeVariable.ALL, LayerType.ALL_USED, (k1, k2, k3) -> 0f
-			);
-			cvBasalArea[s] = new MatrixMap2Impl<>(UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (k1, k2) -> 0f);
-			cvQuadraticMeanDiameter[s] = new MatrixMap2Impl<>(
-					UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (k1, k2) -> 0f
-			);
-
 			for (UtilizationClass uc : UtilizationClass.ALL_BUT_SMALL) {
 
 				basalAreas.setCoe(uc.index, bank.basalAreas[s][uc.ordinal()]);
@@ -1023,7 +1015,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			for (UtilizationClass uc : UtilizationClass.UTIL_CLASSES) {
 
 				calculateCvVolumeForSpecies(
-						aAdjust, growthDetails, lps, cvVolume, s, spLoreyHeight_All, wholeStemVolumes,
+						aAdjust, growthDetails, lps, cvs, s, spLoreyHeight_All, wholeStemVolumes,
 						closeUtilizationVolumes, closeUtilizationVolumesNetOfDecay,
 						closeUtilizationVolumesNetOfDecayAndWaste, quadMeanDiameters, uc
 				);
@@ -1050,7 +1042,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 					);
 				}
 
-				cvVolume[s].put(uc, VolumeVariable.WHOLE_STEM_VOL, LayerType.PRIMARY, adjustment);
+				cvs.setVolume(s, uc, VolumeVariable.WHOLE_STEM_VOL, LayerType.PRIMARY, adjustment);
 			}
 
 			getState().getEstimators()
@@ -1073,7 +1065,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 
 			for (UtilizationClass uc : UtilizationClass.UTIL_CLASSES) {
 				float baCvValue = bank.basalAreas[s][uc.ordinal()] - basalAreas.getCoe(uc.index);
-				cvBasalArea[s].put(uc, LayerType.PRIMARY, baCvValue);
+				cvs.setBasalArea(s, uc, LayerType.PRIMARY, baCvValue);
 
 				float originalQmd = bank.quadMeanDiameters[s][uc.ordinal()];
 				float adjustedQmd = quadMeanDiameters.getCoe(uc.index);
@@ -1087,20 +1079,20 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 					qmdCvValue = 0.0f;
 				}
 
-				cvQuadraticMeanDiameter[s].put(uc, LayerType.PRIMARY, qmdCvValue);
+				cvs.setQuadMeanDiameter(s, uc, LayerType.PRIMARY, qmdCvValue);
 			}
 
 			// Small components
 
-			cvSmall[s] = calculateSmallCompatibilityVariables(s, growthDetails);
+			calculateSmallCompatibilityVariables(cvs, s, growthDetails);
 		}
 
-		lps.setCompatibilityVariableDetails(cvVolume, cvBasalArea, cvQuadraticMeanDiameter, cvSmall);
+		lps.setCompatibilityVariableDetails(cvs);
 	}
 
 	protected void calculateCvVolumeForSpecies(
 			Coefficients aAdjust, ProcessingControlVariables growthDetails, L lps,
-			MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume, int s, float spLoreyHeight_All,
+			CompatibilityVariables cvs, int s, float spLoreyHeight_All,
 			UtilizationVector wholeStemVolumes, UtilizationVector closeUtilizationVolumes,
 			UtilizationVector closeUtilizationVolumesNetOfDecay,
 			UtilizationVector closeUtilizationVolumesNetOfDecayAndWaste, UtilizationVector quadMeanDiameters,
@@ -1131,7 +1123,9 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			adjustment = calculateCompatibilityVariable(actualVolume, baseVolume, staticVolume);
 		}
 
-		cvVolume[s].put(uc, VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY, adjustment);
+		cvs.setVolume(
+				s, uc, VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY, adjustment
+		);
 
 		// Volume less decay
 		adjustment = 0.0f;
@@ -1152,7 +1146,7 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			adjustment = calculateCompatibilityVariable(actualVolume, baseVolume, staticVolume);
 		}
 
-		cvVolume[s].put(uc, VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY, adjustment);
+		cvs.setVolume(s, uc, VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY, adjustment);
 
 		// Volume
 		adjustment = 0.0f;
@@ -1172,19 +1166,22 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 			adjustment = calculateCompatibilityVariable(actualVolume, baseVolume, staticVolume);
 		}
 
-		cvVolume[s].put(uc, VolumeVariable.CLOSE_UTIL_VOL, LayerType.PRIMARY, adjustment);
+		cvs.setVolume(s, uc, VolumeVariable.CLOSE_UTIL_VOL, LayerType.PRIMARY, adjustment);
 	}
 
 	/**
-	 * Function that calculates values for the small component compatibility variables and returns the result.
+	 * Function that calculates values for the small component compatibility variables and stores them in the given
+	 * compatibility variables.
 	 *
+	 * @param cvs                     the compatibility variables being calculated
 	 * @param speciesIndex            the index of the species for which this operation is to be performed
 	 * @param forwardControlVariables the control variables for this run
 	 *
 	 * @throws ProcessingException
 	 */
-	private Map<UtilizationClassVariable, Float>
-			calculateSmallCompatibilityVariables(int speciesIndex, ProcessingControlVariables forwardControlVariables) {
+	private void calculateSmallCompatibilityVariables(
+			CompatibilityVariables cvs, int speciesIndex, ProcessingControlVariables forwardControlVariables
+	) {
 
 		final L lps = getState().getPrimaryLayerProcessingState();
 		final Bank bank = lps.getBank();
@@ -1227,24 +1224,24 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 		// EMP086
 		final float spMeanVolumeSmall = estimators.estimateMeanVolumeSmall(speciesName, spLhSmall, spDqSmall); // VMEANSMs
 
-		final var spCvSmall = new EnumMap<UtilizationClassVariable, Float>(UtilizationClassVariable.class);
-
 		final float spInputBasalArea_Small = bank.basalAreas[speciesIndex][UC_SMALL_INDEX];
-		spCvSmall.put(UtilizationClassVariable.BASAL_AREA, spInputBasalArea_Small - spBaSmall);
+		cvs.setSmall(speciesIndex, UtilizationClassVariable.BASAL_AREA, spInputBasalArea_Small - spBaSmall);
 
 		if (forwardControlVariables.allowCalculation(spInputBasalArea_Small, B_BASE_MIN, (l, r) -> l > r)) {
 			final float spInputQuadMeanDiameter_Small = bank.quadMeanDiameters[speciesIndex][UC_SMALL_INDEX];
-			spCvSmall.put(UtilizationClassVariable.QUAD_MEAN_DIAMETER, spInputQuadMeanDiameter_Small - spDqSmall);
+			cvs.setSmall(
+					speciesIndex, UtilizationClassVariable.QUAD_MEAN_DIAMETER, spInputQuadMeanDiameter_Small - spDqSmall
+			);
 		} else {
-			spCvSmall.put(UtilizationClassVariable.QUAD_MEAN_DIAMETER, 0.0f);
+			cvs.setSmall(speciesIndex, UtilizationClassVariable.QUAD_MEAN_DIAMETER, 0.0f);
 		}
 
 		final float spInputLoreyHeight_Small = bank.loreyHeights[speciesIndex][UC_SMALL_INDEX];
 		if (spInputLoreyHeight_Small > 1.3f && spLhSmall > 1.3f && spInputBasalArea_Small > 0.0f) {
 			final float cvLoreyHeight = FloatMath.log( (spInputLoreyHeight_Small - 1.3f) / (spLhSmall - 1.3f));
-			spCvSmall.put(UtilizationClassVariable.LOREY_HEIGHT, cvLoreyHeight);
+			cvs.setSmall(speciesIndex, UtilizationClassVariable.LOREY_HEIGHT, cvLoreyHeight);
 		} else {
-			spCvSmall.put(UtilizationClassVariable.LOREY_HEIGHT, 0.0f);
+			cvs.setSmall(speciesIndex, UtilizationClassVariable.LOREY_HEIGHT, 0.0f);
 		}
 
 		final float spInputWholeStemVolume_Small = bank.wholeStemVolumes[speciesIndex][UC_SMALL_INDEX];
@@ -1255,13 +1252,12 @@ public class ProcessingEngine<S extends ProcessingState<L>, L extends LayerProce
 
 			final var spWsVolumeSmall = FloatMath
 					.log(spInputWholeStemVolume_Small / spInputTreePerHectare_Small / spMeanVolumeSmall);
-			spCvSmall.put(UtilizationClassVariable.WHOLE_STEM_VOLUME, spWsVolumeSmall);
+			cvs.setSmall(speciesIndex, UtilizationClassVariable.WHOLE_STEM_VOLUME, spWsVolumeSmall);
 
 		} else {
-			spCvSmall.put(UtilizationClassVariable.WHOLE_STEM_VOLUME, 0.0f);
+			cvs.setSmall(speciesIndex, UtilizationClassVariable.WHOLE_STEM_VOLUME, 0.0f);
 		}
 
-		return spCvSmall;
 	}
 
 	static AgeTriplet
@@ -28,6 +28,7 @@ import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
 import ca.bc.gov.nrs.vdyp.model.DebugSettings;
 
 /**
@@ -63,6 +64,27 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 
 	protected ResolvedControlMap resolvedControlMap;
 
+	private Optional<ControlMapCache> controlMapCache = Optional.empty();
+
+	private BaseControlParser<D> controlFileParser;
+
+	/**
+	 * @return the (raw) control map with which this application was initialized
+	 */
+	public Map<String, Object> getControlMap() {
+		return controlMap;
+	}
+
+	/**
+	 * Take the configuration (coefficient) entries of the control map from the given cache, parsing them only if the
+	 * cache does not already hold them. Must be called before the application is initialized.
+	 *
+	 * @param cache the cache, typically {@link ControlMapCache#getShared()}
+	 */
+	public void setControlMapCache(ControlMapCache cache) {
+		controlMapCache = Optional.of(cache);
+	}
+
 	public D getDebugModes() {
 		return debugModes.orElseThrow(() -> new IllegalStateException("Can not get debug modes before initialization"));
 	}
@@ -123,7 +145,7 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 	 * @throws ResourceParseException
 	 */
 	protected void init(
-			FileSystemFileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
+			FileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
 			String... controlFilePaths
 	) throws IOException, ResourceParseException {
 
@@ -131,7 +153,15 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 				controlFilePaths, getDefaultControlFileName(), getId(), writeToIfNoArgs, readFromIfNoArgs
 		);
 
-		init(resolver, getControlFileParser().parseByName(controlFileNames, resolver, new HashMap<>()));
+		if (controlFileParser == null) {
+			// Kept for the application's later runs; a parser holds no state of the files it has parsed
+			controlFileParser = getControlFileParser();
+		}
+		var parsedControlMap = controlMapCache.isPresent()
+				? controlFileParser.parseByName(controlFileNames, resolver, new HashMap<>(), controlMapCache.get())
+				: controlFileParser.parseByName(controlFileNames, resolver, new HashMap<>());
+
+		init(resolver, parsedControlMap);
 	}
 
 	protected abstract BaseControlParser<D> getControlFileParser();
@@ -142,7 +172,7 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 	 * @param controlMap
 	 * @throws IOException
 	 */
-	void init(FileSystemFileResolver resolver, Map<String, Object> controlMap) throws IOException {
+	void init(FileResolver resolver, Map<String, Object> controlMap) throws IOException {
 		this.fileResolver = resolver;
 		setControlMap(controlMap);
 	}
@@ -159,7 +189,16 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 		doMain(resolver, args);
 	}
 
-	public void doMain(FileSystemFileResolver resolver, final String... args)
+	/**
+	 * Run the application with the given control files, resolving the control files and every file they name with the
+	 * given resolver. The resolver need not be backed by the file system.
+	 *
+	 * @param resolver used to locate the control files and the input and output files they reference
+	 * @param args     the names of the control files
+	 * @throws VdypApplicationInitializationException
+	 * @throws VdypApplicationProcessingException
+	 */
+	public void doMain(FileResolver resolver, final String... args)
 			throws VdypApplicationInitializationException, VdypApplicationProcessingException {
 
 		try {
@@ -179,6 +218,22 @@ public abstract class VdypApplication<D extends DebugSettings> extends VdypCompo
 
 	protected abstract void process() throws ProcessingException;
 
+	/**
+	 * Clear the state of the last run, releasing any resources it holds, so that the application can be run again
+	 * with other control files. The control file parser and control map cache are kept for the next run. A reset
+	 * application need not be closed.
+	 *
+	 * @throws IOException if a resource of the last run can't be released
+	 */
+	public void reset() throws IOException {
+		controlMap = new HashMap<>();
+		fileResolver = null;
+		resolvedControlMap = null;
+		estimationMethods = null;
+		computers = null;
+		debugModes = Optional.empty();
+	}
+
 	protected abstract ResolvedControlMap resolveControlMap(Map<String, Object> rawControlMap);
 
 	@SuppressWarnings("unchecked")
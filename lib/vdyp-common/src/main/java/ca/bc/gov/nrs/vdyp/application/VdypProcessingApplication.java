@@ -67,7 +67,7 @@ public abstract class VdypProcessingApplication extends VdypApplication<Processi
 
 		processor.process(
 				this.getDefaultPasses(), (ProcessingResolvedControlMap) this.resolvedControlMap,
-				Optional.of(new FileSystemFileResolver()), p -> true
+				Optional.of(fileResolver != null ? fileResolver : new FileSystemFileResolver()), p -> true
 		);
 	}
 
@@ -36,7 +36,7 @@ import ca.bc.gov.nrs.vdyp.exceptions.LayerSpeciesDoNotSumTo100PercentException;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
 import ca.bc.gov.nrs.vdyp.exceptions.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.exceptions.UnsupportedSpeciesException;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
@@ -148,7 +148,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		super();
 	}
 
-	protected VdypOutputWriter createWriter(FileSystemFileResolver resolver, Map<String, Object> controlMap)
+	protected VdypOutputWriter createWriter(FileResolver resolver, Map<String, Object> controlMap)
 			throws IOException {
 		return new VdypOutputWriter(controlMap, resolver);
 	}
@@ -177,6 +177,13 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		}
 	}
 
+	@Override
+	public void reset() throws IOException {
+		super.reset();
+		closeVriWriter();
+		modeUsed = PolygonMode.DONT_PROCESS;
+	}
+
 	@Override
 	public void close() throws VdypApplicationInitializationException {
 		try {
@@ -861,7 +868,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 	}
 
 	@Override
-	public void init(FileSystemFileResolver resolver, Map<String, Object> controlMap) throws IOException {
+	public void init(FileResolver resolver, Map<String, Object> controlMap) throws IOException {
 		super.init(resolver, controlMap);
 		closeVriWriter();
 		vriWriter = createWriter(resolver, controlMap);
@@ -24,6 +24,9 @@ public enum ControlKey {
 	VDYP_OUTPUT_VDYP_POLYGON(15), VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES(16), VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL(18),
 	VDYP_OUTPUT_COMPATIBILITY_VARIABLES(19),
 
+	// VDYP Forward binary output (no VDYP7 equivalent): polygons, species and utilizations in a single file
+	VDYP_OUTPUT_BINARY(17),
+
 	VOLUME_EQN_GROUPS(20), DECAY_GROUPS(21), BREAKAGE_GROUPS(22),
 
 	SITE_CURVE_NUMBERS(25), SITE_CURVE_AGE_MAX(26),
@@ -47,7 +50,12 @@ public enum ControlKey {
 
 	VETERAN_LAYER_VOLUME_ADJUST(96), VETERAN_LAYER_DQ(97), VETERAN_BQ(98),
 
-	VTROL(101), BA_YIELD(106), DQ_YIELD(107), BA_DQ_UPPER_BOUNDS(108),
+	VTROL(101),
+
+	// VDYP Forward output years (no VDYP7 equivalent): when present, only these years are written
+	VDYP_OUTPUT_YEARS(102),
+
+	BA_YIELD(106), DQ_YIELD(107), BA_DQ_UPPER_BOUNDS(108),
 
 	BA_GROWTH_FIAT(111), DQ_GROWTH_FIAT(117),
 
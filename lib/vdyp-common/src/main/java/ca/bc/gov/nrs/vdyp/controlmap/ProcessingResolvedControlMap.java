@@ -11,6 +11,7 @@ import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
 import ca.bc.gov.nrs.vdyp.model.ModelCoefficients;
 import ca.bc.gov.nrs.vdyp.model.NonprimaryHLCoefficients;
 import ca.bc.gov.nrs.vdyp.model.Region;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingControlVariables;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingDebugSettings;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
@@ -33,6 +34,9 @@ public interface ProcessingResolvedControlMap extends ResolvedControlMap {
 	@Override
 	ProcessingControlVariables getControlVariables();
 
+	/** 102 - VDYP_OUTPUT_YEARS. Empty if every year is to be written. */
+	Optional<OutputYears> getOutputYears();
+
 	/** 106 - BA_YIELD */
 	MatrixMap2<String, String, Coefficients> getBasalAreaYieldCoefficients();
 
@@ -13,6 +13,7 @@ import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
 import ca.bc.gov.nrs.vdyp.model.ModelCoefficients;
 import ca.bc.gov.nrs.vdyp.model.NonprimaryHLCoefficients;
 import ca.bc.gov.nrs.vdyp.model.Region;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingControlVariables;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingDebugSettings;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
@@ -22,6 +23,7 @@ public class ProcessingResolvedControlMapImpl extends CachingResolvedControlMapI
 
 	private final Optional<ProcessingDebugSettings> debugSettings;
 	private final Optional<ProcessingControlVariables> forwardControlVariables;
+	private final Optional<OutputYears> outputYears;
 	private final Optional<MatrixMap2<String, Region, SiteIndexEquation>> siteCurveMap;
 	private final Optional<CompVarAdjustments> compVarAdjustments;
 	private final Optional<MatrixMap2<String, String, Coefficients>> basalAreaYieldCoefficients;
@@ -45,6 +47,7 @@ public class ProcessingResolvedControlMapImpl extends CachingResolvedControlMapI
 
 		this.debugSettings = get(ControlKey.DEBUG_SWITCHES, ProcessingDebugSettings.class);
 		this.forwardControlVariables = get(ControlKey.VTROL, ProcessingControlVariables.class);
+		this.outputYears = get(ControlKey.VDYP_OUTPUT_YEARS, OutputYears.class);
 		this.siteCurveMap = get(ControlKey.SITE_CURVE_NUMBERS, MatrixMap2.class);
 		this.compVarAdjustments = get(ControlKey.PARAM_ADJUSTMENTS, CompVarAdjustments.class);
 		this.basalAreaYieldCoefficients = get(ControlKey.BA_YIELD, MatrixMap2.class);
@@ -76,6 +79,11 @@ public class ProcessingResolvedControlMapImpl extends CachingResolvedControlMapI
 		return forwardControlVariables.orElseThrow(() -> new NoSuchElementException("forwardControlVariables"));
 	}
 
+	@Override
+	public Optional<OutputYears> getOutputYears() {
+		return outputYears;
+	}
+
 	@Override
 	public MatrixMap2<String, Region, SiteIndexEquation> getSiteCurveMap() {
 		return siteCurveMap.orElseThrow(() -> new NoSuchElementException("siteCurveMap"));
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * File resolver that delegates to a list of delegates in descending order of priority
@@ -36,6 +37,18 @@ public class FailoverFileResolver implements FileResolver {
 		throw new FileNotFoundException(filename);
 	}
 
+	@Override
+	public Optional<Object> contentIdentity(String filename) throws IOException {
+		for (var delegate : delegates) {
+			try {
+				return delegate.contentIdentity(filename);
+			} catch (NoSuchFileException | FileNotFoundException ex) {
+				// Do Nothing
+			}
+		}
+		throw new FileNotFoundException(filename);
+	}
+
 	@Override
 	public OutputStream resolveForOutput(String filename) throws IOException {
 		for (var delegate : delegates) {
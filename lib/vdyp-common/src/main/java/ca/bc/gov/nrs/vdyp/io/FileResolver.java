@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.Optional;
 
 public interface FileResolver {
 
@@ -15,6 +16,19 @@ public interface FileResolver {
 
 	Path toPath(String filename) throws IOException;
 
+	/**
+	 * Identify the current content of the given file without reading it. While the identity returned for a file is
+	 * equal to one returned earlier, the file's content is the same as it was then.
+	 *
+	 * @param filename the name of the file
+	 * @return the identity of the content, or empty if it can't be identified without reading it
+	 * @throws IOException if the file can be seen not to exist, a {@link java.nio.file.NoSuchFileException} or
+	 *                     {@link java.io.FileNotFoundException}
+	 */
+	default Optional<Object> contentIdentity(String filename) throws IOException {
+		return Optional.empty();
+	}
+
 	/**
 	 * Create a FileResolver that resolves relative to a given path
 	 *
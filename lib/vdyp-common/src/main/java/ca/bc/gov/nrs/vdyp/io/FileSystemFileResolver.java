@@ -5,6 +5,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.Optional;
 
 public class FileSystemFileResolver implements FileResolver {
@@ -29,6 +31,16 @@ public class FileSystemFileResolver implements FileResolver {
 		return Files.newInputStream(toPath(filename));
 	}
 
+	/**
+	 * Identifies a file by its absolute path, size and modification time.
+	 */
+	@Override
+	public Optional<Object> contentIdentity(String filename) throws IOException {
+		var path = toPath(filename).toAbsolutePath();
+		var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		return Optional.of(List.of(path, attributes.size(), attributes.lastModifiedTime()));
+	}
+
 	@Override
 	public OutputStream resolveForOutput(String filename) throws IOException {
 		return Files.newOutputStream(toPath(filename));
@@ -0,0 +1,180 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * File resolver that never touches the file system. Files written through this resolver are held in memory and can be
+ * read back by name, by this resolver or by any resolver created from it with {@link #relative(String)} or
+ * {@link #relativeToParent(String)}.
+ * <p>
+ * Files that have not been written are looked up in an optional, read-only set of base files. This allows a single
+ * in-memory copy of a set of control and coefficient files to be shared by any number of resolvers.
+ */
+public class MemoryFileResolver implements FileResolver {
+
+	private static final Path ROOT = Path.of("");
+
+	private final Map<String, byte[]> baseFiles;
+	private final Map<String, byte[]> files;
+	private final Path currentDirectory;
+
+	/**
+	 * Create a resolver with no base files.
+	 */
+	public MemoryFileResolver() {
+		this(Collections.emptyMap());
+	}
+
+	/**
+	 * Create a resolver that falls back to the given files for any file that has not been written.
+	 *
+	 * @param baseFiles file content by name. The map is not copied and must not be modified afterwards.
+	 */
+	public MemoryFileResolver(Map<String, byte[]> baseFiles) {
+		this(baseFiles, new ConcurrentHashMap<>(), ROOT);
+	}
+
+	private MemoryFileResolver(Map<String, byte[]> baseFiles, Map<String, byte[]> files, Path currentDirectory) {
+		this.baseFiles = baseFiles;
+		this.files = files;
+		this.currentDirectory = currentDirectory;
+	}
+
+	/**
+	 * Read every file entry of the given zip stream into memory, in a form suitable for use as the base files of a
+	 * {@link MemoryFileResolver}. The stream is consumed but not closed.
+	 *
+	 * @param zipStream the zip content
+	 * @return an unmodifiable map of entry content by entry name
+	 * @throws IOException
+	 */
+	public static Map<String, byte[]> readZip(InputStream zipStream) throws IOException {
+		var result = new HashMap<String, byte[]>();
+
+		var zis = new ZipInputStream(zipStream);
+		ZipEntry entry;
+		while ( (entry = zis.getNextEntry()) != null) {
+			if (!entry.isDirectory()) {
+				result.put(toKey(ROOT.resolve(entry.getName()).normalize()), zis.readAllBytes());
+			}
+			zis.closeEntry();
+		}
+
+		return Collections.unmodifiableMap(result);
+	}
+
+	private static String toKey(Path path) {
+		return path.toString().replace('\\', '/');
+	}
+
+	private String toKey(String filename) {
+		return toKey(toPath(filename));
+	}
+
+	@Override
+	public Path toPath(String filename) {
+		return currentDirectory.resolve(filename).normalize();
+	}
+
+	@Override
+	public InputStream resolveForInput(String filename) throws IOException {
+		var key = toKey(filename);
+		var content = files.get(key);
+		if (content == null) {
+			content = baseFiles.get(key);
+		}
+		if (content == null) {
+			throw new NoSuchFileException(filename);
+		}
+		return new ByteArrayInputStream(content);
+	}
+
+	/**
+	 * Identifies a base file by its name and content array, which is never modified. Files written through the resolver
+	 * may be written again, so they are not identified.
+	 */
+	@Override
+	public Optional<Object> contentIdentity(String filename) throws IOException {
+		var key = toKey(filename);
+		if (files.containsKey(key)) {
+			return Optional.empty();
+		}
+		var content = baseFiles.get(key);
+		if (content == null) {
+			throw new NoSuchFileException(filename);
+		}
+		return Optional.of(List.of(key, content));
+	}
+
+	@Override
+	public OutputStream resolveForOutput(String filename) throws IOException {
+		var key = toKey(filename);
+		files.put(key, new byte[0]);
+
+		return new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				files.put(key, toByteArray());
+			}
+
+			@Override
+			public void close() {
+				flush();
+			}
+		};
+	}
+
+	/**
+	 * Get the content of the given file, if it has been written through this resolver or one sharing its files.
+	 *
+	 * @param filename the name of the file
+	 * @return the content, if present
+	 */
+	public Optional<byte[]> getContent(String filename) {
+		return Optional.ofNullable(files.get(toKey(filename)));
+	}
+
+	/**
+	 * @return the names of all the files written so far, relative to the root of this resolver's file tree
+	 */
+	public Set<String> getWrittenFileNames() {
+		return Collections.unmodifiableSet(files.keySet());
+	}
+
+	@Override
+	public String toString(String filename) {
+		return String.format("memory:%s", toKey(filename));
+	}
+
+	@Override
+	public MemoryFileResolver relative(String path) {
+		return new MemoryFileResolver(baseFiles, files, toPath(path));
+	}
+
+	@Override
+	public MemoryFileResolver relativeToParent(String path) {
+		var parent = toPath(path).getParent();
+		return new MemoryFileResolver(baseFiles, files, parent == null ? ROOT : parent);
+	}
+
+	@Override
+	public String toString() {
+		return "MemoryFileResolver (" + (currentDirectory.equals(ROOT) ? "root" : "relative [" + currentDirectory + "]")
+				+ ")";
+	}
+}
@@ -0,0 +1,83 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+
+/**
+ * Layout of the binary form of the VDYP Forward output files (vp_grow, vs_grow and vu_grow). The file starts with
+ * {@link #MAGIC} and {@link #VERSION}, and then holds one record per polygon per year. Each record is an int giving
+ * the length of its payload followed by the payload, which is:
+ * <ul>
+ * <li>the polygon: base (UTF), year (int), BEC alias (UTF), FIZ (UTF), percent forested (int), inventory type group
+ * (int), basal area group (int) and mode (int);
+ * <li>the species count (short) and then, column by column: layer type ordinal (byte), genus index (short), genus
+ * (UTF), four pairs of sp64 alias (UTF) and percentage (float) columns, site index, dominant height, total age, years
+ * at breast height, years to breast height (all float), is-primary (boolean) and site curve number (short);
+ * <li>the utilization holder (layer or species) count (short), the layer type ordinal (byte), genus index (short) and
+ * genus (UTF, blank for a layer) columns, and then one float column per {@link #QUANTITIES} entry holding, for each
+ * holder, a value per {@link UtilizationClass} in declaration order.
+ * </ul>
+ * Values are stored as they would appear in the text files, including -9 for missing values, and are rounded to the
+ * precision of the corresponding text column so that either form of the output gives the same projection results.
+ */
+public final class VdypBinaryOutputFormat {
+
+	/** "VDYB" */
+	public static final int MAGIC = 0x56445942;
+	public static final short VERSION = 1;
+
+	public static final float EMPTY_FLOAT = -9f;
+	public static final int EMPTY_INT = -9;
+
+	public static final int SP64_DISTRIBUTION_SLOTS = 4;
+
+	public static final int PERCENT_DECIMALS = 1;
+	public static final int DISTANCE_DECIMALS = 2;
+	public static final int AGE_DECIMALS = 1;
+
+	/**
+	 * The per utilization class quantities of a utilization holder, in the order in which they are stored.
+	 */
+	public enum Quantity {
+		BASAL_AREA(5), //
+		TREES_PER_HECTARE(2), //
+		LOREY_HEIGHT(4), //
+		WHOLE_STEM_VOLUME(4), //
+		CLOSE_UTILIZATION_VOLUME(4), //
+		CU_VOLUME_LESS_DECAY(4), //
+		CU_VOLUME_LESS_DECAY_WASTAGE(4), //
+		CU_VOLUME_LESS_DECAY_WASTAGE_BREAKAGE(4), //
+		QUADRATIC_MEAN_DIAMETER(1);
+
+		public final int decimals;
+
+		Quantity(int decimals) {
+			this.decimals = decimals;
+		}
+	}
+
+	public static final Quantity[] QUANTITIES = Quantity.values();
+
+	public static final int UTILIZATION_CLASS_COUNT = UtilizationClass.values().length;
+
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5 };
+
+	private VdypBinaryOutputFormat() {
+	}
+
+	/**
+	 * Round a value half away from zero to the given number of decimal places, as <code>String.format</code> does.
+	 * NaN and infinite values are returned unchanged.
+	 *
+	 * @param value    the value to round
+	 * @param decimals the number of decimal places, from 0 to 5
+	 * @return the rounded value
+	 */
+	public static float round(float value, int decimals) {
+		if (!Float.isFinite(value)) {
+			return value;
+		}
+		double scale = POWERS_OF_TEN[decimals];
+		double magnitude = Math.floor(Math.abs((double) value) * scale + 0.5) / scale;
+		return (float) Math.copySign(magnitude, value);
+	}
+}
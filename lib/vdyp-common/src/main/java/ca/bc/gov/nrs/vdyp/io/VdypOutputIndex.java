@@ -0,0 +1,431 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseLineException;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+/**
+ * An index by polygon and year of the records of a set of VDYP7 polygon, species and utilization files, such as the
+ * vp_grow.dat, vs_grow.dat and vu_grow.dat written by Forward. Each file is memory mapped and scanned once when the
+ * index is opened, noting where the records of each polygon start; nothing is parsed but the polygon descriptions.
+ * The records of any polygon can then be read without reading those of the others.
+ * <p>
+ * The polygon file holds one line per polygon and year, up to the first line with a blank description. The species
+ * and utilization files hold a group of lines for each of those, in the same order, each group ending with a line
+ * whose layer type is blank or "Z".
+ */
+public class VdypOutputIndex implements Closeable {
+
+	public enum OutputFile {
+		POLYGON, SPECIES, UTILIZATION
+	}
+
+	private static final int DESCRIPTION_LENGTH = PolygonIdentifier.ID_LENGTH;
+	private static final int LAYER_TYPE_COLUMN = DESCRIPTION_LENGTH + 1;
+
+	// Files are scanned through a series of mappings of at most this size
+	private static final long SCAN_WINDOW_SIZE = 1L << 28;
+
+	private final Map<OutputFile, Path> paths;
+	private final Map<OutputFile, FileChannel> channels;
+	private final Map<OutputFile, long[]> offsets = new EnumMap<>(OutputFile.class);
+
+	private final List<PolygonIdentifier> polygons = new ArrayList<>();
+	private final Map<PolygonIdentifier, Integer> positions = new HashMap<>();
+	private final Map<String, List<PolygonIdentifier>> polygonsByBase = new HashMap<>();
+
+	private VdypOutputIndex(Map<OutputFile, Path> paths, Map<OutputFile, FileChannel> channels) {
+		this.paths = paths;
+		this.channels = channels;
+	}
+
+	/**
+	 * Open and index a set of output files. The files are kept open until the index is closed.
+	 *
+	 * @param polygonFile     the polygon file, such as vp_grow.dat
+	 * @param speciesFile     the species file, such as vs_grow.dat
+	 * @param utilizationFile the utilization file, such as vu_grow.dat
+	 * @throws IOException            if a file could not be read
+	 * @throws ResourceParseException if a polygon description is not valid, or the files do not hold the same number
+	 *                                of polygons
+	 */
+	public static VdypOutputIndex open(Path polygonFile, Path speciesFile, Path utilizationFile)
+			throws IOException, ResourceParseException {
+		var paths = new EnumMap<OutputFile, Path>(OutputFile.class);
+		paths.put(OutputFile.POLYGON, polygonFile);
+		paths.put(OutputFile.SPECIES, speciesFile);
+		paths.put(OutputFile.UTILIZATION, utilizationFile);
+
+		var channels = new EnumMap<OutputFile, FileChannel>(OutputFile.class);
+		var index = new VdypOutputIndex(paths, channels);
+		try {
+			for (var entry : paths.entrySet()) {
+				channels.put(entry.getKey(), FileChannel.open(entry.getValue(), StandardOpenOption.READ));
+			}
+			index.indexPolygons();
+			index.indexGroups(OutputFile.SPECIES);
+			index.indexGroups(OutputFile.UTILIZATION);
+		} catch (IOException | ResourceParseException | RuntimeException e) {
+			index.close();
+			throw e;
+		}
+		return index;
+	}
+
+	/**
+	 * @return the identifiers of the polygons in the files, in file order
+	 */
+	public List<PolygonIdentifier> getPolygonIdentifiers() {
+		return Collections.unmodifiableList(polygons);
+	}
+
+	/**
+	 * @param base the base of a polygon identifier (its name)
+	 * @return the identifiers of the polygon's records for each year, in file order
+	 */
+	public List<PolygonIdentifier> getPolygonIdentifiers(String base) {
+		return Collections.unmodifiableList(polygonsByBase.getOrDefault(base, List.of()));
+	}
+
+	public boolean contains(PolygonIdentifier polygon) {
+		return positions.containsKey(polygon);
+	}
+
+	public Path getPath(OutputFile file) {
+		return paths.get(file);
+	}
+
+	/**
+	 * Read the records of the given polygons from one of the files, in the order given. If a polygon and year appears
+	 * more than once in the files, the first is read.
+	 *
+	 * @param file     the file to read
+	 * @param polygons the polygons to read
+	 * @return a stream of the polygons' records, as they appear in the file
+	 * @throws IllegalArgumentException if one of the polygons is not in the files
+	 */
+	public InputStream open(OutputFile file, Collection<PolygonIdentifier> polygons) throws IOException {
+		var streams = new ArrayList<InputStream>(polygons.size());
+		long[] fileOffsets = offsets.get(file);
+		for (var polygon : polygons) {
+			int position = positionOf(polygon);
+			long start = fileOffsets[position];
+			long length = fileOffsets[position + 1] - start;
+			streams.add(new BufferInputStream(channels.get(file).map(FileChannel.MapMode.READ_ONLY, start, length)));
+		}
+		return streams.size() == 1 ? streams.get(0) : new SequenceInputStream(Collections.enumeration(streams));
+	}
+
+	/**
+	 * Make a resolver that resolves the names of the three files, as given by {@link #getPath}, to streams of just
+	 * the records of the given polygons. This lets the usual parsers read one polygon out of a large set of files.
+	 *
+	 * @param polygons the polygons to read
+	 * @throws IllegalArgumentException if one of the polygons is not in the files
+	 */
+	public FileResolver resolver(Collection<PolygonIdentifier> polygons) {
+		for (var polygon : polygons) {
+			positionOf(polygon);
+		}
+		var selection = List.copyOf(polygons);
+		return new FileResolver() {
+
+			@Override
+			public InputStream resolveForInput(String filename) throws IOException {
+				return open(fileFor(filename), selection);
+			}
+
+			@Override
+			public OutputStream resolveForOutput(String filename) throws IOException {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public String toString(String filename) throws IOException {
+				return toPath(filename).toString();
+			}
+
+			@Override
+			public Path toPath(String filename) throws IOException {
+				return paths.get(fileFor(filename));
+			}
+
+			@Override
+			public FileResolver relative(String path) throws IOException {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public FileResolver relativeToParent(String path) throws IOException {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private int positionOf(PolygonIdentifier polygon) {
+		var position = positions.get(polygon);
+		if (position == null) {
+			throw new IllegalArgumentException("Polygon " + polygon + " is not in " + paths.get(OutputFile.POLYGON));
+		}
+		return position;
+	}
+
+	private OutputFile fileFor(String filename) throws NoSuchFileException {
+		var path = Path.of(filename);
+		for (var entry : paths.entrySet()) {
+			if (entry.getValue().equals(path)) {
+				return entry.getKey();
+			}
+		}
+		throw new NoSuchFileException(filename);
+	}
+
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (var channel : channels.values()) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void indexPolygons() throws IOException, ResourceParseException {
+		var starts = new OffsetList();
+		long end = scan(OutputFile.POLYGON, (lineNumber, start, next, prefix, length) -> {
+			int descriptionLength = Math.min(length, DESCRIPTION_LENGTH);
+			if (isBlank(prefix, 0, descriptionLength)) {
+				return false;
+			}
+			PolygonIdentifier polygon;
+			try {
+				polygon = PolygonIdentifier.split(new String(prefix, 0, descriptionLength, StandardCharsets.US_ASCII));
+			} catch (IllegalArgumentException e) {
+				throw new ResourceParseLineException(lineNumber, e);
+			}
+			positions.putIfAbsent(polygon, polygons.size());
+			polygons.add(polygon);
+			polygonsByBase.computeIfAbsent(polygon.getBase(), base -> new ArrayList<>()).add(polygon);
+			starts.add(start);
+			return true;
+		});
+		starts.add(end);
+		offsets.put(OutputFile.POLYGON, starts.toArray());
+	}
+
+	private void indexGroups(OutputFile file) throws IOException, ResourceParseException {
+		var starts = new OffsetList();
+		starts.add(0);
+		scan(file, (lineNumber, start, next, prefix, length) -> {
+			if (starts.size() > polygons.size()) {
+				return false;
+			}
+			if (length <= LAYER_TYPE_COLUMN || isBlank(prefix, LAYER_TYPE_COLUMN, LAYER_TYPE_COLUMN + 1)
+					|| prefix[LAYER_TYPE_COLUMN] == 'Z') {
+				starts.add(next);
+			}
+			return true;
+		});
+		if (starts.size() <= polygons.size()) {
+			throw new ResourceParseException(
+					MessageFormat.format(
+							"{0} holds records for {1} polygons but {2} holds {3}", paths.get(file),
+							starts.size() - 1, paths.get(OutputFile.POLYGON), polygons.size()
+					)
+			);
+		}
+		offsets.put(file, Arrays.copyOf(starts.toArray(), polygons.size() + 1));
+	}
+
+	@FunctionalInterface
+	private interface LineVisitor {
+		/**
+		 * Visit a line of a file.
+		 *
+		 * @param lineNumber the line number, from 1
+		 * @param start      the offset of the start of the line
+		 * @param next       the offset of the start of the next line
+		 * @param prefix     the first bytes of the line
+		 * @param length     the length of the line, not counting its terminator
+		 * @return false to stop scanning before this line
+		 */
+		boolean visit(int lineNumber, long start, long next, byte[] prefix, int length) throws ResourceParseException;
+	}
+
+	/**
+	 * Visit each line of a file in turn. Lines end at a line feed, a carriage return, or a carriage return followed by
+	 * a line feed.
+	 *
+	 * @return the offset of the start of the line at which the visitor stopped, or of the end of the file
+	 */
+	private long scan(OutputFile file, LineVisitor visitor) throws IOException, ResourceParseException {
+		var channel = channels.get(file);
+		long size = channel.size();
+		var line = new LineState(visitor);
+
+		for (long windowStart = 0; windowStart < size && !line.stopped; windowStart += SCAN_WINDOW_SIZE) {
+			long windowSize = Math.min(SCAN_WINDOW_SIZE, size - windowStart);
+			var window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+			for (int i = 0; i < windowSize && !line.stopped; i++) {
+				line.accept(window.get(i), windowStart + i);
+			}
+		}
+		return line.finish(size);
+	}
+
+	/**
+	 * The line being scanned, which may span scan windows.
+	 */
+	private static class LineState {
+		private final LineVisitor visitor;
+		private final byte[] prefix = new byte[LAYER_TYPE_COLUMN + 1];
+
+		private int lineNumber = 1;
+		private long start = 0;
+		private int length = 0;
+		private boolean afterCarriageReturn = false;
+		private boolean stopped = false;
+
+		LineState(LineVisitor visitor) {
+			this.visitor = visitor;
+		}
+
+		void accept(byte b, long offset) throws ResourceParseException {
+			if (afterCarriageReturn) {
+				afterCarriageReturn = false;
+				if (b == '\n') {
+					end(offset + 1);
+					return;
+				}
+				end(offset);
+				if (stopped) {
+					return;
+				}
+			}
+			if (b == '\n') {
+				end(offset + 1);
+			} else if (b == '\r') {
+				afterCarriageReturn = true;
+			} else {
+				if (length < prefix.length) {
+					prefix[length] = b;
+				}
+				length++;
+			}
+		}
+
+		long finish(long size) throws ResourceParseException {
+			if (!stopped && (afterCarriageReturn || start < size)) {
+				end(size);
+			}
+			return start;
+		}
+
+		private void end(long next) throws ResourceParseException {
+			if (!visitor.visit(lineNumber, start, next, prefix, length)) {
+				stopped = true;
+				return;
+			}
+			lineNumber++;
+			start = next;
+			length = 0;
+		}
+	}
+
+	/**
+	 * A growable list of offsets.
+	 */
+	private static class OffsetList {
+		private long[] values = new long[64];
+		private int size = 0;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int size() {
+			return size;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+	private static boolean isBlank(byte[] bytes, int from, int to) {
+		for (int i = from; i < to; i++) {
+			// As String.trim does
+			if (bytes[i] > ' ' || bytes[i] < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * An input stream over a buffer, such as a mapped region of a file.
+	 */
+	private static class BufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		BufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int n = Math.min(len, buffer.remaining());
+			buffer.get(b, off, n);
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
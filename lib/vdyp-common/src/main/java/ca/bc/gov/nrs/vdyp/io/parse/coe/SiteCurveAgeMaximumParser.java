@@ -79,15 +79,20 @@ public class SiteCurveAgeMaximumParser
 		return value <= 0.0 ? MAX_AGE : value;
 	};
 
+	/**
+	 * The site curve age maxima by site curve number, giving the default for site curves that are not present.
+	 */
+	private static class SiteCurveAgeMaximumMap extends HashMap<Integer, SiteCurveAgeMaximum> {
+		@Override
+		public SiteCurveAgeMaximum get(Object key) {
+			return containsKey(key) ? super.get(key)
+					: new SiteCurveAgeMaximum(DEFAULT_AGE, DEFAULT_AGE, DEFAULT_T1, DEFAULT_T2);
+		}
+	}
+
 	@Override
 	public Map<Integer, SiteCurveAgeMaximum> defaultResult() {
-		return new HashMap<>() {
-			@Override
-			public SiteCurveAgeMaximum get(Object key) {
-				return containsKey(key) ? super.get(key)
-						: new SiteCurveAgeMaximum(DEFAULT_AGE, DEFAULT_AGE, DEFAULT_T1, DEFAULT_T2);
-			}
-		};
+		return new SiteCurveAgeMaximumMap();
 	}
 
 	@Override
@@ -0,0 +1,269 @@
+package ca.bc.gov.nrs.vdyp.io.parse.common;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.io.parse.value.ControlledValueParser;
+import ca.bc.gov.nrs.vdyp.io.parse.value.RangeWithDefaultParser;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
+
+/**
+ * The fields of the current line of a {@link LineParser.RecordStream}, read in place from the bytes of the line.
+ * Numeric fields are parsed without creating strings; a string is only made for fields asked for as strings, and for
+ * numbers in forms other than plain decimals.
+ * <p>
+ * Fields are identified by the index returned by {@link LineParser#fieldIndex(String)}, and parsed with the value
+ * parser their segment was declared with. As with {@link LineParser#parseLine}, a field is present if the line reaches
+ * its start, and a field the line ends part way through is cut short. The same instance is reused for each line of the
+ * stream.
+ */
+public final class LineFields {
+
+	private static final float[] POWERS_OF_TEN = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	// Integers below this are exact as floats, and so are their quotients with POWERS_OF_TEN once rounded
+	private static final int MAX_EXACT_MANTISSA = 1 << 24;
+
+	private static final int MAX_FAST_INT_DIGITS = 9;
+
+	private final int[] starts;
+	private final int[] lengths;
+	private final ControlledValueParser<?>[] parsers;
+	private final Map<String, Object> control;
+
+	private byte[] bytes = new byte[256];
+	private int length;
+	private int lineNumber;
+	private String line;
+
+	LineFields(int[] starts, int[] lengths, ControlledValueParser<?>[] parsers, Map<String, Object> control) {
+		this.starts = starts;
+		this.lengths = lengths;
+		this.parsers = parsers;
+		this.control = control;
+	}
+
+	/**
+	 * Start a new, empty line.
+	 */
+	void reset(int lineNumber) {
+		this.lineNumber = lineNumber;
+		this.length = 0;
+		this.line = null;
+	}
+
+	/**
+	 * Append a byte to the current line.
+	 */
+	void append(byte b) {
+		if (length == bytes.length) {
+			bytes = Arrays.copyOf(bytes, length * 2);
+		}
+		bytes[length++] = b;
+	}
+
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * @return the whole of the current line
+	 */
+	public String getLine() {
+		if (line == null) {
+			line = new String(bytes, 0, length, LineParser.charset);
+		}
+		return line;
+	}
+
+	public Map<String, Object> getControl() {
+		return control;
+	}
+
+	public boolean isPresent(int field) {
+		return starts[field] < length;
+	}
+
+	/**
+	 * @return true if the field is absent, or consists only of whitespace
+	 */
+	public boolean isBlank(int field) {
+		return strippedStart(field) == end(field);
+	}
+
+	/**
+	 * @return the field as it appears on the line, or null if it is absent
+	 */
+	public String getString(int field) {
+		if (!isPresent(field)) {
+			return null;
+		}
+		return new String(bytes, starts[field], end(field) - starts[field], LineParser.charset);
+	}
+
+	/**
+	 * @return the field stripped of leading and trailing whitespace, or null if it is absent
+	 */
+	public String getStrippedString(int field) {
+		if (!isPresent(field)) {
+			return null;
+		}
+		int start = strippedStart(field);
+		return new String(bytes, start, strippedEnd(field, start) - start, LineParser.charset);
+	}
+
+	/**
+	 * Parse a field declared with a parser of integers. An absent field is parsed as an empty string.
+	 * <p>
+	 * Fields declared with {@link ValueParser#INTEGER}, or with a {@link RangeWithDefaultParser} of it such as
+	 * {@link ValueParser#INTEGER_WITH_DEFAULT}, are parsed without boxing.
+	 */
+	public int getInt(int field) throws ValueParseException {
+		var parser = parsers[field];
+		if (parser == ValueParser.INTEGER) {
+			return parseInt(field);
+		}
+		if (parser instanceof RangeWithDefaultParser<?> rangeParser && rangeParser.getParser() == ValueParser.INTEGER) {
+			@SuppressWarnings("unchecked")
+			var integerParser = (RangeWithDefaultParser<Integer>) rangeParser;
+			return isPresent(field) ? resolve(field, integerParser, parseInt(field)) : integerParser.getDefaultValue();
+		}
+		return (Integer) parseSlowly(field, parser);
+	}
+
+	/**
+	 * Parse a field declared with a parser of floats. An absent field is parsed as an empty string.
+	 * <p>
+	 * Fields declared with {@link ValueParser#FLOAT}, or with a {@link RangeWithDefaultParser} of it such as
+	 * {@link ValueParser#FLOAT_WITH_DEFAULT}, are parsed without boxing. Plain decimals with few enough digits that the
+	 * mantissa and the power of ten are both exact floats are converted directly, which gives the same correctly
+	 * rounded result as {@link Float#parseFloat}. Anything else is left to {@link Float#parseFloat}.
+	 */
+	public float getFloat(int field) throws ValueParseException {
+		var parser = parsers[field];
+		if (parser == ValueParser.FLOAT) {
+			return parseFloat(field);
+		}
+		if (parser instanceof RangeWithDefaultParser<?> rangeParser && rangeParser.getParser() == ValueParser.FLOAT) {
+			@SuppressWarnings("unchecked")
+			var floatParser = (RangeWithDefaultParser<Float>) rangeParser;
+			return isPresent(field) ? resolve(field, floatParser, parseFloat(field)) : floatParser.getDefaultValue();
+		}
+		return (Float) parseSlowly(field, parser);
+	}
+
+	/**
+	 * Parse the field with the value parser it was declared with, as {@link LineParser#parseLine} would.
+	 *
+	 * @param <T> the type the field's parser gives
+	 * @return the parsed value, or null if the field is absent
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(int field) throws ValueParseException {
+		if (!isPresent(field)) {
+			return null;
+		}
+		return (T) parsers[field].parse(getString(field), control);
+	}
+
+	// A value the range parser rejects is parsed again with it, so that the error is the same
+	private <T extends Comparable<T>> T resolve(int field, RangeWithDefaultParser<T> parser, T value)
+			throws ValueParseException {
+		var result = parser.resolve(value);
+		return parser.isValid(result) ? result : parser.parse(getString(field));
+	}
+
+	private int parseInt(int field) throws ValueParseException {
+		int start = strippedStart(field);
+		int end = strippedEnd(field, start);
+		int i = start;
+		boolean negative = false;
+		if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+			negative = bytes[i] == '-';
+			i++;
+		}
+		if (i == end || end - i > MAX_FAST_INT_DIGITS) {
+			return parseSlowly(field, ValueParser.INTEGER);
+		}
+		int value = 0;
+		for (; i < end; i++) {
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return parseSlowly(field, ValueParser.INTEGER);
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private float parseFloat(int field) throws ValueParseException {
+		int start = strippedStart(field);
+		int end = strippedEnd(field, start);
+		int i = start;
+		boolean negative = false;
+		if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+			negative = bytes[i] == '-';
+			i++;
+		}
+		int mantissa = 0;
+		int digits = 0;
+		int fractionDigits = -1;
+		for (; i < end; i++) {
+			byte b = bytes[i];
+			if (b >= '0' && b <= '9') {
+				mantissa = mantissa * 10 + (b - '0');
+				if (mantissa >= MAX_EXACT_MANTISSA) {
+					return parseSlowly(field, ValueParser.FLOAT);
+				}
+				digits++;
+				if (fractionDigits >= 0) {
+					fractionDigits++;
+				}
+			} else if (b == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+			} else {
+				return parseSlowly(field, ValueParser.FLOAT);
+			}
+		}
+		if (digits == 0 || fractionDigits >= POWERS_OF_TEN.length) {
+			return parseSlowly(field, ValueParser.FLOAT);
+		}
+		float value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+		return negative ? -value : value;
+	}
+
+	private <T> T parseSlowly(int field, ControlledValueParser<T> parser) throws ValueParseException {
+		var string = getString(field);
+		return parser.parse(string == null ? "" : string, control);
+	}
+
+	private int end(int field) {
+		if (!isPresent(field)) {
+			return starts[field];
+		}
+		return lengths[field] < 0 ? length : Math.min(starts[field] + lengths[field], length);
+	}
+
+	private int strippedStart(int field) {
+		int i = starts[field];
+		int end = end(field);
+		while (i < end && isWhitespace(bytes[i])) {
+			i++;
+		}
+		return i;
+	}
+
+	private int strippedEnd(int field, int strippedStart) {
+		int i = end(field);
+		while (i > strippedStart && isWhitespace(bytes[i - 1])) {
+			i--;
+		}
+		return i;
+	}
+
+	// Bytes outside ASCII decode to the replacement character, which is not whitespace
+	private static boolean isWhitespace(byte b) {
+		return b >= 0 && Character.isWhitespace(b);
+	}
+}
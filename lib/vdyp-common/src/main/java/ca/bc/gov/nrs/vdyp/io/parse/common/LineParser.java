@@ -59,15 +59,22 @@ public class LineParser {
 		}
 	}
 
-	abstract static class LineParserValueSegment<T> extends LineParserSegment {
+	static class LineParserValueSegment<T> extends LineParserSegment {
 		String name;
+		ControlledValueParser<T> parser;
 
-		abstract T parse(String value, Map<String, Object> control) throws ValueParseException;
+		T parse(String value, Map<String, Object> control) throws ValueParseException {
+			return parser.parse(value, control);
+		}
 
 		public String getName() {
 			return name;
 		}
 
+		public ControlledValueParser<T> getParser() {
+			return parser;
+		}
+
 		@Override
 		public void parseIntoMap(String toParse, Map<String, Object> control, Map<String, Object> map)
 				throws ValueParseException {
@@ -75,9 +82,10 @@ public class LineParser {
 			map.put(this.getName(), value);
 		}
 
-		protected LineParserValueSegment(int length, String name) {
+		protected LineParserValueSegment(int length, String name, ControlledValueParser<T> parser) {
 			super(length);
 			this.name = name;
+			this.parser = parser;
 		}
 	}
 
@@ -180,14 +188,7 @@ public class LineParser {
 	private <T> LineParser doValue(int length, String name, ControlledValueParser<T> parser) {
 		if (!segments.isEmpty() && segments.get(segments.size() - 1).length < 0)
 			throw new IllegalStateException("Can not add a segment after an unbounded segment");
-		segments.add(new LineParserValueSegment<T>(length, name) {
-
-			@Override
-			T parse(String value, Map<String, Object> control) throws ValueParseException {
-				return parser.parse(value, control);
-			}
-
-		});
+		segments.add(new LineParserValueSegment<T>(length, name, parser));
 		return this;
 	}
 
@@ -368,6 +369,162 @@ public class LineParser {
 
 	}
 
+	/**
+	 * Find the index of a named segment, to use with the {@link LineFields} of a {@link RecordStream}. The field is
+	 * parsed with the value parser the segment was declared with.
+	 *
+	 * @param name name of the segment
+	 * @throws IllegalArgumentException if there is no segment with the name
+	 */
+	public int fieldIndex(String name) {
+		for (int i = 0; i < segments.size(); i++) {
+			if (segments.get(i) instanceof LineParserValueSegment<?> valueSegment
+					&& valueSegment.getName().equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("No segment named " + name);
+	}
+
+	/**
+	 * Returns a RecordStream of records built from each line by the given binder, which reads the fields of the line
+	 * directly rather than through a map of parsed values. Lines are stopped and ignored as with
+	 * {@link #parseAsStream}, if {@link #filtersLines()} or {@link #filtersSegments()} say so. Closing it will close
+	 * the provided stream.
+	 *
+	 * @param is      Input stream to parse
+	 * @param control Control map, for fields parsed with a {@link ControlledValueParser}
+	 * @param binder  Builds a record from the fields of a line
+	 */
+	public <R> RecordStream<R> parseAsRecords(InputStream is, Map<String, Object> control, RecordBinder<R> binder) {
+		int[] starts = new int[segments.size()];
+		int[] lengths = new int[segments.size()];
+		ControlledValueParser<?>[] parsers = new ControlledValueParser<?>[segments.size()];
+		int start = 0;
+		for (int i = 0; i < segments.size(); i++) {
+			var segment = segments.get(i);
+			starts[i] = start;
+			lengths[i] = segment.getLength();
+			if (segment instanceof LineParserValueSegment<?> valueSegment) {
+				parsers[i] = valueSegment.getParser();
+			}
+			start += Math.max(lengths[i], 0);
+		}
+		return new RecordStream<>(is, new LineFields(starts, lengths, parsers, control), binder);
+	}
+
+	public class RecordStream<R> implements AutoCloseable {
+
+		private static final int BUFFER_SIZE = 8192;
+
+		private final InputStream is;
+		private final LineFields fields;
+		private final RecordBinder<R> binder;
+
+		private final byte[] buffer = new byte[BUFFER_SIZE];
+		private int position = 0;
+		private int limit = 0;
+
+		private int lineNumber = 0;
+		private boolean lineWaiting = false;
+		private boolean finished = false;
+
+		RecordStream(InputStream is, LineFields fields, RecordBinder<R> binder) {
+			this.is = is;
+			this.fields = fields;
+			this.binder = binder;
+		}
+
+		public R next() throws IOException, ResourceParseException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("Tried to get next entry when none exists");
+			}
+			try {
+				return binder.bind(fields);
+			} catch (ValueParseException ex) {
+				throw new ResourceParseLineException(lineNumber, ex);
+			} finally {
+				lineWaiting = false;
+			}
+		}
+
+		public boolean hasNext() throws IOException {
+			while (!lineWaiting && !finished) {
+				lineNumber++;
+				if (!readLine()) {
+					finished = true;
+					break;
+				}
+				if (filtersLines()) {
+					var line = fields.getLine();
+					if (isStopLine(line)) {
+						finished = true;
+						break;
+					}
+					if (isIgnoredLine(line)) {
+						continue;
+					}
+				}
+				if (filtersSegments()) {
+					var segments = segmentize(fields.getLine());
+					if (isStopSegment(segments)) {
+						finished = true;
+						break;
+					}
+					if (isIgnoredSegment(segments)) {
+						continue;
+					}
+				}
+				lineWaiting = true;
+			}
+			return lineWaiting;
+		}
+
+		/**
+		 * Read the next line into the fields, ending it at a line feed, a carriage return, or a carriage return
+		 * followed by a line feed as {@link BufferedReader#readLine} does.
+		 *
+		 * @return false if the end of the stream had already been reached
+		 */
+		private boolean readLine() throws IOException {
+			fields.reset(lineNumber);
+			boolean any = false;
+			while (true) {
+				if (position == limit && !fill()) {
+					return any;
+				}
+				any = true;
+				byte b = buffer[position++];
+				if (b == '\n') {
+					return true;
+				}
+				if (b == '\r') {
+					if ( (position < limit || fill()) && buffer[position] == '\n') {
+						position++;
+					}
+					return true;
+				}
+				fields.append(b);
+			}
+		}
+
+		private boolean fill() throws IOException {
+			int read = is.read(buffer);
+			position = 0;
+			limit = Math.max(read, 0);
+			return read > 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+			is.close();
+		}
+
+		public int getLineNumber() {
+			return lineNumber;
+		}
+	}
+
 	/**
 	 * Parse an input stream into a list of maps
 	 *
@@ -384,6 +541,22 @@ public class LineParser {
 		}, control);
 	}
 
+	/**
+	 * Whether {@link #isStopLine} and {@link #isIgnoredLine} are applied to the lines of a {@link RecordStream}, which
+	 * must then make each line into a string. Override to return true when overriding either of them.
+	 */
+	protected boolean filtersLines() {
+		return false;
+	}
+
+	/**
+	 * Whether {@link #isStopSegment} and {@link #isIgnoredSegment} are applied to the lines of a {@link RecordStream},
+	 * which must then segmentize each line. Override to return true when overriding either of them.
+	 */
+	protected boolean filtersSegments() {
+		return false;
+	}
+
 	/**
 	 * If this returns true for a segmented line, parsing will stop and that line will not be included in the result.
 	 */
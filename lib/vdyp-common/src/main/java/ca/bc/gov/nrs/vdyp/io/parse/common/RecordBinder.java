@@ -0,0 +1,22 @@
+package ca.bc.gov.nrs.vdyp.io.parse.common;
+
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+
+/**
+ * Builds a record from the fields of a line, for {@link LineParser#parseAsRecords}.
+ *
+ * @param <R> type of the record
+ */
+@FunctionalInterface
+public interface RecordBinder<R> {
+
+	/**
+	 * Build a record from the current line. The fields are only valid for the duration of the call.
+	 *
+	 * @param fields the fields of the current line
+	 * @return the record
+	 * @throws ValueParseException    if a field could not be parsed
+	 * @throws ResourceParseException if the fields do not make a valid record
+	 */
+	R bind(LineFields fields) throws ValueParseException, ResourceParseException;
+}
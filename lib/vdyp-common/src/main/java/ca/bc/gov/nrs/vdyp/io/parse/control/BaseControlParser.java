@@ -1,11 +1,23 @@
 package ca.bc.gov.nrs.vdyp.io.parse.control;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +129,60 @@ public abstract class BaseControlParser<S extends DebugSettings> {
 			parseByName(List<String> resourceNames, FileResolver fileResolver, Map<String, Object> map)
 					throws IOException, ResourceParseException {
 
+		var resolverContext = parseControlFiles(resourceNames, fileResolver, map);
+
+		applyAllModifiers(map, resolverContext);
+
+		return map;
+	}
+
+	/**
+	 * Parse the named control files as {@link #parseByName(List, FileResolver, Map)} does, but take the configuration
+	 * (coefficient) entries from the given cache when the same configuration has been parsed before. Only the entries
+	 * that are specific to this run, such as the input and output files, are resolved against {@code fileResolver}
+	 * each time.
+	 * <p>
+	 * The cache key is a checksum of this parser's type and of the content of the configuration files named by the
+	 * control files, so control files that differ only in their run specific entries share the cached configuration,
+	 * and a configuration file that has changed is parsed again. A configuration not yet in the cache may be taken from
+	 * the cache's snapshot.
+	 *
+	 * @param resourceNames the names of the control files
+	 * @param fileResolver  resolves the control files and the files they name
+	 * @param map           the map to which the entries are added
+	 * @param cache         the cache of configuration entries
+	 * @return {@code map}
+	 * @throws IOException
+	 * @throws ResourceParseException
+	 */
+	public Map<String, Object> parseByName(
+			List<String> resourceNames, FileResolver fileResolver, Map<String, Object> map, ControlMapCache cache
+	) throws IOException, ResourceParseException {
+
+		var resolverContext = parseControlFiles(resourceNames, fileResolver, map);
+
+		ControlMapCache.Loader loader = () -> {
+			var configurationMap = new HashMap<>(map);
+			applyConfigurationModifiers(configurationMap, new HashMap<>(resolverContext));
+
+			// Keep only what the configuration modifiers produced; the rest belongs to the run that loaded it.
+			var configurationKeys = configurationKeyNames();
+			configurationMap.keySet().removeIf(k -> map.containsKey(k) && !configurationKeys.contains(k));
+			return configurationMap;
+		};
+		var configuration = cache.get(configurationChecksum(map, resolverContext), loader);
+
+		map.putAll(configuration);
+
+		applyRunModifiers(map, resolverContext);
+
+		return map;
+	}
+
+	private Map<String, FileResolver>
+			parseControlFiles(List<String> resourceNames, FileResolver fileResolver, Map<String, Object> map)
+					throws IOException, ResourceParseException {
+
 		Map<String, FileResolver> resolverContext = new HashMap<>();
 		for (var resourceName : resourceNames) {
 			logger.info("Resolving and parsing {}", resourceName);
@@ -132,10 +198,140 @@ public abstract class BaseControlParser<S extends DebugSettings> {
 				}
 			}
 		}
+		return resolverContext;
+	}
 
-		applyAllModifiers(map, resolverContext);
+	/**
+	 * The configuration checksums computed so far, by the identity of the configuration they were computed from (see
+	 * {@link #configurationIdentity(Map, Map)}), the least recently used first.
+	 */
+	private static final Map<List<Object>, String> configurationChecksums = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
 
-		return map;
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<List<Object>, String> eldest) {
+					return size() > MAX_CONFIGURATION_CHECKSUMS;
+				}
+			});
+
+	private static final int MAX_CONFIGURATION_CHECKSUMS = 64;
+
+	/**
+	 * A hash of this parser's type and of the content of the configuration files named in the control map, or of the
+	 * entry itself for entries that do not name a file that can be read. The content is hashed only the first time a
+	 * configuration is seen with files of the given identities; after that, the checksum computed then is returned.
+	 */
+	private String configurationChecksum(Map<String, Object> map, Map<String, FileResolver> resolverContext)
+			throws IOException {
+		var identity = configurationIdentity(map, resolverContext);
+		if (identity.isEmpty()) {
+			return hashConfiguration(map, resolverContext);
+		}
+
+		var checksum = configurationChecksums.get(identity.get());
+		if (checksum == null) {
+			checksum = hashConfiguration(map, resolverContext);
+			configurationChecksums.put(identity.get(), checksum);
+		}
+		return checksum;
+	}
+
+	/**
+	 * Identifies the configuration named in the control map by this parser's type, the configuration entries and the
+	 * identities of the files they name (see {@link FileResolver#contentIdentity(String)}).
+	 *
+	 * @return the identity, or empty if a file can't be identified without reading it or does not exist
+	 */
+	private Optional<List<Object>>
+			configurationIdentity(Map<String, Object> map, Map<String, FileResolver> resolverContext)
+					throws IOException {
+		var identity = new ArrayList<Object>();
+		identity.add(getClass().getName());
+		for (var key : configurationKeyNames().stream().sorted().toList()) {
+			var value = configurationValue(map, key);
+			identity.add(key + "=" + value);
+
+			var resolver = resolverContext.get(key);
+			if (value instanceof String filename && !filename.isBlank() && resolver != null) {
+				try {
+					var fileIdentity = resolver.contentIdentity(filename);
+					if (fileIdentity.isEmpty()) {
+						return Optional.empty();
+					}
+					identity.add(fileIdentity.get());
+				} catch (NoSuchFileException | FileNotFoundException e) {
+					return Optional.empty();
+				}
+			}
+		}
+		return Optional.of(identity);
+	}
+
+	private String hashConfiguration(Map<String, Object> map, Map<String, FileResolver> resolverContext)
+			throws IOException {
+		try {
+			var digest = MessageDigest.getInstance("SHA-256");
+			digest.update(getClass().getName().getBytes(StandardCharsets.UTF_8));
+			for (var key : configurationKeyNames().stream().sorted().toList()) {
+				var value = configurationValue(map, key);
+				digest.update(("\n" + key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+
+				var resolver = resolverContext.get(key);
+				if (value instanceof String filename && !filename.isBlank() && resolver != null) {
+					try (var is = resolver.resolveForInput(filename)) {
+						digest.update(is.readAllBytes());
+					} catch (NoSuchFileException | FileNotFoundException e) {
+						// Parsing will report it; a missing file can't match the snapshot's checksum either
+						digest.update("<missing>".getBytes(StandardCharsets.UTF_8));
+					}
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // Every Java platform is required to support SHA-256
+		}
+	}
+
+	private static Object configurationValue(Map<String, Object> map, String key) {
+		var value = map.get(key);
+		if (value instanceof Optional<?> optional) {
+			value = optional.orElse(null);
+		}
+		return value;
+	}
+
+	private Set<String> configurationKeyNames() {
+		return configurationModifiers().stream().map(ControlMapModifier::getControlKeyName)
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * @return the modifiers that parse the configuration (coefficient) files named in the control file, in the order
+	 *         in which they are to be applied. None of these may depend on anything specific to a run, such as the
+	 *         input and output files.
+	 */
+	protected List<? extends ControlMapModifier> configurationModifiers() {
+		return configurationFileParsers();
+	}
+
+	/**
+	 * Apply the modifiers of {@link #configurationModifiers()} to the given control map.
+	 */
+	protected void applyConfigurationModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolverContext)
+			throws ResourceParseException, IOException {
+		applyModifiers(map, configurationModifiers(), fileResolverContext);
+	}
+
+	/**
+	 * Apply the modifiers for the entries of the control map that are specific to a run - the input and output files -
+	 * to a control map that already holds the configuration entries.
+	 */
+	protected void applyRunModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolverContext)
+			throws ResourceParseException, IOException {
+		applyModifiers(map, inputFileParsers(), fileResolverContext);
+
+		applyModifiers(map, outputFiles(), fileResolverContext);
 	}
 
 	protected abstract void applyAllModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolverContext)
@@ -0,0 +1,241 @@
+package ca.bc.gov.nrs.vdyp.io.parse.control;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.DoubleCoefficients;
+import ca.bc.gov.nrs.vdyp.model.MatrixMapImpl;
+import ca.bc.gov.nrs.vdyp.model.ModelCoefficients;
+
+/**
+ * Cache of the configuration (coefficient) entries of parsed control maps. Parsing the coefficient files named by a
+ * control file is by far the most expensive part of initializing an application; this cache allows that work to be
+ * done once per distinct configuration rather than once per application run.
+ * <p>
+ * Entries are keyed by a checksum of the content of the configuration files named by a control file (see
+ * {@link BaseControlParser#parseByName(java.util.List, ca.bc.gov.nrs.vdyp.io.FileResolver, Map, ControlMapCache)}),
+ * so a coefficient file that changes is parsed again rather than taken from the cache.
+ * <p>
+ * Cached entries are shared by every control map built from them, possibly on several threads at once, and are
+ * frozen when they are stored: the entry maps are unmodifiable, and the matrix maps and coefficients they hold are
+ * made read only.
+ * <p>
+ * The shared cache is backed by the {@link ControlMapSnapshot} bundled with the application: a configuration that is
+ * not yet cached is taken from the snapshot, rather than parsed, when the snapshot holds a configuration with the same
+ * checksum.
+ */
+public class ControlMapCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(ControlMapCache.class);
+
+	private static final ControlMapCache SHARED = new ControlMapCache(ControlMapSnapshot::loadResource);
+
+	/**
+	 * @return the cache shared by all users in this JVM
+	 */
+	public static ControlMapCache getShared() {
+		return SHARED;
+	}
+
+	@FunctionalInterface
+	public interface Loader {
+		Map<String, Object> load() throws IOException, ResourceParseException;
+	}
+
+	// Each configuration is loaded by the first thread to ask for it; others asking for the same one wait for it,
+	// while configurations with other keys are loaded independently.
+	private final Map<String, CompletableFuture<Map<String, Object>>> entries = new ConcurrentHashMap<>();
+
+	private final Supplier<ControlMapSnapshot> snapshotSource;
+	private volatile ControlMapSnapshot snapshot;
+
+	/**
+	 * Create a cache that is not backed by a snapshot.
+	 */
+	public ControlMapCache() {
+		this(() -> ControlMapSnapshot.EMPTY);
+	}
+
+	/**
+	 * Create a cache backed by a snapshot.
+	 *
+	 * @param snapshotSource provides the snapshot when it is first needed
+	 */
+	public ControlMapCache(Supplier<ControlMapSnapshot> snapshotSource) {
+		this.snapshotSource = snapshotSource;
+	}
+
+	/**
+	 * Get the configuration entries with the given key. If they are not yet present they are taken from the snapshot
+	 * backing this cache or, failing that, loaded, and stored. At most one load is performed per key at a time; a
+	 * failed load is not stored, so a later call tries again.
+	 *
+	 * @param key    the checksum of the configuration that the entries were parsed from
+	 * @param loader produces the entries if they are neither present nor in the snapshot
+	 * @return an unmodifiable map of control map entries
+	 * @throws IOException
+	 * @throws ResourceParseException
+	 */
+	public Map<String, Object> get(String key, Loader loader) throws IOException, ResourceParseException {
+		var future = entries.get(key);
+		if (future == null) {
+			var loading = new CompletableFuture<Map<String, Object>>();
+			future = entries.putIfAbsent(key, loading);
+			if (future == null) {
+				return load(key, loader, loading);
+			}
+		}
+		return await(future);
+	}
+
+	private Map<String, Object> load(String key, Loader loader, CompletableFuture<Map<String, Object>> loading)
+			throws IOException, ResourceParseException {
+		try {
+			Map<String, Object> result;
+			var snapshotted = getSnapshot().get(key);
+			if (snapshotted.isPresent()) {
+				logger.debug("Taking control map configuration {} from the snapshot", key);
+				result = freeze(snapshotted.get());
+			} else {
+				logger.debug("Loading control map configuration {}", key);
+				result = freeze(loader.load());
+			}
+			loading.complete(result);
+			return result;
+		} catch (IOException | ResourceParseException | RuntimeException | Error e) {
+			entries.remove(key, loading);
+			loading.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static Map<String, Object> await(CompletableFuture<Map<String, Object>> future)
+			throws IOException, ResourceParseException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for a control map configuration to load", e);
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof IOException ioe) {
+				throw ioe;
+			}
+			if (cause instanceof ResourceParseException rpe) {
+				throw rpe;
+			}
+			if (cause instanceof RuntimeException re) {
+				throw re;
+			}
+			if (cause instanceof Error err) {
+				throw err;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * @return a snapshot of the configurations held
+	 */
+	public ControlMapSnapshot snapshot() {
+		var snapshotEntries = new HashMap<String, Map<String, Object>>();
+		for (var entry : entries.entrySet()) {
+			var future = entry.getValue();
+			if (future.isDone() && !future.isCompletedExceptionally()) {
+				snapshotEntries.put(entry.getKey(), future.join());
+			}
+		}
+		return new ControlMapSnapshot(snapshotEntries);
+	}
+
+	/**
+	 * @param key the checksum of a configuration
+	 * @return true if and only if entries with the given key are present or being loaded
+	 */
+	public boolean contains(String key) {
+		return entries.containsKey(key);
+	}
+
+	/**
+	 * @return the number of configurations held
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Discard all cached configurations.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	private ControlMapSnapshot getSnapshot() {
+		var result = snapshot;
+		if (result == null) {
+			synchronized (snapshotSource) {
+				result = snapshot;
+				if (result == null) {
+					result = snapshotSource.get();
+					snapshot = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Map<String, Object> freeze(Map<String, Object> loaded) {
+		var result = new HashMap<String, Object>(loaded.size());
+		for (var entry : loaded.entrySet()) {
+			var value = entry.getValue();
+			freezeContent(value);
+			if (value instanceof Map<?, ?> map) {
+				value = Collections.unmodifiableMap(map);
+			} else if (value instanceof List<?> list && ! (value instanceof Coefficients)
+					&& ! (value instanceof DoubleCoefficients)) {
+				value = Collections.unmodifiableList(list);
+			}
+			result.put(entry.getKey(), value);
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Make the matrix maps and coefficients reachable from the given value read only. Collections nested within an
+	 * entry are not copied; their content is frozen in place.
+	 */
+	private static void freezeContent(Object value) {
+		if (value instanceof Coefficients coefficients) {
+			coefficients.freeze();
+		} else if (value instanceof DoubleCoefficients coefficients) {
+			coefficients.freeze();
+		} else if (value instanceof ModelCoefficients model) {
+			freezeContent(model.getCoefficients());
+		} else if (value instanceof MatrixMapImpl<?> matrixMap) {
+			if (!matrixMap.isFrozen()) {
+				matrixMap.freeze();
+				matrixMap.eachKey(k -> freezeContent(matrixMap.getM(k)));
+			}
+		} else if (value instanceof Optional<?> optional) {
+			optional.ifPresent(ControlMapCache::freezeContent);
+		} else if (value instanceof Map<?, ?> map) {
+			map.values().forEach(ControlMapCache::freezeContent);
+		} else if (value instanceof Collection<?> collection) {
+			collection.forEach(ControlMapCache::freezeContent);
+		}
+	}
+}
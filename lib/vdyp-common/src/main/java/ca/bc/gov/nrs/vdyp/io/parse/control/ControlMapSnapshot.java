@@ -0,0 +1,203 @@
+package ca.bc.gov.nrs.vdyp.io.parse.control;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A precompiled copy of the configuration (coefficient) entries held by a {@link ControlMapCache}, so that they need
+ * not be parsed from the coefficient files when an application starts. The snapshot is written at build time from the
+ * control files shipped with the application and is bundled as the class path resource {@value #RESOURCE_NAME}.
+ * <p>
+ * Each configuration is held by the checksum of the content of the coefficient files it was parsed from, which is also
+ * its key in the cache, so it is used only if the files named by a control map have the same checksum; otherwise they
+ * are parsed as usual. A snapshot that is missing, of another format version, or written from incompatible model
+ * classes is ignored in the same way.
+ */
+public class ControlMapSnapshot {
+
+	private static final Logger logger = LoggerFactory.getLogger(ControlMapSnapshot.class);
+
+	public static final String RESOURCE_NAME = "ControlMapSnapshot.bin";
+
+	static final String MAGIC = "VDYP-CONTROL-MAP-SNAPSHOT";
+	static final int FORMAT_VERSION = 2;
+
+	// Only the model, the collections and the boxed primitives appear in a configuration
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config
+			.createFilter("ca.bc.gov.nrs.vdyp.**;java.lang.*;java.util.*;!*");
+
+	public static final ControlMapSnapshot EMPTY = new ControlMapSnapshot(Map.of());
+
+	private final Map<String, Map<String, Object>> entries;
+
+	/**
+	 * @param entries the configurations, by the checksum of the coefficient files they were parsed from
+	 */
+	public ControlMapSnapshot(Map<String, Map<String, Object>> entries) {
+		this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+	}
+
+	/**
+	 * @param key the checksum of the coefficient files of a configuration, as used by {@link ControlMapCache}
+	 * @return the configuration parsed from files with the given checksum, if there is one
+	 */
+	public Optional<Map<String, Object>> get(String key) {
+		return Optional.ofNullable(entries.get(key));
+	}
+
+	/**
+	 * @return the number of configurations held
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Write the snapshot to the given stream, which is left open.
+	 *
+	 * @param os
+	 * @throws IOException
+	 */
+	public void write(OutputStream os) throws IOException {
+		var data = new DataOutputStream(os);
+		data.writeUTF(MAGIC);
+		data.writeInt(FORMAT_VERSION);
+		data.flush();
+
+		// Not compressed here; the resource is compressed with the rest of the jar
+		var oos = new SnapshotOutputStream(os);
+		oos.writeObject(new HashMap<>(entries));
+		oos.flush();
+	}
+
+	/**
+	 * Read a snapshot written by {@link #write(OutputStream)}.
+	 *
+	 * @param is
+	 * @return the snapshot
+	 * @throws IOException if the stream does not hold a snapshot of the current format, or it was written from
+	 *                     incompatible classes
+	 */
+	@SuppressWarnings("unchecked")
+	public static ControlMapSnapshot read(InputStream is) throws IOException {
+		var data = new DataInputStream(is);
+		if (!MAGIC.equals(data.readUTF())) {
+			throw new IOException("Not a control map snapshot");
+		}
+		int version = data.readInt();
+		if (version != FORMAT_VERSION) {
+			throw new IOException(
+					"Control map snapshot is of format version " + version + " rather than " + FORMAT_VERSION
+			);
+		}
+
+		try {
+			var ois = new SnapshotInputStream(new BufferedInputStream(is));
+			return new ControlMapSnapshot((Map<String, Map<String, Object>>) ois.readObject());
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Control map snapshot was written from incompatible classes", e);
+		}
+	}
+
+	/**
+	 * Load the snapshot bundled with the application.
+	 *
+	 * @return the snapshot, or {@link #EMPTY} if there is none or it can't be used
+	 */
+	public static ControlMapSnapshot loadResource() {
+		var start = System.nanoTime();
+		try (var is = ControlMapSnapshot.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+			if (is == null) {
+				logger.info("No control map snapshot; configurations will be parsed from their coefficient files");
+				return EMPTY;
+			}
+			var snapshot = read(is);
+			logger.info(
+					"Loaded control map snapshot of {} configurations in {} ms", snapshot.size(),
+					(System.nanoTime() - start) / 1_000_000
+			);
+			return snapshot;
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Unable to load the control map snapshot; configurations will be parsed instead", e);
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * {@code Optional} is not serializable; it is written as a {@link OptionalValue}.
+	 */
+	private record OptionalValue(Object value) implements Serializable {
+	}
+
+	/**
+	 * Writes {@code Optional}s as {@link OptionalValue}s, and writes equal immutable values (boxed primitives, strings
+	 * and optionals) once, referring back to the first for each of the others. The coefficient matrices hold many
+	 * equal values; reading each one once makes a snapshot much faster to read.
+	 */
+	private static class SnapshotOutputStream extends ObjectOutputStream {
+
+		private static final Set<Class<?>> IMMUTABLE_VALUES = Set
+				.of(Float.class, Double.class, Integer.class, Long.class, Short.class, Byte.class, String.class);
+
+		private final Map<Object, Object> interned = new HashMap<>();
+
+		SnapshotOutputStream(OutputStream os) throws IOException {
+			super(os);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj instanceof Optional<?> optional) {
+				return interned.computeIfAbsent(optional, k -> new OptionalValue(optional.orElse(null)));
+			}
+			if (obj != null && IMMUTABLE_VALUES.contains(obj.getClass())) {
+				return interned.computeIfAbsent(obj, k -> obj);
+			}
+			return obj;
+		}
+	}
+
+	private static class SnapshotInputStream extends ObjectInputStream {
+
+		SnapshotInputStream(InputStream is) throws IOException {
+			super(is);
+			setObjectInputFilter(FILTER);
+			enableResolveObject(true);
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) throws IOException {
+			if (obj instanceof OptionalValue optional) {
+				return Optional.ofNullable(optional.value());
+			}
+			return obj;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, ControlMapSnapshot.class.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(desc); // Primitive types
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.io.parse.control;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -84,6 +85,16 @@ public abstract class NonFipControlParser<S extends DebugSettings> extends Start
 
 	}
 
+	@Override
+	protected List<ControlMapModifier> configurationModifiers() {
+		List<ControlMapModifier> modifiers = new ArrayList<>();
+
+		List.of(basicDefinitions, groupDefinitions, siteCurves, coefficients, nonFipStart, additionalModifiers)
+				.forEach(modifiers::addAll);
+
+		return modifiers;
+	}
+
 	@Override
 	protected ValueParser<Map<String, Float>> minimaParser() {
 		return ValueParser.callback(
@@ -8,12 +8,27 @@ import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
 
+/**
+ * Resolves the location of an output file named in a control file. A blank file name means that the file is not to be
+ * written, and is left blank.
+ */
 public class OutputFileLocationResolver implements ControlMapValueReplacer<String, String> {
 
 	private final ControlKey controlKey;
+	private final boolean required;
 
 	public OutputFileLocationResolver(ControlKey controlKey) {
+		this(controlKey, true);
+	}
+
+	/**
+	 * @param controlKey the control key naming the output file
+	 * @param required   if false, the control key may be absent from the control file, in which case it remains absent
+	 *                   from the control map
+	 */
+	public OutputFileLocationResolver(ControlKey controlKey, boolean required) {
 		this.controlKey = controlKey;
+		this.required = required;
 	}
 
 	@Override
@@ -26,10 +41,21 @@ public class OutputFileLocationResolver implements ControlMapValueReplacer<Strin
 		return String::strip;
 	}
 
+	@Override
+	public void modify(Map<String, Object> control, Map<String, FileResolver> fileResolverContext)
+			throws ResourceParseException, IOException {
+		if (required || control.containsKey(getControlKeyName())) {
+			ControlMapValueReplacer.super.modify(control, fileResolverContext);
+		}
+	}
+
 	@Override
 	public String map(String rawValue, FileResolver fileResolver, Map<String, Object> control)
 			throws ResourceParseException, IOException {
 
+		if (rawValue.isBlank()) {
+			return "";
+		}
 		return fileResolver.toPath(rawValue).toString();
 	}
 
@@ -64,6 +64,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.coe.VolumeEquationGroupParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.VolumeNetDecayParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.VolumeNetDecayWasteParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.projection.OutputYearsParser;
 import ca.bc.gov.nrs.vdyp.io.parse.projection.ProcessingControlVariableParser;
 import ca.bc.gov.nrs.vdyp.io.parse.projection.VdypPolygonDescriptionParser;
 import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser;
@@ -101,7 +102,8 @@ public class ProcessingControlParser extends BaseControlParser<ProcessingDebugSe
 				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_VDYP_POLYGON), //
 				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES), //
 				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL), //
-				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES)
+				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES), //
+				new OutputFileLocationResolver(ControlKey.VDYP_OUTPUT_BINARY, false)
 		);
 	}
 
@@ -283,12 +285,19 @@ public class ProcessingControlParser extends BaseControlParser<ProcessingDebugSe
 		addOutputWriter(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL);
 		// V7O_VOC - 19
 		addOutputWriter(ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES);
+		// 17 - binary projection results; optional, and not part of VDYP7
+		addOutputWriter(ControlKey.VDYP_OUTPUT_BINARY);
 
 		// 101 - a literal value of type VdypGrowthDetails
 
 		controlParser.record(ControlKey.VTROL, new ProcessingControlVariableParser());
 		orderedControlKeys.add(ControlKey.VTROL);
 
+		// 102 - the years to be written to the output files; optional, and not part of VDYP7
+
+		controlParser.record(ControlKey.VDYP_OUTPUT_YEARS, new OutputYearsParser());
+		orderedControlKeys.add(ControlKey.VDYP_OUTPUT_YEARS);
+
 		// 199 - debug switches
 		orderedControlKeys.add(ControlKey.DEBUG_SWITCHES);
 
@@ -303,50 +312,116 @@ public class ProcessingControlParser extends BaseControlParser<ProcessingDebugSe
 		return new ArrayList<>(vdypForwardConfigurationParsers.values());
 	}
 
+	@Override
+	protected List<ResourceControlMapModifier> configurationModifiers() {
+		return orderedControlKeys.stream().map(vdypForwardConfigurationParsers::get).filter(m -> m != null).toList();
+	}
+
 	@Override
 	protected void applyAllModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolver)
 			throws ResourceParseException, IOException {
 
-		// FORWARD_INPUT_GROWTO is optional; if missing, the polygon list is read from the
-		// polygon file itself.
-		Optional<String> source = Utils.optSafe(map.get(ControlKey.FORWARD_INPUT_GROWTO.name()));
-		if (source.isEmpty()) {
-			String polyFileName = (String) map.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
-			map.put(ControlKey.FORWARD_INPUT_GROWTO.name(), polyFileName);
-			fileResolver.put(
-					ControlKey.FORWARD_INPUT_GROWTO.name(), fileResolver.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name())
-			);
+		defaultGrowToInput(map, fileResolver);
+
+		for (ControlKey key : orderedControlKeys) {
+
+			ResourceControlMapModifier m = vdypForwardConfigurationParsers.get(key);
+			if (m != null) {
+				applyConfigurationParser(key, m, map, fileResolver);
+			}
+
+			ControlMapValueReplacer<?, ?> r = vdypForwardInputParsers.get(key);
+			if (r != null) {
+				applyInputParser(key, r, map, fileResolver);
+			}
 		}
 
+		applyOutputFiles(map, fileResolver);
+
+		reportUnreadEntries(map);
+	}
+
+	@Override
+	protected void applyConfigurationModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolver)
+			throws ResourceParseException, IOException {
+
 		for (ControlKey key : orderedControlKeys) {
 
 			ResourceControlMapModifier m = vdypForwardConfigurationParsers.get(key);
 			if (m != null) {
-				// m is a configuration file parser.
-				logger.trace(
-						"Parsing configuration file {}[{}] using {}", m.getControlKeyName(), key.sequence.get(),
-						m.getClass().getSimpleName()
-				);
-				m.modify(map, fileResolver);
+				applyConfigurationParser(key, m, map, fileResolver);
 			}
+		}
+	}
+
+	@Override
+	protected void applyRunModifiers(Map<String, Object> map, Map<String, FileResolver> fileResolver)
+			throws ResourceParseException, IOException {
+
+		defaultGrowToInput(map, fileResolver);
+
+		for (ControlKey key : orderedControlKeys) {
 
 			ControlMapValueReplacer<?, ?> r = vdypForwardInputParsers.get(key);
 			if (r != null) {
-				// r is an input file parser.
-				logger.trace(
-						"Parsing input file {}[{}] using {}", r.getControlKeyName(), key.sequence.get(),
-						r.getClass().getSimpleName()
-				);
-				r.modify(map, fileResolver);
+				applyInputParser(key, r, map, fileResolver);
 			}
 		}
 
+		applyOutputFiles(map, fileResolver);
+
+		reportUnreadEntries(map);
+	}
+
+	private static void defaultGrowToInput(Map<String, Object> map, Map<String, FileResolver> fileResolver) {
+
+		// FORWARD_INPUT_GROWTO is optional; if missing, the polygon list is read from the
+		// polygon file itself.
+		Optional<String> source = Utils.optSafe(map.get(ControlKey.FORWARD_INPUT_GROWTO.name()));
+		if (source.isEmpty()) {
+			String polyFileName = (String) map.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
+			map.put(ControlKey.FORWARD_INPUT_GROWTO.name(), polyFileName);
+			fileResolver.put(
+					ControlKey.FORWARD_INPUT_GROWTO.name(), fileResolver.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name())
+			);
+		}
+	}
+
+	private static void applyConfigurationParser(
+			ControlKey key, ResourceControlMapModifier m, Map<String, Object> map,
+			Map<String, FileResolver> fileResolver
+	) throws ResourceParseException, IOException {
+		// m is a configuration file parser.
+		logger.trace(
+				"Parsing configuration file {}[{}] using {}", m.getControlKeyName(), key.sequence.get(),
+				m.getClass().getSimpleName()
+		);
+		m.modify(map, fileResolver);
+	}
+
+	private static void applyInputParser(
+			ControlKey key, ControlMapValueReplacer<?, ?> r, Map<String, Object> map,
+			Map<String, FileResolver> fileResolver
+	) throws ResourceParseException, IOException {
+		// r is an input file parser.
+		logger.trace(
+				"Parsing input file {}[{}] using {}", r.getControlKeyName(), key.sequence.get(),
+				r.getClass().getSimpleName()
+		);
+		r.modify(map, fileResolver);
+	}
+
+	private void applyOutputFiles(Map<String, Object> map, Map<String, FileResolver> fileResolver)
+			throws ResourceParseException, IOException {
 		for (var outputFile : outputFiles()) {
 			var key = outputFile.getControlKey();
 			logger.debug("Adjusting location of output file {}[{}] relative to control file", key, key.sequence.get());
 
 			outputFile.modify(map, fileResolver);
 		}
+	}
+
+	private void reportUnreadEntries(Map<String, Object> map) {
 
 		// Report any control map items that are a) not included in orderedControlKeys
 		// or b) for which not parser was registered.
@@ -0,0 +1,391 @@
+package ca.bc.gov.nrs.vdyp.io.parse.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
+import ca.bc.gov.nrs.vdyp.io.VdypBinaryOutputFormat;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser.VdypPolygonStream;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.VdypEntity;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilization;
+
+/**
+ * Reads a file written by {@link ca.bc.gov.nrs.vdyp.io.write.VdypBinaryOutputWriter}, giving the same polygons,
+ * species and utilizations as {@link VdypPolygonParser}, {@link VdypSpeciesParser} and {@link VdypUtilizationParser}
+ * give for the equivalent text files.
+ * <p>
+ * The three streams are views of one pass over the file: each record is decoded once and handed to each view, so
+ * the views must be read in step, as {@code ForwardDataStreamReader} does.
+ */
+public class VdypBinaryOutputReader {
+
+	private static final int POLYGON_VIEW = 0;
+	private static final int SPECIES_VIEW = 1;
+	private static final int UTILIZATION_VIEW = 2;
+	private static final int VIEW_COUNT = 3;
+
+	private static final LayerType[] LAYER_TYPES = LayerType.values();
+	private static final UtilizationClass[] UTILIZATION_CLASSES = UtilizationClass.values();
+
+	private boolean overrideSpeciesDH = false;
+
+	/**
+	 * Replace the dominant height of each species with that given by its site curve, as
+	 * {@link VdypSpeciesParser#reportSIHeight()} does.
+	 */
+	public VdypBinaryOutputReader reportSIHeight() {
+		overrideSpeciesDH = true;
+		return this;
+	}
+
+	/**
+	 * Put into the control map streaming parser factories reading the given binary file, under the keys
+	 * {@link ControlKey#FORWARD_INPUT_VDYP_POLY}, {@link ControlKey#FORWARD_INPUT_VDYP_LAYER_BY_SPECIES} and
+	 * {@link ControlKey#FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL}. The control map must contain the BEC and genus
+	 * definitions.
+	 *
+	 * @param control      the control map
+	 * @param fileName     the name of the binary file
+	 * @param fileResolver resolves the file name
+	 */
+	public void modify(Map<String, Object> control, String fileName, FileResolver fileResolver) {
+		var source = new Source(fileName, fileResolver, control);
+
+		StreamingParserFactory<VdypPolygon> polygons = () -> new PolygonView(source.attach(POLYGON_VIEW));
+		StreamingParserFactory<Collection<VdypSpecies>> species = () -> new View<>(
+				source.attach(SPECIES_VIEW), SPECIES_VIEW, DecodedRecord::species
+		);
+		StreamingParserFactory<Collection<VdypUtilization>> utilizations = () -> new View<>(
+				source.attach(UTILIZATION_VIEW), UTILIZATION_VIEW, DecodedRecord::utilizations
+		);
+
+		control.put(ControlKey.FORWARD_INPUT_VDYP_POLY.name(), polygons);
+		control.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(), species);
+		control.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), utilizations);
+	}
+
+	private record DecodedRecord(
+			VdypPolygon polygon, Optional<Integer> basalAreaGroup, Collection<VdypSpecies> species,
+			Collection<VdypUtilization> utilizations
+	) {
+	}
+
+	/**
+	 * Opens a new decoder whenever a view is requested that the current decoder has already handed out.
+	 */
+	private class Source {
+		private final String fileName;
+		private final FileResolver fileResolver;
+		private final Map<String, Object> control;
+
+		private Decoder current = null;
+
+		Source(String fileName, FileResolver fileResolver, Map<String, Object> control) {
+			this.fileName = fileName;
+			this.fileResolver = fileResolver;
+			this.control = control;
+		}
+
+		synchronized Decoder attach(int view) throws IOException {
+			if (current == null || current.attached[view]) {
+				current = new Decoder(fileResolver.resolveForInput(fileName), fileName, control);
+			}
+			current.attached[view] = true;
+			current.openViews++;
+			return current;
+		}
+	}
+
+	private class Decoder {
+		private final DataInputStream in;
+		private final Map<String, Object> control;
+		private final GenusDefinitionMap genusDefinitionMap;
+
+		private final List<Deque<DecodedRecord>> queues = new ArrayList<>(VIEW_COUNT);
+		private final boolean[] attached = new boolean[VIEW_COUNT];
+		private final boolean[] closed = new boolean[VIEW_COUNT];
+		private int openViews = 0;
+
+		Decoder(InputStream is, String fileName, Map<String, Object> control) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(is));
+			this.control = control;
+			this.genusDefinitionMap = (GenusDefinitionMap) control.get(ControlKey.SP0_DEF.name());
+
+			for (int i = 0; i < VIEW_COUNT; i++) {
+				queues.add(new ArrayDeque<>());
+			}
+
+			int magic = in.readInt();
+			short version = in.readShort();
+			if (magic != VdypBinaryOutputFormat.MAGIC || version != VdypBinaryOutputFormat.VERSION) {
+				in.close();
+				throw new IOException(
+						MessageFormat.format(
+								"{0} is not a version {1} VDYP binary output file", fileName,
+								VdypBinaryOutputFormat.VERSION
+						)
+				);
+			}
+		}
+
+		synchronized boolean hasNext(int view) throws IOException, ResourceParseException {
+			var queue = queues.get(view);
+			if (queue.isEmpty()) {
+				var decoded = readRecord();
+				if (decoded.isEmpty()) {
+					return false;
+				}
+				for (int i = 0; i < VIEW_COUNT; i++) {
+					if (!closed[i]) {
+						queues.get(i).add(decoded.get());
+					}
+				}
+			}
+			return true;
+		}
+
+		synchronized DecodedRecord next(int view) throws IOException, ResourceParseException {
+			if (!hasNext(view)) {
+				throw new NoSuchElementException();
+			}
+			return queues.get(view).remove();
+		}
+
+		synchronized void close(int view) throws IOException {
+			if (!closed[view]) {
+				closed[view] = true;
+				queues.get(view).clear();
+				if (--openViews == 0) {
+					in.close();
+				}
+			}
+		}
+
+		private Optional<DecodedRecord> readRecord() throws IOException, ResourceParseException {
+			int first = in.read();
+			if (first < 0) {
+				return Optional.empty();
+			}
+			int length = first << 24 | in.readUnsignedByte() << 16 | in.readUnsignedByte() << 8
+					| in.readUnsignedByte();
+			var payload = new byte[length];
+			in.readFully(payload);
+
+			var record = new DataInputStream(new ByteArrayInputStream(payload));
+
+			var polygonId = new PolygonIdentifier(record.readUTF(), record.readInt());
+			var becAlias = record.readUTF();
+			var forestInventoryZone = record.readUTF();
+			var percentAvailable = (float) record.readInt();
+			var inventoryTypeGroup = record.readInt();
+			var basalAreaGroup = record.readInt();
+			var modeCode = record.readInt();
+
+			var polygon = VdypPolygonParser.buildPolygon(
+					polygonId.toString(), becAlias, forestInventoryZone, percentAvailable,
+					Optional.of(inventoryTypeGroup), Optional.of(modeCode), control
+			);
+
+			var species = readSpecies(record, polygonId);
+			var utilizations = readUtilizations(record, polygonId);
+
+			return Optional.of(new DecodedRecord(polygon, Optional.of(basalAreaGroup), species, utilizations));
+		}
+
+		private List<VdypSpecies> readSpecies(DataInputStream record, PolygonIdentifier polygonId)
+				throws IOException {
+			int n = record.readShort();
+
+			var layerTypes = readLayerTypes(record, n);
+			var genusIndices = readShorts(record, n);
+			var genera = readStrings(record, n);
+			var aliases = new String[VdypBinaryOutputFormat.SP64_DISTRIBUTION_SLOTS][];
+			var percentages = new float[VdypBinaryOutputFormat.SP64_DISTRIBUTION_SLOTS][];
+			for (int slot = 0; slot < VdypBinaryOutputFormat.SP64_DISTRIBUTION_SLOTS; slot++) {
+				aliases[slot] = readStrings(record, n);
+				percentages[slot] = readFloats(record, n);
+			}
+			var siteIndices = readFloats(record, n);
+			var heights = readFloats(record, n);
+			var totalAges = readFloats(record, n);
+			var yearsAtBreastHeight = readFloats(record, n);
+			var yearsToBreastHeight = readFloats(record, n);
+			var isPrimary = new boolean[n];
+			for (int i = 0; i < n; i++) {
+				isPrimary[i] = record.readBoolean();
+			}
+			var siteCurveNumbers = readShorts(record, n);
+
+			var result = new ArrayList<VdypSpecies>(n);
+			for (int i = 0; i < n; i++) {
+				List<Sp64Distribution> gdList = new ArrayList<>();
+				for (int slot = 0; slot < VdypBinaryOutputFormat.SP64_DISTRIBUTION_SLOTS; slot++) {
+					if (!aliases[slot][i].isBlank()) {
+						gdList.add(new Sp64Distribution(slot + 1, aliases[slot][i].strip(), percentages[slot][i]));
+					}
+				}
+
+				result.add(
+						VdypSpeciesParser.buildSpecies(
+								polygonId, layerTypes[i], genusIndices[i], optionalString(genera[i]), gdList,
+								missing(siteIndices[i]), missing(heights[i]), missing(totalAges[i]),
+								missing(yearsAtBreastHeight[i]), missing(yearsToBreastHeight[i]),
+								Optional.of(isPrimary[i]), siteCurveNumbers[i], overrideSpeciesDH, genusDefinitionMap,
+								control
+						)
+				);
+			}
+			return result;
+		}
+
+		private List<VdypUtilization> readUtilizations(DataInputStream record, PolygonIdentifier polygonId)
+				throws IOException {
+			int n = record.readShort();
+
+			var layerTypes = readLayerTypes(record, n);
+			var genusIndices = readShorts(record, n);
+			var genera = readStrings(record, n);
+
+			int ucCount = VdypBinaryOutputFormat.UTILIZATION_CLASS_COUNT;
+			var values = new float[VdypBinaryOutputFormat.QUANTITIES.length][];
+			for (int q = 0; q < values.length; q++) {
+				values[q] = readFloats(record, n * ucCount);
+			}
+
+			var result = new ArrayList<VdypUtilization>(n * ucCount);
+			for (int i = 0; i < n; i++) {
+				var genus = optionalString(genera[i]);
+				for (var uc : UTILIZATION_CLASSES) {
+					int j = i * ucCount + uc.ordinal();
+					result.add(
+							new VdypUtilization(
+									polygonId, layerTypes[i], genusIndices[i], genus, uc, missing(values[0][j]),
+									missing(values[1][j]), missing(values[2][j]), missing(values[3][j]),
+									missing(values[4][j]), missing(values[5][j]), missing(values[6][j]),
+									missing(values[7][j]), missing(values[8][j])
+							)
+					);
+				}
+			}
+			return result;
+		}
+	}
+
+	private static class View<T> implements StreamingParser<T> {
+		private final Decoder decoder;
+		private final int view;
+		private final Function<DecodedRecord, T> extractor;
+
+		View(Decoder decoder, int view, Function<DecodedRecord, T> extractor) {
+			this.decoder = decoder;
+			this.view = view;
+			this.extractor = extractor;
+		}
+
+		protected DecodedRecord nextRecord() throws IOException, ResourceParseException {
+			return decoder.next(view);
+		}
+
+		@Override
+		public T next() throws IOException, ResourceParseException {
+			return extractor.apply(nextRecord());
+		}
+
+		@Override
+		public boolean hasNext() throws IOException, ResourceParseException {
+			return decoder.hasNext(view);
+		}
+
+		@Override
+		public void close() throws IOException {
+			decoder.close(view);
+		}
+	}
+
+	private static class PolygonView extends View<VdypPolygon> implements VdypPolygonStream {
+		private Optional<Integer> basalAreaGroup = Optional.empty();
+
+		PolygonView(Decoder decoder) {
+			super(decoder, POLYGON_VIEW, DecodedRecord::polygon);
+		}
+
+		@Override
+		public VdypPolygon next() throws IOException, ResourceParseException {
+			var decoded = nextRecord();
+			basalAreaGroup = decoded.basalAreaGroup();
+			return decoded.polygon();
+		}
+
+		@Override
+		public Optional<Integer> getBasalAreaGroup() {
+			return basalAreaGroup;
+		}
+	}
+
+	/**
+	 * Values of -9 are written for missing values, and the text parsers replace them with NaN.
+	 */
+	private static float missing(float value) {
+		return value == VdypBinaryOutputFormat.EMPTY_FLOAT ? VdypEntity.MISSING_FLOAT_VALUE : value;
+	}
+
+	private static Optional<String> optionalString(String value) {
+		return value.isBlank() ? Optional.empty() : Optional.of(value.strip());
+	}
+
+	private static LayerType[] readLayerTypes(DataInputStream record, int n) throws IOException {
+		var result = new LayerType[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = LAYER_TYPES[record.readByte()];
+		}
+		return result;
+	}
+
+	private static int[] readShorts(DataInputStream record, int n) throws IOException {
+		var result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = record.readShort();
+		}
+		return result;
+	}
+
+	private static String[] readStrings(DataInputStream record, int n) throws IOException {
+		var result = new String[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = record.readUTF();
+		}
+		return result;
+	}
+
+	private static float[] readFloats(DataInputStream record, int n) throws IOException {
+		var result = new float[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = record.readFloat();
+		}
+		return result;
+	}
+}
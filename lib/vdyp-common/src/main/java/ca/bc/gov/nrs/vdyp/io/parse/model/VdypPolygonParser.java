@@ -14,6 +14,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.AbstractStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ControlledValueParser;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
@@ -69,7 +70,63 @@ public class VdypPolygonParser implements ControlMapValueReplacer<Object, String
 		return FILENAME;
 	}
 
-	public static class VdypPolygonStreamingParser extends AbstractStreamingParser<VdypPolygon> {
+	/**
+	 * Build a polygon from the values of a polygon record. A percentage of forested land that is not positive is
+	 * replaced by the default, as VDYPGETP does.
+	 */
+	static VdypPolygon buildPolygon(
+			String descriptionText, String becAlias, Object fizId, Float percentForestLand,
+			Optional<Integer> inventoryTypeGroup, Optional<Integer> fipMode, Map<String, Object> control
+	) throws ResourceParseException {
+		BecDefinition bec;
+		try {
+			bec = Utils.getBec(becAlias, control);
+		} catch (IllegalArgumentException e) {
+			throw new ResourceParseException(e);
+		}
+
+		// Note: Forest Inventory Zone is not required to have a non-empty value - " " is valid.
+
+		var description = PolygonIdentifier.split(descriptionText);
+
+		if (percentForestLand <= 0.0) {
+			// VDYPGETP.for lines 146 - 154
+			logger.atWarn() //
+					.setMessage("Polygon {0} percent-forested-land value {1} is <= 0.0; replacing with default {2}") //
+					.addArgument(description.getName()) //
+					.addArgument(percentForestLand) //
+					.addArgument("NON_NEGATIVE_FLOAT_MSG");
+			percentForestLand = DEFAULT_FORESTED_LAND_PERCENTAGE;
+		}
+
+		final float percentAvailable = percentForestLand;
+
+		return VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(descriptionText);
+			builder.biogeoclimaticZone(bec);
+			builder.forestInventoryZone(fizId.toString());
+			fipMode.ifPresentOrElse(m -> builder.mode(PolygonMode.getByCode(m)), () -> Optional.empty());
+			builder.percentAvailable(percentAvailable);
+			builder.inventoryTypeGroup(inventoryTypeGroup);
+		});
+	}
+
+	/**
+	 * A stream of the polygons of a VDYP7 polygon file, which also gives the basal area group of the polygon most
+	 * recently read.
+	 */
+	public interface VdypPolygonStream extends StreamingParser<VdypPolygon> {
+
+		/**
+		 * Get the basal area group value for the most recently read polygon. The file structure stores it on the
+		 * polygon but the in memory data model stores it on the primary layer so this needs to be accessible to the
+		 * layer parser.
+		 */
+		Optional<Integer> getBasalAreaGroup();
+	}
+
+	public static class VdypPolygonStreamingParser extends AbstractStreamingParser<VdypPolygon>
+			implements VdypPolygonStream {
 		private final Map<String, Object> control;
 		private Optional<Integer> basalAreaGroup = Optional.empty();
 
@@ -80,11 +137,7 @@ public class VdypPolygonParser implements ControlMapValueReplacer<Object, String
 			this.control = control2;
 		}
 
-		/**
-		 * Get the basal area group value for the most recently read polygon. The file structure stores it on the
-		 * polygon but the in memory data model stores it on the primary layer so this needs to be accessible to the
-		 * layer parser.
-		 */
+		@Override
 		public Optional<Integer> getBasalAreaGroup() {
 			return basalAreaGroup;
 		}
@@ -99,37 +152,9 @@ public class VdypPolygonParser implements ControlMapValueReplacer<Object, String
 			this.basalAreaGroup = Utils.<Integer>optSafe(entry.get(BASAL_AREA_GROUP));
 			var fipMode = Utils.<Integer>optSafe(entry.get(POLYGON_MODE));
 
-			BecDefinition bec;
-			try {
-				bec = Utils.getBec(becAlias, control);
-			} catch (IllegalArgumentException e) {
-				throw new ResourceParseException(e);
-			}
-
-			// Note: Forest Inventory Zone is not required to have a non-empty value - " " is valid.
-
-			var description = PolygonIdentifier.split(descriptionText);
-
-			if (percentForestLand <= 0.0) {
-				// VDYPGETP.for lines 146 - 154
-				logger.atWarn() //
-						.setMessage("Polygon {0} percent-forested-land value {1} is <= 0.0; replacing with default {2}") //
-						.addArgument(description.getName()) //
-						.addArgument(percentForestLand) //
-						.addArgument("NON_NEGATIVE_FLOAT_MSG");
-				percentForestLand = DEFAULT_FORESTED_LAND_PERCENTAGE;
-			}
-
-			final float percentAvailable = percentForestLand;
-
-			return VdypPolygon.build(builder -> {
-				builder.polygonIdentifier(descriptionText);
-				builder.biogeoclimaticZone(bec);
-				builder.forestInventoryZone(fizId.toString());
-				fipMode.ifPresentOrElse(m -> builder.mode(PolygonMode.getByCode(m)), () -> Optional.empty());
-				builder.percentAvailable(percentAvailable);
-				builder.inventoryTypeGroup(inventoryTypeGroup);
-			});
+			return buildPolygon(
+					descriptionText, becAlias, fizId, percentForestLand, inventoryTypeGroup, fipMode, control
+			);
 		}
 	}
 
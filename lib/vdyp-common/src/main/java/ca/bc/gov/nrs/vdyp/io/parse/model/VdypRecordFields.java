@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.vdyp.io.parse.model;
+
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.common.ValueOrMarker;
+import ca.bc.gov.nrs.vdyp.io.EndOfRecord;
+import ca.bc.gov.nrs.vdyp.io.parse.common.LineFields;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+
+/**
+ * Fields shared by the VDYP layer by species and layer by species by utilization record binders.
+ */
+final class VdypRecordFields {
+
+	/** LAYERG: a layer type, or a blank or Z marking the end of a polygon's records */
+	static final ValueParser<ValueOrMarker<Optional<LayerType>, EndOfRecord>> LAYER_TYPE = ValueParser.valueOrMarker(
+			ValueParser.LAYER,
+			ValueParser.optionalSingleton(
+					x -> x == null || x.trim().length() == 0 || x.trim().equals("Z"), EndOfRecord.END_OF_RECORD
+			)
+	);
+
+	private static final ValueOrMarker<Optional<LayerType>, EndOfRecord> END_OF_RECORD = //
+			new ValueOrMarker.Builder<Optional<LayerType>, EndOfRecord>().marker(EndOfRecord.END_OF_RECORD);
+
+	private VdypRecordFields() {
+	}
+
+	/**
+	 * Parse a field declared with {@link #LAYER_TYPE}. An absent field marks the end of a polygon's records.
+	 */
+	static ValueOrMarker<Optional<LayerType>, EndOfRecord> layerType(LineFields fields, int field)
+			throws ValueParseException {
+		ValueOrMarker<Optional<LayerType>, EndOfRecord> layerType = fields.get(field);
+		return layerType == null ? END_OF_RECORD : layerType;
+	}
+}
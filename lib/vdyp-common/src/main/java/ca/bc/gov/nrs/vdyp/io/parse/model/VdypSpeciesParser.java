@@ -12,24 +12,25 @@ import ca.bc.gov.nrs.vdyp.common.ValueOrMarker;
 import ca.bc.gov.nrs.vdyp.io.EndOfRecord;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser;
-import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.common.RecordBinder;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
 import ca.bc.gov.nrs.vdyp.io.parse.projection.VdypPolygonDescriptionParser;
-import ca.bc.gov.nrs.vdyp.io.parse.streaming.AbstractStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.GroupingStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.RecordStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ControlledValueParser;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
 import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
 import ca.bc.gov.nrs.vdyp.model.Sp64DistributionSet;
 import ca.bc.gov.nrs.vdyp.model.VdypEntity;
 import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
 
 public class VdypSpeciesParser implements ControlMapValueReplacer<Object, String> {
 
@@ -73,16 +74,7 @@ public class VdypSpeciesParser implements ControlMapValueReplacer<Object, String
 		return () -> {
 			var lineParser = new LineParser().strippedString(25, DESCRIPTION) //
 					.space(1) //
-					.value(
-							1, LAYER_TYPE,
-							ValueParser.valueOrMarker(
-									ValueParser.LAYER,
-									ValueParser.optionalSingleton(
-											x -> x == null || x.trim().length() == 0 || x.trim().equals("Z"),
-											EndOfRecord.END_OF_RECORD
-									)
-							)
-					) //
+					.value(1, LAYER_TYPE, VdypRecordFields.LAYER_TYPE) //
 					.space(1) //
 					.value(2, SPECIES_GROUP_INDEX, ValueParser.INTEGER) //
 					.space(1) //
@@ -108,128 +100,9 @@ public class VdypSpeciesParser implements ControlMapValueReplacer<Object, String
 
 			var speciesGroupDefinitionMap = (GenusDefinitionMap) controlMap.get(ControlKey.SP0_DEF.name());
 
-			var delegateStream = new AbstractStreamingParser<ValueOrMarker<Optional<VdypSpecies>, EndOfRecord>>(
-					is, lineParser, controlMap
-			) {
-				@SuppressWarnings("unchecked")
-				@Override
-				protected ValueOrMarker<Optional<VdypSpecies>, EndOfRecord> convert(Map<String, Object> entry)
-						throws ResourceParseException {
-
-					var polygonId = VdypPolygonDescriptionParser.parse((String) entry.get(DESCRIPTION));
-					var layerType = (ValueOrMarker<Optional<LayerType>, EndOfRecord>) entry.get(LAYER_TYPE);
-					if (layerType == null) {
-						var builder = new ValueOrMarker.Builder<Optional<LayerType>, EndOfRecord>();
-						layerType = builder.marker(EndOfRecord.END_OF_RECORD);
-					}
-					var speciesGroupIndex = (Integer) entry.get(SPECIES_GROUP_INDEX);
-					var optionalSpeciesGroup = (Optional<String>) entry.get(SPECIES_GROUP);
-					var speciesNameText0 = (Optional<String>) entry.get(SPECIES_0);
-					var percentSpecies0 = (Optional<Float>) entry.get(PERCENT_SPECIES_0);
-					var speciesNameText1 = (Optional<String>) entry.get(SPECIES_1);
-					var percentSpecies1 = (Optional<Float>) entry.get(PERCENT_SPECIES_1);
-					var speciesNameText2 = (Optional<String>) entry.get(SPECIES_2);
-					var percentSpecies2 = (Optional<Float>) entry.get(PERCENT_SPECIES_2);
-					var speciesNameText3 = (Optional<String>) entry.get(SPECIES_3);
-					var percentSpecies3 = (Optional<Float>) entry.get(PERCENT_SPECIES_3);
-					var siteIndex = (Float) (entry.get(SITE_INDEX));
-					var dominantHeight = (Float) (entry.get(DOMINANT_HEIGHT));
-					var totalAge = (Float) (entry.get(TOTAL_AGE));
-					var yearsAtBreastHeight = (Float) (entry.get(AGE_AT_BREAST_HEIGHT));
-					var yearsToBreastHeight = (Float) (entry.get(YEARS_TO_BREAST_HEIGHT));
-					var isPrimarySpecies = Utils.<Boolean>optSafe(entry.get(IS_PRIMARY_SPECIES));
-					var siteCurveNumber = Utils.<Integer>optSafe(entry.get(SITE_CURVE_NUMBER))
-							.orElse(VdypEntity.MISSING_INTEGER_VALUE);
-
-					var builder = new ValueOrMarker.Builder<Optional<VdypSpecies>, EndOfRecord>();
-					return layerType.handle(l -> builder.value(l.map(lt -> {
-
-						List<Sp64Distribution> gdList = new ArrayList<>();
-
-						Utils.ifBothPresent(
-								speciesNameText0, percentSpecies0, (s, p) -> gdList.add(new Sp64Distribution(1, s, p))
-						);
-
-						Utils.ifBothPresent(
-								speciesNameText1, percentSpecies1, (s, p) -> gdList.add(new Sp64Distribution(2, s, p))
-						);
-
-						Utils.ifBothPresent(
-								speciesNameText2, percentSpecies2, (s, p) -> gdList.add(new Sp64Distribution(3, s, p))
-						);
-
-						Utils.ifBothPresent(
-								speciesNameText3, percentSpecies3, (s, p) -> gdList.add(new Sp64Distribution(4, s, p))
-						);
-
-						Sp64DistributionSet speciesDistributionSet = new Sp64DistributionSet(4, gdList);
-
-						var speciesGroup = optionalSpeciesGroup
-								.orElse(speciesGroupDefinitionMap.getByIndex(speciesGroupIndex).getAlias());
-
-						var iTotalAge = totalAge;
-						var iYearsToBreastHeight = yearsToBreastHeight;
-
-						// From VDYPGETS.FOR, lines 235 to 255.
-						if (Float.isNaN(totalAge)) {
-							if (yearsAtBreastHeight > 0.0 && yearsToBreastHeight > 0.0)
-								iTotalAge = yearsAtBreastHeight + yearsToBreastHeight;
-						} else if (Float.isNaN(yearsToBreastHeight)) {
-							if (yearsAtBreastHeight > 0.0 && totalAge > yearsAtBreastHeight)
-								iYearsToBreastHeight = totalAge - yearsAtBreastHeight;
-						}
-
-						var inferredTotalAge = iTotalAge;
-						var inferredYearsToBreastHeight = iYearsToBreastHeight;
-						var inferYearsAtBreastHeight = (yearsAtBreastHeight == null || yearsAtBreastHeight.isNaN()
-								|| yearsAtBreastHeight <= 0f) && (inferredTotalAge > inferredYearsToBreastHeight);
-
-						var calculatedDH = dominantHeight;
-						if (overrideSpeciesDH && siteCurveNumber > 0) {
-							// VDYP7loaddata.for lines 1337 -1356
-							/*
-							 * 2003/02/10 Replace the VDYP7 generated Dom Height with a value generated directly from
-							 * SINDEX as per Cam's instructions. According to Cam, the height generated by VDYP7 is
-							 * considered an "internal" height and not to be reported outside of those applications.
-							 */
-							try {
-								var siteIndexEquation = SiteIndexEquation.getByIndex(siteCurveNumber);
-								calculatedDH = (float) SiteTool.ageAndSiteIndexToHeight(
-										siteIndexEquation, inferredTotalAge, SiteIndexAgeType.SI_AT_TOTAL, siteIndex,
-										inferredYearsToBreastHeight
-								);
-
-							} catch (CommonCalculatorException ex) {
-								// TODO how to handle an issue here....
-							}
-						}
-						var speciesDH = calculatedDH;
-						return VdypSpecies.build(speciesBuilder -> {
-							speciesBuilder.sp64DistributionSet(speciesDistributionSet);
-							speciesBuilder.polygonIdentifier(polygonId);
-							speciesBuilder.layerType(lt);
-							speciesBuilder.speciesGroup(speciesGroup);
-							speciesBuilder.controlMap(controlMap);
-							speciesBuilder.isPrimary(isPrimarySpecies.orElse(false));
-							speciesBuilder.addSite(siteBuilder -> {
-								siteBuilder.ageTotal(inferredTotalAge);
-								siteBuilder.height(speciesDH);
-								siteBuilder.polygonIdentifier(polygonId);
-								siteBuilder.siteCurveNumber(siteCurveNumber);
-								siteBuilder.layerType(lt);
-								siteBuilder.siteGenus(speciesGroup);
-								siteBuilder.siteIndex(siteIndex);
-								siteBuilder.yearsToBreastHeight(inferredYearsToBreastHeight);
-								if (inferYearsAtBreastHeight) {
-									siteBuilder.yearsAtBreastHeightAuto();
-								} else {
-									siteBuilder.yearsAtBreastHeight(yearsAtBreastHeight);
-								}
-							});
-						});
-					})), builder::marker);
-				}
-			};
+			var delegateStream = new RecordStreamingParser<ValueOrMarker<Optional<VdypSpecies>, EndOfRecord>>(
+					is, lineParser, controlMap, binder(lineParser, speciesGroupDefinitionMap, controlMap)
+			);
 
 			return new GroupingStreamingParser<Collection<VdypSpecies>, ValueOrMarker<Optional<VdypSpecies>, EndOfRecord>>(
 					delegateStream
@@ -255,6 +128,152 @@ public class VdypSpeciesParser implements ControlMapValueReplacer<Object, String
 		};
 	}
 
+	/**
+	 * Reads the fields of each line directly, with the value parsers the line parser declares for them, without boxing
+	 * the numbers.
+	 */
+	private RecordBinder<ValueOrMarker<Optional<VdypSpecies>, EndOfRecord>> binder(
+			LineParser lineParser, GenusDefinitionMap speciesGroupDefinitionMap, Map<String, Object> controlMap
+	) {
+		int descriptionField = lineParser.fieldIndex(DESCRIPTION);
+		int layerTypeField = lineParser.fieldIndex(LAYER_TYPE);
+		int speciesGroupIndexField = lineParser.fieldIndex(SPECIES_GROUP_INDEX);
+		int speciesGroupField = lineParser.fieldIndex(SPECIES_GROUP);
+		int[] speciesFields = { lineParser.fieldIndex(SPECIES_0), lineParser.fieldIndex(SPECIES_1),
+				lineParser.fieldIndex(SPECIES_2), lineParser.fieldIndex(SPECIES_3) };
+		int[] percentFields = { lineParser.fieldIndex(PERCENT_SPECIES_0), lineParser.fieldIndex(PERCENT_SPECIES_1),
+				lineParser.fieldIndex(PERCENT_SPECIES_2), lineParser.fieldIndex(PERCENT_SPECIES_3) };
+		int siteIndexField = lineParser.fieldIndex(SITE_INDEX);
+		int dominantHeightField = lineParser.fieldIndex(DOMINANT_HEIGHT);
+		int totalAgeField = lineParser.fieldIndex(TOTAL_AGE);
+		int ageAtBreastHeightField = lineParser.fieldIndex(AGE_AT_BREAST_HEIGHT);
+		int yearsToBreastHeightField = lineParser.fieldIndex(YEARS_TO_BREAST_HEIGHT);
+		int isPrimarySpeciesField = lineParser.fieldIndex(IS_PRIMARY_SPECIES);
+		int siteCurveNumberField = lineParser.fieldIndex(SITE_CURVE_NUMBER);
+
+		var overrideDH = overrideSpeciesDH;
+		var builder = new ValueOrMarker.Builder<Optional<VdypSpecies>, EndOfRecord>();
+
+		return fields -> {
+			var description = fields.getStrippedString(descriptionField);
+			var layerType = VdypRecordFields.layerType(fields, layerTypeField);
+			int speciesGroupIndex = fields.isPresent(speciesGroupIndexField) ? fields.getInt(speciesGroupIndexField)
+					: VdypEntity.MISSING_INTEGER_VALUE;
+			Optional<String> optionalSpeciesGroup = Utils.optSafe(fields.get(speciesGroupField));
+			List<Sp64Distribution> gdList = new ArrayList<>(speciesFields.length);
+			for (int i = 0; i < speciesFields.length; i++) {
+				Optional<String> speciesNameText = Utils.optSafe(fields.get(speciesFields[i]));
+				Optional<Float> percentSpecies = Utils.optSafe(fields.get(percentFields[i]));
+				int index = i + 1;
+				Utils.ifBothPresent(
+						speciesNameText, percentSpecies, (s, p) -> gdList.add(new Sp64Distribution(index, s, p))
+				);
+			}
+			float siteIndex = fields.getFloat(siteIndexField);
+			float dominantHeight = fields.getFloat(dominantHeightField);
+			float totalAge = fields.getFloat(totalAgeField);
+			float yearsAtBreastHeight = fields.getFloat(ageAtBreastHeightField);
+			float yearsToBreastHeight = fields.getFloat(yearsToBreastHeightField);
+			Optional<Boolean> isPrimarySpecies = Utils.optSafe(fields.get(isPrimarySpeciesField));
+			int siteCurveNumber = fields.getInt(siteCurveNumberField);
+
+			var polygonId = VdypPolygonDescriptionParser.parse(description);
+
+			return layerType.handle(
+					l -> builder.value(
+							l.map(
+									lt -> buildSpecies(
+											polygonId, lt, speciesGroupIndex, optionalSpeciesGroup, gdList, siteIndex,
+											dominantHeight, totalAge, yearsAtBreastHeight, yearsToBreastHeight,
+											isPrimarySpecies, siteCurveNumber, overrideDH, speciesGroupDefinitionMap,
+											controlMap
+									)
+							)
+					), builder::marker
+			);
+		};
+	}
+
+	/**
+	 * Build a species from the values of a species record, as they are read from the file: -9 values have already
+	 * been replaced by {@link VdypEntity#MISSING_FLOAT_VALUE} and {@link VdypEntity#MISSING_INTEGER_VALUE}. Missing
+	 * ages are inferred as VDYPGETS does and, if <code>overrideSpeciesDH</code> is set, the dominant height is
+	 * replaced by that given by the site curve.
+	 */
+	static VdypSpecies buildSpecies(
+			PolygonIdentifier polygonId, LayerType lt, Integer speciesGroupIndex, Optional<String> optionalSpeciesGroup,
+			List<Sp64Distribution> gdList, Float siteIndex, Float dominantHeight, Float totalAge,
+			Float yearsAtBreastHeight, Float yearsToBreastHeight, Optional<Boolean> isPrimarySpecies,
+			int siteCurveNumber, boolean overrideSpeciesDH, GenusDefinitionMap speciesGroupDefinitionMap,
+			Map<String, Object> controlMap
+	) {
+		Sp64DistributionSet speciesDistributionSet = new Sp64DistributionSet(4, gdList);
+
+		var speciesGroup = optionalSpeciesGroup
+				.orElse(speciesGroupDefinitionMap.getByIndex(speciesGroupIndex).getAlias());
+
+		var iTotalAge = totalAge;
+		var iYearsToBreastHeight = yearsToBreastHeight;
+
+		// From VDYPGETS.FOR, lines 235 to 255.
+		if (Float.isNaN(totalAge)) {
+			if (yearsAtBreastHeight > 0.0 && yearsToBreastHeight > 0.0)
+				iTotalAge = yearsAtBreastHeight + yearsToBreastHeight;
+		} else if (Float.isNaN(yearsToBreastHeight)) {
+			if (yearsAtBreastHeight > 0.0 && totalAge > yearsAtBreastHeight)
+				iYearsToBreastHeight = totalAge - yearsAtBreastHeight;
+		}
+
+		var inferredTotalAge = iTotalAge;
+		var inferredYearsToBreastHeight = iYearsToBreastHeight;
+		var inferYearsAtBreastHeight = (yearsAtBreastHeight == null || yearsAtBreastHeight.isNaN()
+				|| yearsAtBreastHeight <= 0f) && (inferredTotalAge > inferredYearsToBreastHeight);
+
+		var calculatedDH = dominantHeight;
+		if (overrideSpeciesDH && siteCurveNumber > 0) {
+			// VDYP7loaddata.for lines 1337 -1356
+			/*
+			 * 2003/02/10 Replace the VDYP7 generated Dom Height with a value generated directly from SINDEX as per
+			 * Cam's instructions. According to Cam, the height generated by VDYP7 is considered an "internal" height
+			 * and not to be reported outside of those applications.
+			 */
+			var siteIndexEquation = SiteIndexEquation.getByIndex(siteCurveNumber);
+			var height = new SiteIndexResult();
+			if (SiteTool.ageAndSiteIndexToHeight(
+					siteIndexEquation, inferredTotalAge, SiteIndexAgeType.SI_AT_TOTAL, siteIndex,
+					inferredYearsToBreastHeight, height
+			).isOk()) {
+				calculatedDH = (float) height.getValue();
+			} else {
+				// TODO how to handle an issue here....
+			}
+		}
+		var speciesDH = calculatedDH;
+		return VdypSpecies.build(speciesBuilder -> {
+			speciesBuilder.sp64DistributionSet(speciesDistributionSet);
+			speciesBuilder.polygonIdentifier(polygonId);
+			speciesBuilder.layerType(lt);
+			speciesBuilder.speciesGroup(speciesGroup);
+			speciesBuilder.controlMap(controlMap);
+			speciesBuilder.isPrimary(isPrimarySpecies.orElse(false));
+			speciesBuilder.addSite(siteBuilder -> {
+				siteBuilder.ageTotal(inferredTotalAge);
+				siteBuilder.height(speciesDH);
+				siteBuilder.polygonIdentifier(polygonId);
+				siteBuilder.siteCurveNumber(siteCurveNumber);
+				siteBuilder.layerType(lt);
+				siteBuilder.siteGenus(speciesGroup);
+				siteBuilder.siteIndex(siteIndex);
+				siteBuilder.yearsToBreastHeight(inferredYearsToBreastHeight);
+				if (inferYearsAtBreastHeight) {
+					siteBuilder.yearsAtBreastHeightAuto();
+				} else {
+					siteBuilder.yearsAtBreastHeight(yearsAtBreastHeight);
+				}
+			});
+		});
+	}
+
 	@Override
 	public ValueParser<Object> getValueParser() {
 		return FILENAME;
@@ -10,16 +10,16 @@ import ca.bc.gov.nrs.vdyp.common.ValueOrMarker;
 import ca.bc.gov.nrs.vdyp.io.EndOfRecord;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser;
-import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.common.RecordBinder;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
-import ca.bc.gov.nrs.vdyp.io.parse.streaming.AbstractStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.GroupingStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.RecordStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ControlledValueParser;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
-import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.VdypEntity;
 import ca.bc.gov.nrs.vdyp.model.VdypUtilization;
 
 public class VdypUtilizationParser implements ControlMapValueReplacer<Object, String> {
@@ -51,16 +51,8 @@ public class VdypUtilizationParser implements ControlMapValueReplacer<Object, St
 			var lineParser = new LineParser() //
 					.strippedString(25, DESCRIPTION) //
 					.space(1) //
-					.value(
-							1, LAYER_TYPE,
-							ValueParser.valueOrMarker(
-									ValueParser.LAYER,
-									ValueParser.optionalSingleton(
-											x -> x == null || x.trim().length() == 0 || x.trim().equals("Z"),
-											EndOfRecord.END_OF_RECORD
-									)
-							)
-					).value(3, GENUS_INDEX, ValueParser.INTEGER) //
+					.value(1, LAYER_TYPE, VdypRecordFields.LAYER_TYPE) //
+					.value(3, GENUS_INDEX, ValueParser.INTEGER) //
 					.space(1) //
 					.value(2, GENUS, ControlledValueParser.optional(ControlledValueParser.GENUS))
 					.value(3, UTILIZATION_CLASS_INDEX, ControlledValueParser.UTILIZATION_CLASS)
@@ -76,45 +68,9 @@ public class VdypUtilizationParser implements ControlMapValueReplacer<Object, St
 
 			var is = fileResolver.resolveForInput(fileName);
 
-			var delegateStream = new AbstractStreamingParser<ValueOrMarker<Optional<VdypUtilization>, EndOfRecord>>(
-					is, lineParser, control
-			) {
-				@SuppressWarnings("unchecked")
-				@Override
-				protected ValueOrMarker<Optional<VdypUtilization>, EndOfRecord> convert(Map<String, Object> entry)
-						throws ResourceParseException {
-
-					var polygonId = PolygonIdentifier.split((String) entry.get(DESCRIPTION));
-					var layerType = (ValueOrMarker<Optional<LayerType>, EndOfRecord>) entry.get(LAYER_TYPE);
-					if (layerType == null) {
-						var builder = new ValueOrMarker.Builder<Optional<LayerType>, EndOfRecord>();
-						layerType = builder.marker(EndOfRecord.END_OF_RECORD);
-					}
-					var genusIndex = (Integer) entry.get(GENUS_INDEX);
-					var genus = (Optional<String>) entry.get(GENUS);
-					var utilizationClass = (UtilizationClass) entry.get(UTILIZATION_CLASS_INDEX);
-					var basalArea = (Float) (entry.get(BASAL_AREA));
-					var liveTreesPerHectare = (Float) (entry.get(LIVE_TREES_PER_HECTARE));
-					var loreyHeight = (Float) (entry.get(LOREY_HEIGHT));
-					var wholeStemVolume = (Float) (entry.get(WHOLE_STEM_VOLUME));
-					var closeUtilVolume = (Float) (entry.get(CLOSE_UTIL_VOLUME));
-					var cuVolumeLessDecay = (Float) (entry.get(CU_VOLUME_LESS_DECAY));
-					var cuVolumeLessDecayWastage = (Float) (entry.get(CU_VOLUME_LESS_DECAY_WASTAGE));
-					var cuVolumeLessDecayWastageBreakage = (Float) (entry.get(CU_VOLUME_LESS_DECAY_WASTAGE_BREAKAGE));
-					var quadraticMeanDBH = (Float) (entry.get(QUADRATIC_MEAN_DIAMETER_BREAST_HEIGHT));
-
-					var builder = new ValueOrMarker.Builder<Optional<VdypUtilization>, EndOfRecord>();
-					return layerType.handle(l -> {
-						return builder.value(l.map(lt -> {
-							return new VdypUtilization(
-									polygonId, lt, genusIndex, genus, utilizationClass, basalArea, liveTreesPerHectare,
-									loreyHeight, wholeStemVolume, closeUtilVolume, cuVolumeLessDecay,
-									cuVolumeLessDecayWastage, cuVolumeLessDecayWastageBreakage, quadraticMeanDBH
-							);
-						}));
-					}, builder::marker);
-				}
-			};
+			var delegateStream = new RecordStreamingParser<ValueOrMarker<Optional<VdypUtilization>, EndOfRecord>>(
+					is, lineParser, control, binder(lineParser)
+			);
 
 			return new GroupingStreamingParser<Collection<VdypUtilization>, ValueOrMarker<Optional<VdypUtilization>, EndOfRecord>>(
 					delegateStream
@@ -141,6 +97,59 @@ public class VdypUtilizationParser implements ControlMapValueReplacer<Object, St
 		};
 	}
 
+	/**
+	 * Reads the fields of each line directly, with the value parsers the line parser declares for them, without boxing
+	 * the numbers.
+	 */
+	private static RecordBinder<ValueOrMarker<Optional<VdypUtilization>, EndOfRecord>> binder(LineParser lineParser) {
+		int descriptionField = lineParser.fieldIndex(DESCRIPTION);
+		int layerTypeField = lineParser.fieldIndex(LAYER_TYPE);
+		int genusIndexField = lineParser.fieldIndex(GENUS_INDEX);
+		int genusField = lineParser.fieldIndex(GENUS);
+		int utilizationClassField = lineParser.fieldIndex(UTILIZATION_CLASS_INDEX);
+		int basalAreaField = lineParser.fieldIndex(BASAL_AREA);
+		int liveTreesPerHectareField = lineParser.fieldIndex(LIVE_TREES_PER_HECTARE);
+		int loreyHeightField = lineParser.fieldIndex(LOREY_HEIGHT);
+		int wholeStemVolumeField = lineParser.fieldIndex(WHOLE_STEM_VOLUME);
+		int closeUtilVolumeField = lineParser.fieldIndex(CLOSE_UTIL_VOLUME);
+		int cuVolumeLessDecayField = lineParser.fieldIndex(CU_VOLUME_LESS_DECAY);
+		int cuVolumeLessDecayWastageField = lineParser.fieldIndex(CU_VOLUME_LESS_DECAY_WASTAGE);
+		int cuVolumeLessDecayWastageBreakageField = lineParser.fieldIndex(CU_VOLUME_LESS_DECAY_WASTAGE_BREAKAGE);
+		int quadraticMeanDBHField = lineParser.fieldIndex(QUADRATIC_MEAN_DIAMETER_BREAST_HEIGHT);
+
+		var builder = new ValueOrMarker.Builder<Optional<VdypUtilization>, EndOfRecord>();
+
+		return fields -> {
+			var description = fields.getStrippedString(descriptionField);
+			var layerType = VdypRecordFields.layerType(fields, layerTypeField);
+			int genusIndex = fields.isPresent(genusIndexField) ? fields.getInt(genusIndexField)
+					: VdypEntity.MISSING_INTEGER_VALUE;
+			Optional<String> genus = fields.get(genusField);
+			UtilizationClass utilizationClass = fields.get(utilizationClassField);
+			float basalArea = fields.getFloat(basalAreaField);
+			float liveTreesPerHectare = fields.getFloat(liveTreesPerHectareField);
+			float loreyHeight = fields.getFloat(loreyHeightField);
+			float wholeStemVolume = fields.getFloat(wholeStemVolumeField);
+			float closeUtilVolume = fields.getFloat(closeUtilVolumeField);
+			float cuVolumeLessDecay = fields.getFloat(cuVolumeLessDecayField);
+			float cuVolumeLessDecayWastage = fields.getFloat(cuVolumeLessDecayWastageField);
+			float cuVolumeLessDecayWastageBreakage = fields.getFloat(cuVolumeLessDecayWastageBreakageField);
+			float quadraticMeanDBH = fields.getFloat(quadraticMeanDBHField);
+
+			var polygonId = PolygonIdentifier.split(description);
+
+			return layerType.handle(l -> {
+				return builder.value(l.map(lt -> {
+					return new VdypUtilization(
+							polygonId, lt, genusIndex, genus, utilizationClass, basalArea, liveTreesPerHectare,
+							loreyHeight, wholeStemVolume, closeUtilVolume, cuVolumeLessDecay, cuVolumeLessDecayWastage,
+							cuVolumeLessDecayWastageBreakage, quadraticMeanDBH
+					);
+				}));
+			}, builder::marker);
+		};
+	}
+
 	@Override
 	public ValueParser<Object> getValueParser() {
 		return FILENAME;
@@ -0,0 +1,57 @@
+package ca.bc.gov.nrs.vdyp.io.parse.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
+
+/**
+ * Parses the output years of a projection, in the form described by {@link OutputYears}.
+ */
+public class OutputYearsParser implements ValueParser<OutputYears> {
+
+	@Override
+	public OutputYears parse(String string) throws ValueParseException {
+
+		if (string == null) {
+			throw new ValueParseException(null, "OutputYearsParser: supplied string is null");
+		}
+		if (string.isBlank()) {
+			throw new ValueParseException(string, "OutputYearsParser: supplied string \"" + string + "\" is empty");
+		}
+
+		List<Integer> years = new ArrayList<>();
+		for (var item : string.strip().split("\\s+")) {
+			int rangeSeparator = item.indexOf('-', 1);
+			if (rangeSeparator < 0) {
+				years.add(ValueParser.INTEGER.parse(item));
+				continue;
+			}
+
+			int incrementSeparator = item.indexOf('/', rangeSeparator);
+			int first = ValueParser.INTEGER.parse(item.substring(0, rangeSeparator));
+			int last;
+			int increment;
+			if (incrementSeparator < 0) {
+				last = ValueParser.INTEGER.parse(item.substring(rangeSeparator + 1));
+				increment = 1;
+			} else {
+				last = ValueParser.INTEGER.parse(item.substring(rangeSeparator + 1, incrementSeparator));
+				increment = ValueParser.INTEGER.parse(item.substring(incrementSeparator + 1));
+			}
+
+			if (increment < 1 || last < first) {
+				throw new ValueParseException(
+						item, "OutputYearsParser: \"" + item + "\" is not a valid range of years"
+				);
+			}
+			for (int year = first; year <= last; year += increment) {
+				years.add(year);
+			}
+		}
+
+		return OutputYears.of(years);
+	}
+}
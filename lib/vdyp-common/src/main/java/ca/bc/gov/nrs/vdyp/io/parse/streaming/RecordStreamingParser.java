@@ -0,0 +1,49 @@
+package ca.bc.gov.nrs.vdyp.io.parse.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser;
+import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser.RecordStream;
+import ca.bc.gov.nrs.vdyp.io.parse.common.RecordBinder;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+
+/**
+ * A streaming parser that builds each entry directly from the fields of a line with a {@link RecordBinder}, rather
+ * than converting a map of parsed values as {@link AbstractStreamingParser} does.
+ */
+public class RecordStreamingParser<T> implements StreamingParser<T> {
+
+	private RecordStream<T> recordStream;
+
+	/**
+	 * Create a new streaming parser
+	 *
+	 * @param is         Input stream to read from
+	 * @param lineParser
+	 * @param control
+	 * @param binder     Builds an entry from the fields of a line
+	 */
+	public RecordStreamingParser(
+			InputStream is, LineParser lineParser, Map<String, Object> control, RecordBinder<T> binder
+	) {
+		this.recordStream = lineParser.parseAsRecords(is, control, binder);
+	}
+
+	@Override
+	public T next() throws IOException, ResourceParseException {
+		return recordStream.next();
+	}
+
+	@Override
+	public boolean hasNext() throws IOException, ResourceParseException {
+		return recordStream.hasNext();
+	}
+
+	@Override
+	public void close() throws IOException {
+		recordStream.close();
+	}
+
+}
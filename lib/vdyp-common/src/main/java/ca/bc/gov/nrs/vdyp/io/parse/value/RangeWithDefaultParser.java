@@ -0,0 +1,89 @@
+package ca.bc.gov.nrs.vdyp.io.parse.value;
+
+import java.text.MessageFormat;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Parser that validates a parsed value is in a range, and replaces an empty string or a missing value indicator with
+ * a default value. See {@link ValueParser#rangeSilentWithDefaulting}.
+ * <p>
+ * The steps after the underlying parser are available separately, so that a value parsed by other means, such as
+ * directly from the bytes of a line, can be defaulted and validated in the same way.
+ *
+ * @param <T> type of the parsed value
+ */
+public final class RangeWithDefaultParser<T extends Comparable<T>> implements ValueParser<T> {
+
+	private final ValueParser<T> parser;
+	private final T min;
+	private final boolean includeMin;
+	private final T max;
+	private final boolean includeMax;
+	private final T missingIndicator;
+	private final T defaultValue;
+	private final String name;
+
+	RangeWithDefaultParser(
+			ValueParser<T> parser, T min, boolean includeMin, T max, boolean includeMax, T missingIndicator,
+			T defaultValue, String name
+	) {
+		this.parser = parser;
+		this.min = min;
+		this.includeMin = includeMin;
+		this.max = max;
+		this.includeMax = includeMax;
+		this.missingIndicator = missingIndicator;
+		this.defaultValue = defaultValue;
+		this.name = name;
+	}
+
+	@Override
+	public T parse(String s) throws ValueParseException {
+		if (StringUtils.isEmpty(s)) {
+			return defaultValue;
+		}
+		var result = resolve(parser.parse(s));
+		if (!isValid(result)) {
+			throw new ValueParseException(
+					s, MessageFormat.format(
+							"{0} must be between {1} ({2}) and {3} ({4})", name, min,
+							includeMin ? "inclusive" : "exclusive", max, includeMax ? "inclusive" : "exclusive"
+					)
+			);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the parser applied to non-empty strings before defaulting and validation
+	 */
+	public ValueParser<T> getParser() {
+		return parser;
+	}
+
+	/**
+	 * @return the value for empty strings and for the missing value indicator
+	 */
+	public T getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Replace the missing value indicator with the default value.
+	 *
+	 * @param value a value returned by {@link #getParser()}
+	 */
+	public T resolve(T value) {
+		return missingIndicator.equals(value) ? defaultValue : value;
+	}
+
+	/**
+	 * @param value a value returned by {@link #resolve}
+	 * @return true if the value is the default value, or is in range
+	 */
+	public boolean isValid(T value) {
+		return defaultValue.equals(value) || ! (value.compareTo(max) > (includeMax ? 0 : -1)
+				|| value.compareTo(min) < (includeMin ? 0 : 1));
+	}
+}
@@ -1,6 +1,5 @@
 package ca.bc.gov.nrs.vdyp.io.parse.value;
 
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -12,8 +11,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import org.apache.commons.lang3.StringUtils;
-
 import ca.bc.gov.nrs.vdyp.common.ValueOrMarker;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.Region;
@@ -376,36 +373,29 @@ public interface ValueParser<T> extends ControlledValueParser<T> {
 			ValueParser<T> parser, T min, boolean includeMin, T max, boolean includeMax, T missingIndicator,
 			T defaultValue, String name
 	) {
-		return ValueParser.validate(s -> {
-			var result = defaultValue;
-			if (!StringUtils.isEmpty(s)) {
-				result = parser.parse(s);
-				if (missingIndicator.equals(result)) {
-					result = defaultValue;
-				}
-			}
-			return result;
-		}, result -> {
-			if (!defaultValue.equals(result) && (result.compareTo(max) > (includeMax ? 0 : -1)
-					|| result.compareTo(min) < (includeMin ? 0 : 1))) {
-				return Optional.of(
-						MessageFormat.format(
-								"{0} must be between {1} ({2}) and {3} ({4})", name, min,
-								includeMin ? "inclusive" : "exclusive", max, includeMax ? "inclusive" : "exclusive"
-						)
-				);
-			}
-			return Optional.empty();
-		});
+		return new RangeWithDefaultParser<>(
+				parser, min, includeMin, max, includeMax, missingIndicator, defaultValue, name
+		);
 	}
 
+	/**
+	 * Value that marks a float as missing in VDYP input files
+	 */
+	public static final float MISSING_FLOAT_INDICATOR = -9.0f;
+
+	/**
+	 * Value that marks an integer as missing in VDYP input files
+	 */
+	public static final int MISSING_INTEGER_INDICATOR = -9;
+
 	/**
 	 * Parser for non-negative single precision floats with default -9.0. -9.0 results in an
 	 * VdypEntity.MISSING_FLOAT_VALUE being returned. All other negative values, and those greater than Float.MAX_VALUE,
 	 * result in an error.
 	 */
 	ValueParser<Float> FLOAT_WITH_DEFAULT = rangeSilentWithDefaulting(
-			FLOAT, 0.0f, true, Float.MAX_VALUE, true, -9.0f, VdypEntity.MISSING_FLOAT_VALUE, NON_NEGATIVE_FLOAT_MSG
+			FLOAT, 0.0f, true, Float.MAX_VALUE, true, MISSING_FLOAT_INDICATOR, VdypEntity.MISSING_FLOAT_VALUE,
+			NON_NEGATIVE_FLOAT_MSG
 	);
 
 	/**
@@ -413,11 +403,13 @@ public interface ValueParser<T> extends ControlledValueParser<T> {
 	 * All other negative values, and those > Float.MAX_VALUE, result in an error.
 	 */
 	ValueParser<Integer> INTEGER_WITH_DEFAULT = rangeSilentWithDefaulting(
-			INTEGER, 0, true, Integer.MAX_VALUE, true, -9, VdypEntity.MISSING_INTEGER_VALUE, NON_NEGATIVE_INTEGER_MSG
+			INTEGER, 0, true, Integer.MAX_VALUE, true, MISSING_INTEGER_INDICATOR, VdypEntity.MISSING_INTEGER_VALUE,
+			NON_NEGATIVE_INTEGER_MSG
 	);
 
 	public static final ValueParser<Float> ALLOW_NEG_FLOAT_WITH_DEFAULT = rangeSilentWithDefaulting(
-			FLOAT, -8.9f, true, Float.MAX_VALUE, true, -9.0f, VdypEntity.MISSING_FLOAT_VALUE, NON_NEGATIVE_FLOAT_MSG
+			FLOAT, -8.9f, true, Float.MAX_VALUE, true, MISSING_FLOAT_INDICATOR, VdypEntity.MISSING_FLOAT_VALUE,
+			NON_NEGATIVE_FLOAT_MSG
 	);
 
 	/**
@@ -0,0 +1,222 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static ca.bc.gov.nrs.vdyp.io.VdypBinaryOutputFormat.round;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.io.VdypBinaryOutputFormat;
+import ca.bc.gov.nrs.vdyp.io.VdypBinaryOutputFormat.Quantity;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+
+/**
+ * Writes VDYP Forward output in the form described by {@link VdypBinaryOutputFormat}. The values of a polygon are
+ * collected by {@link #writePolygon}, {@link #writeSpecies} and {@link #writeUtilization} and the record is written
+ * by {@link #writeEndRecord}.
+ * <p>
+ * The stream will be closed when the writer is closed.
+ */
+public class VdypBinaryOutputWriter implements Closeable {
+
+	private record SpeciesRow(
+			LayerType layerType, int genusIndex, String genus, List<Sp64Distribution> distributions, float siteIndex,
+			float height, float ageTotal, float yearsAtBreastHeight, float yearsToBreastHeight, boolean isPrimary,
+			int siteCurveNumber
+	) {
+	}
+
+	private record UtilizationRow(LayerType layerType, int genusIndex, String genus, float[][] values) {
+	}
+
+	private final DataOutputStream out;
+
+	private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+	private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+	private boolean polygonPending = false;
+	private final List<SpeciesRow> species = new ArrayList<>();
+	private final List<UtilizationRow> utilizations = new ArrayList<>();
+
+	private boolean headerWritten = false;
+
+	public VdypBinaryOutputWriter(OutputStream os) {
+		this.out = new DataOutputStream(new BufferedOutputStream(os));
+	}
+
+	private void writeHeader() throws IOException {
+		if (!headerWritten) {
+			out.writeInt(VdypBinaryOutputFormat.MAGIC);
+			out.writeShort(VdypBinaryOutputFormat.VERSION);
+			headerWritten = true;
+		}
+	}
+
+	/**
+	 * Start the record of a polygon, discarding anything collected for a record that was not ended.
+	 */
+	public void writePolygon(
+			PolygonIdentifier polygonId, String becAlias, String forestInventoryZone, int percentAvailable,
+			int inventoryTypeGroup, int basalAreaGroup, int modeCode
+	) throws IOException {
+		recordBytes.reset();
+		species.clear();
+		utilizations.clear();
+
+		record.writeUTF(polygonId.getBase());
+		record.writeInt(polygonId.getYear());
+		record.writeUTF(becAlias);
+		record.writeUTF(forestInventoryZone);
+		record.writeInt(percentAvailable);
+		record.writeInt(inventoryTypeGroup);
+		record.writeInt(basalAreaGroup);
+		record.writeInt(modeCode);
+
+		polygonPending = true;
+	}
+
+	/**
+	 * Add a species to the current polygon record.
+	 *
+	 * @param distributions exactly {@link VdypBinaryOutputFormat#SP64_DISTRIBUTION_SLOTS} entries, unused ones having
+	 *                      a blank alias
+	 */
+	public void writeSpecies(
+			LayerType layerType, int genusIndex, String genus, List<Sp64Distribution> distributions, float siteIndex,
+			float height, float ageTotal, float yearsAtBreastHeight, float yearsToBreastHeight, boolean isPrimary,
+			int siteCurveNumber
+	) {
+		species.add(
+				new SpeciesRow(
+						layerType, genusIndex, genus, distributions, siteIndex, height, ageTotal, yearsAtBreastHeight,
+						yearsToBreastHeight, isPrimary, siteCurveNumber
+				)
+		);
+	}
+
+	/**
+	 * Add the values of one utilization class of a layer (genus index 0 and a blank genus) or species to the current
+	 * polygon record. The values are given in {@link Quantity} order.
+	 */
+	public void writeUtilization(
+			LayerType layerType, int genusIndex, String genus, UtilizationClass uc, float... values
+	) {
+		if (values.length != VdypBinaryOutputFormat.QUANTITIES.length) {
+			throw new IllegalArgumentException(
+					"Expected " + VdypBinaryOutputFormat.QUANTITIES.length + " utilization values but saw "
+							+ values.length
+			);
+		}
+
+		UtilizationRow row = utilizations.isEmpty() ? null : utilizations.get(utilizations.size() - 1);
+		if (row == null || row.layerType() != layerType || row.genusIndex() != genusIndex) {
+			var rowValues = new float[values.length][VdypBinaryOutputFormat.UTILIZATION_CLASS_COUNT];
+			row = new UtilizationRow(layerType, genusIndex, genus, rowValues);
+			utilizations.add(row);
+		}
+		for (int q = 0; q < values.length; q++) {
+			row.values()[q][uc.ordinal()] = values[q];
+		}
+	}
+
+	/**
+	 * Write the record of the current polygon.
+	 */
+	public void writeEndRecord() throws IOException {
+		if (!polygonPending) {
+			throw new IllegalStateException("An end record was written before a polygon");
+		}
+
+		writeSpeciesColumns();
+		writeUtilizationColumns();
+
+		writeHeader();
+		out.writeInt(recordBytes.size());
+		recordBytes.writeTo(out);
+
+		recordBytes.reset();
+		species.clear();
+		utilizations.clear();
+		polygonPending = false;
+	}
+
+	private void writeSpeciesColumns() throws IOException {
+		record.writeShort(species.size());
+		for (var s : species) {
+			record.writeByte(s.layerType().ordinal());
+		}
+		for (var s : species) {
+			record.writeShort(s.genusIndex());
+		}
+		for (var s : species) {
+			record.writeUTF(s.genus());
+		}
+		for (int slot = 0; slot < VdypBinaryOutputFormat.SP64_DISTRIBUTION_SLOTS; slot++) {
+			for (var s : species) {
+				record.writeUTF(s.distributions().get(slot).getGenusAlias());
+			}
+			for (var s : species) {
+				var percentage = s.distributions().get(slot).getPercentage();
+				record.writeFloat(round(percentage, VdypBinaryOutputFormat.PERCENT_DECIMALS));
+			}
+		}
+		for (var s : species) {
+			record.writeFloat(round(s.siteIndex(), VdypBinaryOutputFormat.DISTANCE_DECIMALS));
+		}
+		for (var s : species) {
+			record.writeFloat(round(s.height(), VdypBinaryOutputFormat.DISTANCE_DECIMALS));
+		}
+		for (var s : species) {
+			record.writeFloat(round(s.ageTotal(), VdypBinaryOutputFormat.AGE_DECIMALS));
+		}
+		for (var s : species) {
+			record.writeFloat(round(s.yearsAtBreastHeight(), VdypBinaryOutputFormat.AGE_DECIMALS));
+		}
+		for (var s : species) {
+			record.writeFloat(round(s.yearsToBreastHeight(), VdypBinaryOutputFormat.AGE_DECIMALS));
+		}
+		for (var s : species) {
+			record.writeBoolean(s.isPrimary());
+		}
+		for (var s : species) {
+			record.writeShort(s.siteCurveNumber());
+		}
+	}
+
+	private void writeUtilizationColumns() throws IOException {
+		record.writeShort(utilizations.size());
+		for (var u : utilizations) {
+			record.writeByte(u.layerType().ordinal());
+		}
+		for (var u : utilizations) {
+			record.writeShort(u.genusIndex());
+		}
+		for (var u : utilizations) {
+			record.writeUTF(u.genus());
+		}
+		for (var quantity : VdypBinaryOutputFormat.QUANTITIES) {
+			for (var u : utilizations) {
+				for (float value : u.values()[quantity.ordinal()]) {
+					record.writeFloat(round(value, quantity.decimals));
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			writeHeader();
+		} finally {
+			out.close();
+		}
+	}
+}
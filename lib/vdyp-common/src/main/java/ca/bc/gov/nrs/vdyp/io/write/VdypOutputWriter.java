@@ -33,13 +33,18 @@ import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
 
 /**
  * Write files to be input into VRI Adjust.
+ * <p>
+ * Each of the VDYP7 text files is optional: it is not written if its file name in the control map is blank. The same
+ * output may also be written in binary form (see {@link VdypBinaryOutputWriter}) if
+ * {@link ControlKey#VDYP_OUTPUT_BINARY} names a file.
  */
 public class VdypOutputWriter implements Closeable {
 
-	protected final OutputStream polygonFile;
-	protected final OutputStream speciesFile;
-	protected final OutputStream utilizationFile;
+	protected final Optional<OutputStream> polygonFile;
+	protected final Optional<OutputStream> speciesFile;
+	protected final Optional<OutputStream> utilizationFile;
 	protected Optional<OutputStream> compatibilityVariablesFile;
+	protected final Optional<VdypBinaryOutputWriter> binaryFile;
 
 	private ResolvedControlMap controlMap;
 
@@ -105,12 +110,37 @@ public class VdypOutputWriter implements Closeable {
 	public VdypOutputWriter(
 			Map<String, Object> controlMap, OutputStream polygonFile, OutputStream speciesFile,
 			OutputStream utilizationFile, Optional<OutputStream> compatibilityVariablesFile
+	) {
+		this(
+				controlMap, Optional.of(polygonFile), Optional.of(speciesFile), Optional.of(utilizationFile),
+				compatibilityVariablesFile, Optional.empty()
+		);
+	}
+
+	/**
+	 * Create a writer for Vdyp output files using provided OutputStreams, any of which may be absent. The controlMap
+	 * provided is used by the implementation when needed.
+	 * <p>
+	 * The Streams will be closed when the writer is closed.
+	 *
+	 * @param controlMap
+	 * @param polygonFile
+	 * @param speciesFile
+	 * @param utilizationFile
+	 * @param compatibilityVariablesFile
+	 * @param binaryFile                 stream to which the output is written in binary form
+	 */
+	public VdypOutputWriter(
+			Map<String, Object> controlMap, Optional<OutputStream> polygonFile, Optional<OutputStream> speciesFile,
+			Optional<OutputStream> utilizationFile, Optional<OutputStream> compatibilityVariablesFile,
+			Optional<OutputStream> binaryFile
 	) {
 		this.controlMap = new CachingResolvedControlMapImpl(controlMap);
 		this.polygonFile = polygonFile;
 		this.speciesFile = speciesFile;
 		this.utilizationFile = utilizationFile;
 		this.compatibilityVariablesFile = compatibilityVariablesFile;
+		this.binaryFile = binaryFile.map(VdypBinaryOutputWriter::new);
 	}
 
 	/**
@@ -127,11 +157,10 @@ public class VdypOutputWriter implements Closeable {
 				getOutputStream(controlMap, resolver, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name()), //
 				getOutputStream(controlMap, resolver, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name()), //
 				controlMap.containsKey(ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES.name()) //
-						? Optional.of(
-								getOutputStream(
-										controlMap, resolver, ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES.name()
-								)
-						) //
+						? getOutputStream(controlMap, resolver, ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES.name()) //
+						: Optional.empty(), //
+				controlMap.containsKey(ControlKey.VDYP_OUTPUT_BINARY.name()) //
+						? getOutputStream(controlMap, resolver, ControlKey.VDYP_OUTPUT_BINARY.name()) //
 						: Optional.empty() //
 		);
 	}
@@ -145,12 +174,15 @@ public class VdypOutputWriter implements Closeable {
 	public VdypOutputWriter(Map<String, Object> controlMap) throws IOException {
 		this(
 				controlMap, //
-				getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_POLYGON.name()), //
-				getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name()), //
-				getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name()), //
+				Optional.of(getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_POLYGON.name())), //
+				Optional.of(getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name())), //
+				Optional.of(getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name())), //
 				controlMap.containsKey(ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES.name())
 						? Optional
 								.of(getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_COMPATIBILITY_VARIABLES.name()))
+						: Optional.empty(),
+				controlMap.containsKey(ControlKey.VDYP_OUTPUT_BINARY.name())
+						? Optional.of(getOutputStream(controlMap, ControlKey.VDYP_OUTPUT_BINARY.name()))
 						: Optional.empty()
 		);
 	}
@@ -202,6 +234,9 @@ public class VdypOutputWriter implements Closeable {
 		}
 		writeSpeciesEndRecord(polygon);
 		writeUtilizationEndRecord(polygon);
+		if (binaryFile.isPresent()) {
+			binaryFile.get().writeEndRecord();
+		}
 	}
 
 	static void calculateCuVolumeLessDecayWastageBreakage(
@@ -266,10 +301,13 @@ public class VdypOutputWriter implements Closeable {
 		}
 	}
 
-	private static OutputStream getOutputStream(Map<String, Object> controlMap, FileResolver resolver, String key)
-			throws IOException {
+	private static Optional<OutputStream>
+			getOutputStream(Map<String, Object> controlMap, FileResolver resolver, String key) throws IOException {
 		String fileName = Utils.expectParsedControl(controlMap, key, String.class);
-		return resolver.resolveForOutput(fileName);
+		if (fileName.isBlank()) {
+			return Optional.empty();
+		}
+		return Optional.of(resolver.resolveForOutput(fileName));
 	}
 
 	private static OutputStream getOutputStream(Map<String, Object> controlMap, String key) throws IOException {
@@ -293,19 +331,36 @@ public class VdypOutputWriter implements Closeable {
 	 */
 	void writePolygon(VdypPolygon polygon) throws IOException {
 
-		writeFormat(
-				polygonFile, //
-				POLY_FORMAT, //
+		var polygonId = getCurrentPolygonDescriptor(polygon.getPolygonIdentifier());
+		var becAlias = polygon.getBiogeoclimaticZone().getAlias();
+		var forestInventoryZone = polygon.getForestInventoryZone();
+		int percentAvailable = polygon.getPercentAvailable().intValue();
+		int inventoryTypeGroup = polygon.getLayers().get(LayerType.PRIMARY).getInventoryTypeGroup().orElse(EMPTY_INT);
+		int basalAreaGroup = polygon.getLayers().get(LayerType.PRIMARY).getEmpiricalRelationshipParameterIndex()
+				.orElse(EMPTY_INT);
+		int modeCode = polygon.getMode().orElse(PolygonMode.START).getCode();
 
-				getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()), //
-				polygon.getBiogeoclimaticZone().getAlias(), //
-				polygon.getForestInventoryZone(), //
+		if (polygonFile.isPresent()) {
+			writeFormat(
+					polygonFile.get(), //
+					POLY_FORMAT, //
 
-				polygon.getPercentAvailable().intValue(), //
-				polygon.getLayers().get(LayerType.PRIMARY).getInventoryTypeGroup().orElse(EMPTY_INT), //
-				polygon.getLayers().get(LayerType.PRIMARY).getEmpiricalRelationshipParameterIndex().orElse(EMPTY_INT), //
-				polygon.getMode().orElse(PolygonMode.START).getCode()
-		);
+					polygonId, //
+					becAlias, //
+					forestInventoryZone, //
+
+					percentAvailable, //
+					inventoryTypeGroup, //
+					basalAreaGroup, //
+					modeCode
+			);
+		}
+		if (binaryFile.isPresent()) {
+			binaryFile.get().writePolygon(
+					polygonId, becAlias, forestInventoryZone, percentAvailable, inventoryTypeGroup, basalAreaGroup,
+					modeCode
+			);
+		}
 	}
 
 	/**
@@ -322,35 +377,50 @@ public class VdypOutputWriter implements Closeable {
 				spec.getSp64DistributionSet().getSp64DistributionList().stream(),
 				Stream.generate(() -> new Sp64Distribution(0, "", 0f))
 		).limit(4).toList();
-		// 082E004 615 1988 P 9 L LW 100.0 0.0 0.0 0.0 -9.00 -9.00 -9.0 -9.0 -9.0 0 -9
-		writeFormat(
-				speciesFile, //
-				SPEC_FORMAT, //
-
-				getCurrentPolygonDescriptor(spec.getPolygonIdentifier()), //
-				spec.getLayerType().getAlias(), //
-
-				spec.getGenusIndex(), //
-				spec.getGenus(), //
-
-				specDistributionEntries.get(0).getGenusAlias(), //
-				specDistributionEntries.get(0).getPercentage(), //
-				specDistributionEntries.get(1).getGenusAlias(), //
-				specDistributionEntries.get(1).getPercentage(), //
-				specDistributionEntries.get(2).getGenusAlias(), //
-				specDistributionEntries.get(2).getPercentage(), //
-				specDistributionEntries.get(3).getGenusAlias(), //
-				specDistributionEntries.get(3).getPercentage(), //
-
-				spec.getSite().flatMap(VdypSite::getSiteIndex).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getHeight).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getAgeTotal).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getYearsAtBreastHeight).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getYearsToBreastHeight).orElse(EMPTY_FLOAT), //
-				layer.getPrimaryGenus().map(spec.getGenus()::equals).orElse(false) ? 1 : 0, //
-				spec.getSite().flatMap(VdypSite::getSiteCurveNumber).orElse(EMPTY_INT) //
-		);
-
+		float siteIndex = spec.getSite().flatMap(VdypSite::getSiteIndex).orElse(EMPTY_FLOAT);
+		float height = spec.getSite().flatMap(VdypSite::getHeight).orElse(EMPTY_FLOAT);
+		float ageTotal = spec.getSite().flatMap(VdypSite::getAgeTotal).orElse(EMPTY_FLOAT);
+		float yearsAtBreastHeight = spec.getSite().flatMap(VdypSite::getYearsAtBreastHeight).orElse(EMPTY_FLOAT);
+		float yearsToBreastHeight = spec.getSite().flatMap(VdypSite::getYearsToBreastHeight).orElse(EMPTY_FLOAT);
+		boolean isPrimary = layer.getPrimaryGenus().map(spec.getGenus()::equals).orElse(false);
+		int siteCurveNumber = spec.getSite().flatMap(VdypSite::getSiteCurveNumber).orElse(EMPTY_INT);
+
+		if (speciesFile.isPresent()) {
+			// 082E004 615 1988 P 9 L LW 100.0 0.0 0.0 0.0 -9.00 -9.00 -9.0 -9.0 -9.0 0 -9
+			writeFormat(
+					speciesFile.get(), //
+					SPEC_FORMAT, //
+
+					getCurrentPolygonDescriptor(spec.getPolygonIdentifier()), //
+					spec.getLayerType().getAlias(), //
+
+					spec.getGenusIndex(), //
+					spec.getGenus(), //
+
+					specDistributionEntries.get(0).getGenusAlias(), //
+					specDistributionEntries.get(0).getPercentage(), //
+					specDistributionEntries.get(1).getGenusAlias(), //
+					specDistributionEntries.get(1).getPercentage(), //
+					specDistributionEntries.get(2).getGenusAlias(), //
+					specDistributionEntries.get(2).getPercentage(), //
+					specDistributionEntries.get(3).getGenusAlias(), //
+					specDistributionEntries.get(3).getPercentage(), //
+
+					siteIndex, //
+					height, //
+					ageTotal, //
+					yearsAtBreastHeight, //
+					yearsToBreastHeight, //
+					isPrimary ? 1 : 0, //
+					siteCurveNumber //
+			);
+		}
+		if (binaryFile.isPresent()) {
+			binaryFile.get().writeSpecies(
+					spec.getLayerType(), spec.getGenusIndex(), spec.getGenus(), specDistributionEntries, siteIndex,
+					height, ageTotal, yearsAtBreastHeight, yearsToBreastHeight, isPrimary, siteCurveNumber
+			);
+		}
 	}
 
 	/**
@@ -412,40 +482,63 @@ public class VdypOutputWriter implements Closeable {
 				);
 			}
 
-			writeFormat(
-					utilizationFile, //
-					UTIL_FORMAT, //
+			float basalArea = utils.getBaseAreaByUtilization().getCoe(uc.index) * fractionForest;
+			float treesPerHectare = utils.getTreesPerHectareByUtilization().getCoe(uc.index) * fractionForest;
+			float loreyHeight = height.orElse(EMPTY_FLOAT);
+			float wholeStemVolume = utils.getWholeStemVolumeByUtilization().getCoe(uc.index) * fractionForest;
+			float closeUtilizationVolume = utils.getCloseUtilizationVolumeByUtilization().getCoe(uc.index)
+					* fractionForest;
+			float cuVolumeLessDecay = utils.getCloseUtilizationVolumeNetOfDecayByUtilization().getCoe(uc.index)
+					* fractionForest;
+			float cuVolumeLessDecayWastage = utils.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization()
+					.getCoe(uc.index) * fractionForest;
+			float cuVolumeLessDecayWastageBreakage = safeMultiply(
+					utils.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization().getCoe(uc.index),
+					fractionForest
+			);
+			// FIXME: VDYP7 is being inconsistent. Should consider using -9 for both.
+			float dq = quadMeanDiameter.orElse(layer.getLayerType() == LayerType.PRIMARY ? EMPTY_FLOAT : 0f);
 
-					getCurrentPolygonDescriptor(layer.getPolygonIdentifier()), //
-					layer.getLayerType().getAlias(), //
+			if (utilizationFile.isPresent()) {
+				writeFormat(
+						utilizationFile.get(), //
+						UTIL_FORMAT, //
 
-					specIndex.orElse(0), //
-					specId.orElse("  "), //
+						getCurrentPolygonDescriptor(layer.getPolygonIdentifier()), //
+						layer.getLayerType().getAlias(), //
 
-					uc.index,
+						specIndex.orElse(0), //
+						specId.orElse("  "), //
 
-					utils.getBaseAreaByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getTreesPerHectareByUtilization().getCoe(uc.index) * fractionForest, //
-					height.orElse(EMPTY_FLOAT), //
+						uc.index,
 
-					utils.getWholeStemVolumeByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeNetOfDecayByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization().getCoe(uc.index) * fractionForest, //
-					safeMultiply(
-							utils.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization().getCoe(uc.index),
-							fractionForest
-					), //
+						basalArea, //
+						treesPerHectare, //
+						loreyHeight, //
 
-					quadMeanDiameter.orElse(layer.getLayerType() == LayerType.PRIMARY ? //
-							EMPTY_FLOAT : 0f
-					) // FIXME: VDYP7 is being inconsistent. Should consider using -9 for both.
-			);
+						wholeStemVolume, //
+						closeUtilizationVolume, //
+						cuVolumeLessDecay, //
+						cuVolumeLessDecayWastage, //
+						cuVolumeLessDecayWastageBreakage, //
+
+						dq
+				);
+			}
+			if (binaryFile.isPresent()) {
+				binaryFile.get().writeUtilization(
+						layer.getLayerType(), specIndex.orElse(0), specId.orElse(""), uc, basalArea, treesPerHectare,
+						loreyHeight, wholeStemVolume, closeUtilizationVolume, cuVolumeLessDecay,
+						cuVolumeLessDecayWastage, cuVolumeLessDecayWastageBreakage, dq
+				);
+			}
 		}
 	}
 
-	private void writeEndRecord(OutputStream os, VdypPolygon polygon) throws IOException {
-		writeFormat(os, END_RECORD_FORMAT, getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()));
+	private void writeEndRecord(Optional<OutputStream> os, VdypPolygon polygon) throws IOException {
+		if (os.isPresent()) {
+			writeFormat(os.get(), END_RECORD_FORMAT, getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()));
+		}
 	}
 
 	private void writeUtilizationEndRecord(VdypPolygon polygon) throws IOException {
@@ -467,6 +560,7 @@ public class VdypOutputWriter implements Closeable {
 		Utils.close(exceptions, speciesFile, Optional.empty(), "species file");
 		Utils.close(exceptions, utilizationFile, Optional.empty(), "utilization file");
 		Utils.close(exceptions, compatibilityVariablesFile, Optional.empty(), "compatibility variables file");
+		Utils.close(exceptions, binaryFile, Optional.empty(), "binary output file");
 		Utils.throwIfPresent(Utils.aggregateExceptionsAsSupressed(exceptions));
 	}
 }
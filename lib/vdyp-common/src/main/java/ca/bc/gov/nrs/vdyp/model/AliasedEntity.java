@@ -1,8 +1,9 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.util.Objects;
 
-public abstract class AliasedEntity {
+public abstract class AliasedEntity implements Serializable {
 
 	private final String alias;
 	private final String name;
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -13,7 +14,7 @@ import java.util.Optional;
  * @author Kevin Smith, Vivid Solutions
  *
  */
-public class BecLookup {
+public class BecLookup implements Serializable {
 
 	/**
 	 * Create a bec lookup
@@ -55,7 +56,7 @@ public class BecLookup {
 	 * @return
 	 */
 	public Collection<BecDefinition> getBecs() {
-		return this.becMap.values();
+		return Collections.unmodifiableCollection(this.becMap.values());
 	}
 
 	/**
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.List;
@@ -20,9 +21,10 @@ import ca.bc.gov.nrs.vdyp.common.IndexedFloatUnaryOperator;
  * @author Kevin Smith, Vivid Solutions
  *
  */
-public class Coefficients extends AbstractList<Float> implements List<Float> {
+public class Coefficients extends AbstractList<Float> implements List<Float>, Serializable {
 	private float[] coe;
 	private int indexFrom;
+	private boolean frozen;
 
 	public Coefficients(float[] coe, int indexFrom) {
 		this.coe = coe;
@@ -64,9 +66,30 @@ public class Coefficients extends AbstractList<Float> implements List<Float> {
 	}
 
 	public void setCoe(int i, float value) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Coefficients are read only");
+		}
 		coe[getRealIndex(i)] = value;
 	}
 
+	/**
+	 * Make these coefficients read only, so that they may be shared. Afterwards {@link #setCoe(int, float)} and the in
+	 * place operations throw {@link UnsupportedOperationException}.
+	 *
+	 * @return this object
+	 */
+	public Coefficients freeze() {
+		frozen = true;
+		return this;
+	}
+
+	/**
+	 * @return true if and only if these coefficients are read only
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
 	@Override
 	public int size() {
 		return coe.length;
@@ -241,6 +264,8 @@ public class Coefficients extends AbstractList<Float> implements List<Float> {
 	 * Returns a view of this coefficients object indexed from the given value.
 	 */
 	public Coefficients reindex(int indexFrom) {
-		return new Coefficients(this.coe, indexFrom);
+		var result = new Coefficients(this.coe, indexFrom);
+		result.frozen = frozen;
+		return result;
 	}
 }
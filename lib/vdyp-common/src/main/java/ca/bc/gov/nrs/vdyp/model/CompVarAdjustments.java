@@ -1,10 +1,11 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
 
-public class CompVarAdjustments {
+public class CompVarAdjustments implements Serializable {
 	public static final int MIN_INDEX = 1;
 	public static final int MAX_INDEX = 98;
 
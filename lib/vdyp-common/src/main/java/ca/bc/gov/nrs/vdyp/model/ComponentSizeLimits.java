@@ -1,9 +1,11 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
+
 public record ComponentSizeLimits(
 		float loreyHeightMaximum, //
 		float quadMeanDiameterMaximum, //
 		float minQuadMeanDiameterLoreyHeightRatio, //
 		float maxQuadMeanDiameterLoreyHeightRatio
-) {
+) implements Serializable {
 }
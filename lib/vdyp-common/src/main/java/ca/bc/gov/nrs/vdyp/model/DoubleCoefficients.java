@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.List;
@@ -22,9 +23,10 @@ import ca.bc.gov.nrs.vdyp.common.IndexedDoubleUnaryOperator;
  * @author Peter Minter, Vivid Solutions
  *
  */
-public class DoubleCoefficients extends AbstractList<Double> implements List<Double> {
+public class DoubleCoefficients extends AbstractList<Double> implements List<Double>, Serializable {
 	private double[] coe;
 	private int indexFrom;
+	private boolean frozen;
 
 	public DoubleCoefficients(double[] coe, int indexFrom) {
 		this.coe = coe;
@@ -66,9 +68,30 @@ public class DoubleCoefficients extends AbstractList<Double> implements List<Dou
 	}
 
 	public void setCoe(int i, double value) {
+		if (frozen) {
+			throw new UnsupportedOperationException("Coefficients are read only");
+		}
 		coe[getRealIndex(i)] = value;
 	}
 
+	/**
+	 * Make these coefficients read only, so that they may be shared. Afterwards {@link #setCoe(int, double)} and the
+	 * in place operations throw {@link UnsupportedOperationException}.
+	 *
+	 * @return this object
+	 */
+	public DoubleCoefficients freeze() {
+		frozen = true;
+		return this;
+	}
+
+	/**
+	 * @return true if and only if these coefficients are read only
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
 	@Override
 	public int size() {
 		return coe.length;
@@ -243,6 +266,8 @@ public class DoubleCoefficients extends AbstractList<Double> implements List<Dou
 	 * Returns a view of this coefficients object indexed from the given value.
 	 */
 	public DoubleCoefficients reindex(int indexFrom) {
-		return new DoubleCoefficients(this.coe, indexFrom);
+		var result = new DoubleCoefficients(this.coe, indexFrom);
+		result.frozen = frozen;
+		return result;
 	}
 }
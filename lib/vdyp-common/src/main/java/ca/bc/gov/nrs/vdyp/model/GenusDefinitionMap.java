@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -7,7 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class GenusDefinitionMap {
+public class GenusDefinitionMap implements Serializable {
 	private final Map<String, GenusDefinition> genusByAliasMap = new HashMap<>();
 	private final Map<String, Integer> indexByAliasMap = new HashMap<>();
 	private final Map<Integer, GenusDefinition> genusByIndexMap = new HashMap<>();
@@ -1,11 +1,12 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.List;
 
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 
-public class GrowthFiatDetails {
+public class GrowthFiatDetails implements Serializable {
 	private static final int N_AGES = 4;
 	private static final int N_MIXED_COEFFICIENTS = 3;
 	private static final int N_ENTRIES = N_AGES * 2 + N_MIXED_COEFFICIENTS;
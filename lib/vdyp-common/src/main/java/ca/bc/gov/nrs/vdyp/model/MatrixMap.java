@@ -1,6 +1,5 @@
 package ca.bc.gov.nrs.vdyp.model;
 
-import java.util.AbstractMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -8,7 +7,6 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * A mapping from the cartesian product of a set of arbitrary identifiers to a value.
@@ -51,7 +49,7 @@ public interface MatrixMap<T> {
 	 * Wraps a 1 dimensional MatrixMap as a regular Java Map.
 	 */
 	public static <K1, V> Map<K1, V> cast(MatrixMap<V> o) {
-		return cast(o, x -> x, x -> x);
+		return cast(o, MatrixMapAsMap.identity(), MatrixMapAsMap.identity());
 	}
 
 	/**
@@ -62,64 +60,7 @@ public interface MatrixMap<T> {
 
 		// Wrap it if it's not a MatrixMap3 but has 1 dimension
 		if (o.getNumDimensions() == 1) {
-			return new AbstractMap<K1, T>() {
-
-				@SuppressWarnings({ "unchecked", "rawtypes" })
-				@Override
-				public Set<Entry<K1, T>> entrySet() {
-					return (Set) o.getDimensions().get(0).stream().filter(k -> o.getM(k) != null)
-							.collect(Collectors.toMap(k -> k, k -> o.getM(k))).entrySet();
-				}
-
-				@Override
-				public int size() {
-					return o.getDimensions().get(0).size();
-				}
-
-				@Override
-				public boolean isEmpty() {
-					return o.isEmpty();
-				}
-
-				@Override
-				public boolean containsValue(Object value) {
-					@SuppressWarnings("unchecked")
-					var expected = toMatrixValue.apply((T) value);
-					return o.any(expected::equals);
-				}
-
-				@Override
-				public boolean containsKey(Object key) {
-					return o.getDimensions().get(0).contains(key);
-				}
-
-				@Override
-				public T get(Object key) {
-					if (o.getDimensions().get(0).contains(key)) {
-						return toMapValue.apply(o.getM(key));
-					}
-					return null;
-				}
-
-				@Override
-				public T put(K1 key, T value) {
-					var old = get(key);
-					o.putM(toMatrixValue.apply(value), key);
-					return old;
-				}
-
-				@Override
-				public T remove(Object key) {
-					return toMapValue.apply(o.remove(key));
-				}
-
-				@SuppressWarnings("unchecked")
-				@Override
-				public Set<K1> keySet() {
-					return (Set<K1>) o.getDimensions().get(0);
-				}
-
-			};
+			return new MatrixMapAsMap<>(o, toMapValue, toMatrixValue);
 		}
 
 		// Can't cast it if it doesn't have 1 dimensions
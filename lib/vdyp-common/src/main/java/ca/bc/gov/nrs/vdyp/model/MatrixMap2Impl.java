@@ -17,6 +17,25 @@ public class MatrixMap2Impl<K1, K2, V> extends MatrixMapImpl<V> implements Matri
 		}, Arrays.asList(dimension1, dimension2));
 	}
 
+	@Override
+	public V get(K1 key1, K2 key2) {
+		return getAt(index(key1, key2));
+	}
+
+	@Override
+	public void put(K1 key1, K2 key2, V value) {
+		putAt(index(key1, key2), value);
+	}
+
+	private int index(K1 key1, K2 key2) {
+		int ordinal1 = ordinal(0, key1);
+		int ordinal2 = ordinal(1, key2);
+		if (ordinal1 < 0 || ordinal2 < 0) {
+			throw invalidKey(key1, key2);
+		}
+		return offset(0, ordinal1) + offset(1, ordinal2);
+	}
+
 	/**
 	 * Default mapper function that maps all keys to an empty Optional
 	 */
@@ -19,6 +19,26 @@ public class MatrixMap3Impl<K1, K2, K3, V> extends MatrixMapImpl<V> implements M
 		}, Arrays.asList(dimension1, dimension2, dimension3));
 	}
 
+	@Override
+	public V get(K1 key1, K2 key2, K3 key3) {
+		return getAt(index(key1, key2, key3));
+	}
+
+	@Override
+	public void put(K1 key1, K2 key2, K3 key3, V value) {
+		putAt(index(key1, key2, key3), value);
+	}
+
+	private int index(K1 key1, K2 key2, K3 key3) {
+		int ordinal1 = ordinal(0, key1);
+		int ordinal2 = ordinal(1, key2);
+		int ordinal3 = ordinal(2, key3);
+		if (ordinal1 < 0 || ordinal2 < 0 || ordinal3 < 0) {
+			throw invalidKey(key1, key2, key3);
+		}
+		return offset(0, ordinal1) + offset(1, ordinal2) + offset(2, ordinal3);
+	}
+
 	@FunctionalInterface
 	public static interface TriFunction<P1, P2, P3, V> {
 		public V apply(P1 p1, P2 p2, P3 p3);
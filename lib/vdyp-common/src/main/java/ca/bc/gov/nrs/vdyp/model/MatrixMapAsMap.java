@@ -0,0 +1,99 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A 1 dimensional {@link MatrixMap} viewed as a regular Java Map. See {@link MatrixMap#cast(MatrixMap)}.
+ * <p>
+ * The view is serializable when the matrix map and the value conversions are, as they are for the identity conversion
+ * of {@link MatrixMap#cast(MatrixMap)}.
+ *
+ * @param <K1> the key type
+ * @param <V>  the value type of the matrix map
+ * @param <T>  the value type of the view
+ */
+class MatrixMapAsMap<K1, V, T> extends AbstractMap<K1, T> implements Serializable {
+
+	private enum Identity implements Function<Object, Object> {
+		INSTANCE;
+
+		@Override
+		public Object apply(Object x) {
+			return x;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <X> Function<X, X> identity() {
+		return (Function<X, X>) (Function<?, ?>) Identity.INSTANCE;
+	}
+
+	private final MatrixMap<V> o;
+	private final Function<V, T> toMapValue;
+	private final Function<T, V> toMatrixValue;
+
+	MatrixMapAsMap(MatrixMap<V> o, Function<V, T> toMapValue, Function<T, V> toMatrixValue) {
+		this.o = o;
+		this.toMapValue = toMapValue;
+		this.toMatrixValue = toMatrixValue;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public Set<Entry<K1, T>> entrySet() {
+		return (Set) o.getDimensions().get(0).stream().filter(k -> o.getM(k) != null)
+				.collect(Collectors.toMap(k -> k, k -> o.getM(k))).entrySet();
+	}
+
+	@Override
+	public int size() {
+		return o.getDimensions().get(0).size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return o.isEmpty();
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		@SuppressWarnings("unchecked")
+		var expected = toMatrixValue.apply((T) value);
+		return o.any(expected::equals);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return o.getDimensions().get(0).contains(key);
+	}
+
+	@Override
+	public T get(Object key) {
+		if (o.getDimensions().get(0).contains(key)) {
+			return toMapValue.apply(o.getM(key));
+		}
+		return null;
+	}
+
+	@Override
+	public T put(K1 key, T value) {
+		var old = get(key);
+		o.putM(toMatrixValue.apply(value), key);
+		return old;
+	}
+
+	@Override
+	public T remove(Object key) {
+		return toMapValue.apply(o.remove(key));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Set<K1> keySet() {
+		return (Set<K1>) o.getDimensions().get(0);
+	}
+}
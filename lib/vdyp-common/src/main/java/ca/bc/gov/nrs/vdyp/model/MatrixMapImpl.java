@@ -1,5 +1,8 @@
 package ca.bc.gov.nrs.vdyp.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -15,15 +18,29 @@ import java.util.stream.Collectors;
 
 /**
  * A mapping from the cartesian product of a set of arbitrary identifiers to a value.
+ * <p>
+ * Values are held in a single dense array. Each key is resolved to its ordinal within its dimension, and the ordinals
+ * are combined into an index into that array. Dimensions made up of the constants of a single enum (such as
+ * {@link Region} or {@link UtilizationClass}) are resolved through a table indexed by the constant's ordinal rather
+ * than by hashing. {@link MatrixMap2Impl} and {@link MatrixMap3Impl} resolve their typed keys without allocating a
+ * varargs array.
  *
  * @author Kevin Smith, Vivid Solutions
  *
  * @param <T>
  */
-public class MatrixMapImpl<T> implements MatrixMap<T> {
+public class MatrixMapImpl<T> implements MatrixMap<T>, Serializable {
 	private List<Map<Object, Integer>> maps;
 	private Object[] matrix;
-	private Function<Object[], T> defaultMapper;
+	// Not serialized; a deserialized map is restored with a mapper giving null, so removing a cell empties it.
+	private transient Function<Object[], T> defaultMapper;
+	private boolean frozen;
+
+	// Per dimension: the distance in the matrix between consecutive ordinals and, for dimensions consisting only of
+	// constants of one enum, that enum and a table from constant ordinal to dimension ordinal.
+	private int[] strides;
+	private Class<?>[] enumClasses;
+	private int[][] enumOrdinals;
 
 	public MatrixMapImpl(Function<Object[], T> defaultMapper, Collection<? extends Collection<?>> dimensions) {
 		this.defaultMapper = defaultMapper;
@@ -41,6 +58,19 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 		}).toList();
 		var matrixSize = maps.stream().map(Map::size).reduce(1, (x, y) -> x * y);
 		matrix = new Object[matrixSize];
+
+		int numDimensions = maps.size();
+		strides = new int[numDimensions];
+		enumClasses = new Class<?>[numDimensions];
+		enumOrdinals = new int[numDimensions][];
+		int stride = 1;
+		for (int i = 0; i < numDimensions; i++) {
+			var dim = maps.get(i);
+			strides[i] = stride;
+			stride *= dim.size();
+			buildEnumOrdinals(i, dim);
+		}
+
 		eachKey(k -> {
 			putM(defaultMapper.apply(k), k);
 		});
@@ -50,6 +80,26 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 		this(defaultValues, Arrays.asList(dimensions));
 	}
 
+	private void buildEnumOrdinals(int i, Map<Object, Integer> dim) {
+		Class<?> enumClass = null;
+		for (var key : dim.keySet()) {
+			if (! (key instanceof Enum<?> e) || (enumClass != null && e.getDeclaringClass() != enumClass)) {
+				return;
+			}
+			enumClass = e.getDeclaringClass();
+		}
+		if (enumClass == null) {
+			return;
+		}
+		var table = new int[enumClass.getEnumConstants().length];
+		Arrays.fill(table, -1);
+		for (var entry : dim.entrySet()) {
+			table[ ((Enum<?>) entry.getKey()).ordinal()] = entry.getValue();
+		}
+		enumClasses[i] = enumClass;
+		enumOrdinals[i] = table;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public T getM(Object... params) {
@@ -58,35 +108,102 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 
 	@Override
 	public void putM(T value, Object... params) {
+		checkNotFrozen();
 		matrix[getIndex(params)] = value;
 	}
 
+	/**
+	 * Make this map read only, so that it may be shared. Afterwards the methods that modify it throw
+	 * {@link UnsupportedOperationException}. The values themselves are not affected.
+	 *
+	 * @return this map
+	 */
+	public MatrixMapImpl<T> freeze() {
+		frozen = true;
+		return this;
+	}
+
+	/**
+	 * @return true if and only if this map is read only
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new UnsupportedOperationException("MatrixMap is read only");
+		}
+	}
+
+	/**
+	 * Get the ordinal of a key within a dimension.
+	 *
+	 * @param dimension the dimension, counting from 0
+	 * @param key       the key
+	 * @return the position of the key within the dimension, or -1 if the key is not part of the dimension
+	 */
+	protected final int ordinal(int dimension, Object key) {
+		var table = enumOrdinals[dimension];
+		if (table != null && key instanceof Enum<?> e && e.getDeclaringClass() == enumClasses[dimension]) {
+			return table[e.ordinal()];
+		}
+		Integer result = maps.get(dimension).get(key);
+		return result == null ? -1 : result;
+	}
+
+	/**
+	 * @return the offset in the matrix of the given ordinal, as returned by {@link #ordinal(int, Object)}, within the
+	 *         given dimension
+	 */
+	protected final int offset(int dimension, int ordinal) {
+		return strides[dimension] * ordinal;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected final T getAt(int index) {
+		return (T) matrix[index];
+	}
+
+	protected final void putAt(int index, T value) {
+		checkNotFrozen();
+		matrix[index] = value;
+	}
+
 	protected int getIndex(Object... params) {
-		return getIndexSafe(params).orElseThrow(() -> {
-			String keyString = Arrays.stream(params).map(Object::toString).collect(Collectors.joining(", ", "[", "]"));
-			return new IllegalArgumentException("Key " + keyString + " is invalid for this MatrixMap");
-		});
+		int index = findIndex(params);
+		if (index < 0) {
+			throw invalidKey(params);
+		}
+		return index;
 	}
 
 	protected Optional<Integer> getIndexSafe(Object... params) {
-		if (params.length != maps.size()) {
+		int index = findIndex(params);
+		return index < 0 ? Optional.empty() : Optional.of(index);
+	}
+
+	/**
+	 * @return the index in the matrix of the given keys, or -1 if any key is not part of its dimension
+	 */
+	private int findIndex(Object... params) {
+		if (params.length != strides.length) {
 			throw new IllegalArgumentException("MatrixMap requires parameters to equal the number of dimensions");
 		}
-		int i = 0;
 		int index = 0;
-		int step = 1;
-		for (var o : params) {
-			var dim = maps.get(i);
-			Integer dimIndex = dim.get(o);
-			if (dimIndex == null) {
-				return Optional.empty();
+		for (int i = 0; i < params.length; i++) {
+			int dimIndex = ordinal(i, params[i]);
+			if (dimIndex < 0) {
+				return -1;
 			}
-			index += step * dimIndex;
-
-			step *= dim.size();
-			i++;
+			index += strides[i] * dimIndex;
 		}
-		return Optional.of(index);
+		return index;
+	}
+
+	protected static IllegalArgumentException invalidKey(Object... params) {
+		String keyString = Arrays.stream(params).map(String::valueOf).collect(Collectors.joining(", ", "[", "]"));
+		return new IllegalArgumentException("Key " + keyString + " is invalid for this MatrixMap");
 	}
 
 	@SuppressWarnings("unchecked")
@@ -124,6 +241,7 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 
 	@Override
 	public void setAll(T value) {
+		checkNotFrozen();
 		Arrays.fill(matrix, value);
 	}
 
@@ -148,6 +266,7 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 
 	@Override
 	public T remove(Object... params) {
+		checkNotFrozen();
 		@SuppressWarnings("unchecked")
 		var old = (T) matrix[getIndex(params)];
 		matrix[getIndex(params)] = defaultMapper.apply(params);
@@ -159,6 +278,11 @@ public class MatrixMapImpl<T> implements MatrixMap<T> {
 		return this.getIndexSafe(params).isPresent();
 	}
 
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		defaultMapper = k -> null;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
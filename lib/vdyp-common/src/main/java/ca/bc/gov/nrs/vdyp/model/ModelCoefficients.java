@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.vdyp.model;
 
-public class ModelCoefficients {
+import java.io.Serializable;
+
+public class ModelCoefficients implements Serializable {
 	private final int model;
 	private final Coefficients coefficients;
 
@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.vdyp.model;
 
-public class StockingClassFactor {
+import java.io.Serializable;
+
+public class StockingClassFactor implements Serializable {
 
 	private final Character stk;
 	private final Region region;
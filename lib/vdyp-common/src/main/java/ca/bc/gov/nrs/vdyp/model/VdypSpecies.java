@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 
 import ca.bc.gov.nrs.vdyp.application.InitializationIncompleteException;
 import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.processing_state.CompatibilityVariables;
 
 public class VdypSpecies extends BaseVdypSpecies<VdypSite> implements VdypUtilizationHolder {
 
@@ -31,10 +32,7 @@ public class VdypSpecies extends BaseVdypSpecies<VdypSite> implements VdypUtiliz
 
 	// Compatibility Variables
 
-	private Optional<MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>> cvVolume = Optional.empty();
-	private Optional<MatrixMap2<UtilizationClass, LayerType, Float>> cvBasalArea = Optional.empty();
-	private Optional<MatrixMap2<UtilizationClass, LayerType, Float>> cvQuadraticMeanDiameter = Optional.empty();
-	private Optional<Map<UtilizationClassVariable, Float>> cvPrimaryLayerSmall = Optional.empty();
+	private Optional<CompatibilityVariables.Slice> compatibilityVariables = Optional.empty();
 
 	public VdypSpecies(
 			PolygonIdentifier polygonIdentifier, LayerType layer, String genus, int genusIndex,
@@ -205,47 +203,44 @@ public class VdypSpecies extends BaseVdypSpecies<VdypSite> implements VdypUtiliz
 		this.closeUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization = closeUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization;
 	}
 
+	@SuppressWarnings("unchecked")
 	public void setCompatibilityVariables(
 			MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float> cvVolume,
 			MatrixMap2<UtilizationClass, LayerType, Float> cvBasalArea,
 			MatrixMap2<UtilizationClass, LayerType, Float> cvQuadraticMeanDiameter,
 			Map<UtilizationClassVariable, Float> cvPrimaryLayerSmall
 	) {
+		var compatibilityVariablesOfSpecies = CompatibilityVariables.of(
+				new MatrixMap3[] { null, cvVolume }, new MatrixMap2[] { null, cvBasalArea },
+				new MatrixMap2[] { null, cvQuadraticMeanDiameter }, new Map[] { null, cvPrimaryLayerSmall }
+		);
+		setCompatibilityVariables(compatibilityVariablesOfSpecies.slice(1));
+	}
 
-		this.cvVolume = Optional.of(cvVolume);
-		this.cvBasalArea = Optional.of(cvBasalArea);
-		this.cvQuadraticMeanDiameter = Optional.of(cvQuadraticMeanDiameter);
-		this.cvPrimaryLayerSmall = Optional.of(cvPrimaryLayerSmall);
+	public void setCompatibilityVariables(CompatibilityVariables.Slice compatibilityVariables) {
+		this.compatibilityVariables = Optional.of(compatibilityVariables);
+	}
+
+	private CompatibilityVariables.Slice requireCompatibilityVariables(String name) {
+		return compatibilityVariables.orElseThrow(
+				() -> new InitializationIncompleteException(MessageFormat.format("Species {0}: {1}", this, name))
+		);
 	}
 
 	public float getCvVolume(UtilizationClass uc, VolumeVariable vv, LayerType lt) {
-		if (cvVolume.isEmpty()) {
-			throw new InitializationIncompleteException(MessageFormat.format("Species {0}: cvVolume", this));
-		}
-		return cvVolume.get().get(uc, vv, lt);
+		return requireCompatibilityVariables("cvVolume").getVolume(uc, vv, lt);
 	}
 
 	public float getCvBasalArea(UtilizationClass uc, LayerType lt) {
-		if (cvBasalArea.isEmpty()) {
-			throw new InitializationIncompleteException(MessageFormat.format("Species {0}: cvBasalArea", this));
-		}
-		return cvBasalArea.get().get(uc, lt);
+		return requireCompatibilityVariables("cvBasalArea").getBasalArea(uc, lt);
 	}
 
 	public float getCvQuadraticMeanDiameter(UtilizationClass uc, LayerType lt) {
-		if (cvQuadraticMeanDiameter.isEmpty()) {
-			throw new InitializationIncompleteException(
-					MessageFormat.format("Species {0}: cvQuadraticMeanDiameter", this)
-			);
-		}
-		return cvQuadraticMeanDiameter.get().get(uc, lt);
+		return requireCompatibilityVariables("cvQuadraticMeanDiameter").getQuadMeanDiameter(uc, lt);
 	}
 
 	public float getCvPrimaryLayerSmall(UtilizationClassVariable ucv) {
-		if (cvPrimaryLayerSmall.isEmpty()) {
-			throw new InitializationIncompleteException(MessageFormat.format("Species {0}: cvPrimaryLayerSmall", this));
-		}
-		return cvPrimaryLayerSmall.get().get(ucv);
+		return requireCompatibilityVariables("cvPrimaryLayerSmall").getSmall(ucv);
 	}
 
 	/**
@@ -533,10 +528,7 @@ public class VdypSpecies extends BaseVdypSpecies<VdypSite> implements VdypUtiliz
 				closeUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization
 		);
 
-		Dumpable.writeProperty(output, indent + 1, "cvVolume", cvVolume);
-		Dumpable.writeProperty(output, indent + 1, "cvBasalArea", cvBasalArea);
-		Dumpable.writeProperty(output, indent + 1, "cvQuadraticMeanDiameter", cvQuadraticMeanDiameter);
-		Dumpable.writeProperty(output, indent + 1, "cvPrimaryLayerSmall", cvPrimaryLayerSmall);
+		Dumpable.writeProperty(output, indent + 1, "compatibilityVariables", compatibilityVariables);
 
 	}
 }
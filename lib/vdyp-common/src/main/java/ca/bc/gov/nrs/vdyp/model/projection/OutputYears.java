@@ -0,0 +1,99 @@
+package ca.bc.gov.nrs.vdyp.model.projection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * The years of a projection whose results are to be written (control file entry 102, which has no VDYP7 equivalent.)
+ * <p>
+ * In a control file, the years are given as a space-separated list of items, each of which is either a single year
+ * ("2025"), a range of consecutive years ("2020-2025") or a range of years with an increment ("1990-2090/10", meaning
+ * 1990, 2000, ..., 2090).
+ */
+public class OutputYears {
+
+	private final SortedSet<Integer> years;
+
+	private OutputYears(SortedSet<Integer> years) {
+		if (years.isEmpty()) {
+			throw new IllegalArgumentException("At least one output year must be given");
+		}
+		this.years = years;
+	}
+
+	public static OutputYears of(Collection<Integer> years) {
+		return new OutputYears(new TreeSet<>(years));
+	}
+
+	public boolean contains(int year) {
+		return years.contains(year);
+	}
+
+	public int getFirstYear() {
+		return years.first();
+	}
+
+	public int getLastYear() {
+		return years.last();
+	}
+
+	public SortedSet<Integer> getYears() {
+		return years;
+	}
+
+	/**
+	 * @return the years in the form in which they are given in a control file. Runs of three or more years with a
+	 *         common increment are given as ranges.
+	 */
+	public String toControlString() {
+
+		var sortedYears = new ArrayList<>(years);
+		List<String> items = new ArrayList<>();
+
+		int i = 0;
+		while (i < sortedYears.size()) {
+			int first = sortedYears.get(i);
+
+			int j = i;
+			if (i + 2 < sortedYears.size()) {
+				int increment = sortedYears.get(i + 1) - first;
+				while (j + 1 < sortedYears.size() && sortedYears.get(j + 1) - sortedYears.get(j) == increment) {
+					j += 1;
+				}
+				if (j - i < 2) {
+					j = i;
+				}
+			}
+
+			if (j == i) {
+				items.add(Integer.toString(first));
+			} else {
+				int last = sortedYears.get(j);
+				int increment = sortedYears.get(i + 1) - first;
+				items.add(increment == 1 ? first + "-" + last : first + "-" + last + "/" + increment);
+			}
+
+			i = j + 1;
+		}
+
+		return String.join(" ", items);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof OutputYears that && years.equals(that.years);
+	}
+
+	@Override
+	public int hashCode() {
+		return years.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return toControlString();
+	}
+}
@@ -0,0 +1,199 @@
+package ca.bc.gov.nrs.vdyp.processing_state;
+
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClassVariable;
+import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
+
+/**
+ * The compatibility variables of a layer (LCV1 and LCVS), held in a single float array indexed by species,
+ * utilization class, variable and layer type. As with {@link Bank}, species are indexed from 1; index 0 is present
+ * but unused. Every value is initially 0.
+ * <p>
+ * {@link #slice(int)} gives a view of the values of one species that reads through to this store, so that it sees
+ * any later updates.
+ */
+public class CompatibilityVariables {
+
+	private static final int N_UTILIZATION_CLASSES = UtilizationClass.values().length;
+	private static final int N_LAYER_TYPES = LayerType.values().length;
+
+	private static final int BASAL_AREA_VARIABLE = VolumeVariable.values().length;
+	private static final int QUAD_MEAN_DIAMETER_VARIABLE = BASAL_AREA_VARIABLE + 1;
+	private static final int N_VARIABLES = QUAD_MEAN_DIAMETER_VARIABLE + 1;
+
+	private static final int SMALL_OFFSET = N_UTILIZATION_CLASSES * N_VARIABLES * N_LAYER_TYPES;
+	private static final int SPECIES_STRIDE = SMALL_OFFSET + UtilizationClassVariable.values().length;
+
+	private final int nSpecies;
+	private final float[] values;
+
+	public CompatibilityVariables(int nSpecies) {
+		this.nSpecies = nSpecies;
+		this.values = new float[ (nSpecies + 1) * SPECIES_STRIDE];
+	}
+
+	/**
+	 * Create a store from compatibility variables held in per-species maps. Index 0 of each array, and any entry that
+	 * is absent or null, is ignored.
+	 */
+	public static CompatibilityVariables of(
+			MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume,
+			MatrixMap2<UtilizationClass, LayerType, Float>[] cvBasalArea,
+			MatrixMap2<UtilizationClass, LayerType, Float>[] cvQuadraticMeanDiameter,
+			Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall
+	) {
+		var result = new CompatibilityVariables(cvVolume.length - 1);
+
+		for (int s = 1; s < cvVolume.length; s++) {
+			final int speciesIndex = s;
+			if (cvVolume[s] != null) {
+				var map = cvVolume[s];
+				map.eachKey(k -> {
+					Float value = map.getM(k);
+					if (value != null) {
+						result.setVolume(
+								speciesIndex, (UtilizationClass) k[0], (VolumeVariable) k[1], (LayerType) k[2], value
+						);
+					}
+				});
+			}
+			if (cvBasalArea[s] != null) {
+				var map = cvBasalArea[s];
+				map.eachKey(k -> {
+					Float value = map.getM(k);
+					if (value != null) {
+						result.setBasalArea(speciesIndex, (UtilizationClass) k[0], (LayerType) k[1], value);
+					}
+				});
+			}
+			if (cvQuadraticMeanDiameter[s] != null) {
+				var map = cvQuadraticMeanDiameter[s];
+				map.eachKey(k -> {
+					Float value = map.getM(k);
+					if (value != null) {
+						result.setQuadMeanDiameter(speciesIndex, (UtilizationClass) k[0], (LayerType) k[1], value);
+					}
+				});
+			}
+			if (cvPrimaryLayerSmall[s] != null) {
+				for (var e : cvPrimaryLayerSmall[s].entrySet()) {
+					if (e.getValue() != null) {
+						result.setSmall(speciesIndex, e.getKey(), e.getValue());
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	public int getNSpecies() {
+		return nSpecies;
+	}
+
+	private static int index(int speciesIndex, UtilizationClass uc, int variable, LayerType layerType) {
+		return speciesIndex * SPECIES_STRIDE + (uc.ordinal() * N_VARIABLES + variable) * N_LAYER_TYPES
+				+ layerType.ordinal();
+	}
+
+	private static int smallIndex(int speciesIndex, UtilizationClassVariable variable) {
+		return speciesIndex * SPECIES_STRIDE + SMALL_OFFSET + variable.ordinal();
+	}
+
+	public float getVolume(int speciesIndex, UtilizationClass uc, VolumeVariable vv, LayerType layerType) {
+		return values[index(speciesIndex, uc, vv.ordinal(), layerType)];
+	}
+
+	public void setVolume(int speciesIndex, UtilizationClass uc, VolumeVariable vv, LayerType layerType, float value) {
+		values[index(speciesIndex, uc, vv.ordinal(), layerType)] = value;
+	}
+
+	public float getBasalArea(int speciesIndex, UtilizationClass uc, LayerType layerType) {
+		return values[index(speciesIndex, uc, BASAL_AREA_VARIABLE, layerType)];
+	}
+
+	public void setBasalArea(int speciesIndex, UtilizationClass uc, LayerType layerType, float value) {
+		values[index(speciesIndex, uc, BASAL_AREA_VARIABLE, layerType)] = value;
+	}
+
+	public float getQuadMeanDiameter(int speciesIndex, UtilizationClass uc, LayerType layerType) {
+		return values[index(speciesIndex, uc, QUAD_MEAN_DIAMETER_VARIABLE, layerType)];
+	}
+
+	public void setQuadMeanDiameter(int speciesIndex, UtilizationClass uc, LayerType layerType, float value) {
+		values[index(speciesIndex, uc, QUAD_MEAN_DIAMETER_VARIABLE, layerType)] = value;
+	}
+
+	public float getSmall(int speciesIndex, UtilizationClassVariable variable) {
+		return values[smallIndex(speciesIndex, variable)];
+	}
+
+	public void setSmall(int speciesIndex, UtilizationClassVariable variable, float value) {
+		values[smallIndex(speciesIndex, variable)] = value;
+	}
+
+	/**
+	 * @param speciesIndex the index of a species
+	 * @return a view of the compatibility variables of the given species. Nothing is copied.
+	 */
+	public Slice slice(int speciesIndex) {
+		if (speciesIndex < 1 || speciesIndex > nSpecies) {
+			throw new IllegalArgumentException("Species index " + speciesIndex + " is out of range 1.." + nSpecies);
+		}
+		return new Slice(speciesIndex);
+	}
+
+	/**
+	 * The compatibility variables of a single species of a {@link CompatibilityVariables} store.
+	 */
+	public class Slice {
+
+		private final int speciesIndex;
+
+		private Slice(int speciesIndex) {
+			this.speciesIndex = speciesIndex;
+		}
+
+		public float getVolume(UtilizationClass uc, VolumeVariable vv, LayerType layerType) {
+			return CompatibilityVariables.this.getVolume(speciesIndex, uc, vv, layerType);
+		}
+
+		public float getBasalArea(UtilizationClass uc, LayerType layerType) {
+			return CompatibilityVariables.this.getBasalArea(speciesIndex, uc, layerType);
+		}
+
+		public float getQuadMeanDiameter(UtilizationClass uc, LayerType layerType) {
+			return CompatibilityVariables.this.getQuadMeanDiameter(speciesIndex, uc, layerType);
+		}
+
+		public float getSmall(UtilizationClassVariable variable) {
+			return CompatibilityVariables.this.getSmall(speciesIndex, variable);
+		}
+
+		@Override
+		public String toString() {
+			var sb = new StringBuilder("{");
+			for (var uc : UtilizationClass.UTIL_CLASSES) {
+				sb.append(uc.name()).append(": {");
+				for (var vv : VolumeVariable.values()) {
+					sb.append(vv.name()).append(": ").append(getVolume(uc, vv, LayerType.PRIMARY)).append(", ");
+				}
+				sb.append("BASAL_AREA: ").append(getBasalArea(uc, LayerType.PRIMARY)).append(", ");
+				sb.append("QUAD_MEAN_DIAMETER: ").append(getQuadMeanDiameter(uc, LayerType.PRIMARY)).append("}, ");
+			}
+			sb.append("SMALL: {");
+			for (var ucv : UtilizationClassVariable.values()) {
+				sb.append(ucv.name()).append(": ").append(getSmall(ucv));
+				if (ucv.ordinal() < UtilizationClassVariable.values().length - 1) {
+					sb.append(", ");
+				}
+			}
+			return sb.append("}}").toString();
+		}
+	}
+}
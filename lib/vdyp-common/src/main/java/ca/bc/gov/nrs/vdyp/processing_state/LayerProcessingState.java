@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.vdyp.processing_state;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -79,10 +80,7 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 	// Compatibility Variables - LCV1 & LCVS
 	private boolean areCompatibilityVariablesSet = false;
 
-	private MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume;
-	private MatrixMap2<UtilizationClass, LayerType, Float>[] cvBasalArea;
-	private MatrixMap2<UtilizationClass, LayerType, Float>[] cvQuadraticMeanDiameter;
-	private Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall;
+	private CompatibilityVariables compatibilityVariables;
 
 	protected int primarySpeciesIndex;
 
@@ -190,22 +188,33 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 
 	protected abstract VdypLayer updateLayerFromBank();
 
+	public void setCompatibilityVariableDetails(CompatibilityVariables compatibilityVariables) {
+		if (areCompatibilityVariablesSet) {
+			throw new IllegalStateException(COMPATIBILITY_VARIABLES_SET_CAN_BE_SET_ONCE_ONLY);
+		}
+
+		this.compatibilityVariables = compatibilityVariables;
+
+		areCompatibilityVariablesSet = true;
+	}
+
 	public void setCompatibilityVariableDetails(
 			MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume,
 			MatrixMap2<UtilizationClass, LayerType, Float>[] cvBasalArea,
 			MatrixMap2<UtilizationClass, LayerType, Float>[] cvQuadraticMeanDiameter,
 			Map<UtilizationClassVariable, Float>[] cvPrimaryLayerSmall
 	) {
-		if (areCompatibilityVariablesSet) {
-			throw new IllegalStateException(COMPATIBILITY_VARIABLES_SET_CAN_BE_SET_ONCE_ONLY);
-		}
+		setCompatibilityVariableDetails(
+				CompatibilityVariables.of(cvVolume, cvBasalArea, cvQuadraticMeanDiameter, cvPrimaryLayerSmall)
+		);
+	}
 
-		this.cvVolume = cvVolume;
-		this.cvBasalArea = cvBasalArea;
-		this.cvQuadraticMeanDiameter = cvQuadraticMeanDiameter;
-		this.cvPrimaryLayerSmall = cvPrimaryLayerSmall;
+	public CompatibilityVariables getCompatibilityVariables() {
+		if (!areCompatibilityVariablesSet) {
+			throw new IllegalStateException(UNSET_CV_VOLUMES);
+		}
 
-		areCompatibilityVariablesSet = true;
+		return compatibilityVariables;
 	}
 
 	public float
@@ -214,7 +223,7 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 			throw new IllegalStateException(UNSET_CV_VOLUMES);
 		}
 
-		return cvVolume[speciesIndex].get(uc, volumeVariable, layerType);
+		return compatibilityVariables.getVolume(speciesIndex, uc, volumeVariable, layerType);
 	}
 
 	public float getCVBasalArea(int speciesIndex, UtilizationClass uc, LayerType layerType) {
@@ -222,7 +231,7 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 			throw new IllegalStateException(UNSET_CV_BASAL_AREAS);
 		}
 
-		return cvBasalArea[speciesIndex].get(uc, layerType);
+		return compatibilityVariables.getBasalArea(speciesIndex, uc, layerType);
 	}
 
 	public float getCVQuadraticMeanDiameter(int speciesIndex, UtilizationClass uc, LayerType layerType) {
@@ -230,7 +239,7 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 			throw new IllegalStateException(UNSET_CV_BASAL_AREAS);
 		}
 
-		return cvQuadraticMeanDiameter[speciesIndex].get(uc, layerType);
+		return compatibilityVariables.getQuadMeanDiameter(speciesIndex, uc, layerType);
 	}
 
 	public float getCVSmall(int speciesIndex, UtilizationClassVariable variable) {
@@ -238,7 +247,7 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 			throw new IllegalStateException(UNSET_CV_BASAL_AREAS);
 		}
 
-		return cvPrimaryLayerSmall[speciesIndex].get(variable);
+		return compatibilityVariables.getSmall(speciesIndex, variable);
 	}
 
 	/**
@@ -253,23 +262,21 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 	protected void updateCompatibilityVariables(
 			SmallCVUpdate smallUpdate, OtherCVUpdate baUpdate, OtherCVUpdate dqUpdate, VolumeCVUpdate volUpdate
 	) {
+		final var cvs = compatibilityVariables;
+		final var primary = LayerType.PRIMARY;
+
 		for (int i : getIndices()) {
 			for (UtilizationClassVariable sucv : UtilizationClassVariable.values()) {
-				cvPrimaryLayerSmall[i].put(sucv, smallUpdate.apply(cvPrimaryLayerSmall[i].get(sucv), sucv, i));
+				cvs.setSmall(i, sucv, smallUpdate.apply(cvs.getSmall(i, sucv), sucv, i));
 			}
 			for (UtilizationClass uc : UtilizationClass.UTIL_CLASSES) {
-				cvBasalArea[i]
-						.put(uc, LayerType.PRIMARY, baUpdate.apply(cvBasalArea[i].get(uc, LayerType.PRIMARY), uc, i));
-				cvQuadraticMeanDiameter[i].put(
-						uc, LayerType.PRIMARY,
-						dqUpdate.apply(cvQuadraticMeanDiameter[i].get(uc, LayerType.PRIMARY), uc, i)
+				cvs.setBasalArea(i, uc, primary, baUpdate.apply(cvs.getBasalArea(i, uc, primary), uc, i));
+				cvs.setQuadMeanDiameter(
+						i, uc, primary, dqUpdate.apply(cvs.getQuadMeanDiameter(i, uc, primary), uc, i)
 				);
 
 				for (VolumeVariable vv : VolumeVariable.ALL) {
-					cvVolume[i].put(
-							uc, vv, LayerType.PRIMARY,
-							volUpdate.apply(cvVolume[i].get(uc, vv, LayerType.PRIMARY), uc, vv, i)
-					);
+					cvs.setVolume(i, uc, vv, primary, volUpdate.apply(cvs.getVolume(i, uc, vv, primary), uc, vv, i));
 				}
 			}
 		}
@@ -280,13 +287,22 @@ public abstract class LayerProcessingState<Self extends LayerProcessingState<Sel
 	}
 
 	protected void applyCompatibilityVariablesToSpecies(int i, VdypSpecies species) {
-		species.setCompatibilityVariables(
-				cvVolume[i], cvBasalArea[i], cvQuadraticMeanDiameter[i], cvPrimaryLayerSmall[i]
-		);
+		species.setCompatibilityVariables(compatibilityVariables.slice(i));
 	}
 
+	/**
+	 * @return a copy of the small component compatibility variables, by species index
+	 */
+	@SuppressWarnings("unchecked")
 	public Map<UtilizationClassVariable, Float>[] getCvPrimaryLayerSmall() {
-		return this.cvPrimaryLayerSmall;
+		Map<UtilizationClassVariable, Float>[] result = new Map[getNSpecies() + 1];
+		for (int i : getIndices()) {
+			result[i] = new EnumMap<>(UtilizationClassVariable.class);
+			for (var ucv : UtilizationClassVariable.values()) {
+				result[i].put(ucv, compatibilityVariables.getSmall(i, ucv));
+			}
+		}
+		return result;
 	}
 
 	final void requireRankingDetails(String fieldName) throws IllegalStateException {
@@ -13,7 +13,6 @@ import static ca.bc.gov.nrs.vdyp.model.VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY;
 import static ca.bc.gov.nrs.vdyp.model.VolumeVariable.CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE;
 import static ca.bc.gov.nrs.vdyp.model.VolumeVariable.WHOLE_STEM_VOL;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.asFloat;
-import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.causedBy;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.closeTo;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.hasMessage;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.mmHasEntry;
@@ -28,13 +27,13 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notANumber;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +41,7 @@ import java.util.Optional;
 
 import org.easymock.Capture;
 import org.easymock.EasyMock;
+import org.easymock.IAnswer;
 import org.easymock.IMocksControl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -70,6 +70,7 @@ import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3Impl;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
@@ -80,6 +81,7 @@ import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingControlVariables;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingDebugSettings;
 import ca.bc.gov.nrs.vdyp.processing_state.Bank;
+import ca.bc.gov.nrs.vdyp.processing_state.CompatibilityVariables;
 import ca.bc.gov.nrs.vdyp.processing_state.LayerProcessingState;
 import ca.bc.gov.nrs.vdyp.processing_state.PrimarySpeciesDetails;
 import ca.bc.gov.nrs.vdyp.processing_state.ProcessingState;
@@ -88,17 +90,39 @@ import ca.bc.gov.nrs.vdyp.processing_state.SpeciesRankingDetails;
 import ca.bc.gov.nrs.vdyp.processing_state.TestLayerProcessingState;
 import ca.bc.gov.nrs.vdyp.processing_state.TestProcessingState;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.CurveErrorException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.LessThan13Exception;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.SpeciesErrorException;
 import ca.bc.gov.nrs.vdyp.test.TestUtils;
 import ca.bc.gov.nrs.vdyp.test.VdypMatchers;
 
 class ProcessingEngineTest {
+
+	static SiteIndexResult anyResult() {
+		return EasyMock.anyObject(SiteIndexResult.class);
+	}
+
+	/**
+	 * Answer for the mocked site index wrappers that stores the given value in the result argument.
+	 */
+	static IAnswer<SiteIndexStatus> siteIndexValue(double value) {
+		return () -> resultArgument().set(value);
+	}
+
+	/**
+	 * Answer for the mocked site index wrappers that records the given failure in the result argument.
+	 */
+	static IAnswer<SiteIndexStatus> siteIndexFailure(SiteIndexStatus status) {
+		return () -> resultArgument().fail(status, "Test");
+	}
+
+	private static SiteIndexResult resultArgument() {
+		var args = EasyMock.getCurrentArguments();
+		return (SiteIndexResult) args[args.length - 1];
+	}
+
 	@Nested
 	class CalculateMissingSiteCurve {
 		@Test
@@ -793,10 +817,12 @@ class ProcessingEngineTest {
 				@Test
 				void testSuccess() throws Exception {
 
-					unit.convertSiteIndexBetweenCurves(
-							SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
-					);
-					EasyMock.expectLastCall().andStubReturn(64.0);
+					EasyMock.expect(
+							unit.convertSiteIndexBetweenCurves(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0),
+									EasyMock.eq(SiteIndexEquation.SI_ACT_THROWER), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(64.0));
 
 					em.replay();
 
@@ -814,10 +840,12 @@ class ProcessingEngineTest {
 				@Test
 				void testNoAnswer() throws Exception {
 
-					unit.convertSiteIndexBetweenCurves(
-							SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
-					);
-					EasyMock.expectLastCall().andThrow(new NoAnswerException());
+					EasyMock.expect(
+							unit.convertSiteIndexBetweenCurves(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0),
+									EasyMock.eq(SiteIndexEquation.SI_ACT_THROWER), anyResult()
+							)
+					).andAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_NO_ANS));
 
 					em.replay();
 
@@ -835,11 +863,12 @@ class ProcessingEngineTest {
 				@Test
 				void testCurveError() throws Exception {
 
-					unit.convertSiteIndexBetweenCurves(
-							SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
-					);
-					final CurveErrorException cause = new CurveErrorException();
-					EasyMock.expectLastCall().andThrow(cause);
+					EasyMock.expect(
+							unit.convertSiteIndexBetweenCurves(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0),
+									EasyMock.eq(SiteIndexEquation.SI_ACT_THROWER), anyResult()
+							)
+					).andAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_CURVE));
 
 					em.replay();
 
@@ -849,7 +878,7 @@ class ProcessingEngineTest {
 									SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
 							)
 					);
-					assertThat(ex, causedBy(sameInstance(cause)));
+					assertThat(ex, hasMessage(containsString("SI_ERR_CURVE")));
 
 					em.verify();
 				}
@@ -857,11 +886,12 @@ class ProcessingEngineTest {
 				@Test
 				void testSpeciesError() throws Exception {
 
-					unit.convertSiteIndexBetweenCurves(
-							SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
-					);
-					final SpeciesErrorException cause = new SpeciesErrorException();
-					EasyMock.expectLastCall().andThrow(cause);
+					EasyMock.expect(
+							unit.convertSiteIndexBetweenCurves(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0),
+									EasyMock.eq(SiteIndexEquation.SI_ACT_THROWER), anyResult()
+							)
+					).andAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_SPEC));
 
 					em.replay();
 
@@ -871,7 +901,7 @@ class ProcessingEngineTest {
 									SiteIndexEquation.SI_ACB_HUANG, 42.0, SiteIndexEquation.SI_ACT_THROWER
 							)
 					);
-					assertThat(ex, causedBy(sameInstance(cause)));
+					assertThat(ex, hasMessage(containsString("SI_ERR_SPEC")));
 
 					em.verify();
 				}
@@ -1365,7 +1395,11 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(4)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubReturn(2.3);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(2.3));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, invalidValue);
@@ -1391,7 +1425,11 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(1)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubReturn(0.0);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(0.0));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, Float.NaN);
@@ -1418,7 +1456,11 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(4)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubReturn(2.3);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(2.3));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 42f);
@@ -1438,12 +1480,15 @@ class ProcessingEngineTest {
 				}
 
 				@Test
-				void testWrapCommonCalculatorException() throws ProcessingException, CommonCalculatorException {
+				void testWrapSiteIndexFailure() throws ProcessingException, CommonCalculatorException {
 
 					EasyMock.expect(lps.getSiteCurveNumber(1)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					var cause = new CurveErrorException();
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubThrow(cause);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_CURVE));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, Float.NaN);
@@ -1460,7 +1505,7 @@ class ProcessingEngineTest {
 							)
 					);
 
-					assertThat(ex, causedBy(is(cause)));
+					assertThat(ex, hasMessage(containsString("SI_ERR_CURVE")));
 
 					em.verify();
 				}
@@ -1472,7 +1517,11 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(3)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubReturn(2.3);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(2.3));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 42f);
@@ -1498,7 +1547,11 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(3)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					EasyMock.expect(unit.yearsToBreastHeight(SiteIndexEquation.SI_ACB_HUANG, 42.0)).andStubReturn(2.3);
+					EasyMock.expect(
+							unit.yearsToBreastHeight(
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(42.0), anyResult()
+							)
+					).andStubAnswer(siteIndexValue(2.3));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 42f);
@@ -1532,14 +1585,18 @@ class ProcessingEngineTest {
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_BREAST, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_BREAST), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(60.0);
+					).andStubAnswer(siteIndexValue(60.0));
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_TOTAL, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_TOTAL), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(62.0);
+					).andStubAnswer(siteIndexValue(62.0));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, invalidValue);
@@ -1576,14 +1633,18 @@ class ProcessingEngineTest {
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_BREAST, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_BREAST), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(60.0);
+					).andStubAnswer(siteIndexValue(60.0));
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_TOTAL, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_TOTAL), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(62.0);
+					).andStubAnswer(siteIndexValue(62.0));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 42f);
@@ -1618,14 +1679,18 @@ class ProcessingEngineTest {
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_BREAST, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_BREAST), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(60.0);
+					).andStubAnswer(siteIndexValue(60.0));
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_TOTAL, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_TOTAL), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubReturn(62.0);
+					).andStubAnswer(siteIndexValue(62.0));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 13f);
@@ -1656,12 +1721,13 @@ class ProcessingEngineTest {
 
 					EasyMock.expect(lps.getSiteCurveNumber(3)).andStubReturn(17);
 					EasyMock.expect(unit.getSiteIndexEquationByIndex(17)).andStubReturn(SiteIndexEquation.SI_ACB_HUANG);
-					var cause = new LessThan13Exception();
 					EasyMock.expect(
 							unit.heightAndSiteIndexToAge(
-									SiteIndexEquation.SI_ACB_HUANG, 25f, SiteIndexAgeType.SI_AT_BREAST, 42f, 1.5f
+									EasyMock.eq(SiteIndexEquation.SI_ACB_HUANG), EasyMock.eq(25.0),
+									EasyMock.eq(SiteIndexAgeType.SI_AT_BREAST), EasyMock.eq(42.0), EasyMock.eq(1.5),
+									anyResult()
 							)
-					).andStubThrow(cause);
+					).andStubAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_LT13));
 					em.replay();
 
 					Arrays.fill(bank.siteIndices, 13f);
@@ -1678,7 +1744,7 @@ class ProcessingEngineTest {
 							() -> unit.estimateAgesFromHeightAndSiteIndex(lps, bank, 3, SpeciesToApplyTo.PRIMARY)
 					);
 
-					assertThat(ex, causedBy(is(cause)));
+					assertThat(ex, hasMessage(containsString("SI_ERR_LT13")));
 
 					em.verify();
 				}
@@ -1907,9 +1973,10 @@ class ProcessingEngineTest {
 			EasyMock.expect(unit.getSiteIndexEquationByIndex(122)).andStubReturn(SiteIndexEquation.SI_CWC_NIGH);
 			EasyMock.expect(
 					unit.convertSiteIndexBetweenCurves(
-							SiteIndexEquation.SI_CWC_NIGH, 34.0, SiteIndexEquation.SI_CWC_NIGH
+							EasyMock.eq(SiteIndexEquation.SI_CWC_NIGH), EasyMock.eq(34.0),
+							EasyMock.eq(SiteIndexEquation.SI_CWC_NIGH), anyResult()
 					)
-			).andStubThrow(new NoAnswerException());
+			).andStubAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_NO_ANS));
 
 			Capture<PrimarySpeciesDetails> detailsCapture = EasyMock.newCapture();
 
@@ -2142,11 +2209,14 @@ class ProcessingEngineTest {
 				EasyMock.expect(unit.getSiteIndexEquationByIndex(2)).andStubReturn(SiteIndexEquation.SI_AT_HUANG);
 				EasyMock.expect(
 						unit.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_AT_HUANG, 34.0, SiteIndexEquation.SI_SW_HUANG_PLA
+								EasyMock.eq(SiteIndexEquation.SI_AT_HUANG), EasyMock.eq(34.0),
+								EasyMock.eq(SiteIndexEquation.SI_SW_HUANG_PLA), anyResult()
 						)
-				).andStubReturn(
-						SiteTool.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_AT_HUANG, 34.0, SiteIndexEquation.SI_SW_HUANG_PLA
+				).andStubAnswer(
+						siteIndexValue(
+								SiteTool.convertSiteIndexBetweenCurves(
+										SiteIndexEquation.SI_AT_HUANG, 34.0, SiteIndexEquation.SI_SW_HUANG_PLA
+								)
 						)
 				);
 
@@ -2175,9 +2245,10 @@ class ProcessingEngineTest {
 				EasyMock.expect(unit.getSiteIndexEquationByIndex(13)).andStubReturn(SiteIndexEquation.SI_DR_NIGH);
 				EasyMock.expect(
 						unit.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_CWC_NIGH, 34.0, SiteIndexEquation.SI_DR_NIGH
+								EasyMock.eq(SiteIndexEquation.SI_CWC_NIGH), EasyMock.eq(34.0),
+								EasyMock.eq(SiteIndexEquation.SI_DR_NIGH), anyResult()
 						)
-				).andStubThrow(new NoAnswerException());
+				).andStubAnswer(siteIndexFailure(SiteIndexStatus.SI_ERR_NO_ANS));
 
 				em.replay();
 
@@ -2204,9 +2275,10 @@ class ProcessingEngineTest {
 				EasyMock.expect(unit.getSiteIndexEquationByIndex(2)).andStubReturn(SiteIndexEquation.SI_AT_HUANG);
 				EasyMock.expect(
 						unit.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_AT_HUANG, 34.0, SiteIndexEquation.SI_SW_HUANG_PLA
+								EasyMock.eq(SiteIndexEquation.SI_AT_HUANG), EasyMock.eq(34.0),
+								EasyMock.eq(SiteIndexEquation.SI_SW_HUANG_PLA), anyResult()
 						)
-				).andStubReturn(1.2);
+				).andStubAnswer(siteIndexValue(1.2));
 
 				em.replay();
 
@@ -2233,11 +2305,14 @@ class ProcessingEngineTest {
 				EasyMock.expect(unit.getSiteIndexEquationByIndex(2)).andStubReturn(SiteIndexEquation.SI_AT_HUANG);
 				EasyMock.expect(
 						unit.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_AT_HUANG, 27.0, SiteIndexEquation.SI_SW_HUANG_PLA
+								EasyMock.eq(SiteIndexEquation.SI_AT_HUANG), EasyMock.eq(27.0),
+								EasyMock.eq(SiteIndexEquation.SI_SW_HUANG_PLA), anyResult()
 						)
-				).andStubReturn(
-						SiteTool.convertSiteIndexBetweenCurves(
-								SiteIndexEquation.SI_AT_HUANG, 27.0, SiteIndexEquation.SI_SW_HUANG_PLA
+				).andStubAnswer(
+						siteIndexValue(
+								SiteTool.convertSiteIndexBetweenCurves(
+										SiteIndexEquation.SI_AT_HUANG, 27.0, SiteIndexEquation.SI_SW_HUANG_PLA
+								)
 						)
 				);
 
@@ -2320,12 +2395,7 @@ class ProcessingEngineTest {
 			EasyMock.expect(lps.getPrimarySpeciesAgeAtBreastHeight()).andStubReturn(54f);
 			EasyMock.expect(lps.getPrimarySpeciesIndex()).andStubReturn(3);
 
-			Capture<MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[]> capCvVolume = EasyMock
-					.newCapture();
-			Capture<MatrixMap2<UtilizationClass, LayerType, Float>[]> capCvBasalArea = EasyMock.newCapture();
-			Capture<MatrixMap2<UtilizationClass, LayerType, Float>[]> capCvQuadraticMeanDiameter = EasyMock
-					.newCapture();
-			Capture<Map<UtilizationClassVariable, Float>[]> capCvPrimaryLayerSmall = EasyMock.newCapture();
+			Capture<CompatibilityVariables> capCompatibilityVariables = EasyMock.newCapture();
 
 			Bank bank = ProcessingStateTestUtils.mockBank(bec, 5);
 
@@ -2471,12 +2541,7 @@ class ProcessingEngineTest {
 			EasyMock.expect(lps.getBank()).andStubReturn(bank);
 
 			// The call we are testing for
-			lps.setCompatibilityVariableDetails(
-					capture(capCvVolume), //
-					capture(capCvBasalArea), //
-					capture(capCvQuadraticMeanDiameter), //
-					capture(capCvPrimaryLayerSmall) //
-			);
+			lps.setCompatibilityVariableDetails(capture(capCompatibilityVariables));
 			EasyMock.expectLastCall().once();
 
 			var unit = new ProcessingEngine<>(ps);
@@ -2486,8 +2551,10 @@ class ProcessingEngineTest {
 
 			em.verify();
 
+			var cvs = capCompatibilityVariables.getValue();
+
 			assertThat(
-					"CvVolume[1]", capCvVolume.getValue()[1],
+					"CvVolume[1]", cvVolume(cvs, 1),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(0.0f), U125TO175, CLOSE_UTIL_VOL, LayerType.PRIMARY),
@@ -2496,7 +2563,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[2]", capCvVolume.getValue()[2],
+					"CvVolume[2]", cvVolume(cvs, 2),
 					allOf(
 							mmHasEntry(is(-0.00024962425f), U75TO125, CLOSE_UTIL_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(-0.00011026859f), U125TO175, CLOSE_UTIL_VOL, LayerType.PRIMARY),
@@ -2505,7 +2572,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[3]", capCvVolume.getValue()[3],
+					"CvVolume[3]", cvVolume(cvs, 3),
 					allOf(
 							mmHasEntry(is(0.00623063f), U75TO125, CLOSE_UTIL_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(0.0010375977f), U125TO175, CLOSE_UTIL_VOL, LayerType.PRIMARY),
@@ -2514,7 +2581,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[4]", capCvVolume.getValue()[4],
+					"CvVolume[4]", cvVolume(cvs, 4),
 					allOf(
 							mmHasEntry(is(-0.00013566017f), U75TO125, CLOSE_UTIL_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(0.00033128262f), U125TO175, CLOSE_UTIL_VOL, LayerType.PRIMARY),
@@ -2523,7 +2590,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[5]", capCvVolume.getValue()[5],
+					"CvVolume[5]", cvVolume(cvs, 5),
 					allOf(
 							mmHasEntry(is(-8.8346004E-4F), U75TO125, CLOSE_UTIL_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(-0.0002478361f), U125TO175, CLOSE_UTIL_VOL, LayerType.PRIMARY),
@@ -2532,7 +2599,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[1]", capCvVolume.getValue()[1],
+					"CvVolume[1]", cvVolume(cvs, 1),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
 							mmHasEntry(is(0.0f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
@@ -2541,7 +2608,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[2]", capCvVolume.getValue()[2],
+					"CvVolume[2]", cvVolume(cvs, 2),
 					allOf(
 							mmHasEntry(is(0.01768279f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
 							mmHasEntry(is(0.0010006428f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
@@ -2550,7 +2617,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[3]", capCvVolume.getValue()[3],
+					"CvVolume[3]", cvVolume(cvs, 3),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
 							mmHasEntry(is(0.010708809f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
@@ -2559,7 +2626,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[4]", capCvVolume.getValue()[4],
+					"CvVolume[4]", cvVolume(cvs, 4),
 					allOf(
 							mmHasEntry(is(0.011499405f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
 							mmHasEntry(is(-0.0010294914f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
@@ -2568,7 +2635,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[5]", capCvVolume.getValue()[5],
+					"CvVolume[5]", cvVolume(cvs, 5),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
 							mmHasEntry(is(0.010175705f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY, LayerType.PRIMARY),
@@ -2577,7 +2644,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[1]", capCvVolume.getValue()[1],
+					"CvVolume[1]", cvVolume(cvs, 1),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
 							mmHasEntry(is(0.0f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
@@ -2592,7 +2659,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[2]", capCvVolume.getValue()[2],
+					"CvVolume[2]", cvVolume(cvs, 2),
 					allOf(
 							mmHasEntry(
 									is(-0.16244507f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE,
@@ -2612,7 +2679,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[3]", capCvVolume.getValue()[3],
+					"CvVolume[3]", cvVolume(cvs, 3),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
 							mmHasEntry(is(0.0f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
@@ -2624,7 +2691,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[4]", capCvVolume.getValue()[4],
+					"CvVolume[4]", cvVolume(cvs, 4),
 					allOf(
 							mmHasEntry(
 									is(-0.13775301f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE,
@@ -2645,7 +2712,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[5]", capCvVolume.getValue()[5],
+					"CvVolume[5]", cvVolume(cvs, 5),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
 							mmHasEntry(is(0.0f), U125TO175, CLOSE_UTIL_VOL_LESS_DECAY_LESS_WASTAGE, LayerType.PRIMARY),
@@ -2656,7 +2723,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[1]", capCvVolume.getValue()[1],
+					"CvVolume[1]", cvVolume(cvs, 1),
 					allOf(
 							mmHasEntry(is(0.0f), U75TO125, WHOLE_STEM_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(-2.5427341E-4f), U125TO175, WHOLE_STEM_VOL, LayerType.PRIMARY),
@@ -2665,7 +2732,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[2]", capCvVolume.getValue()[2],
+					"CvVolume[2]", cvVolume(cvs, 2),
 					allOf(
 							mmHasEntry(is(-2.9444695E-5f), U75TO125, WHOLE_STEM_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(4.208088E-5f), U125TO175, WHOLE_STEM_VOL, LayerType.PRIMARY),
@@ -2674,7 +2741,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[3]", capCvVolume.getValue()[3],
+					"CvVolume[3]", cvVolume(cvs, 3),
 					allOf(
 							mmHasEntry(is(0.0013506413f), U75TO125, WHOLE_STEM_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(4.787445E-4f), U125TO175, WHOLE_STEM_VOL, LayerType.PRIMARY),
@@ -2683,7 +2750,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[4]", capCvVolume.getValue()[4],
+					"CvVolume[4]", cvVolume(cvs, 4),
 					allOf(
 							mmHasEntry(is(-7.891655E-5f), U75TO125, WHOLE_STEM_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(2.7656555E-5f), U125TO175, WHOLE_STEM_VOL, LayerType.PRIMARY),
@@ -2692,7 +2759,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvVolume[5]", capCvVolume.getValue()[5],
+					"CvVolume[5]", cvVolume(cvs, 5),
 					allOf(
 							mmHasEntry(is(1.8835068E-5f), U75TO125, WHOLE_STEM_VOL, LayerType.PRIMARY),
 							mmHasEntry(is(-1.0085106E-4f), U125TO175, WHOLE_STEM_VOL, LayerType.PRIMARY),
@@ -2701,7 +2768,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvBasalArea[1]", capCvBasalArea.getValue()[1],
+					"CvBasalArea[1]", cvBasalArea(cvs, 1),
 					allOf(
 							mmHasEntry(is(1.4913082E-4f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-5.034916E-5f), U125TO175, LayerType.PRIMARY),
@@ -2710,7 +2777,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvBasalArea[2]", capCvBasalArea.getValue()[2],
+					"CvBasalArea[2]", cvBasalArea(cvs, 2),
 					allOf(
 							mmHasEntry(is(-2.193451E-5f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(5.4836273E-6f), U125TO175, LayerType.PRIMARY),
@@ -2719,7 +2786,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvBasalArea[3]", capCvBasalArea.getValue()[3],
+					"CvBasalArea[3]", cvBasalArea(cvs, 3),
 					allOf(
 							mmHasEntry(is(9.918213E-5f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-1.5150756E-5f), U125TO175, LayerType.PRIMARY),
@@ -2728,7 +2795,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvBasalArea[4]", capCvBasalArea.getValue()[4],
+					"CvBasalArea[4]", cvBasalArea(cvs, 4),
 					allOf(
 							mmHasEntry(is(1.9073486E-4f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-8.2850456E-5f), U125TO175, LayerType.PRIMARY),
@@ -2737,7 +2804,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvBasalArea[5]", capCvBasalArea.getValue()[5],
+					"CvBasalArea[5]", cvBasalArea(cvs, 5),
 					allOf(
 							mmHasEntry(is(1.2397766E-4f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-3.7431717E-5f), U125TO175, LayerType.PRIMARY),
@@ -2746,7 +2813,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvQuadraticMeanDiameter[1]", capCvQuadraticMeanDiameter.getValue()[1],
+					"CvQuadraticMeanDiameter[1]", cvQuadraticMeanDiameter(cvs, 1),
 					allOf(
 							mmHasEntry(is(0.007255554F), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-0.014289856f), U125TO175, LayerType.PRIMARY),
@@ -2755,7 +2822,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvQuadraticMeanDiameter[2]", capCvQuadraticMeanDiameter.getValue()[2],
+					"CvQuadraticMeanDiameter[2]", cvQuadraticMeanDiameter(cvs, 2),
 					allOf(
 							mmHasEntry(is(6.942749E-4f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-2.0217896E-4f), U125TO175, LayerType.PRIMARY),
@@ -2764,7 +2831,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvQuadraticMeanDiameter[3]", capCvQuadraticMeanDiameter.getValue()[3],
+					"CvQuadraticMeanDiameter[3]", cvQuadraticMeanDiameter(cvs, 3),
 					allOf(
 							mmHasEntry(is(3.6621094E-4F), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-0.008190155f), U125TO175, LayerType.PRIMARY),
@@ -2773,7 +2840,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvQuadraticMeanDiameter[4]", capCvQuadraticMeanDiameter.getValue()[4],
+					"CvQuadraticMeanDiameter[4]", cvQuadraticMeanDiameter(cvs, 4),
 					allOf(
 							mmHasEntry(is(-0.0010547638f), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(-7.696152E-4f), U125TO175, LayerType.PRIMARY),
@@ -2782,7 +2849,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvQuadraticMeanDiameter[5]", capCvQuadraticMeanDiameter.getValue()[5],
+					"CvQuadraticMeanDiameter[5]", cvQuadraticMeanDiameter(cvs, 5),
 					allOf(
 							mmHasEntry(is(-2.4032593E-4F), OVER225, LayerType.PRIMARY),
 							mmHasEntry(is(9.880066E-4f), U125TO175, LayerType.PRIMARY),
@@ -2791,7 +2858,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvPrimaryLayerSmall[1]", capCvPrimaryLayerSmall.getValue()[1],
+					"CvPrimaryLayerSmall[1]", cvPrimaryLayerSmall(cvs, 1),
 					allOf(
 							hasEntry(is(BASAL_AREA), closeTo(-2.1831444E-7f)),
 							hasEntry(is(QUAD_MEAN_DIAMETER), is(0.0f)), hasEntry(is(LOREY_HEIGHT), is(0.0f)),
@@ -2799,7 +2866,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvPrimaryLayerSmall[2]", capCvPrimaryLayerSmall.getValue()[2],
+					"CvPrimaryLayerSmall[2]", cvPrimaryLayerSmall(cvs, 2),
 					allOf(
 							hasEntry(is(BASAL_AREA), closeTo(-4.496146E-5f)),
 							hasEntry(is(QUAD_MEAN_DIAMETER), closeTo(0.0023674965F)),
@@ -2808,7 +2875,7 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvPrimaryLayerSmall[3]", capCvPrimaryLayerSmall.getValue()[3],
+					"CvPrimaryLayerSmall[3]", cvPrimaryLayerSmall(cvs, 3),
 					allOf(
 							hasEntry(is(BASAL_AREA), closeTo(4.9466034E-6f)),
 							hasEntry(is(QUAD_MEAN_DIAMETER), is(0.0f)),
@@ -2817,14 +2884,14 @@ class ProcessingEngineTest {
 					)
 			);
 			assertThat(
-					"CvPrimaryLayerSmall[4]", capCvPrimaryLayerSmall.getValue()[4],
+					"CvPrimaryLayerSmall[4]", cvPrimaryLayerSmall(cvs, 4),
 					allOf(
 							hasEntry(is(BASAL_AREA), is(0.0f)), hasEntry(is(QUAD_MEAN_DIAMETER), is(0.0f)),
 							hasEntry(is(LOREY_HEIGHT), is(0.0f)), hasEntry(is(WHOLE_STEM_VOLUME), is(0.0f))
 					)
 			);
 			assertThat(
-					"CvPrimaryLayerSmall[5]", capCvPrimaryLayerSmall.getValue()[5],
+					"CvPrimaryLayerSmall[5]", cvPrimaryLayerSmall(cvs, 5),
 					allOf(
 							hasEntry(is(BASAL_AREA), closeTo(3.4208642E-6f)),
 							hasEntry(is(QUAD_MEAN_DIAMETER), is(0.0f)),
@@ -2834,5 +2901,32 @@ class ProcessingEngineTest {
 			);
 
 		}
+
+		MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float> cvVolume(CompatibilityVariables cvs, int s) {
+			return new MatrixMap3Impl<>(
+					UtilizationClass.UTIL_CLASSES, VolumeVariable.ALL, LayerType.ALL_USED,
+					(uc, vv, lt) -> cvs.getVolume(s, uc, vv, lt)
+			);
+		}
+
+		MatrixMap2<UtilizationClass, LayerType, Float> cvBasalArea(CompatibilityVariables cvs, int s) {
+			return new MatrixMap2Impl<>(
+					UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (uc, lt) -> cvs.getBasalArea(s, uc, lt)
+			);
+		}
+
+		MatrixMap2<UtilizationClass, LayerType, Float> cvQuadraticMeanDiameter(CompatibilityVariables cvs, int s) {
+			return new MatrixMap2Impl<>(
+					UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (uc, lt) -> cvs.getQuadMeanDiameter(s, uc, lt)
+			);
+		}
+
+		Map<UtilizationClassVariable, Float> cvPrimaryLayerSmall(CompatibilityVariables cvs, int s) {
+			var result = new EnumMap<UtilizationClassVariable, Float>(UtilizationClassVariable.class);
+			for (var ucv : UtilizationClassVariable.values()) {
+				result.put(ucv, cvs.getSmall(s, ucv));
+			}
+			return result;
+		}
 	}
 }
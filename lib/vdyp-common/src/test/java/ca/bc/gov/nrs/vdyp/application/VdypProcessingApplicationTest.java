@@ -26,7 +26,7 @@ import ca.bc.gov.nrs.vdyp.common.VdypApplicationProcessingException;
 import ca.bc.gov.nrs.vdyp.controlmap.ProcessingResolvedControlMap;
 import ca.bc.gov.nrs.vdyp.controlmap.ProcessingResolvedControlMapImpl;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.test.ProcessingTestUtils;
 
@@ -69,7 +69,7 @@ class VdypProcessingApplicationTest {
 
 				@Override
 				protected void init(
-						FileSystemFileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
+						FileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
 						String... controlFilePaths
 				) throws IOException, ResourceParseException {
 					Utils.throwIfPresent(initIoError);
@@ -9,12 +9,14 @@ import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilization;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilizationAllAndBiggest;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilizationHeight;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.describedAs;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -117,6 +119,33 @@ class VdypStartApplicationTest {
 			app.close();
 		}
 
+		@Test
+		void testResetClearsLastRun() throws Exception {
+			var em = EasyMock.createControl();
+			VdypOutputWriter writer = em.createMock(VdypOutputWriter.class);
+
+			// The last run's output is closed
+			writer.close();
+			EasyMock.expectLastCall().once();
+
+			em.replay();
+
+			var app = new TestStartApplication(controlMap, false);
+			app.vriWriter = writer;
+			app.modeUsed = PolygonMode.START;
+
+			app.reset();
+
+			assertThat(app.getVriWriter(), nullValue());
+			assertThat(app.getModeUsed(), is(PolygonMode.DONT_PROCESS));
+			assertThat(app.getControlMap(), anEmptyMap());
+			assertThrows(IllegalStateException.class, app::getDebugModes);
+
+			app.close();
+
+			em.verify();
+		}
+
 		@Disabled
 		@Test
 		void testInitNoControlFile() throws Exception {
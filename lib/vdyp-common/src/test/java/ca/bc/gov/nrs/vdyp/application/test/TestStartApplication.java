@@ -13,7 +13,7 @@ import java.util.function.Consumer;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.DebugSettingsParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
@@ -34,7 +34,7 @@ public class TestStartApplication
 
 	@Override
 	public void init(
-			FileSystemFileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
+			FileResolver resolver, PrintStream writeToIfNoArgs, InputStream readFromIfNoArgs,
 			String... controlFilePaths
 	) throws IOException, ResourceParseException {
 		if (realInit) {
@@ -43,7 +43,7 @@ public class TestStartApplication
 	}
 
 	@Override
-	public void init(FileSystemFileResolver resolver, Map<String, Object> controlMap) throws IOException {
+	public void init(FileResolver resolver, Map<String, Object> controlMap) throws IOException {
 		if (realInit) {
 			super.init(resolver, controlMap);
 		}
@@ -2,8 +2,11 @@ package ca.bc.gov.nrs.vdyp.io;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -51,6 +54,21 @@ class FileSystemFileResolverTest {
 		assertThat(result.toAbsolutePath().toString(), equalTo(testDir.resolve("rel").resolve("test").toString()));
 	}
 
+	@Test
+	void testContentIdentity() throws Exception {
+		var unit = new FileSystemFileResolver(testDir);
+		Files.writeString(testDir.resolve("test"), "first");
+
+		var identity = unit.contentIdentity("test");
+		assertThat(unit.contentIdentity("test"), equalTo(identity));
+
+		// A file rewritten with content of another size is identified differently
+		Files.writeString(testDir.resolve("test"), "second");
+		assertThat(unit.contentIdentity("test"), not(equalTo(identity)));
+
+		assertThrows(NoSuchFileException.class, () -> unit.contentIdentity("missing"));
+	}
+
 	@Test
 	void testToString() {
 		var unit = new FileSystemFileResolver(testDir);
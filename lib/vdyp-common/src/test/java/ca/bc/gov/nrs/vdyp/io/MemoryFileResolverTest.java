@@ -0,0 +1,135 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+class MemoryFileResolverTest {
+
+	@Test
+	void testToString() {
+		var unit = new MemoryFileResolver();
+
+		assertThat(unit.toString(), equalTo("MemoryFileResolver (root)"));
+		assertThat(unit.toString("test"), equalTo("memory:test"));
+		assertThat(unit.relative("rel").toString(), equalTo("MemoryFileResolver (relative [rel])"));
+	}
+
+	@Test
+	void testOutputThenInput() throws Exception {
+		var unit = new MemoryFileResolver();
+		try (var os = unit.resolveForOutput("test")) {
+			os.write("blah".getBytes());
+		}
+		try (var is = unit.resolveForInput("test")) {
+			assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+		}
+		assertThat(unit.getWrittenFileNames(), contains("test"));
+	}
+
+	@Test
+	void testMissingInput() {
+		var unit = new MemoryFileResolver();
+
+		assertThrows(NoSuchFileException.class, () -> unit.resolveForInput("test"));
+		assertThat(unit.getContent("test"), is(Optional.empty()));
+	}
+
+	@Test
+	void testBaseFilesAreReadButNotModified() throws Exception {
+		var baseFiles = Map.of("test", "base".getBytes());
+		var unit1 = new MemoryFileResolver(baseFiles);
+		var unit2 = new MemoryFileResolver(baseFiles);
+
+		try (var os = unit1.resolveForOutput("test")) {
+			os.write("written".getBytes());
+		}
+
+		try (var is = unit1.resolveForInput("test")) {
+			assertThat(is.readAllBytes(), equalTo("written".getBytes()));
+		}
+		try (var is = unit2.resolveForInput("test")) {
+			assertThat(is.readAllBytes(), equalTo("base".getBytes()));
+		}
+		assertThat(baseFiles.get("test"), equalTo("base".getBytes()));
+	}
+
+	@Test
+	void testContentIdentity() throws Exception {
+		var baseFiles = Map.of("test", "base".getBytes());
+		var unit = new MemoryFileResolver(baseFiles);
+
+		// Base files are never modified, so they are identified
+		var identity = unit.contentIdentity("test");
+		assertThat(identity.isPresent(), is(true));
+		assertThat(new MemoryFileResolver(baseFiles).contentIdentity("test"), equalTo(identity));
+
+		// but a file written through the resolver may be written again, so it is not
+		try (var os = unit.resolveForOutput("test")) {
+			os.write("written".getBytes());
+		}
+		assertThat(unit.contentIdentity("test"), is(Optional.empty()));
+
+		assertThrows(NoSuchFileException.class, () -> unit.contentIdentity("missing"));
+	}
+
+	@Test
+	void testRelativeResolversShareFiles() throws Exception {
+		var unit = new MemoryFileResolver();
+		var relative = unit.relative("rel");
+
+		try (var os = relative.resolveForOutput("test")) {
+			os.write("blah".getBytes());
+		}
+
+		assertThat(relative.toPath("test"), equalTo(Path.of("rel", "test")));
+		try (var is = unit.resolveForInput("rel/test")) {
+			assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+		}
+		try (var is = relative.relativeToParent("test").resolveForInput("test")) {
+			assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+		}
+		try (var is = unit.relativeToParent("test").resolveForInput(relative.toPath("test").toString())) {
+			assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+		}
+	}
+
+	@Test
+	void testReadZip() throws Exception {
+		var zipContent = new ByteArrayOutputStream();
+		try (var zos = new ZipOutputStream(zipContent)) {
+			zos.putNextEntry(new ZipEntry("top.ctr"));
+			zos.write("top".getBytes());
+			zos.closeEntry();
+			zos.putNextEntry(new ZipEntry("coe/"));
+			zos.closeEntry();
+			zos.putNextEntry(new ZipEntry("coe/nested.dat"));
+			zos.write("nested".getBytes());
+			zos.closeEntry();
+		}
+
+		var unit = new MemoryFileResolver(
+				MemoryFileResolver.readZip(new ByteArrayInputStream(zipContent.toByteArray()))
+		);
+
+		try (var is = unit.resolveForInput("top.ctr")) {
+			assertThat(is.readAllBytes(), equalTo("top".getBytes()));
+		}
+		try (var is = unit.relative("coe").resolveForInput("nested.dat")) {
+			assertThat(is.readAllBytes(), equalTo("nested".getBytes()));
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.io.VdypOutputIndex.OutputFile;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+class VdypOutputIndexTest {
+
+	private static final String POLYGON_1_2013 = "01002 S000001 00     2013";
+	private static final String POLYGON_1_2014 = "01002 S000001 00     2014";
+	private static final String POLYGON_2_2013 = "01002 S000002 00     2013";
+
+	private static final String POLYGONS = POLYGON_1_2013 + " CWH  A    99 37  1  0\r\n" //
+			+ POLYGON_1_2014 + " CWH  A    99 37  1  0\r\n" //
+			+ POLYGON_2_2013 + " CWH  A    99 37  1  0\r\n" //
+			+ "                                               \r\n";
+
+	private static final String SPECIES = POLYGON_1_2013 + " P  3 B  B  100.0\n" //
+			+ POLYGON_1_2013 + " P  4 C  C  100.0\n" //
+			+ POLYGON_1_2013 + "  \n" //
+			+ POLYGON_1_2014 + " P  3 B  B  100.0\n" //
+			+ POLYGON_1_2014 + " Z\n" //
+			+ POLYGON_2_2013 + " V  5 D  D  100.0\n" //
+			+ POLYGON_2_2013;
+
+	private static final String UTILIZATIONS = POLYGON_1_2013 + " P  0    -1  0.01\r" //
+			+ POLYGON_1_2013 + "  \r" //
+			+ POLYGON_1_2014 + " P  0    -1  0.02\r" //
+			+ POLYGON_1_2014 + "  \r" //
+			+ POLYGON_2_2013 + " V  0    -1  0.03\r" //
+			+ POLYGON_2_2013 + "  \r";
+
+	@TempDir
+	Path directory;
+
+	Path polygonFile;
+	Path speciesFile;
+	Path utilizationFile;
+
+	@BeforeEach
+	void writeFiles() throws Exception {
+		polygonFile = Files.writeString(directory.resolve("vp_grow.dat"), POLYGONS);
+		speciesFile = Files.writeString(directory.resolve("vs_grow.dat"), SPECIES);
+		utilizationFile = Files.writeString(directory.resolve("vu_grow.dat"), UTILIZATIONS);
+	}
+
+	@Test
+	void testPolygonIdentifiers() throws Exception {
+		try (var unit = VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)) {
+			assertThat(
+					unit.getPolygonIdentifiers(),
+					contains(
+							PolygonIdentifier.split(POLYGON_1_2013), PolygonIdentifier.split(POLYGON_1_2014),
+							PolygonIdentifier.split(POLYGON_2_2013)
+					)
+			);
+			assertThat(
+					unit.getPolygonIdentifiers(PolygonIdentifier.split(POLYGON_1_2014).getBase()),
+					contains(PolygonIdentifier.split(POLYGON_1_2013), PolygonIdentifier.split(POLYGON_1_2014))
+			);
+			assertThat(unit.getPolygonIdentifiers("Unknown"), empty());
+			assertThat(unit.contains(PolygonIdentifier.split(POLYGON_2_2013)), is(true));
+			assertThat(unit.contains(PolygonIdentifier.split(POLYGON_2_2013).forYear(2014)), is(false));
+		}
+	}
+
+	@Test
+	void testReadOnePolygon() throws Exception {
+		try (var unit = VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)) {
+			var polygon = List.of(PolygonIdentifier.split(POLYGON_1_2014));
+
+			assertThat(read(unit, OutputFile.POLYGON, polygon), equalTo(POLYGON_1_2014 + " CWH  A    99 37  1  0\r\n"));
+			assertThat(
+					read(unit, OutputFile.SPECIES, polygon),
+					equalTo(POLYGON_1_2014 + " P  3 B  B  100.0\n" + POLYGON_1_2014 + " Z\n")
+			);
+			assertThat(
+					read(unit, OutputFile.UTILIZATION, polygon),
+					equalTo(POLYGON_1_2014 + " P  0    -1  0.02\r" + POLYGON_1_2014 + "  \r")
+			);
+		}
+	}
+
+	@Test
+	void testReadLastPolygon() throws Exception {
+		try (var unit = VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)) {
+			var polygon = List.of(PolygonIdentifier.split(POLYGON_2_2013));
+
+			assertThat(
+					read(unit, OutputFile.SPECIES, polygon),
+					equalTo(POLYGON_2_2013 + " V  5 D  D  100.0\n" + POLYGON_2_2013)
+			);
+		}
+	}
+
+	@Test
+	void testResolver() throws Exception {
+		try (var unit = VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)) {
+			var resolver = unit.resolver(
+					List.of(PolygonIdentifier.split(POLYGON_2_2013), PolygonIdentifier.split(POLYGON_1_2013))
+			);
+
+			try (var is = resolver.resolveForInput(polygonFile.toString())) {
+				assertThat(
+						new String(is.readAllBytes()),
+						equalTo(
+								POLYGON_2_2013 + " CWH  A    99 37  1  0\r\n" + POLYGON_1_2013
+										+ " CWH  A    99 37  1  0\r\n"
+						)
+				);
+			}
+			assertThat(resolver.toPath(utilizationFile.toString()), equalTo(utilizationFile));
+			assertThrows(NoSuchFileException.class, () -> resolver.resolveForInput("vc_grow.dat"));
+		}
+	}
+
+	@Test
+	void testUnknownPolygon() throws Exception {
+		try (var unit = VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)) {
+			var polygon = List.of(PolygonIdentifier.split(POLYGON_2_2013).forYear(2014));
+
+			assertThrows(IllegalArgumentException.class, () -> unit.open(OutputFile.POLYGON, polygon));
+			assertThrows(IllegalArgumentException.class, () -> unit.resolver(polygon));
+		}
+	}
+
+	@Test
+	void testMissingGroups() throws Exception {
+		Files.writeString(utilizationFile, POLYGON_1_2013 + " P  0    -1  0.01\n" + POLYGON_1_2013 + "  \n");
+
+		assertThrows(
+				ResourceParseException.class, () -> VdypOutputIndex.open(polygonFile, speciesFile, utilizationFile)
+		);
+	}
+
+	private static String read(VdypOutputIndex unit, OutputFile file, List<PolygonIdentifier> polygons)
+			throws Exception {
+		try (var is = unit.open(file, polygons)) {
+			return new String(is.readAllBytes());
+		}
+	}
+}
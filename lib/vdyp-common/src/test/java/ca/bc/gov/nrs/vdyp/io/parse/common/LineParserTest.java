@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
@@ -301,4 +302,176 @@ class LineParserTest {
 		);
 	}
 
+	static <R> List<R> parseRecords(LineParser parser, String content, RecordBinder<R> binder) throws Exception {
+		List<R> result = new ArrayList<>();
+		try (
+				var stream = parser
+						.parseAsRecords(new ByteArrayInputStream(content.getBytes()), Collections.emptyMap(), binder)
+		) {
+			while (stream.hasNext()) {
+				result.add(stream.next());
+			}
+		}
+		return result;
+	}
+
+	@Test
+	void testRecords() throws Exception {
+		var parser = new LineParser();
+		parser.integer(4, "part1").space(1).floating(6, "part2").string("part3");
+		int part1 = parser.fieldIndex("part1");
+		int part2 = parser.fieldIndex("part2");
+		int part3 = parser.fieldIndex("part3");
+
+		var result = parseRecords(
+				parser, "0042   0.5 Value1\r\n  43  -1.25Value2\r-044 1e2   xy\n", fields -> List.of(
+						fields.getInt(part1), fields.getFloat(part2), fields.getString(part3), fields.getLineNumber()
+				)
+		);
+
+		assertThat(
+				result,
+				contains(
+						List.of(42, 0.5f, "Value1", 1), List.of(43, -1.25f, "Value2", 2), List.of(-44, 100f, "xy", 3)
+				)
+		);
+	}
+
+	@Test
+	void testRecordsIncomplete() throws Exception {
+		var parser = new LineParser();
+		parser.integer(4, "part1").space(1).floating(5, "part2").space(1).strippedString(3, "part3");
+		int part2 = parser.fieldIndex("part2");
+		int part3 = parser.fieldIndex("part3");
+
+		var result = parseRecords(
+				parser, " 4  \n 4    2.\n 4   0.5   ab", fields -> List.of(
+						fields.isPresent(part2), fields.isPresent(part2) ? fields.getFloat(part2) : Float.NaN,
+						String.valueOf(fields.getStrippedString(part3))
+				)
+		);
+
+		assertThat(
+				result, contains(List.of(false, Float.NaN, "null"), List.of(true, 2f, "null"), List.of(true, 0.5f, "ab"))
+		);
+	}
+
+	@Test
+	void testRecordsMatchValueParsers() throws Exception {
+		var parser = new LineParser();
+		parser.floating(12, "part1");
+		int part1 = parser.fieldIndex("part1");
+
+		for (var value : List.of(
+				"0.1", "-0.0", "16777215", "16777217", "0.0000000001", "1234.567891", "3.4028236E38", "NaN", "+.5"
+		)) {
+			var result = parseRecords(parser, value, fields -> fields.getFloat(part1));
+			assertThat(value, result, contains(ValueParser.FLOAT.parse(value)));
+		}
+	}
+
+	@Test
+	void testRecordsUseDeclaredParsers() throws Exception {
+		var parser = new LineParser();
+		parser.value(6, "part1", ValueParser.FLOAT_WITH_DEFAULT).value(3, "part2", ValueParser.INTEGER_WITH_DEFAULT)
+				.value(3, "part3", ValueParser.optional(ValueParser.INTEGER));
+		int part1 = parser.fieldIndex("part1");
+		int part2 = parser.fieldIndex("part2");
+		int part3 = parser.fieldIndex("part3");
+
+		var result = parseRecords(
+				parser, "  -9.0 -9   \n   2.5 12 34\n   0.5", fields -> List.of(
+						fields.getFloat(part1), fields.getInt(part2),
+						String.valueOf(fields.<Optional<Integer>>get(part3))
+				)
+		);
+
+		assertThat(
+				result,
+				contains(
+						List.of(Float.NaN, -9, "Optional.empty"), List.of(2.5f, 12, "Optional[34]"),
+						List.of(0.5f, -9, "null")
+				)
+		);
+
+		var ex = assertThrows(
+				ResourceParseLineException.class, () -> parseRecords(parser, "  -1.0", fields -> fields.getFloat(part1))
+		);
+		assertThat(ex, hasProperty("cause", hasProperty("value", is("  -1.0"))));
+	}
+
+	@Test
+	void testRecordsException() throws Exception {
+		var parser = new LineParser();
+		parser.integer(4, "part1").space(1).string("part2");
+		int part1 = parser.fieldIndex("part1");
+
+		var ex1 = assertThrows(
+				ResourceParseLineException.class,
+				() -> parseRecords(parser, "0042 Value1\r\n004x Value2", fields -> fields.getInt(part1))
+		);
+
+		assertThat(ex1, hasProperty("line", is(2)));
+		assertThat(ex1, hasProperty("cause", isA(ValueParseException.class)));
+		assertThat(ex1, hasProperty("cause", hasProperty("value", is("004x"))));
+		assertThat(ex1, hasProperty("cause", hasProperty("cause", isA(NumberFormatException.class))));
+	}
+
+	@Test
+	void testRecordsWithStopSegment() throws Exception {
+		var parser = new LineParser() {
+
+			@Override
+			public boolean isStopSegment(List<String> segments) {
+				return 'X' == Character.toUpperCase(segments.get(1).charAt(0));
+			}
+
+			@Override
+			protected boolean filtersSegments() {
+				return true;
+			}
+
+		};
+		parser.integer(4, "part1").space(1).string("part2");
+		int part1 = parser.fieldIndex("part1");
+
+		var result = parseRecords(parser, "0042 Value1\r\n0000X\r\n0043 Value2", fields -> fields.getInt(part1));
+
+		assertThat(result, contains(42));
+	}
+
+	@Test
+	void testRecordsWithIgnoredLine() throws Exception {
+		var parser = new LineParser() {
+
+			@Override
+			public boolean isIgnoredLine(String line) {
+				return line.length() > 4 && 'X' == Character.toUpperCase(line.charAt(4));
+			}
+
+			@Override
+			protected boolean filtersLines() {
+				return true;
+			}
+
+		};
+		parser.integer(4, "part1").space(1).string("part2");
+		int part1 = parser.fieldIndex("part1");
+
+		var result = parseRecords(
+				parser, "0042 Value1\r\n0000X\r\n0043 Value2",
+				fields -> List.of(fields.getInt(part1), fields.getLineNumber())
+		);
+
+		assertThat(result, contains(List.of(42, 1), List.of(43, 3)));
+	}
+
+	@Test
+	void testUnknownField() {
+		var parser = new LineParser();
+		parser.integer(4, "part1").space(1).string("part2");
+
+		assertThrows(IllegalArgumentException.class, () -> parser.fieldIndex("part3"));
+	}
+
 }
@@ -0,0 +1,141 @@
+package ca.bc.gov.nrs.vdyp.io.parse.control;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
+
+class ControlMapCacheTest {
+
+	@Test
+	void testLoadsOncePerKey() throws Exception {
+		var unit = new ControlMapCache();
+		var loads = new AtomicInteger();
+
+		var first = unit.get("key", () -> {
+			loads.incrementAndGet();
+			return Map.of("entry", "value");
+		});
+		var second = unit.get("key", () -> {
+			loads.incrementAndGet();
+			return Map.of("entry", "other");
+		});
+
+		assertThat(loads.get(), is(1));
+		assertThat(second, sameInstance(first));
+		assertThat(second.get("entry"), is("value"));
+		assertThat(unit.contains("key"), is(true));
+		assertThat(unit.contains("other"), is(false));
+	}
+
+	@Test
+	void testEntriesAreUnmodifiable() throws Exception {
+		var unit = new ControlMapCache();
+
+		var result = unit.get("key", () -> {
+			var map = new HashMap<String, Object>();
+			map.put("entry", new HashMap<>(Map.of("A", 1)));
+			return map;
+		});
+
+		assertThrows(UnsupportedOperationException.class, () -> result.put("other", "value"));
+		@SuppressWarnings("unchecked")
+		var entry = (Map<String, Integer>) result.get("entry");
+		assertThrows(UnsupportedOperationException.class, () -> entry.put("B", 2));
+	}
+
+	@Test
+	void testModelValuesAreFrozen() throws Exception {
+		var unit = new ControlMapCache();
+
+		var result = unit.get("key", () -> {
+			var matrix = new MatrixMap2Impl<String, String, Coefficients>(
+					List.of("A"), List.of("B"), (k1, k2) -> new Coefficients(new float[] { 1f, 2f }, 1)
+			);
+			return Map.of("matrix", matrix);
+		});
+
+		@SuppressWarnings("unchecked")
+		var matrix = (MatrixMap2Impl<String, String, Coefficients>) result.get("matrix");
+		assertThrows(UnsupportedOperationException.class, () -> matrix.put("A", "B", Coefficients.empty(2, 1)));
+		assertThrows(UnsupportedOperationException.class, () -> matrix.get("A", "B").setCoe(1, 3f));
+		assertThrows(UnsupportedOperationException.class, () -> matrix.get("A", "B").scalarInPlace(x -> x * 2));
+		assertThat(matrix.get("A", "B").getCoe(1), is(1f));
+	}
+
+	@Test
+	void testFailedLoadIsRetried() throws Exception {
+		var unit = new ControlMapCache();
+
+		assertThrows(IOException.class, () -> unit.get("key", () -> {
+			throw new IOException("Test");
+		}));
+		assertThat(unit.contains("key"), is(false));
+
+		var result = unit.get("key", () -> Map.of("entry", "value"));
+		assertThat(result.get("entry"), is("value"));
+	}
+
+	@Test
+	void testTakesConfigurationFromSnapshot() throws Exception {
+		var snapshot = new ControlMapSnapshot(Map.of("key", Map.of("entry", "snapshotted")));
+		var unit = new ControlMapCache(() -> snapshot);
+		var loads = new AtomicInteger();
+
+		var result = unit.get("key", () -> {
+			loads.incrementAndGet();
+			return Map.of("entry", "parsed");
+		});
+
+		assertThat(loads.get(), is(0));
+		assertThat(result.get("entry"), is("snapshotted"));
+	}
+
+	@Test
+	void testLoadsConfigurationNotInSnapshot() throws Exception {
+		var snapshot = new ControlMapSnapshot(Map.of("key", Map.of("entry", "snapshotted")));
+		var unit = new ControlMapCache(() -> snapshot);
+		var loads = new AtomicInteger();
+
+		var result = unit.get("changed", () -> {
+			loads.incrementAndGet();
+			return Map.of("entry", "parsed");
+		});
+
+		assertThat(loads.get(), is(1));
+		assertThat(result.get("entry"), is("parsed"));
+	}
+
+	@Test
+	void testSnapshot() throws Exception {
+		var unit = new ControlMapCache();
+		unit.get("key", () -> Map.of("entry", "value"));
+		unit.get("other", () -> Map.of("entry", "other"));
+
+		var result = unit.snapshot();
+
+		assertThat(result.size(), is(2));
+		assertThat(result.get("key").orElseThrow().get("entry"), is("value"));
+	}
+
+	@Test
+	void testClear() throws Exception {
+		var unit = new ControlMapCache();
+		unit.get("key", () -> Map.of());
+
+		assertThat(unit.size(), is(1));
+		unit.clear();
+		assertThat(unit.size(), is(0));
+	}
+}
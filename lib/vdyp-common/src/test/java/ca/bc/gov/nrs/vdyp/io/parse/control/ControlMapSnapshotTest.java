@@ -0,0 +1,85 @@
+package ca.bc.gov.nrs.vdyp.io.parse.control;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
+import ca.bc.gov.nrs.vdyp.model.MatrixMapImpl;
+
+class ControlMapSnapshotTest {
+
+	@Test
+	void testRoundTrip() throws Exception {
+		var matrix = new MatrixMap2Impl<String, Integer, Coefficients>(
+				List.of("A", "B"), List.of(1, 2), (k1, k2) -> new Coefficients(new float[] { 0f, 1f }, 1)
+		);
+		matrix.put("B", 2, new Coefficients(new float[] { 2f, 3f }, 1));
+		var oneDimensional = new MatrixMapImpl<Float>(k -> 0f, List.of("A", "B"));
+		oneDimensional.putM(7f, "A");
+
+		Map<String, Object> configuration = Map.of(
+				"MATRIX", matrix, //
+				"OPTIONAL", Optional.of(1.5f), //
+				"EMPTY", Optional.empty(), //
+				"MAP", Map.of("A", 1.0f, "B", 1.0f), //
+				"CAST", MatrixMap.cast(oneDimensional) //
+		);
+
+		var unit = new ControlMapSnapshot(Map.of("key", configuration));
+
+		var result = read(write(unit));
+
+		assertThat(result.size(), is(1));
+		var resultConfiguration = result.get("key").orElseThrow();
+		assertThat(resultConfiguration.get("MATRIX"), equalTo(matrix));
+		assertThat(resultConfiguration.get("OPTIONAL"), equalTo(Optional.of(1.5f)));
+		assertThat(resultConfiguration.get("EMPTY"), equalTo(Optional.empty()));
+		assertThat(resultConfiguration.get("MAP"), equalTo(Map.of("A", 1.0f, "B", 1.0f)));
+		assertThat(resultConfiguration.get("CAST"), equalTo(Map.of("A", 7f, "B", 0f)));
+	}
+
+	@Test
+	void testUnknownChecksum() throws Exception {
+		var unit = new ControlMapSnapshot(Map.of("key", Map.of("A", 1)));
+
+		var result = read(write(unit));
+
+		assertThat(result.get("other"), is(Optional.empty()));
+	}
+
+	@Test
+	void testOtherFormatVersion() throws Exception {
+		var bytes = write(ControlMapSnapshot.EMPTY);
+		bytes[2 + ControlMapSnapshot.MAGIC.length() + 3] += 1; // Low byte of the version, after the magic string
+
+		assertThrows(IOException.class, () -> read(bytes));
+	}
+
+	@Test
+	void testNotASnapshot() {
+		assertThrows(IOException.class, () -> read("Not a snapshot".getBytes()));
+	}
+
+	private static byte[] write(ControlMapSnapshot snapshot) throws IOException {
+		var os = new ByteArrayOutputStream();
+		snapshot.write(os);
+		return os.toByteArray();
+	}
+
+	private static ControlMapSnapshot read(byte[] bytes) throws IOException {
+		return ControlMapSnapshot.read(new ByteArrayInputStream(bytes));
+	}
+}
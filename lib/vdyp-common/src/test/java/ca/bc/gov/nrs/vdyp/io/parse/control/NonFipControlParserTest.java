@@ -10,10 +10,12 @@ import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.present;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -68,6 +70,27 @@ class NonFipControlParserTest {
 		);
 	}
 
+	@Test
+	void testParseByNameWithCache() throws Exception {
+		var cache = new ControlMapCache();
+		var resolver = TestUtils.fileResolver(TestUtils.class);
+		var names = List.of(CONTROL_FILE);
+
+		var result1 = getUnit().parseByName(names, resolver, new HashMap<>(), cache);
+		var result2 = getUnit().parseByName(names, resolver, new HashMap<>(), cache);
+
+		assertThat(cache.size(), is(1));
+		assertThat(
+				result2,
+				(Matcher) controlMapHasEntry(
+						ControlKey.BEC_DEF,
+						allOf(instanceOf(BecLookup.class), hasBec("AT", present(instanceOf(BecDefinition.class))))
+				)
+		);
+		assertThat(result2.get(ControlKey.BEC_DEF.name()), sameInstance(result1.get(ControlKey.BEC_DEF.name())));
+		assertThat(result2.keySet(), equalTo(getUnit().parseByName(names, resolver, new HashMap<>()).keySet()));
+	}
+
 	// Most of these tests are the same as in FipControlParserTest TODO consider
 	// putting them in a shared location
 
@@ -0,0 +1,321 @@
+package ca.bc.gov.nrs.vdyp.io.parse.model;
+
+import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.closeTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.io.VdypBinaryOutputFormat;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser.VdypPolygonStream;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilization;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
+import ca.bc.gov.nrs.vdyp.test.MockFileResolver;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class VdypBinaryOutputReaderTest {
+
+	Map<String, Object> controlMap;
+	MockFileResolver resolver;
+
+	@BeforeEach
+	void setup() {
+		controlMap = TestUtils.loadControlMap();
+		resolver = new MockFileResolver("testResolver");
+	}
+
+	@Test
+	void testEmpty() throws IOException, ResourceParseException {
+		var os = new ByteArrayOutputStream();
+		new VdypOutputWriter(
+				controlMap, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(os)
+		).close();
+
+		resolver.addStream("test.bin", new ByteArrayInputStream(os.toByteArray()));
+
+		var readerControlMap = readerControlMap();
+		new VdypBinaryOutputReader().modify(readerControlMap, "test.bin", resolver);
+
+		try (var polygons = this.<VdypPolygon>stream(readerControlMap, ControlKey.FORWARD_INPUT_VDYP_POLY)) {
+			assertFalse(polygons.hasNext(), "stream is not empty");
+			assertThrows(NoSuchElementException.class, () -> polygons.next());
+		}
+	}
+
+	@Test
+	void testNotBinaryOutput() throws IOException {
+		var os = new ByteArrayOutputStream();
+		try (var dos = new DataOutputStream(os)) {
+			dos.writeInt(VdypBinaryOutputFormat.MAGIC + 1);
+			dos.writeShort(VdypBinaryOutputFormat.VERSION);
+		}
+
+		resolver.addStream("test.bin", new ByteArrayInputStream(os.toByteArray()));
+
+		var readerControlMap = readerControlMap();
+		new VdypBinaryOutputReader().modify(readerControlMap, "test.bin", resolver);
+
+		var ex = assertThrows(
+				IOException.class, () -> this.<VdypPolygon>stream(readerControlMap, ControlKey.FORWARD_INPUT_VDYP_POLY)
+		);
+		assertThat(ex.getMessage(), containsString("test.bin"));
+	}
+
+	@Test
+	void testReadsAsTextParsersDo() throws IOException, ResourceParseException {
+		var polygonText = new ByteArrayOutputStream();
+		var speciesText = new ByteArrayOutputStream();
+		var utilizationText = new ByteArrayOutputStream();
+		var binary = new ByteArrayOutputStream();
+
+		try (
+				var writer = new VdypOutputWriter(
+						controlMap, Optional.of(polygonText), Optional.of(speciesText), Optional.of(utilizationText),
+						Optional.empty(), Optional.of(binary)
+				)
+		) {
+			var polygon = buildTestPolygonAndChildren();
+			writer.writePolygonWithSpeciesAndUtilizationForYear(polygon, 1988);
+			writer.writePolygonWithSpeciesAndUtilizationForYear(polygon, 1989);
+		}
+
+		resolver.addStream("vp.dat", new ByteArrayInputStream(polygonText.toByteArray()));
+		resolver.addStream("vs.dat", new ByteArrayInputStream(speciesText.toByteArray()));
+		resolver.addStream("vu.dat", new ByteArrayInputStream(utilizationText.toByteArray()));
+		resolver.addStream("test.bin", new ByteArrayInputStream(binary.toByteArray()));
+
+		var textControlMap = readerControlMap();
+		textControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_POLY.name(),
+				new VdypPolygonParser().map("vp.dat", resolver, textControlMap)
+		);
+		textControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(),
+				new VdypSpeciesParser().map("vs.dat", resolver, textControlMap)
+		);
+		textControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
+				new VdypUtilizationParser().map("vu.dat", resolver, textControlMap)
+		);
+
+		var binaryControlMap = readerControlMap();
+		new VdypBinaryOutputReader().modify(binaryControlMap, "test.bin", resolver);
+
+		try (
+				var textPolygons = (VdypPolygonStream) this
+						.<VdypPolygon>stream(textControlMap, ControlKey.FORWARD_INPUT_VDYP_POLY);
+				var textSpecies = this.<Collection<VdypSpecies>>stream(
+						textControlMap, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES
+				);
+				var textUtilizations = this.<Collection<VdypUtilization>>stream(
+						textControlMap, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL
+				);
+				var binaryPolygons = (VdypPolygonStream) this
+						.<VdypPolygon>stream(binaryControlMap, ControlKey.FORWARD_INPUT_VDYP_POLY);
+				var binarySpecies = this.<Collection<VdypSpecies>>stream(
+						binaryControlMap, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES
+				);
+				var binaryUtilizations = this.<Collection<VdypUtilization>>stream(
+						binaryControlMap, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL
+				);
+		) {
+			int polygonCount = 0;
+			while (textPolygons.hasNext()) {
+				assertTrue(binaryPolygons.hasNext(), "binary stream ended early");
+
+				assertSamePolygon(textPolygons.next(), binaryPolygons.next());
+				assertThat(binaryPolygons.getBasalAreaGroup(), is(textPolygons.getBasalAreaGroup()));
+
+				assertSameUtilizations(textUtilizations.next(), binaryUtilizations.next());
+				assertSameSpecies(textSpecies.next(), binarySpecies.next());
+
+				polygonCount++;
+			}
+			assertThat(polygonCount, is(2));
+			assertFalse(binaryPolygons.hasNext(), "binary stream has extra polygons");
+			assertFalse(binarySpecies.hasNext(), "binary stream has extra species");
+			assertFalse(binaryUtilizations.hasNext(), "binary stream has extra utilizations");
+		}
+	}
+
+	private Map<String, Object> readerControlMap() {
+		var readerControlMap = new HashMap<String, Object>();
+		readerControlMap.put(ControlKey.BEC_DEF.name(), controlMap.get(ControlKey.BEC_DEF.name()));
+		readerControlMap.put(ControlKey.SP0_DEF.name(), controlMap.get(ControlKey.SP0_DEF.name()));
+		return readerControlMap;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> StreamingParser<T> stream(Map<String, Object> control, ControlKey key) throws IOException {
+		return ((StreamingParserFactory<T>) control.get(key.name())).get();
+	}
+
+	private static void assertSamePolygon(VdypPolygon expected, VdypPolygon actual) {
+		assertThat(actual.getPolygonIdentifier(), is(expected.getPolygonIdentifier()));
+		assertThat(actual.getBiogeoclimaticZone(), is(expected.getBiogeoclimaticZone()));
+		assertThat(actual.getForestInventoryZone(), is(expected.getForestInventoryZone()));
+		assertThat(actual.getPercentAvailable(), is(expected.getPercentAvailable()));
+		assertThat(actual.getInventoryTypeGroup(), is(expected.getInventoryTypeGroup()));
+		assertThat(actual.getMode(), is(expected.getMode()));
+	}
+
+	private static void assertSameSpecies(Collection<VdypSpecies> expected, Collection<VdypSpecies> actual) {
+		assertThat(actual, hasSize(expected.size()));
+
+		var expectedList = new ArrayList<>(expected);
+		var actualList = new ArrayList<>(actual);
+		for (int i = 0; i < expectedList.size(); i++) {
+			var e = expectedList.get(i);
+			var a = actualList.get(i);
+
+			assertThat(a.getPolygonIdentifier(), is(e.getPolygonIdentifier()));
+			assertThat(a.getLayerType(), is(e.getLayerType()));
+			assertThat(a.getGenus(), is(e.getGenus()));
+			assertThat(a.getGenusIndex(), is(e.getGenusIndex()));
+			assertThat(a.getIsPrimary(), is(e.getIsPrimary()));
+			assertThat(a.getSp64DistributionSet(), is(e.getSp64DistributionSet()));
+
+			var eSite = e.getSite().orElseThrow();
+			var aSite = a.getSite().orElseThrow();
+			assertThat(aSite.getSiteIndex(), is(eSite.getSiteIndex()));
+			assertThat(aSite.getHeight(), is(eSite.getHeight()));
+			assertThat(aSite.getAgeTotal(), is(eSite.getAgeTotal()));
+			assertThat(aSite.getYearsAtBreastHeight(), is(eSite.getYearsAtBreastHeight()));
+			assertThat(aSite.getYearsToBreastHeight(), is(eSite.getYearsToBreastHeight()));
+			assertThat(aSite.getSiteCurveNumber(), is(eSite.getSiteCurveNumber()));
+		}
+	}
+
+	private static void
+			assertSameUtilizations(Collection<VdypUtilization> expected, Collection<VdypUtilization> actual) {
+		assertThat(actual, hasSize(expected.size()));
+
+		var expectedList = new ArrayList<>(expected);
+		var actualList = new ArrayList<>(actual);
+		for (int i = 0; i < expectedList.size(); i++) {
+			var e = expectedList.get(i);
+			var a = actualList.get(i);
+
+			assertThat(a.getPolygonId(), is(e.getPolygonId()));
+			assertThat(a.getLayerType(), is(e.getLayerType()));
+			assertThat(a.getGenusIndex(), is(e.getGenusIndex()));
+			assertThat(a.getGenus(), is(e.getGenus()));
+			assertThat(a.getUcIndex(), is(e.getUcIndex()));
+
+			assertSameValue(e.getBasalArea(), a.getBasalArea());
+			assertSameValue(e.getLiveTreesPerHectare(), a.getLiveTreesPerHectare());
+			assertSameValue(e.getLoreyHeight(), a.getLoreyHeight());
+			assertSameValue(e.getWholeStemVolume(), a.getWholeStemVolume());
+			assertSameValue(e.getCloseUtilizationVolume(), a.getCloseUtilizationVolume());
+			assertSameValue(e.getCuVolumeMinusDecay(), a.getCuVolumeMinusDecay());
+			assertSameValue(e.getCuVolumeMinusDecayWastage(), a.getCuVolumeMinusDecayWastage());
+			assertSameValue(e.getCuVolumeMinusDecayWastageBreakage(), a.getCuVolumeMinusDecayWastageBreakage());
+			assertSameValue(e.getQuadraticMeanDiameterAtBH(), a.getQuadraticMeanDiameterAtBH());
+		}
+	}
+
+	private static void assertSameValue(float expected, float actual) {
+		if (Float.isNaN(expected)) {
+			assertTrue(Float.isNaN(actual), "expected NaN but saw " + actual);
+		} else {
+			assertThat(actual, closeTo(expected));
+		}
+	}
+
+	private VdypPolygon buildTestPolygonAndChildren() {
+
+		VdypPolygon polygon = VdypPolygon.build(pb -> {
+
+			pb.polygonIdentifier("082E004    615       1988");
+			pb.percentAvailable(90f);
+			pb.biogeoclimaticZone(Utils.getBec("IDF", controlMap));
+			pb.forestInventoryZone("D");
+			pb.mode(PolygonMode.START);
+
+		});
+
+		var layer = VdypLayer.build(polygon, lb -> {
+			lb.layerType(LayerType.PRIMARY);
+
+			lb.primaryGenus("PL");
+
+			lb.controlMap(controlMap);
+
+			lb.addSpecies(sb -> {
+				sb.speciesGroup("PL");
+				sb.percentGenus(100);
+				sb.volumeGroup(0);
+				sb.decayGroup(0);
+				sb.breakageGroup(0);
+				sb.addSp64Distribution("PL", 75);
+				sb.addSp64Distribution("PLI", 25);
+
+				sb.addSite(ib -> {
+					ib.height(15f);
+					ib.siteIndex(14.7f);
+					ib.ageTotal(60f);
+					ib.yearsToBreastHeight(8.5f);
+					ib.yearsAtBreastHeightAuto();
+					ib.siteCurveNumber(0);
+				});
+			});
+		});
+
+		var species = layer.getSpecies().get("PL");
+
+		layer.setEmpiricalRelationshipParameterIndex(Optional.of(119));
+		layer.setInventoryTypeGroup(Optional.of(28));
+
+		for (var holder : List.<VdypUtilizationHolder>of(layer, species)) {
+			holder.setBaseAreaByUtilization(
+					Utils.utilizationVector(0.02865f, 19.97867f, 6.79731f, 8.54690f, 3.63577f, 0.99869f)
+			);
+			holder.setTreesPerHectareByUtilization(
+					Utils.utilizationVector(9.29f, 1485.82f, 834.25f, 509.09f, 123.56f, 18.92f)
+			);
+			holder.setLoreyHeightByUtilization(Utils.heightVector(7.8377f, 13.0660f));
+			holder.setWholeStemVolumeByUtilization(
+					Utils.utilizationVector(0.1077f, 117.9938f, 33.3680f, 52.4308f, 25.2296f, 6.9654f)
+			);
+			holder.setCloseUtilizationVolumeByUtilization(
+					Utils.utilizationVector(0f, 67.7539f, 2.4174f, 36.8751f, 22.0156f, 6.4459f)
+			);
+			holder.setCloseUtilizationVolumeNetOfDecayByUtilization(
+					Utils.utilizationVector(0f, 67.0665f, 2.3990f, 36.5664f, 21.7930f, 6.3080f)
+			);
+			holder.setCloseUtilizationVolumeNetOfDecayAndWasteByUtilization(
+					Utils.utilizationVector(0f, 66.8413f, 2.3951f, 36.4803f, 21.7218f, 6.2442f)
+			);
+			holder.setCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization(
+					Utils.utilizationVector(0f, 65.4214f, 2.3464f, 35.7128f, 21.2592f, 6.1030f)
+			);
+		}
+
+		return polygon;
+	}
+}
@@ -0,0 +1,67 @@
+package ca.bc.gov.nrs.vdyp.io.parse.projection;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
+
+class OutputYearsParserTest {
+
+	@Test
+	void testNullInput() {
+		try {
+			var parser = new OutputYearsParser();
+			parser.parse(null);
+			Assertions.fail();
+		} catch (ValueParseException e) {
+			assertThat(e, hasProperty("message", is("OutputYearsParser: supplied string is null")));
+		}
+	}
+
+	@Test
+	void testEmptyInput() {
+		try {
+			var parser = new OutputYearsParser();
+			parser.parse("   ");
+			Assertions.fail();
+		} catch (ValueParseException e) {
+			assertThat(e, hasProperty("message", is("OutputYearsParser: supplied string \"   \" is empty")));
+		}
+	}
+
+	@Test
+	void testInvalidInput() {
+		var parser = new OutputYearsParser();
+
+		assertThrows(ValueParseException.class, () -> parser.parse("a"));
+		assertThrows(ValueParseException.class, () -> parser.parse("2000-1990"));
+		assertThrows(ValueParseException.class, () -> parser.parse("1990-2000/0"));
+	}
+
+	@Test
+	void testValidInput() throws Exception {
+		var parser = new OutputYearsParser();
+
+		var years = parser.parse("2025 1990-1992 2000-2030/10");
+		assertThat(years.getYears(), contains(1990, 1991, 1992, 2000, 2010, 2020, 2025, 2030));
+		assertThat(years.getFirstYear(), is(1990));
+		assertThat(years.getLastYear(), is(2030));
+		assertThat(years.contains(2010), is(true));
+		assertThat(years.contains(2011), is(false));
+	}
+
+	@Test
+	void testControlStringRoundTrip() throws Exception {
+		var years = OutputYears.of(List.of(1987, 1990, 1991, 1992, 2000, 2010, 2020, 2025, 2030, 2040));
+
+		assertThat(years.toControlString(), is("1987 1990-1992 2000-2020/10 2025 2030 2040"));
+		assertThat(new OutputYearsParser().parse(years.toControlString()), is(years));
+	}
+}
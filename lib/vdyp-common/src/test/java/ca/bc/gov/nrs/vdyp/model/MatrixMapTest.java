@@ -214,6 +214,33 @@ class MatrixMapTest {
 		assertThat(map.getM("b", 2), present(is('Y')));
 	}
 
+	@Test
+	void testTypedKeys() {
+		var map = new MatrixMap3Impl<String, UtilizationClass, Integer, Character>(
+				Arrays.asList("a", "b"), EnumSet.of(UtilizationClass.U75TO125, UtilizationClass.OVER225),
+				Arrays.asList(1, 2), (k1, k2, k3) -> null
+		);
+
+		map.put("b", UtilizationClass.OVER225, 2, 'X');
+
+		assertThat(map.get("b", UtilizationClass.OVER225, 2), is('X'));
+		assertThat(map.getM("b", UtilizationClass.OVER225, 2), is('X'));
+		assertThat(map.get("a", UtilizationClass.OVER225, 2), nullValue());
+
+		// An enum constant that is not part of its dimension is rejected like any other key
+		assertThrows(IllegalArgumentException.class, () -> map.get("b", UtilizationClass.U125TO175, 2));
+		assertThrows(IllegalArgumentException.class, () -> map.get("c", UtilizationClass.OVER225, 2));
+
+		var map2 = new MatrixMap2Impl<String, Region, Integer>(
+				Arrays.asList("a", "b"), EnumSet.of(Region.INTERIOR), (k1, k2) -> null
+		);
+		map2.put("a", Region.INTERIOR, 1);
+
+		assertThat(map2.get("a", Region.INTERIOR), is(1));
+		assertThat(map2.hasM("a", "INTERIOR"), is(false));
+		assertThrows(IllegalArgumentException.class, () -> map2.get("a", Region.COASTAL));
+	}
+
 	@Nested
 	class EqualityAndHash {
 
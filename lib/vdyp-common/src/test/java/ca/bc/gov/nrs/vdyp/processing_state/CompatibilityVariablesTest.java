@@ -0,0 +1,146 @@
+package ca.bc.gov.nrs.vdyp.processing_state;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3Impl;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClassVariable;
+import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
+
+class CompatibilityVariablesTest {
+
+	@Test
+	void testInitiallyZero() {
+		var unit = new CompatibilityVariables(2);
+
+		assertThat(unit.getNSpecies(), is(2));
+		for (int s = 0; s <= 2; s++) {
+			for (var uc : UtilizationClass.values()) {
+				for (var lt : LayerType.values()) {
+					for (var vv : VolumeVariable.values()) {
+						assertThat(unit.getVolume(s, uc, vv, lt), is(0f));
+					}
+					assertThat(unit.getBasalArea(s, uc, lt), is(0f));
+					assertThat(unit.getQuadMeanDiameter(s, uc, lt), is(0f));
+				}
+			}
+			for (var ucv : UtilizationClassVariable.values()) {
+				assertThat(unit.getSmall(s, ucv), is(0f));
+			}
+		}
+	}
+
+	@Test
+	void testValuesAreIndependent() {
+		var unit = new CompatibilityVariables(3);
+
+		float value = 1f;
+		for (int s = 1; s <= 3; s++) {
+			for (var uc : UtilizationClass.values()) {
+				for (var lt : LayerType.values()) {
+					for (var vv : VolumeVariable.values()) {
+						unit.setVolume(s, uc, vv, lt, value++);
+					}
+					unit.setBasalArea(s, uc, lt, value++);
+					unit.setQuadMeanDiameter(s, uc, lt, value++);
+				}
+			}
+			for (var ucv : UtilizationClassVariable.values()) {
+				unit.setSmall(s, ucv, value++);
+			}
+		}
+
+		float expected = 1f;
+		for (int s = 1; s <= 3; s++) {
+			for (var uc : UtilizationClass.values()) {
+				for (var lt : LayerType.values()) {
+					for (var vv : VolumeVariable.values()) {
+						assertThat(unit.getVolume(s, uc, vv, lt), is(expected++));
+					}
+					assertThat(unit.getBasalArea(s, uc, lt), is(expected++));
+					assertThat(unit.getQuadMeanDiameter(s, uc, lt), is(expected++));
+				}
+			}
+			for (var ucv : UtilizationClassVariable.values()) {
+				assertThat(unit.getSmall(s, ucv), is(expected++));
+			}
+		}
+	}
+
+	@Test
+	void testSliceReadsThrough() {
+		var unit = new CompatibilityVariables(2);
+		var slice = unit.slice(2);
+
+		unit.setVolume(2, UtilizationClass.OVER225, VolumeVariable.CLOSE_UTIL_VOL, LayerType.PRIMARY, 3f);
+		unit.setBasalArea(2, UtilizationClass.U75TO125, LayerType.PRIMARY, 5f);
+		unit.setQuadMeanDiameter(2, UtilizationClass.U125TO175, LayerType.PRIMARY, 7f);
+		unit.setSmall(2, UtilizationClassVariable.LOREY_HEIGHT, 11f);
+		unit.setSmall(1, UtilizationClassVariable.LOREY_HEIGHT, 13f);
+
+		assertThat(slice.getVolume(UtilizationClass.OVER225, VolumeVariable.CLOSE_UTIL_VOL, LayerType.PRIMARY), is(3f));
+		assertThat(slice.getBasalArea(UtilizationClass.U75TO125, LayerType.PRIMARY), is(5f));
+		assertThat(slice.getQuadMeanDiameter(UtilizationClass.U125TO175, LayerType.PRIMARY), is(7f));
+		assertThat(slice.getSmall(UtilizationClassVariable.LOREY_HEIGHT), is(11f));
+
+		unit.setSmall(2, UtilizationClassVariable.LOREY_HEIGHT, 17f);
+		assertThat(slice.getSmall(UtilizationClassVariable.LOREY_HEIGHT), is(17f));
+	}
+
+	@Test
+	void testSliceOutOfRange() {
+		var unit = new CompatibilityVariables(2);
+
+		assertThrows(IllegalArgumentException.class, () -> unit.slice(0));
+		assertThrows(IllegalArgumentException.class, () -> unit.slice(3));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testOfMaps() {
+		MatrixMap3<UtilizationClass, VolumeVariable, LayerType, Float>[] cvVolume = new MatrixMap3[] { null,
+				new MatrixMap3Impl<UtilizationClass, VolumeVariable, LayerType, Float>(
+						UtilizationClass.UTIL_CLASSES, VolumeVariable.ALL, LayerType.ALL_USED,
+						(uc, vv, lt) -> 11f + vv.ordinal() * 2f + uc.ordinal() * 3f + lt.ordinal() * 5f
+				) };
+		MatrixMap2<UtilizationClass, LayerType, Float>[] cvBa = new MatrixMap2[] { null,
+				new MatrixMap2Impl<UtilizationClass, LayerType, Float>(
+						List.of(UtilizationClass.values()), List.of(LayerType.values()),
+						(uc, lt) -> 13f + uc.ordinal() * 3f + lt.ordinal() * 5f
+				) };
+		MatrixMap2<UtilizationClass, LayerType, Float>[] cvDq = new MatrixMap2[] { null,
+				new MatrixMap2Impl<UtilizationClass, LayerType, Float>(
+						List.of(UtilizationClass.values()), List.of(LayerType.values()), (uc, lt) -> null
+				) };
+		Map<UtilizationClassVariable, Float>[] cvSm = new EnumMap[] { null,
+				new EnumMap<UtilizationClassVariable, Float>(UtilizationClassVariable.class) };
+		cvSm[1].put(UtilizationClassVariable.QUAD_MEAN_DIAMETER, 7f);
+
+		var unit = CompatibilityVariables.of(cvVolume, cvBa, cvDq, cvSm);
+
+		assertThat(unit.getNSpecies(), is(1));
+		assertThat(
+				unit.getVolume(1, UtilizationClass.U125TO175, VolumeVariable.CLOSE_UTIL_VOL, LayerType.VETERAN),
+				is(11f + VolumeVariable.CLOSE_UTIL_VOL.ordinal() * 2f + 3 * 3f + LayerType.VETERAN.ordinal() * 5f)
+		);
+		// Absent from the map
+		assertThat(unit.getVolume(1, UtilizationClass.ALL, VolumeVariable.CLOSE_UTIL_VOL, LayerType.PRIMARY), is(0f));
+		assertThat(unit.getBasalArea(1, UtilizationClass.ALL, LayerType.PRIMARY), is(16f));
+		// Null in the map
+		assertThat(unit.getQuadMeanDiameter(1, UtilizationClass.ALL, LayerType.PRIMARY), is(0f));
+		assertThat(unit.getSmall(1, UtilizationClassVariable.QUAD_MEAN_DIAMETER), is(7f));
+		assertThat(unit.getSmall(1, UtilizationClassVariable.BASAL_AREA), is(0f));
+	}
+}
@@ -200,7 +200,9 @@ public class Parameters {
 		REPORT_INCLUDE_ND_WAST_BRKG_VOLUME("reportIncludeNDWasteBrkgVolume"), //
 		REPORT_INCLUDE_VOLUME_MAI("reportIncludeVolumeMAI"), //
 		REPORT_INCLUDE_SPEC_COMP("reportIncludeSpeciesComp"), //
-		REPORT_INCLUDE_CULMINATION_VALUES("reportIncludeCulminationValues");
+		REPORT_INCLUDE_CULMINATION_VALUES("reportIncludeCulminationValues"), //
+		DO_USE_TABULATED_SITE_INDEX_CURVES("doUseTabulatedSiteIndexCurves"), //
+		DO_USE_BRENT_SITE_INDEX_INVERSION("doUseBrentSiteIndexInversion");
 
 		private String value;
 
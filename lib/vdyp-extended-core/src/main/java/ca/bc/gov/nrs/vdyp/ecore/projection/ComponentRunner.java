@@ -5,7 +5,15 @@ import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.YieldTableGenerationException;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.Polygon;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProjectionTypeCode;
 
-public interface ComponentRunner {
+public interface ComponentRunner extends AutoCloseable {
+
+	/**
+	 * @return true if the components exchange their data in memory, in which case no execution folder is created on
+	 *         disk for the polygons they process.
+	 */
+	default boolean executesInMemory() {
+		return false;
+	}
 
 	void runFipStart(Polygon polygon, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state)
 			throws PolygonExecutionException;
@@ -24,4 +32,12 @@ public interface ComponentRunner {
 
 	void generateYieldTables(ProjectionContext context, Polygon polygon, PolygonProjectionState state)
 			throws YieldTableGenerationException;
+
+	/**
+	 * Release any components kept for reuse from polygon to polygon.
+	 */
+	@Override
+	default void close() {
+		// nothing to do
+	}
 }
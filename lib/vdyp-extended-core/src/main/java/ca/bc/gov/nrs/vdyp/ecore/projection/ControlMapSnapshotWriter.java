@@ -0,0 +1,44 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapSnapshot;
+
+/**
+ * Writes the {@link ControlMapSnapshot} of the configurations named by the control files of the execution folder
+ * template. Run by the build, with the path of the {@value ControlMapSnapshot#RESOURCE_NAME} resource to be written as
+ * its argument.
+ */
+public class ControlMapSnapshotWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ControlMapSnapshotWriter.class);
+
+	private ControlMapSnapshotWriter() {
+	}
+
+	public static void main(String[] args) throws IOException, ResourceParseException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: ControlMapSnapshotWriter <snapshot file>");
+		}
+		var snapshotFile = Path.of(args[0]);
+
+		// Parse afresh rather than from any snapshot already on the class path
+		var cache = new ControlMapCache();
+		PolygonProjectionRunner.initializeControlMapCache(cache);
+
+		var snapshot = cache.snapshot();
+		Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+		try (var os = new BufferedOutputStream(Files.newOutputStream(snapshotFile))) {
+			snapshot.write(os);
+		}
+		logger.info("Wrote control map snapshot of {} configurations to {}", snapshot.size(), snapshotFile);
+	}
+}
@@ -0,0 +1,35 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection;
+
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.application.VdypApplication;
+import ca.bc.gov.nrs.vdyp.common.VdypApplicationInitializationException;
+import ca.bc.gov.nrs.vdyp.common.VdypApplicationProcessingException;
+import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProjectionTypeCode;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
+
+/**
+ * A {@link RealComponentRunner} whose components exchange their data in memory. No execution folder is created for
+ * the polygons it processes; the control and coefficient files are read from a single in-memory copy of the execution
+ * folder template, and the files that one component writes for the next are held in memory for the lifetime of the
+ * polygon's {@link PolygonProjectionState}.
+ * <p>
+ * The coefficients named by the control files are taken from the JVM-wide {@link ControlMapCache}, so they are parsed
+ * once rather than once per polygon.
+ */
+public class InMemoryComponentRunner extends RealComponentRunner {
+
+	@Override
+	public boolean executesInMemory() {
+		return true;
+	}
+
+	@Override
+	protected void doMain(
+			VdypApplication<?> app, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state,
+			List<String> controlFiles
+	) throws VdypApplicationInitializationException, VdypApplicationProcessingException {
+		app.setControlMapCache(ControlMapCache.getShared());
+		app.doMain(state.getFileResolver(projectionTypeCode), controlFiles.toArray(String[]::new));
+	}
+}
@@ -1,14 +1,19 @@
 package ca.bc.gov.nrs.vdyp.ecore.projection;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,10 +56,19 @@ import ca.bc.gov.nrs.vdyp.exceptions.ResultBaseAreaLowException;
 import ca.bc.gov.nrs.vdyp.exceptions.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.exceptions.TotalAgeLowException;
 import ca.bc.gov.nrs.vdyp.exceptions.UnsupportedModeException;
+import ca.bc.gov.nrs.vdyp.fip.FipControlParser;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlFileParser;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ProcessingControlParser;
 import ca.bc.gov.nrs.vdyp.io.write.ControlFileWriter;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.vri.VriControlParser;
 
 /**
  * This class is the internal representation of a Polygon to be projected.
@@ -72,6 +86,15 @@ public class PolygonProjectionRunner {
 	private final PolygonProjectionState state;
 	private final ProjectionParameters projectionParameters;
 
+	private record DeferredError(String message, Object[] args) {
+	}
+
+	/**
+	 * When present, errors are held here rather than being written to the context's error log, until
+	 * {@link #flushErrorLog()} is called.
+	 */
+	private List<DeferredError> deferredErrors = null;
+
 	/**
 	 * Create a runner for the given {@link Polygon}, in the given {@link ProjectionContext}, using the given
 	 * {@link RealComponentRunner}.
@@ -126,6 +149,40 @@ public class PolygonProjectionRunner {
 		VdypMethods.remapCurrentSICurves(CURVES_TO_REMAP);
 	}
 
+	/**
+	 * Parses the coefficient files named by the FIPSTART, VRISTART and Forward control files of the execution folder
+	 * template into the shared {@link ControlMapCache}, so that the first projections to run need not. Failure is not
+	 * fatal; the configurations are then parsed when first used.
+	 */
+	public static void initializeControlMapCache() {
+		try {
+			initializeControlMapCache(ControlMapCache.getShared());
+		} catch (IOException | ResourceParseException e) {
+			logger.warn("Unable to initialize the control map cache", e);
+		}
+	}
+
+	/**
+	 * Parses the coefficient files named by the FIPSTART, VRISTART and Forward control files of the execution folder
+	 * template into the given cache.
+	 *
+	 * @param cache the cache to initialize
+	 * @throws IOException
+	 * @throws ResourceParseException
+	 */
+	static void initializeControlMapCache(ControlMapCache cache) throws IOException, ResourceParseException {
+		var template = new MemoryFileResolver(getExecutionFolderTemplate());
+
+		new FipControlParser()
+				.parseByName(List.of(Vdyp7Constants.FIP_START_CONTROL_FILE_NAME), template, new HashMap<>(), cache);
+		new VriControlParser()
+				.parseByName(List.of(Vdyp7Constants.VRI_START_CONTROL_FILE_NAME), template, new HashMap<>(), cache);
+		new ProcessingControlParser()
+				.parseByName(List.of(Vdyp7Constants.FORWARD_CONTROL_FILE_NAME), template, new HashMap<>(), cache);
+
+		logger.info("Control map cache initialized with {} configurations", cache.size());
+	}
+
 	/**
 	 * Run the projection
 	 *
@@ -142,6 +199,20 @@ public class PolygonProjectionRunner {
 		// of code such as "V7Ext_ProjectStandByAge" and "YldTable_GeneratePolygonYieldTables" but not all. It's hard
 		// to understand why things are done the way they are.
 
+		projectPolygon();
+
+		generateYieldTablesForPolygon();
+	}
+
+	/**
+	 * Run the projection up to, but not including, the generation of the polygon's yield tables. Unlike yield table
+	 * generation, this may be run concurrently for any number of polygons of the same context, provided that the
+	 * error log has been deferred (see {@link #deferErrorLog()}).
+	 *
+	 * @throws PolygonExecutionException if there's an exception during the projection
+	 */
+	void projectPolygon() throws PolygonExecutionException {
+
 		buildPolygonProjectionExecutionStructure();
 
 		performInitialProcessing();
@@ -154,12 +225,45 @@ public class PolygonProjectionRunner {
 		performAdjustProcessing();
 
 		performProjection();
+	}
 
-		generateYieldTablesForPolygon();
+	/**
+	 * Hold the errors this runner logs until {@link #flushErrorLog()} is called, so that the error log entries of
+	 * polygons projected concurrently can be written in input order.
+	 */
+	void deferErrorLog() {
+		if (deferredErrors == null) {
+			deferredErrors = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Write any deferred errors to the context's error log, in the order in which they were logged.
+	 */
+	void flushErrorLog() {
+		if (deferredErrors != null) {
+			for (var error : deferredErrors) {
+				context.logError(error.message(), error.args());
+			}
+			deferredErrors.clear();
+		}
+	}
+
+	private void logError(String message, Object... args) {
+		if (deferredErrors != null) {
+			deferredErrors.add(new DeferredError(message, args));
+		} else {
+			context.logError(message, args);
+		}
 	}
 
 	void buildPolygonProjectionExecutionStructure() throws PolygonExecutionException {
 
+		if (componentRunner.executesInMemory()) {
+			buildPolygonProjectionInMemoryStructure();
+			return;
+		}
+
 		try {
 			Path executionFolderPath = Path.of(context.getExecutionFolder().toString(), polygon.toString());
 			Path executionFolder = Files.createDirectory(executionFolderPath);
@@ -182,6 +286,51 @@ public class PolygonProjectionRunner {
 		}
 	}
 
+	private void buildPolygonProjectionInMemoryStructure() throws PolygonExecutionException {
+
+		try {
+			var template = getExecutionFolderTemplate();
+
+			for (ProjectionTypeCode projectionType : ProjectionTypeCode.ACTUAL_PROJECTION_TYPES_LIST) {
+
+				if (polygon.getLayerByProjectionType(projectionType) != null) {
+					logger.debug(
+							"{}: creating in-memory execution folder for projectionType {}", polygon, projectionType
+					);
+
+					state.setInMemoryFolder(projectionType, new MemoryFileResolver(template));
+				}
+			}
+		} catch (IOException e) {
+			throw new PolygonExecutionException(polygon.getFeatureId(), e);
+		}
+	}
+
+	private static Map<String, byte[]> executionFolderTemplate = null;
+
+	/**
+	 * @return the content of the execution folder template, which is read from the class path the first time it is
+	 *         required and shared by all in-memory execution folders thereafter.
+	 * @throws IOException
+	 */
+	private static synchronized Map<String, byte[]> getExecutionFolderTemplate() throws IOException {
+		if (executionFolderTemplate == null) {
+			try (
+					InputStream is = ProjectionUtils.class.getClassLoader()
+							.getResourceAsStream(EXECUTION_FOLDER_TEMPLATE_ZIP_FILE_NAME)
+			) {
+				if (is == null) {
+					throw new IOException(
+							MessageFormat
+									.format("Unable to locate resource {0}", EXECUTION_FOLDER_TEMPLATE_ZIP_FILE_NAME)
+					);
+				}
+				executionFolderTemplate = MemoryFileResolver.readZip(is);
+			}
+		}
+		return executionFolderTemplate;
+	}
+
 	/**
 	 * <b>V7Ext_PerformInitialProcessing</b>
 	 * <p>
@@ -280,7 +429,7 @@ public class PolygonProjectionRunner {
 				} else {
 					if (oFipResult.isPresent()) {
 						polygon.disableProjectionsOfType(projectionType);
-						context.logError(
+						logError(
 								ErrorMessageUtils.BuildVDYPApplicationErrorMessage(
 										VdypApplicationIdentifier.FIP_START, polygon, "running", oFipResult.get()
 								)
@@ -363,7 +512,7 @@ public class PolygonProjectionRunner {
 						}
 					}
 
-					context.logError(
+					logError(
 							ErrorMessageUtils.BuildVDYPApplicationErrorMessage(
 									VdypApplicationIdentifier.VRI_START, polygon, "running", oVriResult.get()
 							)
@@ -534,20 +683,15 @@ public class PolygonProjectionRunner {
 			ProjectionTypeCode projectionType, ProcessingModeCode processingMode, PolygonProjectionState state
 	) throws PolygonExecutionException {
 
-		Path stepExecutionFolder = Path.of(state.getExecutionFolder().toString(), projectionType.toString());
+		FileResolver stepExecutionFolder = state.getFileResolver(projectionType);
 
-		FileOutputStream polygonOutputStream = null;
-		FileOutputStream layersOutputStream = null;
-		FileOutputStream speciesOutputStream = null;
+		OutputStream polygonOutputStream = null;
+		OutputStream layersOutputStream = null;
+		OutputStream speciesOutputStream = null;
 		try {
-			Path polygonFile = Path.of(stepExecutionFolder.toString(), "fip_p01.dat");
-			polygonOutputStream = new FileOutputStream(polygonFile.toFile());
-
-			Path layersFile = Path.of(stepExecutionFolder.toString(), "fip_l01.dat");
-			layersOutputStream = new FileOutputStream(layersFile.toFile());
-
-			Path speciesFile = Path.of(stepExecutionFolder.toString(), "fip_ls01.dat");
-			speciesOutputStream = new FileOutputStream(speciesFile.toFile());
+			polygonOutputStream = stepExecutionFolder.resolveForOutput("fip_p01.dat");
+			layersOutputStream = stepExecutionFolder.resolveForOutput("fip_l01.dat");
+			speciesOutputStream = stepExecutionFolder.resolveForOutput("fip_ls01.dat");
 
 			try (
 					var outputWriter = new FipStartOutputWriter(
@@ -575,25 +719,18 @@ public class PolygonProjectionRunner {
 	private void createVriInputData(ProjectionTypeCode projectionTypeCode, PolygonProjectionState state)
 			throws PolygonExecutionException {
 
-		Path stepExecutionFolder = Path.of(state.getExecutionFolder().toString(), projectionTypeCode.toString());
+		FileResolver stepExecutionFolder = state.getFileResolver(projectionTypeCode);
 
-		FileOutputStream polygonOutputStream = null;
-		FileOutputStream layersOutputStream = null;
-		FileOutputStream speciesOutputStream = null;
-		FileOutputStream siteIndexOutputStream = null;
+		OutputStream polygonOutputStream = null;
+		OutputStream layersOutputStream = null;
+		OutputStream speciesOutputStream = null;
+		OutputStream siteIndexOutputStream = null;
 
 		try {
-			Path polygonFile = Path.of(stepExecutionFolder.toString(), "virnp01.dat");
-			polygonOutputStream = new FileOutputStream(polygonFile.toFile());
-
-			Path layersFile = Path.of(stepExecutionFolder.toString(), "vrinl01.dat");
-			layersOutputStream = new FileOutputStream(layersFile.toFile());
-
-			Path speciesFile = Path.of(stepExecutionFolder.toString(), "vrinsp01.dat");
-			speciesOutputStream = new FileOutputStream(speciesFile.toFile());
-
-			Path siteIndexFile = Path.of(stepExecutionFolder.toString(), "vrinsi01.dat");
-			siteIndexOutputStream = new FileOutputStream(siteIndexFile.toFile());
+			polygonOutputStream = stepExecutionFolder.resolveForOutput("virnp01.dat");
+			layersOutputStream = stepExecutionFolder.resolveForOutput("vrinl01.dat");
+			speciesOutputStream = stepExecutionFolder.resolveForOutput("vrinsp01.dat");
+			siteIndexOutputStream = stepExecutionFolder.resolveForOutput("vrinsi01.dat");
 
 			try (
 					var outputWriter = new VriStartOutputWriter(
@@ -752,7 +889,7 @@ public class PolygonProjectionRunner {
 
 			context.recordProjectionDetails(polygon, projectionType, projectionStartYear, firstRequestedYear);
 
-			Path executionFolder = Path.of(state.getExecutionFolder().toString(), projectionType.toString());
+			FileResolver executionFolder = state.getFileResolver(projectionType);
 
 			if (doAllowForward) {
 				if (yearsToGrowForward > 0) {
@@ -786,10 +923,16 @@ public class PolygonProjectionRunner {
 
 					// BACK read the backwards growth target value from entry 101 in the
 					// control file. Adjust the control file to contain this value.
-					rewriteTargetYearToBackControlFile(
-							polygon.getFeatureId(), state.getExecutionFolder(), measurementYear, yearsToGrowBack,
-							projectionType
-					);
+					if (state.isExecutingInMemory()) {
+						rewriteTargetYearToBackControlFile(
+								polygon.getFeatureId(), executionFolder, measurementYear, yearsToGrowBack
+						);
+					} else {
+						rewriteTargetYearToBackControlFile(
+								polygon.getFeatureId(), state.getExecutionFolder(), measurementYear, yearsToGrowBack,
+								projectionType
+						);
+					}
 
 					componentRunner.runBack(polygon, projectionType, state);
 
@@ -953,11 +1096,10 @@ public class PolygonProjectionRunner {
 		return year;
 	}
 
-	private void generateYearToGrowFile(Path executionFolder, int measurementYear, int yearsToGrow)
+	private void generateYearToGrowFile(FileResolver executionFolder, int measurementYear, int yearsToGrow)
 			throws PolygonExecutionException {
 		try {
-			Path growToYearFile = Path.of(executionFolder.toString(), "vin_y1.dat");
-			FileOutputStream growToYearOutputStream = new FileOutputStream(growToYearFile.toFile());
+			OutputStream growToYearOutputStream = executionFolder.resolveForOutput("vin_y1.dat");
 			try (var yearToGrowWriter = new VdypGrowToYearFileWriter(growToYearOutputStream)) {
 
 				yearToGrowWriter.writePolygon(polygon, measurementYear + yearsToGrow);
@@ -967,9 +1109,11 @@ public class PolygonProjectionRunner {
 		}
 	}
 
-	private Path generateStandControlFile(Path executionFolder) throws PolygonExecutionException {
-		Path path = Path.of(executionFolder.toString(), Vdyp7Constants.STAND_FORWARD_CONTROL_FILE_NAME);
-		try (var os = new FileOutputStream(path.toFile()); var writer = new ControlFileWriter(os)) {
+	private void generateStandControlFile(FileResolver executionFolder) throws PolygonExecutionException {
+		try (
+				var os = executionFolder.resolveForOutput(Vdyp7Constants.STAND_FORWARD_CONTROL_FILE_NAME);
+				var writer = new ControlFileWriter(os)
+		) {
 			writer.writeComment("Automatically generated control file for a specific stand");
 			// VTROL[1] = -1: per-polygon target year via vin_y1.dat, bypassing VDYP7's 1~400/1920~2400 range
 			// constraint.
@@ -978,10 +1122,64 @@ public class PolygonProjectionRunner {
 					Stream.of(-1, 2, 2, 3, 1, 1).map(i -> Integer.toString(i)).map(s -> StringUtils.leftPad(s, 4))
 							.collect(Collectors.joining(""))
 			);
+			// The yield tables are generated from the binary form of the projection results; the VDYP7 text files
+			// are written only when they are to be returned with the results or kept.
+			writer.writeEntry(
+					ControlKey.VDYP_OUTPUT_BINARY.sequence.get(), Vdyp7Constants.FORWARD_BINARY_OUTPUT_FILE_NAME
+			);
+			var params = context.getParams();
+			if (!params.containsOption(ExecutionOption.DO_INCLUDE_PROJECTION_FILES)
+					&& !params.containsOption(ExecutionOption.DO_SAVE_INTERMEDIATE_FILES)) {
+				writer.writeEntry(ControlKey.VDYP_OUTPUT_VDYP_POLYGON.sequence.get(), "");
+				writer.writeEntry(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.sequence.get(), "");
+				writer.writeEntry(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.sequence.get(), "");
+
+				// With no text files to return, Forward need write (and grow to) only the years the yield tables read.
+				var outputYears = determineOutputYears();
+				if (outputYears.isPresent()) {
+					writer.writeEntry(ControlKey.VDYP_OUTPUT_YEARS.sequence.get(), outputYears.get().toControlString());
+				}
+			}
 		} catch (IOException e) {
 			throw new PolygonExecutionException(polygon.getFeatureId(), e);
 		}
-		return path;
+	}
+
+	/**
+	 * Determine the years of the projection results that the yield tables of the polygon will read.
+	 *
+	 * @return the years, or empty if they can't be determined or are too many to be given in a control file, in which
+	 *         case all years are to be written.
+	 */
+	private Optional<OutputYears> determineOutputYears() {
+
+		var years = new TreeSet<Integer>();
+		try {
+			for (var yieldTable : context.getYieldTables()) {
+				years.addAll(yieldTable.determineRequestedYears(polygon, state));
+			}
+		} catch (RuntimeException e) {
+			// Any such problem will be reported when the yield tables are generated.
+			logger.debug("{}: unable to determine the years required by the yield tables: {}", polygon, e.getMessage());
+			return Optional.empty();
+		}
+
+		if (years.isEmpty()) {
+			return Optional.empty();
+		}
+
+		// Always have Forward write the year it starts from, so that its results are never empty.
+		if (polygon.getMeasurementYear() != null) {
+			years.add(polygon.getMeasurementYear());
+		}
+
+		var outputYears = OutputYears.of(years);
+		if (outputYears.toControlString().length() > ControlFileParser.CONTROL_LENGTH_EXTENDED) {
+			logger.debug("{}: the years required by the yield tables are too many to give to Forward", polygon);
+			return Optional.empty();
+		}
+
+		return Optional.of(outputYears);
 	}
 
 	static void rewriteTargetYearToBackControlFile(
@@ -1007,7 +1205,30 @@ public class PolygonProjectionRunner {
 		}
 	}
 
-	private void generateYieldTablesForPolygon() throws YieldTableGenerationException {
+	/**
+	 * As {@link #rewriteTargetYearToBackControlFile(long, Path, int, int, ProjectionTypeCode)}, for the Back control
+	 * file of a projection type's (in-memory) execution folder.
+	 */
+	static void rewriteTargetYearToBackControlFile(
+			long featureId, FileResolver executionFolder, int measurementYear, int yearsToGrowBack
+	) throws PolygonExecutionException {
+
+		try {
+			String controlFileContents;
+			try (var is = executionFolder.resolveForInput(Vdyp7Constants.BACK_CONTROL_FILE_NAME)) {
+				controlFileContents = new String(is.readAllBytes());
+			}
+			var newControlFileContents = controlFileContents
+					.replace("%YR%", String.format("%4d", measurementYear - yearsToGrowBack));
+			try (var os = executionFolder.resolveForOutput(Vdyp7Constants.BACK_CONTROL_FILE_NAME)) {
+				os.write(newControlFileContents.getBytes());
+			}
+		} catch (IOException e) {
+			throw new PolygonExecutionException(featureId, e);
+		}
+	}
+
+	void generateYieldTablesForPolygon() throws YieldTableGenerationException {
 
 		logger.info("{}: performing Yield Table generation", polygon);
 
@@ -5,6 +5,7 @@ import static ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionStageCode.Forward;
 
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -13,6 +14,10 @@ import ca.bc.gov.nrs.vdyp.ecore.projection.model.Layer;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.GrowthModelCode;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProcessingModeCode;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProjectionTypeCode;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
 
 public class PolygonProjectionState {
 
@@ -41,6 +46,27 @@ public class PolygonProjectionState {
 
 	private Path executionFolder = null;
 
+	/**
+	 * When the polygon is being projected in memory, the in-memory execution folder of each projection type. Empty
+	 * when the polygon is being projected using execution folders on disk.
+	 */
+	private final Map<ProjectionTypeCode, MemoryFileResolver> inMemoryFoldersByProjectionType = new EnumMap<>(
+			ProjectionTypeCode.class
+	);
+
+	/** The control map used by Forward for each projection type, when retained by the component runner */
+	private final Map<ProjectionTypeCode, Map<String, Object>> forwardControlMapByProjectionType = new EnumMap<>(
+			ProjectionTypeCode.class
+	);
+
+	/**
+	 * The results of each projection type by year, once read from the output of the projection. They are shared by
+	 * every yield table generated for the polygon and must be treated as read-only.
+	 */
+	private final Map<ProjectionTypeCode, Map<Integer, VdypPolygon>> projectionResultsByProjectionType = new EnumMap<>(
+			ProjectionTypeCode.class
+	);
+
 	public PolygonProjectionState() {
 
 		startAgeByProjectionType = new HashMap<>();
@@ -335,6 +361,69 @@ public class PolygonProjectionState {
 		return executionFolder;
 	}
 
+	/**
+	 * Record the in-memory execution folder of the given projection type. Once set, the files of that projection type
+	 * are resolved by {@link #getFileResolver(ProjectionTypeCode)} from memory rather than from the execution folder.
+	 *
+	 * @param projectionType the projection type
+	 * @param folder         the in-memory folder holding the files of that projection type
+	 */
+	public void setInMemoryFolder(ProjectionTypeCode projectionType, MemoryFileResolver folder) {
+		if (inMemoryFoldersByProjectionType.containsKey(projectionType)) {
+			throw new IllegalStateException(
+					MessageFormat.format(
+							"{0}.setInMemoryFolder: the in-memory folder of {1} has been set",
+							this.getClass().getName(), projectionType
+					)
+			);
+		}
+		inMemoryFoldersByProjectionType.put(projectionType, folder);
+	}
+
+	/**
+	 * @return true if and only if this polygon is being projected without an execution folder on disk
+	 */
+	public boolean isExecutingInMemory() {
+		return !inMemoryFoldersByProjectionType.isEmpty();
+	}
+
+	/**
+	 * Return a resolver for the files of the given projection type. This is the in-memory folder of the projection
+	 * type if there is one, and otherwise the projection type's sub-folder of the execution folder.
+	 *
+	 * @param projectionType the projection type
+	 * @return as described
+	 */
+	public FileResolver getFileResolver(ProjectionTypeCode projectionType) {
+		var inMemoryFolder = inMemoryFoldersByProjectionType.get(projectionType);
+		if (inMemoryFolder != null) {
+			return inMemoryFolder;
+		}
+		return new FileSystemFileResolver(Path.of(getExecutionFolder().toString(), projectionType.toString()));
+	}
+
+	public void setForwardControlMap(ProjectionTypeCode projectionType, Map<String, Object> controlMap) {
+		forwardControlMapByProjectionType.put(projectionType, controlMap);
+	}
+
+	/**
+	 * @return the control map with which Forward was run for the given projection type, if it was retained.
+	 */
+	public Optional<Map<String, Object>> getForwardControlMap(ProjectionTypeCode projectionType) {
+		return Optional.ofNullable(forwardControlMapByProjectionType.get(projectionType));
+	}
+
+	public void setProjectionResults(ProjectionTypeCode projectionType, Map<Integer, VdypPolygon> projectionResults) {
+		projectionResultsByProjectionType.put(projectionType, projectionResults);
+	}
+
+	/**
+	 * @return the results of the given projection type by year, if they have already been read.
+	 */
+	public Optional<Map<Integer, VdypPolygon>> getProjectionResults(ProjectionTypeCode projectionType) {
+		return Optional.ofNullable(projectionResultsByProjectionType.get(projectionType));
+	}
+
 	public boolean polygonWasProjected() {
 		return didRunProjectionStage(Forward) || didRunProjectionStage(Back);
 	}
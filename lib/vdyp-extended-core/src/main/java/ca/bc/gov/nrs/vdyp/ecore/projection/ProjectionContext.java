@@ -13,12 +13,12 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.MessageFormat;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -58,17 +58,28 @@ public class ProjectionContext {
 	private ValidatedParameters validatedParams;
 
 	private Path executionFolder;
+	private Path yieldTableFolder;
 
-	private final IMessageLog progressLog;
+	private final LoggingParameters loggingParams;
+	private IMessageLog progressLog;
 	private int errorLogCount;
-	private final IMessageLog errorLog;
-	private List<YieldTable> yieldTableList = new ArrayList<>();
+	private IMessageLog errorLog;
+	// Copy-on-write, as the yield tables of a running projection may be read from other threads as they are written
+	private List<YieldTable> yieldTableList = new CopyOnWriteArrayList<>();
 
 	private ExecutorService executorService;
 	private FileSystem resourceFileSystem;
 
+	// Holds only the polygons that have not yet been retired (see retirePolygon)
 	private Map<Long, Map<ProjectionTypeCode, ProjectionDetails>> projectionDetailsMap = new HashMap<>();
 
+	private int nRunsStarted = 0;
+
+	// Counts the output written so far, so that its readers may wait for more rather than poll (see awaitOutput)
+	private final Object outputSignal = new Object();
+	private long nOutputSignals = 0;
+	private int nRunsEnded = 0;
+
 	public ProjectionContext(
 			ProjectionRequestKind requestKind, String projectionId, Parameters params, boolean isTrialRun
 	) throws AbstractProjectionRequestException {
@@ -87,8 +98,20 @@ public class ProjectionContext {
 		this.isTrailRun = isTrialRun;
 		this.requestKind = requestKind;
 
-		var loggingParams = LoggingParameters.of(params);
+		this.loggingParams = LoggingParameters.of(params);
+
+		createLogs();
+
+		this.executorService = Executors.newSingleThreadExecutor();
+
+		this.validatedParams = ProjectionRequestParametersValidator.validate(params, this.getRequestKind());
+
+		applyVDYP7Limits();
 
+		buildProjectionExecutionStructure();
+	}
+
+	private void createLogs() {
 		errorLogCount = 0;
 		if (loggingParams.doEnableErrorLogging()) {
 			errorLog = new MessageLog(Level.ERROR);
@@ -101,17 +124,10 @@ public class ProjectionContext {
 		} else {
 			progressLog = new NullMessageLog(Level.INFO);
 		}
-
-		this.executorService = Executors.newSingleThreadExecutor();
-
-		this.validatedParams = ProjectionRequestParametersValidator.validate(params, this.getRequestKind());
-
-		applyVDYP7Limits();
-
-		buildProjectionExecutionStructure();
 	}
 
-	public void recordProjectionDetails(
+	// Synchronized because polygons may be projected concurrently (see ProjectionRunner.setParallelism)
+	public synchronized void recordProjectionDetails(
 			Polygon polygon, ProjectionTypeCode projectionType, int projectionStartYear, int firstRequestedYear
 	) {
 
@@ -130,7 +146,7 @@ public class ProjectionContext {
 		polygonProjectionDetails.put(projectionType, new ProjectionDetails(projectionStartYear, firstRequestedYear));
 	}
 
-	public ProjectionDetails getProjectionDetails(Polygon polygon, ProjectionTypeCode projectionType) {
+	public synchronized ProjectionDetails getProjectionDetails(Polygon polygon, ProjectionTypeCode projectionType) {
 		if (!projectionDetailsMap.containsKey(polygon.getFeatureId())
 				|| !projectionDetailsMap.get(polygon.getFeatureId()).containsKey(projectionType)) {
 			throw new IllegalArgumentException(
@@ -144,8 +160,55 @@ public class ProjectionContext {
 		return projectionDetailsMap.get(polygon.getFeatureId()).get(projectionType);
 	}
 
+	/**
+	 * Release what this context holds for the given polygon, once its results have been written: its projection
+	 * details and, unless execution folders are retained (see {@link #retainsExecutionFolders()}), its execution
+	 * folder. The memory and disk used by a run then do not grow with the number of polygons it projects.
+	 *
+	 * @param polygon the polygon whose results have been written
+	 */
+	public void retirePolygon(Polygon polygon) {
+		synchronized (this) {
+			projectionDetailsMap.remove(polygon.getFeatureId());
+		}
+
+		if (!retainsExecutionFolders()) {
+			var polygonFolder = getExecutionFolder().resolve(polygon.toString());
+			if (Files.exists(polygonFolder)) {
+				try {
+					ExecutionFolderRemover.deleteTree(polygonFolder);
+				} catch (IOException e) {
+					logger.warn("{}: unable to delete execution folder {}", polygon, polygonFolder, e);
+				}
+			}
+		}
+
+		signalOutput(false);
+	}
+
+	/**
+	 * @return true if the execution folders of polygons are to be kept until the run is closed, because they are to be
+	 *         returned with the results or kept for examination
+	 */
+	public boolean retainsExecutionFolders() {
+		return validatedParams.containsOption(ExecutionOption.DO_INCLUDE_PROJECTION_FILES)
+				|| validatedParams.containsOption(ExecutionOption.DO_SAVE_INTERMEDIATE_FILES)
+				|| validatedParams.containsOption(ExecutionOption.DO_DELAY_EXECUTION_FOLDER_DELETION);
+	}
+
+	/**
+	 * Start a run. A context may be used for any number of successive runs, each given the input of another part of
+	 * the same request; the parameters are then validated, the execution folder created and the yield tables opened
+	 * only once. Each run writes its output to the yield tables after that of the previous run, as a yield table of its
+	 * own would have been written, while the progress log and error log of the previous run are discarded, so they
+	 * must have been read before the next run is started.
+	 */
 	public void startRun() {
 
+		if (nRunsStarted++ > 0) {
+			resetLogs();
+		}
+
 		getProgressLog().addMessage("{0}: starting projection (type {1})", projectionId, getRequestKind());
 
 		startTime_ms = System.currentTimeMillis();
@@ -161,6 +224,18 @@ public class ProjectionContext {
 					e.getMessage() != null ? ": " + e.getMessage() : ""
 			);
 		}
+
+		signalOutput(false);
+	}
+
+	private void resetLogs() {
+		Utils.close(progressLog, "progressLog");
+		Utils.close(errorLog, "errorLog");
+		createLogs();
+
+		synchronized (this) {
+			projectionDetailsMap.clear();
+		}
 	}
 
 	/**
@@ -201,37 +276,94 @@ public class ProjectionContext {
 		}
 	}
 
+	/**
+	 * End a run. The yield tables are kept open for the next run, but what this run wrote to them is flushed to disk.
+	 */
 	public void endRun() {
 		try {
-			try {
-				for (YieldTable yieldTable : yieldTableList) {
-					yieldTable.endGeneration();
-				}
-			} catch (YieldTableGenerationException e) {
-				errorLog.addMessage(
-						"Encountered error starting the generation of this projection's yield table{}",
-						e.getMessage() != null ? ": " + e.getMessage() : ""
-				);
+			for (YieldTable yieldTable : yieldTableList) {
+				yieldTable.endGeneration();
+				yieldTable.flush();
+			}
+		} catch (YieldTableGenerationException e) {
+			errorLog.addMessage(
+					"Encountered error starting the generation of this projection's yield table{}",
+					e.getMessage() != null ? ": " + e.getMessage() : ""
+			);
+		}
+
+		long endTime_ms = System.currentTimeMillis();
+
+		getProgressLog().addMessage(
+				"{0}: completing projection (type {1}); duration: {2}ms", projectionId, getRequestKind(),
+				endTime_ms - startTime_ms
+		);
+
+		signalOutput(true);
+	}
+
+	private void signalOutput(boolean runEnded) {
+		synchronized (outputSignal) {
+			nOutputSignals += 1;
+			if (runEnded) {
+				nRunsEnded += 1;
 			}
+			outputSignal.notifyAll();
+		}
+	}
 
-			long endTime_ms = System.currentTimeMillis();
+	/**
+	 * @return the number of times output has been written so far: when a run has started, and so created its yield
+	 *         tables, when the results of a polygon have been written and when a run has ended, and so flushed them.
+	 */
+	public long getOutputCount() {
+		synchronized (outputSignal) {
+			return nOutputSignals;
+		}
+	}
 
-			getProgressLog().addMessage(
-					"{0}: completing projection (type {1}); duration: {2}ms", projectionId, getRequestKind(),
-					endTime_ms - startTime_ms
-			);
-		} finally {
-			for (YieldTable yieldTable : yieldTableList) {
-				yieldTable.close();
+	/**
+	 * Wait until more output has been written than the given count of output (see {@link #getOutputCount()}) shows,
+	 * or until the given time has passed.
+	 *
+	 * @param outputCount the count of output already seen
+	 * @param timeout_ms  the longest time to wait
+	 * @return the count of output written so far
+	 * @throws InterruptedException
+	 */
+	public long awaitOutput(long outputCount, long timeout_ms) throws InterruptedException {
+		long deadline_ms = System.currentTimeMillis() + timeout_ms;
+		synchronized (outputSignal) {
+			long remaining_ms = timeout_ms;
+			while (nOutputSignals <= outputCount && remaining_ms > 0) {
+				outputSignal.wait(remaining_ms);
+				remaining_ms = deadline_ms - System.currentTimeMillis();
 			}
+			return nOutputSignals;
+		}
+	}
+
+	/**
+	 * @return the number of runs that have ended
+	 */
+	public int getRunsEnded() {
+		synchronized (outputSignal) {
+			return nRunsEnded;
 		}
 	}
 
 	public void close() {
 
+		for (YieldTable yieldTable : yieldTableList) {
+			yieldTable.close();
+		}
+
 		// Close the fileSystem instance (possibly) opened in buildProjectionExecutionStructure
 		Utils.close(resourceFileSystem, "resourceFileSystem");
 
+		Utils.close(progressLog, "progressLog");
+		Utils.close(errorLog, "errorLog");
+
 		// Finally, delete the execution folder tree EXECUTION_FOLDER_RETENTION_TIME_m minutes from now.
 
 		if (validatedParams.containsOption(ExecutionOption.DO_DELAY_EXECUTION_FOLDER_DELETION)) {
@@ -274,6 +406,18 @@ public class ProjectionContext {
 		}
 
 		static void doRemove(Path executionFolder) {
+			try {
+				deleteTree(executionFolder);
+				logger.info("Deletion of execution folder {} completed", executionFolder);
+			} catch (IOException e) {
+				logger.info(
+						"Deletion of execution folder {} failed{}", executionFolder,
+						e.getCause() != null ? ". Reason: " + e.getCause() : ""
+				);
+			}
+		}
+
+		static void deleteTree(Path folder) throws IOException {
 
 			FileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
 				@Override
@@ -294,15 +438,7 @@ public class ProjectionContext {
 				}
 			};
 
-			try {
-				Files.walkFileTree(executionFolder, visitor);
-				logger.info("Deletion of execution folder {} completed", executionFolder);
-			} catch (IOException e) {
-				logger.info(
-						"Deletion of execution folder {} failed{}", executionFolder,
-						e.getCause() != null ? ". Reason: " + e.getCause() : ""
-				);
-			}
+			Files.walkFileTree(folder, visitor);
 		}
 	}
 
@@ -353,6 +489,29 @@ public class ProjectionContext {
 		return Collections.unmodifiableList(yieldTableList);
 	}
 
+	/**
+	 * Set the folder the yield tables are written to, in place of the execution folder. When the folder already holds
+	 * a yield table, the yield tables of this context are appended to it.
+	 *
+	 * @param yieldTableFolder the folder, which must exist
+	 * @throws IllegalStateException if the yield tables have already been created
+	 */
+	public void setYieldTableFolder(Path yieldTableFolder) {
+		if (!yieldTableList.isEmpty()) {
+			throw new IllegalStateException(
+					this.getClass().getName() + ".setYieldTableFolder: the yield tables have already been created"
+			);
+		}
+		this.yieldTableFolder = yieldTableFolder;
+	}
+
+	/**
+	 * @return the folder the yield tables are written to; by default, the execution folder
+	 */
+	public Path getYieldTableFolder() {
+		return yieldTableFolder != null ? yieldTableFolder : getExecutionFolder();
+	}
+
 	public Path getExecutionFolder() {
 		if (this.executionFolder == null) {
 			throw new IllegalStateException(
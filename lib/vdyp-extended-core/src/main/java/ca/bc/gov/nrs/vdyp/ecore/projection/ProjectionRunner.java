@@ -6,10 +6,19 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,26 +70,205 @@ public class ProjectionRunner implements Closeable {
 	int nPolygonsProcessed = 0;
 	int nPolygonsSkipped = 0;
 
+	private int parallelism = 1;
+
+	// Created by the first run and kept for those that follow, until the runner is closed
+	private ComponentRunner componentRunner;
+	private ExecutorService workers;
+	private int workersParallelism;
+
+	// The SINDEX options of the current run, applied to a worker before it projects each polygon
+	private SiteIndexOptions siteIndexOptions;
+
+	/**
+	 * The per-polygon execution folders are written to disk only when they are to be returned with the results or kept
+	 * for debugging. Otherwise, the polygons are projected in memory.
+	 *
+	 * @return true if and only if the execution folders of the polygons must exist on disk
+	 */
+	private boolean isExecutionFolderRequired() {
+		return context.retainsExecutionFolders();
+	}
+
+	/**
+	 * Set the number of polygons that may be projected at once. Polygons are independent of one another, so when this
+	 * is greater than one they are projected on a pool of that many worker threads. Yield tables, progress log entries
+	 * and error log entries are nonetheless written in input order, and so are identical to those of a sequential run.
+	 * <p>
+	 * The default is 1; polygons are then projected one at a time, on the thread calling {@link #run(Map)}. The site
+	 * index curves must have been initialized (see {@link PolygonProjectionRunner#initializeSiteIndexCurves()}) before
+	 * a run with a greater parallelism starts.
+	 *
+	 * @param parallelism the maximum number of polygons to project at once
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(
+					MessageFormat.format("parallelism must be at least 1; saw {0}", parallelism)
+			);
+		}
+		this.parallelism = parallelism;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * A polygon that has been read from the input but whose results have not yet been written.
+	 */
+	private class PendingPolygon {
+
+		/** The polygon read or, if reading failed, the last polygon read before it (if any) */
+		private final Polygon polygon;
+		private final PolygonValidationException readFailure;
+		private final List<String> progressMessages = new ArrayList<>();
+
+		private PolygonProjectionRunner runner;
+		private Future<Void> projection;
+
+		PendingPolygon(Polygon polygon, PolygonValidationException readFailure) {
+			this.polygon = polygon;
+			this.readFailure = readFailure;
+		}
+
+		void startProjection(ExecutorService workers, ComponentRunner componentRunner) {
+			runner = PolygonProjectionRunner.of(polygon, context, componentRunner);
+			runner.deferErrorLog();
+			var options = siteIndexOptions;
+			projection = workers.submit(() -> {
+				options.apply();
+				runner.projectPolygon();
+				return null;
+			});
+		}
+
+		void completeProjection(ComponentRunner componentRunner)
+				throws PolygonExecutionException, YieldTableGenerationException {
+
+			if (projection == null) {
+				try {
+					PolygonProjectionRunner.of(polygon, context, componentRunner).project();
+				} finally {
+					context.retirePolygon(polygon);
+				}
+				return;
+			}
+
+			Throwable failure = null;
+			try {
+				projection.get();
+			} catch (ExecutionException e) {
+				failure = e.getCause();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new PolygonExecutionException(polygon.getFeatureId(), e);
+			}
+
+			try {
+				runner.flushErrorLog();
+
+				if (failure instanceof PolygonExecutionException pee) {
+					throw pee;
+				} else if (failure instanceof RuntimeException re) {
+					throw re;
+				} else if (failure instanceof Error err) {
+					throw err;
+				} else if (failure != null) {
+					throw new PolygonExecutionException(polygon.getFeatureId(), failure);
+				}
+
+				runner.generateYieldTablesForPolygon();
+			} finally {
+				context.retirePolygon(polygon);
+			}
+		}
+
+		void cancel() {
+			if (projection != null) {
+				projection.cancel(true);
+			}
+		}
+	}
+
+	private ExecutorService getWorkers() {
+		if (workersParallelism != parallelism) {
+			shutDownWorkers();
+		}
+		if (workers == null) {
+			var threadNumber = new AtomicInteger();
+			workers = Executors.newFixedThreadPool(parallelism, r -> {
+				var thread = new Thread(r, context.getProjectionId() + "-polygon-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			workersParallelism = parallelism;
+		}
+		return workers;
+	}
+
+	private void shutDownWorkers() {
+		if (workers != null) {
+			workers.shutdownNow();
+			workers = null;
+		}
+	}
+
+	private ComponentRunner getComponentRunner() {
+		if (componentRunner == null) {
+			if (context.isTrialRun()) {
+				componentRunner = new StubComponentRunner();
+			} else if (isExecutionFolderRequired()) {
+				componentRunner = new RealComponentRunner();
+			} else {
+				componentRunner = new InMemoryComponentRunner();
+			}
+		}
+		return componentRunner;
+	}
+
+	/**
+	 * Project the polygons of the given input. A runner may be given any number of inputs in turn, such as successive
+	 * parts of one large request; the parameters are validated, and the execution folder and worker threads created,
+	 * only once for all of them. The output of each run is appended to the same yield tables, while the progress log
+	 * and error log hold the entries of the most recent run only (see {@link ProjectionContext#startRun()}).
+	 * <p>
+	 * The worker threads are kept for the next run unless this run fails, when they are shut down so that the
+	 * projections of polygons it abandoned do not outlive it; the next run then creates new ones.
+	 *
+	 * @param streams the input, by the names of its parts
+	 */
 	public void run(Map<String, InputStream> streams)
 			throws ProjectionRequestValidationException, YieldTableGenerationException {
 
 		context.startRun();
 
+		siteIndexOptions = SiteIndexOptions.of(context.getParams());
+		var callerSiteIndexOptions = SiteIndexOptions.current();
+		siteIndexOptions.apply();
+
+		ExecutorService runWorkers = null;
+		Deque<PendingPolygon> pendingPolygons = new ArrayDeque<>();
+		AbstractPolygonStream polygonStream = null;
+		boolean completed = false;
+
 		try {
 			logger.debug("{}", context.getParams().toString());
 			logApplicationMetadata();
 
-			AbstractPolygonStream polygonStream = AbstractPolygonStream.build(context, streams);
+			polygonStream = AbstractPolygonStream.build(context, streams);
 
-			ComponentRunner componentRunner;
-			if (context.isTrialRun()) {
-				componentRunner = new StubComponentRunner();
-			} else {
-				componentRunner = new RealComponentRunner();
-			}
+			ComponentRunner componentRunner = getComponentRunner();
 
-			Integer progressPeriod = context.getParams().getProgressFrequency().getIntValue();
-			boolean reportProgressByPeriod = progressPeriod != null;
+			// Bounds the number of polygons held in memory while waiting for an earlier polygon to finish.
+			int maxPendingPolygons = 0;
+			if (parallelism > 1) {
+				runWorkers = getWorkers();
+				maxPendingPolygons = parallelism * 4;
+
+				// Parse the input while earlier polygons are being projected
+				polygonStream.startReadingAhead();
+			}
 
 			Polygon polygon = null;
 			String lastMapsheet = "";
@@ -90,8 +278,10 @@ public class ProjectionRunner implements Closeable {
 			nPolygonsSkipped = 0;
 
 			while (polygonStream.hasNextPolygon()) {
+				PendingPolygon pending;
 				try {
 					polygon = polygonStream.getNextPolygon();
+					pending = new PendingPolygon(polygon, null);
 
 					if (ProgressFrequency.MAPSHEET.equals(context.getParams().getProgressFrequency())
 							&& !lastMapsheet.equals(polygon.getMapSheet())
@@ -103,65 +293,39 @@ public class ProjectionRunner implements Closeable {
 						String message = MessageFormat
 								.format("Processing Map Sheet: \"{0}\", \"{1}\"...", lastMaintainer, lastMapsheet);
 
-						context.getProgressLog().addMessage(message);
-						logger.debug(message);
+						pending.progressMessages.add(message);
 					}
 
-					try {
-
-						if (ProgressFrequency.POLYGON.equals(context.getParams().getProgressFrequency())) {
-
-							String message = MessageFormat.format(
-									"{4} Polygon {0,number,#}: \"{1}\", \"{2}\"-{3,number,#}", polygon.getFeatureId(),
-									lastMaintainer, lastMapsheet, polygon.getPolygonNumber(),
-									polygon.getDoAllowProjection() ? "Processing" : "Skipping"
-							);
+					if (ProgressFrequency.POLYGON.equals(context.getParams().getProgressFrequency())) {
 
-							context.getProgressLog().addMessage(message);
-							logger.debug(message);
-						}
-
-						if (polygon.getDoAllowProjection()) {
-
-							nPolygonsProcessed += 1;
-							PolygonProjectionRunner.of(polygon, context, componentRunner).project();
-
-						} else {
-							nPolygonsSkipped += 1;
-						}
-
-						int nPolygonsSeen = nPolygonsProcessed + nPolygonsSkipped;
-						if (reportProgressByPeriod && nPolygonsSeen % progressPeriod == 0) {
-							String message = MessageFormat.format("Processed {0} polygons...", nPolygonsSeen);
-							context.getProgressLog().addMessage(message);
-							logger.debug(message);
-						}
+						String message = MessageFormat.format(
+								"{4} Polygon {0,number,#}: \"{1}\", \"{2}\"-{3,number,#}", polygon.getFeatureId(),
+								lastMaintainer, lastMapsheet, polygon.getPolygonNumber(),
+								polygon.getDoAllowProjection() ? "Processing" : "Skipping"
+						);
 
-					} catch (PolygonExecutionException e) {
-						logValidationMessages(e);
+						pending.progressMessages.add(message);
+					}
 
-						if (e.getCause() instanceof PolygonValidationException pve) {
-							throw pve;
-						}
+					if (runWorkers != null && polygon.getDoAllowProjection()) {
+						pending.startProjection(runWorkers, componentRunner);
 					}
 				} catch (PolygonValidationException e) {
-					logValidationMessages(e);
+					pending = new PendingPolygon(polygon, e);
+				}
 
-					if (polygon != null) {
-						for (var message : polygon.getMessages()) {
-							context.logError(message.toString());
-						}
-					} else {
-						// The record failed validation before a Polygon could even be built, so it was never
-						// counted by nPolygonsProcessed/nPolygonsSkipped above. Count it as skipped so the
-						// processed/skipped totals reconcile with the number of records actually seen.
-						nPolygonsSkipped += 1;
-					}
+				pendingPolygons.addLast(pending);
+				while (pendingPolygons.size() > maxPendingPolygons) {
+					complete(pendingPolygons.removeFirst(), componentRunner);
 				}
 			}
 
+			while (!pendingPolygons.isEmpty()) {
+				complete(pendingPolygons.removeFirst(), componentRunner);
+			}
+
 			int nPolygonsSeen = nPolygonsProcessed + nPolygonsSkipped;
-			if (reportProgressByPeriod && nPolygonsSeen % progressPeriod != 0) {
+			if (isReportingProgressByPeriod() && nPolygonsSeen % getProgressPeriod() != 0) {
 				String message = MessageFormat.format("Processed {0} polygons...", nPolygonsSeen);
 				context.getProgressLog().addMessage(message);
 			}
@@ -172,8 +336,87 @@ public class ProjectionRunner implements Closeable {
 						nPolygonsSkipped, nPolygonsProcessed + nPolygonsSkipped
 				);
 			}
+
+			completed = true;
 		} finally {
-			context.endRun();
+			// Any polygons still pending were abandoned by a failure, and may still be running on the workers
+			pendingPolygons.forEach(PendingPolygon::cancel);
+			if (!completed) {
+				shutDownWorkers();
+			}
+			try {
+				if (polygonStream != null) {
+					polygonStream.close();
+				}
+			} finally {
+				callerSiteIndexOptions.apply();
+				context.endRun();
+			}
+		}
+	}
+
+	private boolean isReportingProgressByPeriod() {
+		return context.getParams().getProgressFrequency().getIntValue() != null;
+	}
+
+	private int getProgressPeriod() {
+		return context.getParams().getProgressFrequency().getIntValue();
+	}
+
+	/**
+	 * Write the results of the given polygon - its progress messages, its error log entries and its yield tables - to
+	 * the context. Polygons are completed in input order, regardless of the order in which their projections finish.
+	 */
+	private void complete(PendingPolygon pending, ComponentRunner componentRunner)
+			throws YieldTableGenerationException {
+
+		for (var message : pending.progressMessages) {
+			context.getProgressLog().addMessage(message);
+			logger.debug(message);
+		}
+
+		try {
+			if (pending.readFailure != null) {
+				throw pending.readFailure;
+			}
+
+			try {
+				if (pending.polygon.getDoAllowProjection()) {
+
+					nPolygonsProcessed += 1;
+					pending.completeProjection(componentRunner);
+
+				} else {
+					nPolygonsSkipped += 1;
+				}
+
+				int nPolygonsSeen = nPolygonsProcessed + nPolygonsSkipped;
+				if (isReportingProgressByPeriod() && nPolygonsSeen % getProgressPeriod() == 0) {
+					String message = MessageFormat.format("Processed {0} polygons...", nPolygonsSeen);
+					context.getProgressLog().addMessage(message);
+					logger.debug(message);
+				}
+
+			} catch (PolygonExecutionException e) {
+				logValidationMessages(e);
+
+				if (e.getCause() instanceof PolygonValidationException pve) {
+					throw pve;
+				}
+			}
+		} catch (PolygonValidationException e) {
+			logValidationMessages(e);
+
+			if (pending.polygon != null) {
+				for (var message : pending.polygon.getMessages()) {
+					context.logError(message.toString());
+				}
+			} else {
+				// The record failed validation before a Polygon could even be built, so it was never
+				// counted by nPolygonsProcessed/nPolygonsSkipped above. Count it as skipped so the
+				// processed/skipped totals reconcile with the number of records actually seen.
+				nPolygonsSkipped += 1;
+			}
 		}
 	}
 
@@ -272,6 +515,14 @@ public class ProjectionRunner implements Closeable {
 
 	@Override
 	public void close() {
-		context.close();
+		shutDownWorkers();
+		try {
+			if (componentRunner != null) {
+				componentRunner.close();
+				componentRunner = null;
+			}
+		} finally {
+			context.close();
+		}
 	}
 }
@@ -1,13 +1,15 @@
 package ca.bc.gov.nrs.vdyp.ecore.projection;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -40,8 +42,9 @@ import ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable.YieldTable;
 import ca.bc.gov.nrs.vdyp.ecore.utils.ErrorMessageUtils;
 import ca.bc.gov.nrs.vdyp.fip.FipStart;
 import ca.bc.gov.nrs.vdyp.forward.VdypForwardApplication;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapCache;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ProcessingControlParser;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
 import ca.bc.gov.nrs.vdyp.vri.VriStart;
@@ -56,8 +59,26 @@ public class RealComponentRunner implements ComponentRunner {
 	}
 
 	/**
-	 * Creates a new app instance using the given constructor and runs it with the given runner, handling all exceptions
-	 * appropriately.
+	 * The apps that have finished a polygon and are not in use, by identifier. Apps are reused from polygon to polygon,
+	 * by whichever thread projects it, so that an app's control file parser and engine objects are set up once per
+	 * concurrent projection rather than once per polygon. They are closed when the runner is.
+	 */
+	private final Map<VdypApplicationIdentifier, Deque<VdypApplication<?>>> idleApps = new EnumMap<>(
+			VdypApplicationIdentifier.class
+	);
+
+	private volatile boolean closed = false;
+
+	public RealComponentRunner() {
+		for (var appToUse : VdypApplicationIdentifier.values()) {
+			idleApps.put(appToUse, new ConcurrentLinkedDeque<>());
+		}
+	}
+
+	/**
+	 * Takes an idle app instance, or creates a new one using the given constructor, and runs it with the given runner,
+	 * handling all exceptions appropriately. An app that ran successfully is reset and kept for the next polygon; one
+	 * that failed is closed, as its state is unknown.
 	 *
 	 * @param <A>                The application class
 	 * @param polygon            Polygon to process
@@ -72,8 +93,15 @@ public class RealComponentRunner implements ComponentRunner {
 			Polygon polygon, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state,
 			VdypApplicationIdentifier appToUse, Supplier<A> getApp, AppRunner<A> runApp
 	) throws PolygonExecutionException {
-		try (A app = getApp.get()) {
-			runApp.accept(app);
+		try {
+			A app = takeApp(appToUse, getApp);
+			try {
+				runApp.accept(app);
+			} catch (Throwable t) {
+				closeAfterFailure(app, t);
+				throw t;
+			}
+			releaseApp(appToUse, app);
 		} catch (Throwable t) {
 			// Do we really want to catch and wrap Errors?
 			if (t instanceof VdypApplicationException && t.getCause() != null) {
@@ -90,9 +118,61 @@ public class RealComponentRunner implements ComponentRunner {
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private <A extends VdypApplication<?>> A takeApp(VdypApplicationIdentifier appToUse, Supplier<A> getApp) {
+		var app = idleApps.get(appToUse).pollFirst();
+		return app != null ? (A) app : getApp.get();
+	}
+
+	private void releaseApp(VdypApplicationIdentifier appToUse, VdypApplication<?> app) throws IOException {
+		try {
+			app.reset();
+		} catch (Throwable t) {
+			closeAfterFailure(app, t);
+			throw t;
+		}
+		var idle = idleApps.get(appToUse);
+		idle.offerFirst(app);
+
+		// An app released after the runner was closed is not reused
+		if (closed && idle.remove(app)) {
+			closeIdleApp(app);
+		}
+	}
+
 	/**
-	 * Creates a new app instance using the given constructor and runs it with the given control files, handling all
-	 * exceptions appropriately. After running it runs the given consumer and passes the app instance to it.
+	 * Closes the idle apps. Apps still in use are closed when their polygons finish with them.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		for (var idle : idleApps.values()) {
+			VdypApplication<?> app;
+			while ( (app = idle.pollFirst()) != null) {
+				closeIdleApp(app);
+			}
+		}
+	}
+
+	private static void closeIdleApp(VdypApplication<?> app) {
+		try {
+			app.close();
+		} catch (Exception e) {
+			logger.warn("Unable to close {}: {}", app.getClass().getSimpleName(), e.getMessage());
+		}
+	}
+
+	private static void closeAfterFailure(VdypApplication<?> app, Throwable failure) {
+		try {
+			app.close();
+		} catch (Throwable t) {
+			failure.addSuppressed(t);
+		}
+	}
+
+	/**
+	 * Takes or creates an app instance, as the method above does, and runs it with the given control files, handling
+	 * all exceptions appropriately. After running it runs the given consumer and passes the app instance to it.
 	 *
 	 * @param <A>                The application class
 	 * @param polygon            Polygon to process
@@ -117,15 +197,31 @@ public class RealComponentRunner implements ComponentRunner {
 		default -> throw new UnsupportedOperationException();
 		};
 		runApp(polygon, projectionTypeCode, state, appToUse, getApp, app -> {
-			var controFilePaths = controlFiles.stream().map(
-					filename -> Path.of(state.getExecutionFolder().toString(), projectionTypeCode.toString(), filename)
-			).toArray(Path[]::new);
-			app.doMain(controFilePaths);
+			doMain(app, projectionTypeCode, state, controlFiles);
 			state.setProcessingResults(stageCode, projectionTypeCode, Optional.empty());
 			after.accept(app);
 		});
 	}
 
+	/**
+	 * Run the given app with the given control files, which are located in the execution folder of the given
+	 * projection type.
+	 *
+	 * @param app                the app to run
+	 * @param projectionTypeCode Projection type
+	 * @param state              Projection state
+	 * @param controlFiles       List of control file names
+	 */
+	protected void doMain(
+			VdypApplication<?> app, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state,
+			List<String> controlFiles
+	) throws VdypApplicationInitializationException, VdypApplicationProcessingException {
+		var controFilePaths = controlFiles.stream().map(
+				filename -> Path.of(state.getExecutionFolder().toString(), projectionTypeCode.toString(), filename)
+		).toArray(Path[]::new);
+		app.doMain(controFilePaths);
+	}
+
 	@Override
 	public void runFipStart(Polygon polygon, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state)
 			throws PolygonExecutionException {
@@ -165,30 +261,21 @@ public class RealComponentRunner implements ComponentRunner {
 
 		logger.info("{} {}: ADJUST is operating as a pass-through", polygon, projectionType);
 
-		copyAdjustInputFilesToOutput(polygon, state, projectionType, state.getExecutionFolder());
+		copyAdjustInputFilesToOutput(polygon, state, projectionType);
 
 		state.setProcessingResults(ProjectionStageCode.Adjust, projectionType, Optional.empty());
 	}
 
 	private void copyAdjustInputFilesToOutput(
-			Polygon polygon, PolygonProjectionState state, ProjectionTypeCode projectionType, Path rootExecutionFolder
+			Polygon polygon, PolygonProjectionState state, ProjectionTypeCode projectionType
 	) throws PolygonExecutionException {
 
-		Path executionFolder = Path.of(state.getExecutionFolder().toString(), projectionType.toString());
+		var resolver = state.getFileResolver(projectionType);
 
 		try {
-			Path polygonInputFile = Path.of(executionFolder.toString(), "vp_01.dat");
-			Path polygonOutputFile = Path.of(executionFolder.toString(), "vp_adj.dat");
-			Files.copy(polygonInputFile, polygonOutputFile);
-
-			Path speciesInputFile = Path.of(executionFolder.toString(), "vs_01.dat");
-			Path speciesOutputFile = Path.of(executionFolder.toString(), "vs_adj.dat");
-			Files.copy(speciesInputFile, speciesOutputFile);
-
-			Path utilizationsInputFile = Path.of(executionFolder.toString(), "vu_01.dat");
-			Path utilizationsOutputFile = Path.of(executionFolder.toString(), "vu_adj.dat");
-			Files.copy(utilizationsInputFile, utilizationsOutputFile);
-
+			copy(resolver, "vp_01.dat", "vp_adj.dat");
+			copy(resolver, "vs_01.dat", "vs_adj.dat");
+			copy(resolver, "vu_01.dat", "vu_adj.dat");
 		} catch (Exception | Error e) {
 			throw new PolygonExecutionException(
 					polygon.getFeatureId(),
@@ -200,6 +287,12 @@ public class RealComponentRunner implements ComponentRunner {
 		}
 	}
 
+	private static void copy(FileResolver resolver, String inputFileName, String outputFileName) throws IOException {
+		try (var is = resolver.resolveForInput(inputFileName); var os = resolver.resolveForOutput(outputFileName)) {
+			is.transferTo(os);
+		}
+	}
+
 	@Override
 	public void runForward(Polygon polygon, ProjectionTypeCode projectionTypeCode, PolygonProjectionState state)
 			throws PolygonExecutionException {
@@ -207,9 +300,9 @@ public class RealComponentRunner implements ComponentRunner {
 		runApp(
 				polygon, projectionTypeCode, state, VdypApplicationIdentifier.VDYP_FORWARD, //
 				List.of(Vdyp7Constants.FORWARD_CONTROL_FILE_NAME, Vdyp7Constants.STAND_FORWARD_CONTROL_FILE_NAME),
-				VdypForwardApplication::new, app -> {
-					// Nothing else to do
-				}
+				// The control map is retained so that the output can be read for the yield tables without parsing the
+				// control files again
+				VdypForwardApplication::new, app -> state.setForwardControlMap(projectionTypeCode, app.getControlMap())
 		);
 	}
 
@@ -336,24 +429,41 @@ public class RealComponentRunner implements ComponentRunner {
 		}
 	}
 
+	/**
+	 * Return the results of the given projection type of the polygon, by year. The results are read from the output of
+	 * the projection the first time they are requested and retained in the state, so that every yield table and layer
+	 * summary of the polygon shares them.
+	 */
 	private Map<Integer, VdypPolygon>
 			getProjectionResults(Polygon polygon, ProjectionTypeCode projectionType, PolygonProjectionState state)
 					throws YieldTableGenerationException {
 
-		Path stepExecutionFolder = Path.of(state.getExecutionFolder().toString(), projectionType.toString());
-		var vdypControlFileResolver = new FileSystemFileResolver(stepExecutionFolder);
+		var retainedResults = state.getProjectionResults(projectionType);
+		if (retainedResults.isPresent()) {
+			return retainedResults.get();
+		}
+
+		var vdypControlFileResolver = state.getFileResolver(projectionType);
 
 		try {
 			ProjectionResultsReader forwardReader = new NullProjectionResultsReader();
 
 			if (state.didRunProjectionStage(ProjectionStageCode.Forward, projectionType)) {
 
-				try (var fis = vdypControlFileResolver.resolveForInput(Vdyp7Constants.FORWARD_CONTROL_FILE_NAME)) {
-					var forwardControlFileParser = new ProcessingControlParser();
-					Map<String, Object> forwardControlMap = forwardControlFileParser
-							.parse(fis, vdypControlFileResolver, new HashMap<>());
-					forwardReader = new RealProjectionResultsReader(forwardControlMap);
+				var forwardControlMap = state.getForwardControlMap(projectionType);
+				if (forwardControlMap.isEmpty()) {
+					// Only the output file names and the BEC and genus definitions are needed, so take the
+					// coefficients from the shared cache rather than parsing them again.
+					forwardControlMap = Optional.of(
+							new ProcessingControlParser().parseByName(
+									List.of(
+											Vdyp7Constants.FORWARD_CONTROL_FILE_NAME,
+											Vdyp7Constants.STAND_FORWARD_CONTROL_FILE_NAME
+									), vdypControlFileResolver, new HashMap<>(), ControlMapCache.getShared()
+							)
+					);
 				}
+				forwardReader = new RealProjectionResultsReader(forwardControlMap.get(), vdypControlFileResolver);
 			}
 
 			ProjectionResultsReader backReader = new NullProjectionResultsReader();
@@ -372,6 +482,8 @@ public class RealComponentRunner implements ComponentRunner {
 			var projectionResults = ProjectionResultsBuilder
 					.read(polygon, state, projectionType, forwardReader, backReader);
 
+			state.setProjectionResults(projectionType, projectionResults);
+
 			return projectionResults;
 		} catch (ResourceParseException | IOException e) {
 			throw new YieldTableGenerationException(polygon.getFeatureId(), e);
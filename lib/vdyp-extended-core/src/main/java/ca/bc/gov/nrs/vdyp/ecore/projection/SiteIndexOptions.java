@@ -0,0 +1,52 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection;
+
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.ecore.model.v1.Parameters.ExecutionOption;
+import ca.bc.gov.nrs.vdyp.sindex.calculators.SiteIndexCurveTables;
+import ca.bc.gov.nrs.vdyp.sindex.calculators.SiteIndexInversion;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexInversionMethod;
+
+/**
+ * The options of the SINDEX library that a projection's parameters select. The library keeps them per thread, so they
+ * are applied to each thread that works on the projection's polygons.
+ */
+class SiteIndexOptions {
+
+	private final Optional<SiteIndexCurveTables> curveTables;
+	private final SiteIndexInversionMethod inversionMethod;
+
+	private SiteIndexOptions(Optional<SiteIndexCurveTables> curveTables, SiteIndexInversionMethod inversionMethod) {
+		this.curveTables = curveTables;
+		this.inversionMethod = inversionMethod;
+	}
+
+	/**
+	 * @return the options selected by the given parameters
+	 */
+	static SiteIndexOptions of(ValidatedParameters params) {
+		return new SiteIndexOptions(
+				params.containsOption(ExecutionOption.DO_USE_TABULATED_SITE_INDEX_CURVES)
+						? Optional.of(SiteIndexCurveTables.shared(SiteIndexCurveTables.DEFAULT_ERROR_BOUND))
+						: Optional.empty(),
+				params.containsOption(ExecutionOption.DO_USE_BRENT_SITE_INDEX_INVERSION)
+						? SiteIndexInversionMethod.SI_INV_BRENT
+						: SiteIndexInversionMethod.SI_INV_REFERENCE
+		);
+	}
+
+	/**
+	 * @return the options applied to the calling thread
+	 */
+	static SiteIndexOptions current() {
+		return new SiteIndexOptions(SiteIndexCurveTables.active(), SiteIndexInversion.getMethod());
+	}
+
+	/**
+	 * Apply these options to the calling thread.
+	 */
+	void apply() {
+		SiteIndexCurveTables.use(curveTables);
+		SiteIndexInversion.setMethod(inversionMethod);
+	}
+}
@@ -18,7 +18,7 @@ import ca.bc.gov.nrs.vdyp.ecore.projection.ProjectionContext;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.Polygon;
 import ca.bc.gov.nrs.vdyp.ecore.utils.ParameterNames;
 
-public abstract class AbstractPolygonStream {
+public abstract class AbstractPolygonStream implements AutoCloseable {
 
 	protected ProjectionContext context;
 
@@ -56,6 +56,23 @@ public abstract class AbstractPolygonStream {
 
 	public abstract boolean hasNextPolygon();
 
+	/**
+	 * Allow the stream to read its input ahead of the polygons being requested, on a separate thread. Streams that do
+	 * not support this ignore the request.
+	 */
+	public void startReadingAhead() {
+		// by default, input is read only as polygons are requested
+	}
+
+	/**
+	 * Release any resources held by the stream, such as a thread reading ahead. Streams that can read ahead close
+	 * their input streams too, so that a thread waiting for input is released; others leave them open.
+	 */
+	@Override
+	public void close() {
+		// by default, there is nothing to release
+	}
+
 	public static AbstractPolygonStream build(ProjectionContext context, Map<String, InputStream> streams)
 			throws ProjectionRequestValidationException {
 		switch (context.getRequestKind()) {
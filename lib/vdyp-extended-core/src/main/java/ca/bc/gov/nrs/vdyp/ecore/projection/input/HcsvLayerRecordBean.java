@@ -53,6 +53,17 @@ public class HcsvLayerRecordBean {
 				.build();
 	}
 
+	/**
+	 * Create a streaming reader of the records of an HCSV layer file, which filters and verifies them as the
+	 * {@link CsvToBean}s created by this class do.
+	 */
+	public static HcsvRecordReader<HcsvLayerRecordBean> createHcsvLayerReader(InputStream layersCsvStream) {
+		return new HcsvRecordReader<>(
+				HcsvLayerRecordBean.class, HcsvLayerRecordBean::new, new HcsvLineFilter(true, true),
+				new HcsvLayerRecordBeanValidator(), layersCsvStream
+		);
+	}
+
 	// { "LAYER_FEATURE_ID", csvFldType_CHAR, 38, 0, "", TRUE },
 	@PreAssignmentProcessor(processor = ConvertEmptyOrBlankStringsToNull.class)
 	@CsvBindByName(column = "FEATURE_ID")
@@ -54,6 +54,17 @@ public class HcsvPolygonRecordBean {
 				.build();
 	}
 
+	/**
+	 * Create a streaming reader of the records of an HCSV polygon file, which filters and verifies them as the
+	 * {@link CsvToBean}s created by this class do.
+	 */
+	public static HcsvRecordReader<HcsvPolygonRecordBean> createHcsvPolygonReader(InputStream polygonStream) {
+		return new HcsvRecordReader<>(
+				HcsvPolygonRecordBean.class, HcsvPolygonRecordBean::new, new HcsvLineFilter(true, true),
+				new HcsvPolygonRecordBeanValidator(), polygonStream
+		);
+	}
+
 	// { "POLY_FEATURE_ID", csvFldType_CHAR, 38, 0, "", TRUE }
 	@PreAssignmentProcessor(processor = ConvertEmptyOrBlankStringsToNull.class)
 	@CsvBindByName(column = "FEATURE_ID")
@@ -10,8 +10,6 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.opencsv.bean.CsvToBean;
-import com.opencsv.bean.exceptionhandler.ExceptionHandlerQueue;
 import com.opencsv.exceptions.CsvConstraintViolationException;
 
 import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.AbstractProjectionRequestException;
@@ -44,28 +42,40 @@ public class HcsvPolygonStream extends AbstractPolygonStream {
 
 	private static Logger logger = LoggerFactory.getLogger(HcsvPolygonStream.class);
 
-	private CsvToBean<HcsvPolygonRecordBean> hcsvPolygonStream;
-	private CsvStreamIterator<HcsvPolygonRecordBean> polygonRecordIterator;
+	private HcsvRecordReader<HcsvPolygonRecordBean> polygonRecordIterator;
 	private HcsvPolygonRecordBean nextPolygonRecord;
 
-	private CsvToBean<HcsvLayerRecordBean> hcsvLayerStream;
-	private CsvStreamIterator<HcsvLayerRecordBean> layerRecordIterator;
+	private HcsvRecordReader<HcsvLayerRecordBean> layerRecordIterator;
 	private HcsvLayerRecordBean nextLayerRecord;
 
 	public HcsvPolygonStream(ProjectionContext context, InputStream polygonStream, InputStream layersStream) {
 
 		super(context);
 
-		var exceptionHandler = new ExceptionHandlerQueue();
-
-		hcsvPolygonStream = HcsvPolygonRecordBean.createHcsvPolygonStream(exceptionHandler, polygonStream);
-		polygonRecordIterator = new CsvStreamIterator<>(hcsvPolygonStream.iterator());
-		hcsvLayerStream = HcsvLayerRecordBean.createHcsvLayerStream(exceptionHandler, layersStream);
-		layerRecordIterator = new CsvStreamIterator<>(hcsvLayerStream.iterator());
+		polygonRecordIterator = HcsvPolygonRecordBean.createHcsvPolygonReader(polygonStream);
+		layerRecordIterator = HcsvLayerRecordBean.createHcsvLayerReader(layersStream);
 
 		advanceToFirstPolygon();
 	}
 
+	/**
+	 * Read the polygon and layer files ahead of the polygons being requested, each on a separate thread.
+	 */
+	@Override
+	public void startReadingAhead() {
+		polygonRecordIterator.startReadingAhead();
+		layerRecordIterator.startReadingAhead();
+	}
+
+	@Override
+	public void close() {
+		try {
+			polygonRecordIterator.close();
+		} finally {
+			layerRecordIterator.close();
+		}
+	}
+
 	@Override
 	public boolean hasNextPolygon() {
 		return nextPolygonRecord != null;
@@ -108,11 +118,11 @@ public class HcsvPolygonStream extends AbstractPolygonStream {
 	private List<ValidationMessage> collectExceptions() {
 		var messages = new ArrayList<ValidationMessage>();
 
-		for (var e : hcsvPolygonStream.getCapturedExceptions()) {
+		for (var e : polygonRecordIterator.getCapturedExceptions()) {
 			collectMessages(messages, e);
 		}
 
-		for (var e : hcsvLayerStream.getCapturedExceptions()) {
+		for (var e : layerRecordIterator.getCapturedExceptions()) {
 			collectMessages(messages, e);
 		}
 
@@ -0,0 +1,457 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection.input;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.opencsv.bean.BeanVerifier;
+import com.opencsv.bean.CsvBindByPosition;
+import com.opencsv.bean.CsvToBeanFilter;
+import com.opencsv.bean.processor.PreAssignmentProcessor;
+import com.opencsv.bean.processor.StringProcessor;
+import com.opencsv.exceptions.CsvConstraintViolationException;
+
+/**
+ * Streams the records of an HCSV file into record beans. The beans are bound by their {@link CsvBindByPosition} and
+ * {@link PreAssignmentProcessor} annotations, as opencsv's {@link com.opencsv.bean.CsvToBean} would bind them, and
+ * filtered and verified in the same way, but the annotations are resolved only once per bean class and each line is
+ * split and assigned directly.
+ * <p>
+ * As with {@code CsvToBean}, a record that fails verification is skipped and the exception it raised is captured, to
+ * be collected with {@link #getCapturedExceptions()}. Lines may optionally be read and split ahead of the records
+ * being requested, on a separate thread; see {@link #startReadingAhead()}.
+ *
+ * @param <T> the record bean type
+ */
+public class HcsvRecordReader<T> implements Iterator<T>, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(HcsvRecordReader.class);
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final char ESCAPE = '\\';
+
+	/** Number of lines passed from the read-ahead thread to the reader at a time */
+	private static final int READ_AHEAD_BATCH_SIZE = 256;
+	/** Number of batches of lines the read-ahead thread may get ahead of the reader */
+	private static final int READ_AHEAD_BATCHES = 8;
+	/** Number of threads, shared by all readers, that may be reading ahead at once */
+	private static final int READ_AHEAD_THREADS = Runtime.getRuntime().availableProcessors();
+
+	private static final ClassValue<Binding<?>> BINDINGS = new ClassValue<>() {
+		@Override
+		protected Binding<?> computeValue(Class<?> type) {
+			return new Binding<>(type);
+		}
+	};
+
+	private final Binding<T> binding;
+	private final Supplier<T> beanFactory;
+	private final CsvToBeanFilter filter;
+	private final BeanVerifier<T> verifier;
+
+	private LineSource lineSource;
+	private T nextRecord;
+	private boolean exhausted;
+
+	private List<CsvConstraintViolationException> capturedExceptions = new ArrayList<>();
+
+	@SuppressWarnings("unchecked")
+	HcsvRecordReader(
+			Class<T> type, Supplier<T> beanFactory, CsvToBeanFilter filter, BeanVerifier<T> verifier,
+			InputStream inputStream
+	) {
+		this.binding = (Binding<T>) BINDINGS.get(type);
+		this.beanFactory = beanFactory;
+		this.filter = filter;
+		this.verifier = verifier;
+		this.lineSource = new SplittingLineSource(inputStream);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (nextRecord == null && !exhausted) {
+			nextRecord = readRecord();
+			exhausted = nextRecord == null;
+		}
+		return nextRecord != null;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T record = nextRecord;
+		nextRecord = null;
+		return record;
+	}
+
+	/**
+	 * @return the exceptions raised by records that failed verification since the last call. The list of captured
+	 *         exceptions is then cleared.
+	 */
+	public List<CsvConstraintViolationException> getCapturedExceptions() {
+		if (capturedExceptions.isEmpty()) {
+			return List.of();
+		}
+		var exceptions = capturedExceptions;
+		capturedExceptions = new ArrayList<>();
+		return exceptions;
+	}
+
+	/**
+	 * Read and split the remaining lines on a separate thread, ahead of the records being requested. Binding and
+	 * verification remain on the calling thread, so records and exceptions are produced exactly as they would be
+	 * otherwise. Does nothing if the reader is already reading ahead, or if every one of the threads shared by the
+	 * readers is already reading ahead for another, in which case lines continue to be read as records are requested.
+	 */
+	public void startReadingAhead() {
+		if (! (lineSource instanceof ReadAheadLineSource)) {
+			lineSource = ReadAheadLineSource.of(lineSource);
+		}
+	}
+
+	/**
+	 * Stop reading ahead, if the reader is doing so, and close the input stream.
+	 */
+	@Override
+	public void close() {
+		lineSource.close();
+	}
+
+	private T readRecord() {
+		String[] cells;
+		while ( (cells = lineSource.next()) != null) {
+			if (!filter.allowLine(cells)) {
+				continue;
+			}
+
+			T record = beanFactory.get();
+			binding.bind(record, cells);
+
+			try {
+				if (verifier.verifyBean(record)) {
+					return record;
+				}
+			} catch (CsvConstraintViolationException e) {
+				capturedExceptions.add(e);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The fields of a bean type that are bound to a column, with the processor applied to each column's value before
+	 * it is assigned, indexed by column position.
+	 */
+	private static class Binding<T> {
+
+		private final Field[] fields;
+		private final StringProcessor[] processors;
+
+		Binding(Class<T> type) {
+			int nColumns = 0;
+			for (Field field : type.getDeclaredFields()) {
+				if (field.isAnnotationPresent(CsvBindByPosition.class)) {
+					nColumns = Math.max(nColumns, field.getAnnotation(CsvBindByPosition.class).position() + 1);
+				}
+			}
+
+			fields = new Field[nColumns];
+			processors = new StringProcessor[nColumns];
+
+			for (Field field : type.getDeclaredFields()) {
+				var position = field.getAnnotation(CsvBindByPosition.class);
+				if (position == null) {
+					continue;
+				}
+				Validate.isTrue(
+						field.getType() == String.class, "HcsvRecordReader.Binding: field %s must be a String",
+						field.getName()
+				);
+
+				field.setAccessible(true);
+				fields[position.position()] = field;
+
+				var processor = field.getAnnotation(PreAssignmentProcessor.class);
+				if (processor != null) {
+					try {
+						processors[position.position()] = processor.processor().getDeclaredConstructor().newInstance();
+					} catch (ReflectiveOperationException e) {
+						throw new IllegalStateException(
+								"Unable to create processor for field " + field.getName() + " of " + type.getName(), e
+						);
+					}
+					processors[position.position()].setParameterString(processor.paramString());
+				}
+			}
+		}
+
+		/**
+		 * Assign the cells of a line to the bean. Columns beyond the end of the line are left unassigned, and cells
+		 * beyond the last bound column are ignored.
+		 */
+		void bind(T bean, String[] cells) {
+			int n = Math.min(cells.length, fields.length);
+			try {
+				for (int i = 0; i < n; i++) {
+					if (fields[i] != null) {
+						String value = cells[i];
+						if (processors[i] != null) {
+							value = processors[i].processString(value);
+						}
+						fields[i].set(bean, value);
+					}
+				}
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * A source of the lines of a CSV file, split into cells.
+	 */
+	private interface LineSource {
+
+		/**
+		 * @return the cells of the next line, or null at the end of the file
+		 */
+		String[] next();
+
+		/**
+		 * Close the file, ending any read of it in progress.
+		 */
+		void close();
+	}
+
+	/**
+	 * Splits lines as opencsv's default parser does: fields may be quoted, in which case they may contain separators,
+	 * doubled quotes and line breaks, and a backslash escapes a following quote or backslash.
+	 */
+	private static class SplittingLineSource implements LineSource {
+
+		private final InputStream inputStream;
+		private final BufferedReader reader;
+		private final List<String> cells = new ArrayList<>();
+		private final StringBuilder cell = new StringBuilder();
+
+		SplittingLineSource(InputStream inputStream) {
+			this.inputStream = inputStream;
+			this.reader = new BufferedReader(new InputStreamReader(inputStream));
+		}
+
+		/**
+		 * Closes the input stream rather than the reader, whose close would wait for a read in progress on another
+		 * thread to return; the read fails instead.
+		 */
+		@Override
+		public void close() {
+			try {
+				inputStream.close();
+			} catch (IOException e) {
+				// Nothing more will be read from the file, so its reader is as closed as it can be
+				logger.warn("Unable to close HCSV input: {}", e.getMessage());
+			}
+		}
+
+		@Override
+		public String[] next() {
+			try {
+				String line = reader.readLine();
+				return line == null ? null : split(line);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private String[] split(String line) throws IOException {
+			cells.clear();
+			cell.setLength(0);
+
+			boolean inQuotes = false;
+			boolean inField = false;
+
+			while (true) {
+				int length = line.length();
+				for (int i = 0; i < length; i++) {
+					char c = line.charAt(i);
+					if (c == ESCAPE) {
+						if ( (inQuotes || inField) && i + 1 < length
+								&& (line.charAt(i + 1) == QUOTE || line.charAt(i + 1) == ESCAPE)) {
+							cell.append(line.charAt(++i));
+						}
+					} else if (c == QUOTE) {
+						if ( (inQuotes || inField) && i + 1 < length && line.charAt(i + 1) == QUOTE) {
+							cell.append(line.charAt(++i));
+						} else {
+							inQuotes = !inQuotes;
+							// A quote within an unquoted field is kept
+							if (i > 2 && line.charAt(i - 1) != SEPARATOR && i + 1 < length
+									&& line.charAt(i + 1) != SEPARATOR) {
+								if (cell.length() > 0 && cell.toString().isBlank()) {
+									cell.setLength(0);
+								} else {
+									cell.append(c);
+								}
+							}
+						}
+						inField = !inField;
+					} else if (c == SEPARATOR && !inQuotes) {
+						cells.add(cell.toString());
+						cell.setLength(0);
+						inField = false;
+					} else {
+						cell.append(c);
+						inField = true;
+					}
+				}
+
+				if (!inQuotes) {
+					break;
+				}
+
+				// A quoted field continues on the next line
+				line = reader.readLine();
+				if (line == null) {
+					throw new IOException("Unterminated quoted field at end of CSV file");
+				}
+				cell.append('\n');
+			}
+
+			cells.add(cell.toString());
+			return cells.toArray(new String[cells.size()]);
+		}
+	}
+
+	/**
+	 * Takes the lines of another line source on a separate thread, passing them on in batches through a bounded queue.
+	 * The threads are shared by all readers, up to {@link #READ_AHEAD_THREADS} at once, and are released when the
+	 * source is read to its end or closed.
+	 */
+	private static class ReadAheadLineSource implements LineSource {
+
+		private static final String[][] END = new String[0][];
+
+		private static final AtomicInteger threadNumber = new AtomicInteger();
+		private static final ExecutorService threads = new ThreadPoolExecutor(
+				0, READ_AHEAD_THREADS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+					var thread = new Thread(r, "hcsv-read-ahead-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+
+		private final LineSource source;
+		private final BlockingQueue<Object> batches = new ArrayBlockingQueue<>(READ_AHEAD_BATCHES);
+		private final Future<?> readingAhead;
+
+		private String[][] batch = new String[0][];
+		private int nextInBatch = 0;
+		private boolean ended = false;
+
+		private ReadAheadLineSource(LineSource source) {
+			this.source = source;
+			this.readingAhead = threads.submit(() -> readAhead(source));
+		}
+
+		/**
+		 * @return a line source reading ahead of the given one, or the given one itself if every thread is busy. The
+		 *         threads are not queued for, since the lines being waited for by a reader could then be those of
+		 *         another file it is reading, whose thread is waiting for it.
+		 */
+		static LineSource of(LineSource source) {
+			try {
+				return new ReadAheadLineSource(source);
+			} catch (RejectedExecutionException e) {
+				return source;
+			}
+		}
+
+		private void readAhead(LineSource source) {
+			try {
+				while (true) {
+					var lines = new ArrayList<String[]>(READ_AHEAD_BATCH_SIZE);
+					String[] cells = null;
+					while (lines.size() < READ_AHEAD_BATCH_SIZE && (cells = source.next()) != null) {
+						lines.add(cells);
+					}
+					if (!lines.isEmpty()) {
+						batches.put(lines.toArray(new String[lines.size()][]));
+					}
+					if (cells == null) {
+						batches.put(END);
+						return;
+					}
+				}
+			} catch (InterruptedException e) {
+				// Closed before the end of the file was reached
+			} catch (RuntimeException e) {
+				try {
+					batches.put(e);
+				} catch (InterruptedException ie) {
+					// Closed; there is no one to report the failure to
+				}
+			}
+		}
+
+		@Override
+		public String[] next() {
+			while (nextInBatch == batch.length) {
+				if (ended) {
+					return null;
+				}
+
+				Object next;
+				try {
+					next = batches.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while waiting for HCSV input", e);
+				}
+
+				if (next instanceof RuntimeException e) {
+					ended = true;
+					batch = END;
+					throw e;
+				}
+				batch = (String[][]) next;
+				nextInBatch = 0;
+				ended = batch == END;
+			}
+			return batch[nextInBatch++];
+		}
+
+		/**
+		 * Stops reading ahead. The source is closed as well as the thread interrupted, since a thread waiting for input
+		 * is not woken by an interrupt.
+		 */
+		@Override
+		public void close() {
+			readingAhead.cancel(true);
+			source.close();
+		}
+	}
+}
@@ -11,6 +11,8 @@ public class Vdyp7Constants {
 																					// the layer
 	public static final String BACK_CONTROL_FILE_NAME = "VDYPBACK.CTR";
 
+	public static final String FORWARD_BINARY_OUTPUT_FILE_NAME = "vdyp_grow.bin"; // No VDYP 7 equivalent
+
 	public static final double EMPTY_DECIMAL = -9.0f;
 	public static final String EMPTY_DECIMAL_TEXT = Double.toString(EMPTY_DECIMAL);
 	public static final int EMPTY_INT = -9;
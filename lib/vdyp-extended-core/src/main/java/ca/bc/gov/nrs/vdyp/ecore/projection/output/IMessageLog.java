@@ -1,11 +1,20 @@
 package ca.bc.gov.nrs.vdyp.ecore.projection.output;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 
-public interface IMessageLog {
+public interface IMessageLog extends Closeable {
 
 	void addMessage(String message, Object... arguments);
 
 	InputStream getAsStream();
 
+	/**
+	 * Release any resources held by the log. The log's content is no longer available once it is closed.
+	 */
+	@Override
+	default void close() throws IOException {
+		/* do nothing */
+	}
 }
@@ -1,7 +1,14 @@
 package ca.bc.gov.nrs.vdyp.ecore.projection.output;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,19 +17,31 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
+/**
+ * A log of messages. At most {@link #MAX_MESSAGES_IN_MEMORY} messages are held in memory; older messages are appended
+ * to a temporary spill file, so that the memory used by the log of a long run does not grow with the number of
+ * messages. The spill file is deleted when the log is closed.
+ */
 public class MessageLog implements IMessageLog {
 
 	private static final Logger logger = LoggerFactory.getLogger(MessageLog.class);
 
+	/** The number of messages held in memory before they are appended to the spill file */
+	static final int MAX_MESSAGES_IN_MEMORY = 1000;
+
 	private List<String> messages = new ArrayList<>();
 	private final Level loggerLevel;
 
+	private Path spillFile;
+	private Writer spillWriter;
+	private boolean spillFailed = false;
+
 	public MessageLog(Level loggerLevel) {
 		this.loggerLevel = loggerLevel;
 	}
 
 	@Override
-	public void addMessage(String message, Object... arguments) {
+	public synchronized void addMessage(String message, Object... arguments) {
 		if (arguments.length > 0) {
 			for (int i = 0; i < arguments.length; i++) {
 				arguments[i] = arguments[i] == null ? "null" : arguments[i].toString();
@@ -31,12 +50,58 @@ public class MessageLog implements IMessageLog {
 		}
 		messages.add(message);
 		logger.atLevel(loggerLevel).log(loggerLevel + " message: " + message);
+
+		if (messages.size() >= MAX_MESSAGES_IN_MEMORY && !spillFailed) {
+			spill();
+		}
+	}
+
+	private void spill() {
+		try {
+			if (spillWriter == null) {
+				spillFile = Files.createTempFile("vdyp-" + loggerLevel.name().toLowerCase() + "-", ".log");
+				spillWriter = Files.newBufferedWriter(spillFile, Charset.defaultCharset());
+			}
+			for (var message : messages) {
+				spillWriter.append(message).append('\n');
+			}
+			messages.clear();
+		} catch (IOException e) {
+			logger.warn("Unable to spill messages to {}; they will be held in memory", spillFile, e);
+			spillFailed = true;
+		}
 	}
 
+	/**
+	 * @return the messages logged so far, one per line. Those that were spilled are read from the spill file, which
+	 *         must therefore not be closed until the stream has been read.
+	 */
 	@Override
-	public InputStream getAsStream() {
-		StringBuffer sb = new StringBuffer();
+	public synchronized InputStream getAsStream() {
+		StringBuilder sb = new StringBuilder();
 		messages.stream().forEach(s -> sb.append(s).append('\n'));
-		return new ByteArrayInputStream(sb.toString().getBytes());
+		var inMemory = new ByteArrayInputStream(sb.toString().getBytes());
+
+		if (spillWriter == null) {
+			return inMemory;
+		}
+		try {
+			spillWriter.flush();
+			return new SequenceInputStream(Files.newInputStream(spillFile), inMemory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (spillWriter != null) {
+			try {
+				spillWriter.close();
+			} finally {
+				spillWriter = null;
+				Files.deleteIfExists(spillFile);
+			}
+		}
 	}
 }
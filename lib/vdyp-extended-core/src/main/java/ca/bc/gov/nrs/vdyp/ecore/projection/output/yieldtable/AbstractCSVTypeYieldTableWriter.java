@@ -24,7 +24,7 @@ abstract class AbstractCSVTypeYieldTableWriter<T extends YieldTableRowBean> exte
 	private StatefulBeanToCsv<T> csvWriter;
 
 	protected AbstractCSVTypeYieldTableWriter(Class<T> rowValuesClass, ProjectionContext context) {
-		super(rowValuesClass, Path.of(context.getExecutionFolder().toString(), YIELD_TABLE_FILE_NAME));
+		super(rowValuesClass, Path.of(context.getYieldTableFolder().toString(), YIELD_TABLE_FILE_NAME));
 
 		this.context = context;
 	}
@@ -40,7 +40,8 @@ abstract class AbstractCSVTypeYieldTableWriter<T extends YieldTableRowBean> exte
 	private FileWriter createFileWriter() throws YieldTableGenerationException {
 
 		try {
-			fileWriter = new FileWriter(getYieldTableFilePath().toString());
+			// Appended to, so that a yield table may be continued by another writer
+			fileWriter = new FileWriter(getYieldTableFilePath().toString(), true);
 			return fileWriter;
 		} catch (IOException e) {
 			throw new YieldTableGenerationException(e);
@@ -49,6 +50,12 @@ abstract class AbstractCSVTypeYieldTableWriter<T extends YieldTableRowBean> exte
 
 	protected abstract StatefulBeanToCsv<T> createCsvOutputStream(FileWriter fileWriter);
 
+	@Override
+	void startGeneration() {
+		// The CSV writer writes the file header, if any, before the first row it is given
+		csvWriter = createCsvOutputStream(fileWriter);
+	}
+
 	@Override
 	public final void writePolygonTableHeader(
 			Polygon polygonReportingInfo, Optional<LayerReportingInfo> layerReportingInfo,
@@ -71,6 +78,15 @@ abstract class AbstractCSVTypeYieldTableWriter<T extends YieldTableRowBean> exte
 		return new YieldTableGenerationException(rowContext.getPolygon().getFeatureId(), e);
 	}
 
+	@Override
+	void flush() throws YieldTableGenerationException {
+		try {
+			fileWriter.flush();
+		} catch (IOException e) {
+			throw new YieldTableGenerationException(e);
+		}
+	}
+
 	@Override
 	public void close() {
 		Utils.close(fileWriter, "AbstractCSVTypeYieldTableWriter<T>.fileWriter");
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -243,12 +244,13 @@ class FullReportYieldTableWriter extends YieldTableWriter<TextYieldTableRowValue
 
 	public static FullReportYieldTableWriter of(ProjectionContext context) throws YieldTableGenerationException {
 
-		Path yieldTableFilePath = Path.of(context.getExecutionFolder().toString(), YIELD_TABLE_FILE_NAME);
+		Path yieldTableFilePath = Path.of(context.getYieldTableFolder().toString(), YIELD_TABLE_FILE_NAME);
 
 		FullReportYieldTableWriter writer;
 		try {
-			yieldTableFilePath = Files.createFile(yieldTableFilePath);
-			OutputStream os = Files.newOutputStream(yieldTableFilePath);
+			// Appended to, so that a yield table may be continued by another writer
+			OutputStream os = Files
+					.newOutputStream(yieldTableFilePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
 			writer = new FullReportYieldTableWriter(context, os, yieldTableFilePath);
 		} catch (IOException e) {
 			throw new YieldTableGenerationException(e);
@@ -257,6 +259,13 @@ class FullReportYieldTableWriter extends YieldTableWriter<TextYieldTableRowValue
 		return writer;
 	}
 
+	@Override
+	void startGeneration() {
+		writeTopHeader = true;
+		lastPolygonForTrailer = null;
+		culminationValuesByType.clear();
+	}
+
 	@Override
 	public void startNewRecord() {
 		super.startNewRecord();
@@ -838,6 +847,15 @@ class FullReportYieldTableWriter extends YieldTableWriter<TextYieldTableRowValue
 		return new YieldTableGenerationException(e);
 	}
 
+	@Override
+	void flush() throws YieldTableGenerationException {
+		try {
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new YieldTableGenerationException(e);
+		}
+	}
+
 	@Override
 	public final void close() {
 		Utils.close(outputStream, "TextYieldTableWriter.outputStream");
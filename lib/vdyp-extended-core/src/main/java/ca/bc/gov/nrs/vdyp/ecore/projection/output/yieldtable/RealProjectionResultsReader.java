@@ -3,6 +3,7 @@ package ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable;
 import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,11 @@ import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.YieldTableGenerationException;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.Polygon;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
 import ca.bc.gov.nrs.vdyp.forward.ForwardDataStreamReader;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.VdypOutputIndex;
+import ca.bc.gov.nrs.vdyp.io.VdypOutputIndex.OutputFile;
+import ca.bc.gov.nrs.vdyp.io.parse.model.VdypBinaryOutputReader;
 import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser;
 import ca.bc.gov.nrs.vdyp.io.parse.model.VdypSpeciesParser;
 import ca.bc.gov.nrs.vdyp.io.parse.model.VdypUtilizationParser;
@@ -25,9 +30,43 @@ public class RealProjectionResultsReader implements ProjectionResultsReader {
 	private static Logger logger = LoggerFactory.getLogger(RealProjectionResultsReader.class);
 
 	private final Map<String, Object> controlMap;
+	private final FileResolver outputFileResolver;
+	private final Optional<VdypOutputIndex> outputIndex;
 
+	/**
+	 * Create a reader of the Forward output files named in the given control map, which are expected to be absolute
+	 * paths.
+	 *
+	 * @param controlMap the control map with which Forward was run
+	 */
 	public RealProjectionResultsReader(Map<String, Object> controlMap) {
+		this(controlMap, new FileSystemFileResolver());
+	}
+
+	/**
+	 * Create a reader of the Forward output files named in the given control map, locating them with the given
+	 * resolver.
+	 *
+	 * @param controlMap         the control map with which Forward was run
+	 * @param outputFileResolver locates the output files
+	 */
+	public RealProjectionResultsReader(Map<String, Object> controlMap, FileResolver outputFileResolver) {
 		this.controlMap = controlMap;
+		this.outputFileResolver = outputFileResolver;
+		this.outputIndex = Optional.empty();
+	}
+
+	/**
+	 * Create a reader of indexed Forward output files, such as those of an earlier run over many polygons. Only the
+	 * records of the polygon being read are parsed. The index remains open and owned by the caller.
+	 *
+	 * @param controlMap  the control map with which Forward was run, for its BEC and genus definitions
+	 * @param outputIndex the index of the output files
+	 */
+	public RealProjectionResultsReader(Map<String, Object> controlMap, VdypOutputIndex outputIndex) {
+		this.controlMap = controlMap;
+		this.outputFileResolver = null;
+		this.outputIndex = Optional.of(outputIndex);
 	}
 
 	@Override
@@ -39,27 +78,30 @@ public class RealProjectionResultsReader implements ProjectionResultsReader {
 				polygon.getMapSheet(), polygon.getPolygonNumber(), polygon.getDistrict(), 0 /* expect any year */
 		);
 
-		Object polygonFileLocation = controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_POLYGON.name());
-		Object speciesFileLocation = controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name());
-		Object utilizationsFileLocation = controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name());
-
 		var readerControlMap = new HashMap<String, Object>();
 
-		var absolutePathFileResolver = new FileSystemFileResolver();
-		readerControlMap.put(
-				ControlKey.FORWARD_INPUT_VDYP_POLY.name(),
-				new VdypPolygonParser().map(polygonFileLocation.toString(), absolutePathFileResolver, readerControlMap)
-		);
-		readerControlMap.put(
-				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(),
-				new VdypSpeciesParser().reportSIHeight()
-						.map(speciesFileLocation.toString(), absolutePathFileResolver, readerControlMap)
-		);
-		readerControlMap.put(
-				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
-				new VdypUtilizationParser()
-						.map(utilizationsFileLocation.toString(), absolutePathFileResolver, readerControlMap)
-		);
+		// Prefer the binary form of the output, when Forward wrote one, to the VDYP7 text files.
+		var binaryFileLocation = Optional.ofNullable(controlMap.get(ControlKey.VDYP_OUTPUT_BINARY.name()))
+				.map(Object::toString).filter(location -> !location.isBlank());
+
+		if (outputIndex.isPresent()) {
+			var index = outputIndex.get();
+			var years = index.getPolygonIdentifiers(expectedPolygonIdentifier.getBase());
+
+			putTextParsers(
+					readerControlMap, index.getPath(OutputFile.POLYGON), index.getPath(OutputFile.SPECIES),
+					index.getPath(OutputFile.UTILIZATION), index.resolver(years)
+			);
+		} else if (binaryFileLocation.isPresent()) {
+			new VdypBinaryOutputReader().reportSIHeight()
+					.modify(readerControlMap, binaryFileLocation.get(), outputFileResolver);
+		} else {
+			putTextParsers(
+					readerControlMap, controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_POLYGON.name()),
+					controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name()),
+					controlMap.get(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name()), outputFileResolver
+			);
+		}
 		readerControlMap.put(ControlKey.BEC_DEF.name(), controlMap.get(ControlKey.BEC_DEF.name()));
 		readerControlMap.put(ControlKey.SP0_DEF.name(), controlMap.get(ControlKey.SP0_DEF.name()));
 
@@ -96,6 +138,25 @@ public class RealProjectionResultsReader implements ProjectionResultsReader {
 		return projectionResultsByYear;
 	}
 
+	private static void putTextParsers(
+			Map<String, Object> readerControlMap, Object polygonFileLocation, Object speciesFileLocation,
+			Object utilizationsFileLocation, FileResolver fileResolver
+	) {
+		readerControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_POLY.name(),
+				new VdypPolygonParser().map(polygonFileLocation.toString(), fileResolver, readerControlMap)
+		);
+		readerControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(),
+				new VdypSpeciesParser().reportSIHeight()
+						.map(speciesFileLocation.toString(), fileResolver, readerControlMap)
+		);
+		readerControlMap.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
+				new VdypUtilizationParser().map(utilizationsFileLocation.toString(), fileResolver, readerControlMap)
+		);
+	}
+
 	/**
 	 * Perform load data results transforms on data coming from forward or back Sum the species utilization vectors at
 	 * each utilization class for the layer utlization class instead of trusting the layer utilization values provided
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -37,12 +38,13 @@ class TextYieldTableWriter extends YieldTableWriter<TextYieldTableRowValuesBean>
 
 	public static TextYieldTableWriter of(ProjectionContext context) throws YieldTableGenerationException {
 
-		Path yieldTableFilePath = Path.of(context.getExecutionFolder().toString(), YIELD_TABLE_FILE_NAME);
+		Path yieldTableFilePath = Path.of(context.getYieldTableFolder().toString(), YIELD_TABLE_FILE_NAME);
 
 		TextYieldTableWriter writer;
 		try {
-			yieldTableFilePath = Files.createFile(yieldTableFilePath);
-			OutputStream os = Files.newOutputStream(yieldTableFilePath);
+			// Appended to, so that a yield table may be continued by another writer
+			OutputStream os = Files
+					.newOutputStream(yieldTableFilePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
 			writer = new TextYieldTableWriter(context, os, yieldTableFilePath);
 		} catch (IOException e) {
 			throw new YieldTableGenerationException(e);
@@ -346,6 +348,15 @@ class TextYieldTableWriter extends YieldTableWriter<TextYieldTableRowValuesBean>
 		}
 	}
 
+	@Override
+	void flush() throws YieldTableGenerationException {
+		try {
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new YieldTableGenerationException(e);
+		}
+	}
+
 	@Override
 	public final void close() {
 		Utils.close(outputStream, "TextYieldTableWriter.outputStream");
@@ -6,9 +6,14 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -117,7 +122,13 @@ public class YieldTable implements Closeable {
 		);
 	}
 
+	/**
+	 * Start a generation of the yield table. A yield table may be generated any number of times in succession, each
+	 * generation being written to the file after the previous one exactly as a new yield table would have written it.
+	 */
 	public void startGeneration() throws YieldTableGenerationException {
+		nextYieldTableNumber = 1;
+		writer.startGeneration();
 		writer.writeHeader();
 	}
 
@@ -260,6 +271,80 @@ public class YieldTable implements Closeable {
 		writer.writeTrailer();
 	}
 
+	/**
+	 * Write what has been generated so far to the yield table's file.
+	 */
+	public void flush() throws YieldTableGenerationException {
+		writer.flush();
+	}
+
+	/**
+	 * Determine the calendar years of the projection results that will be read when the yield tables of the given
+	 * polygon are generated. These are the years of the rows of each table (and, when culmination values are
+	 * reported, of every year of each layer table's range) as they map onto each layer of the polygon.
+	 *
+	 * @param polygon the polygon to be projected
+	 * @param state   the state of the projection of <code>polygon</code>
+	 * @return the years, in ascending order
+	 */
+	public SortedSet<Integer> determineRequestedYears(Polygon polygon, PolygonProjectionState state) {
+
+		List<YieldTableRowIterator> rowIterators = new ArrayList<>();
+		if (params.containsOption(ExecutionOption.DO_SUMMARIZE_PROJECTION_BY_POLYGON)) {
+			rowIterators.add(new YieldTableRowIterator(context, polygon, state, null));
+		}
+		if (params.containsOption(ExecutionOption.DO_SUMMARIZE_PROJECTION_BY_LAYER)) {
+			for (var layerReportingInfo : polygon.getReportingInfo().getLayerReportingInfos().values()) {
+				rowIterators.add(new YieldTableRowIterator(context, polygon, state, layerReportingInfo));
+				if (params.containsOption(ExecutionOption.REPORT_INCLUDE_CULMINATION_VALUES)) {
+					rowIterators.add(new YieldTableRowIterator(context, polygon, state, layerReportingInfo, 1));
+				}
+			}
+		}
+
+		var requestedYears = new TreeSet<Integer>();
+
+		for (var rowIterator : rowIterators) {
+			while (rowIterator.hasNext()) {
+				var rowContext = rowIterator.next();
+				if (rowContext.getCurrentTableAgeToRequest() == null) {
+					continue;
+				}
+
+				int targetAge = rowContext.getCurrentTableAgeToRequest() - rowContext.getLayerAgeOffset();
+
+				if (rowContext.isPolygonTable()) {
+					// As in getProjectedPolygonGrowthInfo and getProjectedPolygonVolumes
+					var primaryLayer = polygon.getPrimaryLayer();
+					var primaryLayerAge0Year = primaryLayer == null ? null : primaryLayer.determineYearAtAge(0);
+					if (primaryLayerAge0Year != null) {
+						for (var layer : polygon.getLayers().values()) {
+							var layerAge0Year = layer.determineYearAtAge(0);
+							if (layerAge0Year != null) {
+								int ageToRequest = targetAge + primaryLayerAge0Year - layerAge0Year;
+								addRequestedYear(requestedYears, layer, ageToRequest);
+							}
+						}
+					}
+				} else {
+					addRequestedYear(requestedYears, rowContext.getLayerReportingInfo().getLayer(), targetAge);
+				}
+			}
+		}
+
+		return requestedYears;
+	}
+
+	private void addRequestedYear(Set<Integer> requestedYears, Layer layer, int ageToRequest) {
+		if (ageToRequest >= 0) {
+			try {
+				requestedYears.add(getCalendarYear(layer, ageToRequest));
+			} catch (StandYieldCalculationException e) {
+				// No results will be requested for this age.
+			}
+		}
+	}
+
 	private void generateYieldTable(
 			Polygon polygon, Map<Integer, VdypPolygon> polygonProjectionResults, PolygonProjectionState state,
 			LayerReportingInfo layerReportingInfo, boolean doGenerateDetailedTableHeader
@@ -1791,6 +1876,13 @@ public class YieldTable implements Closeable {
 		}
 	}
 
+	/**
+	 * @return the file the yield table is written to
+	 */
+	public Path getYieldTableFilePath() {
+		return yieldTableFilePath;
+	}
+
 	public InputStream getAsStream() {
 		try {
 			return new FileInputStream(yieldTableFilePath.toFile());
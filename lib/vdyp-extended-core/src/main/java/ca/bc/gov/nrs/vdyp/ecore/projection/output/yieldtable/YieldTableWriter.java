@@ -340,6 +340,14 @@ abstract class YieldTableWriter<T extends YieldTableRowBean> implements Closeabl
 		return currentCategories;
 	}
 
+	/**
+	 * Prepare to write another generation of the yield table after the one before it, in the state of a new writer.
+	 * This is a default method that does nothing, the requirement for formats that keep no state between polygons.
+	 */
+	void startGeneration() {
+		// Nothing carries over from one generation to the next.
+	}
+
 	/**
 	 * Write the yield table header into the output stream. This is a default method that does nothing, the requirement
 	 * for a number of the output formats.
@@ -391,6 +399,16 @@ abstract class YieldTableWriter<T extends YieldTableRowBean> implements Closeabl
 		// Some formats have no trailer.
 	}
 
+	/**
+	 * Write anything buffered to the yield table file. This is a default method that does nothing, the requirement for
+	 * writers that do not buffer their output.
+	 *
+	 * @throws YieldTableGenerationException if the output cannot be written
+	 */
+	void flush() throws YieldTableGenerationException {
+		// Nothing is buffered.
+	}
+
 	final void endRecord(YieldTableRowContext rowContext) throws YieldTableGenerationException {
 		if (currentRecord == null) {
 			throw new IllegalStateException("endRecord()");
@@ -17,6 +17,7 @@ package ca.bc.gov.nrs.vdyp.ecore.utils;
  */
 public class ParameterNames {
 	public static final String TRIAL_RUN = "trialRun";
+	public static final String STREAM_RESULTS = "streamResults";
 	public static final String PROJECTION_PARAMETERS = "Projection Parameters";
 	public static final String MODEL_PARAMETERS = "Model Parameters";
 	public static final String HCSV_POLYGON_INPUT_DATA = "HCSV-Polygon";
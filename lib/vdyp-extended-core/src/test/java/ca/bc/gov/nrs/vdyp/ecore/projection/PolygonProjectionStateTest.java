@@ -2,10 +2,13 @@ package ca.bc.gov.nrs.vdyp.ecore.projection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -19,7 +22,9 @@ import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.PolygonExecutionException;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.GrowthModelCode;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProcessingModeCode;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.enumerations.ProjectionTypeCode;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
 
 public class PolygonProjectionStateTest {
 	PolygonProjectionState unit;
@@ -133,6 +138,40 @@ public class PolygonProjectionStateTest {
 		assertThat(unit.getExecutionFolder(), is(Path.of("Test", "Execution", "Path")));
 	}
 
+	@Test
+	void testFileResolverOfExecutionFolder() throws Exception {
+		assertThat(unit.isExecutingInMemory(), is(false));
+		assertThrows(IllegalStateException.class, () -> unit.getFileResolver(ProjectionTypeCode.PRIMARY));
+		unit.setExecutionFolder(Path.of("Test", "Execution", "Path"));
+		assertThat(
+				unit.getFileResolver(ProjectionTypeCode.PRIMARY).toPath("test"),
+				is(Path.of("Test", "Execution", "Path", "PRIMARY", "test"))
+		);
+	}
+
+	@Test
+	void testFileResolverOfInMemoryFolder() throws Exception {
+		var folder = new MemoryFileResolver();
+		unit.setInMemoryFolder(ProjectionTypeCode.PRIMARY, folder);
+		assertThrows(
+				IllegalStateException.class,
+				() -> unit.setInMemoryFolder(ProjectionTypeCode.PRIMARY, new MemoryFileResolver())
+		);
+		assertThat(unit.isExecutingInMemory(), is(true));
+		assertThat(unit.getFileResolver(ProjectionTypeCode.PRIMARY), sameInstance(folder));
+	}
+
+	@Test
+	void testProjectionResults() {
+		assertThat(unit.getProjectionResults(ProjectionTypeCode.PRIMARY), is(Optional.empty()));
+
+		Map<Integer, VdypPolygon> results = new HashMap<>();
+		unit.setProjectionResults(ProjectionTypeCode.PRIMARY, results);
+
+		assertThat(unit.getProjectionResults(ProjectionTypeCode.PRIMARY).get(), sameInstance(results));
+		assertThat(unit.getProjectionResults(ProjectionTypeCode.VETERAN), is(Optional.empty()));
+	}
+
 	public static Stream<Arguments> tranlationModeCode() {
 		return Stream.of(
 				Arguments.of(ProcessingModeCode.FIP_FipStart, PolygonMode.START, GrowthModelCode.FIP),
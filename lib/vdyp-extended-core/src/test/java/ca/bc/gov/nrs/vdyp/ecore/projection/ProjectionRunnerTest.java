@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -67,6 +68,43 @@ public class ProjectionRunnerTest {
 	ProjectionRunner unit;
 	Parameters params;
 
+	@Test
+	void testOutputIsSignalled() throws AbstractProjectionRequestException, InterruptedException {
+		params = new Parameters().ageStart(0).ageEnd(100);
+		unit = new ProjectionRunner(ProjectionRequestKind.HCSV, "TEST", params, false);
+		var context = unit.getContext();
+
+		assertThat(context.getOutputCount(), is(0L));
+		assertThat(context.getRunsEnded(), is(0));
+
+		var polygonInputStream = TestUtils.makeInputStream(
+				//
+				TestUtils.POLYGON_CSV_HEADER_LINE,
+				"13919428,093C090,94833422,DQU,UNK,UNK,V,UNK,0.6,10,3,HE,35,8,,MS,14,50.0,1.000,"
+						+ ",V,T,U,TC,SP,2013,2013,60.0,,,,,,,,,,TC,100,,,,"
+		);
+		var layersInputStream = TestUtils.makeInputStream(
+				//
+				TestUtils.LAYER_CSV_HEADER_LINE,
+				"13919428,14321066,093C090,94833422,3,V,,,,,,5,10.000010,300,PLI,100.00,,,,,,,,,,,180,18.00,,,,,,,,,,"
+		);
+		unit.run(
+				Map.of(
+						ParameterNames.HCSV_POLYGON_INPUT_DATA, polygonInputStream,
+						ParameterNames.HCSV_LAYERS_INPUT_DATA, layersInputStream
+				)
+		);
+
+		// The start of the run, the polygon and the end of the run
+		long outputCount = context.getOutputCount();
+		assertThat(outputCount, is(3L));
+		assertThat(context.getRunsEnded(), is(1));
+
+		// Output already written is not waited for, and a wait for more ends at its limit
+		assertThat(context.awaitOutput(0, 60_000), is(outputCount));
+		assertThat(context.awaitOutput(outputCount, 10), is(outputCount));
+	}
+
 	@Test
 	void testMapSheetProgressFrequency() throws AbstractProjectionRequestException, IOException {
 		params = new Parameters().ageStart(0).ageEnd(100).progressFrequency(ProgressFrequency.FrequencyKind.MAPSHEET)
@@ -219,6 +257,82 @@ public class ProjectionRunnerTest {
 		assertThat(progressLog.contains("Processing Polygon 13919429:"), is(true));
 	}
 
+	@Test
+	void testParallelRunMatchesSequentialRun() throws AbstractProjectionRequestException, IOException {
+		var sequential = runTwoPolygons(1);
+		var parallel = runTwoPolygons(4);
+
+		assertThat(parallel[0], not(emptyString()));
+		assertEquals(sequential[0], parallel[0]);
+		assertThat(parallel[1], containsString("Processing Polygon 13919428:"));
+		assertThat(parallel[1], containsString("Processing Polygon 13919429:"));
+		assertThat(
+				parallel[1].indexOf("Processing Polygon 13919428:") < parallel[1]
+						.indexOf("Processing Polygon 13919429:"),
+				is(true)
+		);
+	}
+
+	@Test
+	void testSetParallelismRejectsNonPositive() throws AbstractProjectionRequestException {
+		unit = new ProjectionRunner(ProjectionRequestKind.HCSV, "TEST", new Parameters(), false);
+		assertThrows(IllegalArgumentException.class, () -> unit.setParallelism(0));
+		assertEquals(1, unit.getParallelism());
+	}
+
+	@Test
+	void testSuccessiveRunsMatchSeparateRuns() throws AbstractProjectionRequestException, IOException {
+		var separate = runTwoPolygons(2);
+
+		unit = new ProjectionRunner(ProjectionRequestKind.HCSV, "TEST", params, false);
+		unit.setParallelism(2);
+		for (int run = 0; run < 2; run++) {
+			unit.run(twoPolygonStreams());
+
+			// Each run is appended to the yield table as a separate run would have written it
+			String results = new String(unit.getContext().getYieldTables().get(0).getAsStream().readAllBytes());
+			String progressLog = new String(unit.getProgressStream().readAllBytes());
+
+			assertEquals(separate[0].repeat(run + 1), results);
+			assertThat(progressLog.split("Processing Polygon 13919428:").length, is(2));
+			assertEquals(2, unit.getLastRunPolygonsProcessed());
+		}
+		unit.close();
+	}
+
+	private String[] runTwoPolygons(int parallelism) throws AbstractProjectionRequestException, IOException {
+		params = new Parameters().ageStart(0).ageEnd(190).progressFrequency(ProgressFrequency.FrequencyKind.POLYGON)
+				.addSelectedExecutionOptionsItem(Parameters.ExecutionOption.DO_ENABLE_PROGRESS_LOGGING);
+		unit = new ProjectionRunner(ProjectionRequestKind.HCSV, "TEST", params, false);
+		unit.setParallelism(parallelism);
+
+		unit.run(twoPolygonStreams());
+
+		String results = new String(unit.getContext().getYieldTables().get(0).getAsStream().readAllBytes());
+		String progressLog = new String(unit.getProgressStream().readAllBytes());
+		return new String[] { results, progressLog };
+	}
+
+	private static Map<String, InputStream> twoPolygonStreams() {
+		var polygonInputStream = TestUtils.makeInputStream(
+				//
+				TestUtils.POLYGON_CSV_HEADER_LINE,
+				"13919428,093C090,94833422,DQU,UNK,UNK,V,UNK,0.6,10,3,HE,35,8,,MS,14,50.0,1.000,,V,T,U,TC,SP,2013,2013,60.0,,,,,,,,,,TC,100,,,,",
+				"13919429,093C090,94833422,DQU,UNK,UNK,V,UNK,0.6,10,3,HE,35,8,,MS,14,50.0,1.000,,V,T,U,TC,SP,2013,2013,60.0,,,,,,,,,,TC,100,,,,"
+		);
+		var layersInputStream = TestUtils.makeInputStream(
+				//
+				TestUtils.LAYER_CSV_HEADER_LINE,
+				"13919428,14321066,093C090,94833422,1,P,,1,,,,20,10.000010,300,PLI,60.00,SX,40.00,,,,,,,,,180,18.00,180,23.00,,,,,,,,",
+				"13919429,14321066,093C090,94833422,1,P,,1,,,,20,10.000010,300,PLI,60.00,SX,40.00,,,,,,,,,180,18.00,180,23.00,,,,,,,,"
+		);
+
+		return Map.of(
+				ParameterNames.HCSV_POLYGON_INPUT_DATA, polygonInputStream, ParameterNames.HCSV_LAYERS_INPUT_DATA,
+				layersInputStream
+		);
+	}
+
 	@Test
 	void getErrorLogCount_returnsErrorLogCount_FromContext() throws AbstractProjectionRequestException {
 		params = new Parameters().ageStart(0).ageEnd(190).progressFrequency(ProgressFrequency.FrequencyKind.POLYGON)
@@ -199,8 +199,8 @@ class RealComponentRunnerTest {
 			after.accept(app);
 			EasyMock.expectLastCall().once();
 
-			// it should clean up after itself
-			app.close();
+			// it should clear the run so that the app can be reused
+			app.reset();
 			EasyMock.expectLastCall().once();
 
 			em.replay();
@@ -332,7 +332,7 @@ class RealComponentRunnerTest {
 		}
 
 		@Test
-		void testExceptionWhileClosing() throws Exception {
+		void testExceptionWhileResetting() throws Exception {
 			var em = EasyMock.createControl();
 			var runner = new RealComponentRunner();
 
@@ -363,9 +363,13 @@ class RealComponentRunnerTest {
 			EasyMock.expectLastCall().once();
 
 			// Error while cleaning up
-			app.close();
+			app.reset();
 			EasyMock.expectLastCall().andThrow(rootCause).once();
 
+			// so the app is closed rather than reused
+			app.close();
+			EasyMock.expectLastCall().once();
+
 			// Store exception result
 			state.setProcessingResults(ProjectionStageCode.of(appToUse), projectionTypeCode, Optional.of(rootCause));
 			EasyMock.expectLastCall().once();
@@ -381,5 +385,129 @@ class RealComponentRunnerTest {
 
 			em.verify();
 		}
+
+		@Test
+		void testAppIsReused() throws Exception {
+			var em = EasyMock.createControl();
+			var runner = new RealComponentRunner();
+
+			Polygon polygon = em.createMock(Polygon.class);
+			ProjectionTypeCode projectionTypeCode = ProjectionTypeCode.PRIMARY;
+			PolygonProjectionState state = em.createMock(PolygonProjectionState.class);
+			VdypApplicationIdentifier appToUse = VdypApplicationIdentifier.FIP_START;
+			List<String> controlFiles = List.of("Test.CTR");
+			VdypApplication<?> app = em.createMock(VdypApplication.class);
+
+			Supplier<VdypApplication<?>> getApp = em.createMock(Supplier.class);
+			Consumer<VdypApplication<?>> after = em.createMock(Consumer.class);
+
+			EasyMock.expect(state.getExecutionFolder()).andStubReturn(Path.of("TestPath"));
+
+			// The app is only created for the first polygon
+			EasyMock.<VdypApplication<?>>expect(getApp.get()).andReturn(app).once();
+
+			app.doMain(EasyMock.eq(Path.of("TestPath", "PRIMARY", "Test.CTR")));
+			EasyMock.expectLastCall().times(2);
+			state.setProcessingResults(ProjectionStageCode.Initial, projectionTypeCode, Optional.empty());
+			EasyMock.expectLastCall().times(2);
+			after.accept(app);
+			EasyMock.expectLastCall().times(2);
+			app.reset();
+			EasyMock.expectLastCall().times(2);
+
+			em.replay();
+
+			runner.runApp(polygon, projectionTypeCode, state, appToUse, controlFiles, getApp, after);
+			runner.runApp(polygon, projectionTypeCode, state, appToUse, controlFiles, getApp, after);
+
+			em.verify();
+		}
+
+		@Test
+		void testFailedAppIsNotReused() throws Exception {
+			var em = EasyMock.createControl();
+			var runner = new RealComponentRunner();
+
+			Polygon polygon = em.createMock(Polygon.class);
+			ProjectionTypeCode projectionTypeCode = ProjectionTypeCode.PRIMARY;
+			PolygonProjectionState state = em.createMock(PolygonProjectionState.class);
+			VdypApplicationIdentifier appToUse = VdypApplicationIdentifier.FIP_START;
+			List<String> controlFiles = List.of("Test.CTR");
+			VdypApplication<?> failedApp = em.createMock(VdypApplication.class);
+			VdypApplication<?> app = em.createMock(VdypApplication.class);
+
+			var rootCause = new RuntimeException("Test Exception");
+
+			Supplier<VdypApplication<?>> getApp = em.createMock(Supplier.class);
+			Consumer<VdypApplication<?>> after = em.createMock(Consumer.class);
+
+			EasyMock.expect(state.getExecutionFolder()).andStubReturn(Path.of("TestPath"));
+
+			// The first app fails and is closed
+			EasyMock.<VdypApplication<?>>expect(getApp.get()).andReturn(failedApp).once();
+			failedApp.doMain(EasyMock.eq(Path.of("TestPath", "PRIMARY", "Test.CTR")));
+			EasyMock.expectLastCall().andThrow(new VdypApplicationProcessingException(rootCause)).once();
+			state.setProcessingResults(ProjectionStageCode.Initial, projectionTypeCode, Optional.of(rootCause));
+			EasyMock.expectLastCall().once();
+			failedApp.close();
+			EasyMock.expectLastCall().once();
+
+			// so a new one is created for the next polygon
+			EasyMock.<VdypApplication<?>>expect(getApp.get()).andReturn(app).once();
+			app.doMain(EasyMock.eq(Path.of("TestPath", "PRIMARY", "Test.CTR")));
+			EasyMock.expectLastCall().once();
+			state.setProcessingResults(ProjectionStageCode.Initial, projectionTypeCode, Optional.empty());
+			EasyMock.expectLastCall().once();
+			after.accept(app);
+			EasyMock.expectLastCall().once();
+			app.reset();
+			EasyMock.expectLastCall().once();
+
+			em.replay();
+
+			runner.runApp(polygon, projectionTypeCode, state, appToUse, controlFiles, getApp, after);
+			runner.runApp(polygon, projectionTypeCode, state, appToUse, controlFiles, getApp, after);
+
+			em.verify();
+		}
+
+		@Test
+		void testIdleAppIsClosedWithTheRunner() throws Exception {
+			var em = EasyMock.createControl();
+			var runner = new RealComponentRunner();
+
+			Polygon polygon = em.createMock(Polygon.class);
+			ProjectionTypeCode projectionTypeCode = ProjectionTypeCode.PRIMARY;
+			PolygonProjectionState state = em.createMock(PolygonProjectionState.class);
+			VdypApplicationIdentifier appToUse = VdypApplicationIdentifier.FIP_START;
+			List<String> controlFiles = List.of("Test.CTR");
+			VdypApplication<?> app = em.createMock(VdypApplication.class);
+
+			Supplier<VdypApplication<?>> getApp = () -> app;
+			Consumer<VdypApplication<?>> after = em.createMock(Consumer.class);
+
+			EasyMock.expect(state.getExecutionFolder()).andStubReturn(Path.of("TestPath"));
+
+			app.doMain(EasyMock.eq(Path.of("TestPath", "PRIMARY", "Test.CTR")));
+			EasyMock.expectLastCall().once();
+			state.setProcessingResults(ProjectionStageCode.Initial, projectionTypeCode, Optional.empty());
+			EasyMock.expectLastCall().once();
+			after.accept(app);
+			EasyMock.expectLastCall().once();
+			app.reset();
+			EasyMock.expectLastCall().once();
+
+			// The app kept for reuse is closed with the runner, and only once
+			app.close();
+			EasyMock.expectLastCall().once();
+
+			em.replay();
+
+			runner.runApp(polygon, projectionTypeCode, state, appToUse, controlFiles, getApp, after);
+			runner.close();
+			runner.close();
+
+			em.verify();
+		}
 	}
 }
@@ -0,0 +1,144 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection.input;
+
+import static ca.bc.gov.nrs.vdyp.test.TestUtils.LAYER_CSV_HEADER_LINE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class HcsvRecordReaderTest {
+
+	private static final String PREFIX = "13919428,14321067,093C090,94833422,";
+	private static final String LAYER = "1,P,,,,,,5,1.0,150,PLI,60.0,FD,40.0,,,,,,,,,60,9.0,50,8.5,,,,,,,,";
+
+	private static HcsvRecordReader<HcsvLayerRecordBean> reader(String csv) {
+		return HcsvLayerRecordBean.createHcsvLayerReader(new ByteArrayInputStream(csv.getBytes()));
+	}
+
+	@Test
+	void testReadsRecordsAfterHeader() {
+		try (var unit = reader(LAYER_CSV_HEADER_LINE + "\n" + PREFIX + LAYER + "\n")) {
+			assertThat(unit.hasNext(), is(true));
+			var record = unit.next();
+			assertThat(record.getFeatureId(), is(13919428L));
+			assertThat(record.getLayerMapId(), is("093C090"));
+			assertThat(record.getLayerId(), is("1"));
+			assertThat(record.getSpeciesDetails(), hasSize(2));
+
+			assertThat(unit.hasNext(), is(false));
+			assertThrows(NoSuchElementException.class, () -> unit.next());
+			assertThat(unit.getCapturedExceptions(), is(empty()));
+		}
+	}
+
+	@Test
+	void testQuotedFields() {
+		String csv = LAYER_CSV_HEADER_LINE + "\n" //
+				+ "13919428,14321067,\"093C,\"\"090\"\"\",94833422," + LAYER + "\n" //
+				+ "13919428,14321067,\"093C\n090\",94833422," + LAYER + "\n";
+
+		try (var unit = reader(csv)) {
+			assertThat(unit.next().getLayerMapId(), is("093C,\"090\""));
+			assertThat(unit.next().getLayerMapId(), is("093C\n090"));
+			assertThat(unit.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	void testInvalidRecordIsSkippedAndCaptured() {
+		String csv = LAYER_CSV_HEADER_LINE + "\n" //
+				+ PREFIX + LAYER.substring(1) + "\n" // no layer id
+				+ PREFIX + LAYER + "\n";
+
+		try (var unit = reader(csv)) {
+			assertThat(unit.next().getSpeciesDetails(), hasSize(2));
+			assertThat(unit.hasNext(), is(false));
+			assertThat(unit.getCapturedExceptions(), hasSize(1));
+			assertThat(unit.getCapturedExceptions(), is(empty()));
+		}
+	}
+
+	@Test
+	void testReadingAheadGivesTheSameRecords() {
+		var csv = new StringBuilder(LAYER_CSV_HEADER_LINE).append('\n');
+		for (int i = 0; i < 1000; i++) {
+			csv.append(PREFIX.replace("14321067", Integer.toString(i))).append(LAYER).append('\n');
+		}
+
+		List<String> expected = new ArrayList<>();
+		try (var unit = reader(csv.toString())) {
+			unit.forEachRemaining(r -> expected.add(r.getTreeCoverId()));
+		}
+
+		List<String> actual = new ArrayList<>();
+		try (var unit = reader(csv.toString())) {
+			unit.startReadingAhead();
+			unit.forEachRemaining(r -> actual.add(r.getTreeCoverId()));
+		}
+
+		assertThat(expected, hasSize(1000));
+		assertThat(actual, is(expected));
+	}
+
+	@Test
+	void testCloseEndsReadAheadWaitingForInput() throws InterruptedException {
+		var readStarted = new CountDownLatch(1);
+		var closed = new CountDownLatch(1);
+		var readEnded = new CountDownLatch(1);
+		// Blocks until closed, as a read of a network stream would, regardless of interrupts
+		var input = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				readStarted.countDown();
+				while (closed.getCount() > 0) {
+					try {
+						closed.await();
+					} catch (InterruptedException e) {
+						// not interruptible
+					}
+				}
+				readEnded.countDown();
+				throw new IOException("Stream closed");
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		};
+
+		var unit = HcsvLayerRecordBean.createHcsvLayerReader(input);
+		unit.startReadingAhead();
+		assertThat(readStarted.await(10, TimeUnit.SECONDS), is(true));
+		unit.close();
+
+		assertThat(readEnded.await(10, TimeUnit.SECONDS), is(true));
+	}
+
+	@Test
+	void testCloseFailureIsNotThrown() {
+		var input = new ByteArrayInputStream(LAYER_CSV_HEADER_LINE.getBytes()) {
+			@Override
+			public void close() throws IOException {
+				throw new IOException("close failed");
+			}
+		};
+
+		var unit = HcsvLayerRecordBean.createHcsvLayerReader(input);
+		unit.startReadingAhead();
+		assertDoesNotThrow(unit::close);
+	}
+}
@@ -0,0 +1,42 @@
+package ca.bc.gov.nrs.vdyp.ecore.projection.output;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+class MessageLogTest {
+
+	@Test
+	void testMessagesAreFormatted() throws Exception {
+		try (var unit = new MessageLog(Level.INFO)) {
+			unit.addMessage("Polygon {0}: {1}", 13919428, null);
+			unit.addMessage("Done");
+
+			assertThat(new String(unit.getAsStream().readAllBytes()), is("Polygon 13919428: null\nDone\n"));
+		}
+	}
+
+	@Test
+	void testSpilledMessagesAreStreamedInOrder() throws Exception {
+		int nMessages = MessageLog.MAX_MESSAGES_IN_MEMORY * 2 + 10;
+
+		try (var unit = new MessageLog(Level.INFO)) {
+			for (int i = 0; i < nMessages; i++) {
+				unit.addMessage("Message {0}", i);
+			}
+
+			var expected = IntStream.range(0, nMessages).mapToObj(i -> "Message " + i + "\n")
+					.collect(Collectors.joining());
+			assertThat(new String(unit.getAsStream().readAllBytes()), is(expected));
+
+			// The log may still be added to after it has been read
+			unit.addMessage("Last");
+			assertThat(new String(unit.getAsStream().readAllBytes()), is(expected + "Last\n"));
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package ca.bc.gov.nrs.vdyp.ecore.projection.output.yieldtable;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,6 +16,7 @@ import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.ecore.api.v1.exceptions.YieldTableGenerationException;
 import ca.bc.gov.nrs.vdyp.ecore.projection.model.Polygon;
 import ca.bc.gov.nrs.vdyp.ecore.utils.FileHelper;
+import ca.bc.gov.nrs.vdyp.io.VdypOutputIndex;
 import ca.bc.gov.nrs.vdyp.test.TestUtils;
 
 class RealProjectionResultsReaderTest {
@@ -64,4 +68,33 @@ class RealProjectionResultsReaderTest {
 		var ex = assertThrows(YieldTableGenerationException.class, () -> unit.read(polygon));
 		assertTrue(ex.getMessage().startsWith("Polygon 13919428"));
 	}
+
+	@Test
+	void testReadFromIndex() throws Exception {
+
+		var testHelper = new TestHelper();
+
+		var controlMap = new HashMap<String, Object>();
+		TestUtils.populateControlMapBecReal(controlMap);
+		TestUtils.populateControlMapGenusReal(controlMap);
+
+		var polygon = new Polygon.Builder().featureId(13919428).mapSheet("093C090").polygonNumber(94833422L).build();
+		var otherPolygon = new Polygon.Builder().featureId(13919429).mapSheet("999999").polygonNumber(1L).build();
+
+		try (
+				var index = VdypOutputIndex.open(
+						testHelper.getResourceFile(relativeResourcePath, "vp_grow.dat"),
+						testHelper.getResourceFile(relativeResourcePath, "vs_grow.dat"),
+						testHelper.getResourceFile(relativeResourcePath, "vu_grow.dat")
+				)
+		) {
+			var unit = new RealProjectionResultsReader(controlMap, index);
+
+			var result = unit.read(polygon);
+			assertThat(result.size(), is(index.getPolygonIdentifiers().size()));
+			assertThat(result.keySet(), hasItems(2013, 2014));
+
+			assertThat(unit.read(otherPolygon).isEmpty(), is(true));
+		}
+	}
 }
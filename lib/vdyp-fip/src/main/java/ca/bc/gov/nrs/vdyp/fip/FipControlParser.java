@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.fip;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -103,6 +104,16 @@ public class FipControlParser extends StartApplicationControlParser<FipDebugSett
 
 	}
 
+	@Override
+	protected List<ControlMapModifier> configurationModifiers() {
+		List<ControlMapModifier> modifiers = new ArrayList<>();
+
+		List.of(basicDefinitions, groupDefinitions, fipstartOnly, siteCurves, coefficients, additionalModifiers)
+				.forEach(modifiers::addAll);
+
+		return modifiers;
+	}
+
 	@Override
 	protected VdypApplicationIdentifier getProgramId() {
 		return VdypApplicationIdentifier.FIP_START;
@@ -26,15 +26,18 @@ import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.math3.analysis.MultivariateMatrixFunction;
 import org.apache.commons.math3.analysis.MultivariateVectorFunction;
 import org.apache.commons.math3.fitting.leastsquares.LeastSquaresFactory;
 import org.apache.commons.math3.fitting.leastsquares.LeastSquaresProblem;
 import org.apache.commons.math3.fitting.leastsquares.LevenbergMarquardtOptimizer;
+import org.apache.commons.math3.fitting.leastsquares.MultivariateJacobianFunction;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
 import org.apache.commons.math3.linear.DiagonalMatrix;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.RealVector;
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.math3.util.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,7 +63,7 @@ import ca.bc.gov.nrs.vdyp.fip.model.FipLayerPrimary;
 import ca.bc.gov.nrs.vdyp.fip.model.FipPolygon;
 import ca.bc.gov.nrs.vdyp.fip.model.FipSite;
 import ca.bc.gov.nrs.vdyp.fip.model.FipSpecies;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
@@ -98,7 +101,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 	}
 
 	@Override
-	protected VdypOutputWriter createWriter(FileSystemFileResolver resolver, Map<String, Object> controlMap)
+	protected VdypOutputWriter createWriter(FileResolver resolver, Map<String, Object> controlMap)
 			throws IOException {
 		return new VdypOutputWriter(controlMap, resolver) {
 
@@ -836,7 +839,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 	double[] rootFinderFunction(double[] point, VdypLayer layer, double[] diameterBase) {
 
-		var percentL1 = new double[point.length];
+		var percentL1 = SpeciesRootFinder.forCurrentThread().percent(point.length);
 		double percentSum = 0;
 		if (point.length > 1) {
 			for (int i = 0; i < point.length - 1; i++) {
@@ -934,7 +937,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 		double epsilon = FastMath.sqrt(FastMath.max(functionEpsilon, machineEpsilon));
 
-		double[] x2 = Arrays.copyOf(x, x.length);
+		double[] x2 = SpeciesRootFinder.forCurrentThread().pointCopy(x);
 
 		double[][] result = new double[x.length][x.length];
 
@@ -962,20 +965,26 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 	}
 
 	RealVector findRoot(double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance) {
-		MultivariateVectorFunction func = point -> rootFinderFunction(point, layer, diameterBase);
+		var finder = SpeciesRootFinder.forCurrentThread();
 
-		MultivariateMatrixFunction jacFunc = point -> estimateJacobian(point, func);
+		MultivariateVectorFunction func = point -> rootFinderFunction(point, layer, diameterBase);
 
-		LevenbergMarquardtOptimizer optimizer = new LevenbergMarquardtOptimizer();
+		// The value at a point is also the base of the forward differences for the Jacobian, so compute it once
+		MultivariateJacobianFunction model = point -> {
+			double[] p = point.toArray();
+			double[] y = func.value(p);
+			return new Pair<>(
+					new ArrayRealVector(y, false), new Array2DRowRealMatrix(estimateJacobian(p, y, func), false)
+			);
+		};
 
-		optimizer.withCostRelativeTolerance(tolerance); // Not sure if this is the right tolerance
+		LevenbergMarquardtOptimizer optimizer = finder.optimizer(tolerance); // Not sure if this is the right tolerance
 
 		LeastSquaresProblem leastSquaresProblem = LeastSquaresFactory.create(
-				func, //
-				jacFunc, //
-				goal, //
-				x, //
-				identityMatrix(x.length), //
+				model, //
+				new ArrayRealVector(goal, false), //
+				new ArrayRealVector(x, false), //
+				finder.weight(x.length, this::identityMatrix), //
 				null, //
 				200, //
 				1000 //
@@ -0,0 +1,83 @@
+package ca.bc.gov.nrs.vdyp.fip;
+
+import java.util.function.IntFunction;
+
+import org.apache.commons.math3.fitting.leastsquares.LevenbergMarquardtOptimizer;
+import org.apache.commons.math3.linear.RealMatrix;
+
+/**
+ * Reusable state for {@link FipStart#findRoot}: the optimizer and weight matrices, which are immutable once built, and
+ * scratch arrays for the root finder function and its Jacobian.
+ * <p>
+ * The scratch arrays are overwritten by every evaluation, so there is one of these per thread. Arrays handed to the
+ * optimizer (function values and Jacobians) are not reused, as it keeps earlier evaluations while it tries new points.
+ */
+class SpeciesRootFinder {
+
+	private static final ThreadLocal<SpeciesRootFinder> FINDERS = ThreadLocal.withInitial(SpeciesRootFinder::new);
+
+	private double tolerance = Double.NaN;
+	private LevenbergMarquardtOptimizer optimizer;
+
+	private RealMatrix[] weights = new RealMatrix[0];
+
+	private double[] percent = new double[0];
+	private double[] point = new double[0];
+
+	private SpeciesRootFinder() {
+	}
+
+	/**
+	 * @return the root finder of the current thread
+	 */
+	static SpeciesRootFinder forCurrentThread() {
+		return FINDERS.get();
+	}
+
+	/**
+	 * @return an optimizer with the given cost relative tolerance
+	 */
+	LevenbergMarquardtOptimizer optimizer(double tolerance) {
+		if (optimizer == null || Double.compare(tolerance, this.tolerance) != 0) {
+			optimizer = new LevenbergMarquardtOptimizer().withCostRelativeTolerance(tolerance);
+			this.tolerance = tolerance;
+		}
+		return optimizer;
+	}
+
+	/**
+	 * @return the weight matrix of the given dimension, made with the given factory the first time it is needed
+	 */
+	RealMatrix weight(int n, IntFunction<RealMatrix> factory) {
+		if (weights.length <= n) {
+			var grown = new RealMatrix[n + 1];
+			System.arraycopy(weights, 0, grown, 0, weights.length);
+			weights = grown;
+		}
+		if (weights[n] == null) {
+			weights[n] = factory.apply(n);
+		}
+		return weights[n];
+	}
+
+	/**
+	 * @return a scratch array of at least the given length for the species percentages of a point
+	 */
+	double[] percent(int n) {
+		if (percent.length < n) {
+			percent = new double[n];
+		}
+		return percent;
+	}
+
+	/**
+	 * @return a scratch array of the same length as the given point holding a copy of it, for perturbing
+	 */
+	double[] pointCopy(double[] x) {
+		if (point.length != x.length) {
+			point = new double[x.length];
+		}
+		System.arraycopy(x, 0, point, 0, x.length);
+		return point;
+	}
+}
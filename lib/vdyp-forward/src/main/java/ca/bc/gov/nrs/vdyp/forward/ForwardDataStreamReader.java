@@ -20,7 +20,7 @@ import ca.bc.gov.nrs.vdyp.controlmap.ProcessingResolvedControlMapImpl;
 import ca.bc.gov.nrs.vdyp.controlmap.ResolvedControlMap;
 import ca.bc.gov.nrs.vdyp.exceptions.ProcessingException;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
-import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser.VdypPolygonStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.model.VdypPolygonParser.VdypPolygonStream;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
@@ -41,7 +41,7 @@ public class ForwardDataStreamReader implements AutoCloseable {
 
 	private final ResolvedControlMap resolvedControlMap;
 
-	private final VdypPolygonStreamingParser polygonStream;
+	private final VdypPolygonStream polygonStream;
 	private final StreamingParser<Collection<VdypSpecies>> layerSpeciesStream;
 	private final StreamingParser<Collection<VdypUtilization>> speciesUtilizationStream;
 	Optional<StreamingParser<PolygonIdentifier>> polygonDescriptionStream;
@@ -54,7 +54,7 @@ public class ForwardDataStreamReader implements AutoCloseable {
 			Map<String, Object> controlMap = resolvedControlMap.getControlMap();
 
 			var polygonStreamFactory = controlMap.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
-			polygonStream = (VdypPolygonStreamingParser) ((StreamingParserFactory<VdypPolygon>) polygonStreamFactory)
+			polygonStream = (VdypPolygonStream) ((StreamingParserFactory<VdypPolygon>) polygonStreamFactory)
 					.get();
 
 			var layerSpeciesStreamFactory = controlMap.get(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name());
@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.vdyp.forward;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -49,9 +50,9 @@ import ca.bc.gov.nrs.vdyp.processing_state.LayerProcessingState;
 import ca.bc.gov.nrs.vdyp.processing_state.SpeciesRankingDetails;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
-import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
 
 /**
  * This class manages "growing" polygons. Create an instance of the class, providing a control map, and then call
@@ -279,6 +280,11 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 			boolean doRecalculateGroups = getState().controlMap.getControlVariables()
 					.getControlVariable(ControlVariable.UPDATE_DURING_GROWTH_6) >= 1;
 
+			// When only some years are to be written, there's no need to grow past the last of them.
+			int lastGrowthYearInclusive = getState().controlMap.getOutputYears()
+					.map(years -> Math.min(stoppingYearInclusive, years.getLastYear()))
+					.orElse(stoppingYearInclusive);
+
 			// Write out the staring year with no growth
 			writeCurrentPolygon(startingYear, startingYear, stoppingYearInclusive);
 
@@ -286,7 +292,7 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 												// 1 less than this
 
 			// Loop for all but the first year.
-			while (currentYear <= stoppingYearInclusive) {
+			while (currentYear <= lastGrowthYearInclusive) {
 
 				logger.info(
 						"Growing polygon {} Primary layer for year {}", getState().getCompactPolygonIdentifier(),
@@ -757,19 +763,24 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 	) {
 	}
 
-	private static AdjustmentParameters[] adjustmentParametersByStage = new AdjustmentParameters[NSTAGES];
+	/**
+	 * Adjustment parameters by stage; stages 5 through 9 repeat stages 0 through 4. Immutable, and so shared by all
+	 * engine instances regardless of thread.
+	 */
+	private static final List<AdjustmentParameters> adjustmentParametersByStage;
 
 	static {
-		adjustmentParametersByStage[0] = new AdjustmentParameters(0.01f, false, 0.0f, 0.0f);
-		adjustmentParametersByStage[1] = new AdjustmentParameters(0.015f, true, 0.005f, 0.0f);
-		adjustmentParametersByStage[2] = new AdjustmentParameters(0.03f, true, 0.02f, 0.01f);
-		adjustmentParametersByStage[3] = new AdjustmentParameters(0.045f, true, 0.03f, 0.02f);
-		adjustmentParametersByStage[4] = new AdjustmentParameters(0.06f, true, 0.045f, 0.035f);
-		adjustmentParametersByStage[5] = adjustmentParametersByStage[0];
-		adjustmentParametersByStage[6] = adjustmentParametersByStage[1];
-		adjustmentParametersByStage[7] = adjustmentParametersByStage[2];
-		adjustmentParametersByStage[8] = adjustmentParametersByStage[3];
-		adjustmentParametersByStage[9] = adjustmentParametersByStage[4];
+		var firstStages = List.of(
+				new AdjustmentParameters(0.01f, false, 0.0f, 0.0f), //
+				new AdjustmentParameters(0.015f, true, 0.005f, 0.0f), //
+				new AdjustmentParameters(0.03f, true, 0.02f, 0.01f), //
+				new AdjustmentParameters(0.045f, true, 0.03f, 0.02f), //
+				new AdjustmentParameters(0.06f, true, 0.045f, 0.035f)
+		);
+		var allStages = new ArrayList<AdjustmentParameters>(NSTAGES);
+		allStages.addAll(firstStages);
+		allStages.addAll(firstStages);
+		adjustmentParametersByStage = List.copyOf(allStages);
 	}
 
 	private static final float TREAT_AS_NO_GROWTH = 0.000001f;
@@ -975,16 +986,16 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 				}
 
 				if (i == incorrectlySignedSpeciesIndex) {
-					cjOther = adjustmentParametersByStage[stage].cjWrongWayChange1;
+					cjOther = adjustmentParametersByStage.get(stage).cjWrongWayChange1;
 				} else {
-					cjOther = adjustmentParametersByStage[stage].cjWrongWayChangeX;
+					cjOther = adjustmentParametersByStage.get(stage).cjWrongWayChangeX;
 				}
 
 				if (estIsAboveActual) {
 					if (rs1[i] <= 0.0f) {
 						cjLow = 0.0f;
-						cjHigh = adjustmentParametersByStage[stage].cjMax;
-						if (!adjustmentParametersByStage[stage].canCrossZero) {
+						cjHigh = adjustmentParametersByStage.get(stage).cjMax;
+						if (!adjustmentParametersByStage.get(stage).canCrossZero) {
 							cjHigh = Math.min(cjHigh, -rs1[i]);
 						}
 					} else {
@@ -996,9 +1007,9 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 						cjLow = -cjOther;
 						cjHigh = 0.0f;
 					} else {
-						cjLow = -adjustmentParametersByStage[stage].cjMax;
-						if (!adjustmentParametersByStage[stage].canCrossZero) {
-							cjLow = Math.max(-adjustmentParametersByStage[stage].cjMax, -rs1[i]);
+						cjLow = -adjustmentParametersByStage.get(stage).cjMax;
+						if (!adjustmentParametersByStage.get(stage).canCrossZero) {
+							cjLow = Math.max(-adjustmentParametersByStage.get(stage).cjMax, -rs1[i]);
 						}
 						cjHigh = 0.0f;
 					}
@@ -2259,18 +2270,19 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 		double dhStart_d = spDhStart;
 		double yearsToBreastHeight_d = yearsToBreastHeight;
 
-		double ageStart;
-		try {
-			ageStart = SiteTool
-					.heightAndSiteIndexToAge(siteIndexEquation, dhStart_d, ageType, siStart_d, yearsToBreastHeight_d);
-		} catch (CommonCalculatorException e) {
+		var ageStartResult = new SiteIndexResult();
+		if (!SiteTool.heightAndSiteIndexToAge(
+				siteIndexEquation, dhStart_d, ageType, siStart_d, yearsToBreastHeight_d, ageStartResult
+		).isOk()) {
 			throw new ProcessingException(
 					MessageFormat.format(
-							"Encountered exception when calling heightAndSiteIndexToAge({0}, {1}, {2}, {3}, {4})",
-							siteIndexEquation, dhStart_d, ageType, siStart_d, yearsToBreastHeight_d
-					), e
+							"Encountered {5} when calling heightAndSiteIndexToAge({0}, {1}, {2}, {3}, {4}): {6}",
+							siteIndexEquation, dhStart_d, ageType, siStart_d, yearsToBreastHeight_d,
+							ageStartResult.getStatus(), ageStartResult.getMessage()
+					)
 			);
 		}
+		double ageStart = ageStartResult.getValue();
 
 		if (ageStart <= 0.0d) {
 			if (dhStart_d > siStart_d) {
@@ -2409,74 +2421,85 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 	private static double ageAndSiteIndexToHeight(
 			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double years2BreastHeight
 	) throws ProcessingException {
-		try {
-			return SiteTool.ageAndSiteIndexToHeight(curve, age, ageType, siteIndex, years2BreastHeight);
-		} catch (CommonCalculatorException e) {
+		var result = new SiteIndexResult();
+		if (!SiteTool.ageAndSiteIndexToHeight(curve, age, ageType, siteIndex, years2BreastHeight, result).isOk()) {
 			throw new ProcessingException(
 					MessageFormat.format(
-							"SiteTool.ageAndSiteIndexToHeight({0}, {1}, {2}, {3}, {4}) threw exception", curve, age,
-							ageType, siteIndex, years2BreastHeight
-					), e
+							"SiteTool.ageAndSiteIndexToHeight({0}, {1}, {2}, {3}, {4}) failed with {5}: {6}", curve,
+							age, ageType, siteIndex, years2BreastHeight, result.getStatus(), result.getMessage()
+					)
 			);
 		}
+		return result.getValue();
 	}
 
-	@SuppressWarnings("java:S128") // This is using case fall through. The lack of breaks is intentional.
 	private void writeCurrentPolygon(int startYear, int currentYear, int endYear) throws ProcessingException {
 
-		try {
-			outputWriter.ifPresent((o) -> {
-				var polygon = getState().updatePolygon();
+		if (outputWriter.isPresent() && isYearToBeWritten(startYear, currentYear, endYear)) {
 
-				logger.info("Writing polygon {} for year {}", polygon, currentYear);
+			// The polygon is brought up to date only for the years that are written, since doing so rebuilds all of
+			// its layers, species and utilizations.
+			var polygon = getState().updatePolygon();
 
-				int controlVariable4Value = getState().controlMap.getControlVariables()
-						.getControlVariable(ControlVariable.OUTPUT_FILES_4);
+			logger.info("Writing polygon {} for year {}", polygon, currentYear);
 
-				switch (controlVariable4Value) {
-				case 0: {
-					/* never write output */
-					return;
-				}
-				case 1: {
-					/* write only first growth period */
-					if (currentYear != startYear) {
-						return;
-					}
-				}
-				case 2: {
-					/* write only first and last growth periods */
-					if (currentYear != startYear && currentYear != endYear) {
-						return;
-					}
-				}
-				case 4: {
-					/* write only the first, every tenth subsequent, and the last periods */
-					if ( (currentYear - startYear) % 10 != 0 && currentYear != endYear) {
-						return;
-					}
-				}
-				case 3: {
-					break;
-				}
-				default:
-					throw new RuntimeProcessingException(
-							new ProcessingException(
-									MessageFormat
-											.format("Invalid value for control variable 4: {0}", controlVariable4Value)
-							)
-					);
-				}
+			try {
+				outputWriter.get().writePolygonWithSpeciesAndUtilizationForYear(polygon, currentYear);
+			} catch (IOException e) {
+				throw new ProcessingException(e);
+			}
+		}
+	}
 
-				try {
-					o.writePolygonWithSpeciesAndUtilizationForYear(polygon, currentYear);
-				} catch (IOException e) {
-					throw new RuntimeProcessingException(new ProcessingException(e));
-				}
-			});
-		} catch (RuntimeProcessingException e) {
-			throw e.getCause();
+	/**
+	 * Determine whether the state of the polygon in the given year is to be written, according to control variable 4
+	 * and, if given, the output years of the control map.
+	 *
+	 * @param startYear   the first year of the growth period
+	 * @param currentYear the year in question
+	 * @param endYear     the last year of the growth period
+	 * @return as described
+	 * @throws ProcessingException if control variable 4 has an invalid value
+	 */
+	@SuppressWarnings("java:S128") // This is using case fall through. The lack of breaks is intentional.
+	boolean isYearToBeWritten(int startYear, int currentYear, int endYear) throws ProcessingException {
+
+		int controlVariable4Value = getState().controlMap.getControlVariables()
+				.getControlVariable(ControlVariable.OUTPUT_FILES_4);
+
+		switch (controlVariable4Value) {
+		case 0: {
+			/* never write output */
+			return false;
+		}
+		case 1: {
+			/* write only first growth period */
+			if (currentYear != startYear) {
+				return false;
+			}
+		}
+		case 2: {
+			/* write only first and last growth periods */
+			if (currentYear != startYear && currentYear != endYear) {
+				return false;
+			}
 		}
+		case 4: {
+			/* write only the first, every tenth subsequent, and the last periods */
+			if ( (currentYear - startYear) % 10 != 0 && currentYear != endYear) {
+				return false;
+			}
+		}
+		case 3: {
+			break;
+		}
+		default:
+			throw new ProcessingException(
+					MessageFormat.format("Invalid value for control variable 4: {0}", controlVariable4Value)
+			);
+		}
+
+		return getState().controlMap.getOutputYears().map(years -> years.contains(currentYear)).orElse(true);
 	}
 
 	/**
@@ -2509,6 +2532,7 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 			}
 		}
 
+		var yearsToBreastHeightResult = new SiteIndexResult();
 		for (int i : lps.getIndices()) {
 			if (!Float.isNaN(bank.yearsToBreastHeight[i])) {
 				// was supplied
@@ -2524,12 +2548,16 @@ public class ForwardProcessingEngine extends ProcessingEngine<ForwardProcessingS
 			}
 
 			float siteIndex = !Float.isNaN(bank.siteIndices[i]) ? bank.siteIndices[i] : defaultSiteIndex;
-			try {
-				SiteIndexEquation curve = SiteIndexEquation.getByIndex(lps.getSiteCurveNumber(i));
-				double yearsToBreastHeight = SiteTool.yearsToBreastHeight(curve, siteIndex);
-				bank.yearsToBreastHeight[i] = (float) yearsToBreastHeight;
-			} catch (CommonCalculatorException e) {
-				logger.warn(MessageFormat.format("Unable to determine yearsToBreastHeight of species {0}", i), e);
+			SiteIndexEquation curve = SiteIndexEquation.getByIndex(lps.getSiteCurveNumber(i));
+			if (SiteTool.yearsToBreastHeight(curve, siteIndex, yearsToBreastHeightResult).isOk()) {
+				bank.yearsToBreastHeight[i] = (float) yearsToBreastHeightResult.getValue();
+			} else {
+				logger.warn(
+						MessageFormat.format(
+								"Unable to determine yearsToBreastHeight of species {0}: {1} {2}", i,
+								yearsToBreastHeightResult.getStatus(), yearsToBreastHeightResult.getMessage()
+						)
+				);
 			}
 		}
 	}
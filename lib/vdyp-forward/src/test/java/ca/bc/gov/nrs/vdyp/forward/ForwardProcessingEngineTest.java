@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.forward;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -9,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,7 @@ import ca.bc.gov.nrs.vdyp.model.Sp64DistributionSet;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.projection.OutputYears;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingControlVariables;
 import ca.bc.gov.nrs.vdyp.model.projection.ProcessingDebugSettings.SpeciesDynamics;
 import ca.bc.gov.nrs.vdyp.processing_state.Bank;
@@ -779,4 +782,86 @@ class ForwardProcessingEngineTest {
 		}
 	}
 
+	@Nested
+	class OutputYearSelection {
+		Map<String, Object> controlMap;
+		ForwardDataStreamReader forwardDataStreamReader;
+		final List<Integer> writtenYears = new ArrayList<>();
+		VdypOutputWriter output;
+
+		@BeforeEach
+		void setup() throws IOException, ResourceParseException, ValueParseException, ProcessingException {
+			var parser = new ProcessingControlParser();
+			controlMap = ForwardTestUtils.parse(parser, "VDYP.CTR");
+			setControlVariables(10, 3);
+			forwardDataStreamReader = new ForwardDataStreamReader(controlMap);
+
+			output = new VdypOutputWriter(
+					controlMap, OutputStream.nullOutputStream(), OutputStream.nullOutputStream(),
+					OutputStream.nullOutputStream()
+			) {
+				@Override
+				public void writePolygonWithSpeciesAndUtilizationForYear(VdypPolygon polygon, int year) {
+					writtenYears.add(year);
+				}
+			};
+		}
+
+		@AfterEach
+		void teardown() throws ProcessingException {
+			forwardDataStreamReader.close();
+		}
+
+		private void setControlVariables(int growTarget, int outputFiles) {
+			controlMap.put(
+					ControlKey.VTROL.name(),
+					new ProcessingControlVariables(new Integer[] { growTarget, 1, 2, outputFiles, 1, 1, 0, 0, 0, 0 })
+			);
+		}
+
+		@Test
+		void testAllYearsWrittenWithoutSelection() throws ProcessingException {
+			var fpe = new ForwardProcessingEngine(controlMap);
+
+			for (int year = 1990; year <= 2000; year++) {
+				assertTrue(fpe.isYearToBeWritten(1990, year, 2000));
+			}
+		}
+
+		@Test
+		void testOnlySelectedYearsWritten() throws ProcessingException {
+			controlMap.put(ControlKey.VDYP_OUTPUT_YEARS.name(), OutputYears.of(List.of(1990, 1993, 2000)));
+			var fpe = new ForwardProcessingEngine(controlMap);
+
+			for (int year = 1990; year <= 2000; year++) {
+				assertEquals(year == 1990 || year == 1993 || year == 2000, fpe.isYearToBeWritten(1990, year, 2000));
+			}
+		}
+
+		@Test
+		void testSelectionRestrictsControlVariable4() throws ProcessingException {
+			setControlVariables(10, 4);
+			controlMap.put(ControlKey.VDYP_OUTPUT_YEARS.name(), OutputYears.of(List.of(1993, 2000, 2010)));
+			var fpe = new ForwardProcessingEngine(controlMap);
+
+			assertFalse(fpe.isYearToBeWritten(1990, 1990, 2020));
+			assertFalse(fpe.isYearToBeWritten(1990, 1993, 2020));
+			assertTrue(fpe.isYearToBeWritten(1990, 2000, 2020));
+			assertTrue(fpe.isYearToBeWritten(1990, 2010, 2020));
+		}
+
+		@Test
+		void testGrowthStopsAtLastSelectedYear() throws ProcessingException {
+			VdypPolygon polygon = forwardDataStreamReader.readNextPolygon().orElseThrow();
+			int startYear = polygon.getPolygonIdentifier().getYear();
+
+			controlMap.put(ControlKey.VDYP_OUTPUT_YEARS.name(), OutputYears.of(List.of(startYear, startYear + 2)));
+			var fpe = new ForwardProcessingEngine(controlMap, Optional.of(output));
+
+			fpe.processPolygon(polygon);
+
+			assertThat(writtenYears, contains(startYear, startYear + 2));
+		}
+	}
+
 }
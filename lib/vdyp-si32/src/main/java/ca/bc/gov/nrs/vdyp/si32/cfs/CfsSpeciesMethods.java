@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.si32.cfs;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -8,7 +9,8 @@ import java.util.Map;
  */
 public class CfsSpeciesMethods {
 
-	private static Map<String, CfsTreeSpecies> speciesByName = new HashMap<>();
+	/** Read-only once built, so it may be consulted from any number of threads at once. */
+	private static final Map<String, CfsTreeSpecies> speciesByName = buildSpeciesByName();
 
 	/**
 	 * Perform a case-insensitive search for the attributes of the species with the given name. If the parameter is null
@@ -59,10 +61,12 @@ public class CfsSpeciesMethods {
 		}
 	}
 
-	static {
+	private static Map<String, CfsTreeSpecies> buildSpeciesByName() {
 		// Build the lookup assistance maps
+		var result = new HashMap<String, CfsTreeSpecies>();
 		for (CfsTreeSpecies s : CfsTreeSpecies.values()) {
-			speciesByName.put(s.getName().toUpperCase(), s);
+			result.put(s.getName().toUpperCase(), s);
 		}
+		return Collections.unmodifiableMap(result);
 	}
 }
@@ -22,9 +22,11 @@ import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CurveErrorException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
@@ -365,6 +367,24 @@ public class SiteTool {
 		return siteIndex;
 	}
 
+	/**
+	 * As {@link #heightAndAgeToSiteIndex(SiteIndexEquation, double, SiteIndexAgeType, double,
+	 * SiteIndexEstimationType)}, but reporting failures in <code>result</code> rather than by throwing.
+	 *
+	 * @param result receives the site index, rounded to two decimals, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus heightAndAgeToSiteIndex(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double height,
+			SiteIndexEstimationType estType, SiteIndexResult result
+	) {
+		if (Sindxdll.HtAgeToSI(curve, age, ageType, height, estType, result).isOk()) {
+			// Round SI off to two decimals.
+			result.set(Math.round(result.getValue() * 100.0) / 100.0);
+		}
+		return result.getStatus();
+	}
+
 	/**
 	 * Converts a Height and Site Index to an Age for a particular Site Index Curve.
 	 *
@@ -396,6 +416,20 @@ public class SiteTool {
 		return tempRef_rtrn.get();
 	}
 
+	/**
+	 * As {@link #heightAndSiteIndexToAge(SiteIndexEquation, double, SiteIndexAgeType, double, double)}, but reporting
+	 * failures in <code>result</code> rather than by throwing.
+	 *
+	 * @param result receives the age, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus heightAndSiteIndexToAge(
+			SiteIndexEquation curve, double height, SiteIndexAgeType ageType, double siteIndex,
+			double years2BreastHeight, SiteIndexResult result
+	) {
+		return Sindxdll.HtSIToAge(curve, height, ageType, siteIndex, years2BreastHeight, result);
+	}
+
 	/**
 	 * Converts an Age and Site Index to a Height for a particular Site Index Curve.
 	 *
@@ -431,6 +465,20 @@ public class SiteTool {
 		return tempRef_rtrn.get();
 	}
 
+	/**
+	 * As {@link #ageAndSiteIndexToHeight(SiteIndexEquation, double, SiteIndexAgeType, double, double)}, but reporting
+	 * failures in <code>result</code> rather than by throwing.
+	 *
+	 * @param result receives the height, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus ageAndSiteIndexToHeight(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double years2BreastHeight,
+			SiteIndexResult result
+	) {
+		return Sindxdll.AgeSIToHt(curve, age, ageType, siteIndex, years2BreastHeight, result);
+	}
+
 	/**
 	 * Calculates the number of years a stand takes to grow from seed to breast height.
 	 *
@@ -457,6 +505,22 @@ public class SiteTool {
 		return rtrn;
 	}
 
+	/**
+	 * As {@link #yearsToBreastHeight(SiteIndexEquation, double)}, but reporting failures in <code>result</code> rather
+	 * than by throwing.
+	 *
+	 * @param result receives the number of years, rounded to one decimal, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus
+			yearsToBreastHeight(SiteIndexEquation curve, double siteIndex, SiteIndexResult result) {
+		if (Sindxdll.Y2BH(curve, siteIndex, result).isOk()) {
+			// Round off to 1 decimal.
+			result.set(Math.round(result.getValue() * 10.0) / 10.0);
+		}
+		return result.getStatus();
+	}
+
 	/**
 	 * Returns the name of a particular curve.
 	 *
@@ -546,6 +610,40 @@ public class SiteTool {
 		return rSiteIndex2.get();
 	}
 
+	/**
+	 * As {@link #convertSiteIndexBetweenCurves(SiteIndexEquation, double, SiteIndexEquation)}, but reporting failures in
+	 * <code>result</code> rather than by throwing: {@link SiteIndexStatus#SI_ERR_CURVE} when either curve is not a
+	 * recognized site curve, {@link SiteIndexStatus#SI_ERR_SPEC} when either species is not valid and
+	 * {@link SiteIndexStatus#SI_ERR_NO_ANS} when there is no conversion defined.
+	 *
+	 * @param result receives the calculated site index, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus convertSiteIndexBetweenCurves(
+			SiteIndexEquation siteCurve1, double siteIndex1, SiteIndexEquation siteCurve2, SiteIndexResult result
+	) {
+		if (siteCurve1 == null) {
+			throw new IllegalArgumentException("convertSiteIndexBetweenCurves.siteCurve1");
+		}
+		if (siteCurve2 == null) {
+			throw new IllegalArgumentException("convertSiteIndexBetweenCurves.siteCurve2");
+		}
+
+		SiteIndexSpecies speciesIndex1 = VdypMethods.getSICurveSpeciesIndex(siteCurve1);
+		SiteIndexSpecies speciesIndex2 = VdypMethods.getSICurveSpeciesIndex(siteCurve2);
+
+		if (speciesIndex1 == SiteIndexSpecies.SI_NO_SPECIES || speciesIndex2 == SiteIndexSpecies.SI_NO_SPECIES) {
+			return result.fail(
+					SiteIndexStatus.SI_ERR_CURVE,
+					MessageFormat.format(
+							"Either or both of {0} and {1} are not recognized Site Curves", siteCurve1, siteCurve2
+					)
+			);
+		}
+
+		return Sindxdll.SIToSI(speciesIndex1, siteIndex1, speciesIndex2, result);
+	}
+
 	/**
 	 * Sets the Site Index curve to use for a particular species.
 	 *
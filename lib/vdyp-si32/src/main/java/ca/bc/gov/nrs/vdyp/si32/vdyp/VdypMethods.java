@@ -28,6 +28,20 @@ public class VdypMethods {
 
 	public static SpeciesTable speciesTable = new SpeciesTable();
 
+	/**
+	 * The current site index curves of {@code table}, by species table index and then region ordinal. Neither the
+	 * outer array nor any row is modified once published; the synchronized methods below replace the whole snapshot,
+	 * so {@link #getCurrentSICurve(String, SpeciesRegion)} may read it without locking. A row is null until the curves
+	 * of its species are first looked up.
+	 */
+	private record CurrentSICurves(SpeciesTable table, SiteIndexEquation[][] curves) {
+		CurrentSICurves(SpeciesTable table) {
+			this(table, new SiteIndexEquation[SP64Name.values().length][]);
+		}
+	}
+
+	private static volatile CurrentSICurves currentSICurves = new CurrentSICurves(speciesTable);
+
 	/**
 	 * Returns the total number of defined species. One is subtracted one off of the size of the speciesTable because
 	 * there is a blank entry at the head of the array which does not represent a valid species.
@@ -261,27 +275,72 @@ public class VdypMethods {
 		SiteIndexEquation siCurve = SiteIndexEquation.SI_NO_EQUATION;
 
 		if (sp64Name != null && region != null) {
-			var entry = speciesTable.getByCode(sp64Name);
-			siCurve = entry.details().currentSICurve()[region.ordinal()];
+			var snapshot = currentSICurves;
+			var curves = snapshot.curves()[snapshot.table().getByCode(sp64Name).index()];
 
-			// If the curve for this species is not set, look it up from SINDEX.
+			if (snapshot.table() == speciesTable && curves != null) {
+				siCurve = curves[region.ordinal()];
+			} else {
+				siCurve = resolveCurrentSICurve(sp64Name, region);
+			}
+		}
 
-			if (siCurve == SiteIndexEquation.SI_NO_EQUATION) {
-				SiteIndexSpecies sindexSpcs;
-				try {
-					sindexSpcs = Sindxdll.SpecRemap(sp64Name, region == SpeciesRegion.COAST ? 'A' : 'D');
+		return siCurve;
+	}
 
-					siCurve = Sindxdll.DefCurve(sindexSpcs);
-				} catch (CommonCalculatorException e) {
-					siCurve = SiteIndexEquation.SI_NO_EQUATION;
-				}
-				entry.details().currentSICurve()[region.ordinal()] = siCurve;
-			}
+	/**
+	 * Records the SINDEX default as the current curve of a species and region if none is set, and publishes the
+	 * species' curves.
+	 */
+	private static synchronized SiteIndexEquation resolveCurrentSICurve(String sp64Name, SpeciesRegion region) {
+
+		var entry = speciesTable.getByCode(sp64Name);
+		SiteIndexEquation siCurve = entry.details().currentSICurve()[region.ordinal()];
+
+		// If the curve for this species is not set, look it up from SINDEX.
+
+		if (siCurve == SiteIndexEquation.SI_NO_EQUATION) {
+			siCurve = lookupSICurve(sp64Name, region);
+			entry.details().currentSICurve()[region.ordinal()] = siCurve;
 		}
 
+		publishCurrentSICurves(entry);
+
 		return siCurve;
 	}
 
+	/**
+	 * Replaces the published snapshot with one holding the given entry's current curves, those not set being taken
+	 * from SINDEX. The caller must hold the class lock.
+	 */
+	private static void publishCurrentSICurves(SpeciesTableItem entry) {
+
+		var regions = SpeciesRegion.values();
+		var speciesCurves = entry.details().currentSICurve().clone();
+		for (var region : regions) {
+			if (speciesCurves[region.ordinal()] == SiteIndexEquation.SI_NO_EQUATION) {
+				speciesCurves[region.ordinal()] = lookupSICurve(entry.details().codeName(), region);
+			}
+		}
+
+		var snapshot = currentSICurves;
+		var curves = snapshot.table() == speciesTable ? snapshot.curves().clone()
+				: new CurrentSICurves(speciesTable).curves();
+		curves[entry.index()] = speciesCurves;
+
+		currentSICurves = new CurrentSICurves(speciesTable, curves);
+	}
+
+	private static SiteIndexEquation lookupSICurve(String sp64Name, SpeciesRegion region) {
+		try {
+			SiteIndexSpecies sindexSpcs = Sindxdll.SpecRemap(sp64Name, region == SpeciesRegion.COAST ? 'A' : 'D');
+
+			return Sindxdll.DefCurve(sindexSpcs);
+		} catch (CommonCalculatorException e) {
+			return SiteIndexEquation.SI_NO_EQUATION;
+		}
+	}
+
 	/**
 	 * Determines the BC default Site Index curve type to use for the given species and region.
 	 * <p>
@@ -321,13 +380,14 @@ public class VdypMethods {
 	 *
 	 * @return the previous value.
 	 */
-	public static SiteIndexEquation
+	public static synchronized SiteIndexEquation
 			setCurrentSICurve(String sp64CodeName, SpeciesRegion region, SiteIndexEquation siCurve) {
 
 		SiteIndexEquation oldCurve = getCurrentSICurve(sp64CodeName, region);
 		var speciesEntry = speciesTable.getByCode(sp64CodeName);
 		if (region != null && speciesEntry.details() != SpeciesTable.DefaultEntry) {
 			speciesEntry.details().currentSICurve()[region.ordinal()] = siCurve;
+			publishCurrentSICurves(speciesEntry);
 		}
 
 		return oldCurve;
@@ -335,10 +395,14 @@ public class VdypMethods {
 
 	/**
 	 * Forces all site curves into the cache and applies remapping.
-	 *
+	 * <p>
+	 * The current curves are process-wide. This is to be called once, before any projection starts; after it returns,
+	 * every curve is resolved and {@link #getCurrentSICurve(String, SpeciesRegion)} only reads them, so projections may
+	 * then run on any number of threads. Applying again a remapping none of whose targets is itself remapped has no
+	 * effect.
 	 */
 	// Adapts VDYP7 V7Ext_InitializeExtended
-	public static void remapCurrentSICurves(Map<SiteIndexEquation, SiteIndexEquation> remapping) {
+	public static synchronized void remapCurrentSICurves(Map<SiteIndexEquation, SiteIndexEquation> remapping) {
 		// TODO See VDYP-732
 
 		for (String key : VdypMethods.getSpeciesNames()) {
@@ -524,10 +588,11 @@ public class VdypMethods {
 	/**
 	 * Clear the species table including all manually set site curves.
 	 */
-	public static void clear() {
+	public static synchronized void clear() {
 		// FIXME it would be far better if we used instanced singletons instead of static methods with state but that's
 		// a significant change to the SINDEX library and all the dependant code.
 		// See VDYP-732
 		speciesTable = new SpeciesTable();
+		currentSICurves = new CurrentSICurves(speciesTable);
 	}
 }
\ No newline at end of file
@@ -10,8 +10,10 @@ import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation.SI_AT_GOU
 import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation.SI_FDI_THROWER;
 import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation.SI_SW_HU_GARCIA;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -24,6 +26,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
+import ca.bc.gov.nrs.vdyp.sindex.SiteIndexResult;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsDetails;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedEcoZone;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedGenera;
@@ -38,6 +41,7 @@ import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesTable;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexNames;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.LessThan13Exception;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
@@ -219,6 +223,77 @@ class SiteToolTest {
 		assertThat(SiteTool.yearsToBreastHeight(SI_FDI_THROWER, 30.0), is(7.3));
 	}
 
+	@Test
+	void test_htAgeToSIStatus() {
+		var result = new SiteIndexResult();
+		assertThat(
+				SiteTool.heightAndAgeToSiteIndex(null, 0, SI_AT_BREAST, 1.0, SI_EST_ITERATE, result),
+				is(SiteIndexStatus.SI_ERR_LT13)
+		);
+		assertThat(result.getValue(), is(-1.0));
+		assertThat(
+				SiteTool.heightAndAgeToSiteIndex(null, 0, SI_AT_TOTAL, 23.0, SI_EST_ITERATE, result),
+				is(SiteIndexStatus.SI_ERR_NO_ANS)
+		);
+		assertThat(
+				SiteTool.heightAndAgeToSiteIndex(SI_AT_GOUDIE, 10.0, SI_AT_BREAST, 23.0, SI_EST_DIRECT, result),
+				is(SiteIndexStatus.SI_OK)
+		);
+		assertThat(result.getValue(), is(34.30));
+		assertThat(result.getMessage(), nullValue());
+	}
+
+	@Test
+	void test_htSIToAgeStatus() {
+		var result = new SiteIndexResult();
+		assertThat(
+				SiteTool.heightAndSiteIndexToAge(null, 10.0, SI_AT_BREAST, 1.1, 0.0, result),
+				is(SiteIndexStatus.SI_ERR_LT13)
+		);
+		assertThat(
+				SiteTool.heightAndSiteIndexToAge(SI_FDI_THROWER, 10.0, SI_AT_BREAST, 47.0, 5.0, result),
+				is(SiteIndexStatus.SI_OK)
+		);
+		assertThat(round(result.getValue(), 2), is(8.54));
+	}
+
+	@Test
+	void test_ageSIToHtStatus() {
+		var result = new SiteIndexResult();
+		assertThat(
+				SiteTool.ageAndSiteIndexToHeight(SI_FDI_THROWER, 10.0, SI_AT_TOTAL, 30.0, 5.0, result),
+				is(SiteIndexStatus.SI_OK)
+		);
+		assertThat(round(result.getValue(), 2), is(4.10));
+	}
+
+	@Test
+	void test_yearsToBreastHeightStatus() {
+		var result = new SiteIndexResult();
+		assertThat(SiteTool.yearsToBreastHeight(SI_FDI_THROWER, 30.0, result), is(SiteIndexStatus.SI_OK));
+		assertThat(result.getValue(), is(7.3));
+		assertThat(SiteTool.yearsToBreastHeight(SI_FDI_THROWER, 1.0, result), is(SiteIndexStatus.SI_ERR_LT13));
+		assertThat(result.getMessage(), notNullValue());
+	}
+
+	@Test
+	void test_convertSiteIndexBetweenCurvesStatus() {
+		var result = new SiteIndexResult();
+		assertThat(
+				SiteTool.convertSiteIndexBetweenCurves(SI_AT_GOUDIE, 10.0, SI_SW_HU_GARCIA, result),
+				is(SiteIndexStatus.SI_OK)
+		);
+		assertThat(result.getValue(), closeTo(11.782, 0.001));
+		assertThat(
+				SiteTool.convertSiteIndexBetweenCurves(SI_AT_GOUDIE, 10.0, SI_AT_CHEN, result),
+				is(SiteIndexStatus.SI_ERR_NO_ANS)
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> SiteTool.convertSiteIndexBetweenCurves(null, 10.0, SI_AT_CHEN, new SiteIndexResult())
+		);
+	}
+
 	@Test
 	void test_getSICurveName() {
 		assertThat(SiteTool.getSICurveName(null), is(SiteTool.UNKNOWN_CURVE_RESULT));
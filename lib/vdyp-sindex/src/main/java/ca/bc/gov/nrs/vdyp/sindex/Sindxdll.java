@@ -17,6 +17,7 @@ import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEstablishmentType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEstimationType;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.AgeTypeErrorException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CodeErrorException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
@@ -2738,6 +2739,20 @@ public class Sindxdll {
 		return 0;
 	}
 
+	/**
+	 * Status-code form of {@link #HtAgeToSI(SiteIndexEquation, double, SiteIndexAgeType, double,
+	 * SiteIndexEstimationType, Reference)}, which reports failures in the result rather than by throwing.
+	 *
+	 * @param site receives the site index, or the failure
+	 * @return the status, which is also recorded in <code>site</code>
+	 */
+	public static SiteIndexStatus HtAgeToSI(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double height,
+			SiteIndexEstimationType estType, SiteIndexResult site
+	) {
+		return site.compute(() -> Height2SiteIndex.heightToIndex(curve, age, ageType, height, estType));
+	}
+
 	/**
 	 * Converts a Height and Site Index to an Age for a particular Site Index Curve.
 	 *
@@ -2767,6 +2782,20 @@ public class Sindxdll {
 		return 0;
 	}
 
+	/**
+	 * Status-code form of {@link #HtSIToAge(SiteIndexEquation, double, SiteIndexAgeType, double, double, Reference)},
+	 * which reports failures in the result rather than by throwing.
+	 *
+	 * @param age receives the age, or the failure
+	 * @return the status, which is also recorded in <code>age</code>
+	 */
+	public static SiteIndexStatus HtSIToAge(
+			SiteIndexEquation curve, double height, SiteIndexAgeType ageType, double siteIndex, double y2bh,
+			SiteIndexResult age
+	) {
+		return age.compute(() -> SiteIndex2Age.indexToAge(curve, height, ageType, siteIndex, y2bh));
+	}
+
 	/**
 	 * Converts an Age and Site Index to a Height for a particular Site Index Curve.
 	 *
@@ -2800,6 +2829,20 @@ public class Sindxdll {
 		return 0;
 	}
 
+	/**
+	 * Status-code form of {@link #AgeSIToHt(SiteIndexEquation, double, SiteIndexAgeType, double, double, Reference)},
+	 * which reports failures in the result rather than by throwing.
+	 *
+	 * @param height receives the height, or the failure
+	 * @return the status, which is also recorded in <code>height</code>
+	 */
+	public static SiteIndexStatus AgeSIToHt(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double y2bh,
+			SiteIndexResult height
+	) {
+		return height.compute(() -> SiteIndex2Height.indexToHeight(curve, age, ageType, siteIndex, y2bh, 0.5));
+	}
+
 	/**
 	 * Converts an Age and Site Index to a Height for a particular Site Index Curve. This includes a smoothing equation
 	 * centered at breast-height age 0. Also, user can specify seedling age and height.
@@ -2883,6 +2926,17 @@ public class Sindxdll {
 		return 0;
 	}
 
+	/**
+	 * Status-code form of {@link #Y2BH(SiteIndexEquation, double, Reference)}, which reports failures in the result
+	 * rather than by throwing.
+	 *
+	 * @param y2bh receives the years to breast height, or the failure
+	 * @return the status, which is also recorded in <code>y2bh</code>
+	 */
+	public static SiteIndexStatus Y2BH(SiteIndexEquation curve, double siteIndex, SiteIndexResult y2bh) {
+		return y2bh.compute(() -> SiteIndexYears2BreastHeight.y2bh(curve, siteIndex));
+	}
+
 	/**
 	 * Site index conversion between species
 	 *
@@ -2921,6 +2975,28 @@ public class Sindxdll {
 		return 0;
 	}
 
+	/**
+	 * Status-code form of {@link #SIToSI(SiteIndexSpecies, double, SiteIndexSpecies, Reference)}, which reports
+	 * failures in the result rather than by throwing.
+	 *
+	 * @param result receives the target species site index, or the failure
+	 * @return the status, which is also recorded in <code>result</code>
+	 */
+	public static SiteIndexStatus
+			SIToSI(SiteIndexSpecies spIndex1, double siteIndex, SiteIndexSpecies spIndex2, SiteIndexResult result) {
+
+		if (spIndex1 == null || spIndex2 == null) {
+			return result.fail(SiteIndexStatus.SI_ERR_SPEC, "Source or target species index is not valid");
+		}
+
+		var params = SiteIndexNames.getSpeciesConversionParams(spIndex1, spIndex2);
+		if (params == null) {
+			return result.fail(SiteIndexStatus.SI_ERR_NO_ANS, "There is no conversion defined");
+		}
+
+		return result.set(params.param1() + params.param2() * siteIndex);
+	}
+
 	/**
 	 * Get site index based on site class.
 	 *
@@ -0,0 +1,73 @@
+package ca.bc.gov.nrs.vdyp.sindex;
+
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+
+/**
+ * The outcome of one of the status-code forms of the Sindxdll functions: a status and, when the status is
+ * {@link SiteIndexStatus#SI_OK}, a value. Unlike the throwing forms these report ordinary failures such as "height
+ * below 1.3m" or "no answer" without an exception reaching the caller.
+ * <p>
+ * A result may be reused from one call to the next; each call overwrites it. It is not thread safe.
+ */
+public class SiteIndexResult {
+
+	private double value = Double.NaN;
+	private SiteIndexStatus status = SiteIndexStatus.SI_OK;
+	private String message;
+
+	public double getValue() {
+		return value;
+	}
+
+	public SiteIndexStatus getStatus() {
+		return status;
+	}
+
+	/** @return a description of the failure, or null if the status is {@link SiteIndexStatus#SI_OK} */
+	public String getMessage() {
+		return message;
+	}
+
+	public boolean isOk() {
+		return status.isOk();
+	}
+
+	/**
+	 * Record a successful outcome.
+	 *
+	 * @return {@link SiteIndexStatus#SI_OK}
+	 */
+	public SiteIndexStatus set(double value) {
+		this.value = value;
+		this.status = SiteIndexStatus.SI_OK;
+		this.message = null;
+		return status;
+	}
+
+	/**
+	 * Record a failure. As in the original C code, the value is set to the status code.
+	 *
+	 * @return the given status
+	 */
+	public SiteIndexStatus fail(SiteIndexStatus status, String message) {
+		this.value = status.getCode();
+		this.status = status;
+		this.message = message;
+		return status;
+	}
+
+	/**
+	 * Record the outcome of a computation that reports failure by throwing a {@link CommonCalculatorException}. The
+	 * exception's stack trace is not filled in, since it is discarded.
+	 *
+	 * @return the status of the outcome
+	 */
+	public SiteIndexStatus compute(CommonCalculatorException.Computation computation) {
+		try {
+			return set(CommonCalculatorException.computeWithoutStackTraces(computation));
+		} catch (CommonCalculatorException e) {
+			return fail(SiteIndexStatus.of(e), e.getMessage());
+		}
+	}
+}
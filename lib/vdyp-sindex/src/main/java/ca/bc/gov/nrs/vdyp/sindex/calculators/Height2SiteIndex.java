@@ -3673,7 +3673,6 @@ public class Height2SiteIndex {
 		double site;
 		double step;
 		double testTop;
-		double y2bh;
 
 		/* initial guess */
 		site = height;
@@ -3682,22 +3681,27 @@ public class Height2SiteIndex {
 		}
 		step = site / 2.0;
 
+		/* start from the tabulated curve, if there is one */
+		if (ageType == SI_AT_BREAST) {
+			var guess = SiteIndexCurveTables.siteIndexGuess(cuIndex, age, height);
+			if (guess.isPresent() && guess.getAsDouble() >= 1.3) {
+				site = guess.getAsDouble();
+				step = SiteIndexCurveTables.SITE_INDEX_STEP;
+			}
+		}
+
+		if (SiteIndexInversion.isBrent()) {
+			var root = SiteIndexInversion
+					.solve(s -> iterateHeight(cuIndex, age, ageType, s), height, site, step, 1.3, 999.0, 0.01);
+			if (root.isPresent()) {
+				return root.getAsDouble();
+			}
+		}
+
 		/* loop until real close, or other end condition */
 		do {
 
-			/* estimate y2bh */
-			y2bh = SiteIndexYears2BreastHeight.y2bh(cuIndex, site);
-
-			if (ageType == SI_AT_BREAST) {
-				testTop = SiteIndex2Height
-						.indexToHeight(cuIndex, age, SI_AT_BREAST, site, y2bh, 0.5 /* may have to change */);
-			} else {
-				/* was age - y2bh */
-				testTop = SiteIndex2Height.indexToHeight(
-						cuIndex, AgeToAge.ageToAge(cuIndex, age, SI_AT_TOTAL, SI_AT_BREAST, y2bh), SI_AT_BREAST, site,
-						y2bh, 0.5
-				); // 0.5 may have to change
-			}
+			testTop = iterateHeight(cuIndex, age, ageType, site);
 
 			/*
 			 * System.out. printf("age=%.0f, height=%.1f, test_top=%.1f, site=%.2f, step=%.7f%n", age, height, test_top,
@@ -3750,6 +3754,27 @@ public class Height2SiteIndex {
 
 	}
 
+	/**
+	 * @return the height reached by the given curve at the given age for the given site index, as tested by
+	 *         {@link #siteIterate}
+	 */
+	private static double iterateHeight(SiteIndexEquation cuIndex, double age, SiteIndexAgeType ageType, double site)
+			throws CommonCalculatorException {
+
+		/* estimate y2bh */
+		double y2bh = SiteIndexYears2BreastHeight.y2bh(cuIndex, site);
+
+		if (ageType == SI_AT_BREAST) {
+			return SiteIndex2Height.indexToHeight(cuIndex, age, SI_AT_BREAST, site, y2bh, 0.5 /* may have to change */);
+		} else {
+			/* was age - y2bh */
+			return SiteIndex2Height.indexToHeight(
+					cuIndex, AgeToAge.ageToAge(cuIndex, age, SI_AT_TOTAL, SI_AT_BREAST, y2bh), SI_AT_BREAST, site, y2bh,
+					0.5
+			); // 0.5 may have to change
+		}
+	}
+
 	public static double huGarciaQ(double siteIndex, double breastHeightAge) {
 		double h, q, step, diff, lastdiff;
 
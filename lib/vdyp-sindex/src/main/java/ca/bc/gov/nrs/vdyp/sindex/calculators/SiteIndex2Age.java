@@ -536,8 +536,28 @@ public class SiteIndex2Age {
 		step = si2age / 2;
 		err_count = 0;
 
+		/* start from the tabulated curve, if there is one */
+		var guess = SiteIndexCurveTables.breastHeightAgeGuess(cuIndex, siteIndex, siteHeight);
+		if (guess.isPresent()) {
+			si2age = AgeToAge.ageToAge(cuIndex, guess.getAsDouble(), SI_AT_BREAST, SI_AT_TOTAL, yearsToBreastHeight);
+			step = SiteIndexCurveTables.BREAST_HEIGHT_AGE_STEP;
+		}
+
+		boolean solved = false;
+		if (SiteIndexInversion.isBrent()) {
+			var root = SiteIndexInversion.solve(
+					age -> SiteIndex2Height
+							.indexToHeight(cuIndex, age, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, 0.5),
+					siteHeight, si2age, step, 0.0, 999.0, 0.005
+			);
+			if (root.isPresent()) {
+				si2age = root.getAsDouble();
+				solved = true;
+			}
+		}
+
 		/* loop until real close, or other end condition */
-		do {
+		while (!solved) {
 			if (TEST) {
 				try {
 					// Open the file for writing
@@ -637,7 +657,7 @@ public class SiteIndex2Age {
 				}
 				break;
 			}
-		} while (true);
+		}
 
 		if (si2age >= 0) {
 			if (ageType == SI_AT_BREAST) {
@@ -0,0 +1,350 @@
+package ca.bc.gov.nrs.vdyp.sindex.calculators;
+
+import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType.SI_AT_BREAST;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+
+/**
+ * SiteIndexCurveTables - optional tabulated site index curves.
+ * <p>
+ * For each curve, the height given by {@link SiteIndex2Height#indexToHeight} at breast height age (with the years to
+ * breast height given by {@link SiteIndexYears2BreastHeight#y2bh} and a pi of 0.5, as used by the iterative
+ * inversions) is tabulated over a grid of breast height ages and site indices. Heights are interpolated bilinearly,
+ * which preserves the monotonicity of the curve in both directions, and the interpolation is inverted to give site
+ * index from height, and breast height age from site index and height.
+ * <p>
+ * A curve's table is built when it is first used, and is checked against the analytic curve at the centre of every
+ * grid cell. Lookups falling in a cell whose interpolated height is further than the error bound from the analytic
+ * height, or that could not be computed, are empty, as are lookups outside the grid.
+ * <p>
+ * The tables are used only on threads they have been enabled for with {@link #enable(double)}, as the extended core
+ * does for projections selecting the execution option <code>doUseTabulatedSiteIndexCurves</code>, and then only to
+ * supply the starting point of {@link Height2SiteIndex#siteIterate} and of the iteration in {@link SiteIndex2Age}.
+ * The analytic curve still decides when those iterations are done. The tables for an error bound are built once and
+ * shared by every thread using that bound.
+ */
+public class SiteIndexCurveTables {
+
+	public static final double DEFAULT_ERROR_BOUND = 0.01;
+
+	static final double MIN_BREAST_HEIGHT_AGE = 1.0;
+	static final double BREAST_HEIGHT_AGE_STEP = 1.0;
+	static final int N_BREAST_HEIGHT_AGES = 400;
+
+	static final double MIN_SITE_INDEX = 1.5;
+	static final double SITE_INDEX_STEP = 0.5;
+	static final int N_SITE_INDICES = 148;
+
+	private static final Map<Double, SiteIndexCurveTables> shared = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<SiteIndexCurveTables> active = new ThreadLocal<>();
+
+	private final double errorBound;
+	private final Map<SiteIndexEquation, Optional<CurveTable>> tables = new ConcurrentHashMap<>();
+
+	public SiteIndexCurveTables(double errorBound) {
+		if (! (errorBound > 0.0)) {
+			throw new IllegalArgumentException("Error bound must be positive: " + errorBound);
+		}
+		this.errorBound = errorBound;
+	}
+
+	/**
+	 * @param errorBound the largest difference, in metres, allowed between a tabulated and an analytic height
+	 * @return the tables built to the given error bound, shared by every thread using them
+	 */
+	public static SiteIndexCurveTables shared(double errorBound) {
+		return shared.computeIfAbsent(errorBound, SiteIndexCurveTables::new);
+	}
+
+	/**
+	 * Enable the tabulated curves on the calling thread, with the shared tables built to the given error bound.
+	 *
+	 * @param errorBound the largest difference, in metres, allowed between a tabulated and an analytic height
+	 */
+	public static void enable(double errorBound) {
+		use(Optional.of(shared(errorBound)));
+	}
+
+	/**
+	 * Disable the tabulated curves on the calling thread.
+	 */
+	public static void disable() {
+		use(Optional.empty());
+	}
+
+	/**
+	 * Use the given tables on the calling thread, or none if empty.
+	 */
+	public static void use(Optional<SiteIndexCurveTables> tables) {
+		if (tables.isPresent()) {
+			active.set(tables.get());
+		} else {
+			active.remove();
+		}
+	}
+
+	/**
+	 * @return the tables used on the calling thread, if any
+	 */
+	public static Optional<SiteIndexCurveTables> active() {
+		return Optional.ofNullable(active.get());
+	}
+
+	/**
+	 * @return the tabulated site index at which the given curve reaches the given height at the given breast height
+	 *         age, or empty if the tables are not enabled on the calling thread or cannot answer
+	 */
+	static OptionalDouble siteIndexGuess(SiteIndexEquation cuIndex, double breastHeightAge, double height) {
+		var tables = active.get();
+		return tables == null ? OptionalDouble.empty() : tables.siteIndex(cuIndex, breastHeightAge, height);
+	}
+
+	/**
+	 * @return the tabulated breast height age at which the given curve reaches the given height for the given site
+	 *         index, or empty if the tables are not enabled on the calling thread or cannot answer
+	 */
+	static OptionalDouble breastHeightAgeGuess(SiteIndexEquation cuIndex, double siteIndex, double height) {
+		var tables = active.get();
+		return tables == null ? OptionalDouble.empty() : tables.breastHeightAge(cuIndex, siteIndex, height);
+	}
+
+	public double getErrorBound() {
+		return errorBound;
+	}
+
+	/**
+	 * @return whether any part of the given curve could be tabulated within the error bound. The table is built if it
+	 *         hasn't been already.
+	 */
+	public boolean isTabulated(SiteIndexEquation cuIndex) {
+		return table(cuIndex).isPresent();
+	}
+
+	/**
+	 * @return the interpolated height of the given curve at the given breast height age and site index, or empty if
+	 *         these are outside the table or the curve is not tabulated.
+	 */
+	public OptionalDouble height(SiteIndexEquation cuIndex, double breastHeightAge, double siteIndex) {
+		return table(cuIndex).map(t -> t.height(breastHeightAge, siteIndex)).orElse(OptionalDouble.empty());
+	}
+
+	/**
+	 * @return the site index at which the interpolated curve reaches the given height at the given breast height age,
+	 *         or empty if this is outside the table or the curve is not tabulated.
+	 */
+	public OptionalDouble siteIndex(SiteIndexEquation cuIndex, double breastHeightAge, double height) {
+		return table(cuIndex).map(t -> t.siteIndex(breastHeightAge, height)).orElse(OptionalDouble.empty());
+	}
+
+	/**
+	 * @return the breast height age at which the interpolated curve for the given site index reaches the given height,
+	 *         or empty if this is outside the table or the curve is not tabulated.
+	 */
+	public OptionalDouble breastHeightAge(SiteIndexEquation cuIndex, double siteIndex, double height) {
+		return table(cuIndex).map(t -> t.breastHeightAge(siteIndex, height)).orElse(OptionalDouble.empty());
+	}
+
+	private Optional<CurveTable> table(SiteIndexEquation cuIndex) {
+		if (cuIndex == null) {
+			return Optional.empty();
+		}
+		return tables.computeIfAbsent(cuIndex, this::build);
+	}
+
+	static double analyticHeight(SiteIndexEquation cuIndex, double breastHeightAge, double siteIndex) {
+		try {
+			double y2bh = SiteIndexYears2BreastHeight.y2bh(cuIndex, siteIndex);
+			return SiteIndex2Height.indexToHeight(cuIndex, breastHeightAge, SI_AT_BREAST, siteIndex, y2bh, 0.5);
+		} catch (CommonCalculatorException e) {
+			return Double.NaN;
+		}
+	}
+
+	private Optional<CurveTable> build(SiteIndexEquation cuIndex) {
+
+		var heights = new float[N_BREAST_HEIGHT_AGES * N_SITE_INDICES];
+		for (int i = 0; i < N_BREAST_HEIGHT_AGES; i++) {
+			for (int j = 0; j < N_SITE_INDICES; j++) {
+				heights[i * N_SITE_INDICES + j] = (float) analyticHeight(cuIndex, ageAt(i), siteIndexAt(j));
+			}
+		}
+
+		var table = new CurveTable(heights);
+
+		boolean anyCell = false;
+		for (int i = 0; i < N_BREAST_HEIGHT_AGES - 1; i++) {
+			for (int j = 0; j < N_SITE_INDICES - 1; j++) {
+				double centreAge = ageAt(i) + BREAST_HEIGHT_AGE_STEP / 2;
+				double centreSiteIndex = siteIndexAt(j) + SITE_INDEX_STEP / 2;
+				double interpolated = table.interpolate(i, j, 0.5, 0.5);
+				double analytic = analyticHeight(cuIndex, centreAge, centreSiteIndex);
+				if (!Double.isNaN(interpolated) && Math.abs(interpolated - analytic) <= errorBound) {
+					table.cellValid[i * N_SITE_INDICES + j] = true;
+					anyCell = true;
+				}
+			}
+		}
+
+		return anyCell ? Optional.of(table) : Optional.empty();
+	}
+
+	private static double ageAt(int i) {
+		return MIN_BREAST_HEIGHT_AGE + i * BREAST_HEIGHT_AGE_STEP;
+	}
+
+	private static double siteIndexAt(int j) {
+		return MIN_SITE_INDEX + j * SITE_INDEX_STEP;
+	}
+
+	private static double lerp(double a, double b, double t) {
+		return a + (b - a) * t;
+	}
+
+	/**
+	 * The heights of one curve, by breast height age (rows) and site index (columns). Heights that could not be
+	 * computed are NaN. A cell is valid if its interpolated height is within the error bound of the curve; lookups
+	 * that fall in any other cell are empty.
+	 */
+	private static class CurveTable {
+
+		private final float[] heights;
+
+		/** Whether each cell, indexed by its lowest corner, is within the error bound */
+		private final boolean[] cellValid = new boolean[N_BREAST_HEIGHT_AGES * N_SITE_INDICES];
+
+		/** The last site index of each row up to which it is finite and non-decreasing, or -1 if there is none */
+		private final int[] rowExtent = new int[N_BREAST_HEIGHT_AGES];
+
+		/** The last age of each column up to which it is finite and non-decreasing, or -1 if there is none */
+		private final int[] columnExtent = new int[N_SITE_INDICES];
+
+		CurveTable(float[] heights) {
+			this.heights = heights;
+
+			for (int i = 0; i < N_BREAST_HEIGHT_AGES; i++) {
+				int extent = Float.isNaN(at(i, 0)) ? -1 : 0;
+				while (extent >= 0 && extent + 1 < N_SITE_INDICES && at(i, extent + 1) >= at(i, extent)) {
+					extent++;
+				}
+				rowExtent[i] = extent;
+			}
+			for (int j = 0; j < N_SITE_INDICES; j++) {
+				int extent = Float.isNaN(at(0, j)) ? -1 : 0;
+				while (extent >= 0 && extent + 1 < N_BREAST_HEIGHT_AGES && at(extent + 1, j) >= at(extent, j)) {
+					extent++;
+				}
+				columnExtent[j] = extent;
+			}
+		}
+
+		private float at(int i, int j) {
+			return heights[i * N_SITE_INDICES + j];
+		}
+
+		private boolean valid(int i, int j) {
+			return cellValid[i * N_SITE_INDICES + j];
+		}
+
+		private double interpolate(int i, int j, double t, double u) {
+			return lerp(lerp(at(i, j), at(i, j + 1), u), lerp(at(i + 1, j), at(i + 1, j + 1), u), t);
+		}
+
+		/**
+		 * @return the index of the grid cell containing the given value, or -1 if it is outside the grid
+		 */
+		private static int cell(double value, double min, double step, int n) {
+			double position = (value - min) / step;
+			if (! (position >= 0.0) || position > n - 1) {
+				return -1;
+			}
+			return Math.min((int) position, n - 2);
+		}
+
+		OptionalDouble height(double breastHeightAge, double siteIndex) {
+			int i = cell(breastHeightAge, MIN_BREAST_HEIGHT_AGE, BREAST_HEIGHT_AGE_STEP, N_BREAST_HEIGHT_AGES);
+			int j = cell(siteIndex, MIN_SITE_INDEX, SITE_INDEX_STEP, N_SITE_INDICES);
+			if (i < 0 || j < 0 || !valid(i, j)) {
+				return OptionalDouble.empty();
+			}
+			double t = (breastHeightAge - ageAt(i)) / BREAST_HEIGHT_AGE_STEP;
+			double u = (siteIndex - siteIndexAt(j)) / SITE_INDEX_STEP;
+
+			return OptionalDouble.of(interpolate(i, j, t, u));
+		}
+
+		OptionalDouble siteIndex(double breastHeightAge, double height) {
+			int i = cell(breastHeightAge, MIN_BREAST_HEIGHT_AGE, BREAST_HEIGHT_AGE_STEP, N_BREAST_HEIGHT_AGES);
+			int hi = i < 0 ? -1 : Math.min(rowExtent[i], rowExtent[i + 1]);
+			if (hi < 1) {
+				return OptionalDouble.empty();
+			}
+			double t = (breastHeightAge - ageAt(i)) / BREAST_HEIGHT_AGE_STEP;
+
+			// Heights along the interpolated row are non-decreasing up to hi, since both rows are.
+			int lo = 0;
+			double loHeight = lerp(at(i, lo), at(i + 1, lo), t);
+			double hiHeight = lerp(at(i, hi), at(i + 1, hi), t);
+			if (height < loHeight || height > hiHeight) {
+				return OptionalDouble.empty();
+			}
+			while (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				double midHeight = lerp(at(i, mid), at(i + 1, mid), t);
+				if (midHeight <= height) {
+					lo = mid;
+					loHeight = midHeight;
+				} else {
+					hi = mid;
+					hiHeight = midHeight;
+				}
+			}
+
+			if (!valid(i, lo)) {
+				return OptionalDouble.empty();
+			}
+			double fraction = hiHeight > loHeight ? (height - loHeight) / (hiHeight - loHeight) : 0.0;
+			return OptionalDouble.of(siteIndexAt(lo) + fraction * SITE_INDEX_STEP);
+		}
+
+		OptionalDouble breastHeightAge(double siteIndex, double height) {
+			int j = cell(siteIndex, MIN_SITE_INDEX, SITE_INDEX_STEP, N_SITE_INDICES);
+			int hi = j < 0 ? -1 : Math.min(columnExtent[j], columnExtent[j + 1]);
+			if (hi < 1) {
+				return OptionalDouble.empty();
+			}
+			double u = (siteIndex - siteIndexAt(j)) / SITE_INDEX_STEP;
+
+			// Heights along the interpolated column are non-decreasing up to hi, since both columns are.
+			int lo = 0;
+			double loHeight = lerp(at(lo, j), at(lo, j + 1), u);
+			double hiHeight = lerp(at(hi, j), at(hi, j + 1), u);
+			if (height < loHeight || height > hiHeight) {
+				return OptionalDouble.empty();
+			}
+			while (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				double midHeight = lerp(at(mid, j), at(mid, j + 1), u);
+				if (midHeight <= height) {
+					lo = mid;
+					loHeight = midHeight;
+				} else {
+					hi = mid;
+					hiHeight = midHeight;
+				}
+			}
+
+			if (!valid(lo, j)) {
+				return OptionalDouble.empty();
+			}
+			double fraction = hiHeight > loHeight ? (height - loHeight) / (hiHeight - loHeight) : 0.0;
+			return OptionalDouble.of(ageAt(lo) + fraction * BREAST_HEIGHT_AGE_STEP);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package ca.bc.gov.nrs.vdyp.sindex.calculators;
+
+import java.util.OptionalDouble;
+
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexInversionMethod;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
+
+/**
+ * SiteIndexInversion - root finding for the iterative inversions of the site index curves.
+ * <p>
+ * {@link Height2SiteIndex#siteIterate} and the iteration of {@link SiteIndex2Age} search for the value at which a
+ * curve reaches a given height. With {@link SiteIndexInversionMethod#SI_INV_REFERENCE}, the default, they use their
+ * original step-halving search. With {@link SiteIndexInversionMethod#SI_INV_BRENT} they first try
+ * {@link #solve}, which brackets the answer by doubling steps from the same starting point and then applies Brent's
+ * method, stopping at the same height tolerance as the reference search. If it cannot bracket the answer, or the curve
+ * throws part way, the reference search is used instead, so that error reporting is unchanged. If it does not
+ * converge, it fails as the reference search does when that does not converge.
+ * <p>
+ * The method is chosen per thread, as the extended core does for projections selecting the execution option
+ * <code>doUseBrentSiteIndexInversion</code>.
+ * <p>
+ * Both methods stop at the first value whose height is within the tolerance, so their answers agree to within the
+ * tolerance in height rather than exactly.
+ */
+public class SiteIndexInversion {
+
+	/** The search stops once the bracket is narrower than this, as the reference search does at this step */
+	static final double MIN_STEP = 0.00001;
+
+	private static final int MAX_BRACKET_STEPS = 64;
+	private static final int MAX_ITERATIONS = 100;
+
+	private static final ThreadLocal<SiteIndexInversionMethod> method = ThreadLocal
+			.withInitial(() -> SiteIndexInversionMethod.SI_INV_REFERENCE);
+
+	private SiteIndexInversion() {
+	}
+
+	/**
+	 * @return the method used on the calling thread
+	 */
+	public static SiteIndexInversionMethod getMethod() {
+		return method.get();
+	}
+
+	/**
+	 * Set the method used on the calling thread. Null restores the default.
+	 */
+	public static void setMethod(SiteIndexInversionMethod method) {
+		if (method == null) {
+			SiteIndexInversion.method.remove();
+		} else {
+			SiteIndexInversion.method.set(method);
+		}
+	}
+
+	static boolean isBrent() {
+		return method.get() == SiteIndexInversionMethod.SI_INV_BRENT;
+	}
+
+	/** A curve, giving height as a function of site index or age */
+	@FunctionalInterface
+	interface Curve {
+		double height(double x) throws CommonCalculatorException;
+	}
+
+	/**
+	 * Find a value at which a non-decreasing curve is within the tolerance of the target height.
+	 *
+	 * @param curve     the curve
+	 * @param target    the target height
+	 * @param start     the value at which to start
+	 * @param step      the initial step when bracketing the answer
+	 * @param min       the least value to consider
+	 * @param max       the greatest value to consider
+	 * @param tolerance the tolerance in height
+	 * @return the value found, or empty if the answer could not be bracketed within [min, max] or the curve threw
+	 * @throws NoAnswerException if the search did not converge
+	 */
+	static OptionalDouble solve(
+			Curve curve, double target, double start, double step, double min, double max, double tolerance
+	) throws NoAnswerException {
+		return solve(curve, target, start, step, min, max, tolerance, MAX_ITERATIONS);
+	}
+
+	static OptionalDouble solve(
+			Curve curve, double target, double start, double step, double min, double max, double tolerance,
+			int maxIterations
+	) throws NoAnswerException {
+
+		double a = Math.max(min, Math.min(max, start));
+		double fa = height(curve, a) - target;
+		if (Double.isNaN(fa)) {
+			return OptionalDouble.empty();
+		}
+		if (Math.abs(fa) <= tolerance) {
+			return OptionalDouble.of(a);
+		}
+
+		/* bracket the answer, moving up if the curve is too low and down if it is too high */
+		double direction = fa < 0 ? 1.0 : -1.0;
+		double b = a;
+		double fb = fa;
+		step = Math.abs(step);
+		int steps = 0;
+		do {
+			if (b == (direction > 0 ? max : min) || ++steps > MAX_BRACKET_STEPS) {
+				return OptionalDouble.empty();
+			}
+			a = b;
+			fa = fb;
+			b = Math.max(min, Math.min(max, a + direction * step));
+			fb = height(curve, b) - target;
+			if (Double.isNaN(fb)) {
+				return OptionalDouble.empty();
+			}
+			if (Math.abs(fb) <= tolerance) {
+				return OptionalDouble.of(b);
+			}
+			step *= 2.0;
+		} while ( (fa < 0) == (fb < 0));
+
+		/* Brent's method on [a, b], keeping b as the best estimate */
+		double c = a;
+		double fc = fa;
+		double d = b - a;
+		double e = d;
+		for (int i = 0; i < maxIterations; i++) {
+			if ( (fb < 0) == (fc < 0)) {
+				c = a;
+				fc = fa;
+				d = b - a;
+				e = d;
+			}
+			if (Math.abs(fc) < Math.abs(fb)) {
+				a = b;
+				b = c;
+				c = a;
+				fa = fb;
+				fb = fc;
+				fc = fa;
+			}
+
+			double m = (c - b) / 2.0;
+			if (Math.abs(fb) <= tolerance || Math.abs(m) < MIN_STEP) {
+				return OptionalDouble.of(b);
+			}
+
+			if (Math.abs(e) >= MIN_STEP && Math.abs(fa) > Math.abs(fb)) {
+				/* attempt inverse quadratic interpolation, or the secant method if a and c coincide */
+				double p;
+				double q;
+				double s = fb / fa;
+				if (a == c) {
+					p = 2.0 * m * s;
+					q = 1.0 - s;
+				} else {
+					double r = fb / fc;
+					double t = fa / fc;
+					p = s * (2.0 * m * t * (t - r) - (b - a) * (r - 1.0));
+					q = (t - 1.0) * (r - 1.0) * (s - 1.0);
+				}
+				if (p > 0) {
+					q = -q;
+				} else {
+					p = -p;
+				}
+				if (2.0 * p < Math.min(3.0 * m * q - Math.abs(MIN_STEP * q), Math.abs(e * q))) {
+					e = d;
+					d = p / q;
+				} else {
+					d = m;
+					e = m;
+				}
+			} else {
+				/* bisect */
+				d = m;
+				e = m;
+			}
+
+			a = b;
+			fa = fb;
+			b += Math.abs(d) > MIN_STEP ? d : Math.copySign(MIN_STEP, m);
+			fb = height(curve, b) - target;
+			if (Double.isNaN(fb)) {
+				return OptionalDouble.empty();
+			}
+		}
+
+		throw new NoAnswerException("Iteration could not converge, last value: " + b);
+	}
+
+	/**
+	 * @return the height of the curve at x, or NaN if the curve throws
+	 */
+	private static double height(Curve curve, double x) {
+		try {
+			return curve.height(x);
+		} catch (CommonCalculatorException e) {
+			return Double.NaN;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package ca.bc.gov.nrs.vdyp.sindex.enumerations;
+
+/** Methods of inverting a site index curve (for site index from height, or age from site index and height) */
+public enum SiteIndexInversionMethod {
+
+	/** The original step-halving search */
+	SI_INV_REFERENCE, //
+	/** A bracketed Brent search, falling back on the reference search when it cannot answer */
+	SI_INV_BRENT;
+}
@@ -0,0 +1,84 @@
+package ca.bc.gov.nrs.vdyp.sindex.enumerations;
+
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.AgeTypeErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.ClassErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CodeErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CurveErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.EstablishmentErrorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.ForestInventoryZoneException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.GrowthInterceptMaximumException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.GrowthInterceptMinimumException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.GrowthInterceptTotalException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.LessThan13Exception;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.SpeciesErrorException;
+
+/**
+ * Outcomes of the status-code forms of the Sindxdll functions. These are the return codes of the original C code, each
+ * of which the throwing forms replace with a {@link CommonCalculatorException} subclass.
+ */
+public enum SiteIndexStatus {
+	SI_OK(0), //
+	SI_ERR_LT13(-1), //
+	SI_ERR_GI_MIN(-2), //
+	SI_ERR_GI_MAX(-3), //
+	SI_ERR_NO_ANS(-4), //
+	SI_ERR_CURVE(-5), //
+	SI_ERR_CLASS(-6), //
+	SI_ERR_FIZ(-7), //
+	SI_ERR_CODE(-8), //
+	SI_ERR_GI_TOT(-9), //
+	SI_ERR_SPEC(-10), //
+	SI_ERR_AGE_TYPE(-11), //
+	SI_ERR_ESTAB(-12);
+
+	private final int code;
+
+	SiteIndexStatus(int code) {
+		this.code = code;
+	}
+
+	/** @return the return code of the original C code */
+	public int getCode() {
+		return code;
+	}
+
+	public boolean isOk() {
+		return this == SI_OK;
+	}
+
+	/**
+	 * @param e an exception thrown by one of the calculators
+	 * @return the status that the exception replaces
+	 */
+	public static SiteIndexStatus of(CommonCalculatorException e) {
+		if (e instanceof LessThan13Exception) {
+			return SI_ERR_LT13;
+		} else if (e instanceof GrowthInterceptMinimumException) {
+			return SI_ERR_GI_MIN;
+		} else if (e instanceof GrowthInterceptMaximumException) {
+			return SI_ERR_GI_MAX;
+		} else if (e instanceof NoAnswerException) {
+			return SI_ERR_NO_ANS;
+		} else if (e instanceof CurveErrorException) {
+			return SI_ERR_CURVE;
+		} else if (e instanceof ClassErrorException) {
+			return SI_ERR_CLASS;
+		} else if (e instanceof ForestInventoryZoneException) {
+			return SI_ERR_FIZ;
+		} else if (e instanceof CodeErrorException) {
+			return SI_ERR_CODE;
+		} else if (e instanceof GrowthInterceptTotalException) {
+			return SI_ERR_GI_TOT;
+		} else if (e instanceof SpeciesErrorException) {
+			return SI_ERR_SPEC;
+		} else if (e instanceof AgeTypeErrorException) {
+			return SI_ERR_AGE_TYPE;
+		} else if (e instanceof EstablishmentErrorException) {
+			return SI_ERR_ESTAB;
+		} else {
+			throw new IllegalArgumentException("Unrecognized calculator exception " + e.getClass().getName());
+		}
+	}
+}
@@ -4,6 +4,12 @@ public abstract class CommonCalculatorException extends Exception {
 
 	private static final long serialVersionUID = -2731778673508981452L;
 
+	/**
+	 * The number of {@link #computeWithoutStackTraces} calls in progress on each thread. Exceptions created during them
+	 * are turned into status codes and discarded by the caller, so their stack traces are never filled in.
+	 */
+	private static final ThreadLocal<int[]> STATUS_CALLS = ThreadLocal.withInitial(() -> new int[1]);
+
 	protected CommonCalculatorException(String message) {
 		super(message);
 	}
@@ -19,4 +25,36 @@ public abstract class CommonCalculatorException extends Exception {
 	protected CommonCalculatorException() {
 		super();
 	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		if (STATUS_CALLS.get()[0] > 0) {
+			return this;
+		}
+		return super.fillInStackTrace();
+	}
+
+	/** A calculation that reports failure by throwing a CommonCalculatorException */
+	@FunctionalInterface
+	public interface Computation {
+		double compute() throws CommonCalculatorException;
+	}
+
+	/**
+	 * Perform the computation, without filling in the stack trace of any CommonCalculatorException created on this
+	 * thread meanwhile. This is for callers that convert the exception to a status and discard it.
+	 *
+	 * @param computation the computation
+	 * @return the result of the computation
+	 * @throws CommonCalculatorException as thrown by the computation, without a stack trace
+	 */
+	public static double computeWithoutStackTraces(Computation computation) throws CommonCalculatorException {
+		int[] depth = STATUS_CALLS.get();
+		depth[0]++;
+		try {
+			return computation.compute();
+		} finally {
+			depth[0]--;
+		}
+	}
 }
@@ -23,6 +23,7 @@ import ca.bc.gov.nrs.vdyp.sindex.exceptions.LessThan13Exception;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
 import ca.bc.gov.nrs.vdyp.sindex.exceptions.SpeciesErrorException;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexStatus;
 import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
 
 class SindxdllTest {
@@ -3534,6 +3535,65 @@ class SindxdllTest {
 		}
 	}
 
+	@Nested
+	class StatusFormsTest {
+		@Test
+		void testSIToSI() {
+			SiteIndexResult result = new SiteIndexResult();
+
+			assertEquals(SiteIndexStatus.SI_OK, Sindxdll.SIToSI(SI_SPEC_AT, 10.0, SI_SPEC_SW, result));
+			assertEquals(11.782, result.getValue(), ERROR_TOLERANCE);
+
+			assertEquals(SiteIndexStatus.SI_ERR_NO_ANS, Sindxdll.SIToSI(SI_SPEC_AT, 10.0, SI_SPEC_AT, result));
+			assertEquals(SiteIndexStatus.SI_ERR_NO_ANS.getCode(), result.getValue());
+
+			assertEquals(SiteIndexStatus.SI_ERR_SPEC, Sindxdll.SIToSI(null, 10.0, SI_SPEC_ABCO, result));
+			assertEquals(SI_ERR_SPEC, result.getValue());
+		}
+
+		@Test
+		void testFailuresAreReported() {
+			SiteIndexResult result = new SiteIndexResult();
+
+			assertEquals(SiteIndexStatus.SI_ERR_LT13, Sindxdll.Y2BH(null, 1.0, result));
+			assertEquals(SiteIndexStatus.SI_ERR_LT13, result.getStatus());
+			assertNotNull(result.getMessage());
+
+			assertEquals(SiteIndexStatus.SI_ERR_LT13, Sindxdll.AgeSIToHt(null, 0.0, SI_AT_BREAST, 1.2, 0, result));
+			assertEquals(
+					SiteIndexStatus.SI_ERR_LT13,
+					Sindxdll.HtAgeToSI(SI_FDC_BRUCE, 20.0, SI_AT_BREAST, 1.0, SI_EST_ITERATE, result)
+			);
+			assertEquals(
+					SiteIndexStatus.SI_ERR_LT13, Sindxdll.HtSIToAge(SI_FDC_BRUCE, 1.0, SI_AT_BREAST, 20.0, 5.0, result)
+			);
+		}
+
+		@Test
+		void testMatchesThrowingForm() throws CommonCalculatorException {
+			Reference<Double> expected = new Reference<>();
+			SiteIndexResult result = new SiteIndexResult();
+
+			Sindxdll.Y2BH(SI_FDC_BRUCE, 20.0, expected);
+			assertEquals(SiteIndexStatus.SI_OK, Sindxdll.Y2BH(SI_FDC_BRUCE, 20.0, result));
+			assertEquals(expected.get(), result.getValue());
+			assertNull(result.getMessage());
+
+			Sindxdll.AgeSIToHt(SI_HWC_WILEY, 0.0, SI_AT_BREAST, 1.31, 1.0, expected);
+			assertEquals(SiteIndexStatus.SI_OK, Sindxdll.AgeSIToHt(SI_HWC_WILEY, 0.0, SI_AT_BREAST, 1.31, 1.0, result));
+			assertEquals(expected.get(), result.getValue());
+		}
+
+		@Test
+		void testThrowingFormKeepsStackTrace() {
+			// A failure reported by status does not affect exceptions thrown afterwards
+			Sindxdll.Y2BH(null, 1.0, new SiteIndexResult());
+
+			var e = assertThrows(LessThan13Exception.class, () -> Sindxdll.Y2BH(null, 1.0, new Reference<>()));
+			assertTrue(e.getStackTrace().length > 0);
+		}
+	}
+
 	@Nested
 	class SCToSITest {
 		@Test
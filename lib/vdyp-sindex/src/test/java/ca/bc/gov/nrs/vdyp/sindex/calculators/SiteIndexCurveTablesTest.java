@@ -0,0 +1,132 @@
+package ca.bc.gov.nrs.vdyp.sindex.calculators;
+
+import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType.*;
+import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+
+class SiteIndexCurveTablesTest {
+
+	@Test
+	void testInvalidErrorBound() {
+		assertThrows(IllegalArgumentException.class, () -> new SiteIndexCurveTables(0.0));
+		assertThrows(IllegalArgumentException.class, () -> new SiteIndexCurveTables(Double.NaN));
+	}
+
+	@Test
+	void testHeightWithinBound() {
+		var unit = new SiteIndexCurveTables(SiteIndexCurveTables.DEFAULT_ERROR_BOUND);
+
+		assertThat(unit.isTabulated(SI_FDC_BRUCE), is(true));
+		for (double bhage = 5.25; bhage < 150; bhage += 7.5) {
+			for (double siteIndex = 10.1; siteIndex < 40; siteIndex += 3.3) {
+				var height = unit.height(SI_FDC_BRUCE, bhage, siteIndex);
+				if (height.isPresent()) {
+					assertThat(
+							height.getAsDouble(),
+							closeTo(
+									SiteIndexCurveTables.analyticHeight(SI_FDC_BRUCE, bhage, siteIndex),
+									SiteIndexCurveTables.DEFAULT_ERROR_BOUND
+							)
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testInversionsRoundTrip() {
+		var unit = new SiteIndexCurveTables(SiteIndexCurveTables.DEFAULT_ERROR_BOUND);
+
+		var height = unit.height(SI_FDC_BRUCE, 42.5, 24.25);
+		assertThat(height.isPresent(), is(true));
+
+		var siteIndex = unit.siteIndex(SI_FDC_BRUCE, 42.5, height.getAsDouble());
+		assertThat(siteIndex.isPresent(), is(true));
+		assertThat(siteIndex.getAsDouble(), closeTo(24.25, 0.001));
+
+		var bhage = unit.breastHeightAge(SI_FDC_BRUCE, 24.25, height.getAsDouble());
+		assertThat(bhage.isPresent(), is(true));
+		assertThat(bhage.getAsDouble(), closeTo(42.5, 0.001));
+	}
+
+	@Test
+	void testOutsideTable() {
+		var unit = new SiteIndexCurveTables(SiteIndexCurveTables.DEFAULT_ERROR_BOUND);
+
+		assertThat(unit.height(SI_FDC_BRUCE, 0.5, 20.0).isPresent(), is(false));
+		assertThat(unit.height(SI_FDC_BRUCE, 50.0, 1000.0).isPresent(), is(false));
+		assertThat(unit.siteIndex(SI_FDC_BRUCE, 50.0, 1000.0).isPresent(), is(false));
+		assertThat(unit.breastHeightAge(SI_FDC_BRUCE, 20.0, 1000.0).isPresent(), is(false));
+		assertThat(unit.height(null, 50.0, 20.0).isPresent(), is(false));
+	}
+
+	@Test
+	void testNotEnabledByDefault() {
+		assertThat(SiteIndexCurveTables.active().isPresent(), is(false));
+		assertThat(SiteIndexCurveTables.siteIndexGuess(SI_FDC_BRUCE, 50.0, 20.0).isPresent(), is(false));
+	}
+
+	@Test
+	void testEnabledPerThread() throws InterruptedException {
+		SiteIndexCurveTables.enable(SiteIndexCurveTables.DEFAULT_ERROR_BOUND);
+		try {
+			assertThat(
+					SiteIndexCurveTables.active().get(),
+					sameInstance(SiteIndexCurveTables.shared(SiteIndexCurveTables.DEFAULT_ERROR_BOUND))
+			);
+
+			var enabledElsewhere = new AtomicBoolean(true);
+			var thread = new Thread(() -> enabledElsewhere.set(SiteIndexCurveTables.active().isPresent()));
+			thread.start();
+			thread.join();
+			assertThat(enabledElsewhere.get(), is(false));
+		} finally {
+			SiteIndexCurveTables.disable();
+		}
+		assertThat(SiteIndexCurveTables.active().isPresent(), is(false));
+	}
+
+	@Test
+	void testIterationsFromTables() throws CommonCalculatorException {
+		double[][] cases = { { 12.0, 4.5 }, { 50.0, 20.0 }, { 83.0, 31.7 }, { 140.0, 45.2 } };
+
+		double[] analyticSiteIndex = new double[cases.length];
+		double[] analyticAge = new double[cases.length];
+		for (int i = 0; i < cases.length; i++) {
+			analyticSiteIndex[i] = Height2SiteIndex.siteIterate(SI_FDC_BRUCE, cases[i][0], SI_AT_BREAST, cases[i][1]);
+			analyticAge[i] = SiteIndex2Age.indexToAge(
+					SI_HWC_WILEY, cases[i][1], SI_AT_BREAST, 30.0, SiteIndexYears2BreastHeight.y2bh(SI_HWC_WILEY, 30.0)
+			);
+		}
+
+		SiteIndexCurveTables.enable(SiteIndexCurveTables.DEFAULT_ERROR_BOUND);
+		try {
+			for (int i = 0; i < cases.length; i++) {
+				double siteIndex = Height2SiteIndex.siteIterate(SI_FDC_BRUCE, cases[i][0], SI_AT_BREAST, cases[i][1]);
+				assertThat(
+						SiteIndexCurveTables.analyticHeight(SI_FDC_BRUCE, cases[i][0], siteIndex),
+						closeTo(cases[i][1], 0.01)
+				);
+				assertThat(siteIndex, closeTo(analyticSiteIndex[i], 0.05));
+
+				double age = SiteIndex2Age.indexToAge(
+						SI_HWC_WILEY, cases[i][1], SI_AT_BREAST, 30.0,
+						SiteIndexYears2BreastHeight.y2bh(SI_HWC_WILEY, 30.0)
+				);
+				assertThat(age, closeTo(analyticAge[i], 0.1));
+			}
+		} finally {
+			SiteIndexCurveTables.disable();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package ca.bc.gov.nrs.vdyp.sindex.calculators;
+
+import static ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexAgeType.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.sindex.enumerations.SiteIndexInversionMethod;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.sindex.exceptions.NoAnswerException;
+
+class SiteIndexInversionTest {
+
+	private static final double[] SITE_INDICES = { 8.0, 15.0, 22.0, 30.0, 40.0 };
+	private static final double[] BREAST_HEIGHT_AGES = { 5.0, 15.0, 30.0, 60.0, 120.0, 200.0 };
+
+	@AfterEach
+	void reset() {
+		SiteIndexInversion.setMethod(SiteIndexInversionMethod.SI_INV_REFERENCE);
+	}
+
+	@Test
+	void testReferenceByDefault() {
+		assertThat(SiteIndexInversion.getMethod(), is(SiteIndexInversionMethod.SI_INV_REFERENCE));
+
+		SiteIndexInversion.setMethod(null);
+		assertThat(SiteIndexInversion.getMethod(), is(SiteIndexInversionMethod.SI_INV_REFERENCE));
+	}
+
+	@Test
+	void testSolveLinear() throws NoAnswerException {
+		var result = SiteIndexInversion.solve(x -> 2.0 * x + 1.0, 31.0, 1.0, 0.5, 0.0, 100.0, 0.001);
+
+		assertThat(result.isPresent(), is(true));
+		assertThat(result.getAsDouble(), closeTo(15.0, 0.0005));
+	}
+
+	@Test
+	void testSolveDownwards() throws NoAnswerException {
+		var result = SiteIndexInversion.solve(x -> x * x, 4.0, 50.0, 25.0, 0.0, 100.0, 0.001);
+
+		assertThat(result.isPresent(), is(true));
+		assertThat(result.getAsDouble() * result.getAsDouble(), closeTo(4.0, 0.001));
+	}
+
+	@Test
+	void testSolveNotBracketed() throws NoAnswerException {
+		assertThat(SiteIndexInversion.solve(x -> x, 200.0, 1.0, 1.0, 0.0, 100.0, 0.001).isPresent(), is(false));
+		assertThat(SiteIndexInversion.solve(x -> x, -5.0, 1.0, 1.0, 0.0, 100.0, 0.001).isPresent(), is(false));
+	}
+
+	@Test
+	void testMethodPerThread() throws InterruptedException {
+		SiteIndexInversion.setMethod(SiteIndexInversionMethod.SI_INV_BRENT);
+
+		var methodElsewhere = new AtomicReference<SiteIndexInversionMethod>();
+		var thread = new Thread(() -> methodElsewhere.set(SiteIndexInversion.getMethod()));
+		thread.start();
+		thread.join();
+
+		assertThat(SiteIndexInversion.getMethod(), is(SiteIndexInversionMethod.SI_INV_BRENT));
+		assertThat(methodElsewhere.get(), is(SiteIndexInversionMethod.SI_INV_REFERENCE));
+	}
+
+	@Test
+	void testSolveNotConverged() {
+		assertThrows(
+				NoAnswerException.class,
+				() -> SiteIndexInversion.solve(x -> x < 10.0 ? 0.0 : 100.0, 50.0, 1.0, 1.0, 0.0, 100.0, 0.001, 2)
+		);
+	}
+
+	@Test
+	void testSolveCurveThrows() throws NoAnswerException {
+		var result = SiteIndexInversion.solve(x -> {
+			if (x > 10.0) {
+				throw new NoAnswerException("test");
+			}
+			return x;
+		}, 20.0, 1.0, 1.0, 0.0, 100.0, 0.001);
+
+		assertThat(result.isPresent(), is(false));
+	}
+
+	/**
+	 * For heights reached by each curve, the Brent search must fail where the reference search fails, and must come
+	 * within the height tolerance wherever the reference search does.
+	 */
+	@Test
+	void testParity() {
+		for (var cuIndex : SiteIndexEquation.values()) {
+			testParity(cuIndex);
+		}
+	}
+
+	private static void testParity(SiteIndexEquation cuIndex) {
+		for (double siteIndex : SITE_INDICES) {
+			for (double bhage : BREAST_HEIGHT_AGES) {
+				double height = height(cuIndex, bhage, siteIndex);
+				if (Double.isNaN(height)) {
+					continue;
+				}
+
+				SiteIndexInversion.setMethod(SiteIndexInversionMethod.SI_INV_REFERENCE);
+				var referenceSite = siteIterate(cuIndex, bhage, height);
+				var referenceAge = indexToAge(cuIndex, siteIndex, height);
+
+				SiteIndexInversion.setMethod(SiteIndexInversionMethod.SI_INV_BRENT);
+				var brentSite = siteIterate(cuIndex, bhage, height);
+				var brentAge = indexToAge(cuIndex, siteIndex, height);
+
+				if (referenceSite instanceof Double reference && brentSite instanceof Double brent) {
+					if (Math.abs(height(cuIndex, bhage, reference) - height) <= 0.01) {
+						assertThat(Math.abs(height(cuIndex, bhage, brent) - height), lessThanOrEqualTo(0.01));
+					}
+				} else {
+					assertThat(brentSite, is(referenceSite));
+				}
+
+				if (! (referenceAge instanceof Double && brentAge instanceof Double)) {
+					assertThat(brentAge, is(referenceAge));
+				}
+			}
+		}
+	}
+
+	private static double height(SiteIndexEquation cuIndex, double bhage, double siteIndex) {
+		try {
+			double y2bh = SiteIndexYears2BreastHeight.y2bh(cuIndex, siteIndex);
+			return SiteIndex2Height.indexToHeight(cuIndex, bhage, SI_AT_BREAST, siteIndex, y2bh, 0.5);
+		} catch (CommonCalculatorException e) {
+			return Double.NaN;
+		}
+	}
+
+	/** @return the site index found, or the class of the exception thrown */
+	private static Object siteIterate(SiteIndexEquation cuIndex, double bhage, double height) {
+		try {
+			return Height2SiteIndex.siteIterate(cuIndex, bhage, SI_AT_BREAST, height);
+		} catch (CommonCalculatorException e) {
+			return e.getClass();
+		}
+	}
+
+	/** @return the breast height age found, or the class of the exception thrown */
+	private static Object indexToAge(SiteIndexEquation cuIndex, double siteIndex, double height) {
+		try {
+			double y2bh = SiteIndexYears2BreastHeight.y2bh(cuIndex, siteIndex);
+			return SiteIndex2Age.indexToAge(cuIndex, height, SI_AT_BREAST, siteIndex, y2bh);
+		} catch (CommonCalculatorException e) {
+			return e.getClass();
+		}
+	}
+}
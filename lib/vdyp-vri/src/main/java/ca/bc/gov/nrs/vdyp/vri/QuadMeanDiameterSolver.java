@@ -0,0 +1,121 @@
+package ca.bc.gov.nrs.vdyp.vri;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.analysis.solvers.BrentSolver;
+
+/**
+ * Working storage for {@link VriStart#findRootForQuadMeanDiameterFractionalError}. The per species values are held in
+ * primitive arrays that are reused from one call to the next, and the error function evaluates
+ * {@link VriStart#quadMeanDiameterFractionalError(double, float[], float[], float[], float[], float[], int, float)}
+ * over them, so that finding the root does not allocate per species or per evaluation.
+ * <p>
+ * Neither this nor {@link BrentSolver} is thread safe, so there is one of each per thread.
+ */
+class QuadMeanDiameterSolver implements UnivariateFunction {
+
+	private static final ThreadLocal<QuadMeanDiameterSolver> SOLVERS = ThreadLocal
+			.withInitial(QuadMeanDiameterSolver::new);
+
+	// BrentSolver resets its evaluation count at the start of each solve, so one can be reused.
+	private final BrentSolver brentSolver = new BrentSolver();
+
+	// The two most recent arguments and values of the error function, most recent first
+	final double[] lastXes = new double[2];
+	final double[] lastFs = new double[2];
+
+	private VriStart app;
+	private int nSpecies;
+	private String[] genera = new String[0];
+	float[] initial = new float[0];
+	float[] baseArea = new float[0];
+	float[] min = new float[0];
+	float[] max = new float[0];
+	float[] result = new float[0];
+	private float treeDensity;
+	private boolean evaluated;
+
+	private QuadMeanDiameterSolver() {
+	}
+
+	/**
+	 * @return the solver of the current thread
+	 */
+	static QuadMeanDiameterSolver forCurrentThread() {
+		return SOLVERS.get();
+	}
+
+	static BrentSolver brentSolver() {
+		return SOLVERS.get().brentSolver;
+	}
+
+	/**
+	 * Load the values of the species, in the order of {@code initial}, ready to find a root.
+	 */
+	void load(
+			VriStart app, Map<String, Float> initial, Map<String, Float> baseArea, Map<String, Float> min,
+			Map<String, Float> max, float treeDensity
+	) {
+		this.app = app;
+		this.nSpecies = initial.size();
+		this.treeDensity = treeDensity;
+		this.evaluated = false;
+		Arrays.fill(lastXes, 0d);
+		Arrays.fill(lastFs, 0d);
+
+		if (genera.length < nSpecies) {
+			genera = new String[nSpecies];
+			this.initial = new float[nSpecies];
+			this.baseArea = new float[nSpecies];
+			this.min = new float[nSpecies];
+			this.max = new float[nSpecies];
+			this.result = new float[nSpecies];
+		}
+
+		int i = 0;
+		for (var entry : initial.entrySet()) {
+			genera[i] = entry.getKey();
+			this.initial[i] = entry.getValue();
+			this.baseArea[i] = baseArea.get(entry.getKey());
+			i++;
+		}
+		loadLimits(min, max);
+	}
+
+	/**
+	 * Reload the diameter limits of the species, after they have been changed.
+	 */
+	void loadLimits(Map<String, Float> min, Map<String, Float> max) {
+		for (int i = 0; i < nSpecies; i++) {
+			this.min[i] = min.get(genera[i]);
+			this.max[i] = max.get(genera[i]);
+		}
+	}
+
+	@Override
+	public double value(double x) {
+		lastXes[1] = lastXes[0];
+		lastXes[0] = x;
+		lastFs[1] = lastFs[0];
+		lastFs[0] = app.quadMeanDiameterFractionalError(x, result, initial, baseArea, min, max, nSpecies, treeDensity);
+		evaluated = true;
+		return lastFs[0];
+	}
+
+	/**
+	 * Replace the contents of the given map with the diameters from the most recent evaluation of the error function,
+	 * if there was one, and release the application.
+	 */
+	void store(Map<String, Float> resultPerSpecies) {
+		if (evaluated) {
+			resultPerSpecies.clear();
+			for (int i = 0; i < nSpecies; i++) {
+				resultPerSpecies.put(genera[i], result[i]);
+			}
+		}
+		app = null;
+		Arrays.fill(genera, null);
+	}
+}
@@ -24,7 +24,6 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.solvers.BrentSolver;
 import org.apache.commons.math3.exception.TooManyEvaluationsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -670,17 +669,62 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 			double x, Map<String, Float> finalDiameters, Map<String, Float> initial, Map<String, Float> baseArea,
 			Map<String, Float> min, Map<String, Float> max, float totalTreeDensity
 	) {
+		int nSpecies = initial.size();
+		float[] finalArray = new float[nSpecies];
+		float[] initialArray = new float[nSpecies];
+		float[] baseAreaArray = new float[nSpecies];
+		float[] minArray = new float[nSpecies];
+		float[] maxArray = new float[nSpecies];
+		int i = 0;
+		for (var spec : initial.entrySet()) {
+			initialArray[i] = spec.getValue();
+			baseAreaArray[i] = baseArea.get(spec.getKey());
+			minArray[i] = min.get(spec.getKey());
+			maxArray[i] = max.get(spec.getKey());
+			i++;
+		}
+
+		float result = quadMeanDiameterFractionalError(
+				x, finalArray, initialArray, baseAreaArray, minArray, maxArray, nSpecies, totalTreeDensity
+		);
+
 		finalDiameters.clear();
+		i = 0;
+		for (var genus : initial.keySet()) {
+			finalDiameters.put(genus, finalArray[i++]);
+		}
+		return result;
+	}
 
+	/**
+	 * The fractional error in tree density when the initial diameters of the first {@code nSpecies} species are adjusted
+	 * by {@code x}. The adjusted diameters are put in {@code finalDiameters}.
+	 */
+	float quadMeanDiameterFractionalError(
+			double x, float[] finalDiameters, float[] initial, float[] baseArea, float[] min, float[] max,
+			int nSpecies, float totalTreeDensity
+	) {
 		float xToUse = FloatMath.clamp((float) x, -10, 10);
 
-		double tphSum = initial.entrySet().stream().mapToDouble(spec -> {
-			float speciesFinal = quadMeanDiameterSpeciesAdjust(
-					xToUse, spec.getValue(), min.get(spec.getKey()), max.get(spec.getKey())
-			);
-			finalDiameters.put(spec.getKey(), speciesFinal);
-			return treesPerHectare(baseArea.get(spec.getKey()), speciesFinal);
-		}).sum();
+		// Compensated summation, as DoubleStream.sum does, so the sum is unchanged from when it used a stream
+		double tphSum = 0;
+		double compensation = 0;
+		double simpleSum = 0;
+		for (int i = 0; i < nSpecies; i++) {
+			float speciesFinal = quadMeanDiameterSpeciesAdjust(xToUse, initial[i], min[i], max[i]);
+			finalDiameters[i] = speciesFinal;
+			double tph = treesPerHectare(baseArea[i], speciesFinal);
+
+			double adjusted = tph - compensation;
+			double sum = tphSum + adjusted;
+			compensation = (sum - tphSum) - adjusted;
+			tphSum = sum;
+			simpleSum += tph;
+		}
+		tphSum -= compensation;
+		if (Double.isNaN(tphSum) && Double.isInfinite(simpleSum)) {
+			tphSum = simpleSum;
+		}
 
 		return (float) ( (tphSum - totalTreeDensity) / totalTreeDensity);
 	}
@@ -1419,19 +1463,29 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		// error then use those adjusted values.
 
 		// Keeping track of the recent X values tied can be used to make some sort of guess if it doesn't converge.
-		double[] lastXes = new double[2];
-		double[] lastFs = new double[2];
+		var solver = QuadMeanDiameterSolver.forCurrentThread();
+		double[] lastXes = solver.lastXes;
+		double[] lastFs = solver.lastFs;
 
 		final double tol = 0.00001;
 
-		UnivariateFunction errorFunc = createQuadMeanDiameterFractionalErrorFunction(
-				resultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph, lastXes, lastFs
-		);
-		debugModeExpandRootSearchWindow(getDebugModes().getExpandDiameterForTPHRecovery(), minDq, maxDq, errorFunc);
-		// If the search window was expanded we need to rebox the min and max values in the univariate function
-		errorFunc = createQuadMeanDiameterFractionalErrorFunction(
-				resultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph, lastXes, lastFs
-		);
+		solver.load(this, initialDqs, baseAreas, minDq, maxDq, tph);
+		try {
+			UnivariateFunction errorFunc = solver;
+			debugModeExpandRootSearchWindow(getDebugModes().getExpandDiameterForTPHRecovery(), minDq, maxDq, errorFunc);
+			// If the search window was expanded we need to rebox the min and max values in the univariate function
+			solver.loadLimits(minDq, maxDq);
+
+			return findRootForQuadMeanDiameterFractionalError(min, max, errorFunc, lastXes, lastFs, tol);
+		} finally {
+			// The species map reflects the most recent evaluation of the error function
+			solver.store(resultPerSpecies);
+		}
+	}
+
+	private float findRootForQuadMeanDiameterFractionalError(
+			float min, float max, UnivariateFunction errorFunc, double[] lastXes, double[] lastFs, double tol
+	) throws FatalProcessingException {
 		try {
 			double x = doSolve(min, max, errorFunc);
 
@@ -1478,20 +1532,6 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		}
 	}
 
-	private UnivariateFunction createQuadMeanDiameterFractionalErrorFunction(
-			Map<String, Float> resultPerSpecies, Map<String, Float> initialDqs, Map<String, Float> baseAreas,
-			Map<String, Float> minDq, Map<String, Float> maxDq, float tph, double[] lastXes, double[] lastFs
-	) {
-		return x -> {
-			lastXes[1] = lastXes[0];
-			lastXes[0] = x;
-			lastFs[1] = lastFs[0];
-			lastFs[0] = this
-					.quadMeanDiameterFractionalError(x, resultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph);
-			return lastFs[0];
-		};
-	}
-
 	void debugModeExpandRootSearchWindow(
 			Optional<Float> recoveryFactor, Map<String, Float> minDq, Map<String, Float> maxDq,
 			UnivariateFunction errorFunc
@@ -1516,7 +1556,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 		// I couldn't identify the method the original Fortran was using, so I just picked one and it worked
 		// We could swap this for another like NewtonRaphsonSolver
-		var solver = new BrentSolver();
+		var solver = QuadMeanDiameterSolver.brentSolver();
 
 		// The Fortran solver library, $ZERO, included an ability to search for a better interval if given one where
 		// the function values at the end points have the same sign. This replicates that.
@@ -940,6 +940,65 @@ class VriStartTest {
 
 			}
 
+			@Test
+			void testSolverReusedBetweenLayers() throws ProcessingException {
+				controlMap = VriTestUtils.loadControlMap();
+				VriStart app = new VriStart();
+				ApplicationTestUtils.setControlMap(app, controlMap);
+
+				Map<String, Float> initialDqs = Utils.constMap(map -> {
+					map.put("B", 12.0803461f);
+					map.put("C", 8.66746521f);
+					map.put("F", 11.8044939f);
+					map.put("H", 9.06493855f);
+					map.put("S", 10.4460621f);
+				});
+				Map<String, Float> baseAreas = Utils.constMap(map -> {
+					map.put("B", 0.634290636f);
+					map.put("C", 1.26858127f);
+					map.put("F", 1.90287197f);
+					map.put("H", 1.90287197f);
+					map.put("S", 0.634290636f);
+
+				});
+				Map<String, Float> minDq = Utils.constMap(map -> {
+					map.put("B", 7.6f);
+					map.put("C", 7.6f);
+					map.put("F", 7.6f);
+					map.put("H", 7.6f);
+					map.put("S", 7.6f);
+				});
+				Map<String, Float> maxDq = Utils.constMap(map -> {
+					map.put("B", 13.8423338f);
+					map.put("C", 16.6669998f);
+					map.put("F", 15.5116472f);
+					map.put("H", 12.5369997f);
+					map.put("S", 12.6630001f);
+				});
+				float tph = 748.402222f;
+
+				var firstResultPerSpecies = new HashMap<String, Float>();
+				float first = app.findRootForQuadMeanDiameterFractionalError(
+						-0.6f, 0.5f, firstResultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph
+				);
+
+				// A layer with fewer species in between
+				var otherResultPerSpecies = new HashMap<String, Float>();
+				app.findRootForQuadMeanDiameterFractionalError(
+						-0.6f, 0.5f, otherResultPerSpecies, Map.of("C", 8.66746521f), Map.of("C", 1.26858127f),
+						Map.of("C", 7.6f), Map.of("C", 16.6669998f), 200f
+				);
+				assertThat(otherResultPerSpecies.keySet(), contains("C"));
+
+				var secondResultPerSpecies = new HashMap<String, Float>();
+				float second = app.findRootForQuadMeanDiameterFractionalError(
+						-0.6f, 0.5f, secondResultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph
+				);
+
+				assertThat(second, is(first));
+				assertThat(secondResultPerSpecies, is(firstResultPerSpecies));
+			}
+
 			@Test
 			@Disabled("This condition may be impossible to hit now that the early exit logic matches VDYP7")
 			void testNoIntervalThrow() {
@@ -949,16 +1008,17 @@ class VriStartTest {
 
 					@Override
 					float quadMeanDiameterFractionalError(
-							double x, Map<String, Float> finalDiameters, Map<String, Float> initial,
-							Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
-							float totalTreeDensity
+							double x, float[] finalDiameters, float[] initial, float[] baseArea, float[] min,
+							float[] max, int nSpecies, float totalTreeDensity
 					) {
 						// Force this to be something with no root. Finding a set of inputs that have no real root or
 						// which the interval fixer can't handle would be better
 
 						var f = Math.exp(x) + 1;
 
-						initial.forEach((k, v) -> finalDiameters.put(k, (float) (v * x)));
+						for (int i = 0; i < nSpecies; i++) {
+							finalDiameters[i] = (float) (initial[i] * x);
+						}
 
 						return (float) f;
 					}
@@ -1022,16 +1082,17 @@ class VriStartTest {
 
 					@Override
 					float quadMeanDiameterFractionalError(
-							double x, Map<String, Float> finalDiameters, Map<String, Float> initial,
-							Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
-							float totalTreeDensity
+							double x, float[] finalDiameters, float[] initial, float[] baseArea, float[] min,
+							float[] max, int nSpecies, float totalTreeDensity
 					) {
 						// Force this to be something with no root. Finding a set of inputs that have no real root or
 						// which the interval fixer can't handle would be better
 
 						var f = Math.exp(x) + 1;
 
-						initial.forEach((k, v) -> finalDiameters.put(k, (float) (v * x)));
+						for (int i = 0; i < nSpecies; i++) {
+							finalDiameters[i] = (float) (initial[i] * x);
+						}
 
 						return (float) f;
 					}